@@ -24,6 +24,7 @@ import java.math.BigInteger;
 import java.net.URI;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Function;
 
 /**
  * Maps XML Schema types to Java.
@@ -55,56 +56,108 @@ public class XsdDatatypeMapper implements DatatypeMapper {
     @Override
     public Optional<Object> map(Literal literal) {
         Objects.requireNonNull(literal);
-        final String value = literal.getLexicalForm();
+        final Function<String, Object> mapper = resolveMapper(literal.getDatatype());
+        if (mapper == null) {
+            return Optional.empty();
+        }
         try {
-            switch (literal.getDatatype()) {
-                case XSD.BOOLEAN:
-                    return Optional.of(Boolean.parseBoolean(value));
-                case XSD.BYTE:
-                    return Optional.of(Byte.parseByte(value));
-                case XSD.SHORT:
-                case XSD.UNSIGNED_BYTE:
-                    return Optional.of(Short.parseShort(value));
-                case XSD.INT:
-                case XSD.UNSIGNED_SHORT:
-                    return Optional.of(Integer.parseInt(value));
-                case XSD.LONG:
-                case XSD.UNSIGNED_INT:
-                    return Optional.of(Long.parseLong(value));
-                case XSD.FLOAT:
-                    return Optional.of(toFloat(value));
-                case XSD.DOUBLE:
-                    return Optional.of(toDouble(value));
-                case XSD.STRING:
-                case XSD.NORMALIZED_STRING:
-                    return Optional.of(value);
-                case XSD.DATETIME:
-                    return Optional.of(XsdDateTimeMapper.map(value));
-                case XSD.DATE:
-                    return Optional.of(XsdDateMapper.map(value));
-                case XSD.TIME:
-                    return Optional.of(XsdTimeMapper.map(value));
-                case XSD.DURATION:
-                    return Optional.of(XsdDurationMapper.map(value));
-                case XSD.INTEGER:
-                case XSD.NON_NEGATIVE_INTEGER:
-                case XSD.NON_POSITIVE_INTEGER:
-                case XSD.NEGATIVE_INTEGER:
-                case XSD.POSITIVE_INTEGER:
-                case XSD.UNSIGNED_LONG:
-                    return Optional.of(new BigInteger(value));
-                case XSD.DECIMAL:
-                    return Optional.of(new BigDecimal(value));
-                case XSD.ANY_URI:
-                    return Optional.of(URI.create(value));
-                default:
-                    return Optional.empty();
-            }
+            return Optional.of(mapper.apply(literal.getLexicalForm()));
         } catch (IllegalArgumentException e) {
             throw new DatatypeMappingException("Unable to map literal " + literal, e);
         }
     }
 
+    /**
+     * Resolves a function mapping lexical forms of literals with the specified datatype to Java values.
+     * <p>
+     * This allows callers mapping many literals of the same datatype (e.g., values of a query result column) to
+     * resolve the mapping only once.
+     *
+     * @param datatype Datatype IRI
+     * @return Mapping function, empty {@code Optional} if the datatype is not supported by this mapper. The function
+     * throws {@link DatatypeMappingException} when a lexical form is not valid for the datatype
+     */
+    public Optional<Function<String, Object>> getLexicalMapper(String datatype) {
+        Objects.requireNonNull(datatype);
+        final Function<String, Object> mapper = resolveMapper(datatype);
+        if (mapper == null) {
+            return Optional.empty();
+        }
+        return Optional.of(value -> {
+            try {
+                return mapper.apply(value);
+            } catch (IllegalArgumentException e) {
+                throw new DatatypeMappingException(
+                        "Unable to map lexical form " + value + " of datatype " + datatype, e);
+            }
+        });
+    }
+
+    private static Function<String, Object> resolveMapper(String datatype) {
+        switch (datatype) {
+            case XSD.BOOLEAN:
+                return Boolean::parseBoolean;
+            case XSD.BYTE:
+                return Byte::parseByte;
+            case XSD.SHORT:
+            case XSD.UNSIGNED_BYTE:
+                return Short::parseShort;
+            case XSD.INT:
+            case XSD.UNSIGNED_SHORT:
+                return Integer::parseInt;
+            case XSD.LONG:
+            case XSD.UNSIGNED_INT:
+                return Long::parseLong;
+            case XSD.FLOAT:
+                return XsdDatatypeMapper::toFloat;
+            case XSD.DOUBLE:
+                return XsdDatatypeMapper::toDouble;
+            case XSD.STRING:
+            case XSD.NORMALIZED_STRING:
+                return value -> value;
+            case XSD.DATETIME:
+                return XsdDateTimeMapper::map;
+            case XSD.DATE:
+                return XsdDateMapper::map;
+            case XSD.TIME:
+                return XsdTimeMapper::map;
+            case XSD.DURATION:
+                return XsdDurationMapper::map;
+            case XSD.INTEGER:
+            case XSD.NON_NEGATIVE_INTEGER:
+            case XSD.NON_POSITIVE_INTEGER:
+            case XSD.NEGATIVE_INTEGER:
+            case XSD.POSITIVE_INTEGER:
+            case XSD.UNSIGNED_LONG:
+                return BigInteger::new;
+            case XSD.DECIMAL:
+                return BigDecimal::new;
+            case XSD.ANY_URI:
+                return URI::create;
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * Parses the specified lexical form of an {@code xsd:double} literal.
+     * <p>
+     * As opposed to {@link Double#parseDouble(String)}, this method supports the XML Schema representation of
+     * infinity.
+     *
+     * @param lexicalForm Lexical form to parse
+     * @return Parsed value
+     * @throws NumberFormatException If the lexical form is not a valid double
+     */
+    public static double parseDouble(String lexicalForm) {
+        if (NEGATIVE_INFINITY.equals(lexicalForm)) {
+            return Double.NEGATIVE_INFINITY;
+        } else if (POSITIVE_INFINITY.equals(lexicalForm)) {
+            return Double.POSITIVE_INFINITY;
+        }
+        return Double.parseDouble(lexicalForm);
+    }
+
     private static Float toFloat(String lexicalForm) {
         if (NEGATIVE_INFINITY.equals(lexicalForm)) {
             return Float.NEGATIVE_INFINITY;
@@ -115,11 +168,6 @@ public class XsdDatatypeMapper implements DatatypeMapper {
     }
 
     private static Double toDouble(String lexicalForm) {
-        if (NEGATIVE_INFINITY.equals(lexicalForm)) {
-            return Double.NEGATIVE_INFINITY;
-        } else if (POSITIVE_INFINITY.equals(lexicalForm)) {
-            return Double.POSITIVE_INFINITY;
-        }
-        return Double.parseDouble(lexicalForm);
+        return parseDouble(lexicalForm);
     }
 }
@@ -28,6 +28,7 @@ import java.net.URI;
 import java.time.*;
 import java.time.format.DateTimeFormatter;
 import java.util.Optional;
+import java.util.function.Function;
 import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -86,4 +87,30 @@ class XsdDatatypeMapperTest {
         final Literal invalidValue = Literal.from("abcd", XSD.INT);
         assertThrows(DatatypeMappingException.class, () -> sut.map(invalidValue));
     }
+
+    @ParameterizedTest
+    @MethodSource("mapTestArguments")
+    void getLexicalMapperReturnsMapperProducingSameValuesAsMap(Object expected, Literal literal) {
+        final Optional<Function<String, Object>> mapper = sut.getLexicalMapper(literal.getDatatype());
+        assertTrue(mapper.isPresent());
+        assertEquals(expected, mapper.get().apply(literal.getLexicalForm()));
+    }
+
+    @Test
+    void getLexicalMapperReturnsEmptyOptionalForUnknownDatatype() {
+        assertFalse(sut.getLexicalMapper(XSD.NAMESPACE + "NOTATION").isPresent());
+    }
+
+    @Test
+    void getLexicalMapperReturnsMapperThrowingDatatypeMappingExceptionForInvalidLexicalForm() {
+        final Function<String, Object> mapper = sut.getLexicalMapper(XSD.INT).orElseThrow();
+        assertThrows(DatatypeMappingException.class, () -> mapper.apply("abcd"));
+    }
+
+    @Test
+    void parseDoubleSupportsXsdInfinityRepresentation() {
+        assertEquals(Double.POSITIVE_INFINITY, XsdDatatypeMapper.parseDouble(XsdDatatypeMapper.POSITIVE_INFINITY));
+        assertEquals(Double.NEGATIVE_INFINITY, XsdDatatypeMapper.parseDouble(XsdDatatypeMapper.NEGATIVE_INFINITY));
+        assertEquals(1.5, XsdDatatypeMapper.parseDouble("1.5"));
+    }
 }
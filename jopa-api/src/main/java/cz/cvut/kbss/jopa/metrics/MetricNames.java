@@ -0,0 +1,109 @@
+/**
+ * Copyright (C) 2023 Czech Technical University in Prague
+ *
+ * This program is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any
+ * later version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more
+ * details. You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package cz.cvut.kbss.jopa.metrics;
+
+/**
+ * Names and tags of metrics recorded by JOPA.
+ */
+public final class MetricNames {
+
+    /**
+     * Duration of persistence context commit.
+     */
+    public static final String COMMIT = "jopa.uow.commit";
+
+    /**
+     * Duration of building a clone of an entity instance.
+     */
+    public static final String CLONE = "jopa.clone";
+
+    /**
+     * Duration of calculating changes of an entity instance.
+     */
+    public static final String CALCULATE_CHANGES = "jopa.changes.calculate";
+
+    /**
+     * Duration of loading an entity from the storage.
+     */
+    public static final String STORAGE_FIND = "jopa.storage.find";
+
+    /**
+     * Number of operations executed against the storage (driver round trips), tagged by {@link #TAG_OPERATION}.
+     */
+    public static final String STORAGE_OPERATIONS = "jopa.storage.operations";
+
+    /**
+     * Duration of query execution, tagged by {@link #TAG_QUERY} and {@link #TAG_QUERY_TYPE}.
+     */
+    public static final String QUERY = "jopa.query";
+
+    /**
+     * Number of second level cache lookups, tagged by {@link #TAG_RESULT}.
+     */
+    public static final String CACHE_LOOKUPS = "jopa.cache.lookups";
+
+    /**
+     * Number of entity instances loaded into persistence contexts, tagged by {@link #TAG_ENTITY}.
+     */
+    public static final String ENTITY_LOADS = "jopa.entity.loads";
+
+    /**
+     * Number of persisted entity instances, tagged by {@link #TAG_ENTITY}.
+     */
+    public static final String ENTITY_PERSISTS = "jopa.entity.persists";
+
+    /**
+     * Number of open entity managers, tagged by {@link #TAG_FACTORY}.
+     */
+    public static final String OPEN_ENTITY_MANAGERS = "jopa.entitymanagers.open";
+
+    /**
+     * Simple name of the entity class.
+     */
+    public static final String TAG_ENTITY = "entity";
+
+    /**
+     * Identifier of the entity manager factory, distinguishes persistence units running in the same JVM.
+     */
+    public static final String TAG_FACTORY = "factory";
+
+    /**
+     * Storage operation name.
+     */
+    public static final String TAG_OPERATION = "operation";
+
+    /**
+     * Hexadecimal hash of the query template, i.e., the query string before parameter values are bound.
+     */
+    public static final String TAG_QUERY = "query";
+
+    /**
+     * Kind of query execution ({@code select}, {@code update}).
+     */
+    public static final String TAG_QUERY_TYPE = "type";
+
+    /**
+     * Cache lookup result ({@link #HIT}, {@link #MISS}).
+     */
+    public static final String TAG_RESULT = "result";
+
+    public static final String HIT = "hit";
+
+    public static final String MISS = "miss";
+
+    private MetricNames() {
+        throw new AssertionError();
+    }
+}
@@ -0,0 +1,88 @@
+/**
+ * Copyright (C) 2023 Czech Technical University in Prague
+ *
+ * This program is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any
+ * later version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more
+ * details. You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package cz.cvut.kbss.jopa.metrics;
+
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Receives runtime metrics of a persistence unit.
+ * <p>
+ * Implementations bind the measurements to a concrete monitoring system. The collector is invoked on hot paths of the
+ * persistence unit (commit, cloning, change calculation, storage access, query execution, second level cache lookups),
+ * so implementations should be lightweight and thread-safe.
+ * <p>
+ * Tags are passed as alternating key-value pairs, e.g., {@code "entity", "Person"}. Names of metrics recorded by JOPA
+ * are listed in {@link MetricNames}.
+ * <p>
+ * Implementations configured via {@code cz.cvut.jopa.metrics.collectorClass} are required to have a public no-arg
+ * constructor.
+ */
+public interface MetricsCollector {
+
+    /**
+     * Collector which ignores all measurements.
+     */
+    MetricsCollector NO_OP = new NoOpMetricsCollector();
+
+    /**
+     * Increments counter with the specified name and tags by one.
+     *
+     * @param name Counter name
+     * @param tags Alternating tag keys and values
+     */
+    void incrementCounter(String name, String... tags);
+
+    /**
+     * Records duration of an operation.
+     *
+     * @param name          Timer name
+     * @param durationNanos Duration in nanoseconds
+     * @param tags          Alternating tag keys and values
+     */
+    void recordTime(String name, long durationNanos, String... tags);
+
+    /**
+     * Registers a gauge whose value is computed from the specified state object whenever it is sampled.
+     * <p>
+     * Implementations should not prevent the state object from being garbage collected.
+     *
+     * @param name  Gauge name
+     * @param state Object from which the gauge value is computed
+     * @param value Function computing the current value from the state object
+     * @param tags  Alternating tag keys and values
+     * @param <T>   State object type
+     */
+    <T> void registerGauge(String name, T state, ToDoubleFunction<T> value, String... tags);
+
+    /**
+     * Whether this collector actually records anything.
+     * <p>
+     * Allows callers to skip computing tag values when measurements are discarded anyway.
+     *
+     * @return {@code true} by default
+     */
+    default boolean isEnabled() {
+        return true;
+    }
+
+    /**
+     * Releases resources held by this collector, e.g., removes gauges registered by it from the monitoring system.
+     * <p>
+     * Called when the persistence unit is closed.
+     */
+    default void close() {
+        // Do nothing by default
+    }
+}
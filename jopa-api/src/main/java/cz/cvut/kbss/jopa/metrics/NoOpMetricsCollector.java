@@ -0,0 +1,43 @@
+/**
+ * Copyright (C) 2023 Czech Technical University in Prague
+ *
+ * This program is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any
+ * later version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more
+ * details. You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package cz.cvut.kbss.jopa.metrics;
+
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Default {@link MetricsCollector}, which discards all measurements.
+ */
+public final class NoOpMetricsCollector implements MetricsCollector {
+
+    @Override
+    public void incrementCounter(String name, String... tags) {
+        // Do nothing
+    }
+
+    @Override
+    public void recordTime(String name, long durationNanos, String... tags) {
+        // Do nothing
+    }
+
+    @Override
+    public <T> void registerGauge(String name, T state, ToDoubleFunction<T> value, String... tags) {
+        // Do nothing
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return false;
+    }
+}
@@ -189,15 +189,19 @@ public interface EntityManager {
      */
     void flush();
 
-    // /**
-    // * Set the flush mode that applies to all objects contained in the
-    // * persistence context.
-    // *
-    // * @param flushMode
-    // */
-    // public void setFlushMode(FlushModeType flushMode);
+    /**
+     * Set the flush mode that applies to all objects contained in the persistence context.
+     *
+     * @param flushMode Flush mode
+     */
+    void setFlushMode(FlushModeType flushMode);
 
-    // TODO JPA 2.0 getFlushMode
+    /**
+     * Get the flush mode that applies to all objects contained in the persistence context.
+     *
+     * @return Flush mode
+     */
+    FlushModeType getFlushMode();
 
     // /**
     // * Set the lock mode for an entity object contained in the persistence
@@ -0,0 +1,36 @@
+/**
+ * Copyright (C) 2023 Czech Technical University in Prague
+ *
+ * This program is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any
+ * later version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more
+ * details. You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package cz.cvut.kbss.jopa.model;
+
+/**
+ * Flush mode setting.
+ * <p>
+ * Determines when changes of attributes of managed entities are written into the underlying storage.
+ */
+public enum FlushModeType {
+
+    /**
+     * Attribute changes are written into the storage immediately when they are made.
+     * <p>
+     * This is the default flush mode.
+     */
+    IMMEDIATE,
+
+    /**
+     * Attribute changes are only recorded and written into the storage in batches (one per modified entity) on {@link
+     * EntityManager#flush()}, on transaction commit and before query execution.
+     */
+    DEFERRED
+}
@@ -36,6 +36,14 @@ public class PersistenceProperties {
      */
     public static final Set<Class<?>> IDENTIFIER_TYPES = Set.of(URI.class, URL.class, String.class);
 
+    /**
+     * Classpath location of the index of persistence unit classes generated at build time.
+     * <p>
+     * The index is written by the {@code cz.cvut.kbss.jopa.modelgen.EntityIndexProcessor} annotation processor and
+     * read by JOPA when building the persistence unit.
+     */
+    public static final String CLASS_INDEX_LOCATION = "META-INF/jopa/persistence-unit-classes";
+
     PersistenceProperties() {
         throw new AssertionError();
     }
@@ -59,4 +59,18 @@ public @interface Sparql {
      * rather only when it is required by a getter method.
      */
     FetchType fetchType() default FetchType.EAGER;
+
+    /**
+     * How long (in seconds) may the value of the attribute be reused for an instance retrieved from the second level
+     * cache.
+     * <p>
+     * Regardless of this setting, the value is re-evaluated once a transaction changing the data has been committed or
+     * the cache has been evicted. A positive value additionally limits the time the value may be reused, {@code 0}
+     * means no time limit.
+     * <p>
+     * Values which may not be reused are re-evaluated lazily on first access.
+     *
+     * @return Maximum age of the cached value in seconds
+     */
+    long cacheTtl() default 0;
 }
@@ -15,8 +15,11 @@
 package cz.cvut.kbss.jopa.model.metamodel;
 
 import cz.cvut.kbss.jopa.NonJPA;
+import cz.cvut.kbss.jopa.exceptions.OWLPersistenceException;
 import cz.cvut.kbss.jopa.model.annotations.FetchType;
 
+import java.lang.reflect.Field;
+
 /**
  * Specifies a field of a managed type.
  * @param <X> Declaring class
@@ -84,4 +87,49 @@ public interface FieldSpecification<X, E> {
      * @return boolean indicating whether the attribute is collection-valued
      */
     boolean isCollection();
-}
\ No newline at end of file
+
+    /**
+     * Gets the value of the represented field from the specified instance.
+     * <p>
+     * The default implementation uses reflection, implementations provided by the metamodel use an accessor linked
+     * when the metamodel is built.
+     *
+     * @param instance Instance containing the field
+     * @return Field value, possibly {@code null}
+     */
+    @NonJPA
+    @SuppressWarnings("unchecked")
+    default E getValue(X instance) {
+        final Field field = getJavaField();
+        try {
+            if (!field.canAccess(instance)) {
+                field.setAccessible(true);
+            }
+            return (E) field.get(instance);
+        } catch (IllegalAccessException e) {
+            throw new OWLPersistenceException("Unable to extract field value.", e);
+        }
+    }
+
+    /**
+     * Sets the value of the represented field on the specified instance.
+     * <p>
+     * The default implementation uses reflection, implementations provided by the metamodel use an accessor linked
+     * when the metamodel is built.
+     *
+     * @param instance Target instance
+     * @param value    The value to set, possibly {@code null}
+     */
+    @NonJPA
+    default void setValue(X instance, E value) {
+        final Field field = getJavaField();
+        try {
+            if (!field.canAccess(instance)) {
+                field.setAccessible(true);
+            }
+            field.set(instance, value);
+        } catch (IllegalAccessException e) {
+            throw new OWLPersistenceException("Unable to set field value.", e);
+        }
+    }
+}
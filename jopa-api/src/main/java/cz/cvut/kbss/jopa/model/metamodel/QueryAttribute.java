@@ -42,6 +42,15 @@ public interface QueryAttribute<X, Y> extends FieldSpecification<X, Y> {
     @NonJPA
     boolean enableReferencingAttributes();
 
+    /**
+     * Returns for how long (in seconds) may the value of this attribute be reused for cached instances.
+     *
+     * @return Maximum age of the cached value in seconds, {@code 0} for no time limit
+     * @see cz.cvut.kbss.jopa.model.annotations.Sparql#cacheTtl()
+     */
+    @NonJPA
+    long getCacheTtl();
+
     /**
      * Return the java.lang.reflect.Member for the represented attribute.
      *
@@ -58,6 +58,23 @@ public interface TypedQuery<X> extends Query {
     @Override
     TypedQuery<X> setFirstResult(int startPosition);
 
+    /**
+     * Restricts the query results to those following the result with the specified sort key.
+     * <p>
+     * This enables keyset (seek) pagination, an alternative to {@link #setFirstResult(int)} whose cost does not grow
+     * with the page number, because the storage does not have to evaluate the skipped results. Use it together with
+     * {@link #setMaxResults(int)} to retrieve pages of bounded size.
+     * <p>
+     * Keyset pagination is supported by SOQL and criteria queries whose results are ordered by a single attribute or
+     * by identifier. The sort key should be unique, otherwise results sharing the sort key with the last result of the
+     * previous page are skipped. String sort keys are compared by their lexical form, regardless of language tags.
+     *
+     * @param lastSortKey Sort key of the last result of the previous page, {@code null} to retrieve the first page
+     * @return the same query instance
+     * @throws IllegalStateException If the query does not support keyset pagination
+     */
+    TypedQuery<X> setPageAfter(Object lastSortKey);
+
     /**
      * {@inheritDoc}
      */
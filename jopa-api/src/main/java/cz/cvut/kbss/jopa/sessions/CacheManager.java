@@ -14,6 +14,7 @@
  */
 package cz.cvut.kbss.jopa.sessions;
 
+import cz.cvut.kbss.jopa.metrics.MetricsCollector;
 import cz.cvut.kbss.jopa.model.descriptors.Descriptor;
 
 import java.util.Set;
@@ -65,6 +66,17 @@ public interface CacheManager extends Cache {
      */
     void setInferredClasses(Set<Class<?>> inferredClasses);
 
+    /**
+     * Sets the collector to which this cache reports lookup hits and misses.
+     * <p>
+     * Cache managers which do not record metrics may ignore the collector.
+     *
+     * @param metrics Metrics collector
+     */
+    default void setMetricsCollector(MetricsCollector metrics) {
+        // Do nothing by default
+    }
+
     /**
      * Closes the cache.
      */
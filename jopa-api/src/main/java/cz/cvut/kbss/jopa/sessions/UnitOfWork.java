@@ -134,6 +134,22 @@ public interface UnitOfWork extends Session {
      */
     <T> T readObject(Class<T> cls, Object identifier, Descriptor descriptor);
 
+    /**
+     * Retrieves objects with the specified identifiers.
+     * <p>
+     * This is a bulk version of {@link #readObject(Class, Object, Descriptor)}. Objects which are not already managed
+     * by this persistence context are loaded from the storage together, in as few storage accesses as possible.
+     *
+     * @param cls         The type of the returned objects
+     * @param identifiers Instance identifiers
+     * @param descriptor  Entity descriptor used for all the objects
+     * @return List of retrieved objects, in the order of the specified identifiers. Identifiers for which no matching
+     * object exists are skipped
+     * @throws NullPointerException    If {@code cls}, {@code identifiers} or {@code descriptor} is {@code null}
+     * @throws OWLPersistenceException If an error occurs during object loading
+     */
+    <T> List<T> readObjects(Class<T> cls, List<?> identifiers, Descriptor descriptor);
+
     /**
      * Retrieves a reference to an object with the specified identifier.
      * <p>
@@ -0,0 +1,127 @@
+/**
+ * Copyright (C) 2023 Czech Technical University in Prague
+ *
+ * This program is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any
+ * later version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more
+ * details. You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package cz.cvut.kbss.jopa.benchmark;
+
+import cz.cvut.kbss.jopa.benchmark.environment.DatasetGenerator;
+import cz.cvut.kbss.jopa.model.JOPAPersistenceProperties;
+import cz.cvut.kbss.jopa.model.descriptors.Descriptor;
+import cz.cvut.kbss.jopa.model.descriptors.EntityDescriptor;
+import cz.cvut.kbss.jopa.sessions.CacheManager;
+import cz.cvut.kbss.jopa.sessions.cache.CacheFactory;
+import cz.cvut.kbss.jopa.test.OWLClassA;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.net.URI;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of the second level cache implementations.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CacheManagerBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class CacheState {
+
+        @Param({"lru", "ttl", "concurrent"})
+        public String cacheType;
+
+        /**
+         * Number of distinct instances accessed by the benchmark.
+         */
+        @Param({"1000", "100000"})
+        public int instanceCount;
+
+        CacheManager cache;
+        OWLClassA[] instances;
+        final Descriptor descriptor = new EntityDescriptor();
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            final Map<String, String> properties = new HashMap<>();
+            properties.put(JOPAPersistenceProperties.CACHE_ENABLED, Boolean.TRUE.toString());
+            properties.put(JOPAPersistenceProperties.CACHE_TYPE, cacheType);
+            this.cache = CacheFactory.createCache(properties);
+            final Random random = new Random(DatasetGenerator.SEED);
+            this.instances = new OWLClassA[instanceCount];
+            for (int i = 0; i < instanceCount; i++) {
+                instances[i] = DatasetGenerator.instance(i, random);
+                cache.add(instances[i].getUri(), instances[i], descriptor);
+            }
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() {
+            cache.close();
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class RandomState {
+
+        private final Random random = new Random(DatasetGenerator.SEED);
+
+        OWLClassA next(CacheState state) {
+            return state.instances[random.nextInt(state.instances.length)];
+        }
+    }
+
+    @Benchmark
+    public OWLClassA get(CacheState state, RandomState random) {
+        final URI identifier = random.next(state).getUri();
+        return state.cache.get(OWLClassA.class, identifier, state.descriptor);
+    }
+
+    @Benchmark
+    public void add(CacheState state, RandomState random) {
+        final OWLClassA instance = random.next(state);
+        state.cache.add(instance.getUri(), instance, state.descriptor);
+    }
+
+    @Benchmark
+    @Group("readWrite")
+    @GroupThreads(3)
+    public OWLClassA concurrentGet(CacheState state, RandomState random) {
+        return get(state, random);
+    }
+
+    @Benchmark
+    @Group("readWrite")
+    @GroupThreads(1)
+    public void concurrentAdd(CacheState state, RandomState random) {
+        add(state, random);
+    }
+}
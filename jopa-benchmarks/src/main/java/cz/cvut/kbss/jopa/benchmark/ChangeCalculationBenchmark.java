@@ -0,0 +1,102 @@
+/**
+ * Copyright (C) 2023 Czech Technical University in Prague
+ *
+ * This program is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any
+ * later version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more
+ * details. You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package cz.cvut.kbss.jopa.benchmark;
+
+import cz.cvut.kbss.jopa.benchmark.environment.DatasetGenerator;
+import cz.cvut.kbss.jopa.benchmark.environment.UnitOfWorkState;
+import cz.cvut.kbss.jopa.model.descriptors.Descriptor;
+import cz.cvut.kbss.jopa.model.descriptors.EntityDescriptor;
+import cz.cvut.kbss.jopa.sessions.ObjectChangeSet;
+import cz.cvut.kbss.jopa.sessions.change.ChangeManagerImpl;
+import cz.cvut.kbss.jopa.sessions.change.ChangeSetFactory;
+import cz.cvut.kbss.jopa.test.OWLClassA;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of change calculation performed on commit.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ChangeCalculationBenchmark {
+
+    @State(Scope.Thread)
+    public static class ChangeState {
+
+        ChangeManagerImpl changeManager;
+        OWLClassA original;
+        OWLClassA unchanged;
+        OWLClassA changed;
+        final Descriptor descriptor = new EntityDescriptor();
+
+        @Setup(Level.Trial)
+        public void setUp(UnitOfWorkState uowState) {
+            this.changeManager = new ChangeManagerImpl(uowState.uow);
+            this.original = DatasetGenerator.instance(0, new Random(DatasetGenerator.SEED));
+            original.setTypes(types(10));
+            this.unchanged = copy(original);
+            this.changed = copy(original);
+            changed.setStringAttribute("Changed");
+            changed.getTypes().add(DatasetGenerator.identifier(117).toString());
+        }
+
+        private static Set<String> types(int count) {
+            final Set<String> types = new HashSet<>();
+            for (int i = 0; i < count; i++) {
+                types.add(DatasetGenerator.identifier(i).toString());
+            }
+            return types;
+        }
+
+        private static OWLClassA copy(OWLClassA original) {
+            final OWLClassA copy = new OWLClassA(original.getUri(), original.getStringAttribute());
+            copy.setTypes(new HashSet<>(original.getTypes()));
+            return copy;
+        }
+    }
+
+    @Benchmark
+    public ObjectChangeSet calculateChangesOfUnchangedInstance(ChangeState state) {
+        final ObjectChangeSet changeSet =
+                ChangeSetFactory.createObjectChangeSet(state.original, state.unchanged, state.descriptor);
+        state.changeManager.calculateChanges(changeSet);
+        return changeSet;
+    }
+
+    @Benchmark
+    public ObjectChangeSet calculateChangesOfChangedInstance(ChangeState state) {
+        final ObjectChangeSet changeSet =
+                ChangeSetFactory.createObjectChangeSet(state.original, state.changed, state.descriptor);
+        state.changeManager.calculateChanges(changeSet);
+        return changeSet;
+    }
+}
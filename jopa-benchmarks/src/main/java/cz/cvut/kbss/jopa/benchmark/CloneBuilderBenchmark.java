@@ -0,0 +1,77 @@
+/**
+ * Copyright (C) 2023 Czech Technical University in Prague
+ *
+ * This program is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any
+ * later version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more
+ * details. You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package cz.cvut.kbss.jopa.benchmark;
+
+import cz.cvut.kbss.jopa.benchmark.environment.DatasetGenerator;
+import cz.cvut.kbss.jopa.benchmark.environment.UnitOfWorkState;
+import cz.cvut.kbss.jopa.model.descriptors.Descriptor;
+import cz.cvut.kbss.jopa.model.descriptors.EntityDescriptor;
+import cz.cvut.kbss.jopa.sessions.CloneBuilderImpl;
+import cz.cvut.kbss.jopa.sessions.CloneConfiguration;
+import cz.cvut.kbss.jopa.test.OWLClassA;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of entity cloning performed when instances are registered in a persistence context.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CloneBuilderBenchmark {
+
+    @State(Scope.Thread)
+    public static class CloneState {
+
+        CloneBuilderImpl cloneBuilder;
+        OWLClassA original;
+        final Descriptor descriptor = new EntityDescriptor();
+
+        @Setup(Level.Trial)
+        public void setUp(UnitOfWorkState uowState) {
+            this.cloneBuilder = new CloneBuilderImpl(uowState.uow);
+            this.original = DatasetGenerator.instance(0, new Random(DatasetGenerator.SEED));
+            final Set<String> types = new HashSet<>();
+            for (int i = 0; i < 10; i++) {
+                types.add(DatasetGenerator.identifier(i).toString());
+            }
+            original.setTypes(types);
+        }
+    }
+
+    @Benchmark
+    public Object buildClone(CloneState state) {
+        final Object clone = state.cloneBuilder.buildClone(state.original, new CloneConfiguration(state.descriptor));
+        // Forget the visited instance so that the next invocation clones it again
+        state.cloneBuilder.reset();
+        return clone;
+    }
+}
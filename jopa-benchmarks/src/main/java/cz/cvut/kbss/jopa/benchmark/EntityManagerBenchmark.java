@@ -0,0 +1,135 @@
+/**
+ * Copyright (C) 2023 Czech Technical University in Prague
+ *
+ * This program is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any
+ * later version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more
+ * details. You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package cz.cvut.kbss.jopa.benchmark;
+
+import cz.cvut.kbss.jopa.benchmark.environment.DatasetGenerator;
+import cz.cvut.kbss.jopa.benchmark.environment.PersistenceUnitState;
+import cz.cvut.kbss.jopa.model.EntityManager;
+import cz.cvut.kbss.jopa.test.OWLClassA;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.net.URI;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of the basic {@link EntityManager} operations.
+ * <p>
+ * Each operation uses a new entity manager, as is typical for request-scoped persistence contexts.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class EntityManagerBenchmark {
+
+    @State(Scope.Thread)
+    public static class RandomState {
+
+        private final Random random = new Random(DatasetGenerator.SEED);
+
+        URI existingIdentifier(PersistenceUnitState pu) {
+            return DatasetGenerator.identifier(random.nextInt(pu.instanceCount()));
+        }
+    }
+
+    /**
+     * Provides an instance persisted before each invocation, so that removal always has something to remove.
+     */
+    @State(Scope.Thread)
+    public static class RemovalState {
+
+        URI toRemove;
+
+        @Setup(Level.Invocation)
+        public void persistInstanceToRemove(PersistenceUnitState pu, RandomState random) {
+            final OWLClassA instance = DatasetGenerator.instance(pu.nextNewIndex(), random.random);
+            final EntityManager em = pu.createEntityManager();
+            try {
+                em.getTransaction().begin();
+                em.persist(instance);
+                em.getTransaction().commit();
+            } finally {
+                em.close();
+            }
+            this.toRemove = instance.getUri();
+        }
+    }
+
+    @Benchmark
+    public OWLClassA persist(PersistenceUnitState pu, RandomState random) {
+        final OWLClassA instance = DatasetGenerator.instance(pu.nextNewIndex(), random.random);
+        final EntityManager em = pu.createEntityManager();
+        try {
+            em.getTransaction().begin();
+            em.persist(instance);
+            em.getTransaction().commit();
+            return instance;
+        } finally {
+            em.close();
+        }
+    }
+
+    @Benchmark
+    public OWLClassA find(PersistenceUnitState pu, RandomState random) {
+        final EntityManager em = pu.createEntityManager();
+        try {
+            return em.find(OWLClassA.class, random.existingIdentifier(pu));
+        } finally {
+            em.close();
+        }
+    }
+
+    @Benchmark
+    public OWLClassA merge(PersistenceUnitState pu, RandomState random) {
+        final OWLClassA detached =
+                new OWLClassA(random.existingIdentifier(pu), "Updated " + random.random.nextLong());
+        final EntityManager em = pu.createEntityManager();
+        try {
+            em.getTransaction().begin();
+            final OWLClassA merged = em.merge(detached);
+            em.getTransaction().commit();
+            return merged;
+        } finally {
+            em.close();
+        }
+    }
+
+    /**
+     * Measures loading and removal of an instance, as removal requires a managed instance.
+     */
+    @Benchmark
+    public void findAndRemove(PersistenceUnitState pu, RemovalState removal) {
+        final EntityManager em = pu.createEntityManager();
+        try {
+            em.getTransaction().begin();
+            em.remove(em.find(OWLClassA.class, removal.toRemove));
+            em.getTransaction().commit();
+        } finally {
+            em.close();
+        }
+    }
+}
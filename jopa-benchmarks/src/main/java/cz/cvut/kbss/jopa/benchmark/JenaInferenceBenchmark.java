@@ -0,0 +1,167 @@
+/**
+ * Copyright (C) 2023 Czech Technical University in Prague
+ *
+ * This program is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any
+ * later version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more
+ * details. You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package cz.cvut.kbss.jopa.benchmark;
+
+import cz.cvut.kbss.jopa.Persistence;
+import cz.cvut.kbss.jopa.benchmark.environment.BenchmarkStorage;
+import cz.cvut.kbss.jopa.benchmark.environment.DatasetGenerator;
+import cz.cvut.kbss.jopa.model.EntityManager;
+import cz.cvut.kbss.jopa.model.EntityManagerFactory;
+import cz.cvut.kbss.jopa.model.JOPAPersistenceProperties;
+import cz.cvut.kbss.jopa.model.JOPAPersistenceProvider;
+import cz.cvut.kbss.jopa.test.OWLClassA;
+import cz.cvut.kbss.jopa.test.OWLClassF;
+import cz.cvut.kbss.ontodriver.config.OntoDriverProperties;
+import org.apache.jena.reasoner.rulesys.RDFSRuleReasonerFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Benchmarks of inferred reads from a Jena in-memory dataset with the RDFS reasoner.
+ * <p>
+ * Inferred reads of unchanged contexts are served from the inference closure shared by all transactions. The
+ * benchmarks measure the throughput of concurrent inferred reads, alone and while another thread keeps committing
+ * changes to the same context.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class JenaInferenceBenchmark {
+
+    private static final String F_IRI_BASE = "http://onto.fel.cvut.cz/ontologies/jopa/benchmark/f-";
+
+    @State(Scope.Benchmark)
+    public static class InferenceState {
+
+        @Param({"1000", "10000"})
+        public int instanceCount;
+
+        private Path directory;
+
+        private EntityManagerFactory emf;
+
+        private AtomicInteger nextIndex;
+
+        @Setup(Level.Trial)
+        public void setUp() throws IOException {
+            final String name = "jena-inference-" + instanceCount;
+            this.directory = Files.createTempDirectory("jopa-benchmark");
+            final Map<String, String> properties = BenchmarkStorage.JENA_MEMORY.createProperties(name, directory);
+            properties.put(OntoDriverProperties.REASONER_FACTORY_CLASS, RDFSRuleReasonerFactory.class.getName());
+            properties.put(JOPAPersistenceProperties.SCAN_PACKAGE, "cz.cvut.kbss.jopa.test");
+            properties.put(JOPAPersistenceProperties.JPA_PERSISTENCE_PROVIDER,
+                    JOPAPersistenceProvider.class.getName());
+            properties.put(JOPAPersistenceProperties.LANG, "en");
+            properties.put(JOPAPersistenceProperties.CACHE_ENABLED, Boolean.FALSE.toString());
+            this.emf = Persistence.createEntityManagerFactory("benchmark-" + name, properties);
+            populate();
+            this.nextIndex = new AtomicInteger();
+        }
+
+        private void populate() {
+            final EntityManager em = emf.createEntityManager();
+            try {
+                em.getTransaction().begin();
+                for (int i = 0; i < instanceCount; i++) {
+                    final OWLClassF instance = new OWLClassF(identifier(i));
+                    instance.setSecondStringAttribute("Instance " + i);
+                    em.persist(instance);
+                }
+                em.getTransaction().commit();
+            } finally {
+                em.close();
+            }
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() throws IOException {
+            emf.close();
+            Files.delete(directory);
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class RandomState {
+
+        private final Random random = new Random(DatasetGenerator.SEED);
+    }
+
+    private static URI identifier(int index) {
+        return URI.create(F_IRI_BASE + index);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public OWLClassF concurrentInferredReads(InferenceState state, RandomState random) {
+        return inferredRead(state, random);
+    }
+
+    private static OWLClassF inferredRead(InferenceState state, RandomState random) {
+        final EntityManager em = state.emf.createEntityManager();
+        try {
+            return em.find(OWLClassF.class, identifier(random.random.nextInt(state.instanceCount)));
+        } finally {
+            em.close();
+        }
+    }
+
+    @Benchmark
+    @Group("readWhileCommitting")
+    @GroupThreads(3)
+    public OWLClassF inferredReadWhileCommitting(InferenceState state, RandomState random) {
+        return inferredRead(state, random);
+    }
+
+    @Benchmark
+    @Group("readWhileCommitting")
+    @GroupThreads(1)
+    public OWLClassA commitWhileReading(InferenceState state, RandomState random) {
+        final OWLClassA instance = DatasetGenerator.instance(state.nextIndex.getAndIncrement(), random.random);
+        final EntityManager em = state.emf.createEntityManager();
+        try {
+            em.getTransaction().begin();
+            em.persist(instance);
+            em.getTransaction().commit();
+            return instance;
+        } finally {
+            em.close();
+        }
+    }
+}
@@ -0,0 +1,103 @@
+/**
+ * Copyright (C) 2023 Czech Technical University in Prague
+ *
+ * This program is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any
+ * later version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more
+ * details. You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package cz.cvut.kbss.jopa.benchmark;
+
+import cz.cvut.kbss.jopa.benchmark.environment.PersistenceUnitState;
+import cz.cvut.kbss.jopa.model.EntityManager;
+import cz.cvut.kbss.jopa.model.query.TypedQuery;
+import cz.cvut.kbss.jopa.test.OWLClassA;
+import cz.cvut.kbss.jopa.test.Vocabulary;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiFunction;
+import java.util.stream.Stream;
+
+/**
+ * Benchmarks of typed query evaluation, comparing SOQL and SPARQL and result list and result stream retrieval.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class QueryBenchmark {
+
+    private static final String SOQL = "SELECT a FROM OWLClassA a";
+    private static final String SPARQL = "SELECT ?x WHERE { ?x a <" + Vocabulary.C_OWL_CLASS_A + "> . }";
+
+    @State(Scope.Benchmark)
+    public static class QueryState {
+
+        /**
+         * Maximum number of results retrieved by each query.
+         */
+        @Param({"100", "1000"})
+        public int maxResults;
+    }
+
+    @Benchmark
+    public List<OWLClassA> soqlGetResultList(PersistenceUnitState pu, QueryState state) {
+        return resultList(pu, state, (em, max) -> em.createQuery(SOQL, OWLClassA.class).setMaxResults(max));
+    }
+
+    private static List<OWLClassA> resultList(PersistenceUnitState pu, QueryState state,
+                                              BiFunction<EntityManager, Integer, TypedQuery<OWLClassA>> query) {
+        final EntityManager em = pu.createEntityManager();
+        try {
+            return query.apply(em, state.maxResults).getResultList();
+        } finally {
+            em.close();
+        }
+    }
+
+    @Benchmark
+    public void soqlGetResultStream(PersistenceUnitState pu, QueryState state, Blackhole blackhole) {
+        resultStream(pu, state, blackhole, (em, max) -> em.createQuery(SOQL, OWLClassA.class).setMaxResults(max));
+    }
+
+    private static void resultStream(PersistenceUnitState pu, QueryState state, Blackhole blackhole,
+                                     BiFunction<EntityManager, Integer, TypedQuery<OWLClassA>> query) {
+        final EntityManager em = pu.createEntityManager();
+        try (final Stream<OWLClassA> stream = query.apply(em, state.maxResults).getResultStream()) {
+            stream.forEach(blackhole::consume);
+        } finally {
+            em.close();
+        }
+    }
+
+    @Benchmark
+    public List<OWLClassA> sparqlGetResultList(PersistenceUnitState pu, QueryState state) {
+        return resultList(pu, state,
+                (em, max) -> em.createNativeQuery(SPARQL, OWLClassA.class).setMaxResults(max));
+    }
+
+    @Benchmark
+    public void sparqlGetResultStream(PersistenceUnitState pu, QueryState state, Blackhole blackhole) {
+        resultStream(pu, state, blackhole,
+                (em, max) -> em.createNativeQuery(SPARQL, OWLClassA.class).setMaxResults(max));
+    }
+}
@@ -0,0 +1,100 @@
+/**
+ * Copyright (C) 2023 Czech Technical University in Prague
+ *
+ * This program is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any
+ * later version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more
+ * details. You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package cz.cvut.kbss.jopa.benchmark.environment;
+
+import cz.cvut.kbss.jopa.model.JOPAPersistenceProperties;
+import cz.cvut.kbss.jopa.test.environment.OntologyConnectorType;
+import cz.cvut.kbss.ontodriver.config.OntoDriverProperties;
+import cz.cvut.kbss.ontodriver.jena.config.JenaOntoDriverProperties;
+import cz.cvut.kbss.ontodriver.rdf4j.config.Rdf4jOntoDriverProperties;
+
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Storages against which the benchmarks are run.
+ */
+public enum BenchmarkStorage {
+
+    /**
+     * RDF4J in-memory repository.
+     */
+    RDF4J_MEMORY(OntologyConnectorType.RDF4J) {
+        @Override
+        void configure(Map<String, String> config, String name, Path directory) {
+            config.put(JOPAPersistenceProperties.ONTOLOGY_PHYSICAL_URI_KEY, name);
+            config.put(Rdf4jOntoDriverProperties.USE_VOLATILE_STORAGE, Boolean.TRUE.toString());
+            config.put(Rdf4jOntoDriverProperties.USE_INFERENCE, Boolean.FALSE.toString());
+        }
+    },
+    /**
+     * Jena in-memory dataset.
+     */
+    JENA_MEMORY(OntologyConnectorType.JENA) {
+        @Override
+        void configure(Map<String, String> config, String name, Path directory) {
+            config.put(JOPAPersistenceProperties.ONTOLOGY_PHYSICAL_URI_KEY, name);
+            config.put(JenaOntoDriverProperties.JENA_STORAGE_TYPE, JenaOntoDriverProperties.IN_MEMORY);
+        }
+    },
+    /**
+     * Jena TDB dataset stored in a temporary directory.
+     */
+    JENA_TDB(OntologyConnectorType.JENA) {
+        @Override
+        void configure(Map<String, String> config, String name, Path directory) {
+            config.put(JOPAPersistenceProperties.ONTOLOGY_PHYSICAL_URI_KEY,
+                    directory.resolve(name).toUri().toString());
+            config.put(JenaOntoDriverProperties.JENA_STORAGE_TYPE, JenaOntoDriverProperties.TDB);
+        }
+    },
+    /**
+     * OWL API ontology stored in a temporary file, without reasoner.
+     */
+    OWLAPI(OntologyConnectorType.OWLAPI) {
+        @Override
+        void configure(Map<String, String> config, String name, Path directory) {
+            config.put(JOPAPersistenceProperties.ONTOLOGY_PHYSICAL_URI_KEY,
+                    directory.resolve(name + ".owl").toUri().toString());
+        }
+    };
+
+    private static final String IRI_BASE = "http://onto.fel.cvut.cz/ontologies/jopa/benchmark/";
+
+    private final OntologyConnectorType connectorType;
+
+    BenchmarkStorage(OntologyConnectorType connectorType) {
+        this.connectorType = connectorType;
+    }
+
+    /**
+     * Creates persistence unit properties for accessing this storage.
+     *
+     * @param name      Name of the storage, used to derive ontology IRI and physical location
+     * @param directory Directory for file-based storages
+     * @return Persistence unit properties
+     */
+    public Map<String, String> createProperties(String name, Path directory) {
+        final Map<String, String> config = new HashMap<>();
+        config.put(JOPAPersistenceProperties.DATA_SOURCE_CLASS, connectorType.getDriverClass());
+        config.put(JOPAPersistenceProperties.ONTOLOGY_URI_KEY, IRI_BASE + name);
+        config.put(OntoDriverProperties.USE_TRANSACTIONAL_ONTOLOGY, Boolean.TRUE.toString());
+        configure(config, name, directory);
+        return config;
+    }
+
+    abstract void configure(Map<String, String> config, String name, Path directory);
+}
@@ -0,0 +1,106 @@
+/**
+ * Copyright (C) 2023 Czech Technical University in Prague
+ *
+ * This program is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any
+ * later version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more
+ * details. You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package cz.cvut.kbss.jopa.benchmark.environment;
+
+import cz.cvut.kbss.jopa.model.EntityManager;
+import cz.cvut.kbss.jopa.model.EntityManagerFactory;
+import cz.cvut.kbss.jopa.test.OWLClassA;
+
+import java.net.URI;
+import java.util.Random;
+
+/**
+ * Generates reproducible benchmark datasets.
+ * <p>
+ * The dataset consists of {@link OWLClassA} instances, each of which is represented by {@link #TRIPLES_PER_INSTANCE}
+ * triples (class assertion and string attribute value). Identifiers are derived from instance index and attribute
+ * values from a fixed seed, so that the same dataset is generated on every run.
+ */
+public final class DatasetGenerator {
+
+    /**
+     * Number of triples representing one generated instance.
+     */
+    public static final int TRIPLES_PER_INSTANCE = 2;
+
+    /**
+     * Seed of all random values used by the benchmarks.
+     */
+    public static final long SEED = 20231018L;
+
+    private static final String INSTANCE_IRI_BASE = "http://onto.fel.cvut.cz/ontologies/jopa/benchmark/instance-";
+
+    private static final int BATCH_SIZE = 1000;
+
+    private DatasetGenerator() {
+        throw new AssertionError();
+    }
+
+    /**
+     * Gets the number of instances generated for a dataset of the specified size.
+     *
+     * @param tripleCount Requested number of triples
+     * @return Number of instances
+     */
+    public static int instanceCount(int tripleCount) {
+        return Math.max(1, tripleCount / TRIPLES_PER_INSTANCE);
+    }
+
+    /**
+     * Gets identifier of the instance with the specified index.
+     *
+     * @param index Instance index
+     * @return Instance identifier
+     */
+    public static URI identifier(int index) {
+        return URI.create(INSTANCE_IRI_BASE + index);
+    }
+
+    /**
+     * Creates the instance with the specified index, with attribute value generated using the specified random.
+     *
+     * @param index  Instance index
+     * @param random Source of attribute values
+     * @return New instance
+     */
+    public static OWLClassA instance(int index, Random random) {
+        return new OWLClassA(identifier(index), "Instance " + index + " - " + random.nextLong());
+    }
+
+    /**
+     * Populates the storage with a dataset of (approximately) the specified number of triples.
+     * <p>
+     * Instances are persisted in batches, each batch in a separate transaction.
+     *
+     * @param emf         Factory providing access to the storage
+     * @param tripleCount Number of triples to generate
+     */
+    public static void populate(EntityManagerFactory emf, int tripleCount) {
+        final Random random = new Random(SEED);
+        final int count = instanceCount(tripleCount);
+        for (int batchStart = 0; batchStart < count; batchStart += BATCH_SIZE) {
+            final EntityManager em = emf.createEntityManager();
+            try {
+                em.getTransaction().begin();
+                for (int i = batchStart; i < Math.min(count, batchStart + BATCH_SIZE); i++) {
+                    em.persist(instance(i, random));
+                }
+                em.getTransaction().commit();
+            } finally {
+                em.close();
+            }
+        }
+    }
+}
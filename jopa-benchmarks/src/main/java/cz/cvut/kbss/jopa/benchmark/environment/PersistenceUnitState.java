@@ -0,0 +1,108 @@
+/**
+ * Copyright (C) 2023 Czech Technical University in Prague
+ *
+ * This program is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any
+ * later version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more
+ * details. You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package cz.cvut.kbss.jopa.benchmark.environment;
+
+import cz.cvut.kbss.jopa.Persistence;
+import cz.cvut.kbss.jopa.model.EntityManager;
+import cz.cvut.kbss.jopa.model.EntityManagerFactory;
+import cz.cvut.kbss.jopa.model.JOPAPersistenceProperties;
+import cz.cvut.kbss.jopa.model.JOPAPersistenceProvider;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+/**
+ * Benchmark state holding a persistence unit connected to a storage populated with a generated dataset.
+ * <p>
+ * The storage and dataset size are benchmark parameters, so every benchmark using this state is run against each
+ * storage with each dataset size. Use the JMH {@code -p} option to restrict them.
+ */
+@State(Scope.Benchmark)
+public class PersistenceUnitState {
+
+    @Param({"RDF4J_MEMORY", "JENA_MEMORY", "JENA_TDB", "OWLAPI"})
+    public BenchmarkStorage storage;
+
+    @Param({"1000", "100000", "1000000"})
+    public int tripleCount;
+
+    private Path directory;
+
+    private EntityManagerFactory emf;
+
+    private AtomicInteger nextIndex;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        this.directory = Files.createTempDirectory("jopa-benchmark");
+        final String name = storage.name().toLowerCase() + "-" + tripleCount;
+        final Map<String, String> properties = storage.createProperties(name, directory);
+        properties.put(JOPAPersistenceProperties.SCAN_PACKAGE, "cz.cvut.kbss.jopa.test");
+        properties.put(JOPAPersistenceProperties.JPA_PERSISTENCE_PROVIDER, JOPAPersistenceProvider.class.getName());
+        properties.put(JOPAPersistenceProperties.LANG, "en");
+        properties.put(JOPAPersistenceProperties.CACHE_ENABLED, Boolean.FALSE.toString());
+        this.emf = Persistence.createEntityManagerFactory("benchmark-" + name, properties);
+        DatasetGenerator.populate(emf, tripleCount);
+        this.nextIndex = new AtomicInteger(instanceCount());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        emf.close();
+        deleteDirectory(directory);
+    }
+
+    private static void deleteDirectory(Path directory) {
+        try (final Stream<Path> files = Files.walk(directory)) {
+            files.sorted(Comparator.reverseOrder()).forEach(f -> f.toFile().delete());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Gets number of instances in the generated dataset.
+     *
+     * @return Instance count
+     */
+    public int instanceCount() {
+        return DatasetGenerator.instanceCount(tripleCount);
+    }
+
+    /**
+     * Gets index of a new instance, i.e., one which is not present in the generated dataset.
+     *
+     * @return Index of a new instance
+     */
+    public int nextNewIndex() {
+        return nextIndex.getAndIncrement();
+    }
+
+    public EntityManager createEntityManager() {
+        return emf.createEntityManager();
+    }
+}
@@ -0,0 +1,65 @@
+/**
+ * Copyright (C) 2023 Czech Technical University in Prague
+ *
+ * This program is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any
+ * later version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more
+ * details. You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package cz.cvut.kbss.jopa.benchmark.environment;
+
+import cz.cvut.kbss.jopa.Persistence;
+import cz.cvut.kbss.jopa.model.EntityManager;
+import cz.cvut.kbss.jopa.model.EntityManagerFactory;
+import cz.cvut.kbss.jopa.model.JOPAPersistenceProperties;
+import cz.cvut.kbss.jopa.model.JOPAPersistenceProvider;
+import cz.cvut.kbss.jopa.sessions.UnitOfWorkImpl;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Map;
+
+/**
+ * Benchmark state providing a unit of work over an empty in-memory storage.
+ * <p>
+ * Used by benchmarks of in-memory algorithms (cloning, change calculation), which need the metamodel, but do not
+ * access the storage, so their results do not depend on storage type or dataset size.
+ */
+@State(Scope.Thread)
+public class UnitOfWorkState {
+
+    private EntityManagerFactory emf;
+    private EntityManager em;
+
+    public UnitOfWorkImpl uow;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        // In-memory storage does not use the directory
+        final Path directory = Paths.get(System.getProperty("java.io.tmpdir"));
+        final Map<String, String> properties = BenchmarkStorage.RDF4J_MEMORY.createProperties("metamodel", directory);
+        properties.put(JOPAPersistenceProperties.SCAN_PACKAGE, "cz.cvut.kbss.jopa.test");
+        properties.put(JOPAPersistenceProperties.JPA_PERSISTENCE_PROVIDER, JOPAPersistenceProvider.class.getName());
+        properties.put(JOPAPersistenceProperties.LANG, "en");
+        this.emf = Persistence.createEntityManagerFactory("benchmark-metamodel", properties);
+        this.em = emf.createEntityManager();
+        this.uow = em.unwrap(UnitOfWorkImpl.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        em.close();
+        emf.close();
+    }
+}
@@ -0,0 +1,101 @@
+/**
+ * Copyright (C) 2023 Czech Technical University in Prague
+ *
+ * This program is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any
+ * later version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more
+ * details. You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package cz.cvut.kbss.jopa.adapters;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Elements added to and removed from an indirect collection since its content was last written into the storage.
+ * <p>
+ * The changes are net, i.e., an element added and then removed again is neither among the added nor among the removed
+ * elements.
+ * <p>
+ * If the content of the collection cannot be described by changes of individual elements (e.g., because it does not
+ * correspond to the storage content), the changes are <i>unknown</i> until they are reset after the collection is
+ * written into the storage as a whole.
+ */
+public class ElementChanges {
+
+    private final Set<Object> added = new HashSet<>();
+    private final Set<Object> removed = new HashSet<>();
+
+    private boolean known;
+
+    ElementChanges(boolean known) {
+        this.known = known;
+    }
+
+    void elementAdded(Object element) {
+        if (known && !removed.remove(element)) {
+            added.add(element);
+        }
+    }
+
+    void elementRemoved(Object element) {
+        if (known && !added.remove(element)) {
+            removed.add(element);
+        }
+    }
+
+    void reset() {
+        this.known = true;
+        added.clear();
+        removed.clear();
+    }
+
+    /**
+     * Whether the changes are known, i.e., whether applying them to the storage content yields the collection
+     * content.
+     *
+     * @return {@code true} if changes are known, {@code false} otherwise
+     */
+    public boolean isKnown() {
+        return known;
+    }
+
+    /**
+     * Gets elements added to the collection.
+     *
+     * @return Unmodifiable set of added elements
+     */
+    public Set<Object> getAdded() {
+        return Collections.unmodifiableSet(added);
+    }
+
+    /**
+     * Gets elements removed from the collection.
+     *
+     * @return Unmodifiable set of removed elements
+     */
+    public Set<Object> getRemoved() {
+        return Collections.unmodifiableSet(removed);
+    }
+
+    /**
+     * Whether there are no changes.
+     *
+     * @return {@code true} if no elements were added or removed
+     */
+    public boolean isEmpty() {
+        return added.isEmpty() && removed.isEmpty();
+    }
+
+    @Override
+    public String toString() {
+        return "ElementChanges{" + (known ? "added=" + added + ", removed=" + removed : "unknown") + '}';
+    }
+}
@@ -17,6 +17,7 @@ package cz.cvut.kbss.jopa.adapters;
 import cz.cvut.kbss.jopa.sessions.UnitOfWorkImpl;
 
 import java.lang.reflect.Field;
+import java.util.Optional;
 
 /**
  * Wraps a collection so that calls to modifying operations are intercepted and reported to the persistence context (if necessary).
@@ -28,6 +29,11 @@ public abstract class IndirectCollection<T> implements IndirectWrapper {
     protected final transient Field field;
     protected final transient UnitOfWorkImpl persistenceContext;
 
+    /**
+     * Changes of elements of the collection, {@code null} if the collection does not track them.
+     */
+    transient ElementChanges elementChanges;
+
     protected IndirectCollection() {
         owner = null;
         field = null;
@@ -60,6 +66,55 @@ public abstract class IndirectCollection<T> implements IndirectWrapper {
         }
     }
 
+    /**
+     * Starts tracking of element changes.
+     * <p>
+     * The changes are initially unknown, because the wrapped collection need not correspond to the storage content.
+     */
+    void trackElementChanges() {
+        this.elementChanges = new ElementChanges(false);
+    }
+
+    void elementAdded(Object element) {
+        if (elementChanges != null) {
+            elementChanges.elementAdded(element);
+        }
+    }
+
+    void elementRemoved(Object element) {
+        if (elementChanges != null) {
+            elementChanges.elementRemoved(element);
+        }
+    }
+
+    /**
+     * Gets changes of elements of this collection since its content was last written into the storage.
+     * <p>
+     * The changes are provided only if they are known and this collection belongs to the specified owner, since they
+     * are relative to the storage content of the owner's attribute.
+     *
+     * @param owner Instance whose attribute value is being written into the storage
+     * @return Element changes, empty if they are not known
+     */
+    public Optional<ElementChanges> getElementChanges(Object owner) {
+        return elementChanges != null && elementChanges.isKnown() && this.owner == owner ? Optional.of(elementChanges) :
+               Optional.empty();
+    }
+
+    /**
+     * Resets element changes, marking the current content of this collection as corresponding to the storage content.
+     * <p>
+     * This should be called after the collection has been written into the storage. Changes are reset only if this
+     * collection belongs to the specified owner.
+     *
+     * @param owner Instance whose attribute value has been written into the storage
+     */
+    public void resetElementChanges(Object owner) {
+        if (elementChanges != null && this.owner == owner) {
+            elementChanges.reset();
+        }
+    }
+
     /**
      * The returned type is determined by the instance type parameter.
      *
@@ -42,11 +42,22 @@ public class IndirectList<E> extends IndirectCollection<List<E>> implements List
     public IndirectList(Object owner, Field f, UnitOfWorkImpl uow, List<E> referencedList) {
         super(owner, f, uow);
         this.internalList = Objects.requireNonNull(referencedList);
+        trackElementChanges();
+    }
+
+    /**
+     * Creates a view of a part of the specified list, changes made through the view are tracked by the list.
+     */
+    private IndirectList(IndirectList<E> list, List<E> subList) {
+        super(list.owner, list.field, list.persistenceContext);
+        this.internalList = subList;
+        this.elementChanges = list.elementChanges;
     }
 
     @Override
     public boolean add(E arg0) {
         internalList.add(arg0);
+        elementAdded(arg0);
         persistChange();    // There is always a change
         return true;
     }
@@ -54,6 +65,7 @@ public class IndirectList<E> extends IndirectCollection<List<E>> implements List
     @Override
     public void add(int arg0, E arg1) {
         internalList.add(arg0, arg1);
+        elementAdded(arg1);
         persistChange();
     }
 
@@ -61,6 +73,7 @@ public class IndirectList<E> extends IndirectCollection<List<E>> implements List
     public boolean addAll(Collection<? extends E> c) {
         boolean res = internalList.addAll(c);
         if (res) {
+            c.forEach(this::elementAdded);
             persistChange();
         }
         return res;
@@ -70,6 +83,7 @@ public class IndirectList<E> extends IndirectCollection<List<E>> implements List
     public boolean addAll(int index, Collection<? extends E> c) {
         boolean res = internalList.addAll(index, c);
         if (res) {
+            c.forEach(this::elementAdded);
             persistChange();
         }
         return res;
@@ -77,6 +91,7 @@ public class IndirectList<E> extends IndirectCollection<List<E>> implements List
 
     @Override
     public void clear() {
+        internalList.forEach(this::elementRemoved);
         internalList.clear();
         persistChange();
     }
@@ -130,6 +145,7 @@ public class IndirectList<E> extends IndirectCollection<List<E>> implements List
     public boolean remove(Object arg0) {
         boolean res = internalList.remove(arg0);
         if (res) {
+            elementRemoved(arg0);
             persistChange();
         }
         return res;
@@ -138,22 +154,39 @@ public class IndirectList<E> extends IndirectCollection<List<E>> implements List
     @Override
     public E remove(int arg0) {
         E elem = internalList.remove(arg0);
+        elementRemoved(elem);
         persistChange();
         return elem;
     }
 
     @Override
     public boolean removeAll(Collection<?> arg0) {
-        boolean res = internalList.removeAll(arg0);
-        if (res) {
-            persistChange();
-        }
-        return res;
+        return batchRemove(arg0, true);
     }
 
     @Override
     public boolean retainAll(Collection<?> arg0) {
-        boolean res = internalList.retainAll(arg0);
+        return batchRemove(arg0, false);
+    }
+
+    /**
+     * Removes elements whose presence in the specified collection matches {@code contained}.
+     * <p>
+     * The argument is copied first, because it may be a view of this list (e.g., a sub list), which would be
+     * invalidated by the removal.
+     */
+    private boolean batchRemove(Collection<?> c, boolean contained) {
+        final Collection<?> elements = new ArrayList<>(Objects.requireNonNull(c));
+        boolean res = false;
+        final Iterator<E> it = internalList.iterator();
+        while (it.hasNext()) {
+            final E e = it.next();
+            if (elements.contains(e) == contained) {
+                it.remove();
+                elementRemoved(e);
+                res = true;
+            }
+        }
         if (res) {
             persistChange();
         }
@@ -163,6 +196,8 @@ public class IndirectList<E> extends IndirectCollection<List<E>> implements List
     @Override
     public E set(int arg0, E arg1) {
         E elem = internalList.set(arg0, arg1);
+        elementRemoved(elem);
+        elementAdded(arg1);
         persistChange();
         return elem;
     }
@@ -174,7 +209,7 @@ public class IndirectList<E> extends IndirectCollection<List<E>> implements List
 
     @Override
     public List<E> subList(int fromIndex, int toIndex) {
-        return new IndirectList<>(owner, field, persistenceContext, internalList.subList(fromIndex, toIndex));
+        return new IndirectList<>(this, internalList.subList(fromIndex, toIndex));
     }
 
     @Override
@@ -216,6 +251,7 @@ public class IndirectList<E> extends IndirectCollection<List<E>> implements List
     private class IndirectIterator implements Iterator<E> {
 
         private final Iterator<E> it;
+        private E current;
 
         private IndirectIterator(Iterator<E> it) {
             this.it = it;
@@ -228,12 +264,14 @@ public class IndirectList<E> extends IndirectCollection<List<E>> implements List
 
         @Override
         public E next() {
-            return it.next();
+            this.current = it.next();
+            return current;
         }
 
         @Override
         public void remove() {
             it.remove();
+            IndirectList.this.elementRemoved(current);
             IndirectList.this.persistChange();
         }
     }
@@ -241,6 +279,7 @@ public class IndirectList<E> extends IndirectCollection<List<E>> implements List
     private class IndirectListIterator implements ListIterator<E> {
 
         private final ListIterator<E> lit;
+        private E current;
 
         private IndirectListIterator(ListIterator<E> lit) {
             this.lit = lit;
@@ -253,7 +292,8 @@ public class IndirectList<E> extends IndirectCollection<List<E>> implements List
 
         @Override
         public E next() {
-            return lit.next();
+            this.current = lit.next();
+            return current;
         }
 
         @Override
@@ -263,7 +303,8 @@ public class IndirectList<E> extends IndirectCollection<List<E>> implements List
 
         @Override
         public E previous() {
-            return lit.previous();
+            this.current = lit.previous();
+            return current;
         }
 
         @Override
@@ -279,18 +320,23 @@ public class IndirectList<E> extends IndirectCollection<List<E>> implements List
         @Override
         public void remove() {
             lit.remove();
+            IndirectList.this.elementRemoved(current);
             IndirectList.this.persistChange();
         }
 
         @Override
         public void set(E e) {
             lit.set(e);
+            IndirectList.this.elementRemoved(current);
+            IndirectList.this.elementAdded(e);
+            this.current = e;
             IndirectList.this.persistChange();
         }
 
         @Override
         public void add(E e) {
             lit.add(e);
+            IndirectList.this.elementAdded(e);
             IndirectList.this.persistChange();
         }
     }
@@ -33,6 +33,7 @@ public class IndirectSet<E> extends IndirectCollection<Set<E>> implements Set<E>
     public IndirectSet(Object owner, Field f, UnitOfWorkImpl uow, Set<E> referencedSet) {
         super(owner, f, uow);
         this.internalSet = Objects.requireNonNull(referencedSet);
+        trackElementChanges();
     }
 
     @Override
@@ -69,6 +70,7 @@ public class IndirectSet<E> extends IndirectCollection<Set<E>> implements Set<E>
     public boolean add(E e) {
         boolean res = internalSet.add(e);
         if (res) {
+            elementAdded(e);
             persistChange();
         }
         return res;
@@ -78,6 +80,7 @@ public class IndirectSet<E> extends IndirectCollection<Set<E>> implements Set<E>
     public boolean remove(Object o) {
         boolean res = internalSet.remove(o);
         if (res) {
+            elementRemoved(o);
             persistChange();
         }
         return res;
@@ -89,9 +92,14 @@ public class IndirectSet<E> extends IndirectCollection<Set<E>> implements Set<E>
     }
 
     @Override
-
     public boolean addAll(Collection<? extends E> c) {
-        boolean res = internalSet.addAll(c);
+        boolean res = false;
+        for (E e : c) {
+            if (internalSet.add(e)) {
+                elementAdded(e);
+                res = true;
+            }
+        }
         if (res) {
             persistChange();
         }
@@ -100,7 +108,17 @@ public class IndirectSet<E> extends IndirectCollection<Set<E>> implements Set<E>
 
     @Override
     public boolean retainAll(Collection<?> c) {
-        boolean res = internalSet.retainAll(c);
+        Objects.requireNonNull(c);
+        boolean res = false;
+        final Iterator<E> it = internalSet.iterator();
+        while (it.hasNext()) {
+            final E e = it.next();
+            if (!c.contains(e)) {
+                it.remove();
+                elementRemoved(e);
+                res = true;
+            }
+        }
         if (res) {
             persistChange();
         }
@@ -109,7 +127,13 @@ public class IndirectSet<E> extends IndirectCollection<Set<E>> implements Set<E>
 
     @Override
     public boolean removeAll(Collection<?> c) {
-        boolean res = internalSet.removeAll(c);
+        boolean res = false;
+        for (Object o : c) {
+            if (internalSet.remove(o)) {
+                elementRemoved(o);
+                res = true;
+            }
+        }
         if (res) {
             persistChange();
         }
@@ -118,6 +142,7 @@ public class IndirectSet<E> extends IndirectCollection<Set<E>> implements Set<E>
 
     @Override
     public void clear() {
+        internalSet.forEach(this::elementRemoved);
         internalSet.clear();
         persistChange();
     }
@@ -125,6 +150,7 @@ public class IndirectSet<E> extends IndirectCollection<Set<E>> implements Set<E>
     private class IndirectSetIterator<T> implements Iterator<T> {
 
         private final Iterator<T> iterator;
+        private T current;
 
         private IndirectSetIterator(Iterator<T> iterator) {
             this.iterator = iterator;
@@ -137,12 +163,14 @@ public class IndirectSet<E> extends IndirectCollection<Set<E>> implements Set<E>
 
         @Override
         public T next() {
-            return iterator.next();
+            this.current = iterator.next();
+            return current;
         }
 
         @Override
         public void remove() {
             iterator.remove();
+            IndirectSet.this.elementRemoved(current);
             IndirectSet.this.persistChange();
         }
     }
@@ -0,0 +1,130 @@
+/**
+ * Copyright (C) 2023 Czech Technical University in Prague
+ *
+ * This program is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any
+ * later version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more
+ * details. You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package cz.cvut.kbss.jopa.loaders;
+
+import cz.cvut.kbss.jopa.exceptions.OWLPersistenceException;
+import cz.cvut.kbss.jopa.model.PersistenceProperties;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * Discovers classes using an index generated at build time instead of scanning the classpath.
+ * <p>
+ * The index is generated by the {@code cz.cvut.kbss.jopa.modelgen.EntityIndexProcessor} annotation processor. All
+ * index files available to the current classloader (e.g., one per JAR) are merged.
+ * <p>
+ * Packages for which the index contains no classes are processed by a fallback scanner. This prevents an index
+ * provided by a dependency from hiding classes of an application which has not been indexed.
+ */
+public class IndexedClasspathScanner implements ClasspathScanner {
+
+    private static final Logger LOG = LoggerFactory.getLogger(IndexedClasspathScanner.class);
+
+    private static final String COMMENT_PREFIX = "#";
+
+    private final List<Consumer<Class<?>>> listeners = new ArrayList<>();
+
+    private final ClassLoader classLoader;
+    private final String indexLocation;
+    private final ClasspathScanner fallback;
+
+    private Set<String> indexedClasses;
+
+    /**
+     * Creates scanner reading the default index location.
+     *
+     * @param fallback Scanner used for packages without indexed classes
+     */
+    public IndexedClasspathScanner(ClasspathScanner fallback) {
+        this(Thread.currentThread().getContextClassLoader(), PersistenceProperties.CLASS_INDEX_LOCATION, fallback);
+    }
+
+    IndexedClasspathScanner(ClassLoader classLoader, String indexLocation, ClasspathScanner fallback) {
+        this.classLoader = classLoader;
+        this.indexLocation = indexLocation;
+        this.fallback = fallback;
+    }
+
+    @Override
+    public void addListener(Consumer<Class<?>> listener) {
+        listeners.add(listener);
+        fallback.addListener(listener);
+    }
+
+    @Override
+    public void processClasses(String scanPackage) {
+        final String prefix = scanPackage.isEmpty() ? "" : scanPackage + '.';
+        boolean indexed = false;
+        for (String className : getIndexedClasses()) {
+            if (className.startsWith(prefix)) {
+                indexed = true;
+                processClass(className);
+            }
+        }
+        if (!indexed) {
+            LOG.debug("No indexed classes found in package '{}', scanning the classpath.", scanPackage);
+            fallback.processClasses(scanPackage);
+        }
+    }
+
+    private Set<String> getIndexedClasses() {
+        if (indexedClasses == null) {
+            this.indexedClasses = readIndex();
+        }
+        return indexedClasses;
+    }
+
+    private Set<String> readIndex() {
+        final Set<String> result = new LinkedHashSet<>();
+        try {
+            final Enumeration<URL> indexes = classLoader.getResources(indexLocation);
+            while (indexes.hasMoreElements()) {
+                final URL url = indexes.nextElement();
+                LOG.trace("Reading class index {}", url);
+                try (final BufferedReader reader = new BufferedReader(
+                        new InputStreamReader(url.openStream(), StandardCharsets.UTF_8))) {
+                    reader.lines().map(String::trim)
+                          .filter(line -> !line.isEmpty() && !line.startsWith(COMMENT_PREFIX))
+                          .forEach(result::add);
+                }
+            }
+        } catch (IOException e) {
+            throw new OWLPersistenceException("Unable to read class index " + indexLocation, e);
+        }
+        return result;
+    }
+
+    private void processClass(String className) {
+        try {
+            final Class<?> cls = Class.forName(className, true, classLoader);
+            listeners.forEach(listener -> listener.accept(cls));
+        } catch (Exception | NoClassDefFoundError e) {
+            LOG.warn("Unable to load indexed class {}, got error {}: {}. Skipping the class. The class index may be outdated.",
+                     className, e.getClass().getName(), e.getMessage());
+        }
+    }
+}
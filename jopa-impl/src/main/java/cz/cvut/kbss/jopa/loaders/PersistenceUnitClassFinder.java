@@ -30,6 +30,9 @@ import java.util.stream.Stream;
  * Scans classpath to discover classes relevant to persistence unit building.
  * <p>
  * Only classes under the package configured via {@link JOPAPersistenceProperties#SCAN_PACKAGE} are processed.
+ * <p>
+ * If enabled, a class index generated at build time is used instead of scanning the classpath (see {@link
+ * JOPAPersistenceProperties#USE_CLASS_INDEX}).
  */
 public class PersistenceUnitClassFinder {
 
@@ -65,6 +68,10 @@ public class PersistenceUnitClassFinder {
     }
 
     private static ClasspathScanner resolveClasspathScanner(Configuration config) {
+        if (!config.contains(JOPAPersistenceProperties.CLASSPATH_SCANNER_CLASS) &&
+                config.is(JOPAPersistenceProperties.USE_CLASS_INDEX)) {
+            return new IndexedClasspathScanner(new DefaultClasspathScanner());
+        }
         try {
             final String scannerType = config.get(JOPAPersistenceProperties.CLASSPATH_SCANNER_CLASS,
                                                   DefaultClasspathScanner.class.getName());
@@ -24,6 +24,7 @@ import cz.cvut.kbss.jopa.sessions.ConnectionWrapper;
 import cz.cvut.kbss.jopa.utils.ErrorUtils;
 import cz.cvut.kbss.jopa.utils.Procedure;
 import cz.cvut.kbss.jopa.utils.ThrowingConsumer;
+import cz.cvut.kbss.ontodriver.PreparedStatement;
 import cz.cvut.kbss.ontodriver.ResultSet;
 import cz.cvut.kbss.ontodriver.Statement;
 import cz.cvut.kbss.ontodriver.exception.OntoDriverException;
@@ -48,6 +49,8 @@ abstract class AbstractQuery implements Query {
     private final Map<String, Object> hints = new HashMap<>();
     private final ConnectionWrapper connection;
 
+    private boolean nativeParameterBinding;
+
     private Procedure rollbackOnlyMarker;
     private Procedure ensureOpenProcedure = () -> {
     };
@@ -99,6 +102,19 @@ abstract class AbstractQuery implements Query {
         this.ensureOpenProcedure = ensureOpenProcedure;
     }
 
+    /**
+     * Sets whether parameter values of SELECT/ASK queries should be bound natively by the driver if possible.
+     * <p>
+     * Natively bound values are not inserted into the query string, they are passed to the driver separately. Note that
+     * a new statement is prepared for each execution of the query.
+     *
+     * @param nativeParameterBinding Whether to use native parameter binding
+     * @see QueryHolder#getBindableParameterValues()
+     */
+    void setNativeParameterBinding(boolean nativeParameterBinding) {
+        this.nativeParameterBinding = nativeParameterBinding;
+    }
+
     private static IllegalStateException unboundParam(Object param) {
         return new IllegalStateException("Parameter " + param + " is not bound.");
     }
@@ -107,7 +123,10 @@ abstract class AbstractQuery implements Query {
     public void executeUpdate() {
         ensureOpen();
         try (final Statement stmt = initQueryStatement()) {
-            stmt.executeUpdate(query.assembleQuery());
+            final String queryString = query.assembleQuery();
+            final long start = System.nanoTime();
+            stmt.executeUpdate(queryString);
+            connection.recordQueryExecution(query.getQuery(), "update", System.nanoTime() - start);
         } catch (OntoDriverException e) {
             markTransactionForRollback();
             throw queryEvaluationException(e);
@@ -118,13 +137,43 @@ abstract class AbstractQuery implements Query {
     }
 
     private Statement initQueryStatement() {
-        final Statement stmt = connection.createStatement();
+        return initStatement(connection.createStatement());
+    }
+
+    private <S extends Statement> S initStatement(S stmt) {
         stmt.useOntology(Statement.StatementOntology.TRANSACTIONAL);
         applyQueryHints(stmt);
         logQuery();
         return stmt;
     }
 
+    private Optional<Map<String, Object>> getBindableParameterValues() {
+        return nativeParameterBinding ? query.getBindableParameterValues().filter(values -> !values.isEmpty()) :
+               Optional.empty();
+    }
+
+    /**
+     * Creates a statement for the specified query, with the specified parameter values bound to it.
+     */
+    private PreparedStatement initPreparedStatement(String queryString, Map<String, Object> values)
+            throws OntoDriverException {
+        final PreparedStatement stmt = initStatement(connection.prepareStatement(queryString));
+        try {
+            for (Map.Entry<String, Object> e : values.entrySet()) {
+                stmt.bindValue(e.getKey(), e.getValue());
+            }
+        } catch (OntoDriverException | RuntimeException e) {
+            stmt.close();
+            throw e;
+        }
+        return stmt;
+    }
+
+    private static ResultSet executeQuery(Statement stmt, String queryString) throws OntoDriverException {
+        return stmt instanceof PreparedStatement ? ((PreparedStatement) stmt).executeQuery() :
+               stmt.executeQuery(queryString);
+    }
+
     public boolean hasParameter(String name) {
         return query.hasParameter(name);
     }
@@ -269,11 +318,16 @@ abstract class AbstractQuery implements Query {
      * @throws OntoDriverException When something goes wrong during query evaluation or result set processing
      */
     void executeQuery(ThrowingConsumer<ResultRow, OntoDriverException> consumer) throws OntoDriverException {
-        try (final Statement stmt = initQueryStatement()) {
-            final ResultSet rs = stmt.executeQuery(query.assembleQuery());
+        final Optional<Map<String, Object>> bindings = getBindableParameterValues();
+        final String queryString = bindings.isPresent() ? query.assembleQueryForBinding() : query.assembleQuery();
+        try (final Statement stmt = bindings.isPresent() ? initPreparedStatement(queryString, bindings.get()) :
+                                    initQueryStatement()) {
+            final long start = System.nanoTime();
+            final ResultSet rs = executeQuery(stmt, queryString);
             for (ResultRow row : rs) {
                 consumer.accept(row);
             }
+            connection.recordQueryExecution(query.getQuery(), "select", System.nanoTime() - start);
         }
     }
 
@@ -282,8 +336,14 @@ abstract class AbstractQuery implements Query {
     }
 
     <R> Stream<R> executeQueryForStream(Function<ResultRow, Optional<R>> function) throws OntoDriverException {
-        final Statement stmt = initQueryStatement();
-        final ResultSet rs = stmt.executeQuery(query.assembleQuery());
+        final Optional<Map<String, Object>> bindings = getBindableParameterValues();
+        final String queryString = bindings.isPresent() ? query.assembleQueryForBinding() : query.assembleQuery();
+        final Statement stmt =
+                bindings.isPresent() ? initPreparedStatement(queryString, bindings.get()) : initQueryStatement();
+        final long start = System.nanoTime();
+        final ResultSet rs = executeQuery(stmt, queryString);
+        // Only evaluation of the query is measured, results are consumed lazily by the caller
+        connection.recordQueryExecution(query.getQuery(), "select", System.nanoTime() - start);
         return StreamSupport.stream(new QueryResultSpliterator<>(rs.spliterator(), function, () -> {
             try {
                 stmt.close();
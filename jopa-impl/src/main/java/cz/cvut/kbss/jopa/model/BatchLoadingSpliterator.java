@@ -0,0 +1,84 @@
+/**
+ * Copyright (C) 2023 Czech Technical University in Prague
+ *
+ * This program is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any
+ * later version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more
+ * details. You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package cz.cvut.kbss.jopa.model;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Spliterator which gathers items from the source spliterator into batches and transforms each batch at once.
+ * <p>
+ * This allows to load entities corresponding to query results in bulk instead of one by one. Items of the source are
+ * consumed lazily, i.e., a batch is pulled from the source only when all items of the previous batch have been
+ * consumed.
+ *
+ * @param <T> Type of the source items
+ * @param <X> Type of the resulting items
+ */
+class BatchLoadingSpliterator<T, X> extends Spliterators.AbstractSpliterator<X> {
+
+    private final Spliterator<T> source;
+    private final int batchSize;
+    private final Function<List<T>, List<X>> loader;
+
+    private final Deque<X> buffer = new ArrayDeque<>();
+
+    private boolean exhausted;
+
+    BatchLoadingSpliterator(Spliterator<T> source, int batchSize, Function<List<T>, List<X>> loader) {
+        super(Long.MAX_VALUE, Spliterator.IMMUTABLE | Spliterator.ORDERED | Spliterator.NONNULL);
+        assert batchSize > 0;
+        this.source = source;
+        this.batchSize = batchSize;
+        this.loader = loader;
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super X> action) {
+        while (buffer.isEmpty()) {
+            if (!loadBatch()) {
+                return false;
+            }
+        }
+        action.accept(buffer.poll());
+        return true;
+    }
+
+    private boolean loadBatch() {
+        if (exhausted) {
+            return false;
+        }
+        final List<T> batch = new ArrayList<>(batchSize);
+        while (batch.size() < batchSize) {
+            // Pull items from the source until the batch is full or the source is exhausted. The source is not asked
+            // again once exhausted, as query result spliterators release the statement each time they run out
+            if (!source.tryAdvance(batch::add)) {
+                this.exhausted = true;
+                break;
+            }
+        }
+        if (batch.isEmpty()) {
+            return false;
+        }
+        buffer.addAll(loader.apply(batch));
+        return true;
+    }
+}
@@ -15,6 +15,7 @@
 package cz.cvut.kbss.jopa.model;
 
 import cz.cvut.kbss.jopa.loaders.PersistenceUnitClassFinder;
+import cz.cvut.kbss.jopa.metrics.MetricNames;
 import cz.cvut.kbss.jopa.model.metamodel.EntityType;
 import cz.cvut.kbss.jopa.model.metamodel.Metamodel;
 import cz.cvut.kbss.jopa.model.query.Query;
@@ -120,6 +121,9 @@ public class EntityManagerFactoryImpl implements EntityManagerFactory, Persisten
     private synchronized void initServerSession() {
         if (serverSession == null) {
             this.serverSession = new ServerSession(storageProperties, configuration, metamodel);
+            serverSession.getMetrics().registerGauge(MetricNames.OPEN_ENTITY_MANAGERS, em, Set::size,
+                                                     MetricNames.TAG_FACTORY,
+                                                     Integer.toHexString(System.identityHashCode(this)));
         }
     }
 
@@ -175,7 +179,7 @@ public class EntityManagerFactoryImpl implements EntityManagerFactory, Persisten
     public Object getIdentifier(Object entity) {
         Objects.requireNonNull(entity);
         final EntityType<?> et = getMetamodel().entity(entity.getClass());
-        return EntityPropertiesUtils.getFieldValue(et.getIdentifier().getJavaField(), entity);
+        return EntityPropertiesUtils.getAttributeValue(et.getIdentifier(), entity);
     }
 
     @Override
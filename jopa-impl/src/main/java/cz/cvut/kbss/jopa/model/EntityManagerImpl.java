@@ -234,7 +234,7 @@ public class EntityManagerImpl implements AbstractEntityManager, Wrapper {
         } else {
             attVal = mergeInternal(attVal, descriptor);
         }
-        EntityPropertiesUtils.setFieldValue(at.getJavaField(), merged, attVal);
+        EntityPropertiesUtils.setAttributeValue(at, merged, attVal);
     }
 
     @Override
@@ -339,6 +339,33 @@ public class EntityManagerImpl implements AbstractEntityManager, Wrapper {
         }
     }
 
+    @Override
+    public void setFlushMode(FlushModeType flushMode) {
+        Objects.requireNonNull(flushMode);
+        ensureOpen();
+        configuration.set(JOPAPersistenceProperties.FLUSH_MODE, flushMode.name());
+        if (persistenceContext != null) {
+            persistenceContext.setFlushMode(flushMode);
+        }
+    }
+
+    @Override
+    public FlushModeType getFlushMode() {
+        ensureOpen();
+        return resolveFlushMode(configuration.get(JOPAPersistenceProperties.FLUSH_MODE));
+    }
+
+    private static FlushModeType resolveFlushMode(String value) {
+        if (value == null || value.isEmpty()) {
+            return FlushModeType.IMMEDIATE;
+        }
+        try {
+            return FlushModeType.valueOf(value.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unsupported flush mode '" + value + "'.", e);
+        }
+    }
+
     @Override
     public void refresh(Object entity) {
         try {
@@ -584,6 +611,7 @@ public class EntityManagerImpl implements AbstractEntityManager, Wrapper {
         if (this.persistenceContext == null) {
             this.persistenceContext = (UnitOfWorkImpl) serverSession.acquireUnitOfWork();
             persistenceContext.setEntityManager(this);
+            persistenceContext.setFlushMode(getFlushMode());
         }
         return this.persistenceContext;
     }
@@ -633,6 +661,10 @@ public class EntityManagerImpl implements AbstractEntityManager, Wrapper {
     public void setProperty(String propertyName, Object value) {
         Objects.requireNonNull(propertyName);
         Objects.requireNonNull(value);
+        if (JOPAPersistenceProperties.FLUSH_MODE.equals(propertyName)) {
+            setFlushMode(value instanceof FlushModeType ? (FlushModeType) value : resolveFlushMode(value.toString()));
+            return;
+        }
         configuration.set(propertyName, value.toString());
     }
 }
@@ -57,12 +57,15 @@ public final class JOPAPersistenceProperties extends PersistenceProperties {
     public static final String CACHE_SWEEP_RATE = "cz.cvut.jopa.cache.sweepRate";
 
     /**
-     * Type of the second level cache. Currently supported are {@literal ttl} and {@literal lru}.
+     * Type of the second level cache. Currently supported are {@literal ttl}, {@literal lru} and {@literal concurrent}.
+     * <p>
+     * The {@literal concurrent} cache uses approximate LRU eviction and does not lock on read, so it is suitable for
+     * applications accessing the cache from many threads.
      */
     public static final String CACHE_TYPE = "cz.cvut.jopa.cache.type";
 
     /**
-     * Capacity of the LRU second level cache.
+     * Capacity of the LRU and concurrent second level caches (in number of entries).
      */
     public static final String LRU_CACHE_CAPACITY = "cz.cvut.jopa.cache.lru.capacity";
 
@@ -88,6 +91,42 @@ public final class JOPAPersistenceProperties extends PersistenceProperties {
      */
     public static final String CLASSPATH_SCANNER_CLASS = "cz.cvut.jopa.classpathScanner";
 
+    /**
+     * Whether to discover entity classes using a class index generated at build time.
+     * <p>
+     * The index is generated by the {@code cz.cvut.kbss.jopa.modelgen.EntityIndexProcessor} annotation processor and
+     * replaces classpath scanning at startup. Scan packages which contain no indexed classes are still scanned, so that
+     * an index of a dependency does not hide unindexed application classes. The setting is ignored when a custom
+     * {@link #CLASSPATH_SCANNER_CLASS} is configured.
+     * <p>
+     * Defaults to {@code false}.
+     */
+    public static final String USE_CLASS_INDEX = "cz.cvut.jopa.useClassIndex";
+
+    /**
+     * Default flush mode of persistence contexts.
+     * <p>
+     * Supported values are names of {@link FlushModeType} constants, default is {@link FlushModeType#IMMEDIATE}. The
+     * flush mode can be overridden for individual entity managers via {@link EntityManager#setFlushMode(FlushModeType)}.
+     */
+    public static final String FLUSH_MODE = "cz.cvut.jopa.flushMode";
+
+    /**
+     * Maximum number of parsed queries cached by the persistence unit.
+     * <p>
+     * Parsed queries are reused by subsequent query creations with the same query string. Setting the value to
+     * {@literal 0} disables the cache.
+     */
+    public static final String QUERY_PLAN_CACHE_CAPACITY = "cz.cvut.jopa.query.planCacheCapacity";
+
+    /**
+     * Fully qualified name of the {@link cz.cvut.kbss.jopa.metrics.MetricsCollector} implementation to which the
+     * persistence unit reports its runtime metrics.
+     * <p>
+     * The class must have a public no-arg constructor. By default, no metrics are recorded.
+     */
+    public static final String METRICS_COLLECTOR_CLASS = "cz.cvut.jopa.metrics.collectorClass";
+
     private JOPAPersistenceProperties() {
         throw new AssertionError();
     }
@@ -92,6 +92,7 @@ public class QueryHintsHandler {
         static {
             registerHint(new DisableInferenceHint());
             registerHint(new TargetOntologyHint());
+            registerHint(new BatchSizeHint());
         }
 
         Hint(String name, Object defaultValue) {
@@ -183,6 +184,34 @@ public class QueryHintsHandler {
         }
     }
 
+    /**
+     * Allows specifying size of batches in which query result entities are loaded.
+     *
+     * @see QueryHints#BATCH_SIZE
+     */
+    protected static class BatchSizeHint extends Hint {
+        BatchSizeHint() {
+            super(QueryHints.BATCH_SIZE, TypedQueryImpl.DEFAULT_BATCH_SIZE);
+        }
+
+        @Override
+        void applyToQuery(Object hintValue, AbstractQuery query, Statement statement) {
+            final int batchSize;
+            try {
+                batchSize = hintValue instanceof Number ? ((Number) hintValue).intValue() :
+                            Integer.parseInt(hintValue.toString());
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Unsupported value '" + hintValue + "' of hint '" + name + "'.", e);
+            }
+            if (batchSize < 1) {
+                throw new IllegalArgumentException("Unsupported value '" + hintValue + "' of hint '" + name + "'.");
+            }
+            if (query instanceof TypedQueryImpl) {
+                ((TypedQueryImpl<?>) query).setBatchSize(batchSize);
+            }
+        }
+    }
+
     protected static class TargetOntologyHint extends Hint {
         public TargetOntologyHint() {
             super(QueryHints.TARGET_ONTOLOGY, Statement.StatementOntology.SHARED);
@@ -35,9 +35,15 @@ import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 public class TypedQueryImpl<X> extends AbstractQuery implements TypedQuery<X> {
 
+    /**
+     * By default, result entities are loaded one by one.
+     */
+    static final int DEFAULT_BATCH_SIZE = 1;
+
     private final Class<X> resultType;
     private final MetamodelProvider metamodelProvider;
 
@@ -45,18 +51,32 @@ public class TypedQueryImpl<X> extends AbstractQuery implements TypedQuery<X> {
 
     private Descriptor descriptor = new EntityDescriptor();
 
+    private int batchSize = DEFAULT_BATCH_SIZE;
+
     public TypedQueryImpl(final QueryHolder query, final Class<X> resultType,
                           final ConnectionWrapper connection, MetamodelProvider metamodelProvider) {
         super(query, connection);
         this.resultType = Objects.requireNonNull(resultType, ErrorUtils.getNPXMessageSupplier("resultType"));
         this.metamodelProvider = Objects
                 .requireNonNull(metamodelProvider, ErrorUtils.getNPXMessageSupplier("metamodelProvider"));
+        setNativeParameterBinding(true);
     }
 
     public void setUnitOfWork(UnitOfWork uow) {
         this.uow = uow;
     }
 
+    /**
+     * Sets the number of result entities loaded together.
+     *
+     * @param batchSize Batch size, must be positive
+     * @see cz.cvut.kbss.jopa.query.QueryHints#BATCH_SIZE
+     */
+    void setBatchSize(int batchSize) {
+        assert batchSize > 0;
+        this.batchSize = batchSize;
+    }
+
     @Override
     public List<X> getResultList() {
         ensureOpen();
@@ -74,13 +94,26 @@ public class TypedQueryImpl<X> extends AbstractQuery implements TypedQuery<X> {
     private List<X> getResultListImpl() throws OntoDriverException {
         final boolean isEntityType = metamodelProvider.isEntityType(resultType);
         final List<X> res = new ArrayList<>();
+        final List<URI> batch = new ArrayList<>();
         executeQuery(rs -> {
             if (isEntityType) {
-                loadEntityInstance(rs, descriptor).ifPresent(res::add);
+                if (batchSize > DEFAULT_BATCH_SIZE) {
+                    batch.add(extractIdentifier(rs));
+                    if (batch.size() == batchSize) {
+                        // The loader may keep the identifiers, so it gets a copy of the reused batch list
+                        res.addAll(loadEntityInstances(new ArrayList<>(batch)));
+                        batch.clear();
+                    }
+                } else {
+                    loadEntityInstance(extractIdentifier(rs)).ifPresent(res::add);
+                }
             } else {
                 loadResultValue(rs).ifPresent(res::add);
             }
         });
+        if (!batch.isEmpty()) {
+            res.addAll(loadEntityInstances(batch));
+        }
         return res;
     }
 
@@ -88,19 +121,31 @@ public class TypedQueryImpl<X> extends AbstractQuery implements TypedQuery<X> {
         return descriptor;
     }
 
-    private Optional<X> loadEntityInstance(ResultRow resultRow, Descriptor instanceDescriptor) {
+    private Optional<X> loadEntityInstance(URI identifier) {
+        ensureUnitOfWork();
+        return Optional.ofNullable(uow.readObject(resultType, identifier, descriptor));
+    }
+
+    private void ensureUnitOfWork() {
         if (uow == null) {
             throw new IllegalStateException("Cannot load entity instance without Unit of Work.");
         }
+    }
+
+    private URI extractIdentifier(ResultRow resultRow) {
         try {
             assert resultRow.isBound(0);
-            final URI uri = URI.create(resultRow.getString(0));
-            return Optional.ofNullable(uow.readObject(resultType, uri, instanceDescriptor));
+            return URI.create(resultRow.getString(0));
         } catch (OntoDriverException e) {
             throw new OWLPersistenceException("Unable to load query result as entity of type " + resultType, e);
         }
     }
 
+    private List<X> loadEntityInstances(List<URI> identifiers) {
+        ensureUnitOfWork();
+        return uow.readObjects(resultType, identifiers, descriptor);
+    }
+
     private Optional<X> loadResultValue(ResultRow resultRow) {
         try {
             return Optional.of(resultRow.getObject(0, resultType));
@@ -136,13 +181,10 @@ public class TypedQueryImpl<X> extends AbstractQuery implements TypedQuery<X> {
     public Stream<X> getResultStream() {
         final boolean isEntityType = metamodelProvider.isEntityType(resultType);
         try {
-            return executeQueryForStream(row -> {
-                if (isEntityType) {
-                    return loadEntityInstance(row, descriptor);
-                } else {
-                    return loadResultValue(row);
-                }
-            });
+            if (isEntityType) {
+                return getEntityResultStream();
+            }
+            return executeQueryForStream(this::loadResultValue);
         } catch (OntoDriverException e) {
             markTransactionForRollback();
             throw queryEvaluationException(e);
@@ -154,6 +196,17 @@ public class TypedQueryImpl<X> extends AbstractQuery implements TypedQuery<X> {
         }
     }
 
+    private Stream<X> getEntityResultStream() throws OntoDriverException {
+        final Stream<URI> identifiers = executeQueryForStream(row -> Optional.of(extractIdentifier(row)));
+        // Hints are applied when the query is executed, so the batch size has to be read afterwards
+        if (batchSize == DEFAULT_BATCH_SIZE) {
+            return identifiers.map(this::loadEntityInstance).flatMap(Optional::stream);
+        }
+        // The statement is closed by the identifier spliterator once the results are exhausted
+        return StreamSupport.stream(new BatchLoadingSpliterator<>(identifiers.spliterator(), batchSize,
+                                                                  this::loadEntityInstances), false);
+    }
+
     @Override
     public TypedQuery<X> setMaxResults(int maxResults) {
         ensureOpen();
@@ -170,6 +223,18 @@ public class TypedQueryImpl<X> extends AbstractQuery implements TypedQuery<X> {
         return this;
     }
 
+    @Override
+    public TypedQuery<X> setPageAfter(Object lastSortKey) {
+        ensureOpen();
+        try {
+            query.setPageAfter(lastSortKey);
+        } catch (RuntimeException e) {
+            markTransactionForRollback();
+            throw e;
+        }
+        return this;
+    }
+
     @Override
     public TypedQuery<X> setParameter(int position, Object value) {
         super.setParameter(position, value);
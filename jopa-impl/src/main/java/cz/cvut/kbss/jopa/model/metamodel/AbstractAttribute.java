@@ -19,11 +19,12 @@ import cz.cvut.kbss.jopa.model.annotations.CascadeType;
 import cz.cvut.kbss.jopa.model.annotations.FetchType;
 import cz.cvut.kbss.jopa.model.annotations.ParticipationConstraint;
 import cz.cvut.kbss.jopa.oom.converter.ConverterWrapper;
+import cz.cvut.kbss.jopa.utils.FieldAccessor;
 
 import java.lang.reflect.Field;
 import java.lang.reflect.Member;
 
-public abstract class AbstractAttribute<X, Y> implements Attribute<X, Y> {
+public abstract class AbstractAttribute<X, Y> implements Attribute<X, Y>, FieldAccessorProvider {
 
     private final PropertyInfo propertyInfo;
 
@@ -55,6 +56,8 @@ public abstract class AbstractAttribute<X, Y> implements Attribute<X, Y> {
 
     private final ConverterWrapper converter;
 
+    private final FieldAccessor fieldAccessor;
+
     AbstractAttribute(AbstractAttributeBuilder<X, Y> builder) {
         this.propertyInfo = builder.propertyInfo;
         this.declaringType = builder.declaringType;
@@ -71,6 +74,7 @@ public abstract class AbstractAttribute<X, Y> implements Attribute<X, Y> {
         this.simpleLiteral = builder.simpleLiteral;
         this.language = builder.language;
         this.datatype = builder.datatype;
+        this.fieldAccessor = propertyInfo != null ? FieldAccessor.create(propertyInfo.getField()) : null;
     }
 
     @Override
@@ -113,6 +117,26 @@ public abstract class AbstractAttribute<X, Y> implements Attribute<X, Y> {
         return propertyInfo.getField();
     }
 
+    @Override
+    public FieldAccessor getFieldAccessor() {
+        return fieldAccessor;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Y getValue(X instance) {
+        return fieldAccessor != null ? (Y) fieldAccessor.get(instance) : Attribute.super.getValue(instance);
+    }
+
+    @Override
+    public void setValue(X instance, Y value) {
+        if (fieldAccessor != null) {
+            fieldAccessor.set(instance, value);
+        } else {
+            Attribute.super.setValue(instance, value);
+        }
+    }
+
     @Override
     public FetchType getFetchType() {
         return fetchType;
@@ -17,6 +17,7 @@ package cz.cvut.kbss.jopa.model.metamodel;
 import cz.cvut.kbss.jopa.model.annotations.FetchType;
 import cz.cvut.kbss.jopa.model.annotations.ParticipationConstraint;
 import cz.cvut.kbss.jopa.oom.converter.ConverterWrapper;
+import cz.cvut.kbss.jopa.utils.FieldAccessor;
 
 import java.lang.reflect.Field;
 import java.lang.reflect.Member;
@@ -27,7 +28,7 @@ import java.lang.reflect.Member;
  * @param <X> The represented type that contains the attribute
  * @param <Y> The type of the represented attribute
  */
-public abstract class AbstractQueryAttribute<X, Y> implements QueryAttribute<X, Y> {
+public abstract class AbstractQueryAttribute<X, Y> implements QueryAttribute<X, Y>, FieldAccessorProvider {
 
     /**
      * Name of the variable which may be used in the query and would be replaced by the identifier of the entity owning
@@ -45,20 +46,26 @@ public abstract class AbstractQueryAttribute<X, Y> implements QueryAttribute<X,
 
     private final FetchType fetchType;
 
+    private final long cacheTtl;
+
     private final ParticipationConstraint[] constraints;
 
     private final ConverterWrapper converter;
 
+    private final FieldAccessor fieldAccessor;
+
     public AbstractQueryAttribute(String query, boolean enableReferencingAttributes, Field field,
-                                  ManagedType<X> declaringType, FetchType fetchType,
+                                  ManagedType<X> declaringType, FetchType fetchType, long cacheTtl,
                                   ParticipationConstraint[] constraints, ConverterWrapper converter) {
         this.query = query;
         this.enableReferencingAttributes = enableReferencingAttributes;
         this.field = field;
         this.declaringType = declaringType;
         this.fetchType = fetchType;
+        this.cacheTtl = cacheTtl;
         this.constraints = constraints;
         this.converter = converter;
+        this.fieldAccessor = FieldAccessor.create(field);
     }
 
     @Override
@@ -71,6 +78,11 @@ public abstract class AbstractQueryAttribute<X, Y> implements QueryAttribute<X,
         return enableReferencingAttributes;
     }
 
+    @Override
+    public long getCacheTtl() {
+        return cacheTtl;
+    }
+
     @Override
     public Member getJavaMember() {
         return field;
@@ -91,6 +103,22 @@ public abstract class AbstractQueryAttribute<X, Y> implements QueryAttribute<X,
         return field;
     }
 
+    @Override
+    public FieldAccessor getFieldAccessor() {
+        return fieldAccessor;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Y getValue(X instance) {
+        return (Y) fieldAccessor.get(instance);
+    }
+
+    @Override
+    public void setValue(X instance, Y value) {
+        fieldAccessor.set(instance, value);
+    }
+
     @Override
     public FetchType getFetchType() {
         return fetchType;
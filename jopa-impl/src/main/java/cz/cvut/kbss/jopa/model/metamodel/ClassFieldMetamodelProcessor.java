@@ -279,11 +279,11 @@ class ClassFieldMetamodelProcessor<X> {
         }
 
         if (Collection.class.isAssignableFrom(field.getType())) {
-            a = new PluralQueryAttributeImpl<>(query, sparqlAnnotation.enableReferencingAttributes(), field, et, fetchType, participationConstraints, type, field.getType(), converterWrapper);
+            a = new PluralQueryAttributeImpl<>(query, sparqlAnnotation.enableReferencingAttributes(), field, et, fetchType, sparqlAnnotation.cacheTtl(), participationConstraints, type, field.getType(), converterWrapper);
         } else if (Map.class.isAssignableFrom(field.getType())) {
             throw new IllegalArgumentException("NOT YET SUPPORTED");
         } else {
-            a = new SingularQueryAttributeImpl<>(query, sparqlAnnotation.enableReferencingAttributes(), field, et, fetchType, type, participationConstraints, converterWrapper);
+            a = new SingularQueryAttributeImpl<>(query, sparqlAnnotation.enableReferencingAttributes(), field, et, fetchType, sparqlAnnotation.cacheTtl(), type, participationConstraints, converterWrapper);
         }
 
         et.addDeclaredQueryAttribute(field.getName(), a);
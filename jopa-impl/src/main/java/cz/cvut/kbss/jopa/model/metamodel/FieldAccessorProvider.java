@@ -0,0 +1,30 @@
+/**
+ * Copyright (C) 2023 Czech Technical University in Prague
+ *
+ * This program is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any
+ * later version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more
+ * details. You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package cz.cvut.kbss.jopa.model.metamodel;
+
+import cz.cvut.kbss.jopa.utils.FieldAccessor;
+
+/**
+ * Field specification which provides an accessor for the value of the field it represents.
+ */
+public interface FieldAccessorProvider {
+
+    /**
+     * Gets accessor of the Java field represented by this specification.
+     *
+     * @return Field accessor, {@code null} if this specification is not backed by a field
+     */
+    FieldAccessor getFieldAccessor();
+}
@@ -15,19 +15,23 @@
 package cz.cvut.kbss.jopa.model.metamodel;
 
 import cz.cvut.kbss.jopa.model.annotations.FetchType;
+import cz.cvut.kbss.jopa.utils.FieldAccessor;
 
 import java.lang.reflect.Field;
 
-public class IRIIdentifierImpl<T> implements IRIIdentifier {
+public class IRIIdentifierImpl<T> implements IRIIdentifier, FieldAccessorProvider {
 
     private final ManagedType<T> declaringType;
     private final Field javaField;
 
+    private final FieldAccessor fieldAccessor;
+
     private final boolean generated;
 
     public IRIIdentifierImpl(ManagedType<T> declaringType, final Field javaField, final boolean generated) {
         this.declaringType = declaringType;
         this.javaField = javaField;
+        this.fieldAccessor = FieldAccessor.create(javaField);
         this.generated = generated;
     }
 
@@ -46,6 +50,21 @@ public class IRIIdentifierImpl<T> implements IRIIdentifier {
         return javaField;
     }
 
+    @Override
+    public FieldAccessor getFieldAccessor() {
+        return fieldAccessor;
+    }
+
+    @Override
+    public Object getValue(Object instance) {
+        return fieldAccessor.get(instance);
+    }
+
+    @Override
+    public void setValue(Object instance, Object value) {
+        fieldAccessor.set(instance, value);
+    }
+
     @Override
     public FetchType getFetchType() {
         return FetchType.EAGER;
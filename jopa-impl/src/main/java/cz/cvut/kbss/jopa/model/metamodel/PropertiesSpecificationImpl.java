@@ -15,13 +15,15 @@
 package cz.cvut.kbss.jopa.model.metamodel;
 
 import cz.cvut.kbss.jopa.model.annotations.FetchType;
+import cz.cvut.kbss.jopa.utils.FieldAccessor;
 
 import java.lang.reflect.Field;
 
-public class PropertiesSpecificationImpl<X, Y, K, V> implements PropertiesSpecification<X, Y, K, V> {
+public class PropertiesSpecificationImpl<X, Y, K, V> implements PropertiesSpecification<X, Y, K, V>, FieldAccessorProvider {
     private final ManagedType<X> declaringType;
     private final FetchType fetchType;
     private final Field javaField;
+    private final FieldAccessor fieldAccessor;
     private final Class<Y> javaType;
     private final boolean inferred;
     private final Class<K> propertyIdType;
@@ -31,6 +33,7 @@ public class PropertiesSpecificationImpl<X, Y, K, V> implements PropertiesSpecif
         this.declaringType = builder.declaringType;
         this.fetchType = builder.fetchType;
         this.javaField = builder.javaField;
+        this.fieldAccessor = FieldAccessor.create(javaField);
         this.javaType = builder.javaType;
         this.inferred = builder.inferred;
         this.propertyIdType = builder.propertyIdType;
@@ -52,6 +55,22 @@ public class PropertiesSpecificationImpl<X, Y, K, V> implements PropertiesSpecif
         return javaField;
     }
 
+    @Override
+    public FieldAccessor getFieldAccessor() {
+        return fieldAccessor;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Y getValue(X instance) {
+        return (Y) fieldAccessor.get(instance);
+    }
+
+    @Override
+    public void setValue(X instance, Y value) {
+        fieldAccessor.set(instance, value);
+    }
+
     @Override
     public Class<Y> getJavaType() {
         return javaType;
@@ -31,9 +31,9 @@ public class SingularQueryAttributeImpl<X, Y> extends AbstractQueryAttribute<X,
     private final Type<Y> type;
 
     public SingularQueryAttributeImpl(String query, boolean enableReferencingAttributes, Field field,
-                                      ManagedType<X> declaringType, FetchType fetchType,
+                                      ManagedType<X> declaringType, FetchType fetchType, long cacheTtl,
                                       Type<Y> type, ParticipationConstraint[] constraints, ConverterWrapper converter) {
-        super(query, enableReferencingAttributes, field, declaringType, fetchType, constraints, converter);
+        super(query, enableReferencingAttributes, field, declaringType, fetchType, cacheTtl, constraints, converter);
         this.type = type;
     }
 
@@ -15,14 +15,16 @@
 package cz.cvut.kbss.jopa.model.metamodel;
 
 import cz.cvut.kbss.jopa.model.annotations.FetchType;
+import cz.cvut.kbss.jopa.utils.FieldAccessor;
 
 import java.lang.reflect.Field;
 import java.util.Set;
 
-public class TypesSpecificationImpl<X, Y> implements TypesSpecification<X, Y> {
+public class TypesSpecificationImpl<X, Y> implements TypesSpecification<X, Y>, FieldAccessorProvider {
     private final ManagedType<X> declaringType;
     private final FetchType fetchType;
     private final Field javaField;
+    private final FieldAccessor fieldAccessor;
     private final Class<Y> elementType;
     private final boolean inferred;
 
@@ -32,6 +34,7 @@ public class TypesSpecificationImpl<X, Y> implements TypesSpecification<X, Y> {
         this.declaringType = declaringType;
         this.fetchType = fetchType;
         this.javaField = javaField;
+        this.fieldAccessor = FieldAccessor.create(javaField);
         this.elementType = elementType;
         this.inferred = inferred;
     }
@@ -51,6 +54,22 @@ public class TypesSpecificationImpl<X, Y> implements TypesSpecification<X, Y> {
         return javaField;
     }
 
+    @Override
+    public FieldAccessor getFieldAccessor() {
+        return fieldAccessor;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Set getValue(X instance) {
+        return (Set) fieldAccessor.get(instance);
+    }
+
+    @Override
+    public void setValue(X instance, Set value) {
+        fieldAccessor.set(instance, value);
+    }
+
     @Override
     public Class<Set> getJavaType() {
         return Set.class;
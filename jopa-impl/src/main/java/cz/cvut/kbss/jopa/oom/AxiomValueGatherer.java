@@ -41,10 +41,25 @@ class AxiomValueGatherer {
     private Map<Assertion, Set<Value<?>>> propertiesToAdd;
     private Map<Assertion, Set<Value<?>>> propertiesToRemove;
     private URI propertiesContext;
+    private final boolean valueChangesSupported;
+    private Map<URI, Map<Assertion, Set<Value<?>>>> valuesToAdd;
+    private Map<URI, Map<Assertion, Set<Value<?>>>> valuesToRemove;
+    private List<Runnable> afterWrite;
 
     AxiomValueGatherer(NamedResource subject, URI subjectContext) {
+        this(subject, subjectContext, false);
+    }
+
+    /**
+     * @param subject               Subject of the gathered axioms
+     * @param subjectContext        Context of the subject
+     * @param valueChangesSupported Whether attribute values may be gathered as changes of the existing values, i.e.,
+     *                              whether the subject is being updated
+     */
+    AxiomValueGatherer(NamedResource subject, URI subjectContext, boolean valueChangesSupported) {
         this.axiomDescriptor = new AxiomValueDescriptor(subject);
         axiomDescriptor.setSubjectContext(subjectContext);
+        this.valueChangesSupported = valueChangesSupported;
     }
 
     NamedResource getSubjectIdentifier() {
@@ -65,6 +80,54 @@ class AxiomValueGatherer {
         }
     }
 
+    boolean supportsValueChanges() {
+        return valueChangesSupported;
+    }
+
+    /**
+     * Adds values to insert and values to remove for the specified assertion.
+     * <p>
+     * Unlike {@link #addValues(Assertion, Collection, URI)}, other existing values of the assertion are kept.
+     *
+     * @param assertion Assertion
+     * @param added     Values to insert
+     * @param removed   Values to remove
+     * @param context   Context of the values
+     */
+    void addValueChanges(Assertion assertion, Set<Value<?>> added, Set<Value<?>> removed, URI context) {
+        assert valueChangesSupported;
+        if (!added.isEmpty()) {
+            if (valuesToAdd == null) {
+                this.valuesToAdd = new HashMap<>();
+            }
+            valuesToAdd.computeIfAbsent(context, k -> new HashMap<>()).put(assertion, added);
+        }
+        if (!removed.isEmpty()) {
+            if (valuesToRemove == null) {
+                this.valuesToRemove = new HashMap<>();
+            }
+            valuesToRemove.computeIfAbsent(context, k -> new HashMap<>()).put(assertion, removed);
+        }
+    }
+
+    /**
+     * Registers a callback to be invoked once the gathered values are successfully written into the storage.
+     *
+     * @param callback Callback to invoke
+     */
+    void afterWrite(Runnable callback) {
+        if (afterWrite == null) {
+            this.afterWrite = new ArrayList<>();
+        }
+        afterWrite.add(callback);
+    }
+
+    private void invokeAfterWrite() {
+        if (afterWrite != null) {
+            afterWrite.forEach(Runnable::run);
+        }
+    }
+
     void addSimpleListValues(SimpleListValueDescriptor listDescriptor) {
         simpleListDescriptors.add(listDescriptor);
     }
@@ -133,6 +196,7 @@ class AxiomValueGatherer {
             for (ReferencedListValueDescriptor d : referencedListDescriptors) {
                 connection.lists().persistReferencedList(d);
             }
+            invokeAfterWrite();
         } catch (OntoDriverException e) {
             throw new StorageAccessException(e);
         }
@@ -154,12 +218,23 @@ class AxiomValueGatherer {
                 connection.properties()
                           .removeProperties(axiomDescriptor.getSubject(), propertiesContext, propertiesToRemove);
             }
+            if (valuesToRemove != null) {
+                for (Map.Entry<URI, Map<Assertion, Set<Value<?>>>> e : valuesToRemove.entrySet()) {
+                    connection.properties().removeProperties(axiomDescriptor.getSubject(), e.getKey(), e.getValue());
+                }
+            }
+            if (valuesToAdd != null) {
+                for (Map.Entry<URI, Map<Assertion, Set<Value<?>>>> e : valuesToAdd.entrySet()) {
+                    connection.properties().addProperties(axiomDescriptor.getSubject(), e.getKey(), e.getValue());
+                }
+            }
             for (SimpleListValueDescriptor d : simpleListDescriptors) {
                 connection.lists().updateSimpleList(d);
             }
             for (ReferencedListValueDescriptor d : referencedListDescriptors) {
                 connection.lists().updateReferencedList(d);
             }
+            invokeAfterWrite();
         } catch (OntoDriverException e) {
             throw new StorageAccessException(e);
         }
@@ -14,9 +14,15 @@
  */
 package cz.cvut.kbss.jopa.oom;
 
+import cz.cvut.kbss.jopa.model.descriptors.Descriptor;
 import cz.cvut.kbss.jopa.model.metamodel.EntityType;
 import cz.cvut.kbss.jopa.sessions.LoadingParameters;
 
+import java.net.URI;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
 /**
  * Loads entities which do not require polymorphic handling.
  */
@@ -38,6 +44,14 @@ class DefaultInstanceLoader extends EntityInstanceLoader {
         return loadReferenceInstance(loadingParameters, et);
     }
 
+    @Override
+    <T> Map<URI, T> loadEntities(Class<T> cls, Collection<URI> identifiers, Descriptor descriptor) {
+        final EntityType<T> et = metamodel.entity(cls);
+        final Map<URI, EntityType<? extends T>> entityTypes = new LinkedHashMap<>(identifiers.size());
+        identifiers.forEach(id -> entityTypes.put(id, et));
+        return loadInstances(entityTypes, descriptor);
+    }
+
     static DefaultInstanceLoaderBuilder builder() {
         return new DefaultInstanceLoaderBuilder();
     }
@@ -153,6 +153,9 @@ class EntityConstructor {
 
     /**
      * Populate all query based attributes in the given instance.
+     * <p>
+     * Successful evaluations are recorded, so that the values may be reused when the instance is retrieved from the
+     * second level cache.
      *
      * @param instance the entity, whose attributes are to be populated
      * @param et       the entity class representation in the metamodel
@@ -164,14 +167,15 @@ class EntityConstructor {
         final Set<QueryAttribute<? super T, ?>> queryAttributes = et.getQueryAttributes();
 
         for (QueryAttribute<? super T, ?> queryAttribute : queryAttributes) {
-            if (queryAttribute.getFetchType() != FetchType.LAZY) {
-                populateQueryAttribute(instance, queryAttribute, queryFactory, et);
+            if (queryAttribute.getFetchType() != FetchType.LAZY &&
+                    populateQueryAttribute(instance, queryAttribute, queryFactory, et)) {
+                mapper.getUow().getQueryAttributeCache().recordEvaluation(instance, queryAttribute);
             }
         }
     }
 
-    private <T> void populateQueryAttribute(T instance, QueryAttribute<? super T, ?> queryAttribute,
-                                            SparqlQueryFactory queryFactory, EntityType<T> et) {
+    private <T> boolean populateQueryAttribute(T instance, QueryAttribute<? super T, ?> queryAttribute,
+                                               SparqlQueryFactory queryFactory, EntityType<T> et) {
         TypedQueryImpl<?> typedQuery;
         try {
             if (queryAttribute.isCollection()) {
@@ -186,7 +190,7 @@ class EntityConstructor {
             LOG.error("Could not create native query from the parameter given in annotation @Sparql:\n{}" +
                               "\nAttribute '{}' will be skipped.", queryAttribute.getQuery(),
                       queryAttribute.getJavaMember().getName(), e);
-            return;
+            return false;
         }
 
         setAttributeQueryParameters(instance, queryAttribute, typedQuery, et);
@@ -196,6 +200,7 @@ class EntityConstructor {
 
         qfs.addValueFromTypedQuery(typedQuery);
         qfs.buildInstanceFieldValue(instance);
+        return true;
     }
 
     private static <T> void setAttributeQueryParameters(T instance, QueryAttribute<? super T, ?> queryAtt,
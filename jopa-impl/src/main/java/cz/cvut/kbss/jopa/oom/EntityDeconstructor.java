@@ -22,6 +22,7 @@ import cz.cvut.kbss.jopa.oom.exceptions.EntityDeconstructionException;
 import cz.cvut.kbss.ontodriver.model.NamedResource;
 
 import java.net.URI;
+import java.util.Collection;
 
 class EntityDeconstructor {
 
@@ -59,6 +60,11 @@ class EntityDeconstructor {
         return new AxiomValueGatherer(NamedResource.create(identifier), descriptor.getSingleContext().orElse(null));
     }
 
+    private static AxiomValueGatherer createAxiomValueUpdateBuilder(URI identifier, Descriptor descriptor) {
+        return new AxiomValueGatherer(NamedResource.create(identifier), descriptor.getSingleContext().orElse(null),
+                true);
+    }
+
     private <T> void addAssertions(T entity, EntityType<T> et,
                                    FieldSpecification<? super T, ?> fieldSpec, Descriptor entityDescriptor,
                                    final AxiomValueGatherer valueBuilder) {
@@ -70,8 +76,18 @@ class EntityDeconstructor {
 
     <T> AxiomValueGatherer mapFieldToAxioms(URI primaryKey, T entity, FieldSpecification<? super T, ?> fieldSpec,
                                             EntityType<T> et, Descriptor descriptor) {
-        final AxiomValueGatherer valueBuilder = createAxiomValueBuilder(primaryKey, descriptor);
+        final AxiomValueGatherer valueBuilder = createAxiomValueUpdateBuilder(primaryKey, descriptor);
         addAssertions(entity, et, fieldSpec, descriptor, valueBuilder);
         return valueBuilder;
     }
+
+    <T> AxiomValueGatherer mapFieldsToAxioms(URI primaryKey, T entity,
+                                             Collection<? extends FieldSpecification<? super T, ?>> fieldSpecs,
+                                             EntityType<T> et, Descriptor descriptor) {
+        final AxiomValueGatherer valueBuilder = createAxiomValueUpdateBuilder(primaryKey, descriptor);
+        for (FieldSpecification<? super T, ?> fieldSpec : fieldSpecs) {
+            addAssertions(entity, et, fieldSpec, descriptor, valueBuilder);
+        }
+        return valueBuilder;
+    }
 }
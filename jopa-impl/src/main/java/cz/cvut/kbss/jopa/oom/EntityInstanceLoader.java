@@ -17,13 +17,10 @@ package cz.cvut.kbss.jopa.oom;
 import cz.cvut.kbss.jopa.exceptions.StorageAccessException;
 import cz.cvut.kbss.jopa.model.MetamodelImpl;
 import cz.cvut.kbss.jopa.model.descriptors.Descriptor;
-import cz.cvut.kbss.jopa.model.metamodel.Attribute;
 import cz.cvut.kbss.jopa.model.metamodel.EntityType;
-import cz.cvut.kbss.jopa.model.metamodel.PluralAttribute;
 import cz.cvut.kbss.jopa.oom.exceptions.EntityReconstructionException;
 import cz.cvut.kbss.jopa.sessions.CacheManager;
 import cz.cvut.kbss.jopa.sessions.LoadingParameters;
-import cz.cvut.kbss.jopa.utils.EntityPropertiesUtils;
 import cz.cvut.kbss.ontodriver.Connection;
 import cz.cvut.kbss.ontodriver.descriptor.AxiomDescriptor;
 import cz.cvut.kbss.ontodriver.exception.OntoDriverException;
@@ -31,10 +28,7 @@ import cz.cvut.kbss.ontodriver.model.Axiom;
 import cz.cvut.kbss.ontodriver.model.NamedResource;
 
 import java.net.URI;
-import java.util.Collection;
-import java.util.IdentityHashMap;
-import java.util.Map;
-import java.util.Objects;
+import java.util.*;
 
 /**
  * Root of the entity loading strategies.
@@ -83,11 +77,29 @@ abstract class EntityInstanceLoader {
      */
     abstract <T> T loadReference(LoadingParameters<T> loadingParameters);
 
+    /**
+     * Loads entities with the specified identifiers.
+     * <p>
+     * As opposed to calling {@link #loadEntity(LoadingParameters)} for each identifier, the entities are loaded from
+     * the storage in bulk.
+     *
+     * @param cls         Entity class
+     * @param identifiers Identifiers of the entities to load
+     * @param descriptor  Descriptor used to load all the entities
+     * @param <T>         Entity type
+     * @return Map of loaded instances, with iteration order following the specified identifiers. Instances which
+     * could not be loaded are not present in the result
+     */
+    abstract <T> Map<URI, T> loadEntities(Class<T> cls, Collection<URI> identifiers, Descriptor descriptor);
+
     <U extends T, T> U loadInstance(LoadingParameters<T> loadingParameters, EntityType<U> et) {
         final URI identifier = loadingParameters.getIdentifier();
         final Descriptor descriptor = loadingParameters.getDescriptor();
-        if (isCached(loadingParameters, et)) {
-            return loadCached(et, identifier, descriptor);
+        if (!loadingParameters.shouldBypassCache()) {
+            final U cached = loadCached(et, identifier, descriptor);
+            if (cached != null) {
+                return cached;
+            }
         }
         final AxiomDescriptor axiomDescriptor = descriptorFactory.createForEntityLoading(loadingParameters, et);
         try {
@@ -100,46 +112,50 @@ abstract class EntityInstanceLoader {
         }
     }
 
-    <T> boolean isCached(LoadingParameters<T> loadingParameters, EntityType<? extends T> et) {
-        return !loadingParameters.shouldBypassCache() &&
-                cache.contains(et.getJavaType(), loadingParameters.getIdentifier(), loadingParameters.getDescriptor());
-    }
-
-    <T> T loadCached(EntityType<T> et, URI identifier, Descriptor descriptor) {
-        final T cached = cache.get(et.getJavaType(), identifier, descriptor);
-        recursivelyReloadQueryAttributes(cached, et, new IdentityHashMap<>());
-        return cached;
+    <T> Map<URI, T> loadInstances(Map<URI, EntityType<? extends T>> entityTypes, Descriptor descriptor) {
+        final Map<URI, T> cached = new HashMap<>();
+        final List<AxiomDescriptor> toFind = new ArrayList<>(entityTypes.size());
+        entityTypes.forEach((identifier, et) -> {
+            final T cachedInstance = loadCached(et, identifier, descriptor);
+            if (cachedInstance != null) {
+                cached.put(identifier, cachedInstance);
+            } else {
+                toFind.add(descriptorFactory.createForEntityLoading(
+                        new LoadingParameters<>(et.getJavaType(), identifier, descriptor), et));
+            }
+        });
+        try {
+            final Map<NamedResource, Collection<Axiom<?>>> axioms =
+                    toFind.isEmpty() ? Collections.emptyMap() : storageConnection.findAll(toFind);
+            final Map<URI, T> result = new LinkedHashMap<>(entityTypes.size());
+            for (Map.Entry<URI, EntityType<? extends T>> e : entityTypes.entrySet()) {
+                final URI identifier = e.getKey();
+                if (cached.containsKey(identifier)) {
+                    result.put(identifier, cached.get(identifier));
+                    continue;
+                }
+                final Collection<Axiom<?>> subjectAxioms = axioms.get(NamedResource.create(identifier));
+                if (subjectAxioms != null && !subjectAxioms.isEmpty()) {
+                    result.put(identifier,
+                               entityBuilder.reconstructEntity(identifier, e.getValue(), descriptor, subjectAxioms));
+                }
+            }
+            return result;
+        } catch (OntoDriverException e) {
+            throw new StorageAccessException(e);
+        } catch (cz.cvut.kbss.jopa.exception.InstantiationException e) {
+            throw new EntityReconstructionException(e);
+        }
     }
 
     /**
-     * Recursively reloads query attribute values.
-     *
-     * @param instance Instance whose query attributes should be reloaded
-     * @param et       Entity type of the instance
-     * @param visited  Map of already visited objects to prevent infinite recursion
+     * Retrieves the instance from the second level cache.
+     * <p>
+     * Query attribute values of the cached instance are not re-evaluated here. Values which may no longer be reused are
+     * evaluated lazily when accessed on the managed instance.
      */
-    private void recursivelyReloadQueryAttributes(Object instance, EntityType<?> et, Map<Object, Object> visited) {
-        if (visited.containsKey(instance)) {
-            return;
-        }
-        visited.put(instance, null);
-        entityBuilder.populateQueryAttributes(instance, (EntityType<Object>) et);
-        et.getAttributes().stream().filter(Attribute::isAssociation).forEach(att -> {
-            final Class<?> cls = att.isCollection() ? ((PluralAttribute) att).getElementType()
-                    .getJavaType() : att.getJavaType();
-            if (!metamodel.isEntityType(cls)) {
-                return;
-            }
-            final Object value = EntityPropertiesUtils.getAttributeValue(att, instance);
-            if (value != null) {
-                // Resolve the value class instead of using the attribute type, as it may be a subclass at runtime
-                if (att.isCollection()) {
-                    ((Collection<?>) value).forEach(el -> recursivelyReloadQueryAttributes(el, metamodel.entity(el.getClass()), visited));
-                } else {
-                    recursivelyReloadQueryAttributes(value, metamodel.entity(value.getClass()), visited);
-                }
-            }
-        });
+    <T> T loadCached(EntityType<T> et, URI identifier, Descriptor descriptor) {
+        return cache.get(et.getJavaType(), identifier, descriptor);
     }
 
     <T> T loadReferenceInstance(LoadingParameters<T> loadingParameters, EntityType<? extends T> et) {
@@ -14,6 +14,8 @@
  */
 package cz.cvut.kbss.jopa.oom;
 
+import cz.cvut.kbss.jopa.adapters.ElementChanges;
+import cz.cvut.kbss.jopa.adapters.IndirectCollection;
 import cz.cvut.kbss.jopa.model.MultilingualString;
 import cz.cvut.kbss.jopa.model.descriptors.Descriptor;
 import cz.cvut.kbss.jopa.model.metamodel.*;
@@ -22,8 +24,12 @@ import cz.cvut.kbss.ontodriver.model.*;
 
 import java.net.URI;
 import java.util.Collection;
+import java.util.HashSet;
+import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * @param <T> The attribute specification type, e.g. {@link SingularAttribute}, {@link ListAttribute}
@@ -178,7 +184,7 @@ abstract class FieldStrategy<T extends FieldSpecification<? super X, ?>, X> {
      * Note that this method assumes the value and the field are of compatible types, no check is done here.
      */
     void setValueOnInstance(Object instance, Object value) {
-        EntityPropertiesUtils.setFieldValue(attribute.getJavaField(), instance, value);
+        EntityPropertiesUtils.setAttributeValue(attribute, instance, value);
     }
 
     /**
@@ -265,6 +271,66 @@ abstract class FieldStrategy<T extends FieldSpecification<? super X, ?>, X> {
      */
     abstract Collection<Value<?>> toAxiomValue(Object value);
 
+    /**
+     * Resolves changes of elements of the specified collection attribute value since it was last written into the
+     * storage.
+     * <p>
+     * The changes are available only if the instance is being updated and the value is an indirect collection which
+     * knows its element changes. If the value is an indirect collection, its changes are reset once the gathered
+     * values are written.
+     *
+     * @param instance     Instance whose attribute value is written
+     * @param value        Attribute value
+     * @param valueBuilder Gatherer of the written values
+     * @return Element changes, empty if the whole value has to be written
+     */
+    Optional<ElementChanges> resolveElementChanges(X instance, Collection<?> value, AxiomValueGatherer valueBuilder) {
+        if (!(value instanceof IndirectCollection)) {
+            return Optional.empty();
+        }
+        final IndirectCollection<?> collection = (IndirectCollection<?>) value;
+        valueBuilder.afterWrite(() -> collection.resetElementChanges(instance));
+        return valueBuilder.supportsValueChanges() ? collection.getElementChanges(instance) : Optional.empty();
+    }
+
+    /**
+     * Gets elements added to the specified collection which are still present in it.
+     */
+    static Stream<Object> addedElements(ElementChanges changes, Collection<?> value) {
+        final Collection<?> current = value instanceof Set ? value : new HashSet<>(value);
+        return changes.getAdded().stream().filter(Objects::nonNull).filter(current::contains);
+    }
+
+    /**
+     * Gets elements removed from the specified collection which are no longer present in it.
+     * <p>
+     * Lists may contain duplicates, so an element may have been removed and still be present.
+     */
+    static Stream<Object> removedElements(ElementChanges changes, Collection<?> value) {
+        final Collection<?> current = value instanceof Set ? value : new HashSet<>(value);
+        return changes.getRemoved().stream().filter(Objects::nonNull).filter(e -> !current.contains(e));
+    }
+
+    /**
+     * Adds changes of values of the attribute represented by this strategy to the specified value gatherer.
+     * <p>
+     * The elements are transformed using {@link #toAxiomValue(Object)}.
+     *
+     * @param changes      Element changes
+     * @param value        Current attribute value
+     * @param valueBuilder Value gatherer
+     */
+    void addElementChanges(ElementChanges changes, Collection<?> value, AxiomValueGatherer valueBuilder) {
+        final Set<Value<?>> added = addedElements(changes, value).map(this::toAxiomValue).flatMap(Collection::stream)
+                                                                 .collect(Collectors.toSet());
+        final Set<Value<?>> removed = removedElements(changes, value).map(this::toAxiomValue)
+                                                                     .flatMap(Collection::stream)
+                                                                     .collect(Collectors.toSet());
+        valueBuilder.addValueChanges(createAssertion(),
+                filterOutInferredValues(valueBuilder.getSubjectIdentifier(), added), removed,
+                getAttributeWriteContext());
+    }
+
     /**
      * Returns only values that are not inferred in the repository for the specified subject.
      * <p>
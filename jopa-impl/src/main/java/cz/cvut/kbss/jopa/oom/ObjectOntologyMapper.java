@@ -21,6 +21,8 @@ import cz.cvut.kbss.jopa.sessions.LoadingParameters;
 import cz.cvut.kbss.ontodriver.model.Axiom;
 
 import java.net.URI;
+import java.util.Collection;
+import java.util.Map;
 import java.util.Set;
 
 public interface ObjectOntologyMapper {
@@ -55,6 +57,21 @@ public interface ObjectOntologyMapper {
      */
     <T> T loadReference(LoadingParameters<T> loadingParameters);
 
+    /**
+     * Loads and reconstructs entities with the specified identifiers from the ontology.
+     * <p>
+     * The entities are loaded from the storage in bulk, which requires less storage round trips than loading them one
+     * by one.
+     *
+     * @param cls         Entity class
+     * @param identifiers Identifiers of entities to load
+     * @param descriptor  Descriptor used to load all the entities
+     * @param <T>         Entity type
+     * @return Map of reconstructed entities, with iteration order following the order of the specified identifiers.
+     * Entities which do not exist are not present in the result
+     */
+    <T> Map<URI, T> loadEntities(Class<T> cls, Collection<URI> identifiers, Descriptor descriptor);
+
     /**
      * Loads entity field value and sets it on the specified entity.
      *
@@ -98,6 +115,19 @@ public interface ObjectOntologyMapper {
      */
     <T> void updateFieldValue(T entity, FieldSpecification<? super T, ?> fieldSpec, Descriptor descriptor);
 
+    /**
+     * Sets values of properties represented by the specified fields to the fields' values.
+     * <p>
+     * As opposed to calling {@link #updateFieldValue(Object, FieldSpecification, Descriptor)} for each of the fields,
+     * all the values are written into the storage in one batch.
+     *
+     * @param entity     Entity containing the fields
+     * @param fieldSpecs The fields to update
+     * @param descriptor Optionally specifies context
+     */
+    <T> void updateFieldValues(T entity, Collection<? extends FieldSpecification<? super T, ?>> fieldSpecs,
+                               Descriptor descriptor);
+
     /**
      * Extracts the value of the specified field from the specified entity and transforms it to axioms.
      *
@@ -14,6 +14,7 @@
  */
 package cz.cvut.kbss.jopa.oom;
 
+import cz.cvut.kbss.jopa.adapters.IndirectCollection;
 import cz.cvut.kbss.jopa.exceptions.StorageAccessException;
 import cz.cvut.kbss.jopa.model.descriptors.Descriptor;
 import cz.cvut.kbss.jopa.model.metamodel.*;
@@ -113,6 +114,24 @@ public class ObjectOntologyMapperImpl implements ObjectOntologyMapper, EntityMap
         return result;
     }
 
+    @Override
+    public <T> Map<URI, T> loadEntities(Class<T> cls, Collection<URI> identifiers, Descriptor descriptor) {
+        assert cls != null;
+        assert identifiers != null;
+        assert descriptor != null;
+
+        this.instanceRegistry = new HashMap<>();
+        final IdentifiableEntityType<T> et = getEntityType(cls);
+        final Map<URI, T> result;
+        if (et.hasSubtypes()) {
+            result = twoStepInstanceLoader.loadEntities(cls, identifiers, descriptor);
+        } else {
+            result = defaultInstanceLoader.loadEntities(cls, identifiers, descriptor);
+        }
+        result.forEach((identifier, instance) -> cache.add(identifier, instance, descriptor));
+        return result;
+    }
+
     @Override
     public <T> T loadReference(LoadingParameters<T> loadingParameters) {
         assert loadingParameters != null;
@@ -222,8 +241,9 @@ public class ObjectOntologyMapperImpl implements ObjectOntologyMapper, EntityMap
         if (orig != null) {
             return orig;
         }
-        if (cache.contains(cls, identifier, descriptor)) {
-            return defaultInstanceLoader.loadCached(getEntityType(cls), identifier, descriptor);
+        final T cached = cache.get(cls, identifier, descriptor);
+        if (cached != null) {
+            return cached;
         } else if (instanceRegistry.containsKey(identifier)) {
             final Object existing = instanceRegistry.get(identifier);
             if (!cls.isAssignableFrom(existing.getClass())) {
@@ -263,6 +283,10 @@ public class ObjectOntologyMapperImpl implements ObjectOntologyMapper, EntityMap
         pendingReferences.addPendingAssertion(owner, assertion, object, context);
     }
 
+    void removePendingAssertion(NamedResource owner, Assertion assertion, Object object) {
+        pendingReferences.removePendingAssertion(owner, assertion, object);
+    }
+
     void registerPendingListReference(Object item, ListValueDescriptor listDescriptor, List<?> values) {
         pendingReferences.addPendingListReference(item, listDescriptor, values);
     }
@@ -288,14 +312,27 @@ public class ObjectOntologyMapperImpl implements ObjectOntologyMapper, EntityMap
 
         entityBreaker.setReferenceSavingResolver(new ReferenceSavingResolver(this));
         // It is OK to do it like this, because if necessary, the mapping will re-register a pending assertion
-        removePendingAssertions(fieldSpec, pkUri);
+        removePendingAssertions(entity, fieldSpec, pkUri);
         final AxiomValueGatherer axiomBuilder =
                 entityBreaker.mapFieldToAxioms(pkUri, entity, fieldSpec, et, entityDescriptor);
         axiomBuilder.update(storageConnection);
     }
 
-    private <T> void removePendingAssertions(FieldSpecification<? super T, ?> fs, URI identifier) {
-        if (fs instanceof Attribute) {
+    @Override
+    public <T> void updateFieldValues(T entity, Collection<? extends FieldSpecification<? super T, ?>> fieldSpecs,
+                                      Descriptor entityDescriptor) {
+        @SuppressWarnings("unchecked") final EntityType<T> et = (EntityType<T>) getEntityType(entity.getClass());
+        final URI pkUri = EntityPropertiesUtils.getIdentifier(entity, et);
+
+        entityBreaker.setReferenceSavingResolver(new ReferenceSavingResolver(this));
+        fieldSpecs.forEach(fs -> removePendingAssertions(entity, fs, pkUri));
+        final AxiomValueGatherer axiomBuilder =
+                entityBreaker.mapFieldsToAxioms(pkUri, entity, fieldSpecs, et, entityDescriptor);
+        axiomBuilder.update(storageConnection);
+    }
+
+    private <T> void removePendingAssertions(T entity, FieldSpecification<? super T, ?> fs, URI identifier) {
+        if (fs instanceof Attribute && !hasKnownElementChanges(entity, fs)) {
             final Attribute<?, ?> att = (Attribute<?, ?>) fs;
             // We care only about object property assertions, others are never pending
             final Assertion assertion = Assertion.createObjectPropertyAssertion(att.getIRI().toURI(), att.isInferred());
@@ -303,6 +340,21 @@ public class ObjectOntologyMapperImpl implements ObjectOntologyMapper, EntityMap
         }
     }
 
+    /**
+     * Only changed elements of object property sets with known element changes are written, so pending assertions of
+     * the other elements have to be kept.
+     */
+    private static <T> boolean hasKnownElementChanges(T entity, FieldSpecification<? super T, ?> fs) {
+        if (!(fs instanceof PluralAttribute) ||
+                ((PluralAttribute<?, ?, ?>) fs).getPersistentAttributeType() != Attribute.PersistentAttributeType.OBJECT ||
+                ((PluralAttribute<?, ?, ?>) fs).getCollectionType() == CollectionType.LIST) {
+            return false;
+        }
+        final Object value = EntityPropertiesUtils.getAttributeValue(fs, entity);
+        return value instanceof IndirectCollection && ((IndirectCollection<?>) value).getElementChanges(entity)
+                                                                                     .isPresent();
+    }
+
     @Override
     public Collection<Axiom<NamedResource>> loadSimpleList(SimpleListDescriptor listDescriptor) {
         try {
@@ -175,6 +175,24 @@ class PendingReferenceRegistry {
                 desc -> desc.getListOwner().equals(subject) && desc.getListProperty().equals(assertion));
     }
 
+    /**
+     * Removes pending assertion of the specified object by the specified subject.
+     *
+     * @param subject   Assertion subject
+     * @param assertion The assertion
+     * @param object    Value of the assertion
+     */
+    void removePendingAssertion(NamedResource subject, Assertion assertion, Object object) {
+        final Set<PendingAssertion> pending = pendingAssertions.get(object);
+        if (pending == null) {
+            return;
+        }
+        pending.removeIf(item -> item.getOwner().equals(subject) && item.getAssertion().equals(assertion));
+        if (pending.isEmpty()) {
+            pendingAssertions.remove(object);
+        }
+    }
+
     static class PendingListReference {
         private final ListValueDescriptor descriptor;
         private final List<?> values;
@@ -14,6 +14,7 @@
  */
 package cz.cvut.kbss.jopa.oom;
 
+import cz.cvut.kbss.jopa.adapters.ElementChanges;
 import cz.cvut.kbss.jopa.model.MultilingualString;
 import cz.cvut.kbss.jopa.model.descriptors.Descriptor;
 import cz.cvut.kbss.jopa.model.metamodel.AbstractPluralAttribute;
@@ -28,6 +29,7 @@ import cz.cvut.kbss.ontodriver.model.Value;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
 import java.util.function.Function;
 import java.util.stream.Collectors;
@@ -56,7 +58,10 @@ class PluralAnnotationPropertyStrategy<X> extends PluralDataPropertyStrategy<X>
         final Object value = extractFieldValueFromInstance(instance);
         assert value instanceof Collection || value == null;
         final Collection<?> valueCollection = (Collection<?>) value;
-        if (valueCollection == null || valueCollection.isEmpty()) {
+        final Optional<ElementChanges> changes = resolveElementChanges(instance, valueCollection, valueBuilder);
+        if (changes.isPresent()) {
+            addElementChanges(changes.get(), valueCollection, valueBuilder);
+        } else if (valueCollection == null || valueCollection.isEmpty()) {
             valueBuilder.addValue(createAssertion(), Value.nullValue(), getAttributeWriteContext());
         } else {
             final Function<Object, Collection<Value<?>>> mapper = resolveValueMapper();
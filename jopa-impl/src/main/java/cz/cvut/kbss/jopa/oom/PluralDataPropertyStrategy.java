@@ -14,6 +14,7 @@
  */
 package cz.cvut.kbss.jopa.oom;
 
+import cz.cvut.kbss.jopa.adapters.ElementChanges;
 import cz.cvut.kbss.jopa.model.descriptors.Descriptor;
 import cz.cvut.kbss.jopa.model.metamodel.AbstractPluralAttribute;
 import cz.cvut.kbss.jopa.model.metamodel.EntityType;
@@ -24,6 +25,7 @@ import cz.cvut.kbss.ontodriver.model.*;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -65,7 +67,10 @@ class PluralDataPropertyStrategy<X> extends DataPropertyFieldStrategy<AbstractPl
         final Object value = extractFieldValueFromInstance(instance);
         assert value instanceof Collection || value == null;
         final Collection<?> valueCollection = (Collection<?>) value;
-        if (valueCollection == null || valueCollection.isEmpty()) {
+        final Optional<ElementChanges> changes = resolveElementChanges(instance, valueCollection, valueBuilder);
+        if (changes.isPresent()) {
+            addElementChanges(changes.get(), valueCollection, valueBuilder);
+        } else if (valueCollection == null || valueCollection.isEmpty()) {
             valueBuilder.addValue(createAssertion(), Value.nullValue(), getAttributeWriteContext());
         } else {
             final Set<Value<?>> assertionValues = valueCollection.stream()
@@ -84,6 +84,17 @@ class ReferenceSavingResolver {
         mapper.registerPendingAssertion(subject, assertion, object, context);
     }
 
+    /**
+     * Removes a pending assertion (if it exists) from the mapper.
+     *
+     * @param subject   Subject of the assertion
+     * @param assertion Assertion representing the property
+     * @param object    Value of the assertion (object)
+     */
+    void removePendingReference(NamedResource subject, Assertion assertion, Object object) {
+        mapper.removePendingAssertion(subject, assertion, object);
+    }
+
     /**
      * Registers a pending reference to a list (simple or referenced).
      * <p>
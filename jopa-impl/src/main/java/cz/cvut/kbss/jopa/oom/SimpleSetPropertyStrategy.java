@@ -14,11 +14,13 @@
  */
 package cz.cvut.kbss.jopa.oom;
 
+import cz.cvut.kbss.jopa.adapters.ElementChanges;
 import cz.cvut.kbss.jopa.model.descriptors.Descriptor;
 import cz.cvut.kbss.jopa.model.metamodel.AbstractPluralAttribute;
 import cz.cvut.kbss.jopa.model.metamodel.EntityType;
 import cz.cvut.kbss.jopa.utils.EntityPropertiesUtils;
 import cz.cvut.kbss.jopa.utils.IdentifierTransformer;
+import cz.cvut.kbss.ontodriver.model.Assertion;
 import cz.cvut.kbss.ontodriver.model.NamedResource;
 import cz.cvut.kbss.ontodriver.model.Value;
 
@@ -26,6 +28,7 @@ import java.net.URI;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
 
 class SimpleSetPropertyStrategy<X> extends PluralObjectPropertyStrategy<AbstractPluralAttribute<? super X, ?, ?>, X> {
@@ -40,7 +43,44 @@ class SimpleSetPropertyStrategy<X> extends PluralObjectPropertyStrategy<Abstract
         final Object value = extractFieldValueFromInstance(instance);
         assert value instanceof Collection || value == null;
         final Collection<?> valueCollection = (Collection<?>) value;
-        extractValues(valueCollection, valueBuilder);
+        final Optional<ElementChanges> changes = resolveElementChanges(instance, valueCollection, valueBuilder);
+        if (changes.isPresent()) {
+            extractValueChanges(changes.get(), valueCollection, valueBuilder);
+        } else {
+            extractValues(valueCollection, valueBuilder);
+        }
+    }
+
+    private void extractValueChanges(ElementChanges changes, Collection<?> valueCollection,
+                                     AxiomValueGatherer valueBuilder) {
+        final Class<?> elemType = attribute.getBindableJavaType();
+        if (IdentifierTransformer.isValidIdentifierType(elemType) || elemType.isEnum()) {
+            addElementChanges(changes, valueCollection, valueBuilder);
+            return;
+        }
+        final EntityType<Object> et = (EntityType<Object>) mapper.getEntityType(elemType);
+        final NamedResource subject = valueBuilder.getSubjectIdentifier();
+        final Assertion assertion = createAssertion();
+        final Set<Value<?>> added = new HashSet<>();
+        addedElements(changes, valueCollection).forEach(val -> {
+            if (referenceSavingResolver.shouldSaveReferenceToItem(val, getAttributeValueContexts())) {
+                final URI valId = EntityPropertiesUtils.getIdentifier(val, et);
+                assert valId != null;
+                added.add(new Value<>(NamedResource.create(valId)));
+            } else {
+                referenceSavingResolver.registerPendingReference(subject, assertion, val, getAttributeWriteContext());
+            }
+        });
+        final Set<Value<?>> removed = new HashSet<>();
+        removedElements(changes, valueCollection).forEach(val -> {
+            referenceSavingResolver.removePendingReference(subject, assertion, val);
+            final URI valId = EntityPropertiesUtils.getIdentifier(val, et);
+            if (valId != null) {
+                removed.add(new Value<>(NamedResource.create(valId)));
+            }
+        });
+        valueBuilder.addValueChanges(assertion, filterOutInferredValues(subject, added), removed,
+                                     getAttributeWriteContext());
     }
 
     private <T> void extractValues(Collection<T> valueCollection, AxiomValueGatherer valueBuilder) {
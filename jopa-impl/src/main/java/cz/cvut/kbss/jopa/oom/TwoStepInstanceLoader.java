@@ -16,17 +16,18 @@ package cz.cvut.kbss.jopa.oom;
 
 import cz.cvut.kbss.jopa.exception.InstantiationException;
 import cz.cvut.kbss.jopa.exceptions.StorageAccessException;
+import cz.cvut.kbss.jopa.model.descriptors.Descriptor;
 import cz.cvut.kbss.jopa.model.metamodel.EntityType;
 import cz.cvut.kbss.jopa.model.metamodel.IdentifiableEntityType;
 import cz.cvut.kbss.jopa.oom.exceptions.EntityReconstructionException;
 import cz.cvut.kbss.jopa.oom.metamodel.PolymorphicEntityTypeResolver;
 import cz.cvut.kbss.jopa.sessions.LoadingParameters;
+import cz.cvut.kbss.ontodriver.descriptor.AxiomDescriptor;
 import cz.cvut.kbss.ontodriver.exception.OntoDriverException;
-import cz.cvut.kbss.ontodriver.model.Axiom;
-import cz.cvut.kbss.ontodriver.model.NamedResource;
+import cz.cvut.kbss.ontodriver.model.*;
 
 import java.net.URI;
-import java.util.Set;
+import java.util.*;
 
 class TwoStepInstanceLoader extends EntityInstanceLoader {
 
@@ -69,6 +70,46 @@ class TwoStepInstanceLoader extends EntityInstanceLoader {
         return new PolymorphicEntityTypeResolver<>(individual, rootEt, types).determineActualEntityType();
     }
 
+    @Override
+    <T> Map<URI, T> loadEntities(Class<T> cls, Collection<URI> identifiers, Descriptor descriptor) {
+        final IdentifiableEntityType<T> rootEt = metamodel.entity(cls);
+        final List<AxiomDescriptor> typeDescriptors = new ArrayList<>(identifiers.size());
+        for (URI identifier : identifiers) {
+            final AxiomDescriptor desc = new AxiomDescriptor(NamedResource.create(identifier));
+            descriptor.getContexts().forEach(desc::addSubjectContext);
+            desc.addAssertion(Assertion.createClassAssertion(false));
+            typeDescriptors.add(desc);
+        }
+        try {
+            final Map<NamedResource, Collection<Axiom<?>>> typeAxioms = storageConnection.findAll(typeDescriptors);
+            final Map<URI, EntityType<? extends T>> entityTypes = new LinkedHashMap<>(identifiers.size());
+            for (URI identifier : identifiers) {
+                final NamedResource individual = NamedResource.create(identifier);
+                final Set<Axiom<URI>> types = toTypeAxioms(typeAxioms.getOrDefault(individual,
+                                                                                   Collections.emptySet()));
+                final EntityType<? extends T> et =
+                        new PolymorphicEntityTypeResolver<>(individual, rootEt, types).determineActualEntityType();
+                if (et != null) {
+                    entityTypes.put(identifier, et);
+                }
+            }
+            return loadInstances(entityTypes, descriptor);
+        } catch (OntoDriverException e) {
+            throw new StorageAccessException(e);
+        }
+    }
+
+    private static Set<Axiom<URI>> toTypeAxioms(Collection<Axiom<?>> classAssertions) {
+        final Set<Axiom<URI>> result = new HashSet<>(classAssertions.size());
+        for (Axiom<?> ax : classAssertions) {
+            final Object value = ax.getValue().getValue();
+            final URI type = value instanceof NamedResource ? ((NamedResource) value).getIdentifier() :
+                             URI.create(value.toString());
+            result.add(new AxiomImpl<>(ax.getSubject(), ax.getAssertion(), new Value<>(type)));
+        }
+        return result;
+    }
+
     static TwoStepInstanceLoaderBuilder builder() {
         return new TwoStepInstanceLoaderBuilder();
     }
@@ -38,6 +38,19 @@ public class QueryHints {
      */
     public static final String TARGET_ONTOLOGY = "cz.cvut.kbss.jopa.query.targetOntology";
 
+    /**
+     * Allows to specify the number of entities loaded together when processing results of a typed query whose result
+     * type is an entity.
+     * <p>
+     * Instead of loading result entities one by one, identifiers of the results are gathered into batches of the
+     * specified size and entities corresponding to each batch are loaded from the repository in bulk. This
+     * significantly reduces the number of repository accesses for queries with many results.
+     * <p>
+     * The value is a positive integer. The default value is {@literal 1}, which means that entities are loaded one by
+     * one.
+     */
+    public static final String BATCH_SIZE = "cz.cvut.kbss.jopa.query.batchSize";
+
     private QueryHints() {
         throw new AssertionError();
     }
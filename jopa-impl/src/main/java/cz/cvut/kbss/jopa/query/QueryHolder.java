@@ -16,6 +16,8 @@ package cz.cvut.kbss.jopa.query;
 
 import cz.cvut.kbss.jopa.model.query.Parameter;
 
+import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 
 /**
@@ -148,6 +150,14 @@ public interface QueryHolder {
      */
     int getMaxResults();
 
+    /**
+     * Restricts the query results to those whose sort key follows the specified one.
+     *
+     * @param lastSortKey Sort key of the last result of the previous page, {@code null} to clear the restriction
+     * @throws IllegalStateException If the query does not support keyset pagination
+     */
+    void setPageAfter(Object lastSortKey);
+
     /**
      * Clears any previously set value of the specified parameter.
      *
@@ -167,4 +177,29 @@ public interface QueryHolder {
      * @return Assembled query
      */
     String assembleQuery();
+
+    /**
+     * Gets values of the set parameters in a form in which they can be bound to the query variables by the driver.
+     * <p>
+     * This is possible only if all the set parameters are named variables whose values can be bound natively, i.e.,
+     * without being inserted into the query string.
+     *
+     * @return Map of parameter names to bindable values, empty if the parameter values cannot be bound natively
+     * @see #assembleQueryForBinding()
+     */
+    default Optional<Map<String, Object>> getBindableParameterValues() {
+        return Optional.empty();
+    }
+
+    /**
+     * Assembles the query for execution with natively bound parameter values.
+     * <p>
+     * Parameters whose values are bound are left in the query as variables.
+     *
+     * @return Assembled query
+     * @see #getBindableParameterValues()
+     */
+    default String assembleQueryForBinding() {
+        return assembleQuery();
+    }
 }
@@ -0,0 +1,162 @@
+/**
+ * Copyright (C) 2023 Czech Technical University in Prague
+ *
+ * This program is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any
+ * later version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more
+ * details. You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package cz.cvut.kbss.jopa.query;
+
+import cz.cvut.kbss.jopa.model.JOPAPersistenceProperties;
+import cz.cvut.kbss.jopa.query.sparql.QueryTemplate;
+import cz.cvut.kbss.jopa.utils.Configuration;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/**
+ * Bounded thread-safe cache of parsed query templates.
+ * <p>
+ * It is shared by all persistence contexts of a persistence unit, so that repeatedly executed queries do not have to
+ * be parsed over and over again.
+ * <p>
+ * When the cache is full, an arbitrary entry is evicted to make room for a new one.
+ */
+public class QueryPlanCache {
+
+    private static final Logger LOG = LoggerFactory.getLogger(QueryPlanCache.class);
+
+    /**
+     * Default maximum number of cached query templates.
+     */
+    public static final int DEFAULT_CAPACITY = 256;
+
+    /**
+     * Language of the cached query.
+     */
+    public enum Language {
+        SPARQL, SOQL
+    }
+
+    private final int capacity;
+
+    private final ConcurrentMap<Key, QueryTemplate> templates = new ConcurrentHashMap<>();
+
+    public QueryPlanCache(int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("Query plan cache capacity must not be negative.");
+        }
+        this.capacity = capacity;
+    }
+
+    public QueryPlanCache(Configuration configuration) {
+        this(resolveCapacity(configuration));
+    }
+
+    private static int resolveCapacity(Configuration configuration) {
+        if (!configuration.contains(JOPAPersistenceProperties.QUERY_PLAN_CACHE_CAPACITY)) {
+            return DEFAULT_CAPACITY;
+        }
+        try {
+            final int capacity =
+                    Integer.parseInt(configuration.get(JOPAPersistenceProperties.QUERY_PLAN_CACHE_CAPACITY));
+            if (capacity >= 0) {
+                return capacity;
+            }
+            LOG.warn("Invalid query plan cache capacity value {}. Using default value.", capacity);
+        } catch (NumberFormatException e) {
+            LOG.error("Unable to parse query plan cache capacity setting. Using default capacity {}.",
+                      DEFAULT_CAPACITY);
+        }
+        return DEFAULT_CAPACITY;
+    }
+
+    /**
+     * Gets template of the specified query, compiling it using the specified compiler if it is not cached.
+     *
+     * @param language Query language
+     * @param query    Query string
+     * @param compiler Compiles the query when it is not in the cache
+     * @return Query template
+     */
+    public QueryTemplate get(Language language, String query, Supplier<QueryTemplate> compiler) {
+        Objects.requireNonNull(query);
+        if (capacity == 0) {
+            return compiler.get();
+        }
+        final Key key = new Key(language, query);
+        final QueryTemplate cached = templates.get(key);
+        if (cached != null) {
+            return cached;
+        }
+        final QueryTemplate template = compiler.get();
+        if (templates.size() >= capacity) {
+            evictOne();
+        }
+        templates.putIfAbsent(key, template);
+        return template;
+    }
+
+    private void evictOne() {
+        final Iterator<Key> it = templates.keySet().iterator();
+        if (it.hasNext()) {
+            it.next();
+            it.remove();
+        }
+    }
+
+    /**
+     * Gets the number of cached query templates.
+     *
+     * @return Cache size
+     */
+    public int size() {
+        return templates.size();
+    }
+
+    /**
+     * Removes all cached query templates.
+     */
+    public void clear() {
+        templates.clear();
+    }
+
+    private static final class Key {
+        private final Language language;
+        private final String query;
+
+        private Key(Language language, String query) {
+            this.language = language;
+            this.query = query;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            final Key key = (Key) o;
+            return language == key.language && query.equals(key.query);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * language.hashCode() + query.hashCode();
+        }
+    }
+}
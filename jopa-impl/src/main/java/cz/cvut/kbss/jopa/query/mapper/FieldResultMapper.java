@@ -67,7 +67,7 @@ class FieldResultMapper {
     void map(ResultRow resultRow, Object target, UnitOfWork uow) {
         final Optional<Object> value = getVariableValue(resultRow);
         value.ifPresent(
-                val -> EntityPropertiesUtils.setFieldValue(fieldSpec.getJavaField(), target, resolveValue(val)));
+                val -> EntityPropertiesUtils.setAttributeValue(fieldSpec, target, resolveValue(val)));
     }
 
     Optional<Object> getVariableValue(ResultRow resultRow) {
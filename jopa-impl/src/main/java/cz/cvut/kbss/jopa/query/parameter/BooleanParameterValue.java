@@ -17,6 +17,7 @@ package cz.cvut.kbss.jopa.query.parameter;
 import cz.cvut.kbss.jopa.vocabulary.XSD;
 
 import java.util.Objects;
+import java.util.Optional;
 
 class BooleanParameterValue extends AbstractParameterValue {
 
@@ -35,4 +36,9 @@ class BooleanParameterValue extends AbstractParameterValue {
     public String getQueryString() {
         return "\"" + value + "\"^^<" + XSD.BOOLEAN + ">";
     }
+
+    @Override
+    public Optional<Object> getBindableValue() {
+        return Optional.of(value);
+    }
 }
@@ -18,6 +18,7 @@ import cz.cvut.kbss.jopa.datatype.xsd.XsdTemporalMapper;
 
 import java.time.temporal.TemporalAmount;
 import java.util.Objects;
+import java.util.Optional;
 
 /**
  * Duration query parameter value representation.
@@ -41,4 +42,9 @@ public class DurationParameterValue extends AbstractParameterValue {
     public String getQueryString() {
         return XsdTemporalMapper.map(value).toString();
     }
+
+    @Override
+    public Optional<Object> getBindableValue() {
+        return Optional.of(value);
+    }
 }
@@ -16,8 +16,10 @@ package cz.cvut.kbss.jopa.query.parameter;
 
 import cz.cvut.kbss.jopa.sessions.MetamodelProvider;
 import cz.cvut.kbss.jopa.utils.EntityPropertiesUtils;
+import cz.cvut.kbss.jopa.utils.IdentifierTransformer;
 
 import java.util.Objects;
+import java.util.Optional;
 
 class EntityParameterValue extends AbstractParameterValue {
 
@@ -40,4 +42,10 @@ class EntityParameterValue extends AbstractParameterValue {
     public String getQueryString() {
         return "<" + EntityPropertiesUtils.getIdentifier(value, metamodelProvider.getMetamodel()) + ">";
     }
+
+    @Override
+    public Optional<Object> getBindableValue() {
+        return Optional.ofNullable(EntityPropertiesUtils.getIdentifier(value, metamodelProvider.getMetamodel()))
+                       .map(IdentifierTransformer::valueAsUri);
+    }
 }
@@ -17,6 +17,7 @@ package cz.cvut.kbss.jopa.query.parameter;
 import cz.cvut.kbss.jopa.vocabulary.XSD;
 
 import java.util.Objects;
+import java.util.Optional;
 
 class FloatParameterValue extends AbstractParameterValue {
 
@@ -35,4 +36,9 @@ class FloatParameterValue extends AbstractParameterValue {
     public String getQueryString() {
         return "\"" + value + "\"^^<" + XSD.FLOAT + ">";
     }
+
+    @Override
+    public Optional<Object> getBindableValue() {
+        return Optional.of(value);
+    }
 }
@@ -17,6 +17,7 @@ package cz.cvut.kbss.jopa.query.parameter;
 import cz.cvut.kbss.jopa.vocabulary.XSD;
 
 import java.util.Objects;
+import java.util.Optional;
 
 class LongParameterValue extends AbstractParameterValue {
 
@@ -35,4 +36,9 @@ class LongParameterValue extends AbstractParameterValue {
     public String getQueryString() {
         return "\"" + value + "\"^^<" + XSD.LONG + ">";
     }
+
+    @Override
+    public Optional<Object> getBindableValue() {
+        return Optional.of(value);
+    }
 }
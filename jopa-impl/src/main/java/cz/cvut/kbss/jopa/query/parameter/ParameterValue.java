@@ -14,6 +14,8 @@
  */
 package cz.cvut.kbss.jopa.query.parameter;
 
+import java.util.Optional;
+
 /**
  * Query parameter value holder.
  */
@@ -33,6 +35,19 @@ public interface ParameterValue {
      */
     String getQueryString();
 
+    /**
+     * Gets this parameter value in a form which can be bound to a query variable by the driver, without being
+     * inserted into the query string.
+     * <p>
+     * Only simple values (resource identifiers and literals) can be bound.
+     *
+     * @return Bindable value, empty if this value has to be inserted directly into the query string
+     * @see cz.cvut.kbss.ontodriver.PreparedStatement#bindValue(String, Object)
+     */
+    default Optional<Object> getBindableValue() {
+        return Optional.empty();
+    }
+
     /**
      * Whether this parameter value is set or it represents just the parameter identification.
      *
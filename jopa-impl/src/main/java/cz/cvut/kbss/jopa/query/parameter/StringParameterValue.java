@@ -15,8 +15,10 @@
 package cz.cvut.kbss.jopa.query.parameter;
 
 import cz.cvut.kbss.ontodriver.model.LangString;
+import cz.cvut.kbss.ontodriver.util.SparqlUtils;
 
 import java.util.Objects;
+import java.util.Optional;
 
 class StringParameterValue extends AbstractParameterValue {
 
@@ -50,50 +52,11 @@ class StringParameterValue extends AbstractParameterValue {
 
     @Override
     public String getQueryString() {
-        return "\"" + getEscapedValue() + "\"" + (language != null ? ("@" + language) : "");
+        return "\"" + SparqlUtils.escapeStringLiteral(value) + "\"" + (language != null ? ("@" + language) : "");
     }
 
-    /**
-     * Escapes string characters according to SPARQL spec.
-     *
-     * @return Escaped value
-     * @see <a href="https://www.w3.org/TR/sparql11-query/#grammarEscapes" target="_top">
-     * https://www.w3.org/TR/sparql11-query/#grammarEscapes</a>
-     */
-    private String getEscapedValue() {
-        final StringBuilder sb = new StringBuilder(value.length());
-        char c;
-        for (int i = 0; i < value.length(); i++) {
-            c = value.charAt(i);
-            switch (c) {
-                case '\t':
-                    sb.append("\\t");
-                    break;
-                case '\n':
-                    sb.append("\\n");
-                    break;
-                case '\r':
-                    sb.append("\\r");
-                    break;
-                case '\b':
-                    sb.append("\\b");
-                    break;
-                case '\f':
-                    sb.append("\\f");
-                    break;
-                case '\'':
-                    sb.append("\\'");
-                    break;
-                case '\"':
-                    sb.append("\\\"");
-                    break;
-                case '\\':
-                    sb.append("\\\\");
-                    break;
-                default:
-                    sb.append(c);
-            }
-        }
-        return sb.toString();
+    @Override
+    public Optional<Object> getBindableValue() {
+        return Optional.of(new LangString(value, language));
     }
 }
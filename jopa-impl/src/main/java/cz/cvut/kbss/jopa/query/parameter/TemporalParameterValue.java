@@ -18,6 +18,7 @@ import cz.cvut.kbss.jopa.datatype.xsd.XsdTemporalMapper;
 
 import java.time.temporal.TemporalAccessor;
 import java.util.Objects;
+import java.util.Optional;
 
 /**
  * Query parameter value representation for date/time.
@@ -41,4 +42,9 @@ public class TemporalParameterValue extends AbstractParameterValue {
     public String getQueryString() {
         return XsdTemporalMapper.map(value).toString();
     }
+
+    @Override
+    public Optional<Object> getBindableValue() {
+        return Optional.of(value);
+    }
 }
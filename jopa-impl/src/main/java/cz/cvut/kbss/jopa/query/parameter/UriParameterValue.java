@@ -18,6 +18,7 @@ import cz.cvut.kbss.jopa.utils.IdentifierTransformer;
 
 import java.net.URI;
 import java.util.Objects;
+import java.util.Optional;
 
 /**
  * Parameter value that will be put as an IRI into the query. I.e. it will be enclosed in &lt; and &gt;.
@@ -40,6 +41,11 @@ class UriParameterValue extends AbstractParameterValue {
         return IdentifierTransformer.stringifyIri(uri);
     }
 
+    @Override
+    public Optional<Object> getBindableValue() {
+        return Optional.of(uri);
+    }
+
     @Override
     public String toString() {
         return getQueryString();
@@ -42,13 +42,32 @@ public class SoqlOrderParameter extends SoqlParameter {
     }
 
     public String getOrderByPart() {
-        String param = attribute.requiresFilter() ? getAsParam().substring(1) : attribute.getValue().substring(1);
-        StringBuilder sb = new StringBuilder();
-        if (SoqlConstants.ASC.equals(orderingBy)) {
-            sb.append("?").append(param).append(' ');
-        } else {
-            sb.append(SoqlConstants.DESC).append("(?").append(param).append(") ");
+        final String variable = getOrderByVariable();
+        if (isAscending()) {
+            return variable + ' ';
         }
-        return sb.toString();
+        return SoqlConstants.DESC + '(' + variable + ") ";
+    }
+
+    /**
+     * Gets the SPARQL variable by which the results are ordered.
+     *
+     * @return Variable, including the leading question mark
+     */
+    public String getOrderByVariable() {
+        return "?" + (attribute.requiresFilter() ? getAsParam().substring(1) : attribute.getValue().substring(1));
+    }
+
+    public boolean isAscending() {
+        return SoqlConstants.ASC.equals(orderingBy);
+    }
+
+    /**
+     * Whether the results are ordered by their identifier.
+     *
+     * @return {@code true} if ordering by identifier, {@code false} otherwise
+     */
+    public boolean isByIdentifier() {
+        return !getFirstNode().hasChild();
     }
 }
@@ -22,6 +22,7 @@ import cz.cvut.kbss.jopa.model.metamodel.IdentifiableEntityType;
 import cz.cvut.kbss.jopa.model.metamodel.PluralAttribute;
 import cz.cvut.kbss.jopa.model.metamodel.SingularAttribute;
 import cz.cvut.kbss.jopa.model.metamodel.Type;
+import cz.cvut.kbss.jopa.query.sparql.KeysetOrdering;
 import cz.cvut.kbss.jopa.query.sparql.SparqlConstants;
 import org.antlr.v4.runtime.ParserRuleContext;
 import org.antlr.v4.runtime.tree.ErrorNode;
@@ -38,6 +39,7 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -49,6 +51,8 @@ public class SoqlQueryListener implements SoqlListener {
 
     private String soql;
     private String sparql;
+    // Index of the closing brace of the WHERE clause in the SPARQL query, -1 if the query was not built
+    private int whereClauseEnd = -1;
 
     private String typeDef = SoqlConstants.SELECT;
 
@@ -759,6 +763,23 @@ public class SoqlQueryListener implements SoqlListener {
         return sparql;
     }
 
+    /**
+     * Gets ordering of the query results usable for keyset pagination.
+     * <p>
+     * Keyset pagination is possible only when the results are ordered by a single sort key and are not aggregated.
+     *
+     * @return Keyset ordering, empty if the query does not support keyset pagination
+     */
+    public Optional<KeysetOrdering> getKeysetOrdering() {
+        if (orderAttributes.size() != 1 || !groupAttributes.isEmpty() || isSelectedParamCount || whereClauseEnd < 0) {
+            return Optional.empty();
+        }
+        final SoqlOrderParameter orderParam = orderAttributes.get(0);
+        final boolean byIdentifier = orderParam.isByIdentifier();
+        final String variable = byIdentifier ? rootVariable : orderParam.getOrderByVariable();
+        return Optional.of(new KeysetOrdering(variable, !orderParam.isAscending(), byIdentifier, whereClauseEnd));
+    }
+
     //Methods to build new Query
     private void buildSparqlQueryString() {
         if (attributes.isEmpty()) {
@@ -782,6 +803,7 @@ public class SoqlQueryListener implements SoqlListener {
         if (!objectOfNextOr.isEmpty()) {
             newQueryBuilder.append("} ");
         }
+        this.whereClauseEnd = newQueryBuilder.length();
         newQueryBuilder.append('}');
         if (!groupAttributes.isEmpty()) {
             newQueryBuilder.append(' ').append(buildGrouping());
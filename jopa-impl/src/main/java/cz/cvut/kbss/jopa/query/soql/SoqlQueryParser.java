@@ -17,6 +17,8 @@ package cz.cvut.kbss.jopa.query.soql;
 import cz.cvut.kbss.jopa.model.MetamodelImpl;
 import cz.cvut.kbss.jopa.query.QueryHolder;
 import cz.cvut.kbss.jopa.query.QueryParser;
+import cz.cvut.kbss.jopa.query.sparql.QueryTemplate;
+import cz.cvut.kbss.jopa.query.sparql.SparqlQueryParser;
 import org.antlr.v4.runtime.CharStream;
 import org.antlr.v4.runtime.CharStreams;
 import org.antlr.v4.runtime.CommonTokenStream;
@@ -25,10 +27,10 @@ import org.antlr.v4.runtime.tree.ParseTreeWalker;
 
 public class SoqlQueryParser implements QueryParser {
 
-    private final QueryParser sparqlParser;
+    private final SparqlQueryParser sparqlParser;
     private final MetamodelImpl metamodel;
 
-    public SoqlQueryParser(QueryParser sparqlParser, MetamodelImpl metamodel) {
+    public SoqlQueryParser(SparqlQueryParser sparqlParser, MetamodelImpl metamodel) {
         this.sparqlParser = sparqlParser;
         this.metamodel = metamodel;
     }
@@ -36,6 +38,34 @@ public class SoqlQueryParser implements QueryParser {
 
     @Override
     public QueryHolder parseQuery(String query) {
+        final SoqlQueryListener listener = walk(query);
+        return sparqlParser.parseQuery(listener.getSparqlQuery(), listener.getKeysetOrdering().orElse(null));
+    }
+
+    /**
+     * Translates the specified SOQL query to SPARQL and parses it into an immutable template.
+     * <p>
+     * The template supports keyset pagination if the SOQL query allows it.
+     *
+     * @param query SOQL query to compile
+     * @return Query template
+     */
+    public QueryTemplate compile(String query) {
+        final SoqlQueryListener listener = walk(query);
+        return sparqlParser.compile(listener.getSparqlQuery(), listener.getKeysetOrdering().orElse(null));
+    }
+
+    /**
+     * Translates the specified SOQL query to SPARQL.
+     *
+     * @param query SOQL query to translate
+     * @return SPARQL query string
+     */
+    public String translate(String query) {
+        return walk(query).getSparqlQuery();
+    }
+
+    private SoqlQueryListener walk(String query) {
         CharStream cs = CharStreams.fromString(query);
         SoqlLexer lexer = new SoqlLexer(cs);
         final CommonTokenStream tokens = new CommonTokenStream(lexer);
@@ -47,6 +77,6 @@ public class SoqlQueryParser implements QueryParser {
         final ParseTreeWalker walker = new ParseTreeWalker();
         walker.walk(listener, tree);
 
-        return sparqlParser.parseQuery(listener.getSparqlQuery());
+        return listener;
     }
 }
@@ -0,0 +1,133 @@
+/**
+ * Copyright (C) 2023 Czech Technical University in Prague
+ *
+ * This program is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any
+ * later version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more
+ * details. You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package cz.cvut.kbss.jopa.query.sparql;
+
+import java.util.Objects;
+
+/**
+ * Ordering of query results by a single sort key, which allows keyset (seek) pagination.
+ * <p>
+ * Instead of skipping a number of results, the next page is retrieved by filtering out results whose sort key does
+ * not follow the sort key of the last result of the previous page.
+ */
+public final class KeysetOrdering {
+
+    private final String variable;
+    private final boolean descending;
+    private final boolean identifier;
+
+    // Index of the closing brace of the WHERE clause in the query string
+    private final int whereClauseEnd;
+    // Query part containing the closing brace of the WHERE clause and its offset in the part, -1 until located
+    private final int queryPart;
+    private final int queryPartOffset;
+
+    /**
+     * @param variable       Query variable representing the sort key, including the leading question mark
+     * @param descending     Whether the results are ordered in descending order
+     * @param identifier     Whether the sort key is the identifier of the results
+     * @param whereClauseEnd Index of the closing brace of the WHERE clause in the query string
+     */
+    public KeysetOrdering(String variable, boolean descending, boolean identifier, int whereClauseEnd) {
+        this(variable, descending, identifier, whereClauseEnd, -1, -1);
+    }
+
+    private KeysetOrdering(String variable, boolean descending, boolean identifier, int whereClauseEnd,
+                           int queryPart, int queryPartOffset) {
+        this.variable = Objects.requireNonNull(variable);
+        this.descending = descending;
+        this.identifier = identifier;
+        this.whereClauseEnd = whereClauseEnd;
+        this.queryPart = queryPart;
+        this.queryPartOffset = queryPartOffset;
+    }
+
+    public String getVariable() {
+        return variable;
+    }
+
+    public boolean isDescending() {
+        return descending;
+    }
+
+    public boolean isIdentifier() {
+        return identifier;
+    }
+
+    int getWhereClauseEnd() {
+        return whereClauseEnd;
+    }
+
+    int getQueryPart() {
+        return queryPart;
+    }
+
+    int getQueryPartOffset() {
+        return queryPartOffset;
+    }
+
+    /**
+     * Creates a copy of this ordering with the end of the WHERE clause located in the parsed query.
+     *
+     * @param queryPart       Index of the query part containing the closing brace of the WHERE clause
+     * @param queryPartOffset Offset of the closing brace in the query part
+     * @return New keyset ordering
+     */
+    KeysetOrdering locate(int queryPart, int queryPartOffset) {
+        return new KeysetOrdering(variable, descending, identifier, whereClauseEnd, queryPart, queryPartOffset);
+    }
+
+    /**
+     * Creates a filter restricting the results to those following the specified sort key.
+     * <p>
+     * Identifiers are compared as strings, because SPARQL does not define ordering comparison of IRIs. String keys are
+     * compared by their lexical form, because ordering comparison of a language-tagged literal is a type error.
+     *
+     * @param lastKey   Sort key of the last result of the previous page, as a query string
+     * @param stringKey Whether the sort key is a string
+     * @return Filter expression
+     */
+    String createSeekFilter(String lastKey, boolean stringKey) {
+        final String operator = descending ? " < " : " > ";
+        if (identifier || stringKey) {
+            return "FILTER (STR(" + variable + ")" + operator + "STR(" + lastKey + ")) ";
+        }
+        return "FILTER (" + variable + operator + lastKey + ") ";
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof KeysetOrdering)) {
+            return false;
+        }
+        KeysetOrdering that = (KeysetOrdering) o;
+        return descending == that.descending && identifier == that.identifier &&
+                whereClauseEnd == that.whereClauseEnd && queryPart == that.queryPart &&
+                queryPartOffset == that.queryPartOffset && variable.equals(that.variable);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(variable, descending, identifier, whereClauseEnd, queryPart, queryPartOffset);
+    }
+
+    @Override
+    public String toString() {
+        return (descending ? "DESC(" + variable + ")" : variable) + (identifier ? " (identifier)" : "");
+    }
+}
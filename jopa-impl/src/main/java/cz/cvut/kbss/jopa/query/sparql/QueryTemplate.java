@@ -0,0 +1,102 @@
+/**
+ * Copyright (C) 2023 Czech Technical University in Prague
+ *
+ * This program is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any
+ * later version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more
+ * details. You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package cz.cvut.kbss.jopa.query.sparql;
+
+import cz.cvut.kbss.jopa.query.QueryParameter;
+import cz.cvut.kbss.jopa.query.parameter.ParameterValueFactory;
+
+import java.util.*;
+
+/**
+ * Immutable result of parsing a SPARQL query.
+ * <p>
+ * Consists of the query parts and parameter slots between them. Since it does not hold any parameter values, it can be
+ * shared by multiple threads and used to create {@link SparqlQueryHolder} instances without having to parse the query
+ * again.
+ */
+public class QueryTemplate {
+
+    private final String query;
+    private final List<String> queryParts;
+    // Slots are in order matching the query parts, the same slot instance can appear multiple times in the list
+    private final List<ParameterSlot> parameterSlots;
+    // Null if the query does not support keyset pagination
+    private final KeysetOrdering keysetOrdering;
+
+    QueryTemplate(String query, List<String> queryParts, List<ParameterSlot> parameterSlots,
+                  KeysetOrdering keysetOrdering) {
+        this.query = query;
+        this.queryParts = Collections.unmodifiableList(new ArrayList<>(queryParts));
+        this.parameterSlots = Collections.unmodifiableList(new ArrayList<>(parameterSlots));
+        this.keysetOrdering = keysetOrdering;
+    }
+
+    public String getQuery() {
+        return query;
+    }
+
+    /**
+     * Creates a new query holder based on this template.
+     * <p>
+     * The holder gets its own parameter instances, so values set on it do not affect any other holders.
+     *
+     * @param valueFactory Factory of parameter values to use in the created holder
+     * @return New query holder
+     */
+    public SparqlQueryHolder instantiate(ParameterValueFactory valueFactory) {
+        final Map<ParameterSlot, QueryParameter<?>> params = new IdentityHashMap<>();
+        final List<QueryParameter<?>> parameters = new ArrayList<>(parameterSlots.size());
+        for (ParameterSlot slot : parameterSlots) {
+            parameters.add(params.computeIfAbsent(slot, s -> s.createParameter(valueFactory)));
+        }
+        if (keysetOrdering == null) {
+            return new SparqlQueryHolder(query, queryParts, parameters);
+        }
+        return new SparqlQueryHolder(query, queryParts, parameters, keysetOrdering,
+                                     new QueryParameter<>(SparqlQueryHolder.PAGE_AFTER_PARAMETER, valueFactory));
+    }
+
+    /**
+     * Describes a query parameter without binding it to any value.
+     */
+    static final class ParameterSlot {
+
+        private final String name;
+        private final Integer position;
+        private final boolean projected;
+
+        private ParameterSlot(String name, Integer position, boolean projected) {
+            this.name = name;
+            this.position = position;
+            this.projected = projected;
+        }
+
+        static ParameterSlot named(String name, boolean projected) {
+            return new ParameterSlot(name, null, projected);
+        }
+
+        static ParameterSlot positional(Integer position) {
+            return new ParameterSlot(null, position, false);
+        }
+
+        private QueryParameter<?> createParameter(ParameterValueFactory valueFactory) {
+            final QueryParameter<?> qp =
+                    name != null ? new QueryParameter<>(name, valueFactory) : new QueryParameter<>(position,
+                                                                                                  valueFactory);
+            qp.setProjected(projected);
+            return qp;
+        }
+    }
+}
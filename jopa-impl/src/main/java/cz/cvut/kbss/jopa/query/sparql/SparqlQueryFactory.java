@@ -17,7 +17,8 @@ package cz.cvut.kbss.jopa.query.sparql;
 import cz.cvut.kbss.jopa.model.QueryImpl;
 import cz.cvut.kbss.jopa.model.ResultSetMappingQuery;
 import cz.cvut.kbss.jopa.model.TypedQueryImpl;
-import cz.cvut.kbss.jopa.query.QueryParser;
+import cz.cvut.kbss.jopa.query.QueryHolder;
+import cz.cvut.kbss.jopa.query.QueryPlanCache;
 import cz.cvut.kbss.jopa.query.mapper.SparqlResultMapper;
 import cz.cvut.kbss.jopa.query.parameter.ParameterValueFactory;
 import cz.cvut.kbss.jopa.query.soql.SoqlQueryParser;
@@ -33,36 +34,49 @@ public class SparqlQueryFactory implements QueryFactory {
     private final UnitOfWorkImpl uow;
     private final ConnectionWrapper connection;
 
-    private final QueryParser queryParser;
+    private final ParameterValueFactory parameterValueFactory;
+    private final SparqlQueryParser queryParser;
     private final SoqlQueryParser soqlQueryParser;
+    private final QueryPlanCache queryPlanCache;
 
     public SparqlQueryFactory(UnitOfWorkImpl uow, ConnectionWrapper connection) {
         assert uow != null;
         assert connection != null;
         this.uow = uow;
         this.connection = connection;
-        this.queryParser = new SparqlQueryParser(new ParameterValueFactory(uow));
+        this.parameterValueFactory = new ParameterValueFactory(uow);
+        this.queryParser = new SparqlQueryParser(parameterValueFactory);
         this.soqlQueryParser = new SoqlQueryParser(queryParser, uow.getMetamodel());
+        this.queryPlanCache = uow.getQueryPlanCache();
+    }
+
+    private SparqlQueryHolder parseSparql(String sparql) {
+        return queryPlanCache.get(QueryPlanCache.Language.SPARQL, sparql, () -> queryParser.compile(sparql))
+                             .instantiate(parameterValueFactory);
+    }
+
+    private SparqlQueryHolder parseSoql(String soql) {
+        return queryPlanCache.get(QueryPlanCache.Language.SOQL, soql, () -> soqlQueryParser.compile(soql))
+                             .instantiate(parameterValueFactory);
     }
 
     @Override
     public QueryImpl createNativeQuery(String sparql) {
         Objects.requireNonNull(sparql);
 
-        return new QueryImpl(queryParser.parseQuery(sparql), connection);
+        return new QueryImpl(parseSparql(sparql), connection);
     }
 
     @Override
     public <T> TypedQueryImpl<T> createNativeQuery(String sparql, Class<T> resultClass) {
         Objects.requireNonNull(sparql, ErrorUtils.getNPXMessageSupplier("sparql"));
+        Objects.requireNonNull(resultClass, ErrorUtils.getNPXMessageSupplier("resultClass"));
 
-        return createQueryImpl(sparql, resultClass, queryParser);
+        return createQueryImpl(parseSparql(sparql), resultClass);
     }
 
-    private <T> TypedQueryImpl<T> createQueryImpl(String query, Class<T> resultClass, QueryParser parser) {
-        Objects.requireNonNull(resultClass, ErrorUtils.getNPXMessageSupplier("resultClass"));
-
-        final TypedQueryImpl<T> tq = new TypedQueryImpl<>(parser.parseQuery(query), resultClass, connection, uow);
+    private <T> TypedQueryImpl<T> createQueryImpl(QueryHolder query, Class<T> resultClass) {
+        final TypedQueryImpl<T> tq = new TypedQueryImpl<>(query, resultClass, connection, uow);
         tq.setUnitOfWork(uow);
         return tq;
     }
@@ -73,20 +87,21 @@ public class SparqlQueryFactory implements QueryFactory {
         Objects.requireNonNull(resultSetMapping, ErrorUtils.getNPXMessageSupplier("resultSetMapping"));
 
         final SparqlResultMapper mapper = uow.getResultSetMappingManager().getMapper(resultSetMapping);
-        return new ResultSetMappingQuery(queryParser.parseQuery(sparql), connection, mapper, uow);
+        return new ResultSetMappingQuery(parseSparql(sparql), connection, mapper, uow);
     }
 
     @Override
     public QueryImpl createQuery(String query) {
         Objects.requireNonNull(query);
 
-        return new QueryImpl(soqlQueryParser.parseQuery(query), connection);
+        return new QueryImpl(parseSoql(query), connection);
     }
 
     @Override
     public <T> TypedQueryImpl<T> createQuery(String query, Class<T> resultClass) {
         Objects.requireNonNull(query, ErrorUtils.getNPXMessageSupplier("query"));
-        return createQueryImpl(query, resultClass, soqlQueryParser);
+        Objects.requireNonNull(resultClass, ErrorUtils.getNPXMessageSupplier("resultClass"));
+        return createQueryImpl(parseSoql(query), resultClass);
     }
 
     @Override
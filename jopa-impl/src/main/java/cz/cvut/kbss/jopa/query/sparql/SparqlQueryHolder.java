@@ -25,6 +25,11 @@ public class SparqlQueryHolder implements QueryHolder {
     private static final String SPARQL_LIMIT = " LIMIT ";
     private static final String SPARQL_OFFSET = " OFFSET ";
 
+    /**
+     * Name of the variable to which the last sort key is bound when keyset pagination is used.
+     */
+    static final String PAGE_AFTER_PARAMETER = "jopaPageAfter";
+
     // Original query string
     private final String query;
 
@@ -34,14 +39,34 @@ public class SparqlQueryHolder implements QueryHolder {
     private final List<QueryParameter<?>> parameters;
     private final List<String> queryParts;
 
+    // Null if the query does not support keyset pagination
+    private final KeysetOrdering keysetOrdering;
+    private final QueryParameter<?> pageAfter;
+
     private int offset = 0;
 
     private int limit = Integer.MAX_VALUE;
 
     public SparqlQueryHolder(String query, List<String> parts, List<QueryParameter<?>> parameters) {
+        this(query, parts, parameters, null, null);
+    }
+
+    /**
+     * @param query          Original query string
+     * @param parts          Query parts between the parameters
+     * @param parameters     Query parameters, in order matching the query parts
+     * @param keysetOrdering Ordering of the query results enabling keyset pagination, possibly {@code null}
+     * @param pageAfter      Parameter holding the last sort key for keyset pagination, {@code null} iff {@code
+     *                       keysetOrdering} is {@code null}
+     */
+    public SparqlQueryHolder(String query, List<String> parts, List<QueryParameter<?>> parameters,
+                             KeysetOrdering keysetOrdering, QueryParameter<?> pageAfter) {
+        assert (keysetOrdering == null) == (pageAfter == null);
         this.query = query;
         this.parameters = parameters;
         this.queryParts = parts;
+        this.keysetOrdering = keysetOrdering;
+        this.pageAfter = pageAfter;
         this.parameterSet = new HashMap<>();
         parameters.forEach(p -> parameterSet.put(p, p));
         this.identifiersToParameters = new HashMap<>(parameterSet.size());
@@ -140,6 +165,19 @@ public class SparqlQueryHolder implements QueryHolder {
         return limit;
     }
 
+    @Override
+    public void setPageAfter(Object lastSortKey) {
+        if (keysetOrdering == null) {
+            throw new IllegalStateException("Keyset pagination is supported only by SOQL and criteria queries " +
+                                                    "ordered by a single attribute or identifier.");
+        }
+        if (lastSortKey == null) {
+            pageAfter.resetValue();
+        } else {
+            pageAfter.setValue(lastSortKey);
+        }
+    }
+
     @Override
     public void clearParameter(Parameter<?> parameter) {
         getInternalParameter(parameter).resetValue();
@@ -152,12 +190,48 @@ public class SparqlQueryHolder implements QueryHolder {
 
     @Override
     public String assembleQuery() {
+        return assembleQuery(false);
+    }
+
+    @Override
+    public Optional<Map<String, Object>> getBindableParameterValues() {
+        final Map<String, Object> values = new HashMap<>();
+        final List<QueryParameter<?>> params = new ArrayList<>(parameterSet.values());
+        if (pageAfter != null) {
+            params.add(pageAfter);
+        }
+        for (QueryParameter<?> qp : params) {
+            if (!qp.getValue().isSet()) {
+                continue;
+            }
+            // Projected parameters are passed in a VALUES clause, positional parameters are not SPARQL variables
+            if (qp.isProjected() || !(qp.getIdentifier() instanceof String)) {
+                return Optional.empty();
+            }
+            final Optional<Object> value = qp.getValue().getBindableValue();
+            if (value.isEmpty()) {
+                return Optional.empty();
+            }
+            values.put((String) qp.getIdentifier(), value.get());
+        }
+        return Optional.of(values);
+    }
+
+    @Override
+    public String assembleQueryForBinding() {
+        return assembleQuery(true);
+    }
+
+    private String assembleQuery(boolean bindParameters) {
         final StringBuilder sb = new StringBuilder();
         final Set<QueryParameter<?>> projectedParams = new LinkedHashSet<>();
+        final boolean seek = pageAfter != null && pageAfter.getValue().isSet();
         for (int i = 0; i < parameters.size(); i++) {
-            sb.append(queryParts.get(i));
+            appendQueryPart(sb, i, seek, bindParameters);
             final QueryParameter<?> qp = parameters.get(i);
-            if (qp.isProjected() && qp.getValue().isSet()) {
+            if (bindParameters) {
+                sb.append(qp.getIdentifierAsQueryString());
+            } else if (qp.isProjected() && qp.getValue().isSet()) {
                 projectedParams.add(qp);
                 sb.append(qp.getIdentifierAsQueryString());
             } else {
@@ -165,7 +239,7 @@ public class SparqlQueryHolder implements QueryHolder {
             }
         }
         if (queryParts.size() > parameters.size()) {
-            sb.append(queryParts.get(parameters.size()));
+            appendQueryPart(sb, parameters.size(), seek, bindParameters);
         }
         if (limit != Integer.MAX_VALUE) {
             sb.append(SPARQL_LIMIT).append(limit);
@@ -177,6 +251,24 @@ public class SparqlQueryHolder implements QueryHolder {
         return sb.toString();
     }
 
+    /**
+     * Appends the specified query part, inserting a filter skipping results up to the last sort key at the end of the
+     * WHERE clause if it is in this part.
+     */
+    private void appendQueryPart(StringBuilder sb, int index, boolean seek, boolean bindParameters) {
+        final String part = queryParts.get(index);
+        if (!seek || index != keysetOrdering.getQueryPart()) {
+            sb.append(part);
+            return;
+        }
+        final int whereEnd = keysetOrdering.getQueryPartOffset();
+        final String lastKey =
+                bindParameters ? pageAfter.getIdentifierAsQueryString() : pageAfter.getValue().getQueryString();
+        final boolean stringKey = pageAfter.getValue().getValue() instanceof String;
+        sb.append(part, 0, whereEnd).append(keysetOrdering.createSeekFilter(lastKey, stringKey))
+          .append(part, whereEnd, part.length());
+    }
+
     /**
      * Generates a VALUES clause for query parameters that are set and appear in SELECT projection.
      * <p>
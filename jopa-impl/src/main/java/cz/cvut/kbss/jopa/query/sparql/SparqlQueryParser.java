@@ -15,7 +15,6 @@
 package cz.cvut.kbss.jopa.query.sparql;
 
 import cz.cvut.kbss.jopa.exception.QueryParserException;
-import cz.cvut.kbss.jopa.query.QueryParameter;
 import cz.cvut.kbss.jopa.query.QueryParser;
 import cz.cvut.kbss.jopa.query.parameter.ParameterValueFactory;
 
@@ -38,11 +37,13 @@ public class SparqlQueryParser implements QueryParser {
 
     private String query;
 
-    private Map<Object, QueryParameter<?>> uniqueParams;
+    private Map<Object, QueryTemplate.ParameterSlot> uniqueParams;
     private Integer positionalCounter;
 
     private List<String> queryParts;
-    private List<QueryParameter<?>> parameters;
+    // Indexes at which the query parts start in the query
+    private List<Integer> queryPartStarts;
+    private List<QueryTemplate.ParameterSlot> parameters;
     private boolean inParam;
     private boolean inSQString; // In apostrophe string (')
     private boolean inDQString; // In double-quoted string (")
@@ -63,8 +64,42 @@ public class SparqlQueryParser implements QueryParser {
 
     @Override
     public SparqlQueryHolder parseQuery(String query) {
+        return parseQuery(query, null);
+    }
+
+    /**
+     * Parses the specified query whose results are ordered by the specified sort key.
+     *
+     * @param query          The query to parse
+     * @param keysetOrdering Ordering enabling keyset pagination, possibly {@code null}
+     * @return Query holder
+     * @see #compile(String, KeysetOrdering)
+     */
+    public SparqlQueryHolder parseQuery(String query, KeysetOrdering keysetOrdering) {
+        return compile(query, keysetOrdering).instantiate(parameterValueFactory);
+    }
+
+    /**
+     * Parses the specified query into an immutable template, which can be reused to create query holders.
+     *
+     * @param query The query to parse
+     * @return Query template
+     */
+    public QueryTemplate compile(String query) {
+        return compile(query, null);
+    }
+
+    /**
+     * Parses the specified query into an immutable template supporting keyset pagination by the specified sort key.
+     *
+     * @param query          The query to parse
+     * @param keysetOrdering Ordering enabling keyset pagination, possibly {@code null}
+     * @return Query template
+     */
+    public QueryTemplate compile(String query, KeysetOrdering keysetOrdering) {
         this.query = query;
         this.queryParts = new ArrayList<>();
+        this.queryPartStarts = new ArrayList<>();
         this.uniqueParams = new HashMap<>();
         this.positionalCounter = 1;
         this.parameters = new ArrayList<>();
@@ -127,14 +162,37 @@ public class SparqlQueryParser implements QueryParser {
         if (inParam) {
             parameterEnd(i);
         } else {
-            queryParts.add(query.substring(lastParamEndIndex));
+            addQueryPart(query.length());
         }
-        return new SparqlQueryHolder(query, queryParts, parameters);
+        return new QueryTemplate(query, queryParts, parameters,
+                                 keysetOrdering != null ? locateWhereClauseEnd(keysetOrdering) : null);
+    }
+
+    /**
+     * Finds the query part containing the end of the WHERE clause, so that a seek filter can be inserted there.
+     * <p>
+     * The closing brace of the WHERE clause ends a parameter, so it is always contained in a query part.
+     */
+    private KeysetOrdering locateWhereClauseEnd(KeysetOrdering keysetOrdering) {
+        final int whereClauseEnd = keysetOrdering.getWhereClauseEnd();
+        assert whereClauseEnd >= 0 && whereClauseEnd < query.length() && query.charAt(whereClauseEnd) == '}';
+        for (int i = 0; i < queryParts.size(); i++) {
+            final int partStart = queryPartStarts.get(i);
+            if (whereClauseEnd >= partStart && whereClauseEnd < partStart + queryParts.get(i).length()) {
+                return keysetOrdering.locate(i, whereClauseEnd - partStart);
+            }
+        }
+        throw new QueryParserException("End of WHERE clause not found in query " + query);
+    }
+
+    private void addQueryPart(int endIndex) {
+        queryParts.add(query.substring(lastParamEndIndex, endIndex));
+        queryPartStarts.add(lastParamEndIndex);
     }
 
     private void parameterStart(int index, ParamType paramType) {
         if (!inSQString && !inDQString) {
-            queryParts.add(query.substring(lastParamEndIndex, index));
+            addQueryPart(index);
             paramStartIndex = index + 1;
             inParam = true;
             this.currentParamType = paramType;
@@ -148,8 +206,8 @@ public class SparqlQueryParser implements QueryParser {
         parameters.add(resolveParamIdentification(param));
     }
 
-    private QueryParameter<?> resolveParamIdentification(String identification) {
-        final QueryParameter<?> queryParameter;
+    private QueryTemplate.ParameterSlot resolveParamIdentification(String identification) {
+        final QueryTemplate.ParameterSlot queryParameter;
         if (identification.isEmpty()) {
             if (currentParamType == ParamType.POSITIONAL) {
                 queryParameter = getQueryParameter(positionalCounter++);
@@ -172,21 +230,19 @@ public class SparqlQueryParser implements QueryParser {
         return queryParameter;
     }
 
-    private QueryParameter<?> getQueryParameter(String name) {
+    private QueryTemplate.ParameterSlot getQueryParameter(String name) {
         // We want to reuse the param instances, so that changes to them apply throughout the whole query
         if (!uniqueParams.containsKey(name)) {
-            final QueryParameter<?> qp = new QueryParameter<>(name, parameterValueFactory);
-            qp.setProjected(inProjection);
-            uniqueParams.put(name, qp);
+            uniqueParams.put(name, QueryTemplate.ParameterSlot.named(name, inProjection));
         }
         return uniqueParams.get(name);
     }
 
-    private QueryParameter<?> getQueryParameter(Integer position) {
+    private QueryTemplate.ParameterSlot getQueryParameter(Integer position) {
         if (uniqueParams.containsKey(position)) {
             throw new QueryParserException("Parameter with position " + position + " already found in query " + query);
         }
-        final QueryParameter<?> qp = new QueryParameter<>(position, parameterValueFactory);
+        final QueryTemplate.ParameterSlot qp = QueryTemplate.ParameterSlot.positional(position);
         uniqueParams.put(position, qp);
         return qp;
     }
@@ -14,9 +14,12 @@
  */
 package cz.cvut.kbss.jopa.sessions;
 
+import cz.cvut.kbss.jopa.metrics.MetricsCollector;
 import cz.cvut.kbss.jopa.model.MetamodelImpl;
 import cz.cvut.kbss.jopa.query.NamedQueryManager;
+import cz.cvut.kbss.jopa.query.QueryPlanCache;
 import cz.cvut.kbss.jopa.query.ResultSetMappingManager;
+import cz.cvut.kbss.jopa.sessions.cache.QueryAttributeCache;
 import cz.cvut.kbss.jopa.utils.Configuration;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -53,6 +56,7 @@ public abstract class AbstractSession implements Session, MetamodelProvider, Con
     @Override
     public void release() {
         getLiveObjectCache().evictAll();
+        getQueryAttributeCache().invalidate();
     }
 
     @Override
@@ -69,6 +73,14 @@ public abstract class AbstractSession implements Session, MetamodelProvider, Con
      */
     public abstract CacheManager getLiveObjectCache();
 
+    /**
+     * Gets the registry of query attribute evaluations, which determines whether query attribute values of cached
+     * instances may be reused.
+     *
+     * @return {@link QueryAttributeCache}
+     */
+    public abstract QueryAttributeCache getQueryAttributeCache();
+
     /**
      * Acquires connection to the underlying ontology storage.
      *
@@ -88,4 +100,18 @@ public abstract class AbstractSession implements Session, MetamodelProvider, Con
      * @return {@link ResultSetMappingManager}
      */
     public abstract ResultSetMappingManager getResultSetMappingManager();
+
+    /**
+     * Gets the cache of parsed queries shared by the persistence unit.
+     *
+     * @return {@link QueryPlanCache}
+     */
+    public abstract QueryPlanCache getQueryPlanCache();
+
+    /**
+     * Gets the collector of runtime metrics of the persistence unit.
+     *
+     * @return {@link MetricsCollector}, never {@code null}
+     */
+    public abstract MetricsCollector getMetrics();
 }
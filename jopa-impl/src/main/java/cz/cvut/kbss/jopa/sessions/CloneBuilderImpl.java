@@ -15,12 +15,16 @@
 package cz.cvut.kbss.jopa.sessions;
 
 import cz.cvut.kbss.jopa.exceptions.OWLPersistenceException;
+import cz.cvut.kbss.jopa.metrics.MetricNames;
+import cz.cvut.kbss.jopa.metrics.MetricsCollector;
 import cz.cvut.kbss.jopa.model.MultilingualString;
 import cz.cvut.kbss.jopa.model.descriptors.Descriptor;
 import cz.cvut.kbss.jopa.model.metamodel.EntityType;
 import cz.cvut.kbss.jopa.model.metamodel.FieldSpecification;
 import cz.cvut.kbss.jopa.model.metamodel.Identifier;
 import cz.cvut.kbss.jopa.model.metamodel.Metamodel;
+import cz.cvut.kbss.jopa.sessions.change.ChangeRecordImpl;
+import cz.cvut.kbss.jopa.sessions.change.SetChanges;
 import cz.cvut.kbss.jopa.utils.EntityPropertiesUtils;
 import cz.cvut.kbss.jopa.utils.IdentifierTransformer;
 import cz.cvut.kbss.ontodriver.model.LangString;
@@ -49,9 +53,15 @@ public class CloneBuilderImpl implements CloneBuilder {
     private final Builders builders;
 
     private final UnitOfWorkImpl uow;
+    private final MetricsCollector metrics;
 
     public CloneBuilderImpl(UnitOfWorkImpl uow) {
+        this(uow, MetricsCollector.NO_OP);
+    }
+
+    public CloneBuilderImpl(UnitOfWorkImpl uow, MetricsCollector metrics) {
         this.uow = uow;
+        this.metrics = Objects.requireNonNull(metrics);
         this.visitedEntities = new RepositoryMap();
         this.builders = new Builders();
     }
@@ -64,7 +74,10 @@ public class CloneBuilderImpl implements CloneBuilder {
             // Normally this is a bad practice, but since stringify could be quite costly, we want to avoid it if possible
             LOG.trace("Cloning object {}.", stringify(original));
         }
-        return buildCloneImpl(null, null, original, cloneConfiguration);
+        final long start = System.nanoTime();
+        final Object clone = buildCloneImpl(null, null, original, cloneConfiguration);
+        metrics.recordTime(MetricNames.CLONE, System.nanoTime() - start);
+        return clone;
     }
 
     @Override
@@ -121,7 +134,7 @@ public class CloneBuilderImpl implements CloneBuilder {
                 continue;   // Already cloned
             }
             final Field f = fs.getJavaField();
-            final Object origVal = EntityPropertiesUtils.getFieldValue(f, original);
+            final Object origVal = EntityPropertiesUtils.getAttributeValue(fs, original);
             if (origVal == null) {
                 continue;
             }
@@ -155,14 +168,14 @@ public class CloneBuilderImpl implements CloneBuilder {
                     }
                 }
             }
-            EntityPropertiesUtils.setFieldValue(f, clone, clonedValue);
+            EntityPropertiesUtils.setAttributeValue(fs, clone, clonedValue);
         }
     }
 
     private static void cloneIdentifier(Object original, Object clone, EntityType<?> et) {
         final Identifier<?, ?> identifier = et.getIdentifier();
-        final Object idValue = EntityPropertiesUtils.getFieldValue(identifier.getJavaField(), original);
-        EntityPropertiesUtils.setFieldValue(identifier.getJavaField(), clone, idValue);
+        final Object idValue = EntityPropertiesUtils.getAttributeValue(identifier, original);
+        EntityPropertiesUtils.setAttributeValue(identifier, clone, idValue);
     }
 
     private Descriptor getFieldDescriptor(Field field, Class<?> entityClass, Descriptor entityDescriptor) {
@@ -203,15 +216,24 @@ public class CloneBuilderImpl implements CloneBuilder {
         final Object original = changeSet.getChangedObject();
         try {
             for (ChangeRecord change : changeSet.getChanges()) {
-                Field f = change.getAttribute().getJavaField();
+                final FieldSpecification<?, ?> fs = change.getAttribute();
+                Field f = fs.getJavaField();
                 if (isImmutable(f.getType())) {
-                    EntityPropertiesUtils.setFieldValue(f, original, change.getNewValue());
+                    EntityPropertiesUtils.setAttributeValue(fs, original, change.getNewValue());
                     continue;
                 }
-                Object origVal = EntityPropertiesUtils.getFieldValue(f, original);
+                Object origVal = EntityPropertiesUtils.getAttributeValue(fs, original);
                 Object newVal = change.getNewValue();
                 if (newVal == null) {
-                    EntityPropertiesUtils.setFieldValue(f, original, null);
+                    EntityPropertiesUtils.setAttributeValue(fs, original, null);
+                    continue;
+                }
+                final Optional<SetChanges> setChanges = change instanceof ChangeRecordImpl ?
+                                                        ((ChangeRecordImpl) change).getSetChanges() : Optional.empty();
+                if (setChanges.isPresent() && origVal instanceof Set) {
+                    ((CollectionInstanceBuilder) getInstanceBuilder(newVal)).mergeSetChanges(f, original,
+                                                                                             (Set<?>) origVal, newVal,
+                                                                                             setChanges.get());
                     continue;
                 }
                 getInstanceBuilder(newVal).mergeChanges(f, original, origVal, newVal);
@@ -18,6 +18,7 @@ import cz.cvut.kbss.jopa.adapters.IndirectCollection;
 import cz.cvut.kbss.jopa.exceptions.OWLPersistenceException;
 import cz.cvut.kbss.jopa.model.annotations.Types;
 import cz.cvut.kbss.jopa.model.metamodel.CollectionType;
+import cz.cvut.kbss.jopa.sessions.change.SetChanges;
 import cz.cvut.kbss.jopa.utils.CollectionFactory;
 import cz.cvut.kbss.jopa.utils.EntityPropertiesUtils;
 import cz.cvut.kbss.jopa.utils.MetamodelUtils;
@@ -75,6 +76,10 @@ class CollectionInstanceBuilder extends AbstractInstanceBuilder {
             clone = buildDefaultCollectionInstance(cloneOwner, field, container, configuration);
         }
         clone = uow.createIndirectCollection(clone, cloneOwner, field);
+        if (clone instanceof IndirectCollection) {
+            // The clone corresponds to the storage content, so changes made to it can be tracked
+            ((IndirectCollection<?>) clone).resetElementChanges(cloneOwner);
+        }
         return clone;
     }
 
@@ -199,17 +204,8 @@ class CollectionInstanceBuilder extends AbstractInstanceBuilder {
         assert originalValue == null || originalValue instanceof Collection;
         assert cloneValue instanceof Collection;
 
-        Collection<Object> clone = (Collection<Object>) cloneValue;
-        if (clone instanceof IndirectCollection) {
-            clone = ((IndirectCollection<Collection<Object>>) clone).unwrap();
-        }
-        Collection<Object> orig;
-        if (clone == Collections.emptyList() || clone == Collections.emptySet()) {
-            orig = createDefaultCollection(clone.getClass());
-        } else {
-            final Optional<Collection<?>> origOpt = createNewInstance(clone.getClass(), clone.size());
-            orig = (Collection<Object>) origOpt.orElse(createDefaultCollection(clone.getClass()));
-        }
+        final Collection<Object> clone = unwrap(cloneValue);
+        final Collection<Object> orig = createMergeTarget(clone);
         EntityPropertiesUtils.setFieldValue(field, target, orig);
 
         if (clone.isEmpty()) {
@@ -224,6 +220,57 @@ class CollectionInstanceBuilder extends AbstractInstanceBuilder {
         }
     }
 
+    /**
+     * Merges precalculated changes of a set-valued attribute into the original.
+     * <p>
+     * Unlike {@link #mergeChanges(Field, Object, Object, Object)}, only the added elements need to be resolved to
+     * their originals, the rest of the original set is copied as is. The original set is not modified in place, as it
+     * may be shared via the second level cache.
+     *
+     * @param field         Attribute field
+     * @param target        Original instance to merge the changes into
+     * @param originalValue Current value of the attribute in the original instance
+     * @param cloneValue    Value of the attribute in the clone
+     * @param changes       Elements added to and removed from {@code originalValue}
+     */
+    void mergeSetChanges(Field field, Object target, Set<?> originalValue, Object cloneValue, SetChanges changes) {
+        if (changes.isEmpty()) {
+            return;
+        }
+        final Collection<Object> orig = createMergeTarget(unwrap(cloneValue));
+        final Set<Object> removed = Collections.newSetFromMap(new IdentityHashMap<>(changes.getRemoved().size()));
+        removed.addAll(changes.getRemoved());
+        for (Object o : originalValue) {
+            if (!removed.contains(o)) {
+                orig.add(o);
+            }
+        }
+        for (Object cl : changes.getAdded()) {
+            orig.add(uow.contains(cl) ? builder.getOriginal(cl) : cl);
+        }
+        EntityPropertiesUtils.setFieldValue(field, target, orig);
+        final Types types = field.getAnnotation(Types.class);
+        if (types != null) {
+            MetamodelUtils.checkForModuleSignatureExtension(orig, builder.getMetamodel());
+        }
+    }
+
+    private static Collection<Object> unwrap(Object cloneValue) {
+        final Collection<Object> clone = (Collection<Object>) cloneValue;
+        if (clone instanceof IndirectCollection) {
+            return ((IndirectCollection<Collection<Object>>) clone).unwrap();
+        }
+        return clone;
+    }
+
+    private static Collection<Object> createMergeTarget(Collection<Object> clone) {
+        if (clone == Collections.emptyList() || clone == Collections.emptySet()) {
+            return createDefaultCollection(clone.getClass());
+        }
+        final Optional<Collection<?>> origOpt = createNewInstance(clone.getClass(), clone.size());
+        return (Collection<Object>) origOpt.orElse(createDefaultCollection(clone.getClass()));
+    }
+
     private static Collection<Object> createDefaultCollection(Class<?> cls) {
         return CollectionFactory.createDefaultCollection(CollectionType.fromClass(cls));
     }
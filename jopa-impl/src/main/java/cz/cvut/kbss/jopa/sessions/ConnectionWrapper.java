@@ -15,6 +15,9 @@
 package cz.cvut.kbss.jopa.sessions;
 
 import cz.cvut.kbss.jopa.exceptions.OWLPersistenceException;
+import cz.cvut.kbss.jopa.metrics.MetricNames;
+import cz.cvut.kbss.jopa.metrics.MetricsCollector;
+import cz.cvut.kbss.jopa.model.FlushModeType;
 import cz.cvut.kbss.jopa.model.descriptors.Descriptor;
 import cz.cvut.kbss.jopa.model.metamodel.FieldSpecification;
 import cz.cvut.kbss.jopa.oom.ObjectOntologyMapper;
@@ -22,21 +25,34 @@ import cz.cvut.kbss.jopa.oom.ObjectOntologyMapperImpl;
 import cz.cvut.kbss.jopa.utils.EntityPropertiesUtils;
 import cz.cvut.kbss.jopa.utils.Wrapper;
 import cz.cvut.kbss.ontodriver.Connection;
+import cz.cvut.kbss.ontodriver.PreparedStatement;
 import cz.cvut.kbss.ontodriver.Statement;
 import cz.cvut.kbss.ontodriver.exception.OntoDriverException;
 import cz.cvut.kbss.ontodriver.model.Axiom;
 
 import java.net.URI;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 
 public class ConnectionWrapper implements Wrapper {
 
     private final Connection connection;
+    private final MetricsCollector metrics;
     private ObjectOntologyMapper mapper;
 
+    private FlushModeType flushMode = FlushModeType.IMMEDIATE;
+    private final PendingChangeRegistry pendingChanges = new PendingChangeRegistry();
+
     public ConnectionWrapper(Connection connection) {
+        this(connection, MetricsCollector.NO_OP);
+    }
+
+    public ConnectionWrapper(Connection connection, MetricsCollector metrics) {
         this.connection = connection;
+        this.metrics = Objects.requireNonNull(metrics);
     }
 
     void setUnitOfWork(UnitOfWorkImpl uow) {
@@ -45,7 +61,19 @@ public class ConnectionWrapper implements Wrapper {
 
     public <T> boolean contains(Object identifier, Class<T> cls, Descriptor descriptor) {
         final URI idUri = getIdentifierAsUri(identifier);
-        return idUri != null && mapper.containsEntity(cls, idUri, descriptor);
+        if (idUri == null) {
+            return false;
+        }
+        recordOperation("contains");
+        return mapper.containsEntity(cls, idUri, descriptor);
+    }
+
+    private void recordOperation(String operation) {
+        metrics.incrementCounter(MetricNames.STORAGE_OPERATIONS, MetricNames.TAG_OPERATION, operation);
+    }
+
+    private void recordEntityLoaded(Class<?> cls) {
+        metrics.incrementCounter(MetricNames.ENTITY_LOADS, MetricNames.TAG_ENTITY, cls.getSimpleName());
     }
 
     private static URI getIdentifierAsUri(Object identifier) {
@@ -53,44 +81,154 @@ public class ConnectionWrapper implements Wrapper {
     }
 
     public <T> T find(LoadingParameters<T> loadingParameters) {
-        return mapper.loadEntity(loadingParameters);
+        recordOperation("find");
+        final long start = System.nanoTime();
+        final T result = mapper.loadEntity(loadingParameters);
+        metrics.recordTime(MetricNames.STORAGE_FIND, System.nanoTime() - start);
+        if (result != null) {
+            recordEntityLoaded(loadingParameters.getEntityType());
+        }
+        return result;
+    }
+
+    /**
+     * Loads entities with the specified identifiers in bulk.
+     *
+     * @param cls         Entity class
+     * @param identifiers Identifiers of the entities to load
+     * @param descriptor  Entity descriptor
+     * @return Loaded entities mapped by their identifiers
+     */
+    public <T> Map<URI, T> findAll(Class<T> cls, Collection<URI> identifiers, Descriptor descriptor) {
+        recordOperation("findAll");
+        final long start = System.nanoTime();
+        final Map<URI, T> result = mapper.loadEntities(cls, identifiers, descriptor);
+        metrics.recordTime(MetricNames.STORAGE_FIND, System.nanoTime() - start);
+        if (metrics.isEnabled()) {
+            result.values().forEach(e -> recordEntityLoaded(cls));
+        }
+        return result;
     }
 
     public <T> T getReference(LoadingParameters<T> loadingParameters) {
+        recordOperation("getReference");
         return mapper.loadReference(loadingParameters);
     }
 
+    /**
+     * Sets flush mode of this connection.
+     * <p>
+     * Switching to {@link FlushModeType#IMMEDIATE} writes all pending changes into the storage.
+     *
+     * @param flushMode Flush mode to use
+     */
+    void setFlushMode(FlushModeType flushMode) {
+        this.flushMode = Objects.requireNonNull(flushMode);
+        if (flushMode == FlushModeType.IMMEDIATE) {
+            flush();
+        }
+    }
+
+    FlushModeType getFlushMode() {
+        return flushMode;
+    }
+
+    /**
+     * Writes the current value of the specified field into the storage.
+     * <p>
+     * In {@link FlushModeType#DEFERRED} mode, the change is only registered and written into the storage on the next
+     * {@link #flush()}.
+     *
+     * @param entity     Entity whose field value changed
+     * @param fieldSpec  The changed field
+     * @param descriptor Entity descriptor
+     */
     public <T> void merge(T entity, FieldSpecification<? super T, ?> fieldSpec, Descriptor descriptor) {
-        mapper.updateFieldValue(entity, fieldSpec, descriptor);
+        if (flushMode == FlushModeType.DEFERRED) {
+            pendingChanges.register(entity, fieldSpec, descriptor);
+        } else {
+            recordOperation("merge");
+            mapper.updateFieldValue(entity, fieldSpec, descriptor);
+        }
+    }
+
+    /**
+     * Writes all pending attribute changes into the storage.
+     * <p>
+     * Pending changes of an entity are written in one batch.
+     */
+    public void flush() {
+        pendingChanges.drain(this::writePendingChanges);
+    }
+
+    /**
+     * Writes pending attribute changes of the specified entity (if there are any) into the storage.
+     *
+     * @param entity Entity whose changes to write
+     */
+    public void flush(Object entity) {
+        pendingChanges.drain(entity, this::writePendingChanges);
+    }
+
+    private <T> void writePendingChanges(T entity, Set<FieldSpecification<? super T, ?>> fields,
+                                         Descriptor descriptor) {
+        recordOperation("merge");
+        mapper.updateFieldValues(entity, fields, descriptor);
+    }
+
+    /**
+     * Discards pending (not yet written) attribute changes of the specified entity.
+     *
+     * @param entity Entity whose changes to discard
+     */
+    public void discardPendingChanges(Object entity) {
+        pendingChanges.discard(entity);
+    }
+
+    /**
+     * Discards all pending (not yet written) attribute changes.
+     */
+    public void discardPendingChanges() {
+        pendingChanges.clear();
     }
 
     public <T> void persist(Object identifier, T entity, Descriptor descriptor) {
         final URI idUri = getIdentifierAsUri(identifier);
+        recordOperation("persist");
         mapper.persistEntity(idUri, entity, descriptor);
+        metrics.incrementCounter(MetricNames.ENTITY_PERSISTS, MetricNames.TAG_ENTITY,
+                                 entity.getClass().getSimpleName());
     }
 
     public <T> void remove(Object identifier, Class<T> cls, Descriptor descriptor) {
         final URI idUri = getIdentifierAsUri(identifier);
+        recordOperation("remove");
         mapper.removeEntity(idUri, cls, descriptor);
     }
 
     public <T> void loadFieldValue(T entity, FieldSpecification<? super T, ?> fieldSpec, Descriptor descriptor) {
+        recordOperation("loadFieldValue");
         mapper.loadFieldValue(entity, fieldSpec, descriptor);
     }
 
     public <T> Set<Axiom<?>> getAttributeAxioms(T entity, FieldSpecification<? super T, ?> fieldSpec,
                                                 Descriptor entityDescriptor) {
+        recordOperation("getAttributeAxioms");
         return mapper.getAttributeAxioms(entity, fieldSpec, entityDescriptor);
     }
 
     public <T> boolean isInferred(T entity, FieldSpecification<? super T, ?> fieldSpec, Object value,
                                   Descriptor entityDescriptor) {
+        flush(entity);
+        recordOperation("isInferred");
         return mapper.isInferred(entity, fieldSpec, value, entityDescriptor);
     }
 
     public void commit() {
         try {
+            flush();
             mapper.checkForUnpersistedChanges();
+            recordOperation("commit");
             connection.commit();
         } catch (OntoDriverException e) {
             throw new OWLPersistenceException(e);
@@ -98,6 +236,7 @@ public class ConnectionWrapper implements Wrapper {
     }
 
     public void rollback() {
+        pendingChanges.clear();
         try {
             connection.rollback();
         } catch (OntoDriverException e) {
@@ -106,6 +245,7 @@ public class ConnectionWrapper implements Wrapper {
     }
 
     public void close() {
+        pendingChanges.clear();
         try {
             connection.close();
         } catch (Exception e) {
@@ -114,6 +254,7 @@ public class ConnectionWrapper implements Wrapper {
     }
 
     public boolean isConsistent(URI context) {
+        flush();
         try {
             return connection.isConsistent(context);
         } catch (OntoDriverException e) {
@@ -122,6 +263,7 @@ public class ConnectionWrapper implements Wrapper {
     }
 
     public boolean isInferred(Axiom<?> axiom, Set<URI> contexts) {
+        flush();
         try {
             return connection.isInferred(axiom, contexts);
         } catch (OntoDriverException e) {
@@ -137,7 +279,15 @@ public class ConnectionWrapper implements Wrapper {
         }
     }
 
+    /**
+     * Creates a statement for query execution.
+     * <p>
+     * Pending attribute changes are written into the storage first so that they are visible to the query.
+     *
+     * @return New statement
+     */
     public Statement createStatement() {
+        flush();
         try {
             return connection.createStatement();
         } catch (OntoDriverException e) {
@@ -145,6 +295,41 @@ public class ConnectionWrapper implements Wrapper {
         }
     }
 
+    /**
+     * Creates a prepared statement for the specified query.
+     * <p>
+     * Pending attribute changes are written into the storage first so that they are visible to the query.
+     *
+     * @param sparql The query to prepare
+     * @return New prepared statement
+     */
+    public PreparedStatement prepareStatement(String sparql) {
+        flush();
+        try {
+            return connection.prepareStatement(sparql);
+        } catch (OntoDriverException e) {
+            throw new OWLPersistenceException(e);
+        }
+    }
+
+    /**
+     * Records duration of a query execution.
+     * <p>
+     * Queries are distinguished by hash of the query template, so that the metrics are not flooded with whole queries.
+     * The template is the query before parameter values are bound, which keeps the number of distinct tags bounded by
+     * the number of queries the application defines.
+     *
+     * @param query         Template of the executed query, i.e., without bound parameter values
+     * @param type          Kind of the execution ({@code select}, {@code update})
+     * @param durationNanos Duration of the execution in nanoseconds
+     */
+    public void recordQueryExecution(String query, String type, long durationNanos) {
+        if (metrics.isEnabled()) {
+            metrics.recordTime(MetricNames.QUERY, durationNanos, MetricNames.TAG_QUERY,
+                               Integer.toHexString(query.hashCode()), MetricNames.TAG_QUERY_TYPE, type);
+        }
+    }
+
     @Override
     public <T> T unwrap(Class<T> cls) {
         try {
@@ -0,0 +1,125 @@
+/**
+ * Copyright (C) 2023 Czech Technical University in Prague
+ *
+ * This program is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any
+ * later version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more
+ * details. You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package cz.cvut.kbss.jopa.sessions;
+
+import cz.cvut.kbss.jopa.model.descriptors.Descriptor;
+import cz.cvut.kbss.jopa.model.metamodel.FieldSpecification;
+
+import java.util.*;
+
+/**
+ * Keeps track of attribute changes which have not been written into the storage yet.
+ * <p>
+ * Changes are grouped by the entity instance (and its descriptor) they concern, so that all pending changes of an
+ * entity can be written into the storage in one batch.
+ */
+class PendingChangeRegistry {
+
+    private final Map<Object, Map<Descriptor, Set<FieldSpecification<?, ?>>>> pendingChanges =
+            new IdentityHashMap<>();
+
+    /**
+     * Registers a pending change of the specified attribute of the specified entity.
+     *
+     * @param entity     Changed entity
+     * @param fieldSpec  Changed attribute
+     * @param descriptor Entity descriptor
+     */
+    <T> void register(T entity, FieldSpecification<? super T, ?> fieldSpec, Descriptor descriptor) {
+        assert entity != null;
+        assert fieldSpec != null;
+        assert descriptor != null;
+
+        pendingChanges.computeIfAbsent(entity, e -> new LinkedHashMap<>(2))
+                      .computeIfAbsent(descriptor, d -> new LinkedHashSet<>()).add(fieldSpec);
+    }
+
+    /**
+     * Checks whether there are any pending changes.
+     *
+     * @return {@code true} if there are pending changes, {@code false} otherwise
+     */
+    boolean hasPendingChanges() {
+        return !pendingChanges.isEmpty();
+    }
+
+    /**
+     * Checks whether there are any pending changes of the specified entity.
+     *
+     * @param entity Entity to check
+     * @return {@code true} if there are pending changes of the entity, {@code false} otherwise
+     */
+    boolean hasPendingChanges(Object entity) {
+        return pendingChanges.containsKey(entity);
+    }
+
+    /**
+     * Discards pending changes of the specified entity.
+     *
+     * @param entity Entity whose changes to discard
+     */
+    void discard(Object entity) {
+        pendingChanges.remove(entity);
+    }
+
+    /**
+     * Discards all pending changes.
+     */
+    void clear() {
+        pendingChanges.clear();
+    }
+
+    /**
+     * Removes all pending changes from this registry and passes them to the specified consumer, one call per entity
+     * and descriptor.
+     *
+     * @param consumer Consumer of the pending changes
+     */
+    void drain(PendingChangeConsumer consumer) {
+        if (pendingChanges.isEmpty()) {
+            return;
+        }
+        final Map<Object, Map<Descriptor, Set<FieldSpecification<?, ?>>>> toWrite =
+                new IdentityHashMap<>(pendingChanges);
+        pendingChanges.clear();
+        toWrite.forEach((entity, changes) -> changes.forEach(
+                (descriptor, fields) -> passToConsumer(consumer, entity, fields, descriptor)));
+    }
+
+    /**
+     * Removes pending changes of the specified entity from this registry and passes them to the specified consumer.
+     *
+     * @param entity   Entity whose pending changes should be processed
+     * @param consumer Consumer of the pending changes
+     */
+    void drain(Object entity, PendingChangeConsumer consumer) {
+        final Map<Descriptor, Set<FieldSpecification<?, ?>>> changes = pendingChanges.remove(entity);
+        if (changes != null) {
+            changes.forEach((descriptor, fields) -> passToConsumer(consumer, entity, fields, descriptor));
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void passToConsumer(PendingChangeConsumer consumer, Object entity,
+                                       Set<FieldSpecification<?, ?>> fields, Descriptor descriptor) {
+        // Safe, register ensures that only fields declared by the entity's type are stored for it
+        consumer.accept(entity, (Set<FieldSpecification<? super Object, ?>>) (Set<?>) fields, descriptor);
+    }
+
+    @FunctionalInterface
+    interface PendingChangeConsumer {
+        <T> void accept(T entity, Set<FieldSpecification<? super T, ?>> fields, Descriptor descriptor);
+    }
+}
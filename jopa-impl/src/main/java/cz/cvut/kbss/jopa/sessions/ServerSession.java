@@ -16,14 +16,20 @@ package cz.cvut.kbss.jopa.sessions;
 
 import cz.cvut.kbss.jopa.accessors.DefaultStorageAccessor;
 import cz.cvut.kbss.jopa.accessors.StorageAccessor;
+import cz.cvut.kbss.jopa.exceptions.OWLPersistenceException;
+import cz.cvut.kbss.jopa.metrics.MetricsCollector;
 import cz.cvut.kbss.jopa.model.AbstractEntityManager;
+import cz.cvut.kbss.jopa.model.JOPAPersistenceProperties;
 import cz.cvut.kbss.jopa.model.MetamodelImpl;
 import cz.cvut.kbss.jopa.model.metamodel.Metamodel;
 import cz.cvut.kbss.jopa.query.NamedQueryManager;
+import cz.cvut.kbss.jopa.query.QueryPlanCache;
 import cz.cvut.kbss.jopa.query.ResultSetMappingManager;
 import cz.cvut.kbss.jopa.sessions.cache.CacheFactory;
+import cz.cvut.kbss.jopa.sessions.cache.QueryAttributeCache;
 import cz.cvut.kbss.jopa.transactions.EntityTransaction;
 import cz.cvut.kbss.jopa.utils.Configuration;
+import cz.cvut.kbss.jopa.utils.ReflectionUtils;
 import cz.cvut.kbss.jopa.utils.Wrapper;
 import cz.cvut.kbss.ontodriver.OntologyStorageProperties;
 import cz.cvut.kbss.ontodriver.exception.OntoDriverException;
@@ -42,6 +48,9 @@ import java.util.concurrent.ConcurrentHashMap;
 public class ServerSession extends AbstractSession implements Wrapper {
 
     private final MetamodelImpl metamodel;
+    private final QueryPlanCache queryPlanCache;
+    private final QueryAttributeCache queryAttributeCache = new QueryAttributeCache();
+    private final MetricsCollector metrics;
 
     private CacheManager liveObjectCache;
     private StorageAccessor storageAccessor;
@@ -51,12 +60,16 @@ public class ServerSession extends AbstractSession implements Wrapper {
     ServerSession() {
         super(new Configuration(Collections.emptyMap()));
         this.metamodel = null;
+        this.queryPlanCache = new QueryPlanCache(QueryPlanCache.DEFAULT_CAPACITY);
+        this.metrics = MetricsCollector.NO_OP;
     }
 
     public ServerSession(OntologyStorageProperties storageProperties, Configuration configuration,
                          MetamodelImpl metamodel) {
         super(configuration);
         this.metamodel = metamodel;
+        this.queryPlanCache = new QueryPlanCache(configuration);
+        this.metrics = createMetricsCollector(configuration);
         initialize(storageProperties, configuration, metamodel);
     }
 
@@ -75,12 +88,25 @@ public class ServerSession extends AbstractSession implements Wrapper {
         this.runningTransactions = new ConcurrentHashMap<>();
         this.liveObjectCache = CacheFactory.createCache(configuration.getProperties());
         liveObjectCache.setInferredClasses(metamodel.getInferredClasses());
+        liveObjectCache.setMetricsCollector(metrics);
         this.storageAccessor = new DefaultStorageAccessor(storageProperties, configuration.getProperties());
     }
 
+    private static MetricsCollector createMetricsCollector(Configuration configuration) {
+        if (!configuration.contains(JOPAPersistenceProperties.METRICS_COLLECTOR_CLASS)) {
+            return MetricsCollector.NO_OP;
+        }
+        final String collectorType = configuration.get(JOPAPersistenceProperties.METRICS_COLLECTOR_CLASS);
+        try {
+            return (MetricsCollector) ReflectionUtils.instantiateUsingDefaultConstructor(Class.forName(collectorType));
+        } catch (ClassNotFoundException | ClassCastException | cz.cvut.kbss.jopa.exception.InstantiationException e) {
+            throw new OWLPersistenceException("Unable to instantiate metrics collector " + collectorType + ".", e);
+        }
+    }
+
     @Override
     protected ConnectionWrapper acquireConnection() {
-        return new ConnectionWrapper(storageAccessor.acquireConnection());
+        return new ConnectionWrapper(storageAccessor.acquireConnection(), metrics);
     }
 
     @Override
@@ -117,6 +143,9 @@ public class ServerSession extends AbstractSession implements Wrapper {
             }
         }
         liveObjectCache.close();
+        queryPlanCache.clear();
+        queryAttributeCache.invalidate();
+        metrics.close();
     }
 
     @Override
@@ -144,6 +173,21 @@ public class ServerSession extends AbstractSession implements Wrapper {
         return metamodel.getResultSetMappingManager();
     }
 
+    @Override
+    public QueryPlanCache getQueryPlanCache() {
+        return queryPlanCache;
+    }
+
+    @Override
+    public QueryAttributeCache getQueryAttributeCache() {
+        return queryAttributeCache;
+    }
+
+    @Override
+    public MetricsCollector getMetrics() {
+        return metrics;
+    }
+
     @Override
     public <T> T unwrap(Class<T> cls) {
         Objects.requireNonNull(cls);
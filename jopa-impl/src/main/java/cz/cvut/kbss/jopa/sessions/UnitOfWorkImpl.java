@@ -19,9 +19,12 @@ import cz.cvut.kbss.jopa.adapters.IndirectWrapper;
 import cz.cvut.kbss.jopa.exceptions.EntityNotFoundException;
 import cz.cvut.kbss.jopa.exceptions.OWLEntityExistsException;
 import cz.cvut.kbss.jopa.exceptions.OWLPersistenceException;
+import cz.cvut.kbss.jopa.metrics.MetricNames;
+import cz.cvut.kbss.jopa.metrics.MetricsCollector;
 import cz.cvut.kbss.jopa.model.AbstractEntityManager;
 import cz.cvut.kbss.jopa.model.BeanListenerAspect;
 import cz.cvut.kbss.jopa.model.EntityManagerImpl.State;
+import cz.cvut.kbss.jopa.model.FlushModeType;
 import cz.cvut.kbss.jopa.model.LoadState;
 import cz.cvut.kbss.jopa.model.MetamodelImpl;
 import cz.cvut.kbss.jopa.model.descriptors.Descriptor;
@@ -29,10 +32,13 @@ import cz.cvut.kbss.jopa.model.lifecycle.PostLoadInvoker;
 import cz.cvut.kbss.jopa.model.metamodel.EntityType;
 import cz.cvut.kbss.jopa.model.metamodel.IdentifiableEntityType;
 import cz.cvut.kbss.jopa.model.metamodel.FieldSpecification;
+import cz.cvut.kbss.jopa.model.metamodel.QueryAttribute;
 import cz.cvut.kbss.jopa.query.NamedQueryManager;
+import cz.cvut.kbss.jopa.query.QueryPlanCache;
 import cz.cvut.kbss.jopa.query.ResultSetMappingManager;
 import cz.cvut.kbss.jopa.query.criteria.CriteriaBuilderImpl;
 import cz.cvut.kbss.jopa.query.sparql.SparqlQueryFactory;
+import cz.cvut.kbss.jopa.sessions.cache.QueryAttributeCache;
 import cz.cvut.kbss.jopa.sessions.change.ChangeManagerImpl;
 import cz.cvut.kbss.jopa.sessions.change.ChangeRecordImpl;
 import cz.cvut.kbss.jopa.sessions.change.ChangeSetFactory;
@@ -85,7 +91,7 @@ public class UnitOfWorkImpl extends AbstractSession implements UnitOfWork, Confi
 
     private final MergeManager mergeManager;
     private final CloneBuilder cloneBuilder;
-    private final ChangeManager changeManager;
+    private final ChangeManagerImpl changeManager;
     private final SparqlQueryFactory queryFactory;
     private final CriteriaBuilder criteriaFactory;
     private final IndirectWrapperHelper indirectWrapperHelper;
@@ -104,14 +110,14 @@ public class UnitOfWorkImpl extends AbstractSession implements UnitOfWork, Confi
         this.newObjectsCloneToOriginal = createMap();
         this.instanceDescriptors = new IdentityHashMap<>();
         this.repoMap = new RepositoryMap();
-        this.cloneBuilder = new CloneBuilderImpl(this);
+        this.cloneBuilder = new CloneBuilderImpl(this, parent.getMetrics());
         this.indirectWrapperHelper = new IndirectWrapperHelper(this);
         this.cacheManager = parent.getLiveObjectCache();
         this.storage = acquireConnection();
         this.queryFactory = new SparqlQueryFactory(this, storage);
         this.criteriaFactory = new CriteriaBuilderImpl(this);
         this.mergeManager = new MergeManagerImpl(this);
-        this.changeManager = new ChangeManagerImpl(this);
+        this.changeManager = new ChangeManagerImpl(this, parent.getMetrics());
         this.inferredAttributeChangeValidator = new InferredAttributeChangeValidator(storage);
         this.isActive = true;
     }
@@ -160,6 +166,40 @@ public class UnitOfWorkImpl extends AbstractSession implements UnitOfWork, Confi
         return cls.cast(clone);
     }
 
+    @Override
+    public <T> List<T> readObjects(Class<T> cls, List<?> identifiers, Descriptor descriptor) {
+        Objects.requireNonNull(cls);
+        Objects.requireNonNull(identifiers);
+        Objects.requireNonNull(descriptor);
+
+        final Set<URI> toLoad = new LinkedHashSet<>();
+        for (Object identifier : identifiers) {
+            Objects.requireNonNull(identifier);
+            if (readManagedObject(cls, identifier, descriptor) == null) {
+                toLoad.add(getValueAsURI(identifier));
+            }
+        }
+        final Map<URI, T> loaded =
+                toLoad.isEmpty() ? Collections.emptyMap() : storage.findAll(cls, toLoad, descriptor);
+        final List<T> result = new ArrayList<>(identifiers.size());
+        for (Object identifier : identifiers) {
+            final T managed = readManagedObject(cls, identifier, descriptor);
+            if (managed != null) {
+                result.add(managed);
+                continue;
+            }
+            final T original = loaded.get(getValueAsURI(identifier));
+            if (original == null) {
+                continue;
+            }
+            final Object clone = registerExistingObject(original, descriptor,
+                                                        Collections.singletonList(new PostLoadInvoker(getMetamodel())));
+            checkForIndirectObjects(clone);
+            result.add(cls.cast(clone));
+        }
+        return result;
+    }
+
     private <T> T readManagedObject(Class<T> cls, Object identifier, Descriptor descriptor) {
         // First try to find the object among new uncommitted objects
         Object result = newObjectsKeyToClone.get(identifier);
@@ -199,11 +239,7 @@ public class UnitOfWorkImpl extends AbstractSession implements UnitOfWork, Confi
         instanceDescriptors.put(result, InstanceDescriptorFactory.createNotLoaded(result, entityType(cls)));
         registerEntityWithPersistenceContext(result);
         registerEntityWithOntologyContext(result, descriptor);
-        if (getLiveObjectCache().contains(cls, identifier, descriptor)) {
-            cloneToOriginals.put(result, getLiveObjectCache().get(cls, identifier, descriptor));
-        } else {
-            cloneToOriginals.put(result, null);
-        }
+        cloneToOriginals.put(result, getLiveObjectCache().get(cls, identifier, descriptor));
         keysToClones.put(identifier, result);
         return result;
     }
@@ -219,6 +255,9 @@ public class UnitOfWorkImpl extends AbstractSession implements UnitOfWork, Confi
         if (hasDeleted) {
             calculateDeletedObjects(uowChangeSet);
         }
+        if (hasChanges) {
+            uowChangeSet.getExistingObjectsChanges().forEach(changeManager::calculateSetChanges);
+        }
     }
 
     /**
@@ -250,6 +289,7 @@ public class UnitOfWorkImpl extends AbstractSession implements UnitOfWork, Confi
 
     @Override
     public void clear() {
+        storage.discardPendingChanges();
         detachAllManagedInstances();
         cloneToOriginals.clear();
         keysToClones.clear();
@@ -290,7 +330,9 @@ public class UnitOfWorkImpl extends AbstractSession implements UnitOfWork, Confi
             throw new IllegalStateException("Cannot commit inactive Unit of Work!");
         }
         this.inCommit = true;
+        final long start = System.nanoTime();
         commitUnitOfWork();
+        getMetrics().recordTime(MetricNames.COMMIT, System.nanoTime() - start);
         LOG.trace("UnitOfWork commit finished.");
     }
 
@@ -321,6 +363,7 @@ public class UnitOfWorkImpl extends AbstractSession implements UnitOfWork, Confi
         clear();
         this.inCommit = false;
         if (changes) {
+            getQueryAttributeCache().invalidate();
             if (shouldClearCacheAfterCommit) {
                 cacheManager.evictAll();
                 this.shouldReleaseAfterCommit = true;
@@ -535,9 +578,8 @@ public class UnitOfWorkImpl extends AbstractSession implements UnitOfWork, Confi
         if (orig == null) {
             return;
         }
-        final ChangeRecord record = new ChangeRecordImpl(fieldSpec,
-                                                         EntityPropertiesUtils.getFieldValue(fieldSpec.getJavaField(),
-                                                                                             clone));
+        final ChangeRecord record =
+                new ChangeRecordImpl(fieldSpec, EntityPropertiesUtils.getAttributeValue(fieldSpec, clone));
         preventCachingIfReferenceIsNotLoaded(record);
         registerChangeRecord(clone, orig, descriptor, record);
     }
@@ -679,6 +721,21 @@ public class UnitOfWorkImpl extends AbstractSession implements UnitOfWork, Confi
         return parent.getResultSetMappingManager();
     }
 
+    @Override
+    public QueryPlanCache getQueryPlanCache() {
+        return parent.getQueryPlanCache();
+    }
+
+    @Override
+    public MetricsCollector getMetrics() {
+        return parent.getMetrics();
+    }
+
+    @Override
+    public QueryAttributeCache getQueryAttributeCache() {
+        return parent.getQueryAttributeCache();
+    }
+
     @Override
     public Object registerExistingObject(Object entity, Descriptor descriptor) {
         return registerExistingObject(entity, descriptor, Collections.emptyList());
@@ -706,11 +763,27 @@ public class UnitOfWorkImpl extends AbstractSession implements UnitOfWork, Confi
         final Object identifier = EntityPropertiesUtils.getIdentifier(clone, getMetamodel());
         keysToClones.put(identifier, clone);
         final InstanceDescriptor<?> instanceDesc = identifier != null ? InstanceDescriptorFactory.create(clone, (EntityType<Object>) entityType(clone.getClass())) : InstanceDescriptorFactory.createAllLoaded(clone, (EntityType<Object>) entityType(clone.getClass()));
+        if (identifier != null) {
+            markStaleQueryAttributesNotLoaded((InstanceDescriptor<Object>) instanceDesc, original);
+        }
         instanceDescriptors.put(clone, instanceDesc);
         registerEntityWithPersistenceContext(clone);
         registerEntityWithOntologyContext(clone, descriptor);
     }
 
+    /**
+     * Marks query attributes whose values in the original cannot be reused as not loaded, so that they are evaluated
+     * lazily on first access.
+     */
+    private void markStaleQueryAttributesNotLoaded(InstanceDescriptor<Object> instanceDesc, Object original) {
+        final QueryAttributeCache queryAttributeCache = getQueryAttributeCache();
+        for (QueryAttribute<? super Object, ?> qa : entityType((Class<Object>) original.getClass()).getQueryAttributes()) {
+            if (!queryAttributeCache.isValid(original, qa)) {
+                instanceDesc.setLoaded(qa, LoadState.NOT_LOADED);
+            }
+        }
+    }
+
     /**
      * Release this Unit of Work. Releasing an active Unit of Work with uncommitted changes causes all pending changes
      * to be discarded.
@@ -736,6 +809,7 @@ public class UnitOfWorkImpl extends AbstractSession implements UnitOfWork, Confi
         params.bypassCache();
         final ConnectionWrapper connection = acquireConnection();
         try {
+            storage.discardPendingChanges(object);
             uowChangeSet.cancelObjectChanges(getOriginal(object));
             T original = connection.find(params);
             if (original == null) {
@@ -830,6 +904,7 @@ public class UnitOfWorkImpl extends AbstractSession implements UnitOfWork, Confi
         final Object primaryKey = getIdentifier(entity);
         final Descriptor descriptor = getDescriptor(entity);
 
+        storage.discardPendingChanges(entity);
         if (hasNew && newObjectsCloneToOriginal.containsKey(entity)) {
             unregisterObject(entity);
             newObjectsKeyToClone.remove(primaryKey);
@@ -859,6 +934,7 @@ public class UnitOfWorkImpl extends AbstractSession implements UnitOfWork, Confi
         if (object == null) {
             return;
         }
+        storage.flush(object);
         final Object original = cloneToOriginals.remove(object);
         keysToClones.remove(EntityPropertiesUtils.getIdentifier(object, getMetamodel()));
 
@@ -887,6 +963,20 @@ public class UnitOfWorkImpl extends AbstractSession implements UnitOfWork, Confi
         this.entityManager = entityManager;
     }
 
+    /**
+     * Sets flush mode of this persistence context.
+     *
+     * @param flushMode Flush mode determining when attribute changes are written into the storage
+     * @see FlushModeType
+     */
+    public void setFlushMode(FlushModeType flushMode) {
+        storage.setFlushMode(flushMode);
+    }
+
+    public FlushModeType getFlushMode() {
+        return storage.getFlushMode();
+    }
+
     @Override
     public void writeUncommittedChanges() {
         if (hasChanges()) {
@@ -945,6 +1035,9 @@ public class UnitOfWorkImpl extends AbstractSession implements UnitOfWork, Confi
         final Object entityOriginal = getOriginal(entity);
         if (entityOriginal != null) {
             EntityPropertiesUtils.setFieldValue(field, entityOriginal, orig);
+            if (fieldSpec instanceof QueryAttribute) {
+                getQueryAttributeCache().recordEvaluation(entityOriginal, (QueryAttribute<?, ?>) fieldSpec);
+            }
         }
         final Descriptor fieldDescriptor = getFieldDescriptor(entity, field, entityDescriptor);
         final Object clone = cloneLoadedFieldValue(entity, field, fieldDescriptor, orig);
@@ -1084,10 +1177,10 @@ public class UnitOfWorkImpl extends AbstractSession implements UnitOfWork, Confi
         assert entity != null;
         final EntityType<?> et = entityType(entity.getClass());
         for (FieldSpecification<?, ?> fs : et.getFieldSpecifications()) {
-            final Object value = EntityPropertiesUtils.getFieldValue(fs.getJavaField(), entity);
+            final Object value = EntityPropertiesUtils.getAttributeValue(fs, entity);
             if (value instanceof IndirectCollection) {
                 IndirectCollection<?> indCol = (IndirectCollection<?>) value;
-                EntityPropertiesUtils.setFieldValue(fs.getJavaField(), entity, indCol.unwrap());
+                EntityPropertiesUtils.setAttributeValue(fs, entity, indCol.unwrap());
             }
         }
     }
@@ -31,6 +31,7 @@ public abstract class CacheFactory {
 
     private static final String LRU_CACHE = "lru";
     private static final String TTL_CACHE = "ttl";
+    private static final String CONCURRENT_CACHE = "concurrent";
 
     private CacheFactory() {
         throw new AssertionError();
@@ -61,6 +62,9 @@ public abstract class CacheFactory {
             case TTL_CACHE:
                 LOG.debug("Using TTL cache.");
                 return new TtlCacheManager(properties);
+            case CONCURRENT_CACHE:
+                LOG.debug("Using concurrent cache.");
+                return new ConcurrentCacheManager(properties);
             default:
                 throw new IllegalArgumentException("Invalid second level cache type " + cacheType);
         }
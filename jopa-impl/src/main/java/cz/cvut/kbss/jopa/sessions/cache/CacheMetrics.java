@@ -0,0 +1,42 @@
+/**
+ * Copyright (C) 2023 Czech Technical University in Prague
+ *
+ * This program is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any
+ * later version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more
+ * details. You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package cz.cvut.kbss.jopa.sessions.cache;
+
+import cz.cvut.kbss.jopa.metrics.MetricNames;
+import cz.cvut.kbss.jopa.metrics.MetricsCollector;
+
+/**
+ * Records second level cache metrics shared by the cache manager implementations.
+ */
+final class CacheMetrics {
+
+    private CacheMetrics() {
+        throw new AssertionError();
+    }
+
+    /**
+     * Records result of a cache lookup.
+     *
+     * @param metrics Metrics collector
+     * @param result  Instance retrieved from the cache, {@code null} if it was not found
+     * @param <T>     Instance type
+     * @return The {@code result} argument, for convenience
+     */
+    static <T> T recordLookup(MetricsCollector metrics, T result) {
+        metrics.incrementCounter(MetricNames.CACHE_LOOKUPS, MetricNames.TAG_RESULT,
+                                 result != null ? MetricNames.HIT : MetricNames.MISS);
+        return result;
+    }
+}
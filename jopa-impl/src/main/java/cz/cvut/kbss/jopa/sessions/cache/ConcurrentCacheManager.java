@@ -0,0 +1,327 @@
+/**
+ * Copyright (C) 2023 Czech Technical University in Prague
+ *
+ * This program is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any
+ * later version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more
+ * details. You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package cz.cvut.kbss.jopa.sessions.cache;
+
+import cz.cvut.kbss.jopa.metrics.MetricsCollector;
+import cz.cvut.kbss.jopa.model.JOPAPersistenceProperties;
+import cz.cvut.kbss.jopa.model.descriptors.Descriptor;
+import cz.cvut.kbss.jopa.sessions.CacheManager;
+import cz.cvut.kbss.jopa.utils.ErrorUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.net.URI;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Fixed-size second level cache implementation designed for highly concurrent access.
+ * <p>
+ * Entries are stored in per-context segments backed by concurrent maps, so reads do not require any locking. Eviction
+ * uses the CLOCK (second chance) algorithm, which approximates LRU - reading an entry only marks it as referenced and
+ * when the capacity is exceeded, entries are examined in insertion order and the first one not referenced since its
+ * last examination is evicted.
+ * <p>
+ * Capacity (in number of entries) is configured using {@link JOPAPersistenceProperties#LRU_CACHE_CAPACITY}.
+ */
+public class ConcurrentCacheManager implements CacheManager {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ConcurrentCacheManager.class);
+
+    /**
+     * Default cache size limit in number of entries.
+     */
+    public static final int DEFAULT_CAPACITY = LruCacheManager.DEFAULT_CAPACITY;
+
+    private static final String DEFAULT_CONTEXT_BASE = "http://defaultContext";
+
+    private final int capacity;
+
+    private final URI defaultContext;
+
+    private final ConcurrentMap<URI, ConcurrentMap<CacheKey, CacheEntry>> segments = new ConcurrentHashMap<>();
+    /**
+     * Eviction queue, may contain entries already removed from the cache (these are skipped during eviction).
+     */
+    private final Queue<CacheEntry> evictionQueue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger size = new AtomicInteger();
+    private final AtomicInteger removedInQueue = new AtomicInteger();
+
+    private volatile Set<Class<?>> inferredClasses = Collections.emptySet();
+
+    private volatile MetricsCollector metrics = MetricsCollector.NO_OP;
+
+    ConcurrentCacheManager() {
+        this(Collections.emptyMap());
+    }
+
+    ConcurrentCacheManager(Map<String, String> properties) {
+        Objects.requireNonNull(properties);
+        this.capacity = resolveCapacitySetting(properties);
+        this.defaultContext = URI.create(DEFAULT_CONTEXT_BASE + System.currentTimeMillis());
+    }
+
+    private static int resolveCapacitySetting(Map<String, String> properties) {
+        if (!properties.containsKey(JOPAPersistenceProperties.LRU_CACHE_CAPACITY)) {
+            return DEFAULT_CAPACITY;
+        }
+        try {
+            final int capacitySetting = Integer.parseInt(properties.get(JOPAPersistenceProperties.LRU_CACHE_CAPACITY));
+            if (capacitySetting > 0) {
+                return capacitySetting;
+            }
+            LOG.warn("Invalid cache capacity value {}. Using default value.", capacitySetting);
+        } catch (NumberFormatException e) {
+            LOG.error("Unable to parse cache capacity setting. Using default capacity {}.", DEFAULT_CAPACITY);
+        }
+        return DEFAULT_CAPACITY;
+    }
+
+    int getCapacity() {
+        return capacity;
+    }
+
+    int size() {
+        return size.get();
+    }
+
+    @Override
+    public void add(Object identifier, Object entity, Descriptor descriptor) {
+        Objects.requireNonNull(identifier, ErrorUtils.getNPXMessageSupplier("identifier"));
+        Objects.requireNonNull(entity, ErrorUtils.getNPXMessageSupplier("entity"));
+        Objects.requireNonNull(descriptor, ErrorUtils.getNPXMessageSupplier("descriptor"));
+        if (descriptor.getContexts().size() > 1) {
+            return;
+        }
+        final URI ctx = descriptor.getSingleContext().orElse(defaultContext);
+        final CacheEntry entry = new CacheEntry(ctx, new CacheKey(identifier, entity.getClass()), entity, descriptor);
+        size.incrementAndGet();
+        final CacheEntry previous = segments.computeIfAbsent(ctx, k -> new ConcurrentHashMap<>())
+                                            .put(entry.key, entry);
+        if (previous != null) {
+            remove(previous);
+        }
+        evictionQueue.offer(entry);
+        if (size.get() > capacity) {
+            evictOverflow();
+        }
+    }
+
+    /**
+     * Evicts entries until the cache size fits the capacity.
+     * <p>
+     * Referenced entries get a second chance, but to guarantee termination under heavy concurrent reads, only a
+     * bounded number of them is skipped.
+     */
+    private void evictOverflow() {
+        int secondChances = capacity;
+        while (size.get() > capacity) {
+            final CacheEntry candidate = evictionQueue.poll();
+            if (candidate == null) {
+                return;
+            }
+            if (candidate.isRemoved()) {
+                removedInQueue.decrementAndGet();
+                continue;
+            }
+            if (candidate.referenced && secondChances-- > 0) {
+                candidate.referenced = false;
+                evictionQueue.offer(candidate);
+                continue;
+            }
+            if (candidate.markRemoved()) {
+                size.decrementAndGet();
+                final ConcurrentMap<CacheKey, CacheEntry> segment = segments.get(candidate.context);
+                if (segment != null) {
+                    segment.remove(candidate.key, candidate);
+                }
+            }
+        }
+    }
+
+    /**
+     * Marks the specified entry, which has already been removed from its segment, as removed.
+     * <p>
+     * Every entry is accounted for exactly once, regardless of how many threads attempt to remove it.
+     */
+    private void remove(CacheEntry entry) {
+        if (!entry.markRemoved()) {
+            return;
+        }
+        size.decrementAndGet();
+        if (removedInQueue.incrementAndGet() > capacity) {
+            // Prevent removed entries from accumulating in the queue when the cache does not reach its capacity
+            removedInQueue.set(0);
+            evictionQueue.removeIf(CacheEntry::isRemoved);
+        }
+    }
+
+    @Override
+    public <T> T get(Class<T> cls, Object identifier, Descriptor descriptor) {
+        if (cls == null || identifier == null || descriptor == null) {
+            return null;
+        }
+        final CacheEntry entry = find(cls, identifier, descriptor);
+        if (entry == null) {
+            return CacheMetrics.recordLookup(metrics, null);
+        }
+        if (!entry.referenced) {
+            entry.referenced = true;
+        }
+        return CacheMetrics.recordLookup(metrics, cls.cast(entry.entity));
+    }
+
+    private CacheEntry find(Class<?> cls, Object identifier, Descriptor descriptor) {
+        final Set<URI> contexts =
+                descriptor.getContexts().isEmpty() ? Collections.singleton(defaultContext) : descriptor.getContexts();
+        final CacheKey key = new CacheKey(identifier, cls);
+        for (URI ctx : contexts) {
+            final ConcurrentMap<CacheKey, CacheEntry> segment = segments.get(ctx);
+            if (segment == null) {
+                continue;
+            }
+            final CacheEntry entry = segment.get(key);
+            if (entry != null && entry.descriptor.equals(descriptor)) {
+                return entry;
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public boolean contains(Class<?> cls, Object identifier, Descriptor descriptor) {
+        if (cls == null || identifier == null || descriptor == null) {
+            return false;
+        }
+        return find(cls, identifier, descriptor) != null;
+    }
+
+    @Override
+    public void evict(Class<?> cls, Object identifier, URI context) {
+        Objects.requireNonNull(cls, ErrorUtils.getNPXMessageSupplier("cls"));
+        Objects.requireNonNull(identifier, ErrorUtils.getNPXMessageSupplier("primaryKey"));
+
+        final ConcurrentMap<CacheKey, CacheEntry> segment = segments.get(context != null ? context : defaultContext);
+        if (segment == null) {
+            return;
+        }
+        final CacheEntry removed = segment.remove(new CacheKey(identifier, cls));
+        if (removed != null) {
+            remove(removed);
+        }
+    }
+
+    @Override
+    public void evict(Class<?> cls) {
+        Objects.requireNonNull(cls);
+        segments.values().forEach(segment -> segment.values().removeIf(e -> {
+            if (e.key.cls == cls) {
+                remove(e);
+                return true;
+            }
+            return false;
+        }));
+    }
+
+    @Override
+    public void evict(URI context) {
+        final ConcurrentMap<CacheKey, CacheEntry> segment = segments.remove(context != null ? context : defaultContext);
+        if (segment == null) {
+            return;
+        }
+        segment.values().forEach(this::remove);
+    }
+
+    @Override
+    public void evictAll() {
+        segments.keySet().forEach(this::evict);
+    }
+
+    @Override
+    public void evictInferredObjects() {
+        inferredClasses.forEach(this::evict);
+    }
+
+    @Override
+    public void setInferredClasses(Set<Class<?>> inferredClasses) {
+        this.inferredClasses = inferredClasses != null ? inferredClasses : Collections.emptySet();
+    }
+
+    @Override
+    public void setMetricsCollector(MetricsCollector metrics) {
+        this.metrics = Objects.requireNonNull(metrics);
+    }
+
+    @Override
+    public void close() {
+        evictAll();
+    }
+
+    private static final class CacheKey {
+        private final Object identifier;
+        private final Class<?> cls;
+
+        private CacheKey(Object identifier, Class<?> cls) {
+            this.identifier = identifier;
+            this.cls = cls;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof CacheKey)) {
+                return false;
+            }
+            final CacheKey that = (CacheKey) o;
+            return identifier.equals(that.identifier) && cls.equals(that.cls);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * identifier.hashCode() + cls.hashCode();
+        }
+    }
+
+    static final class CacheEntry {
+        private final URI context;
+        private final CacheKey key;
+        final Object entity;
+        final Descriptor descriptor;
+
+        private final AtomicBoolean removed = new AtomicBoolean();
+        private volatile boolean referenced;
+
+        private CacheEntry(URI context, CacheKey key, Object entity, Descriptor descriptor) {
+            this.context = context;
+            this.key = key;
+            this.entity = entity;
+            this.descriptor = descriptor;
+        }
+
+        private boolean markRemoved() {
+            return removed.compareAndSet(false, true);
+        }
+
+        private boolean isRemoved() {
+            return removed.get();
+        }
+    }
+}
@@ -14,6 +14,7 @@
  */
 package cz.cvut.kbss.jopa.sessions.cache;
 
+import cz.cvut.kbss.jopa.metrics.MetricsCollector;
 import cz.cvut.kbss.jopa.model.JOPAPersistenceProperties;
 import cz.cvut.kbss.jopa.model.descriptors.Descriptor;
 import cz.cvut.kbss.jopa.sessions.CacheManager;
@@ -51,6 +52,8 @@ public class LruCacheManager implements CacheManager {
 
     private Set<Class<?>> inferredClasses;
 
+    private volatile MetricsCollector metrics = MetricsCollector.NO_OP;
+
     LruCacheManager() {
         this(Collections.emptyMap());
     }
@@ -104,7 +107,7 @@ public class LruCacheManager implements CacheManager {
         }
         readLock.lock();
         try {
-            return entityCache.get(cls, primaryKey, descriptor);
+            return CacheMetrics.recordLookup(metrics, entityCache.get(cls, primaryKey, descriptor));
         } finally {
             readLock.unlock();
         }
@@ -132,6 +135,11 @@ public class LruCacheManager implements CacheManager {
         this.inferredClasses = inferredClasses;
     }
 
+    @Override
+    public void setMetricsCollector(MetricsCollector metrics) {
+        this.metrics = Objects.requireNonNull(metrics);
+    }
+
     @Override
     public void close() {
         evictAll();
@@ -0,0 +1,123 @@
+/**
+ * Copyright (C) 2023 Czech Technical University in Prague
+ *
+ * This program is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any
+ * later version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more
+ * details. You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package cz.cvut.kbss.jopa.sessions.cache;
+
+import cz.cvut.kbss.jopa.model.metamodel.QueryAttribute;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Keeps track of when query attribute values of instances were evaluated.
+ * <p>
+ * This allows reusing query attribute values of instances retrieved from the second level cache instead of evaluating
+ * the queries again. A value may be reused only if it has been evaluated since the last invalidation (e.g., commit of
+ * a transaction which changed the data) and its age does not exceed the cache TTL of the attribute.
+ * <p>
+ * Instances are referenced weakly and compared by identity, so the registry does not prevent garbage collection of
+ * instances evicted from the cache.
+ */
+public class QueryAttributeCache {
+
+    private final Map<InstanceReference, Map<QueryAttribute<?, ?>, Long>> evaluations = new HashMap<>();
+    private final ReferenceQueue<Object> referenceQueue = new ReferenceQueue<>();
+
+    /**
+     * Records that the value of the specified query attribute has just been evaluated for the specified instance.
+     *
+     * @param instance  Instance whose attribute was evaluated
+     * @param attribute Evaluated query attribute
+     */
+    public synchronized void recordEvaluation(Object instance, QueryAttribute<?, ?> attribute) {
+        Objects.requireNonNull(instance);
+        Objects.requireNonNull(attribute);
+        expungeCollected();
+        evaluations.computeIfAbsent(new InstanceReference(instance, referenceQueue), k -> new HashMap<>())
+                   .put(attribute, System.currentTimeMillis());
+    }
+
+    /**
+     * Checks whether the value of the specified query attribute of the specified instance may be reused.
+     *
+     * @param instance  Instance whose attribute value should be reused
+     * @param attribute Query attribute
+     * @return {@code true} if the attribute value was evaluated since the last invalidation and is not older than the
+     * attribute's cache TTL, {@code false} otherwise
+     */
+    public synchronized boolean isValid(Object instance, QueryAttribute<?, ?> attribute) {
+        Objects.requireNonNull(instance);
+        Objects.requireNonNull(attribute);
+        final Map<QueryAttribute<?, ?>, Long> instanceEvaluations =
+                evaluations.get(new InstanceReference(instance, null));
+        final Long evaluated = instanceEvaluations != null ? instanceEvaluations.get(attribute) : null;
+        if (evaluated == null) {
+            return false;
+        }
+        return attribute.getCacheTtl() <= 0 ||
+                System.currentTimeMillis() - evaluated <= TimeUnit.SECONDS.toMillis(attribute.getCacheTtl());
+    }
+
+    /**
+     * Invalidates all recorded evaluations.
+     * <p>
+     * Query attribute values evaluated before this call will not be reused.
+     */
+    public synchronized void invalidate() {
+        evaluations.clear();
+        expungeCollected();
+    }
+
+    private void expungeCollected() {
+        Reference<?> ref;
+        while ((ref = referenceQueue.poll()) != null) {
+            evaluations.remove(ref);
+        }
+    }
+
+    /**
+     * Weak reference to an instance with identity-based equality.
+     */
+    private static final class InstanceReference extends WeakReference<Object> {
+
+        private final int hash;
+
+        private InstanceReference(Object referent, ReferenceQueue<Object> queue) {
+            super(referent, queue);
+            this.hash = System.identityHashCode(referent);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof InstanceReference)) {
+                return false;
+            }
+            final Object referent = get();
+            return referent != null && referent == ((InstanceReference) o).get();
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
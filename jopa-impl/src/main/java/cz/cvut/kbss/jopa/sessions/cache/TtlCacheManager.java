@@ -14,6 +14,7 @@
  */
 package cz.cvut.kbss.jopa.sessions.cache;
 
+import cz.cvut.kbss.jopa.metrics.MetricsCollector;
 import cz.cvut.kbss.jopa.model.JOPAPersistenceProperties;
 import cz.cvut.kbss.jopa.model.descriptors.Descriptor;
 import cz.cvut.kbss.jopa.sessions.CacheManager;
@@ -57,6 +58,8 @@ public class TtlCacheManager implements CacheManager {
 
     private Set<Class<?>> inferredClasses;
 
+    private volatile MetricsCollector metrics = MetricsCollector.NO_OP;
+
     private TtlCache cache;
 
     // Each repository can have its own lock and they could be acquired by this
@@ -165,7 +168,7 @@ public class TtlCacheManager implements CacheManager {
         }
         acquireReadLock();
         try {
-            return cache.get(cls, primaryKey, descriptor);
+            return CacheMetrics.recordLookup(metrics, cache.get(cls, primaryKey, descriptor));
         } finally {
             releaseReadLock();
         }
@@ -198,6 +201,11 @@ public class TtlCacheManager implements CacheManager {
         this.inferredClasses = inferredClasses;
     }
 
+    @Override
+    public void setMetricsCollector(MetricsCollector metrics) {
+        this.metrics = Objects.requireNonNull(metrics);
+    }
+
     @Override
     public boolean contains(Class<?> cls, Object primaryKey, Descriptor descriptor) {
         if (cls == null || primaryKey == null || descriptor == null) {
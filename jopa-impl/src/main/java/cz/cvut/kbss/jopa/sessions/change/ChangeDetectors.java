@@ -24,7 +24,7 @@ class ChangeDetectors implements ChangeDetector {
     private final MetamodelProvider metamodelProvider;
 
     private final ChangeDetector mapChangeDetector;
-    private final ChangeDetector collectionChangeDetector;
+    private final CollectionChangeDetector collectionChangeDetector;
     private final ChangeDetector managedTypeDector;
 
     ChangeDetectors(MetamodelProvider metamodelProvider) {
@@ -52,4 +52,16 @@ class ChangeDetectors implements ChangeDetector {
         }
         return !clone.equals(original);
     }
+
+    /**
+     * Calculates elements added to and removed from the specified set.
+     *
+     * @param clone    The possibly changed set
+     * @param original Original set
+     * @return Added and removed elements
+     * @see CollectionChangeDetector#setChanges(Collection, Collection)
+     */
+    SetChanges setChanges(Collection<?> clone, Collection<?> original) {
+        return collectionChangeDetector.setChanges(clone, original);
+    }
 }
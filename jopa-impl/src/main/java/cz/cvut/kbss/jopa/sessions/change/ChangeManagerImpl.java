@@ -14,15 +14,17 @@
  */
 package cz.cvut.kbss.jopa.sessions.change;
 
+import cz.cvut.kbss.jopa.metrics.MetricNames;
+import cz.cvut.kbss.jopa.metrics.MetricsCollector;
 import cz.cvut.kbss.jopa.model.metamodel.FieldSpecification;
 import cz.cvut.kbss.jopa.sessions.ChangeManager;
+import cz.cvut.kbss.jopa.sessions.ChangeRecord;
 import cz.cvut.kbss.jopa.sessions.MetamodelProvider;
 import cz.cvut.kbss.jopa.sessions.ObjectChangeSet;
 import cz.cvut.kbss.jopa.utils.EntityPropertiesUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.lang.reflect.Field;
 import java.util.IdentityHashMap;
 import java.util.Map;
 import java.util.Objects;
@@ -35,10 +37,16 @@ public class ChangeManagerImpl implements ChangeManager {
     private final Map<Object, Object> visitedObjects;
 
     private final MetamodelProvider metamodelProvider;
-    private final ChangeDetector changeDetector;
+    private final ChangeDetectors changeDetector;
+    private final MetricsCollector metrics;
 
     public ChangeManagerImpl(MetamodelProvider metamodelProvider) {
+        this(metamodelProvider, MetricsCollector.NO_OP);
+    }
+
+    public ChangeManagerImpl(MetamodelProvider metamodelProvider, MetricsCollector metrics) {
         this.metamodelProvider = metamodelProvider;
+        this.metrics = Objects.requireNonNull(metrics);
         this.changeDetector = new ChangeDetectors(metamodelProvider);
         visitedObjects = new IdentityHashMap<>();
     }
@@ -70,9 +78,8 @@ public class ChangeManagerImpl implements ChangeManager {
         }
         final Class<?> cls = clone.getClass();
         for (FieldSpecification<?, ?> fs : getFields(cls)) {
-            final Field f = fs.getJavaField();
-            final Object clVal = EntityPropertiesUtils.getFieldValue(f, clone);
-            final Object origVal = EntityPropertiesUtils.getFieldValue(f, original);
+            final Object clVal = EntityPropertiesUtils.getAttributeValue(fs, clone);
+            final Object origVal = EntityPropertiesUtils.getAttributeValue(fs, original);
             final boolean valueChanged = valueChanged(origVal, clVal);
             if (valueChanged) {
                 return true;
@@ -91,7 +98,11 @@ public class ChangeManagerImpl implements ChangeManager {
 
     @Override
     public boolean calculateChanges(ObjectChangeSet changeSet) {
-        return calculateChangesInternal(Objects.requireNonNull(changeSet));
+        Objects.requireNonNull(changeSet);
+        final long start = System.nanoTime();
+        final boolean result = calculateChangesInternal(changeSet);
+        metrics.recordTime(MetricNames.CALCULATE_CHANGES, System.nanoTime() - start);
+        return result;
     }
 
     /**
@@ -107,12 +118,19 @@ public class ChangeManagerImpl implements ChangeManager {
         Object clone = changeSet.getCloneObject();
         boolean changes = false;
         for (FieldSpecification<?, ?> fs : getFields(clone.getClass())) {
-            final Field f = fs.getJavaField();
-            Object clVal = EntityPropertiesUtils.getFieldValue(f, clone);
-            Object origVal = EntityPropertiesUtils.getFieldValue(f, original);
+            Object clVal = EntityPropertiesUtils.getAttributeValue(fs, clone);
+            Object origVal = EntityPropertiesUtils.getAttributeValue(fs, original);
             if (clVal == null && origVal == null) {
                 continue;
             }
+            if (clVal instanceof Set && origVal instanceof Set) {
+                final SetChanges setChanges = changeDetector.setChanges((Set<?>) clVal, (Set<?>) origVal);
+                if (!setChanges.isEmpty()) {
+                    changeSet.addChangeRecord(new ChangeRecordImpl(fs, clVal, setChanges));
+                    changes = true;
+                }
+                continue;
+            }
             boolean changed = valueChanged(origVal, clVal);
             if (changed) {
                 changeSet.addChangeRecord(new ChangeRecordImpl(fs, clVal));
@@ -121,4 +139,30 @@ public class ChangeManagerImpl implements ChangeManager {
         }
         return changes;
     }
+
+    /**
+     * Calculates elements added to and removed from set-valued attributes changed in the specified change set.
+     * <p>
+     * The changes are calculated against the current attribute values of the changed object of the change set and
+     * attached to the corresponding change records, so that they can be merged into the changed object without
+     * rebuilding the whole set.
+     *
+     * @param changeSet Change set with change records of the changed object
+     */
+    public void calculateSetChanges(ObjectChangeSet changeSet) {
+        Objects.requireNonNull(changeSet);
+        final Object original = changeSet.getChangedObject();
+        if (original == null) {
+            return;
+        }
+        for (ChangeRecord record : changeSet.getChanges()) {
+            if (!(record instanceof ChangeRecordImpl) || !(record.getNewValue() instanceof Set)) {
+                continue;
+            }
+            final Object origVal = EntityPropertiesUtils.getAttributeValue(record.getAttribute(), original);
+            ((ChangeRecordImpl) record).setSetChanges(origVal instanceof Set ?
+                                                      changeDetector.setChanges((Set<?>) record.getNewValue(),
+                                                                                (Set<?>) origVal) : null);
+        }
+    }
 }
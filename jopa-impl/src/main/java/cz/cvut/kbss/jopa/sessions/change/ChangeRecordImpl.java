@@ -17,12 +17,16 @@ package cz.cvut.kbss.jopa.sessions.change;
 import cz.cvut.kbss.jopa.model.metamodel.FieldSpecification;
 import cz.cvut.kbss.jopa.sessions.ChangeRecord;
 
+import java.util.Optional;
+
 public class ChangeRecordImpl implements ChangeRecord {
 
     private final FieldSpecification<?, ?> attribute;
 
     private Object newValue;
 
+    private SetChanges setChanges;
+
     private boolean preventsCaching;
 
     public ChangeRecordImpl(FieldSpecification<?, ?> att, Object value) {
@@ -31,6 +35,11 @@ public class ChangeRecordImpl implements ChangeRecord {
         this.newValue = value;
     }
 
+    public ChangeRecordImpl(FieldSpecification<?, ?> att, Object value, SetChanges setChanges) {
+        this(att, value);
+        this.setChanges = setChanges;
+    }
+
     @Override
     public Object getNewValue() {
         return newValue;
@@ -39,6 +48,23 @@ public class ChangeRecordImpl implements ChangeRecord {
     @Override
     public void setNewValue(Object value) {
         this.newValue = value;
+        this.setChanges = null;
+    }
+
+    /**
+     * Gets elements added to and removed from the set value of the attribute.
+     * <p>
+     * The changes are relative to the value of the attribute in the changed object of the change set this record
+     * belongs to.
+     *
+     * @return Set changes, empty if the attribute is not set-valued or the changes have not been calculated
+     */
+    public Optional<SetChanges> getSetChanges() {
+        return Optional.ofNullable(setChanges);
+    }
+
+    public void setSetChanges(SetChanges setChanges) {
+        this.setChanges = setChanges;
     }
 
     @Override
@@ -61,6 +87,7 @@ public class ChangeRecordImpl implements ChangeRecord {
         return "ChangeRecordImpl{" +
                 "attribute='" + attribute.getName() + '\'' +
                 ", newValue=" + newValue +
+                (setChanges != null ? ", setChanges=" + setChanges : "") +
                 ", preventsCaching=" + preventsCaching +
                 '}';
     }
@@ -14,6 +14,7 @@
  */
 package cz.cvut.kbss.jopa.sessions.change;
 
+import cz.cvut.kbss.jopa.model.metamodel.EntityType;
 import cz.cvut.kbss.jopa.sessions.MetamodelProvider;
 import cz.cvut.kbss.jopa.utils.EntityPropertiesUtils;
 
@@ -32,6 +33,8 @@ import java.util.*;
  */
 class CollectionChangeDetector implements ChangeDetector {
 
+    private static final Object NULL_ELEMENT = new Object();
+
     private final ChangeDetector changeDetector;
 
     private final MetamodelProvider metamodelProvider;
@@ -74,38 +77,65 @@ class CollectionChangeDetector implements ChangeDetector {
     }
 
     /**
-     * When checking for set changes, we have to make sure different element order does not mean a change.
-     * <p>
-     * Therefore, we first order the elements in a predictable way and then compare the elements.
+     * Set elements are matched by their identifier (managed types) or by their value (all other types), so different
+     * element order does not mean a change.
      */
     private boolean setChanged(Collection<?> clone, Collection<?> original) {
-        assert !clone.isEmpty();
-        assert !original.isEmpty();
+        return !setChanges(clone, original).isEmpty();
+    }
 
-        final Class<?> elementType = clone.iterator().next().getClass();
-        final List<?> cloneList = new ArrayList<>(clone);
-        final Comparator<Object> comparator = getSetComparator(elementType);
-        cloneList.sort(comparator);
-        final List<?> originalList = new ArrayList<>(original);
-        originalList.sort(comparator);
-        return orderedCollectionChanged(cloneList, originalList);
+    /**
+     * Calculates elements added to and removed from the specified set.
+     * <p>
+     * The sets are joined on a hash of element keys, so the calculation runs in time linear to the size of the sets.
+     * Instances of managed types are keyed by their identifier, all other elements by their value. Instances without
+     * identifier cannot be matched and are thus always considered added/removed.
+     *
+     * @param clone    The possibly changed set
+     * @param original Original set
+     * @return Added and removed elements
+     */
+    SetChanges setChanges(Collection<?> clone, Collection<?> original) {
+        final ElementKeys keys = new ElementKeys();
+        final Map<Object, Object> originalByKey = new HashMap<>(Math.max((int) (original.size() / .75f) + 1, 16));
+        final List<Object> removed = new ArrayList<>();
+        for (Object elem : original) {
+            final Object key = keys.keyOf(elem);
+            if (key == null || originalByKey.putIfAbsent(key, elem) != null) {
+                removed.add(elem);
+            }
+        }
+        final List<Object> added = new ArrayList<>();
+        for (Object elem : clone) {
+            final Object key = keys.keyOf(elem);
+            if (key == null || originalByKey.remove(key) == null) {
+                added.add(elem);
+            }
+        }
+        removed.addAll(originalByKey.values());
+        return new SetChanges(added, removed);
     }
 
     /**
-     * For managed types, the comparator uses identifier's hashCode, for all other types hashCode is used directly.
+     * Resolves element keys, remembering entity type of the last seen element class, as set elements usually share
+     * the same class.
      */
-    private Comparator<Object> getSetComparator(Class<?> elemType) {
-        if (metamodelProvider.isEntityType(elemType)) {
-            return (o1, o2) -> {
-                final Object keyOne = EntityPropertiesUtils.getIdentifier(o1, metamodelProvider.getMetamodel());
-                final Object keyTwo = EntityPropertiesUtils.getIdentifier(o2, metamodelProvider.getMetamodel());
-                if (keyOne == null || keyTwo == null) {
-                    return 0;
-                }
-                return Integer.compare(keyOne.hashCode(), keyTwo.hashCode());
-            };
-        } else {
-            return Comparator.comparingInt(Object::hashCode);
+    private final class ElementKeys {
+
+        private Class<?> lastClass;
+        private EntityType<?> lastType;
+
+        private Object keyOf(Object element) {
+            if (element == null) {
+                return NULL_ELEMENT;
+            }
+            final Class<?> cls = element.getClass();
+            if (cls != lastClass) {
+                this.lastClass = cls;
+                this.lastType =
+                        metamodelProvider.isEntityType(cls) ? metamodelProvider.getMetamodel().entity(cls) : null;
+            }
+            return lastType != null ? EntityPropertiesUtils.getIdentifier(element, lastType) : element;
         }
     }
 }
@@ -0,0 +1,67 @@
+/**
+ * Copyright (C) 2023 Czech Technical University in Prague
+ *
+ * This program is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any
+ * later version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more
+ * details. You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package cz.cvut.kbss.jopa.sessions.change;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Elements added to and removed from a set-valued attribute.
+ * <p>
+ * Added elements come from the changed (clone) value, removed elements come from the original value.
+ */
+public final class SetChanges {
+
+    private final List<Object> added;
+    private final List<Object> removed;
+
+    SetChanges(List<Object> added, List<Object> removed) {
+        this.added = added;
+        this.removed = removed;
+    }
+
+    /**
+     * Gets elements present in the changed set but not in the original set.
+     *
+     * @return Unmodifiable collection of added elements
+     */
+    public Collection<Object> getAdded() {
+        return Collections.unmodifiableList(added);
+    }
+
+    /**
+     * Gets elements present in the original set but not in the changed set.
+     *
+     * @return Unmodifiable collection of removed elements
+     */
+    public Collection<Object> getRemoved() {
+        return Collections.unmodifiableList(removed);
+    }
+
+    /**
+     * Whether the sets contain the same elements.
+     *
+     * @return {@code true} if no elements were added or removed
+     */
+    public boolean isEmpty() {
+        return added.isEmpty() && removed.isEmpty();
+    }
+
+    @Override
+    public String toString() {
+        return "SetChanges{added=" + added + ", removed=" + removed + '}';
+    }
+}
@@ -22,11 +22,11 @@ import cz.cvut.kbss.jopa.utils.EntityPropertiesUtils;
 public class DefaultValueMerger implements ValueMerger {
 
     public void mergeValue(FieldSpecification<?, ?> att, Object target, Object mergedValue) {
-        EntityPropertiesUtils.setFieldValue(att.getJavaField(), target, mergedValue);
+        EntityPropertiesUtils.setAttributeValue(att, target, mergedValue);
     }
 
     @Override
     public void mergeValue(Object target, ChangeRecord changeRecord, Descriptor attributeDescriptor) {
-        EntityPropertiesUtils.setFieldValue(changeRecord.getAttribute().getJavaField(), target, changeRecord.getNewValue());
+        EntityPropertiesUtils.setAttributeValue(changeRecord.getAttribute(), target, changeRecord.getNewValue());
     }
 }
@@ -18,6 +18,7 @@ import cz.cvut.kbss.jopa.exception.IdentifierNotSetException;
 import cz.cvut.kbss.jopa.exceptions.OWLPersistenceException;
 import cz.cvut.kbss.jopa.model.annotations.Transient;
 import cz.cvut.kbss.jopa.model.metamodel.EntityType;
+import cz.cvut.kbss.jopa.model.metamodel.FieldAccessorProvider;
 import cz.cvut.kbss.jopa.model.metamodel.FieldSpecification;
 import cz.cvut.kbss.jopa.model.metamodel.Identifier;
 import cz.cvut.kbss.jopa.model.metamodel.Metamodel;
@@ -107,8 +108,30 @@ public class EntityPropertiesUtils {
      */
     public static Object getAttributeValue(FieldSpecification<?, ?> attribute, Object instance) {
         Objects.requireNonNull(attribute);
-        final Field field = attribute.getJavaField();
-        return getFieldValue(field, instance);
+        final FieldAccessor accessor = getFieldAccessor(attribute);
+        return accessor != null ? accessor.get(instance) : getFieldValue(attribute.getJavaField(), instance);
+    }
+
+    /**
+     * Sets value of the specified attribute.
+     *
+     * @param attribute Attribute to set value of
+     * @param instance  Target instance
+     * @param value     The value to set (can be {@code null})
+     */
+    public static void setAttributeValue(FieldSpecification<?, ?> attribute, Object instance, Object value) {
+        Objects.requireNonNull(attribute);
+        final FieldAccessor accessor = getFieldAccessor(attribute);
+        if (accessor != null) {
+            accessor.set(instance, value);
+        } else {
+            setFieldValue(attribute.getJavaField(), instance, value);
+        }
+    }
+
+    private static FieldAccessor getFieldAccessor(FieldSpecification<?, ?> attribute) {
+        return attribute instanceof FieldAccessorProvider ? ((FieldAccessorProvider) attribute).getFieldAccessor() :
+               null;
     }
 
     /**
@@ -121,7 +144,7 @@ public class EntityPropertiesUtils {
      */
     public static <T> URI getIdentifier(T entity, EntityType<?> et) {
         try {
-            final Object id = getFieldValue(et.getIdentifier().getJavaField(), entity);
+            final Object id = getAttributeValue(et.getIdentifier(), entity);
             if (id == null) {
                 return null;
             }
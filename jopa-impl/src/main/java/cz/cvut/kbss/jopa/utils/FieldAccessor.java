@@ -0,0 +1,160 @@
+/**
+ * Copyright (C) 2023 Czech Technical University in Prague
+ *
+ * This program is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any
+ * later version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more
+ * details. You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package cz.cvut.kbss.jopa.utils;
+
+import cz.cvut.kbss.jopa.exceptions.OWLPersistenceException;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.Objects;
+
+/**
+ * Provides access to values of entity fields.
+ * <p>
+ * Instead of reflective {@link Field#get(Object)}/{@link Field#set(Object, Object)} calls, accessors use method
+ * handles linked for the field. An accessor is created for each mapped field when the metamodel is built and is kept
+ * by the corresponding field specification, so repeated access to the same field (which is what happens during
+ * cloning, change calculation and entity loading) skips the per-call access checks of reflection.
+ * <p>
+ * The handles are held in instance fields, one accessor per entity field, so the JIT compiler treats them as regular
+ * values and does not constant-fold them. Accessing a field through an accessor is therefore an indirect handle
+ * invocation, not as cheap as a direct field access in generated code.
+ * <p>
+ * Fields whose handles cannot be created (e.g., static or final fields) are accessed using reflection. Values which
+ * require a widening conversion when set to a primitive field are set using reflection as well, so the semantics of
+ * {@link Field#set(Object, Object)} are preserved.
+ */
+public final class FieldAccessor {
+
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+    private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+    private final Field field;
+    private final MethodHandle getter;
+    private final MethodHandle setter;
+
+    /**
+     * Type of values the setter handle accepts without conversion. For primitive fields, this is the wrapper type.
+     */
+    private final Class<?> exactValueType;
+
+    private FieldAccessor(Field field, MethodHandle getter, MethodHandle setter) {
+        this.field = field;
+        this.getter = getter;
+        this.setter = setter;
+        final Class<?> type = field.getType();
+        this.exactValueType = type.isPrimitive() ? MethodType.methodType(type).wrap().returnType() : null;
+    }
+
+    /**
+     * Creates accessor for the specified field.
+     *
+     * @param field Field to access
+     * @return Field accessor
+     */
+    public static FieldAccessor create(Field field) {
+        Objects.requireNonNull(field);
+        final int modifiers = field.getModifiers();
+        if (Modifier.isStatic(modifiers) || Modifier.isFinal(modifiers) || !field.trySetAccessible()) {
+            return new FieldAccessor(field, null, null);
+        }
+        try {
+            final MethodHandles.Lookup lookup = MethodHandles.lookup();
+            final MethodHandle getter = lookup.unreflectGetter(field).asType(GETTER_TYPE);
+            final MethodHandle setter = lookup.unreflectSetter(field).asType(SETTER_TYPE);
+            return new FieldAccessor(field, getter, setter);
+        } catch (IllegalAccessException e) {
+            return new FieldAccessor(field, null, null);
+        }
+    }
+
+    /**
+     * Gets the accessed field.
+     *
+     * @return Field
+     */
+    public Field getField() {
+        return field;
+    }
+
+    /**
+     * Gets value of the field from the specified instance.
+     *
+     * @param instance Instance that contains the field (can be {@code null} for static fields)
+     * @return Field value
+     */
+    public Object get(Object instance) {
+        if (getter == null) {
+            return getReflectively(instance);
+        }
+        try {
+            return getter.invokeExact(instance);
+        } catch (ClassCastException e) {
+            throw new IllegalArgumentException("Instance " + instance + " does not contain field " + field, e);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new OWLPersistenceException("Unable to extract field value.", e);
+        }
+    }
+
+    private Object getReflectively(Object instance) {
+        if (!field.canAccess(instance)) {
+            field.setAccessible(true);
+        }
+        try {
+            return field.get(instance);
+        } catch (IllegalAccessException e) {
+            throw new OWLPersistenceException("Unable to extract field value.", e);
+        }
+    }
+
+    /**
+     * Sets value of the field on the specified instance.
+     *
+     * @param instance Target instance (can be {@code null} for static fields)
+     * @param value    The value to set (can be {@code null})
+     */
+    public void set(Object instance, Object value) {
+        if (setter == null || exactValueType != null && !exactValueType.isInstance(value)) {
+            // Let reflection handle unboxing with widening (e.g., Integer to long) and reject null for primitives
+            setReflectively(instance, value);
+            return;
+        }
+        try {
+            setter.invokeExact(instance, value);
+        } catch (ClassCastException e) {
+            throw new IllegalArgumentException("Cannot set value " + value + " to field " + field, e);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new OWLPersistenceException("Unable to set field value.", e);
+        }
+    }
+
+    private void setReflectively(Object instance, Object value) {
+        if (!field.canAccess(instance)) {
+            field.setAccessible(true);
+        }
+        try {
+            field.set(instance, value);
+        } catch (IllegalAccessException e) {
+            throw new OWLPersistenceException("Unable to set field value.", e);
+        }
+    }
+}
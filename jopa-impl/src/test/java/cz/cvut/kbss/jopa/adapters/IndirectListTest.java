@@ -315,4 +315,34 @@ class IndirectListTest {
         owner.getReferencedList().removeIf(e -> toRemove.contains(e.getUri()));
         verify(uow, times(toRemove.size())).attributeChanged(owner, ownerField);
     }
+
+    @Test
+    void elementChangesTrackReplacedElements() {
+        target.resetElementChanges(owner);
+        final OWLClassA added = Generators.generateOwlClassAInstance();
+        final OWLClassA replaced = target.set(0, added);
+
+        final ElementChanges changes = target.getElementChanges(owner).orElseThrow();
+        assertEquals(Collections.singleton(added), changes.getAdded());
+        assertEquals(Collections.singleton(replaced), changes.getRemoved());
+    }
+
+    @Test
+    void elementChangesTrackChangesMadeThroughSubList() {
+        target.resetElementChanges(owner);
+        final List<OWLClassA> subList = target.subList(0, 3);
+        final OWLClassA removed = subList.remove(0);
+
+        assertEquals(Collections.singleton(removed), target.getElementChanges(owner).orElseThrow().getRemoved());
+    }
+
+    @Test
+    void elementChangesOfRemoveAllContainOnlyElementsActuallyRemoved() {
+        target.resetElementChanges(owner);
+        final OWLClassA removed = target.get(0);
+        final OWLClassA notInList = Generators.generateOwlClassAInstance();
+        target.removeAll(Arrays.asList(removed, notInList));
+
+        assertEquals(Collections.singleton(removed), target.getElementChanges(owner).orElseThrow().getRemoved());
+    }
 }
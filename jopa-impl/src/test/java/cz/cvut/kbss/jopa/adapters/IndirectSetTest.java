@@ -227,4 +227,48 @@ class IndirectSetTest {
         assertTrue(target.containsAll(backupSet));
         assertTrue(set.containsAll(backupSet));
     }
+
+    @Test
+    void elementChangesAreUnknownUntilReset() {
+        target.add(Generators.generateOwlClassAInstance());
+        assertFalse(target.getElementChanges(owner).isPresent());
+
+        target.resetElementChanges(owner);
+        assertTrue(target.getElementChanges(owner).isPresent());
+        assertTrue(target.getElementChanges(owner).get().isEmpty());
+    }
+
+    @Test
+    void elementChangesContainNetAddedAndRemovedElements() {
+        target.resetElementChanges(owner);
+        final OWLClassA added = Generators.generateOwlClassAInstance();
+        final OWLClassA addedAndRemoved = Generators.generateOwlClassAInstance();
+        final OWLClassA removed = backupSet.iterator().next();
+        target.add(added);
+        target.add(addedAndRemoved);
+        target.remove(removed);
+        target.remove(addedAndRemoved);
+
+        final ElementChanges changes = target.getElementChanges(owner).orElseThrow();
+        assertEquals(Set.of(added), changes.getAdded());
+        assertEquals(Set.of(removed), changes.getRemoved());
+    }
+
+    @Test
+    void elementChangesTrackElementsRemovedThroughIteratorAndClear() {
+        target.resetElementChanges(owner);
+        final Iterator<OWLClassA> it = target.iterator();
+        final OWLClassA first = it.next();
+        it.remove();
+        assertEquals(Set.of(first), target.getElementChanges(owner).orElseThrow().getRemoved());
+
+        target.clear();
+        assertEquals(backupSet, target.getElementChanges(owner).orElseThrow().getRemoved());
+    }
+
+    @Test
+    void getElementChangesReturnsEmptyOptionalForDifferentOwner() {
+        target.resetElementChanges(owner);
+        assertFalse(target.getElementChanges(new OWLClassF()).isPresent());
+    }
 }
@@ -1373,9 +1373,12 @@ public class MetamodelFactory {
         when(entityAttMock.getLanguage()).thenReturn(Generators.LANG);
 
         when(etMock.getFieldSpecification(strAttMock.getName())).thenReturn(strAttMock);
-        when(etMock.getFieldSpecification(strQueryAttMock.getName())).thenReturn(strQueryAttMock);
         when(etMock.getFieldSpecification(entityAttMock.getName())).thenReturn(entityAttMock);
-        when(etMock.getFieldSpecification(entityQueryAttMock.getName())).thenReturn(entityQueryAttMock);
+        // Names of the query attribute mocks are not stubbed yet, so the field names are used directly
+        when(etMock.getFieldSpecification(OWLClassWithQueryAttr.getStrQueryAttField().getName()))
+                .thenReturn(strQueryAttMock);
+        when(etMock.getFieldSpecification(OWLClassWithQueryAttr.getEntityQueryAttField().getName()))
+                .thenReturn(entityQueryAttMock);
 
         when(strQueryAttMock.getJavaField()).thenReturn(OWLClassWithQueryAttr.getStrQueryAttField());
         when(strQueryAttMock.getJavaType()).thenReturn(OWLClassWithQueryAttr.getStrQueryAttField().getType());
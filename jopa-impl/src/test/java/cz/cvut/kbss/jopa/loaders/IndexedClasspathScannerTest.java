@@ -0,0 +1,75 @@
+package cz.cvut.kbss.jopa.loaders;
+
+import cz.cvut.kbss.jopa.environment.OWLClassA;
+import cz.cvut.kbss.jopa.environment.OWLClassB;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.function.Consumer;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class IndexedClasspathScannerTest {
+
+    private static final String TEST_INDEX = "index/persistence-unit-classes";
+
+    @Mock
+    private Consumer<Class<?>> listener;
+
+    @Mock
+    private ClasspathScanner fallback;
+
+    private IndexedClasspathScanner sut;
+
+    @BeforeEach
+    void setUp() {
+        this.sut = new IndexedClasspathScanner(Thread.currentThread().getContextClassLoader(), TEST_INDEX, fallback);
+        sut.addListener(listener);
+    }
+
+    @Test
+    void processClassesPassesAllIndexedClassesToListenersWhenProvidedPackageIsEmpty() {
+        sut.processClasses("");
+        verify(listener).accept(OWLClassA.class);
+        verify(listener).accept(OWLClassB.class);
+        verify(listener, times(2)).accept(any());
+        verify(fallback, never()).processClasses(any());
+    }
+
+    @Test
+    void processClassesPassesOnlyIndexedClassesFromSpecifiedPackageToListeners() {
+        sut.processClasses("cz.cvut.kbss.jopa.environment");
+        verify(listener).accept(OWLClassA.class);
+        verify(listener).accept(OWLClassB.class);
+        verify(listener, times(2)).accept(any());
+    }
+
+    @Test
+    void processClassesUsesFallbackScannerForPackageWithoutIndexedClasses() {
+        sut.processClasses("cz.cvut.kbss.jopa.model");
+        verify(listener, never()).accept(any());
+        verify(fallback).processClasses("cz.cvut.kbss.jopa.model");
+    }
+
+    @Test
+    void processClassesUsesFallbackScannerWhenIndexDoesNotExist() {
+        final IndexedClasspathScanner scanner =
+                new IndexedClasspathScanner(Thread.currentThread().getContextClassLoader(), "index/unknown", fallback);
+        scanner.addListener(listener);
+        scanner.processClasses("");
+        verify(listener, never()).accept(any());
+        verify(fallback).processClasses("");
+    }
+
+    @Test
+    void addListenerRegistersListenerAlsoOnFallbackScanner() {
+        verify(fallback).addListener(listener);
+    }
+}
@@ -67,6 +67,8 @@ class EntityManagerImplTest {
     @Mock
     private ConnectionWrapper connectorMock;
 
+    private ServerSessionStub serverSessionMock;
+
     private UnitOfWorkImpl uow;
 
     @Mock
@@ -78,7 +80,7 @@ class EntityManagerImplTest {
 
     @BeforeEach
     void setUp() throws Exception {
-        final ServerSessionStub serverSessionMock = spy(new ServerSessionStub(connectorMock));
+        this.serverSessionMock = spy(new ServerSessionStub(connectorMock));
         when(serverSessionMock.getMetamodel()).thenReturn(metamodelMock);
         when(serverSessionMock.getLiveObjectCache()).thenReturn(new DisabledCacheManager());
         this.uow = spy(new UnitOfWorkImpl(serverSessionMock));
@@ -621,4 +623,38 @@ class EntityManagerImplTest {
                 () -> em.getReference(OWLClassA.class, Generators.createIndividualIdentifier()));
         verify(uow, never()).getReference(any(), any(), any());
     }
+
+    @Test
+    void getFlushModeReturnsImmediateByDefault() {
+        assertEquals(FlushModeType.IMMEDIATE, em.getFlushMode());
+    }
+
+    @Test
+    void setFlushModeSetsFlushModeOnCurrentPersistenceContext() {
+        em.getCurrentPersistenceContext();
+        em.setFlushMode(FlushModeType.DEFERRED);
+        assertEquals(FlushModeType.DEFERRED, em.getFlushMode());
+        verify(uow).setFlushMode(FlushModeType.DEFERRED);
+    }
+
+    @Test
+    void persistenceContextUsesFlushModeConfiguredForEntityManager() {
+        this.em = new EntityManagerImpl(emfMock, new Configuration(
+                Collections.singletonMap(JOPAPersistenceProperties.FLUSH_MODE, FlushModeType.DEFERRED.name())),
+                                        serverSessionMock);
+        em.getCurrentPersistenceContext();
+        verify(uow).setFlushMode(FlushModeType.DEFERRED);
+    }
+
+    @Test
+    void setPropertySetsFlushModeWhenFlushModePropertyIsSpecified() {
+        em.setProperty(JOPAPersistenceProperties.FLUSH_MODE, "deferred");
+        assertEquals(FlushModeType.DEFERRED, em.getFlushMode());
+    }
+
+    @Test
+    void setPropertyThrowsIllegalArgumentExceptionForUnsupportedFlushMode() {
+        assertThrows(IllegalArgumentException.class,
+                     () -> em.setProperty(JOPAPersistenceProperties.FLUSH_MODE, "unknown"));
+    }
 }
@@ -30,6 +30,7 @@ import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.anyInt;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
@@ -164,4 +165,26 @@ public class HintTest {
         sut.apply(Statement.StatementOntology.TRANSACTIONAL, query, statement);
         verify(statement).useOntology(Statement.StatementOntology.TRANSACTIONAL);
     }
+
+    @Test
+    void batchSizeHintSetsBatchSizeOnTypedQuery() {
+        final TypedQueryImpl<OWLClassA> tq = mock(TypedQueryImpl.class);
+        final QueryHintsHandler.Hint sut = new QueryHintsHandler.BatchSizeHint();
+        sut.apply("50", tq, statement);
+        verify(tq).setBatchSize(50);
+    }
+
+    @Test
+    void batchSizeHintThrowsIllegalArgumentExceptionForNonPositiveValue() {
+        final TypedQueryImpl<OWLClassA> tq = mock(TypedQueryImpl.class);
+        final QueryHintsHandler.Hint sut = new QueryHintsHandler.BatchSizeHint();
+        assertThrows(IllegalArgumentException.class, () -> sut.apply(0, tq, statement));
+        verify(tq, never()).setBatchSize(anyInt());
+    }
+
+    @Test
+    void batchSizeHintThrowsIllegalArgumentExceptionForNonNumericValue() {
+        final QueryHintsHandler.Hint sut = new QueryHintsHandler.BatchSizeHint();
+        assertThrows(IllegalArgumentException.class, () -> sut.apply("many", query, statement));
+    }
 }
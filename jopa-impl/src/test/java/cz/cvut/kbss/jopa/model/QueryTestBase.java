@@ -21,6 +21,7 @@ import cz.cvut.kbss.jopa.environment.utils.MetamodelMocks;
 import cz.cvut.kbss.jopa.exceptions.NoResultException;
 import cz.cvut.kbss.jopa.model.query.Parameter;
 import cz.cvut.kbss.jopa.model.query.Query;
+import cz.cvut.kbss.jopa.query.QueryPlanCache;
 import cz.cvut.kbss.jopa.query.sparql.SparqlQueryFactory;
 import cz.cvut.kbss.jopa.sessions.ConnectionWrapper;
 import cz.cvut.kbss.jopa.sessions.UnitOfWorkImpl;
@@ -81,6 +82,7 @@ abstract class QueryTestBase {
         when(resultSetIterator.next()).thenReturn(resultRow);
         when(resultSetMock.stream()).thenCallRealMethod();
         when(resultSetMock.spliterator()).thenCallRealMethod();
+        when(uowMock.getQueryPlanCache()).thenReturn(new QueryPlanCache(QueryPlanCache.DEFAULT_CAPACITY));
         this.queryFactory = new SparqlQueryFactory(uowMock, connectionWrapperMock);
     }
 
@@ -107,6 +109,15 @@ abstract class QueryTestBase {
         verify(statementMock).executeQuery("SELECT ?y ?z WHERE { \"Individual\" ?y ?z . ?z ?y \"Individual\" . }");
     }
 
+    @Test
+    void getResultListRecordsExecutionWithQueryTemplateInsteadOfBoundQuery() throws Exception {
+        final String query = "SELECT ?y ?z WHERE { ?x ?y ?z . }";
+        final Query q = createQuery(query, Object.class);
+        q.setParameter("x", "Individual");
+        q.getResultList();
+        verify(connectionWrapperMock).recordQueryExecution(eq(query), eq("select"), anyLong());
+    }
+
     @Test
     void setParameterByParameterSetsValueWithCorrectType() throws Exception {
         final String query = "SELECT ?x ?y WHERE { ?x ?y ?z .}";
@@ -23,14 +23,18 @@ import cz.cvut.kbss.jopa.model.descriptors.Descriptor;
 import cz.cvut.kbss.jopa.model.descriptors.EntityDescriptor;
 import cz.cvut.kbss.jopa.model.query.Query;
 import cz.cvut.kbss.jopa.model.query.TypedQuery;
+import cz.cvut.kbss.jopa.query.QueryHints;
 import cz.cvut.kbss.jopa.query.QueryParameter;
 import cz.cvut.kbss.jopa.query.parameter.ParameterValueFactory;
 import cz.cvut.kbss.jopa.query.sparql.SparqlQueryHolder;
+import cz.cvut.kbss.ontodriver.PreparedStatement;
 import cz.cvut.kbss.ontodriver.exception.OntoDriverException;
+import cz.cvut.kbss.ontodriver.model.LangString;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
@@ -55,10 +59,15 @@ class TypedQueryImplTest extends QueryTestBase {
     private static final String ASK_BOOLEAN_QUERY =
             "ASK { ?x a <http://krizik.felk.cvut.cz/ontologies/jopa/entities#OWLClassA> . }";
 
+    @Mock
+    private PreparedStatement preparedStatementMock;
+
     @Override
     TypedQueryImpl<?> createQuery(String query, Class<?> resultType) {
         final TypedQueryImpl<?> q = queryFactory.createNativeQuery(query, resultType);
         q.setEnsureOpenProcedure(ensureOpenProcedure);
+        // Shared tests verify parameter values inserted into the query string
+        q.setNativeParameterBinding(false);
         return q;
     }
 
@@ -367,6 +376,14 @@ class TypedQueryImplTest extends QueryTestBase {
         assertThat(captor.getValue(), containsString("OFFSET " + position));
     }
 
+    @Test
+    void setPageAfterOnNativeQueryThrowsIllegalStateExceptionAndMarksTransactionForRollback() {
+        final TypedQueryImpl<OWLClassA> query = create(SELECT_QUERY, OWLClassA.class);
+        query.setRollbackOnlyMarker(handler);
+        assertThrows(IllegalStateException.class, () -> query.setPageAfter(Generators.createIndividualIdentifier()));
+        verify(handler).execute();
+    }
+
     @Test
     void noUniqueResultExceptionInGetSingleResultDoesNotCauseTransactionRollback() throws Exception {
         final TypedQueryImpl<OWLClassA> query = create(SELECT_QUERY, OWLClassA.class);
@@ -434,4 +451,94 @@ class TypedQueryImplTest extends QueryTestBase {
             verify(statementMock).close();
         }
     }
+
+    @Test
+    void getResultListLoadsEntitiesInBatchesWhenBatchSizeHintIsSet() throws Exception {
+        final TypedQuery<OWLClassA> query = create(SELECT_QUERY, OWLClassA.class);
+        final List<String> uris = initDataForQuery(5);
+        when(uowMock.readObjects(eq(OWLClassA.class), anyList(), any(Descriptor.class))).thenAnswer(inv -> {
+            final List<?> ids = inv.getArgument(1);
+            return ids.stream().map(id -> new OWLClassA((URI) id)).collect(Collectors.toList());
+        });
+        final List<OWLClassA> res = query.setHint(QueryHints.BATCH_SIZE, 2).getResultList();
+        verifyResults(uris, res, 5);
+        final ArgumentCaptor<List<URI>> captor = ArgumentCaptor.forClass(List.class);
+        verify(uowMock, times(3)).readObjects(eq(OWLClassA.class), captor.capture(), any(Descriptor.class));
+        assertEquals(Arrays.asList(2, 2, 1), captor.getAllValues().stream().map(List::size).collect(Collectors.toList()));
+        verify(uowMock, never()).readObject(eq(OWLClassA.class), any(), any(Descriptor.class));
+    }
+
+    @Test
+    void getResultStreamLoadsEntitiesInBatchesWhenBatchSizeHintIsSet() throws Exception {
+        final List<String> uris = Arrays.asList(Generators.createIndividualIdentifier().toString(),
+                Generators.createIndividualIdentifier().toString(),
+                Generators.createIndividualIdentifier().toString());
+        when(resultSetMock.isOpen()).thenReturn(true);
+        when(resultSetMock.hasNext()).thenReturn(true, true, true, false);
+        when(resultSetMock.isBound(0)).thenReturn(true);
+        when(resultSetMock.getString(0)).thenReturn(uris.get(0), uris.get(1), uris.get(2));
+        when(uowMock.readObjects(eq(OWLClassA.class), anyList(), any(Descriptor.class))).thenAnswer(inv -> {
+            final List<?> ids = inv.getArgument(1);
+            return ids.stream().map(id -> new OWLClassA((URI) id)).collect(Collectors.toList());
+        });
+        final TypedQuery<OWLClassA> sut = create(SELECT_QUERY, OWLClassA.class).setHint(QueryHints.BATCH_SIZE, 2);
+        final List<OWLClassA> result = sut.getResultStream().collect(Collectors.toList());
+        assertEquals(uris, result.stream().map(a -> a.getUri().toString()).collect(Collectors.toList()));
+        verify(uowMock, times(2)).readObjects(eq(OWLClassA.class), anyList(), any(Descriptor.class));
+        verify(statementMock).close();
+    }
+
+    @Test
+    void getResultListBindsParameterValuesNativelyWithoutModifyingQueryString() throws Exception {
+        when(connectionWrapperMock.prepareStatement(anyString())).thenReturn(preparedStatementMock);
+        when(preparedStatementMock.executeQuery()).thenReturn(resultSetMock);
+        final String query = "SELECT ?x WHERE { ?x ?hasLabel ?label . }";
+        final URI property = Generators.createPropertyIdentifier();
+        final TypedQuery<OWLClassA> sut = create(query, OWLClassA.class).setParameter("hasLabel", property)
+                                                                        .setParameter("label", "test", "en");
+        sut.getResultList();
+        verify(connectionWrapperMock).prepareStatement(query);
+        verify(preparedStatementMock).bindValue("hasLabel", property);
+        verify(preparedStatementMock).bindValue("label", new LangString("test", "en"));
+        verify(preparedStatementMock).executeQuery();
+        verify(preparedStatementMock).close();
+        verify(connectionWrapperMock, never()).createStatement();
+    }
+
+    @Test
+    void getResultListBindsParameterValuesNativelyAndAppendsLimitAndOffset() throws Exception {
+        when(connectionWrapperMock.prepareStatement(anyString())).thenReturn(preparedStatementMock);
+        when(preparedStatementMock.executeQuery()).thenReturn(resultSetMock);
+        final String query = "SELECT ?x WHERE { ?x a ?type . }";
+        final URI type = Generators.createIndividualIdentifier();
+        create(query, OWLClassA.class).setParameter("type", type).setMaxResults(5).setFirstResult(10)
+                                      .getResultList();
+        verify(connectionWrapperMock).prepareStatement(query + " LIMIT 5 OFFSET 10");
+        verify(preparedStatementMock).bindValue("type", type);
+    }
+
+    @Test
+    void getResultListInsertsParameterValuesIntoQueryWhenSomeValueCannotBeBound() throws Exception {
+        final String query = "SELECT ?x WHERE { ?x ?hasLabel ?label . }";
+        final URI property = Generators.createPropertyIdentifier();
+        create(query, OWLClassA.class).setParameter("hasLabel", property)
+                                      .setUntypedParameter("label", "'test'").getResultList();
+        verify(statementMock).executeQuery("SELECT ?x WHERE { ?x <" + property + "> 'test' . }");
+        verify(connectionWrapperMock, never()).prepareStatement(anyString());
+    }
+
+    @Test
+    void getResultStreamBindsParameterValuesNativelyAndClosesStatementAfterProcessing() throws Exception {
+        when(connectionWrapperMock.prepareStatement(anyString())).thenReturn(preparedStatementMock);
+        when(preparedStatementMock.executeQuery()).thenReturn(resultSetMock);
+        when(resultSetMock.isOpen()).thenReturn(true);
+        when(resultSetMock.hasNext()).thenReturn(false);
+        final String query = "SELECT ?x WHERE { ?x a ?type . }";
+        final URI type = Generators.createIndividualIdentifier();
+        final List<OWLClassA> result = create(query, OWLClassA.class).setParameter("type", type).getResultStream()
+                                                                     .collect(Collectors.toList());
+        assertTrue(result.isEmpty());
+        verify(preparedStatementMock).bindValue("type", type);
+        verify(preparedStatementMock).close();
+    }
 }
@@ -119,4 +119,20 @@ class AbstractAttributeTest {
         final SingularAttribute<?, ?> sut = SingularAttributeImpl.builder(pa).build();
         assertNull(sut.getDatatype());
     }
+
+    @Test
+    void getValueAndSetValueAccessFieldOfSpecifiedInstance() throws Exception {
+        final PropertyAttributes pa = PropertyAttributes
+                .create(OWLClassA.getStrAttFieldPropertyInfo(), new FieldMappingValidator(),
+                        new TypeBuilderContext<>(metamodelMocks.forOwlClassA().entityType(), new NamespaceResolver()));
+        pa.iri = metamodelMocks.forOwlClassA().stringAttribute().getIRI();
+        pa.persistentAttributeType = Attribute.PersistentAttributeType.DATA;
+        pa.type = BasicTypeImpl.get(String.class);
+        final SingularAttribute<OWLClassA, String> sut = (SingularAttribute<OWLClassA, String>) SingularAttributeImpl
+                .builder(pa).propertyInfo(OWLClassA.getStrAttFieldPropertyInfo()).build();
+        final OWLClassA instance = new OWLClassA();
+        sut.setValue(instance, "test");
+        assertEquals("test", instance.getStringAttribute());
+        assertEquals("test", sut.getValue(instance));
+    }
 }
@@ -15,6 +15,7 @@
 package cz.cvut.kbss.jopa.oom;
 
 import cz.cvut.kbss.jopa.environment.utils.Generators;
+import cz.cvut.kbss.jopa.exceptions.StorageAccessException;
 import cz.cvut.kbss.ontodriver.Connection;
 import cz.cvut.kbss.ontodriver.Lists;
 import cz.cvut.kbss.ontodriver.Properties;
@@ -22,6 +23,7 @@ import cz.cvut.kbss.ontodriver.Types;
 import cz.cvut.kbss.ontodriver.descriptor.AxiomValueDescriptor;
 import cz.cvut.kbss.ontodriver.descriptor.ReferencedListValueDescriptor;
 import cz.cvut.kbss.ontodriver.descriptor.SimpleListValueDescriptor;
+import cz.cvut.kbss.ontodriver.exception.OntoDriverException;
 import cz.cvut.kbss.ontodriver.model.Assertion;
 import cz.cvut.kbss.ontodriver.model.NamedResource;
 import cz.cvut.kbss.ontodriver.model.Value;
@@ -192,4 +194,31 @@ class AxiomValueGathererTest {
         assertTrue(result.containsAssertion(DATA_ASSERTION));
         assertNull(result.getAssertionContext(DATA_ASSERTION));
     }
+
+    @Test
+    void updateAddsAndRemovesValueChangesThroughPropertiesPerContext() throws Exception {
+        this.sut = new AxiomValueGatherer(SUBJECT, null, true);
+        final Set<Value<?>> added =
+                Collections.singleton(new Value<>(NamedResource.create(Generators.createIndividualIdentifier())));
+        final Set<Value<?>> removed =
+                Collections.singleton(new Value<>(NamedResource.create(Generators.createIndividualIdentifier())));
+        sut.addValueChanges(OBJECT_ASSERTION, added, removed, CONTEXT);
+
+        sut.update(connectionMock);
+        verify(propertiesMock).addProperties(SUBJECT, CONTEXT, Collections.singletonMap(OBJECT_ASSERTION, added));
+        verify(propertiesMock).removeProperties(SUBJECT, CONTEXT, Collections.singletonMap(OBJECT_ASSERTION, removed));
+    }
+
+    @Test
+    void updateInvokesAfterWriteCallbacksOnceValuesAreWritten() throws Exception {
+        final Runnable callback = mock(Runnable.class);
+        sut.afterWrite(callback);
+        doThrow(OntoDriverException.class).when(connectionMock).update(any(AxiomValueDescriptor.class));
+
+        assertThrows(StorageAccessException.class, () -> sut.update(connectionMock));
+        verify(callback, never()).run();
+        reset(connectionMock);
+        sut.update(connectionMock);
+        verify(callback).run();
+    }
 }
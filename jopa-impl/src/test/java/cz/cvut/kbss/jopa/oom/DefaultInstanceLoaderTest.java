@@ -34,8 +34,8 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
 
-import java.util.Collection;
-import java.util.Collections;
+import java.net.URI;
+import java.util.*;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -112,7 +112,51 @@ class DefaultInstanceLoaderTest extends InstanceLoaderTestBase {
                 .thenReturn(entityA);
         final OWLClassA res = instanceLoader.loadEntity(loadingParameters);
         assertNotNull(res);
-        verify(cacheMock, never()).contains(etAMock.getJavaType(), IDENTIFIER, descriptor);
+        verify(cacheMock, never()).get(etAMock.getJavaType(), IDENTIFIER, descriptor);
+    }
+
+    @Test
+    void loadEntitiesLoadsAxiomsOfAllEntitiesInBulk() throws Exception {
+        final URI otherId = Generators.createIndividualIdentifier();
+        final OWLClassA other = new OWLClassA(otherId);
+        final AxiomDescriptor otherDescriptor = new AxiomDescriptor(NamedResource.create(otherId));
+        when(descriptorFactoryMock.createForEntityLoading(new LoadingParameters<>(OWLClassA.class, otherId, descriptor),
+                etAMock)).thenReturn(otherDescriptor);
+        final Collection<Axiom<?>> entityAAxioms = Collections.singletonList(mock(Axiom.class));
+        final Collection<Axiom<?>> otherAxioms = Collections.singletonList(mock(Axiom.class));
+        final Map<NamedResource, Collection<Axiom<?>>> axioms = new HashMap<>();
+        axioms.put(NamedResource.create(IDENTIFIER), entityAAxioms);
+        axioms.put(NamedResource.create(otherId), otherAxioms);
+        when(connectionMock.findAll(anyCollection())).thenReturn(axioms);
+        when(entityConstructorMock.reconstructEntity(IDENTIFIER, etAMock, descriptor, entityAAxioms))
+                .thenReturn(entityA);
+        when(entityConstructorMock.reconstructEntity(otherId, etAMock, descriptor, otherAxioms)).thenReturn(other);
+
+        final Map<URI, OWLClassA> result =
+                instanceLoader.loadEntities(OWLClassA.class, Arrays.asList(otherId, IDENTIFIER), descriptor);
+        assertEquals(Arrays.asList(otherId, IDENTIFIER), new ArrayList<>(result.keySet()));
+        assertSame(entityA, result.get(IDENTIFIER));
+        assertSame(other, result.get(otherId));
+        verify(connectionMock).findAll(Arrays.asList(otherDescriptor, axiomDescriptor));
+        verify(connectionMock, never()).find(any());
+    }
+
+    @Test
+    void loadEntitiesSkipsEntitiesWithoutAxioms() throws Exception {
+        when(connectionMock.findAll(anyCollection())).thenReturn(Collections.emptyMap());
+        final Map<URI, OWLClassA> result =
+                instanceLoader.loadEntities(OWLClassA.class, Collections.singletonList(IDENTIFIER), descriptor);
+        assertTrue(result.isEmpty());
+        verify(entityConstructorMock, never()).reconstructEntity(any(), any(), any(), any());
+    }
+
+    @Test
+    void loadEntitiesUsesCachedInstancesWithoutLoadingThemFromStorage() throws Exception {
+        when(cacheMock.get(OWLClassA.class, IDENTIFIER, descriptor)).thenReturn(entityA);
+        final Map<URI, OWLClassA> result =
+                instanceLoader.loadEntities(OWLClassA.class, Collections.singletonList(IDENTIFIER), descriptor);
+        assertSame(entityA, result.get(IDENTIFIER));
+        verify(connectionMock, never()).findAll(anyCollection());
     }
 
     @Test
@@ -178,27 +222,15 @@ class DefaultInstanceLoaderTest extends InstanceLoaderTestBase {
     }
 
     @Test
-    void loadEntityReloadsQueryAttributesWhenInstanceIsRetrievedFromCache() {
-        when(cacheMock.contains(OWLClassA.class, loadingParameters.getIdentifier(), descriptor)).thenReturn(true);
-        when(cacheMock.get(OWLClassA.class, loadingParameters.getIdentifier(), descriptor)).thenReturn(entityA);
-
-        final OWLClassA res = instanceLoader.loadEntity(loadingParameters);
-        assertEquals(entityA, res);
-        verify(entityConstructorMock).populateQueryAttributes(entityA, etAMock);
-        verify(entityConstructorMock, never()).reconstructEntity(eq(loadingParameters.getIdentifier()), eq(etAMock), eq(descriptor), anyCollection());
-    }
-
-    @Test
-    void loadEntityRecursivelyReloadsQueryAttributesWhenInstanceIsRetrievedFromCache() {
+    void loadEntityDoesNotEvaluateQueryAttributesWhenInstanceIsRetrievedFromCache() {
         final OWLClassD entityD = new OWLClassD(Generators.createIndividualIdentifier());
         entityD.setOwlClassA(entityA);
         final LoadingParameters<OWLClassD> dLoadingParameters = new LoadingParameters<>(OWLClassD.class, entityD.getUri(), descriptor);
-        when(cacheMock.contains(OWLClassD.class, dLoadingParameters.getIdentifier(), descriptor)).thenReturn(true);
         when(cacheMock.get(OWLClassD.class, dLoadingParameters.getIdentifier(), descriptor)).thenReturn(entityD);
 
         final OWLClassD result = instanceLoader.loadEntity(dLoadingParameters);
         assertEquals(entityD, result);
-        verify(entityConstructorMock).populateQueryAttributes(entityD, metamodelMocks.forOwlClassD().entityType());
-        verify(entityConstructorMock).populateQueryAttributes(entityA, etAMock);
+        verify(entityConstructorMock, never()).populateQueryAttributes(any(), any());
+        verify(entityConstructorMock, never()).reconstructEntity(any(), any(), any(), anyCollection());
     }
 }
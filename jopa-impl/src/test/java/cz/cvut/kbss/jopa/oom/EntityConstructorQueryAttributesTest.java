@@ -25,6 +25,7 @@ import cz.cvut.kbss.jopa.model.descriptors.Descriptor;
 import cz.cvut.kbss.jopa.model.descriptors.EntityDescriptor;
 import cz.cvut.kbss.jopa.query.sparql.SparqlQueryFactory;
 import cz.cvut.kbss.jopa.sessions.UnitOfWorkImpl;
+import cz.cvut.kbss.jopa.sessions.cache.QueryAttributeCache;
 import cz.cvut.kbss.jopa.utils.Configuration;
 import cz.cvut.kbss.ontodriver.model.*;
 import org.junit.jupiter.api.BeforeEach;
@@ -44,6 +45,7 @@ import static cz.cvut.kbss.jopa.oom.EntityConstructorTest.getClassAssertionAxiom
 import static cz.cvut.kbss.jopa.oom.EntityConstructorTest.getStringAttAssertionAxiom;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -63,6 +65,8 @@ public class EntityConstructorQueryAttributesTest {
     @Mock
     private SparqlQueryFactory queryFactoryMock;
 
+    private QueryAttributeCache queryAttributeCache;
+
     private MetamodelMocks mocks;
     private Descriptor descriptor;
 
@@ -73,6 +77,8 @@ public class EntityConstructorQueryAttributesTest {
         when(mapperMock.getConfiguration()).thenReturn(new Configuration(Collections.emptyMap()));
         when(mapperMock.getUow()).thenReturn(uowMock);
         when(uowMock.getQueryFactory()).thenReturn(queryFactoryMock);
+        this.queryAttributeCache = new QueryAttributeCache();
+        when(uowMock.getQueryAttributeCache()).thenReturn(queryAttributeCache);
         this.mocks = new MetamodelMocks();
         this.descriptor = new EntityDescriptor();
         this.constructor = new EntityConstructor(mapperMock);
@@ -101,6 +107,19 @@ public class EntityConstructorQueryAttributesTest {
         verify(mapperMock).registerInstance(IDENTIFIER, res);
     }
 
+    @Test
+    void reconstructEntityRecordsEvaluationOfQueryAttributes() throws Exception {
+        final Set<Axiom<?>> axioms = new HashSet<>();
+        axioms.add(getClassAssertionAxiomForType(IDENTIFIER, OWLClassWithQueryAttr.getClassIri()));
+        doReturn(typedQueryMock).when(queryFactoryMock).createNativeQuery(any(String.class), (Class<?>) any(Class.class));
+        doReturn(typedQueryMock).when(typedQueryMock).setParameter(any(String.class), any());
+        doReturn("String value").when(typedQueryMock).getSingleResult();
+
+        final OWLClassWithQueryAttr res = constructor.reconstructEntity(IDENTIFIER, mocks.forOwlClassWithQueryAttr()
+                .entityType(), descriptor, axioms);
+        assertTrue(queryAttributeCache.isValid(res, mocks.forOwlClassWithQueryAttr().stringQueryAttribute()));
+    }
+
     @Test
     void testReconstructEntityWithManagedTypeQueryAttribute() throws Exception {
         final String stringValue = "String value";
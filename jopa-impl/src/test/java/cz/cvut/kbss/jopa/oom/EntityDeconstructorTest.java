@@ -370,6 +370,19 @@ class EntityDeconstructorTest {
         assertTrue(containsDPAssertion(res, OWLClassM.getDateAttributeField(), entityM.getDateAttribute()));
     }
 
+    @Test
+    void mapsMultipleEntityFieldsToSingleAxiomDescriptor() throws Exception {
+        final Descriptor desc = new EntityDescriptor();
+        final AxiomValueGatherer builder = sut.mapFieldsToAxioms(URI.create(entityM.getKey()), entityM,
+                                                                 Arrays.asList(mocks.forOwlClassM().booleanAttribute(),
+                                                                               mocks.forOwlClassM().longAttribute()),
+                                                                 mocks.forOwlClassM().entityType(), desc);
+        final AxiomValueDescriptor res = getAxiomValueDescriptor(builder);
+        assertEquals(2, res.getAssertions().size());
+        assertTrue(containsDPAssertion(res, OWLClassM.getBooleanAttributeField(), entityM.getBooleanAttribute()));
+        assertTrue(containsDPAssertion(res, OWLClassM.getLongAttributeField(), entityM.getLongAttribute()));
+    }
+
     private boolean containsInstanceClassAssertion(AxiomValueDescriptor descriptor, String classIri) {
         final List<Value<?>> values = descriptor.getAssertionValues(Assertion.createClassAssertion(false));
         assertEquals(1, values.size());
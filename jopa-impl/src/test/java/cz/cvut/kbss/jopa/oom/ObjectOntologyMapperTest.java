@@ -198,7 +198,6 @@ class ObjectOntologyMapperTest {
 
     @Test
     void testGetEntityFromCacheOrOntologyFromCache() {
-        when(cacheMock.contains(OWLClassA.class, IDENTIFIER, aDescriptor)).thenReturn(Boolean.TRUE);
         when(cacheMock.get(OWLClassA.class, IDENTIFIER, aDescriptor)).thenReturn(entityA);
         final OWLClassA res = mapper.getEntityFromCacheOrOntology(OWLClassA.class, IDENTIFIER, aDescriptor);
         assertNotNull(res);
@@ -208,7 +207,6 @@ class ObjectOntologyMapperTest {
 
     @Test
     void testGetEntityFromCacheOrOntologyFromRegisteredInstances() {
-        when(cacheMock.contains(OWLClassA.class, IDENTIFIER, null)).thenReturn(Boolean.FALSE);
         mapper.registerInstance(IDENTIFIER, entityA);
         final OWLClassA res = mapper.getEntityFromCacheOrOntology(OWLClassA.class, IDENTIFIER,
                                                                   aDescriptor);
@@ -218,7 +216,6 @@ class ObjectOntologyMapperTest {
 
     @Test
     void getEntityFromCacheOrOntologyLoadsEntityWhenItIsNotInCache() throws Exception {
-        when(cacheMock.contains(OWLClassA.class, IDENTIFIER, null)).thenReturn(Boolean.FALSE);
         final Field instanceLoaderField = ObjectOntologyMapperImpl.class.getDeclaredField("defaultInstanceLoader");
         instanceLoaderField.setAccessible(true);
         EntityInstanceLoader loader = (EntityInstanceLoader) instanceLoaderField.get(mapper);
@@ -268,6 +265,19 @@ class ObjectOntologyMapperTest {
         verify(axiomBuilderMock).update(connectionMock);
     }
 
+    @Test
+    void updateFieldValuesUpdatesAllFieldsInOneBatch() {
+        final AxiomValueGatherer axiomBuilderMock = mock(AxiomValueGatherer.class);
+        final List<FieldSpecification<? super OWLClassA, ?>> fields =
+                Arrays.asList(mocks.forOwlClassA().stringAttribute(), mocks.forOwlClassA().typesSpec());
+        when(entityDeconstructorMock.mapFieldsToAxioms(IDENTIFIER, entityA, fields, etAMock, aDescriptor))
+                .thenReturn(axiomBuilderMock);
+        mapper.updateFieldValues(entityA, fields, aDescriptor);
+        verify(entityDeconstructorMock).mapFieldsToAxioms(IDENTIFIER, entityA, fields, etAMock, aDescriptor);
+        verify(axiomBuilderMock).update(connectionMock);
+        verify(entityDeconstructorMock, never()).mapFieldToAxioms(any(), any(), any(), any(), any());
+    }
+
     @Test
     void removeEntityCreatesDescriptorForRemovalOfAllEntityAttributes() {
         when(descriptorFactoryMock
@@ -342,7 +352,6 @@ class ObjectOntologyMapperTest {
 
     @Test
     void loadEntityLoadsInstanceFromCacheWhenItIsPresentThere() throws Exception {
-        when(cacheMock.contains(OWLClassA.class, IDENTIFIER, loadingParameters.getDescriptor())).thenReturn(true);
         when(cacheMock.get(OWLClassA.class, IDENTIFIER, loadingParameters.getDescriptor())).thenReturn(entityA);
 
         final OWLClassA result = mapper.loadEntity(loadingParameters);
@@ -355,7 +364,6 @@ class ObjectOntologyMapperTest {
     void loadEntityDeterminesConcreteEntityTypeAndLoadsItFromCacheWhenItIsPresentThere() throws Exception {
         final OWLClassR entity = new OWLClassR();
         entity.setUri(IDENTIFIER);
-        when(cacheMock.contains(OWLClassR.class, IDENTIFIER, aDescriptor)).thenReturn(true);
         when(cacheMock.get(OWLClassR.class, IDENTIFIER, aDescriptor)).thenReturn(entity);
         final Types typesMock = mock(Types.class);
         final NamedResource individual = NamedResource.create(IDENTIFIER);
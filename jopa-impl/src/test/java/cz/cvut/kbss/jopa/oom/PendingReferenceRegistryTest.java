@@ -286,4 +286,19 @@ public class PendingReferenceRegistryTest {
             return Objects.hash(uri);
         }
     }
+
+    @Test
+    public void removePendingAssertionRemovesOnlyAssertionOfSpecifiedSubjectAndObject() throws Exception {
+        final NamedResource otherOwner = NamedResource.create(Generators.createIndividualIdentifier());
+        final Object otherObject = new Object();
+        registry.addPendingAssertion(owner, assertion, object, null);
+        registry.addPendingAssertion(otherOwner, assertion, object, null);
+        registry.addPendingAssertion(owner, assertion, otherObject, null);
+
+        registry.removePendingAssertion(owner, assertion, object);
+        final Map<Object, Set<PendingAssertion>> assertions = getPendingAssertions();
+        assertEquals(1, assertions.get(object).size());
+        assertEquals(otherOwner, assertions.get(object).iterator().next().getOwner());
+        assertTrue(assertions.containsKey(otherObject));
+    }
 }
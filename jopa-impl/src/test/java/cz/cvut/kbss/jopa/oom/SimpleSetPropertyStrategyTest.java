@@ -14,6 +14,7 @@
  */
 package cz.cvut.kbss.jopa.oom;
 
+import cz.cvut.kbss.jopa.adapters.IndirectSet;
 import cz.cvut.kbss.jopa.environment.OWLClassA;
 import cz.cvut.kbss.jopa.environment.OWLClassJ;
 import cz.cvut.kbss.jopa.environment.OWLClassP;
@@ -30,7 +31,10 @@ import cz.cvut.kbss.jopa.model.metamodel.AbstractPluralAttribute;
 import cz.cvut.kbss.jopa.model.metamodel.CollectionType;
 import cz.cvut.kbss.jopa.model.metamodel.EntityType;
 import cz.cvut.kbss.jopa.oom.converter.ObjectOneOfEnumConverter;
+import cz.cvut.kbss.jopa.sessions.UnitOfWorkImpl;
 import cz.cvut.kbss.jopa.vocabulary.OWL;
+import cz.cvut.kbss.ontodriver.Connection;
+import cz.cvut.kbss.ontodriver.Properties;
 import cz.cvut.kbss.ontodriver.descriptor.AxiomValueDescriptor;
 import cz.cvut.kbss.ontodriver.model.Assertion;
 import cz.cvut.kbss.ontodriver.model.Axiom;
@@ -47,6 +51,7 @@ import java.net.URI;
 import java.net.URL;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
@@ -63,6 +68,7 @@ import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anySet;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
@@ -319,4 +325,73 @@ class SimpleSetPropertyStrategyTest {
         assertThat(values, hasItem(new Value<>(NamedResource.create(aList.get(1).getUri()))));
         assertThat(values, not(hasItem(new Value<>(NamedResource.create(aList.get(0).getUri())))));
     }
+
+    @Test
+    void buildAxiomValuesFromInstanceGathersOnlyElementChangesOfIndirectSetWhenUpdating() throws Exception {
+        final SimpleSetPropertyStrategy<OWLClassJ> strategy =
+                strategy(mocks.forOwlClassJ().entityType(), mocks.forOwlClassJ().setAttribute());
+        strategy.setReferenceSavingResolver(referenceResolverMock);
+        final OWLClassJ j = new OWLClassJ(PK);
+        final IndirectSet<OWLClassA> set =
+                new IndirectSet<>(j, OWLClassJ.getOwlClassAField(), mock(UnitOfWorkImpl.class), generateSet(true));
+        set.resetElementChanges(j);
+        j.setOwlClassA(set);
+        final OWLClassA removed = set.iterator().next();
+        set.remove(removed);
+        final OWLClassA added = Generators.generateOwlClassAInstance();
+        set.add(added);
+        when(referenceResolverMock.shouldSaveReferenceToItem(any(), anySet())).thenReturn(true);
+        this.gatherer = new AxiomValueGatherer(NamedResource.create(PK), null, true);
+
+        strategy.buildAxiomValuesFromInstance(j, gatherer);
+        assertTrue(OOMTestUtils.getAxiomValueDescriptor(gatherer).getAssertions().isEmpty());
+        final Connection connection = mock(Connection.class);
+        final Properties properties = mock(Properties.class);
+        when(connection.properties()).thenReturn(properties);
+        gatherer.update(connection);
+        final Assertion assertion = Assertion.createObjectPropertyAssertion(
+                URI.create(OWLClassJ.getOwlClassAField().getAnnotation(OWLObjectProperty.class).iri()),
+                OWLClassJ.getOwlClassAField().getAnnotation(Inferred.class) != null);
+        verify(properties).addProperties(NamedResource.create(PK), null, Collections.singletonMap(assertion,
+                Collections.singleton(new Value<>(NamedResource.create(added.getUri())))));
+        verify(properties).removeProperties(NamedResource.create(PK), null, Collections.singletonMap(assertion,
+                Collections.singleton(new Value<>(NamedResource.create(removed.getUri())))));
+        assertTrue(set.getElementChanges(j).orElseThrow().isEmpty());
+    }
+
+    @Test
+    void buildAxiomValuesFromInstanceGathersWholeValueWhenElementChangesAreUnknown() throws Exception {
+        final SimpleSetPropertyStrategy<OWLClassJ> strategy =
+                strategy(mocks.forOwlClassJ().entityType(), mocks.forOwlClassJ().setAttribute());
+        strategy.setReferenceSavingResolver(referenceResolverMock);
+        final OWLClassJ j = new OWLClassJ(PK);
+        final IndirectSet<OWLClassA> set =
+                new IndirectSet<>(j, OWLClassJ.getOwlClassAField(), mock(UnitOfWorkImpl.class), generateSet(true));
+        j.setOwlClassA(set);
+        set.add(Generators.generateOwlClassAInstance());
+        when(referenceResolverMock.shouldSaveReferenceToItem(any(), anySet())).thenReturn(true);
+        this.gatherer = new AxiomValueGatherer(NamedResource.create(PK), null, true);
+
+        strategy.buildAxiomValuesFromInstance(j, gatherer);
+        verifyExtractedValues(set.stream().map(OWLClassA::getUri).collect(Collectors.toSet()));
+    }
+
+    @Test
+    void buildAxiomValuesFromInstanceRemovesPendingReferenceOfRemovedElement() throws Exception {
+        final SimpleSetPropertyStrategy<OWLClassJ> strategy =
+                strategy(mocks.forOwlClassJ().entityType(), mocks.forOwlClassJ().setAttribute());
+        strategy.setReferenceSavingResolver(referenceResolverMock);
+        final OWLClassJ j = new OWLClassJ(PK);
+        final IndirectSet<OWLClassA> set =
+                new IndirectSet<>(j, OWLClassJ.getOwlClassAField(), mock(UnitOfWorkImpl.class), generateSet(true));
+        set.resetElementChanges(j);
+        j.setOwlClassA(set);
+        final OWLClassA removed = set.iterator().next();
+        set.remove(removed);
+        this.gatherer = new AxiomValueGatherer(NamedResource.create(PK), null, true);
+
+        strategy.buildAxiomValuesFromInstance(j, gatherer);
+        verify(referenceResolverMock).removePendingReference(eq(NamedResource.create(PK)), any(Assertion.class),
+                eq(removed));
+    }
 }
@@ -25,6 +25,7 @@ import cz.cvut.kbss.ontodriver.exception.OntoDriverException;
 import cz.cvut.kbss.ontodriver.model.Assertion;
 import cz.cvut.kbss.ontodriver.model.Axiom;
 import cz.cvut.kbss.ontodriver.model.AxiomImpl;
+import cz.cvut.kbss.ontodriver.model.NamedResource;
 import cz.cvut.kbss.ontodriver.model.Value;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
@@ -39,6 +40,7 @@ import java.net.URI;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
 
 import static org.hamcrest.CoreMatchers.containsString;
@@ -103,6 +105,38 @@ class TwoStepInstanceLoaderTest extends InstanceLoaderTestBase {
         assertSame(entityR, result);
     }
 
+    @Test
+    void loadEntitiesLoadsTypesOfAllIndividualsInBulkBeforeLoadingInstances() throws Exception {
+        final Axiom<NamedResource> typeAxiom = new AxiomImpl<>(INDIVIDUAL, Assertion.createClassAssertion(false),
+                new Value<>(NamedResource.create(OWLClassR.getClassIri())));
+        final Collection<Axiom<?>> axioms = Collections.singleton(typeAxiom);
+        when(connectionMock.findAll(anyCollection())).thenReturn(Collections.singletonMap(INDIVIDUAL, axioms));
+        final OWLClassR entityR = new OWLClassR();
+        when(entityConstructorMock
+                .reconstructEntity(IDENTIFIER, metamodelMock.entity(OWLClassR.class), descriptor, axioms))
+                .thenReturn(entityR);
+
+        final Map<URI, OWLClassS> result =
+                instanceLoader.loadEntities(OWLClassS.class, Collections.singletonList(IDENTIFIER), descriptor);
+        assertSame(entityR, result.get(IDENTIFIER));
+        verify(connectionMock, times(2)).findAll(anyCollection());
+        // Instances are loaded with the resolved entity type
+        verify(descriptorFactoryMock).createForEntityLoading(
+                new LoadingParameters<>(OWLClassR.class, IDENTIFIER, descriptor),
+                metamodelMock.entity(OWLClassR.class));
+        verify(typesMock, never()).getTypes(any(), any(), anyBoolean());
+    }
+
+    @Test
+    void loadEntitiesSkipsIndividualsWithoutMatchingEntityType() throws Exception {
+        when(connectionMock.findAll(anyCollection())).thenReturn(Collections.emptyMap());
+
+        final Map<URI, OWLClassS> result =
+                instanceLoader.loadEntities(OWLClassS.class, Collections.singletonList(IDENTIFIER), descriptor);
+        assertTrue(result.isEmpty());
+        verify(connectionMock).findAll(anyCollection());
+    }
+
     @Test
     void loadEntityReturnsNullWhenNoTypesForIndividualAreFound() throws Exception {
         when(typesMock.getTypes(INDIVIDUAL, null, false)).thenReturn(Collections.emptySet());
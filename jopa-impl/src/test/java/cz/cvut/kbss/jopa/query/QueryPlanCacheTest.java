@@ -0,0 +1,76 @@
+/**
+ * Copyright (C) 2023 Czech Technical University in Prague
+ *
+ * This program is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any
+ * later version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more
+ * details. You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package cz.cvut.kbss.jopa.query;
+
+import cz.cvut.kbss.jopa.model.JOPAPersistenceProperties;
+import cz.cvut.kbss.jopa.query.sparql.QueryTemplate;
+import cz.cvut.kbss.jopa.utils.Configuration;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class QueryPlanCacheTest {
+
+    private static final String QUERY = "SELECT ?x WHERE { ?x ?y ?z . }";
+
+    @Test
+    void getCompilesQueryOnlyWhenItIsNotCached() {
+        final QueryPlanCache sut = new QueryPlanCache(QueryPlanCache.DEFAULT_CAPACITY);
+        final QueryTemplate template = mock(QueryTemplate.class);
+        final Supplier<QueryTemplate> compiler = mock(Supplier.class);
+        when(compiler.get()).thenReturn(template);
+
+        assertSame(template, sut.get(QueryPlanCache.Language.SPARQL, QUERY, compiler));
+        assertSame(template, sut.get(QueryPlanCache.Language.SPARQL, QUERY, compiler));
+        verify(compiler).get();
+    }
+
+    @Test
+    void getDistinguishesQueryLanguages() {
+        final QueryPlanCache sut = new QueryPlanCache(QueryPlanCache.DEFAULT_CAPACITY);
+        final QueryTemplate sparql = mock(QueryTemplate.class);
+        final QueryTemplate soql = mock(QueryTemplate.class);
+
+        assertSame(sparql, sut.get(QueryPlanCache.Language.SPARQL, QUERY, () -> sparql));
+        assertSame(soql, sut.get(QueryPlanCache.Language.SOQL, QUERY, () -> soql));
+        assertEquals(2, sut.size());
+    }
+
+    @Test
+    void getEvictsEntryWhenCapacityIsReached() {
+        final QueryPlanCache sut = new QueryPlanCache(2);
+        for (int i = 0; i < 5; i++) {
+            sut.get(QueryPlanCache.Language.SPARQL, QUERY + i, () -> mock(QueryTemplate.class));
+        }
+        assertEquals(2, sut.size());
+    }
+
+    @Test
+    void zeroCapacityDisablesCaching() {
+        final QueryPlanCache sut = new QueryPlanCache(new Configuration(
+                Collections.singletonMap(JOPAPersistenceProperties.QUERY_PLAN_CACHE_CAPACITY, "0")));
+        final Supplier<QueryTemplate> compiler = mock(Supplier.class);
+        when(compiler.get()).thenReturn(mock(QueryTemplate.class));
+
+        sut.get(QueryPlanCache.Language.SPARQL, QUERY, compiler);
+        sut.get(QueryPlanCache.Language.SPARQL, QUERY, compiler);
+        verify(compiler, times(2)).get();
+        assertEquals(0, sut.size());
+    }
+}
@@ -18,11 +18,11 @@ import cz.cvut.kbss.jopa.environment.utils.MetamodelMocks;
 import cz.cvut.kbss.jopa.exception.SoqlException;
 import cz.cvut.kbss.jopa.model.MetamodelImpl;
 import cz.cvut.kbss.jopa.query.QueryHolder;
-import cz.cvut.kbss.jopa.query.QueryParser;
 import cz.cvut.kbss.jopa.query.parameter.ParameterValueFactory;
 import cz.cvut.kbss.jopa.query.sparql.SparqlQueryParser;
 import cz.cvut.kbss.jopa.sessions.MetamodelProvider;
 import cz.cvut.kbss.jopa.utils.IdentifierTransformer;
+import cz.cvut.kbss.ontodriver.model.LangString;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -35,6 +35,7 @@ import org.mockito.quality.Strictness;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.endsWith;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -50,7 +51,7 @@ public class SoqlQueryParserTest {
     @Mock
     private MetamodelImpl metamodel;
 
-    private QueryParser sut;
+    private SoqlQueryParser sut;
 
     @BeforeEach
     void setUp() throws Exception {
@@ -172,6 +173,36 @@ public class SoqlQueryParserTest {
         assertEquals(3, holder.getParameters().size());
     }
 
+    @Test
+    void compileCreatesTemplateWhoseHoldersSeekAfterLastSortKeyOfAttributeOrdering() {
+        final String soqlQuery = "SELECT p FROM Person p WHERE p.age > :age ORDER BY p.age DESC";
+        final QueryHolder holder =
+                sut.compile(soqlQuery).instantiate(new ParameterValueFactory(mock(MetamodelProvider.class)));
+        holder.setPageAfter(30);
+        holder.setMaxResults(10);
+        final String result = holder.assembleQuery();
+        assertThat(result, containsString("FILTER (?pAge > ?age) FILTER (?pAge < "));
+        assertThat(result, endsWith("} ORDER BY DESC(?pAge)  LIMIT 10"));
+    }
+
+    @Test
+    void compileCreatesTemplateWhoseHoldersCompareStringSortKeysByLexicalForm() {
+        final String soqlQuery = "SELECT p FROM Person p ORDER BY p.username";
+        final QueryHolder holder =
+                sut.compile(soqlQuery).instantiate(new ParameterValueFactory(mock(MetamodelProvider.class)));
+        holder.setPageAfter(new LangString("alice", "en"));
+        final String result = holder.assembleQuery();
+        assertThat(result, containsString("FILTER (STR(?username) > STR(\"alice\"@en)) }"));
+        assertThat(result, endsWith("} ORDER BY ?username "));
+    }
+
+    @Test
+    void parseQueryCreatesHolderWithoutKeysetPaginationSupportWhenOrderingByMultipleAttributes() {
+        final String soqlQuery = "SELECT p FROM Person p ORDER BY p.age, p.username";
+        final QueryHolder holder = sut.parseQuery(soqlQuery);
+        assertThrows(IllegalStateException.class, () -> holder.setPageAfter(30));
+    }
+
     @Test
     public void testParseFindOneOrderByNotInWhereQuery() {
         final String soqlQuery = "SELECT p FROM Person p WHERE p.age > :age ORDER BY p.username DESC";
@@ -17,9 +17,11 @@ package cz.cvut.kbss.jopa.query.sparql;
 import cz.cvut.kbss.jopa.environment.OWLClassA;
 import cz.cvut.kbss.jopa.environment.utils.MetamodelMocks;
 import cz.cvut.kbss.jopa.model.MetamodelImpl;
+import cz.cvut.kbss.jopa.model.QueryImpl;
 import cz.cvut.kbss.jopa.model.query.Query;
 import cz.cvut.kbss.jopa.model.query.TypedQuery;
 import cz.cvut.kbss.jopa.query.NamedQueryManager;
+import cz.cvut.kbss.jopa.query.QueryPlanCache;
 import cz.cvut.kbss.jopa.query.ResultSetMappingManager;
 import cz.cvut.kbss.jopa.query.mapper.SparqlResultMapper;
 import cz.cvut.kbss.jopa.sessions.ConnectionWrapper;
@@ -32,7 +34,9 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.*;
 
@@ -53,6 +57,8 @@ public class SparqlQueryFactoryTest {
     @Mock
     private ConnectionWrapper connectionMock;
 
+    private QueryPlanCache queryPlanCache;
+
     private SparqlQueryFactory factory;
 
     @BeforeEach
@@ -61,6 +67,8 @@ public class SparqlQueryFactoryTest {
         final MetamodelImpl metamodel = mock(MetamodelImpl.class);
         new MetamodelMocks().setMocks(metamodel);
         when(uowMock.getMetamodel()).thenReturn(metamodel);
+        this.queryPlanCache = new QueryPlanCache(QueryPlanCache.DEFAULT_CAPACITY);
+        when(uowMock.getQueryPlanCache()).thenReturn(queryPlanCache);
         this.factory = new SparqlQueryFactory(uowMock, connectionMock);
     }
 
@@ -144,4 +152,21 @@ public class SparqlQueryFactoryTest {
         assertNotNull(q);
         verify(namedQueryManagerMock).getQuery(queryName);
     }
+
+    @Test
+    public void createNativeQueryReusesCachedQueryTemplate() {
+        final QueryImpl qOne = factory.createNativeQuery(QUERY);
+        final QueryImpl qTwo = factory.createNativeQuery(QUERY);
+        assertEquals(1, queryPlanCache.size());
+        // Each query gets its own parameter instances
+        assertNotSame(qOne.getParameter("x"), qTwo.getParameter("x"));
+    }
+
+    @Test
+    public void createQueryCachesTranslatedSoqlQueryForAllFactories() {
+        final SparqlQueryFactory otherFactory = new SparqlQueryFactory(uowMock, connectionMock);
+        factory.createQuery(SOQL_QUERY);
+        otherFactory.createQuery(SOQL_QUERY, CLS);
+        assertEquals(1, queryPlanCache.size());
+    }
 }
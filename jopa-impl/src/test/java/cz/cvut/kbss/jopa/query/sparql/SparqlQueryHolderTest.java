@@ -17,15 +17,22 @@ package cz.cvut.kbss.jopa.query.sparql;
 import cz.cvut.kbss.jopa.query.QueryParameter;
 import cz.cvut.kbss.jopa.query.parameter.ParameterValueFactory;
 import cz.cvut.kbss.jopa.sessions.MetamodelProvider;
+import cz.cvut.kbss.ontodriver.model.LangString;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.net.URI;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 import static org.hamcrest.CoreMatchers.*;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
 
 class SparqlQueryHolderTest {
@@ -38,10 +45,22 @@ class SparqlQueryHolderTest {
 
     @BeforeEach
     void setUp() {
-        this.sut = new SparqlQueryHolder(QUERY, PARTS,
-                PARAMS.stream()
-                      .map(name -> new QueryParameter<>(name, new ParameterValueFactory(mock(MetamodelProvider.class))))
-                      .collect(Collectors.toList()));
+        this.sut = new SparqlQueryHolder(QUERY, PARTS, createParameters());
+    }
+
+    private static List<QueryParameter<?>> createParameters() {
+        return PARAMS.stream()
+                     .map(name -> new QueryParameter<>(name, new ParameterValueFactory(mock(MetamodelProvider.class))))
+                     .collect(Collectors.toList());
+    }
+
+    private static SparqlQueryHolder keysetPaginatedHolder(String variable, boolean descending, boolean identifier) {
+        final String lastPart = PARTS.get(PARTS.size() - 1);
+        final KeysetOrdering ordering = new KeysetOrdering(variable, descending, identifier, QUERY.lastIndexOf('}'))
+                .locate(PARTS.size() - 1, lastPart.indexOf('}'));
+        return new SparqlQueryHolder(QUERY, PARTS, createParameters(), ordering,
+                                     new QueryParameter<>(SparqlQueryHolder.PAGE_AFTER_PARAMETER,
+                                                          new ParameterValueFactory(mock(MetamodelProvider.class))));
     }
 
     @Test
@@ -78,4 +97,71 @@ class SparqlQueryHolderTest {
         assertThat(result, containsString("LIMIT 10"));
         assertThat(result, containsString("OFFSET 5"));
     }
+
+    @Test
+    void setPageAfterThrowsIllegalStateExceptionWhenQueryDoesNotSupportKeysetPagination() {
+        assertThrows(IllegalStateException.class, () -> sut.setPageAfter(URI.create("http://example.org/p1")));
+    }
+
+    @Test
+    void setPageAfterInsertsSeekFilterComparingIdentifiersAsStringsIntoWhereClause() {
+        this.sut = keysetPaginatedHolder("?x", false, true);
+        sut.setPageAfter(URI.create("http://example.org/p1"));
+        sut.setMaxResults(10);
+        final String result = sut.assembleQuery();
+        assertEquals("SELECT ?x WHERE { ?x a ?type . FILTER (STR(?x) > STR(<http://example.org/p1>)) } LIMIT 10",
+                     result);
+    }
+
+    @Test
+    void setPageAfterInsertsSeekFilterWithReversedComparisonForDescendingOrdering() {
+        this.sut = keysetPaginatedHolder("?type", true, false);
+        sut.setPageAfter(URI.create("http://example.org/Type"));
+        final String result = sut.assembleQuery();
+        assertThat(result, containsString("FILTER (?type < <http://example.org/Type>) }"));
+    }
+
+    @Test
+    void setPageAfterNullRemovesSeekFilter() {
+        this.sut = keysetPaginatedHolder("?x", false, true);
+        sut.setPageAfter(URI.create("http://example.org/p1"));
+        sut.setPageAfter(null);
+        assertEquals(QUERY, sut.assembleQuery());
+    }
+
+    @Test
+    void keysetPaginationUsesVariableForLastSortKeyWhenQueryIsAssembledForBinding() {
+        this.sut = keysetPaginatedHolder("?type", false, false);
+        sut.setPageAfter(117);
+        final Optional<Map<String, Object>> values = sut.getBindableParameterValues();
+        assertTrue(values.isPresent());
+        assertEquals(117, values.get().get(SparqlQueryHolder.PAGE_AFTER_PARAMETER));
+        assertThat(sut.assembleQueryForBinding(),
+                   containsString("FILTER (?type > ?" + SparqlQueryHolder.PAGE_AFTER_PARAMETER + ") }"));
+    }
+
+    @Test
+    void setPageAfterComparesStringKeysByLexicalForm() {
+        this.sut = keysetPaginatedHolder("?type", false, false);
+        sut.setPageAfter("Type");
+        assertThat(sut.assembleQuery(), containsString("FILTER (STR(?type) > STR(\"Type\")) }"));
+    }
+
+    @Test
+    void setPageAfterComparesLanguageTaggedStringKeysByLexicalForm() {
+        this.sut = keysetPaginatedHolder("?type", true, false);
+        sut.setPageAfter(new LangString("Type", "en"));
+        assertThat(sut.assembleQuery(), containsString("FILTER (STR(?type) < STR(\"Type\"@en)) }"));
+    }
+
+    @Test
+    void setPageAfterInsertsSeekFilterAtRecordedEndOfWhereClauseWhenQueryContinuesWithBracedBlock() {
+        final String query = "SELECT ?x WHERE { ?x a ?type . } VALUES ?type { <http://example.org/Type> }";
+        final KeysetOrdering ordering = new KeysetOrdering("?x", false, true, query.indexOf(" } VALUES") + 1);
+        final SparqlQueryHolder holder = new SparqlQueryParser(new ParameterValueFactory(mock(MetamodelProvider.class)))
+                .parseQuery(query, ordering);
+        holder.setPageAfter(URI.create("http://example.org/p1"));
+        assertEquals("SELECT ?x WHERE { ?x a ?type . FILTER (STR(?x) > STR(<http://example.org/p1>)) } " +
+                             "VALUES ?type { <http://example.org/Type> }", holder.assembleQuery());
+    }
 }
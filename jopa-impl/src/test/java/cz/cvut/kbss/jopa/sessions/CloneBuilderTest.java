@@ -25,6 +25,7 @@ import cz.cvut.kbss.jopa.model.annotations.OWLObjectProperty;
 import cz.cvut.kbss.jopa.model.descriptors.Descriptor;
 import cz.cvut.kbss.jopa.model.descriptors.EntityDescriptor;
 import cz.cvut.kbss.jopa.model.metamodel.*;
+import cz.cvut.kbss.jopa.sessions.change.ChangeManagerImpl;
 import cz.cvut.kbss.jopa.sessions.change.ChangeRecordImpl;
 import cz.cvut.kbss.jopa.sessions.change.ChangeSetFactory;
 import cz.cvut.kbss.jopa.utils.EntityPropertiesUtils;
@@ -572,6 +573,26 @@ public class CloneBuilderTest {
         assertEquals(newValue.getStringAttribute(), entityD.getOwlClassA().getStringAttribute());
     }
 
+    @Test
+    public void mergeChangesMergesPrecalculatedSetChangesIntoCopyOfOriginalSet() {
+        final OWLClassA a = new OWLClassA(entityA.getUri());
+        final Set<String> originalTypes = new HashSet<>(Arrays.asList("http://a", "http://b"));
+        a.setTypes(originalTypes);
+        final OWLClassA cloneA = new OWLClassA(entityA.getUri());
+        cloneA.setTypes(new HashSet<>(Arrays.asList("http://b", "http://c")));
+        final ObjectChangeSet chSet = ChangeSetFactory.createObjectChangeSet(a, cloneA, defaultDescriptor);
+        final ChangeRecordImpl record =
+                new ChangeRecordImpl(metamodelMocks.forOwlClassA().typesSpec(), cloneA.getTypes());
+        chSet.addChangeRecord(record);
+        new ChangeManagerImpl(uow).calculateSetChanges(chSet);
+        assertTrue(record.getSetChanges().isPresent());
+
+        builder.mergeChanges(chSet);
+        assertEquals(cloneA.getTypes(), a.getTypes());
+        assertNotSame(originalTypes, a.getTypes());
+        assertEquals(new HashSet<>(Arrays.asList("http://a", "http://b")), originalTypes);
+    }
+
     @Test
     public void buildCloneClonesMappedSuperclassFieldsAsWell() {
 
@@ -15,18 +15,32 @@
 package cz.cvut.kbss.jopa.sessions;
 
 import cz.cvut.kbss.jopa.environment.OWLClassA;
+import cz.cvut.kbss.jopa.environment.utils.Generators;
+import cz.cvut.kbss.jopa.environment.utils.MetamodelMocks;
 import cz.cvut.kbss.jopa.exceptions.OWLPersistenceException;
+import cz.cvut.kbss.jopa.metrics.MetricNames;
+import cz.cvut.kbss.jopa.metrics.MetricsCollector;
+import cz.cvut.kbss.jopa.model.FlushModeType;
+import cz.cvut.kbss.jopa.model.MetamodelImpl;
+import cz.cvut.kbss.jopa.model.descriptors.Descriptor;
 import cz.cvut.kbss.jopa.model.descriptors.EntityDescriptor;
+import cz.cvut.kbss.jopa.model.metamodel.FieldSpecification;
 import cz.cvut.kbss.jopa.oom.ObjectOntologyMapper;
 import cz.cvut.kbss.ontodriver.Connection;
 import cz.cvut.kbss.ontodriver.exception.OntoDriverException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 
 import java.lang.reflect.Field;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.*;
@@ -38,6 +52,11 @@ class ConnectionWrapperTest {
     @Mock
     private ObjectOntologyMapper oomMock;
 
+    @Mock
+    private MetamodelImpl metamodelMock;
+
+    private MetamodelMocks metamodelMocks;
+
     private ConnectionWrapper connectionWrapper;
 
     @BeforeEach
@@ -47,6 +66,8 @@ class ConnectionWrapperTest {
         final Field oomField = ConnectionWrapper.class.getDeclaredField("mapper");
         oomField.setAccessible(true);
         oomField.set(connectionWrapper, oomMock);
+        this.metamodelMocks = new MetamodelMocks();
+        metamodelMocks.setMocks(metamodelMock);
     }
 
     @Test
@@ -67,4 +88,140 @@ class ConnectionWrapperTest {
         when(connectionMock.unwrap(Object.class)).thenThrow(new OntoDriverException());
         assertThrows(OWLPersistenceException.class, () -> connectionWrapper.unwrap(Object.class));
     }
-}
\ No newline at end of file
+
+    @Test
+    void mergeUpdatesFieldValueImmediatelyByDefault() {
+        final OWLClassA entity = new OWLClassA(Generators.createIndividualIdentifier());
+        final Descriptor descriptor = new EntityDescriptor();
+        connectionWrapper.merge(entity, metamodelMocks.forOwlClassA().stringAttribute(), descriptor);
+        verify(oomMock).updateFieldValue(entity, metamodelMocks.forOwlClassA().stringAttribute(), descriptor);
+    }
+
+    @Test
+    void mergeInDeferredModeOnlyRegistersChangeAndFlushWritesChangesOfEntityInOneBatch() {
+        connectionWrapper.setFlushMode(FlushModeType.DEFERRED);
+        final OWLClassA entity = new OWLClassA(Generators.createIndividualIdentifier());
+        final Descriptor descriptor = new EntityDescriptor();
+        connectionWrapper.merge(entity, metamodelMocks.forOwlClassA().stringAttribute(), descriptor);
+        connectionWrapper.merge(entity, metamodelMocks.forOwlClassA().typesSpec(), descriptor);
+        connectionWrapper.merge(entity, metamodelMocks.forOwlClassA().stringAttribute(), descriptor);
+        verify(oomMock, never()).updateFieldValue(any(), any(), any());
+        verify(oomMock, never()).updateFieldValues(any(), any(), any());
+
+        connectionWrapper.flush();
+        final ArgumentCaptor<Collection<FieldSpecification<? super OWLClassA, ?>>> captor =
+                ArgumentCaptor.forClass(Collection.class);
+        verify(oomMock).updateFieldValues(eq(entity), captor.capture(), eq(descriptor));
+        assertEquals(new HashSet<>(Arrays.asList(metamodelMocks.forOwlClassA().stringAttribute(),
+                                                 metamodelMocks.forOwlClassA().typesSpec())),
+                     new HashSet<>(captor.getValue()));
+    }
+
+    @Test
+    void createStatementFlushesPendingChanges() throws Exception {
+        connectionWrapper.setFlushMode(FlushModeType.DEFERRED);
+        final OWLClassA entity = new OWLClassA(Generators.createIndividualIdentifier());
+        final Descriptor descriptor = new EntityDescriptor();
+        connectionWrapper.merge(entity, metamodelMocks.forOwlClassA().stringAttribute(), descriptor);
+
+        connectionWrapper.createStatement();
+        final InOrder inOrder = inOrder(oomMock, connectionMock);
+        inOrder.verify(oomMock).updateFieldValues(eq(entity), any(), eq(descriptor));
+        inOrder.verify(connectionMock).createStatement();
+    }
+
+    @Test
+    void commitFlushesPendingChangesBeforeCommittingConnection() throws Exception {
+        connectionWrapper.setFlushMode(FlushModeType.DEFERRED);
+        final OWLClassA entity = new OWLClassA(Generators.createIndividualIdentifier());
+        final Descriptor descriptor = new EntityDescriptor();
+        connectionWrapper.merge(entity, metamodelMocks.forOwlClassA().stringAttribute(), descriptor);
+
+        connectionWrapper.commit();
+        final InOrder inOrder = inOrder(oomMock, connectionMock);
+        inOrder.verify(oomMock).updateFieldValues(eq(entity), any(), eq(descriptor));
+        inOrder.verify(oomMock).checkForUnpersistedChanges();
+        inOrder.verify(connectionMock).commit();
+    }
+
+    @Test
+    void discardPendingChangesRemovesChangesOfEntityWithoutWritingThem() {
+        connectionWrapper.setFlushMode(FlushModeType.DEFERRED);
+        final OWLClassA entity = new OWLClassA(Generators.createIndividualIdentifier());
+        connectionWrapper.merge(entity, metamodelMocks.forOwlClassA().stringAttribute(), new EntityDescriptor());
+
+        connectionWrapper.discardPendingChanges(entity);
+        connectionWrapper.flush();
+        verify(oomMock, never()).updateFieldValues(any(), any(), any());
+    }
+
+    @Test
+    void rollbackDiscardsPendingChanges() throws Exception {
+        connectionWrapper.setFlushMode(FlushModeType.DEFERRED);
+        final OWLClassA entity = new OWLClassA(Generators.createIndividualIdentifier());
+        connectionWrapper.merge(entity, metamodelMocks.forOwlClassA().stringAttribute(), new EntityDescriptor());
+
+        connectionWrapper.rollback();
+        connectionWrapper.flush();
+        verify(oomMock, never()).updateFieldValues(any(), any(), any());
+        verify(connectionMock).rollback();
+    }
+
+    @Test
+    void switchingToImmediateFlushModeWritesPendingChanges() {
+        connectionWrapper.setFlushMode(FlushModeType.DEFERRED);
+        final OWLClassA entity = new OWLClassA(Generators.createIndividualIdentifier());
+        final Descriptor descriptor = new EntityDescriptor();
+        connectionWrapper.merge(entity, metamodelMocks.forOwlClassA().stringAttribute(), descriptor);
+
+        connectionWrapper.setFlushMode(FlushModeType.IMMEDIATE);
+        verify(oomMock).updateFieldValues(eq(entity), any(), eq(descriptor));
+    }
+
+    @Test
+    void findRecordsStorageOperationLoadTimeAndLoadedEntityType() throws Exception {
+        final MetricsCollector metrics = mock(MetricsCollector.class);
+        final ConnectionWrapper sut = connectionWrapperWithMetrics(metrics);
+        final OWLClassA entity = new OWLClassA(Generators.createIndividualIdentifier());
+        final LoadingParameters<OWLClassA> params =
+                new LoadingParameters<>(OWLClassA.class, entity.getUri(), new EntityDescriptor());
+        when(oomMock.loadEntity(params)).thenReturn(entity);
+
+        assertEquals(entity, sut.find(params));
+        verify(metrics).incrementCounter(MetricNames.STORAGE_OPERATIONS, MetricNames.TAG_OPERATION, "find");
+        verify(metrics).recordTime(eq(MetricNames.STORAGE_FIND), anyLong());
+        verify(metrics).incrementCounter(MetricNames.ENTITY_LOADS, MetricNames.TAG_ENTITY,
+                                         OWLClassA.class.getSimpleName());
+    }
+
+    private ConnectionWrapper connectionWrapperWithMetrics(MetricsCollector metrics) throws Exception {
+        final ConnectionWrapper result = new ConnectionWrapper(connectionMock, metrics);
+        final Field oomField = ConnectionWrapper.class.getDeclaredField("mapper");
+        oomField.setAccessible(true);
+        oomField.set(result, oomMock);
+        return result;
+    }
+
+    @Test
+    void persistRecordsPersistedEntityType() throws Exception {
+        final MetricsCollector metrics = mock(MetricsCollector.class);
+        final ConnectionWrapper sut = connectionWrapperWithMetrics(metrics);
+        final OWLClassA entity = new OWLClassA(Generators.createIndividualIdentifier());
+
+        sut.persist(entity.getUri(), entity, new EntityDescriptor());
+        verify(metrics).incrementCounter(MetricNames.ENTITY_PERSISTS, MetricNames.TAG_ENTITY,
+                                         OWLClassA.class.getSimpleName());
+    }
+
+    @Test
+    void recordQueryExecutionRecordsTimeTaggedWithQueryStringHash() throws Exception {
+        final MetricsCollector metrics = mock(MetricsCollector.class);
+        when(metrics.isEnabled()).thenReturn(true);
+        final ConnectionWrapper sut = connectionWrapperWithMetrics(metrics);
+        final String query = "SELECT * WHERE { ?x ?y ?z . }";
+
+        sut.recordQueryExecution(query, "select", 1000L);
+        verify(metrics).recordTime(MetricNames.QUERY, 1000L, MetricNames.TAG_QUERY,
+                                   Integer.toHexString(query.hashCode()), MetricNames.TAG_QUERY_TYPE, "select");
+    }
+}
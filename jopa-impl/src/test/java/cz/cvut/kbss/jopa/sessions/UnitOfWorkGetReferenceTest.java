@@ -172,7 +172,6 @@ public class UnitOfWorkGetReferenceTest extends UnitOfWorkTestBase {
 
     @Test
     void getReferenceLoadsOriginalFromSecondLevelCacheWhenPresent() {
-        when(cacheManagerMock.contains(OWLClassA.class, entityA.getUri(), descriptor)).thenReturn(true);
         when(cacheManagerMock.get(OWLClassA.class, entityA.getUri(), descriptor)).thenReturn(entityA);
         final OWLClassA reference = new OWLClassA(entityA.getUri());
         when(storageMock.getReference(any(LoadingParameters.class))).thenReturn(reference);
@@ -183,7 +182,6 @@ public class UnitOfWorkGetReferenceTest extends UnitOfWorkTestBase {
     @Test
     void changesToGetReferenceResultAreMergedIntoOriginalInCache() {
         when(transactionMock.isActive()).thenReturn(true);
-        when(cacheManagerMock.contains(OWLClassA.class, entityA.getUri(), descriptor)).thenReturn(true);
         when(cacheManagerMock.get(OWLClassA.class, entityA.getUri(), descriptor)).thenReturn(entityA);
         final OWLClassA reference = new OWLClassA(entityA.getUri());
         when(storageMock.getReference(any(LoadingParameters.class))).thenReturn(reference);
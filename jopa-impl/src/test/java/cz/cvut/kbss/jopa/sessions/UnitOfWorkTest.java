@@ -22,6 +22,7 @@ import cz.cvut.kbss.jopa.environment.OWLClassD;
 import cz.cvut.kbss.jopa.environment.OWLClassF;
 import cz.cvut.kbss.jopa.environment.OWLClassL;
 import cz.cvut.kbss.jopa.environment.OWLClassR;
+import cz.cvut.kbss.jopa.environment.OWLClassWithQueryAttr;
 import cz.cvut.kbss.jopa.environment.Vocabulary;
 import cz.cvut.kbss.jopa.environment.utils.Generators;
 import cz.cvut.kbss.jopa.exception.IdentifierNotSetException;
@@ -31,6 +32,7 @@ import cz.cvut.kbss.jopa.exceptions.InferredAttributeModifiedException;
 import cz.cvut.kbss.jopa.exceptions.OWLEntityExistsException;
 import cz.cvut.kbss.jopa.exceptions.OWLPersistenceException;
 import cz.cvut.kbss.jopa.model.EntityManagerImpl.State;
+import cz.cvut.kbss.jopa.model.FlushModeType;
 import cz.cvut.kbss.jopa.model.LoadState;
 import cz.cvut.kbss.jopa.model.annotations.ParticipationConstraint;
 import cz.cvut.kbss.jopa.model.descriptors.Descriptor;
@@ -45,12 +47,14 @@ import cz.cvut.kbss.ontodriver.model.Value;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.Mockito;
 
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Field;
 import java.net.URI;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -76,6 +80,7 @@ import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.eq;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
@@ -248,6 +253,52 @@ class UnitOfWorkTest extends UnitOfWorkTestBase {
         assertSame(origOne, origTwo);
     }
 
+    @Test
+    void readObjectsLoadsUnmanagedInstancesInBulkAndReturnsThemInRequestedOrder() {
+        final OWLClassA another = Generators.generateOwlClassAInstance();
+        final Map<URI, OWLClassA> loaded = new HashMap<>();
+        loaded.put(entityA.getUri(), entityA);
+        loaded.put(another.getUri(), another);
+        when(storageMock.findAll(eq(OWLClassA.class), any(), eq(descriptor))).thenReturn(loaded);
+
+        final List<OWLClassA> result =
+                uow.readObjects(OWLClassA.class, Arrays.asList(another.getUri(), entityA.getUri()), descriptor);
+        assertEquals(2, result.size());
+        assertEquals(another.getUri(), result.get(0).getUri());
+        assertEquals(entityA.getUri(), result.get(1).getUri());
+        assertTrue(uow.isObjectManaged(result.get(0)));
+        assertTrue(uow.isObjectManaged(result.get(1)));
+        verify(storageMock, never()).find(any());
+    }
+
+    @Test
+    void readObjectsDoesNotLoadAlreadyManagedInstances() {
+        when(storageMock.find(new LoadingParameters<>(OWLClassA.class, entityA.getUri(), descriptor))).thenReturn(
+                entityA);
+        final OWLClassA managed = uow.readObject(OWLClassA.class, entityA.getUri(), descriptor);
+        final OWLClassA another = Generators.generateOwlClassAInstance();
+        when(storageMock.findAll(eq(OWLClassA.class), any(), eq(descriptor)))
+                .thenReturn(Collections.singletonMap(another.getUri(), another));
+
+        final List<OWLClassA> result =
+                uow.readObjects(OWLClassA.class, Arrays.asList(entityA.getUri(), another.getUri()), descriptor);
+        assertEquals(2, result.size());
+        assertSame(managed, result.get(0));
+        assertEquals(another.getUri(), result.get(1).getUri());
+        verify(storageMock).findAll(OWLClassA.class, Collections.singleton(another.getUri()), descriptor);
+    }
+
+    @Test
+    void readObjectsSkipsIdentifiersForWhichNoInstanceWasFound() {
+        when(storageMock.findAll(eq(OWLClassA.class), any(), eq(descriptor)))
+                .thenReturn(Collections.singletonMap(entityA.getUri(), entityA));
+
+        final List<OWLClassA> result = uow.readObjects(OWLClassA.class, Arrays.asList(entityA.getUri(),
+                Generators.createIndividualIdentifier()), descriptor);
+        assertEquals(1, result.size());
+        assertEquals(entityA.getUri(), result.get(0).getUri());
+    }
+
     @Test
     void testGetOriginalNull() {
         assertNull(uow.getOriginal(null));
@@ -381,6 +432,21 @@ class UnitOfWorkTest extends UnitOfWorkTestBase {
         verify(storageMock).remove(entityB.getUri(), entityB.getClass(), descriptor);
     }
 
+    @Test
+    void removeObjectDiscardsPendingChangesOfRemovedObject() {
+        final OWLClassB toRemove = (OWLClassB) uow.registerExistingObject(entityB, descriptor);
+        uow.removeObject(toRemove);
+        final InOrder inOrder = inOrder(storageMock);
+        inOrder.verify(storageMock).discardPendingChanges(toRemove);
+        inOrder.verify(storageMock).remove(entityB.getUri(), entityB.getClass(), descriptor);
+    }
+
+    @Test
+    void setFlushModeSetsFlushModeOnStorageConnection() {
+        uow.setFlushMode(FlushModeType.DEFERRED);
+        verify(storageMock).setFlushMode(FlushModeType.DEFERRED);
+    }
+
     @Test
     void testRemoveNewObject() {
         final OWLClassB newOne = new OWLClassB();
@@ -923,6 +989,40 @@ class UnitOfWorkTest extends UnitOfWorkTestBase {
         verify(cacheManagerMock).evictInferredObjects();
     }
 
+    @Test
+    void commitWithChangesInvalidatesQueryAttributeCache() {
+        final OWLClassWithQueryAttr original = new OWLClassWithQueryAttr(Generators.createIndividualIdentifier());
+        serverSessionStub.getQueryAttributeCache()
+                         .recordEvaluation(original, metamodelMocks.forOwlClassWithQueryAttr().stringQueryAttribute());
+        uow.registerNewObject(entityB, descriptor);
+        uow.commit();
+        assertFalse(serverSessionStub.getQueryAttributeCache().isValid(original, metamodelMocks.forOwlClassWithQueryAttr()
+                                                                                               .stringQueryAttribute()));
+    }
+
+    @Test
+    void registerExistingObjectMarksQueryAttributeLoadedWhenItsValueCanBeReused() throws Exception {
+        final OWLClassWithQueryAttr original = new OWLClassWithQueryAttr(Generators.createIndividualIdentifier());
+        original.setStringQueryAttribute("value");
+        serverSessionStub.getQueryAttributeCache()
+                         .recordEvaluation(original, metamodelMocks.forOwlClassWithQueryAttr().stringQueryAttribute());
+
+        final Object clone = uow.registerExistingObject(original, descriptor);
+        assertEquals(LoadState.LOADED, uow.isLoaded(clone, OWLClassWithQueryAttr.getStrQueryAttField().getName()));
+    }
+
+    @Test
+    void registerExistingObjectMarksQueryAttributeNotLoadedWhenItsValueCannotBeReused() throws Exception {
+        final OWLClassWithQueryAttr original = new OWLClassWithQueryAttr(Generators.createIndividualIdentifier());
+        original.setStringQueryAttribute("value");
+        serverSessionStub.getQueryAttributeCache()
+                         .recordEvaluation(original, metamodelMocks.forOwlClassWithQueryAttr().stringQueryAttribute());
+        serverSessionStub.getQueryAttributeCache().invalidate();
+
+        final Object clone = uow.registerExistingObject(original, descriptor);
+        assertEquals(LoadState.NOT_LOADED, uow.isLoaded(clone, OWLClassWithQueryAttr.getStrQueryAttField().getName()));
+    }
+
     @Test
     void isLoadedReturnsLoadedForNewlyRegisteredInstance() {
         uow.registerNewObject(entityA, descriptor);
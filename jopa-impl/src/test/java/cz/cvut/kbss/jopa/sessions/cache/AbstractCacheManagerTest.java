@@ -19,6 +19,8 @@ import cz.cvut.kbss.jopa.environment.OWLClassB;
 import cz.cvut.kbss.jopa.environment.OWLClassD;
 import cz.cvut.kbss.jopa.environment.OWLClassM;
 import cz.cvut.kbss.jopa.environment.utils.Generators;
+import cz.cvut.kbss.jopa.metrics.MetricNames;
+import cz.cvut.kbss.jopa.metrics.MetricsCollector;
 import cz.cvut.kbss.jopa.model.descriptors.Descriptor;
 import cz.cvut.kbss.jopa.model.descriptors.EntityDescriptor;
 import cz.cvut.kbss.jopa.model.metamodel.Attribute;
@@ -34,6 +36,8 @@ import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 public abstract class AbstractCacheManagerTest<T extends CacheManager> {
@@ -79,6 +83,28 @@ public abstract class AbstractCacheManagerTest<T extends CacheManager> {
         assertSame(testA, res);
     }
 
+    @Test
+    public void getRecordsLookupResultInMetricsCollector() {
+        final MetricsCollector metrics = mock(MetricsCollector.class);
+        manager.setMetricsCollector(metrics);
+        final Descriptor descriptor = descriptor(CONTEXT_ONE);
+        manager.add(testA.getUri(), testA, descriptor);
+        assertSame(testA, manager.get(testA.getClass(), testA.getUri(), descriptor));
+        assertNull(manager.get(testB.getClass(), testB.getUri(), descriptor));
+        verify(metrics).incrementCounter(MetricNames.CACHE_LOOKUPS, MetricNames.TAG_RESULT, MetricNames.HIT);
+        verify(metrics).incrementCounter(MetricNames.CACHE_LOOKUPS, MetricNames.TAG_RESULT, MetricNames.MISS);
+    }
+
+    @Test
+    public void containsDoesNotRecordLookupInMetricsCollector() {
+        final MetricsCollector metrics = mock(MetricsCollector.class);
+        manager.setMetricsCollector(metrics);
+        final Descriptor descriptor = descriptor(CONTEXT_ONE);
+        manager.add(testA.getUri(), testA, descriptor);
+        assertTrue(manager.contains(testA.getClass(), testA.getUri(), descriptor));
+        verifyNoInteractions(metrics);
+    }
+
     @Test
     public void testAddToDefault() {
         final Descriptor descriptor = descriptor(null);
@@ -0,0 +1,141 @@
+/**
+ * Copyright (C) 2023 Czech Technical University in Prague
+ *
+ * This program is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any
+ * later version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more
+ * details. You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package cz.cvut.kbss.jopa.sessions.cache;
+
+import cz.cvut.kbss.jopa.environment.OWLClassA;
+import cz.cvut.kbss.jopa.environment.utils.Generators;
+import cz.cvut.kbss.jopa.model.JOPAPersistenceProperties;
+import cz.cvut.kbss.jopa.model.descriptors.Descriptor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Field;
+import java.net.URI;
+import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ConcurrentCacheManagerTest extends AbstractCacheManagerTest<ConcurrentCacheManager> {
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        super.setUp();
+        this.manager = new ConcurrentCacheManager();
+    }
+
+    @Test
+    public void initWithCustomCapacity() {
+        this.manager = new ConcurrentCacheManager(
+                Collections.singletonMap(JOPAPersistenceProperties.LRU_CACHE_CAPACITY, "117"));
+        assertEquals(117, manager.getCapacity());
+    }
+
+    @Test
+    public void initializationWithInvalidCapacityUsesDefaultValue() {
+        this.manager = new ConcurrentCacheManager(
+                Collections.singletonMap(JOPAPersistenceProperties.LRU_CACHE_CAPACITY, "-111"));
+        assertEquals(ConcurrentCacheManager.DEFAULT_CAPACITY, manager.getCapacity());
+    }
+
+    @Test
+    public void entryGetsEvictedWhenCapacityIsExceeded() {
+        final Descriptor descriptorOne = descriptor(CONTEXT_ONE);
+        final Descriptor descriptorTwo = descriptor(CONTEXT_TWO);
+        this.manager = new ConcurrentCacheManager(
+                Collections.singletonMap(JOPAPersistenceProperties.LRU_CACHE_CAPACITY, "1"));
+        manager.add(testA.getUri(), testA, descriptorOne);
+        assertTrue(manager.contains(testA.getClass(), testA.getUri(), descriptorOne));
+
+        manager.add(testB.getUri(), testB, descriptorTwo);
+        assertFalse(manager.contains(testA.getClass(), testA.getUri(), descriptorOne));
+        assertTrue(manager.contains(testB.getClass(), testB.getUri(), descriptorTwo));
+        assertEquals(1, manager.size());
+    }
+
+    @Test
+    public void recentlyReadEntryGetsSecondChanceOnEviction() {
+        final Descriptor descriptor = descriptor(CONTEXT_ONE);
+        this.manager = new ConcurrentCacheManager(
+                Collections.singletonMap(JOPAPersistenceProperties.LRU_CACHE_CAPACITY, "2"));
+        final OWLClassA aTwo = new OWLClassA(Generators.createIndividualIdentifier());
+        manager.add(testA.getUri(), testA, descriptor);
+        manager.add(aTwo.getUri(), aTwo, descriptor);
+        assertNotNull(manager.get(OWLClassA.class, testA.getUri(), descriptor));
+
+        final OWLClassA aThree = new OWLClassA(Generators.createIndividualIdentifier());
+        manager.add(aThree.getUri(), aThree, descriptor);
+        assertTrue(manager.contains(OWLClassA.class, testA.getUri(), descriptor));
+        assertFalse(manager.contains(OWLClassA.class, aTwo.getUri(), descriptor));
+        assertTrue(manager.contains(OWLClassA.class, aThree.getUri(), descriptor));
+    }
+
+    @Test
+    public void replacingAndEvictingEntriesKeepsSizeConsistent() {
+        final Descriptor descriptor = descriptor(CONTEXT_ONE);
+        manager.add(testA.getUri(), testA, descriptor);
+        manager.add(testA.getUri(), new OWLClassA(testA.getUri()), descriptor);
+        manager.add(testB.getUri(), testB, descriptor(CONTEXT_TWO));
+        assertEquals(2, manager.size());
+        manager.evict(OWLClassA.class, testA.getUri(), CONTEXT_ONE);
+        assertEquals(1, manager.size());
+        manager.evict(CONTEXT_TWO);
+        assertEquals(0, manager.size());
+    }
+
+    @Test
+    public void concurrentAccessDoesNotExceedCapacity() throws Exception {
+        final int capacity = 64;
+        this.manager = new ConcurrentCacheManager(
+                Collections.singletonMap(JOPAPersistenceProperties.LRU_CACHE_CAPACITY, Integer.toString(capacity)));
+        final Descriptor descriptor = descriptor(null);
+        final ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            final List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                futures.add(executor.submit(() -> {
+                    for (int j = 0; j < 500; j++) {
+                        final OWLClassA a = new OWLClassA(Generators.createIndividualIdentifier());
+                        manager.add(a.getUri(), a, descriptor);
+                        manager.get(OWLClassA.class, a.getUri(), descriptor);
+                    }
+                }));
+            }
+            for (Future<?> f : futures) {
+                f.get(10, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertTrue(manager.size() <= capacity);
+        assertEquals(manager.size(), extractDescriptors().size());
+    }
+
+    @Override
+    Map<?, ?> extractDescriptors() throws Exception {
+        final Field segmentsField = ConcurrentCacheManager.class.getDeclaredField("segments");
+        segmentsField.setAccessible(true);
+        final Map<?, ?> segments = (Map<?, ?>) segmentsField.get(manager);
+        final Map<Object, Descriptor> result = new IdentityHashMap<>();
+        segments.values().forEach(segment -> ((Map<?, ?>) segment).values().forEach(e -> {
+            final ConcurrentCacheManager.CacheEntry entry = (ConcurrentCacheManager.CacheEntry) e;
+            result.put(entry.entity, entry.descriptor);
+        }));
+        return result;
+    }
+}
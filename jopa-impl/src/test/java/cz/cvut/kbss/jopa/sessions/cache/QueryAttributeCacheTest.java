@@ -0,0 +1,74 @@
+/**
+ * Copyright (C) 2023 Czech Technical University in Prague
+ *
+ * This program is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any
+ * later version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more
+ * details. You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package cz.cvut.kbss.jopa.sessions.cache;
+
+import cz.cvut.kbss.jopa.environment.OWLClassA;
+import cz.cvut.kbss.jopa.environment.utils.Generators;
+import cz.cvut.kbss.jopa.model.metamodel.QueryAttribute;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class QueryAttributeCacheTest {
+
+    @Mock
+    private QueryAttribute<OWLClassA, String> attribute;
+
+    private QueryAttributeCache sut;
+
+    @BeforeEach
+    void setUp() {
+        this.sut = new QueryAttributeCache();
+    }
+
+    @Test
+    void isValidReturnsTrueForRecordedEvaluation() {
+        final OWLClassA instance = new OWLClassA(Generators.createIndividualIdentifier());
+        sut.recordEvaluation(instance, attribute);
+        assertTrue(sut.isValid(instance, attribute));
+    }
+
+    @Test
+    void isValidReturnsFalseForInstanceWithoutRecordedEvaluation() {
+        final OWLClassA instance = new OWLClassA(Generators.createIndividualIdentifier());
+        sut.recordEvaluation(instance, attribute);
+        assertFalse(sut.isValid(new OWLClassA(instance.getUri()), attribute));
+    }
+
+    @Test
+    void isValidReturnsFalseAfterInvalidation() {
+        final OWLClassA instance = new OWLClassA(Generators.createIndividualIdentifier());
+        sut.recordEvaluation(instance, attribute);
+        sut.invalidate();
+        assertFalse(sut.isValid(instance, attribute));
+    }
+
+    @Test
+    void isValidReturnsFalseWhenEvaluationIsOlderThanCacheTtl() throws Exception {
+        final OWLClassA instance = new OWLClassA(Generators.createIndividualIdentifier());
+        when(attribute.getCacheTtl()).thenReturn(1L);
+        sut.recordEvaluation(instance, attribute);
+        assertTrue(sut.isValid(instance, attribute));
+        Thread.sleep(1100);
+        assertFalse(sut.isValid(instance, attribute));
+    }
+}
@@ -308,6 +308,49 @@ public class ChangeManagerTest {
         assertTrue(((Set<String>) chSet.getChanges().iterator().next().getNewValue()).contains("String"));
     }
 
+    @Test
+    public void calculateChangesAttachesAddedAndRemovedElementsToChangeRecordOfSetAttribute() {
+        testA.setTypes(typesCollection);
+        final String removed = typesCollection.iterator().next();
+        Set<String> newCollection = new HashSet<>(typesCollection);
+        newCollection.remove(removed);
+        newCollection.add("String");
+        testAClone.setTypes(newCollection);
+        ObjectChangeSet chSet = createChangeSet(testA, testAClone);
+        assertTrue(manager.calculateChanges(chSet));
+        final ChangeRecordImpl record = (ChangeRecordImpl) chSet.getChanges().iterator().next();
+        assertTrue(record.getSetChanges().isPresent());
+        assertEquals(Collections.singletonList("String"), new ArrayList<>(record.getSetChanges().get().getAdded()));
+        assertEquals(Collections.singletonList(removed), new ArrayList<>(record.getSetChanges().get().getRemoved()));
+    }
+
+    @Test
+    public void calculateChangesRegistersNoChangeForSetWithSameElementsInDifferentOrder() {
+        testA.setTypes(new LinkedHashSet<>(typesCollection));
+        final List<String> reversed = new ArrayList<>(typesCollection);
+        Collections.reverse(reversed);
+        testAClone.setTypes(new LinkedHashSet<>(reversed));
+        ObjectChangeSet chSet = createChangeSet(testA, testAClone);
+        assertFalse(manager.calculateChanges(chSet));
+        assertTrue(chSet.getChanges().isEmpty());
+    }
+
+    @Test
+    public void calculateSetChangesCalculatesChangesOfSetAttributeAgainstChangedObject() {
+        testA.setTypes(typesCollection);
+        final Set<String> newCollection = new HashSet<>(typesCollection);
+        newCollection.add("String");
+        testAClone.setTypes(newCollection);
+        final ObjectChangeSet chSet = createChangeSet(testA, testAClone);
+        final ChangeRecordImpl record = new ChangeRecordImpl(metamodelMocks.forOwlClassA().typesSpec(), newCollection);
+        chSet.addChangeRecord(record);
+
+        ((ChangeManagerImpl) manager).calculateSetChanges(chSet);
+        assertTrue(record.getSetChanges().isPresent());
+        assertEquals(Collections.singletonList("String"), new ArrayList<>(record.getSetChanges().get().getAdded()));
+        assertTrue(record.getSetChanges().get().getRemoved().isEmpty());
+    }
+
     @Test
     public void calculateChangesRegistersMultipleChanges() {
         testA.setTypes(typesCollection);
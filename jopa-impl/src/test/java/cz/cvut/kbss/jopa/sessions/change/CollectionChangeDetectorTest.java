@@ -30,6 +30,7 @@ import org.mockito.quality.Strictness;
 import java.net.URI;
 import java.util.*;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.when;
@@ -153,4 +154,57 @@ public class CollectionChangeDetectorTest {
         }
         assertTrue(changeDetector.hasChanges(clone, original));
     }
+
+    @Test
+    public void hasChangesReturnsFalseForSetsWithDifferentOrderOfElementsWithEqualHashCodes() {
+        // "Aa" and "BB" have the same hash code
+        final Set<String> original = new LinkedHashSet<>(Arrays.asList("Aa", "BB", "C"));
+        final Set<String> clone = new LinkedHashSet<>(Arrays.asList("BB", "C", "Aa"));
+        assertFalse(changeDetector.hasChanges(clone, original));
+    }
+
+    @Test
+    public void setChangesReturnsAddedAndRemovedInstancesOfManagedTypesMatchedByIdentifier() {
+        when(providerMock.isEntityType(OWLClassA.class)).thenReturn(true);
+        final Set<OWLClassA> original = initSet();
+        final Set<OWLClassA> clone = new HashSet<>();
+        OWLClassA removed = null;
+        for (OWLClassA a : original) {
+            if (removed == null) {
+                removed = a;
+            } else {
+                clone.add(new OWLClassA(a.getUri()));
+            }
+        }
+        final OWLClassA added = new OWLClassA(Generators.createIndividualIdentifier());
+        clone.add(added);
+
+        final SetChanges result = changeDetector.setChanges(clone, original);
+        assertEquals(Collections.singletonList(added), new ArrayList<>(result.getAdded()));
+        assertEquals(Collections.singletonList(removed), new ArrayList<>(result.getRemoved()));
+    }
+
+    @Test
+    public void setChangesConsidersInstancesWithoutIdentifierAdded() {
+        when(providerMock.isEntityType(OWLClassA.class)).thenReturn(true);
+        final Set<OWLClassA> original = initSet();
+        final Set<OWLClassA> clone = new HashSet<>(original);
+        final OWLClassA added = new OWLClassA();
+        clone.add(added);
+
+        final SetChanges result = changeDetector.setChanges(clone, original);
+        assertEquals(Collections.singletonList(added), new ArrayList<>(result.getAdded()));
+        assertTrue(result.getRemoved().isEmpty());
+    }
+
+    @Test
+    public void setChangesReturnsNoChangesForSetsWithEqualValues() {
+        final List<Integer> lst = Arrays.asList(1, 2, 3, 4, 5);
+        final Set<Integer> original = new LinkedHashSet<>(lst);
+        final List<Integer> reversed = new ArrayList<>(lst);
+        Collections.reverse(reversed);
+        final Set<Integer> clone = new LinkedHashSet<>(reversed);
+
+        assertTrue(changeDetector.setChanges(clone, original).isEmpty());
+    }
 }
@@ -0,0 +1,97 @@
+/**
+ * Copyright (C) 2023 Czech Technical University in Prague
+ *
+ * This program is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any
+ * later version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more
+ * details. You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package cz.cvut.kbss.jopa.utils;
+
+import cz.cvut.kbss.jopa.environment.OWLClassA;
+import cz.cvut.kbss.jopa.environment.OWLClassB;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Field;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FieldAccessorTest {
+
+    @Test
+    void getReturnsValueOfPrivateField() throws Exception {
+        final OWLClassA instance = new OWLClassA();
+        instance.setStringAttribute("test");
+        assertEquals("test", FieldAccessor.create(OWLClassA.getStrAttField()).get(instance));
+    }
+
+    @Test
+    void setSetsValueOfPrivateField() throws Exception {
+        final OWLClassA instance = new OWLClassA();
+        FieldAccessor.create(OWLClassA.getStrAttField()).set(instance, "test");
+        assertEquals("test", instance.getStringAttribute());
+    }
+
+    @Test
+    void setAcceptsNullValue() throws Exception {
+        final OWLClassA instance = new OWLClassA();
+        instance.setStringAttribute("test");
+        FieldAccessor.create(OWLClassA.getStrAttField()).set(instance, null);
+        assertNull(instance.getStringAttribute());
+    }
+
+    @Test
+    void setThrowsIllegalArgumentExceptionWhenValueHasIncompatibleType() throws Exception {
+        final FieldAccessor sut = FieldAccessor.create(OWLClassA.getStrAttField());
+        assertThrows(IllegalArgumentException.class, () -> sut.set(new OWLClassA(), 117));
+    }
+
+    @Test
+    void getThrowsIllegalArgumentExceptionWhenInstanceDoesNotDeclareField() throws Exception {
+        final FieldAccessor sut = FieldAccessor.create(OWLClassA.getStrAttField());
+        assertThrows(IllegalArgumentException.class, () -> sut.get(new OWLClassB()));
+    }
+
+    @Test
+    void getSupportsStaticFields() throws Exception {
+        final Field field = OWLClassA.class.getDeclaredField("TYPES_FIELD");
+        assertEquals("types", FieldAccessor.create(field).get(null));
+    }
+
+    @Test
+    void setPerformsWideningConversionOfPrimitiveFieldValue() throws Exception {
+        final PrimitiveHolder instance = new PrimitiveHolder();
+        final FieldAccessor sut = FieldAccessor.create(PrimitiveHolder.class.getDeclaredField("longValue"));
+        sut.set(instance, 117);
+        assertEquals(117L, instance.longValue);
+        sut.set(instance, (short) 5);
+        assertEquals(5L, instance.longValue);
+        sut.set(instance, 'a');
+        assertEquals('a', instance.longValue);
+        sut.set(instance, 42L);
+        assertEquals(42L, sut.get(instance));
+    }
+
+    @Test
+    void setThrowsIllegalArgumentExceptionForNarrowingConversionOfPrimitiveFieldValue() throws Exception {
+        final FieldAccessor sut = FieldAccessor.create(PrimitiveHolder.class.getDeclaredField("intValue"));
+        assertThrows(IllegalArgumentException.class, () -> sut.set(new PrimitiveHolder(), 117L));
+    }
+
+    @Test
+    void setThrowsIllegalArgumentExceptionWhenSettingNullToPrimitiveField() throws Exception {
+        final FieldAccessor sut = FieldAccessor.create(PrimitiveHolder.class.getDeclaredField("intValue"));
+        assertThrows(IllegalArgumentException.class, () -> sut.set(new PrimitiveHolder(), null));
+    }
+
+    private static class PrimitiveHolder {
+        private long longValue;
+        private int intValue;
+    }
+}
@@ -14,6 +14,7 @@
  */
 package cz.cvut.kbss.jopa.maven;
 
+import cz.cvut.kbss.jopa.modelgen.EntityIndexProcessor;
 import cz.cvut.kbss.jopa.modelgen.ModelGenProcessor;
 import org.apache.maven.artifact.DependencyResolutionRequiredException;
 import org.apache.maven.plugin.AbstractMojo;
@@ -45,6 +46,7 @@ public class ModelGenMojo extends AbstractMojo {
     private static final String ADDITIONAL_SOURCES_PARAM = "additional-sources";
     private static final String SOURCE_PACKAGE_PARAM = "source-package";
     public static final String DEBUG_PARAM = "debug-option";
+    private static final String CLASS_INDEX_PARAM = "class-index";
 
     @Parameter(defaultValue = "${project}", readonly = true, required = true)
     private MavenProject project;
@@ -56,6 +58,8 @@ public class ModelGenMojo extends AbstractMojo {
     private String debugOption;
     @Parameter(alias = ADDITIONAL_SOURCES_PARAM)
     private String additionalSources;
+    @Parameter(alias = CLASS_INDEX_PARAM, defaultValue = "false")
+    private boolean classIndex;
 
 
     public void execute() {
@@ -65,7 +69,9 @@ public class ModelGenMojo extends AbstractMojo {
 
         List<String> options = new ArrayList<>();
         options.add("-processor");
-        options.add(ModelGenProcessor.class.getName());
+        // The index processor does not claim the annotations, so it has to run before the metamodel generator
+        options.add(classIndex ? EntityIndexProcessor.class.getName() + "," + ModelGenProcessor.class.getName() :
+                    ModelGenProcessor.class.getName());
 
         final File[] classPathFiles = getClassPathFiles();
 
@@ -210,5 +216,6 @@ public class ModelGenMojo extends AbstractMojo {
         Utils.logParameterValue(SOURCE_PACKAGE_PARAM, sourcePackage, getLog());
         Utils.logParameterValue(DEBUG_PARAM, debugOption, getLog());
         Utils.logParameterValue(ADDITIONAL_SOURCES_PARAM, additionalSources, getLog());
+        Utils.logParameterValue(CLASS_INDEX_PARAM, classIndex, getLog());
     }
 }
@@ -0,0 +1,78 @@
+/**
+ * Copyright (C) 2023 Czech Technical University in Prague
+ *
+ * This program is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any
+ * later version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more
+ * details. You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package cz.cvut.kbss.jopa.metrics.micrometer;
+
+import cz.cvut.kbss.jopa.metrics.MetricNames;
+import cz.cvut.kbss.jopa.metrics.MetricsCollector;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * {@link MetricsCollector} publishing JOPA metrics into a Micrometer {@link MeterRegistry}.
+ * <p>
+ * When configured by class name (see {@code cz.cvut.jopa.metrics.collectorClass}), the collector uses the Micrometer
+ * global registry. Query execution timers publish percentile histograms.
+ * <p>
+ * Gauges hold only a weak reference to their state and are removed from the registry when the collector is closed.
+ * Counters and timers are not tagged by persistence unit and are thus left in the registry.
+ */
+public class MicrometerMetricsCollector implements MetricsCollector {
+
+    private final MeterRegistry registry;
+
+    private final Queue<Meter> gauges = new ConcurrentLinkedQueue<>();
+
+    public MicrometerMetricsCollector() {
+        this(Metrics.globalRegistry);
+    }
+
+    public MicrometerMetricsCollector(MeterRegistry registry) {
+        this.registry = Objects.requireNonNull(registry);
+    }
+
+    @Override
+    public void incrementCounter(String name, String... tags) {
+        Counter.builder(name).tags(tags).register(registry).increment();
+    }
+
+    @Override
+    public void recordTime(String name, long durationNanos, String... tags) {
+        Timer.builder(name).tags(tags).publishPercentileHistogram(MetricNames.QUERY.equals(name))
+             .register(registry).record(durationNanos, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public <T> void registerGauge(String name, T state, ToDoubleFunction<T> value, String... tags) {
+        gauges.add(Gauge.builder(name, state, value).tags(tags).register(registry));
+    }
+
+    @Override
+    public void close() {
+        Meter gauge;
+        while ((gauge = gauges.poll()) != null) {
+            registry.remove(gauge);
+        }
+    }
+}
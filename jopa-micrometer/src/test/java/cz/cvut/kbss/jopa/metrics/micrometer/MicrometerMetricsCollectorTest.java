@@ -0,0 +1,92 @@
+/**
+ * Copyright (C) 2023 Czech Technical University in Prague
+ *
+ * This program is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any
+ * later version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more
+ * details. You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package cz.cvut.kbss.jopa.metrics.micrometer;
+
+import cz.cvut.kbss.jopa.metrics.MetricNames;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class MicrometerMetricsCollectorTest {
+
+    private SimpleMeterRegistry registry;
+
+    private MicrometerMetricsCollector sut;
+
+    @BeforeEach
+    void setUp() {
+        this.registry = new SimpleMeterRegistry();
+        this.sut = new MicrometerMetricsCollector(registry);
+    }
+
+    @Test
+    void incrementCounterIncrementsTaggedCounter() {
+        sut.incrementCounter(MetricNames.ENTITY_LOADS, MetricNames.TAG_ENTITY, "Person");
+        sut.incrementCounter(MetricNames.ENTITY_LOADS, MetricNames.TAG_ENTITY, "Person");
+        sut.incrementCounter(MetricNames.ENTITY_LOADS, MetricNames.TAG_ENTITY, "Organization");
+
+        final Counter counter = registry.get(MetricNames.ENTITY_LOADS).tag(MetricNames.TAG_ENTITY, "Person").counter();
+        assertEquals(2.0, counter.count());
+    }
+
+    @Test
+    void recordTimeRecordsDurationIntoTimer() {
+        sut.recordTime(MetricNames.COMMIT, TimeUnit.MILLISECONDS.toNanos(5));
+
+        final Timer timer = registry.get(MetricNames.COMMIT).timer();
+        assertEquals(1, timer.count());
+        assertEquals(5.0, timer.totalTime(TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    void recordTimeOfQueryPublishesHistogram() {
+        sut.recordTime(MetricNames.QUERY, TimeUnit.MILLISECONDS.toNanos(5), MetricNames.TAG_QUERY, "abc");
+
+        final Timer timer = registry.get(MetricNames.QUERY).tag(MetricNames.TAG_QUERY, "abc").timer();
+        assertNotNull(timer.takeSnapshot().histogramCounts());
+        assertEquals(1, timer.count());
+    }
+
+    @Test
+    void registerGaugeSamplesCurrentStateValue() {
+        final AtomicInteger value = new AtomicInteger(1);
+        sut.registerGauge(MetricNames.OPEN_ENTITY_MANAGERS, value, AtomicInteger::get, MetricNames.TAG_FACTORY, "abc");
+        value.set(3);
+
+        final Gauge gauge = registry.get(MetricNames.OPEN_ENTITY_MANAGERS).tag(MetricNames.TAG_FACTORY, "abc").gauge();
+        assertEquals(3.0, gauge.value());
+    }
+
+    @Test
+    void closeRemovesRegisteredGaugesFromRegistry() {
+        final AtomicInteger value = new AtomicInteger(1);
+        sut.registerGauge(MetricNames.OPEN_ENTITY_MANAGERS, value, AtomicInteger::get, MetricNames.TAG_FACTORY, "abc");
+        sut.incrementCounter(MetricNames.ENTITY_LOADS, MetricNames.TAG_ENTITY, "Person");
+
+        sut.close();
+        assertNull(registry.find(MetricNames.OPEN_ENTITY_MANAGERS).gauge());
+        assertNotNull(registry.find(MetricNames.ENTITY_LOADS).counter());
+    }
+}
@@ -0,0 +1,129 @@
+/**
+ * Copyright (C) 2023 Czech Technical University in Prague
+ *
+ * This program is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any
+ * later version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more
+ * details. You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package cz.cvut.kbss.jopa.modelgen;
+
+import cz.cvut.kbss.jopa.model.PersistenceProperties;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.Filer;
+import javax.annotation.processing.Messager;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.util.Elements;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Annotation processor that generates an index of classes relevant to persistence unit building.
+ * <p>
+ * The index lists entities, attribute converters and classes declaring SPARQL result set mappings. It is written to
+ * {@link #INDEX_LOCATION} and allows JOPA to discover these classes at startup without scanning the classpath.
+ * <p>
+ * Named queries are declared on entity classes, so they are discovered through the indexed entities.
+ */
+@SupportedAnnotationTypes({"cz.cvut.kbss.jopa.model.annotations.OWLClass",
+        "cz.cvut.kbss.jopa.model.annotations.Converter",
+        "cz.cvut.kbss.jopa.model.annotations.SparqlResultSetMapping",
+        "cz.cvut.kbss.jopa.model.annotations.SparqlResultSetMappings"})
+public class EntityIndexProcessor extends AbstractProcessor {
+
+    /**
+     * Location of the generated index, relative to the class output directory.
+     */
+    public static final String INDEX_LOCATION = PersistenceProperties.CLASS_INDEX_LOCATION;
+
+    static final String COMMENT_PREFIX = "#";
+
+    private final Set<String> classNames = new TreeSet<>();
+
+    private Messager messager;
+    private Filer filer;
+    private Elements elements;
+
+    @Override
+    public synchronized void init(ProcessingEnvironment env) {
+        super.init(env);
+        this.messager = env.getMessager();
+        this.filer = env.getFiler();
+        this.elements = env.getElementUtils();
+        readExistingIndex();
+    }
+
+    /**
+     * Keeps entries of an index generated by a previous (possibly partial) compilation, as long as the classes still
+     * exist.
+     */
+    private void readExistingIndex() {
+        try {
+            final FileObject existing = filer.getResource(StandardLocation.CLASS_OUTPUT, "", INDEX_LOCATION);
+            try (final BufferedReader reader = new BufferedReader(existing.openReader(true))) {
+                reader.lines().map(String::trim)
+                      .filter(line -> !line.isEmpty() && !line.startsWith(COMMENT_PREFIX))
+                      .filter(name -> elements.getTypeElement(name.replace('$', '.')) != null)
+                      .forEach(classNames::add);
+            }
+        } catch (IOException | IllegalArgumentException e) {
+            // No previous index
+        }
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        for (TypeElement annotation : annotations) {
+            for (Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+                if (element instanceof TypeElement) {
+                    classNames.add(elements.getBinaryName((TypeElement) element).toString());
+                }
+            }
+        }
+        if (roundEnv.processingOver()) {
+            writeIndex();
+        }
+        return false;
+    }
+
+    private void writeIndex() {
+        if (classNames.isEmpty()) {
+            return;
+        }
+        try {
+            final FileObject index = filer.createResource(StandardLocation.CLASS_OUTPUT, "", INDEX_LOCATION);
+            try (final Writer writer = index.openWriter()) {
+                writer.write(COMMENT_PREFIX + " Generated by " + EntityIndexProcessor.class.getName() + "\n");
+                for (String name : classNames) {
+                    writer.write(name);
+                    writer.write('\n');
+                }
+            }
+        } catch (IOException e) {
+            messager.printMessage(Diagnostic.Kind.ERROR, "Unable to write persistence unit class index. " + e);
+        }
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+}
@@ -0,0 +1,61 @@
+/**
+ * Copyright (C) 2023 Czech Technical University in Prague
+ *
+ * This program is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any
+ * later version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more
+ * details. You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package cz.cvut.kbss.jopa.modelgen;
+
+import com.google.testing.compile.Compilation;
+import com.google.testing.compile.JavaFileObjects;
+import org.junit.jupiter.api.Test;
+
+import javax.tools.JavaFileObject;
+import javax.tools.StandardLocation;
+import java.io.File;
+
+import static com.google.testing.compile.CompilationSubject.assertThat;
+import static com.google.testing.compile.Compiler.javac;
+import static cz.cvut.kbss.jopa.modelgen.ModelGenProcessorTests.readFileAsString;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+class EntityIndexProcessorTests {
+
+    @Test
+    void generatesIndexContainingAnnotatedClasses() throws Exception {
+        final Compilation compilation =
+                javac().withProcessors(new EntityIndexProcessor())
+                       .compile(source("TestingClassOWL"), source("TestingClassNonEntity"),
+                                source("TestingClassNotOWL"));
+        assertThat(compilation).succeededWithoutWarnings();
+
+        assertThat(compilation).generatedFile(StandardLocation.CLASS_OUTPUT, EntityIndexProcessor.INDEX_LOCATION)
+                               .contentsAsUtf8String().contains("cz.test.ex.TestingClassOWL\n");
+        assertThat(compilation).generatedFile(StandardLocation.CLASS_OUTPUT, EntityIndexProcessor.INDEX_LOCATION)
+                               .contentsAsUtf8String().contains("cz.test.ex.TestingClassNonEntity\n");
+        assertThat(compilation).generatedFile(StandardLocation.CLASS_OUTPUT, EntityIndexProcessor.INDEX_LOCATION)
+                               .contentsAsUtf8String().doesNotContain("cz.test.ex.TestingClassNotOWL");
+    }
+
+    private static JavaFileObject source(String className) throws Exception {
+        return JavaFileObjects.forSourceLines("cz.test.ex." + className,
+                                              readFileAsString(new File("src/test/java/cz/test/ex/" + className + ".java")));
+    }
+
+    @Test
+    void doesNotGenerateIndexWhenThereAreNoAnnotatedClasses() throws Exception {
+        final Compilation compilation =
+                javac().withProcessors(new EntityIndexProcessor()).compile(source("TestingClassNotOWL"));
+        assertThat(compilation).succeededWithoutWarnings();
+        assertFalse(compilation.generatedFile(StandardLocation.CLASS_OUTPUT, EntityIndexProcessor.INDEX_LOCATION)
+                               .isPresent());
+    }
+}
@@ -22,7 +22,10 @@ import cz.cvut.kbss.ontodriver.model.NamedResource;
 
 import java.net.URI;
 import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 
 public interface Connection extends AutoCloseable, Wrapper {
@@ -158,6 +161,30 @@ public interface Connection extends AutoCloseable, Wrapper {
      */
     Collection<Axiom<?>> find(AxiomDescriptor descriptor) throws OntoDriverException;
 
+    /**
+     * Finds axioms with the corresponding subjects and properties.
+     * <p>
+     * This is a bulk version of {@link #find(AxiomDescriptor)}, allowing to load values of multiple subjects at once.
+     * Implementations are encouraged to override the default implementation, which simply invokes {@link
+     * #find(AxiomDescriptor)} for each of the descriptors, with one that minimizes the number of storage accesses.
+     *
+     * @param descriptors Loading descriptors, each specifying a subject, properties to load and possible contexts to
+     *                    work with. Subjects of the descriptors are expected to be distinct
+     * @return Axioms matching the specified criteria, grouped by subject. Subjects for which no axioms were found are
+     * mapped to an empty collection
+     * @throws OntoDriverException   If an ontology access error occurs
+     * @throws IllegalStateException If called on a closed connection
+     */
+    default Map<NamedResource, Collection<Axiom<?>>> findAll(Collection<AxiomDescriptor> descriptors)
+            throws OntoDriverException {
+        Objects.requireNonNull(descriptors);
+        final Map<NamedResource, Collection<Axiom<?>>> result = new LinkedHashMap<>(descriptors.size());
+        for (AxiomDescriptor descriptor : descriptors) {
+            result.put(descriptor.getSubject(), find(descriptor));
+        }
+        return result;
+    }
+
     /**
      * Persists new individual and its property values specified by the descriptor.
      *
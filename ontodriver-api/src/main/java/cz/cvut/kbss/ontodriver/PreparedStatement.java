@@ -51,6 +51,24 @@ public interface PreparedStatement extends Statement {
      */
     void setObject(String binding, Object value) throws OntoDriverException;
 
+    /**
+     * Binds the specified value to binding with the specified name.
+     * <p>
+     * As opposed to {@link #setObject(String, Object)}, the value is not spliced into the statement string, but passed
+     * to the underlying storage as a binding of the corresponding variable. The statement string thus remains the same
+     * regardless of the bound values, so that repeated executions of this statement may reuse its parsed form.
+     * <p>
+     * Supported values are {@link java.net.URI}s (bound as resource identifiers), {@link
+     * cz.cvut.kbss.ontodriver.model.LangString}s, {@link cz.cvut.kbss.ontodriver.model.Literal}s and Java literal
+     * types (strings, numbers, booleans, temporal values).
+     *
+     * @param binding Binding name
+     * @param value   The value to bind
+     * @throws OntoDriverException   If there is no such binding in the statement or some other error occurs
+     * @throws IllegalStateException If called on a closed statement
+     */
+    void bindValue(String binding, Object value) throws OntoDriverException;
+
     /**
      * Clears the currently set parameters.
      *
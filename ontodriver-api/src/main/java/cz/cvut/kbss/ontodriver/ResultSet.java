@@ -15,12 +15,14 @@
 package cz.cvut.kbss.ontodriver;
 
 import cz.cvut.kbss.ontodriver.exception.OntoDriverException;
+import cz.cvut.kbss.ontodriver.iteration.ColumnReader;
 import cz.cvut.kbss.ontodriver.iteration.ResultRow;
 import cz.cvut.kbss.ontodriver.iteration.ResultSetIterator;
 import cz.cvut.kbss.ontodriver.iteration.ResultSetSpliterator;
 
 import java.util.Iterator;
 import java.util.NoSuchElementException;
+import java.util.Objects;
 import java.util.Spliterator;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
@@ -272,6 +274,49 @@ public interface ResultSet extends AutoCloseable, Iterable<ResultRow> {
      */
     <T> T getObject(String columnLabel, Class<T> cls) throws OntoDriverException;
 
+    /**
+     * Prepares a reader of values of the column at the specified index converted to the specified type.
+     * <p>
+     * The reader returns the same values as {@link #getObject(int, Class)} for the current row, but implementations
+     * may resolve the conversion once and reuse it for all rows, which is more efficient when reading many rows.
+     *
+     * @param columnIndex Column index, the first column has index 0
+     * @param cls         Requested class type
+     * @param <T>         Type of the values returned by the reader
+     * @return Column reader
+     * @throws IllegalStateException    If called on a closed result set
+     * @throws IllegalArgumentException If the {@code columnIndex} is not a valid column index
+     */
+    default <T> ColumnReader<T> getColumnReader(int columnIndex, Class<T> cls) {
+        Objects.requireNonNull(cls);
+        if (columnIndex < 0 || columnIndex >= getColumnCount()) {
+            throw new IllegalArgumentException("Column index " + columnIndex + " is out of bounds.");
+        }
+        return () -> getObject(columnIndex, cls);
+    }
+
+    /**
+     * Prepares a reader of values of the column with the specified label converted to the specified type.
+     * <p>
+     * The reader returns the same values as {@link #getObject(String, Class)} for the current row, but
+     * implementations may resolve the conversion once and reuse it for all rows, which is more efficient when reading
+     * many rows.
+     *
+     * @param columnLabel Label of the column
+     * @param cls         Requested class type
+     * @param <T>         Type of the values returned by the reader
+     * @return Column reader
+     * @throws IllegalStateException    If called on a closed result set
+     * @throws IllegalArgumentException If there is no column with the specified label
+     */
+    default <T> ColumnReader<T> getColumnReader(String columnLabel, Class<T> cls) {
+        final int columnIndex = findColumn(Objects.requireNonNull(columnLabel));
+        if (columnIndex < 0) {
+            throw new IllegalArgumentException("Unknown column " + columnLabel);
+        }
+        return getColumnReader(columnIndex, cls);
+    }
+
     /**
      * Retrieves index of the current row.
      * <p>
@@ -30,7 +30,12 @@ public enum DriverConfigParam implements ConfigurationParameter {
     @Deprecated
     ONTOLOGY_LANGUAGE(OntoDriverProperties.ONTOLOGY_LANGUAGE),
     USE_TRANSACTIONAL_ONTOLOGY(OntoDriverProperties.USE_TRANSACTIONAL_ONTOLOGY),
-    MODULE_EXTRACTION_SIGNATURE(OntoDriverProperties.MODULE_EXTRACTION_SIGNATURE);
+    MODULE_EXTRACTION_SIGNATURE(OntoDriverProperties.MODULE_EXTRACTION_SIGNATURE),
+    IDENTIFIER_GENERATOR(OntoDriverProperties.IDENTIFIER_GENERATOR),
+    IDENTIFIER_GENERATOR_NODE_ID(OntoDriverProperties.IDENTIFIER_GENERATOR_NODE_ID),
+    COMMIT_CHUNK_SIZE(OntoDriverProperties.COMMIT_CHUNK_SIZE),
+    CHANGE_JOURNAL(OntoDriverProperties.CHANGE_JOURNAL),
+    JOURNAL_COMPACTION_THRESHOLD(OntoDriverProperties.JOURNAL_COMPACTION_THRESHOLD);
 
     private final String name;
 
@@ -76,6 +76,77 @@ public final class OntoDriverProperties {
      */
     public static final String SIGNATURE_DELIMITER = "|";
 
+    /**
+     * Strategy used to generate identifiers of new individuals.
+     * <p>
+     * Supported values are {@link #RANDOM_IDENTIFIER_GENERATOR} (default), {@link #UUID_IDENTIFIER_GENERATOR},
+     * {@link #SNOWFLAKE_IDENTIFIER_GENERATOR}, {@link #SEQUENCE_IDENTIFIER_GENERATOR} or a fully qualified name of a
+     * class implementing {@link cz.cvut.kbss.ontodriver.identifier.IdentifierGenerator} and having a public no-arg
+     * constructor.
+     */
+    public static final String IDENTIFIER_GENERATOR = "cz.cvut.kbss.ontodriver.identifier-generator";
+
+    /**
+     * Random identifiers, checked for uniqueness against the storage.
+     */
+    public static final String RANDOM_IDENTIFIER_GENERATOR = "random";
+
+    /**
+     * Time-ordered (version 7) UUID-based identifiers.
+     */
+    public static final String UUID_IDENTIFIER_GENERATOR = "uuid";
+
+    /**
+     * Identifiers consisting of timestamp, node id and per-node sequence number.
+     *
+     * @see #IDENTIFIER_GENERATOR_NODE_ID
+     */
+    public static final String SNOWFLAKE_IDENTIFIER_GENERATOR = "snowflake";
+
+    /**
+     * Identifiers based on a sequence allocated in blocks to individual threads.
+     *
+     * @see #IDENTIFIER_GENERATOR_NODE_ID
+     */
+    public static final String SEQUENCE_IDENTIFIER_GENERATOR = "sequence";
+
+    /**
+     * Identifier of the node (application instance) used by the {@link #SNOWFLAKE_IDENTIFIER_GENERATOR} and {@link
+     * #SEQUENCE_IDENTIFIER_GENERATOR} strategies.
+     * <p>
+     * Must be an integer between 0 and 1023. Applications sharing a repository must use distinct node ids for the
+     * generated identifiers to be unique. There is no default, the property is required by the above strategies.
+     */
+    public static final String IDENTIFIER_GENERATOR_NODE_ID = "cz.cvut.kbss.ontodriver.identifier-generator.node-id";
+
+    /**
+     * Maximum number of statements sent to the storage in one batch when transactional changes are committed.
+     * <p>
+     * Changes are committed context by context in chunks of at most this size, which limits the amount of data buffered
+     * during commit. Must be a positive integer.
+     */
+    public static final String COMMIT_CHUNK_SIZE = "cz.cvut.kbss.ontodriver.commit-chunk-size";
+
+    /**
+     * Whether file-based storages should journal committed changes instead of rewriting the whole file on commit.
+     * <p>
+     * Commits append a record with the changes to a journal file next to the data file. The journal is periodically
+     * compacted into the data file in the background and replayed on startup. Defaults to {@code false}.
+     *
+     * @see #JOURNAL_COMPACTION_THRESHOLD
+     */
+    public static final String CHANGE_JOURNAL = "cz.cvut.kbss.ontodriver.change-journal";
+
+    /**
+     * Size of the change journal (in bytes) after which it is compacted into the data file.
+     * <p>
+     * Defaults to 64 MiB.
+     *
+     * @see #CHANGE_JOURNAL
+     */
+    public static final String JOURNAL_COMPACTION_THRESHOLD =
+            "cz.cvut.kbss.ontodriver.change-journal.compaction-threshold";
+
     private OntoDriverProperties() {
         throw new AssertionError();
     }
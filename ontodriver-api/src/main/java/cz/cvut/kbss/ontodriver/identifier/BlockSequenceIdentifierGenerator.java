@@ -0,0 +1,87 @@
+/**
+ * Copyright (C) 2023 Czech Technical University in Prague
+ *
+ * This program is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any
+ * later version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more
+ * details. You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package cz.cvut.kbss.ontodriver.identifier;
+
+import cz.cvut.kbss.ontodriver.util.IdentifierUtils;
+
+import java.net.URI;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Generates identifiers from a sequence which is allocated to threads in blocks.
+ * <p>
+ * Each thread takes a block of {@link #DEFAULT_BLOCK_SIZE} sequence numbers from the shared counter and then generates
+ * identifiers from it without any synchronization. The sequence is prefixed with the node id and the time at which the
+ * generator was created, so that sequences of different application runs and nodes do not overlap.
+ * <p>
+ * Identifiers are unique across nodes only as long as each node sharing the repository uses a distinct node id.
+ */
+public class BlockSequenceIdentifierGenerator implements IdentifierGenerator {
+
+    static final int DEFAULT_BLOCK_SIZE = 1000;
+
+    private final String prefix;
+    private final int blockSize;
+
+    private final AtomicLong nextBlockStart = new AtomicLong();
+    private final ThreadLocal<Block> currentBlock = new ThreadLocal<>();
+
+    public BlockSequenceIdentifierGenerator(int nodeId) {
+        this(nodeId, DEFAULT_BLOCK_SIZE);
+    }
+
+    public BlockSequenceIdentifierGenerator(int nodeId, int blockSize) {
+        if (nodeId < 0 || nodeId > SnowflakeIdentifierGenerator.MAX_NODE_ID) {
+            throw new IllegalArgumentException(
+                    "Node id must be between 0 and " + SnowflakeIdentifierGenerator.MAX_NODE_ID + ", got " + nodeId);
+        }
+        if (blockSize <= 0) {
+            throw new IllegalArgumentException("Block size must be positive, got " + blockSize);
+        }
+        this.prefix = Integer.toString(nodeId, Character.MAX_RADIX) + "-" +
+                Long.toString(System.currentTimeMillis(), Character.MAX_RADIX) + "-";
+        this.blockSize = blockSize;
+    }
+
+    @Override
+    public URI generateIdentifier(URI classUri) {
+        return IdentifierUtils.createIdentifier(classUri, "-" + prefix + nextValue());
+    }
+
+    long nextValue() {
+        Block block = currentBlock.get();
+        if (block == null || block.next == block.end) {
+            final long start = nextBlockStart.getAndAdd(blockSize);
+            block = new Block(start, start + blockSize);
+            currentBlock.set(block);
+        }
+        return block.next++;
+    }
+
+    @Override
+    public boolean guaranteesUniqueness() {
+        return true;
+    }
+
+    private static final class Block {
+        private long next;
+        private final long end;
+
+        private Block(long next, long end) {
+            this.next = next;
+            this.end = end;
+        }
+    }
+}
@@ -0,0 +1,46 @@
+/**
+ * Copyright (C) 2023 Czech Technical University in Prague
+ *
+ * This program is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any
+ * later version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more
+ * details. You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package cz.cvut.kbss.ontodriver.identifier;
+
+import java.net.URI;
+
+/**
+ * Generates identifiers of new individuals.
+ * <p>
+ * One generator instance is shared by all connections of a driver, so implementations must be thread-safe.
+ *
+ * @see cz.cvut.kbss.ontodriver.config.OntoDriverProperties#IDENTIFIER_GENERATOR
+ */
+public interface IdentifierGenerator {
+
+    /**
+     * Generates an identifier of a new instance of the specified class.
+     *
+     * @param classUri Class URI, may be used as the identifier base
+     * @return Generated identifier
+     */
+    URI generateIdentifier(URI classUri);
+
+    /**
+     * Whether identifiers produced by this generator are unique by construction.
+     * <p>
+     * If so, the driver does not check the generated identifiers against the storage.
+     *
+     * @return {@code true} if generated identifiers cannot collide, {@code false} otherwise
+     */
+    default boolean guaranteesUniqueness() {
+        return false;
+    }
+}
@@ -0,0 +1,79 @@
+/**
+ * Copyright (C) 2023 Czech Technical University in Prague
+ *
+ * This program is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any
+ * later version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more
+ * details. You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package cz.cvut.kbss.ontodriver.identifier;
+
+import cz.cvut.kbss.ontodriver.config.DriverConfigParam;
+import cz.cvut.kbss.ontodriver.config.DriverConfiguration;
+import cz.cvut.kbss.ontodriver.config.OntoDriverProperties;
+import cz.cvut.kbss.ontodriver.exception.OntoDriverInitializationException;
+
+/**
+ * Creates identifier generators based on driver configuration.
+ */
+public final class IdentifierGenerators {
+
+    private IdentifierGenerators() {
+        throw new AssertionError();
+    }
+
+    /**
+     * Creates identifier generator configured by the {@link OntoDriverProperties#IDENTIFIER_GENERATOR} property.
+     * <p>
+     * If no generator is configured, {@link RandomIdentifierGenerator} is returned. The node-based strategies require
+     * {@link OntoDriverProperties#IDENTIFIER_GENERATOR_NODE_ID} to be set explicitly, because their uniqueness relies
+     * on every node using a distinct node id.
+     *
+     * @param configuration Driver configuration
+     * @return New identifier generator
+     * @throws OntoDriverInitializationException If the configured generator cannot be created
+     */
+    public static IdentifierGenerator create(DriverConfiguration configuration) {
+        final String type = configuration.getProperty(DriverConfigParam.IDENTIFIER_GENERATOR,
+                OntoDriverProperties.RANDOM_IDENTIFIER_GENERATOR);
+        switch (type) {
+            case OntoDriverProperties.RANDOM_IDENTIFIER_GENERATOR:
+                return new RandomIdentifierGenerator();
+            case OntoDriverProperties.UUID_IDENTIFIER_GENERATOR:
+                return new TimeOrderedUuidGenerator();
+            case OntoDriverProperties.SNOWFLAKE_IDENTIFIER_GENERATOR:
+                return new SnowflakeIdentifierGenerator(resolveNodeId(configuration));
+            case OntoDriverProperties.SEQUENCE_IDENTIFIER_GENERATOR:
+                return new BlockSequenceIdentifierGenerator(resolveNodeId(configuration));
+            default:
+                return instantiate(type);
+        }
+    }
+
+    private static int resolveNodeId(DriverConfiguration configuration) {
+        if (!configuration.isSet(DriverConfigParam.IDENTIFIER_GENERATOR_NODE_ID)) {
+            throw new OntoDriverInitializationException(
+                    "Identifier generator requires " + OntoDriverProperties.IDENTIFIER_GENERATOR_NODE_ID + " to be set.");
+        }
+        return configuration.getProperty(DriverConfigParam.IDENTIFIER_GENERATOR_NODE_ID, 0);
+    }
+
+    private static IdentifierGenerator instantiate(String className) {
+        try {
+            final Class<?> cls = Class.forName(className);
+            if (!IdentifierGenerator.class.isAssignableFrom(cls)) {
+                throw new OntoDriverInitializationException(
+                        "Class " + className + " is not an implementation of " + IdentifierGenerator.class.getName());
+            }
+            return (IdentifierGenerator) cls.getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException e) {
+            throw new OntoDriverInitializationException("Unable to create identifier generator " + className, e);
+        }
+    }
+}
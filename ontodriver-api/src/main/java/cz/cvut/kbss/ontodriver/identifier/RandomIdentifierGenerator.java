@@ -0,0 +1,34 @@
+/**
+ * Copyright (C) 2023 Czech Technical University in Prague
+ *
+ * This program is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any
+ * later version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more
+ * details. You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package cz.cvut.kbss.ontodriver.identifier;
+
+import cz.cvut.kbss.ontodriver.util.IdentifierUtils;
+
+import java.net.URI;
+
+/**
+ * Generates identifiers with a random integer suffix.
+ * <p>
+ * Generated identifiers may collide, so they have to be checked against the storage.
+ *
+ * @see IdentifierUtils#generateIdentifier(URI)
+ */
+public class RandomIdentifierGenerator implements IdentifierGenerator {
+
+    @Override
+    public URI generateIdentifier(URI classUri) {
+        return IdentifierUtils.generateIdentifier(classUri);
+    }
+}
@@ -0,0 +1,87 @@
+/**
+ * Copyright (C) 2023 Czech Technical University in Prague
+ *
+ * This program is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any
+ * later version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more
+ * details. You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package cz.cvut.kbss.ontodriver.identifier;
+
+import cz.cvut.kbss.ontodriver.util.IdentifierUtils;
+
+import java.net.URI;
+
+/**
+ * Generates identifiers consisting of a timestamp, node id and a sequence number (in the style of Twitter Snowflake).
+ * <p>
+ * The generated number consists of 41 bits of milliseconds since {@link #EPOCH}, 10 bits of node id and 12 bits of
+ * sequence within the millisecond. When the sequence is exhausted, generation waits for the next millisecond. If the
+ * clock moves backwards, the last used timestamp is kept, so that the numbers are never repeated by one generator.
+ * <p>
+ * Identifiers are unique across nodes only as long as each node sharing the repository uses a distinct node id.
+ */
+public class SnowflakeIdentifierGenerator implements IdentifierGenerator {
+
+    /**
+     * Custom epoch (2020-01-01T00:00:00Z), in milliseconds.
+     */
+    static final long EPOCH = 1577836800000L;
+
+    static final int MAX_NODE_ID = 1023;
+
+    private static final int NODE_ID_BITS = 10;
+    private static final int SEQUENCE_BITS = 12;
+    private static final long MAX_SEQUENCE = (1L << SEQUENCE_BITS) - 1;
+
+    private final long nodeId;
+
+    private long lastTimestamp = -1L;
+    private long sequence;
+
+    public SnowflakeIdentifierGenerator(int nodeId) {
+        if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+            throw new IllegalArgumentException("Node id must be between 0 and " + MAX_NODE_ID + ", got " + nodeId);
+        }
+        this.nodeId = nodeId;
+    }
+
+    @Override
+    public URI generateIdentifier(URI classUri) {
+        return IdentifierUtils.createIdentifier(classUri, Long.toString(nextId()));
+    }
+
+    synchronized long nextId() {
+        long timestamp = Math.max(System.currentTimeMillis() - EPOCH, lastTimestamp);
+        if (timestamp == lastTimestamp) {
+            this.sequence = (sequence + 1) & MAX_SEQUENCE;
+            if (sequence == 0) {
+                timestamp = waitForNextMillisecond(lastTimestamp);
+            }
+        } else {
+            this.sequence = 0;
+        }
+        this.lastTimestamp = timestamp;
+        return (timestamp << (NODE_ID_BITS + SEQUENCE_BITS)) | (nodeId << SEQUENCE_BITS) | sequence;
+    }
+
+    private static long waitForNextMillisecond(long last) {
+        long timestamp = System.currentTimeMillis() - EPOCH;
+        while (timestamp <= last) {
+            Thread.onSpinWait();
+            timestamp = System.currentTimeMillis() - EPOCH;
+        }
+        return timestamp;
+    }
+
+    @Override
+    public boolean guaranteesUniqueness() {
+        return true;
+    }
+}
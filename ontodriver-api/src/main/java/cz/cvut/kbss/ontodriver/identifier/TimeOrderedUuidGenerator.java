@@ -0,0 +1,48 @@
+/**
+ * Copyright (C) 2023 Czech Technical University in Prague
+ *
+ * This program is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any
+ * later version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more
+ * details. You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package cz.cvut.kbss.ontodriver.identifier;
+
+import cz.cvut.kbss.ontodriver.util.IdentifierUtils;
+
+import java.net.URI;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Generates identifiers based on time-ordered (version 7) UUIDs.
+ * <p>
+ * The UUID consists of a 48-bit Unix timestamp in milliseconds followed by 74 random bits, so identifiers generated
+ * later sort after earlier ones.
+ */
+public class TimeOrderedUuidGenerator implements IdentifierGenerator {
+
+    @Override
+    public URI generateIdentifier(URI classUri) {
+        return IdentifierUtils.createIdentifier(classUri, "-" + nextUuid());
+    }
+
+    static UUID nextUuid() {
+        final ThreadLocalRandom random = ThreadLocalRandom.current();
+        final long timestamp = System.currentTimeMillis() & 0xFFFFFFFFFFFFL;
+        final long mostSigBits = (timestamp << 16) | 0x7000L | (random.nextLong() & 0x0FFFL);
+        final long leastSigBits = (random.nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+        return new UUID(mostSigBits, leastSigBits);
+    }
+
+    @Override
+    public boolean guaranteesUniqueness() {
+        return true;
+    }
+}
@@ -0,0 +1,40 @@
+/**
+ * Copyright (C) 2023 Czech Technical University in Prague
+ *
+ * This program is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any
+ * later version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more
+ * details. You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package cz.cvut.kbss.ontodriver.iteration;
+
+import cz.cvut.kbss.ontodriver.exception.OntoDriverException;
+
+/**
+ * Reads values of one column of a {@link cz.cvut.kbss.ontodriver.ResultSet} converted to a specific type.
+ * <p>
+ * A reader is prepared once for a column and target type and then used to read the value of the column in each row of
+ * the result set. This allows implementations to resolve the value conversion only once instead of for every row.
+ *
+ * @param <T> Type of the values returned by this reader
+ * @see cz.cvut.kbss.ontodriver.ResultSet#getColumnReader(int, Class)
+ */
+@FunctionalInterface
+public interface ColumnReader<T> {
+
+    /**
+     * Reads value of the column in the current row of the result set.
+     *
+     * @return Value of the column converted to the target type
+     * @throws IllegalStateException If the result set is closed or there is no current row
+     * @throws OntoDriverException   If the value cannot be converted to the target type or there occurs some other
+     *                               error
+     */
+    T read() throws OntoDriverException;
+}
@@ -130,6 +130,16 @@ public class DelegatingResultRow implements ResultRow {
         return resultSet.getObject(columnLabel, cls);
     }
 
+    @Override
+    public <T> ColumnReader<T> getColumnReader(int columnIndex, Class<T> cls) {
+        return resultSet.getColumnReader(columnIndex, cls);
+    }
+
+    @Override
+    public <T> ColumnReader<T> getColumnReader(String columnLabel, Class<T> cls) {
+        return resultSet.getColumnReader(columnLabel, cls);
+    }
+
     @Override
     public short getShort(int columnIndex) throws OntoDriverException {
         return resultSet.getShort(columnIndex);
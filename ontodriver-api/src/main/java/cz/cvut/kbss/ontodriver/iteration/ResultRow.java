@@ -254,6 +254,37 @@ public interface ResultRow {
      */
     <T> T getObject(String columnLabel, Class<T> cls) throws OntoDriverException;
 
+    /**
+     * Prepares a reader of values of the column at the specified index converted to the specified type.
+     * <p>
+     * The reader returns the same values as {@link #getObject(int, Class)} for the current row, but implementations
+     * may resolve the conversion once and reuse it for all rows, which is more efficient when reading many rows.
+     *
+     * @param columnIndex Column index, the first column has index 0
+     * @param cls         Requested class type
+     * @param <T>         Type of the values returned by the reader
+     * @return Column reader
+     * @throws IllegalStateException    If called on a closed result set
+     * @throws IllegalArgumentException If the {@code columnIndex} is not a valid column index
+     */
+    <T> ColumnReader<T> getColumnReader(int columnIndex, Class<T> cls);
+
+    /**
+     * Prepares a reader of values of the column with the specified label converted to the specified type.
+     * <p>
+     * The reader returns the same values as {@link #getObject(String, Class)} for the current row, but
+     * implementations may resolve the conversion once and reuse it for all rows, which is more efficient when reading
+     * many rows.
+     *
+     * @param columnLabel Label of the column
+     * @param cls         Requested class type
+     * @param <T>         Type of the values returned by the reader
+     * @return Column reader
+     * @throws IllegalStateException    If called on a closed result set
+     * @throws IllegalArgumentException If there is no column with the specified label
+     */
+    <T> ColumnReader<T> getColumnReader(String columnLabel, Class<T> cls);
+
     /**
      * Retrieves value of column at the specified index and returns it as {@code short}.
      *
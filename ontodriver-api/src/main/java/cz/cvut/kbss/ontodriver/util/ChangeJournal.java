@@ -0,0 +1,341 @@
+/**
+ * Copyright (C) 2023 Czech Technical University in Prague
+ *
+ * This program is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any
+ * later version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more
+ * details. You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package cz.cvut.kbss.ontodriver.util;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.zip.CRC32;
+
+/**
+ * Append-only journal of changes committed into a file-based storage.
+ * <p>
+ * Instead of rewriting the whole data file on every commit, each commit appends a record with the removed and added
+ * data to a journal file next to the data file. Compaction folds the journal into a new snapshot of the data, which
+ * atomically replaces the data file. On startup, the journal is replayed on top of the data file.
+ * <p>
+ * Record payloads are opaque to the journal, their format is determined by the storage. Replaying a record has to make
+ * the removed data absent and the added data present (removals are applied first). Replaying records whose changes are
+ * already contained in the snapshot is then harmless, which makes compaction safe when interrupted.
+ * <p>
+ * Each record is protected by a checksum. An incomplete record at the end of the journal (e.g., after a crash during
+ * append) is discarded on replay.
+ */
+public class ChangeJournal implements Closeable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ChangeJournal.class);
+
+    /**
+     * Suffix appended to the data file name to get the journal file name.
+     */
+    public static final String JOURNAL_SUFFIX = ".journal";
+
+    /**
+     * Default journal size (in bytes) after which compaction is due.
+     */
+    public static final int DEFAULT_COMPACTION_THRESHOLD = 64 * 1024 * 1024;
+
+    // Removed payload length, added payload length, checksum
+    private static final int HEADER_SIZE = Integer.BYTES * 2 + Long.BYTES;
+
+    private final Path dataFile;
+    private final Path journalFile;
+    private final long compactionThreshold;
+
+    private FileChannel channel;
+
+    private final AtomicBoolean compactionScheduled = new AtomicBoolean();
+    private ExecutorService compactor;
+
+    /**
+     * Opens journal of the specified data file, creating the journal file if necessary.
+     *
+     * @param dataFile            Data file whose changes are journaled
+     * @param compactionThreshold Journal size (in bytes) after which {@link #isCompactionDue()} returns {@code true}
+     * @throws IOException When the journal file cannot be opened
+     */
+    public ChangeJournal(Path dataFile, long compactionThreshold) throws IOException {
+        this.dataFile = dataFile.toAbsolutePath();
+        this.journalFile = this.dataFile.resolveSibling(this.dataFile.getFileName() + JOURNAL_SUFFIX);
+        this.compactionThreshold = compactionThreshold;
+        this.channel = openJournal();
+    }
+
+    private FileChannel openJournal() throws IOException {
+        return FileChannel.open(journalFile, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+    }
+
+    public Path getJournalFile() {
+        return journalFile;
+    }
+
+    /**
+     * Replays records of this journal in the order in which they were appended.
+     * <p>
+     * An incomplete or corrupted record and everything after it is removed from the journal.
+     *
+     * @param consumer Applies the records
+     * @throws IOException When the journal cannot be read or the consumer fails
+     */
+    public synchronized void replay(RecordConsumer consumer) throws IOException {
+        final long size = channel.size();
+        long position = 0;
+        int count = 0;
+        final ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+        while (position + HEADER_SIZE <= size) {
+            header.clear();
+            readFully(header, position);
+            header.flip();
+            final int removedLength = header.getInt();
+            final int addedLength = header.getInt();
+            final long checksum = header.getLong();
+            if (removedLength < 0 || addedLength < 0 ||
+                    position + HEADER_SIZE + removedLength + addedLength > size) {
+                break;
+            }
+            final ByteBuffer removed = ByteBuffer.allocate(removedLength);
+            readFully(removed, position + HEADER_SIZE);
+            final ByteBuffer added = ByteBuffer.allocate(addedLength);
+            readFully(added, position + HEADER_SIZE + removedLength);
+            if (checksum(removed.array(), added.array()) != checksum) {
+                break;
+            }
+            consumer.accept(removed.array(), added.array());
+            position += HEADER_SIZE + removedLength + addedLength;
+            count++;
+        }
+        if (position < size) {
+            LOG.warn("Discarding incomplete record at the end of journal {}.", journalFile);
+            channel.truncate(position);
+            channel.force(false);
+        }
+        LOG.debug("Replayed {} records from journal {}.", count, journalFile);
+    }
+
+    private void readFully(ByteBuffer target, long position) throws IOException {
+        while (target.hasRemaining()) {
+            if (channel.read(target, position + target.position()) < 0) {
+                throw new IOException("Unexpected end of journal " + journalFile);
+            }
+        }
+    }
+
+    private static long checksum(byte[] removed, byte[] added) {
+        final CRC32 crc = new CRC32();
+        crc.update(removed);
+        crc.update(added);
+        return crc.getValue();
+    }
+
+    /**
+     * Appends a record to the journal and forces it to the disk.
+     *
+     * @param removed Serialized removed data
+     * @param added   Serialized added data
+     * @return Size of the journal after the append, i.e., the position right after the appended record
+     * @throws IOException When the record cannot be written
+     */
+    public synchronized long append(byte[] removed, byte[] added) throws IOException {
+        final ByteBuffer record = ByteBuffer.allocate(HEADER_SIZE + removed.length + added.length);
+        record.putInt(removed.length).putInt(added.length).putLong(checksum(removed, added));
+        record.put(removed).put(added);
+        record.flip();
+        long position = channel.size();
+        while (record.hasRemaining()) {
+            position += channel.write(record, position);
+        }
+        channel.force(false);
+        return position;
+    }
+
+    /**
+     * Gets the current size of the journal in bytes.
+     *
+     * @return Journal size
+     * @throws IOException When the size cannot be determined
+     */
+    public synchronized long size() throws IOException {
+        return channel.size();
+    }
+
+    /**
+     * Checks whether the journal has outgrown the compaction threshold.
+     *
+     * @return {@code true} if compaction is due, {@code false} otherwise
+     * @throws IOException When journal size cannot be determined
+     */
+    public boolean isCompactionDue() throws IOException {
+        return size() >= compactionThreshold;
+    }
+
+    /**
+     * Replaces the data file with a new snapshot and removes journal records contained in it.
+     * <p>
+     * The snapshot is first written into a temporary file, which then atomically replaces the data file. The caller is
+     * responsible for the snapshot to contain at least the changes of all records up to {@code upTo}. Records appended
+     * after this position are kept in the journal.
+     *
+     * @param upTo   Journal position up to which records are contained in the snapshot
+     * @param writer Writes the snapshot
+     * @throws IOException When the snapshot cannot be written or the journal cannot be shortened
+     */
+    public void compact(long upTo, SnapshotWriter writer) throws IOException {
+        final Path tmp = Files.createTempFile(dataFile.getParent(), dataFile.getFileName().toString(), ".tmp");
+        try {
+            try (final FileChannel out = FileChannel.open(tmp, StandardOpenOption.WRITE)) {
+                final OutputStream os = new BufferedOutputStream(Channels.newOutputStream(out));
+                writer.write(os);
+                os.flush();
+                out.force(true);
+            }
+            Files.move(tmp, dataFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(tmp);
+        }
+        dropRecordsUpTo(upTo);
+    }
+
+    private synchronized void dropRecordsUpTo(long upTo) throws IOException {
+        final long size = channel.size();
+        if (upTo >= size) {
+            channel.truncate(0);
+            channel.force(false);
+            return;
+        }
+        final Path tmp = Files.createTempFile(journalFile.getParent(), journalFile.getFileName().toString(), ".tmp");
+        try {
+            try (final FileChannel out = FileChannel.open(tmp, StandardOpenOption.WRITE)) {
+                long position = upTo;
+                while (position < size) {
+                    position += channel.transferTo(position, size - position, out);
+                }
+                out.force(true);
+            }
+            channel.close();
+            Files.move(tmp, journalFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(tmp);
+            if (!channel.isOpen()) {
+                this.channel = openJournal();
+            }
+        }
+    }
+
+    /**
+     * Runs the specified compaction in a background thread, unless a compaction is already scheduled or running.
+     * <p>
+     * Failures of the compaction are only logged, the journal remains valid.
+     *
+     * @param compaction Compaction to run, typically obtains a consistent view of the data and calls {@link
+     *                   #compact(long, SnapshotWriter)}
+     */
+    public synchronized void scheduleCompaction(Callable<?> compaction) {
+        if (!compactionScheduled.compareAndSet(false, true)) {
+            return;
+        }
+        if (compactor == null) {
+            this.compactor = Executors.newSingleThreadExecutor(r -> {
+                final Thread t = new Thread(r, "journal-compactor");
+                t.setDaemon(true);
+                return t;
+            });
+        }
+        compactor.execute(() -> {
+            try {
+                compaction.call();
+                LOG.debug("Journal {} compacted.", journalFile);
+            } catch (Exception e) {
+                LOG.error("Unable to compact journal " + journalFile, e);
+            } finally {
+                compactionScheduled.set(false);
+            }
+        });
+    }
+
+    /**
+     * Waits for a running compaction (if any) to finish and closes the journal.
+     *
+     * @throws IOException When the journal file cannot be closed
+     */
+    @Override
+    public void close() throws IOException {
+        final ExecutorService executor;
+        synchronized (this) {
+            executor = compactor;
+            this.compactor = null;
+        }
+        if (executor != null) {
+            executor.shutdown();
+            try {
+                if (!executor.awaitTermination(1, TimeUnit.MINUTES)) {
+                    LOG.warn("Journal compaction did not finish in time.");
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        synchronized (this) {
+            channel.close();
+        }
+    }
+
+    /**
+     * Applies a journal record.
+     */
+    @FunctionalInterface
+    public interface RecordConsumer {
+
+        /**
+         * Applies the specified record data.
+         *
+         * @param removed Serialized removed data
+         * @param added   Serialized added data
+         * @throws IOException When the data cannot be read
+         */
+        void accept(byte[] removed, byte[] added) throws IOException;
+    }
+
+    /**
+     * Writes snapshot of the data.
+     */
+    @FunctionalInterface
+    public interface SnapshotWriter {
+
+        /**
+         * Writes the data into the specified stream.
+         *
+         * @param out Target stream, closed by the journal
+         * @throws IOException When the data cannot be written
+         */
+        void write(OutputStream out) throws IOException;
+    }
+}
@@ -0,0 +1,99 @@
+/**
+ * Copyright (C) 2023 Czech Technical University in Prague
+ *
+ * This program is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any
+ * later version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more
+ * details. You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package cz.cvut.kbss.ontodriver.util;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Streams statements to the storage in bounded chunks on transaction commit.
+ * <p>
+ * Instead of copying the whole transactional delta into a single collection, statements are read from the source
+ * iterator in chunks of at most the configured size, so that only one chunk is held in memory at a time. Chunks are
+ * read and written by the calling thread, in the order in which they appear in the source.
+ * <p>
+ * Durations of the individual phases are recorded in {@link CommitTimings}.
+ */
+public class CommitPipeline {
+
+    /**
+     * Default maximum number of statements in a chunk.
+     */
+    public static final int DEFAULT_CHUNK_SIZE = 10_000;
+
+    private final int chunkSize;
+    private final CommitTimings timings = new CommitTimings();
+
+    public CommitPipeline(int chunkSize) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("Commit chunk size must be positive.");
+        }
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * Writes statements provided by the specified source to the storage using the specified consumer.
+     * <p>
+     * The source must not be modified during this method's execution.
+     *
+     * @param phase    Name of the commit phase, used to record its duration
+     * @param source   Statements to write
+     * @param consumer Writes a chunk of statements into the storage
+     * @param <T>      Statement type
+     * @param <E>      Exception thrown by the consumer
+     * @throws E When the consumer fails to write a chunk
+     */
+    public <T, E extends Exception> void apply(String phase, Iterator<T> source, ChunkConsumer<T, E> consumer)
+            throws E {
+        final long start = System.nanoTime();
+        try {
+            while (source.hasNext()) {
+                consumer.accept(nextChunk(source));
+            }
+        } finally {
+            timings.record(phase, System.nanoTime() - start);
+        }
+    }
+
+    private <T> List<T> nextChunk(Iterator<T> source) {
+        final List<T> chunk = new ArrayList<>(chunkSize);
+        while (chunk.size() < chunkSize && source.hasNext()) {
+            chunk.add(source.next());
+        }
+        return chunk;
+    }
+
+    /**
+     * Gets timings of the commit phases executed by this pipeline.
+     *
+     * @return Commit timings
+     */
+    public CommitTimings getTimings() {
+        return timings;
+    }
+
+    /**
+     * Writes a chunk of statements into the storage.
+     *
+     * @param <T> Statement type
+     * @param <E> Exception type
+     */
+    @FunctionalInterface
+    public interface ChunkConsumer<T, E extends Exception> {
+
+        void accept(List<T> chunk) throws E;
+    }
+}
@@ -0,0 +1,80 @@
+/**
+ * Copyright (C) 2023 Czech Technical University in Prague
+ *
+ * This program is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any
+ * later version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more
+ * details. You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package cz.cvut.kbss.ontodriver.util;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Durations of individual phases of a transaction commit.
+ * <p>
+ * Durations of repeated phases (e.g., removal of statements from multiple contexts) are summed up.
+ */
+public class CommitTimings {
+
+    private final Map<String, Long> phases = new LinkedHashMap<>();
+
+    private final long start = System.nanoTime();
+    private long end = -1;
+
+    /**
+     * Adds the specified duration to the specified phase.
+     *
+     * @param phase    Phase name
+     * @param duration Duration of the phase in nanoseconds
+     */
+    public synchronized void record(String phase, long duration) {
+        phases.merge(phase, duration, Long::sum);
+    }
+
+    /**
+     * Marks the whole commit as finished.
+     */
+    public synchronized void finish() {
+        this.end = System.nanoTime();
+    }
+
+    /**
+     * Gets durations of the recorded phases, in the order in which they were first recorded.
+     *
+     * @return Map of phase names to durations
+     */
+    public synchronized Map<String, Duration> getPhases() {
+        final Map<String, Duration> result = new LinkedHashMap<>();
+        phases.forEach((k, v) -> result.put(k, Duration.ofNanos(v)));
+        return Collections.unmodifiableMap(result);
+    }
+
+    /**
+     * Gets the total duration of the commit.
+     * <p>
+     * If the commit has not finished yet, time elapsed since its start is returned.
+     *
+     * @return Total commit duration
+     */
+    public synchronized Duration getTotal() {
+        return Duration.ofNanos((end >= 0 ? end : System.nanoTime()) - start);
+    }
+
+    @Override
+    public synchronized String toString() {
+        final StringBuilder sb = new StringBuilder("CommitTimings{total=").append(getTotal().toMillis()).append("ms");
+        phases.forEach((k, v) -> sb.append(", ").append(k).append('=').append(Duration.ofNanos(v).toMillis())
+                                   .append("ms"));
+        return sb.append('}').toString();
+    }
+}
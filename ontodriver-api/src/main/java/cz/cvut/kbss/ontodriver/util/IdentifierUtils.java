@@ -19,8 +19,8 @@ import cz.cvut.kbss.ontodriver.model.NamedResource;
 import java.net.URI;
 import java.net.URL;
 import java.util.Objects;
-import java.util.Random;
 import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
 
 /**
  * Utility for working with resource identifiers.
@@ -29,8 +29,6 @@ public class IdentifierUtils {
 
     public static final Set<Class<?>> IDENTIFIER_TYPES = Set.of(NamedResource.class, URI.class, URL.class);
 
-    private static final Random RANDOM = new Random();
-
     private IdentifierUtils() {
         throw new AssertionError();
     }
@@ -45,15 +43,29 @@ public class IdentifierUtils {
      * @return Generated identifier
      */
     public static URI generateIdentifier(URI classUri) {
+        return createIdentifier(classUri, Integer.toString(ThreadLocalRandom.current().nextInt()));
+    }
+
+    /**
+     * Creates an identifier based on the specified class URI and instance-specific suffix.
+     * <p>
+     * The identifier consists of the class URI, the string 'instance' and the specified suffix. The 'instance' part is
+     * appended after a slash or a _, if the class URI contains a hash fragment.
+     *
+     * @param classUri Class URI used as identifier base
+     * @param suffix   Instance-specific part of the identifier
+     * @return Identifier
+     */
+    public static URI createIdentifier(URI classUri, String suffix) {
         Objects.requireNonNull(classUri);
         if (classUri.getFragment() != null) {
-            return URI.create(classUri + "_instance" + RANDOM.nextInt());
+            return URI.create(classUri + "_instance" + suffix);
         } else {
             String base = classUri.toString();
             if (base.endsWith("/")) {
-                return URI.create(base + "instance" + RANDOM.nextInt());
+                return URI.create(base + "instance" + suffix);
             } else {
-                return URI.create(base + "/instance" + RANDOM.nextInt());
+                return URI.create(base + "/instance" + suffix);
             }
         }
     }
@@ -15,6 +15,7 @@
 package cz.cvut.kbss.ontodriver.util;
 
 import java.util.*;
+import java.util.function.Function;
 
 /**
  * Used for parsing and managing SPARQL statements.
@@ -22,6 +23,7 @@ import java.util.*;
 public class StatementHolder {
 
     private Map<String, String> paramValues;
+    private Map<String, Object> boundValues;
     private List<String> paramNames;
     private List<String> statementParts;
     private final String statement;
@@ -45,6 +47,12 @@ public class StatementHolder {
         int paramStartIndex = 0;
         for (int i = 0; i < statement.length(); i++) {
             final char c = statement.charAt(i);
+            if (inParam && !isVariableNameChar(c)) {
+                lastParamEndIndex = i;
+                final String param = statement.substring(paramStartIndex, i);
+                paramNames.add(param);
+                inParam = false;
+            }
             switch (c) {
                 case '\'':
                     inSQString = !inSQString;
@@ -59,41 +67,36 @@ public class StatementHolder {
                         inParam = true;
                     }
                     break;
-                case '<':
-                case '>':
-                case ',':
-                case '\n':
-                case ')':
-                case ' ':
-                case '.':
-                case ';':
-                case '{':
-                case '}':
-                case '[':
-                case ']':
-                    if (inParam) {
-                        lastParamEndIndex = i;
-                        final String param = statement.substring(paramStartIndex, i);
-                        paramNames.add(param);
-                        inParam = false;
-                    }
-                    break;
                 default:
                     break;
             }
         }
+        if (inParam) {
+            lastParamEndIndex = statement.length();
+            paramNames.add(statement.substring(paramStartIndex));
+        }
         statementParts.add(statement.substring(lastParamEndIndex));
         this.paramValues = new HashMap<>(paramNames.size());
+        this.boundValues = new LinkedHashMap<>(paramNames.size());
 
         assert statementParts.size() == paramNames.size() + 1;
     }
 
+    private static boolean isVariableNameChar(char c) {
+        return Character.isLetterOrDigit(c) || c == '_';
+    }
+
     public void setParameter(String parameterName, String value) {
+        ensureParameterExists(parameterName);
+        boundValues.remove(parameterName);
+        paramValues.put(parameterName, value);
+    }
+
+    private void ensureParameterExists(String parameterName) {
         ensureState();
         if (!paramNames.contains(parameterName)) {
             throw new IllegalArgumentException("Unknown binding name " + parameterName);
         }
-        paramValues.put(parameterName, value);
     }
 
     private void ensureState() {
@@ -102,14 +105,58 @@ public class StatementHolder {
         }
     }
 
+    /**
+     * Binds the specified value to the specified parameter.
+     * <p>
+     * Bound values are not used by {@link #assembleStatement()}, they are supposed to be passed to the storage
+     * separately from the statement string.
+     *
+     * @param parameterName Parameter name
+     * @param value         Value to bind
+     * @throws IllegalArgumentException If there is no such parameter in the statement
+     */
+    public void bindValue(String parameterName, Object value) {
+        Objects.requireNonNull(value);
+        ensureParameterExists(parameterName);
+        paramValues.remove(parameterName);
+        boundValues.put(parameterName, value);
+    }
+
+    /**
+     * Gets values bound to parameters of this statement.
+     *
+     * @return Unmodifiable map of parameter names to bound values
+     * @see #bindValue(String, Object)
+     */
+    public Map<String, Object> getBoundValues() {
+        ensureState();
+        return Collections.unmodifiableMap(boundValues);
+    }
+
     public String assembleStatement() {
+        return assembleStatement(null);
+    }
+
+    /**
+     * Assembles the statement, using also the bound values formatted by the specified function.
+     * <p>
+     * This is intended for storages which do not support passing bindings separately from the statement string.
+     *
+     * @param formatter Function formatting bound values to their string representation, {@code null} if bound
+     *                  values should be left out
+     * @return Assembled statement
+     */
+    public String assembleStatement(Function<Object, String> formatter) {
         if (isNotParametrized()) {
             return statement;
         }
         final StringBuilder sb = new StringBuilder(statement.length());
         for (int i = 0; i < paramNames.size(); i++) {
             sb.append(statementParts.get(i));
-            final String paramValue = paramValues.get(paramNames.get(i));
+            String paramValue = paramValues.get(paramNames.get(i));
+            if (paramValue == null && formatter != null && boundValues.containsKey(paramNames.get(i))) {
+                paramValue = formatter.apply(boundValues.get(paramNames.get(i)));
+            }
             if (paramValue == null) {
                 sb.append("?").append(paramNames.get(i));
             } else {
@@ -131,5 +178,6 @@ public class StatementHolder {
     public void clearParameters() {
         ensureState();
         paramValues.replaceAll((p, v) -> null);
+        boundValues.clear();
     }
 }
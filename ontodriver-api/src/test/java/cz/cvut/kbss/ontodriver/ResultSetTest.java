@@ -14,11 +14,13 @@
  */
 package cz.cvut.kbss.ontodriver;
 
+import cz.cvut.kbss.ontodriver.iteration.ColumnReader;
 import cz.cvut.kbss.ontodriver.iteration.ResultRow;
 import cz.cvut.kbss.ontodriver.iteration.ResultSetIterator;
 import cz.cvut.kbss.ontodriver.iteration.ResultSetSpliterator;
 import org.junit.jupiter.api.Test;
 
+import java.net.URI;
 import java.util.Iterator;
 import java.util.Spliterator;
 import java.util.stream.Stream;
@@ -26,8 +28,12 @@ import java.util.stream.Stream;
 import static org.hamcrest.CoreMatchers.containsString;
 import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -79,4 +85,31 @@ class ResultSetTest {
         final Stream<ResultRow> result = sut.stream();
         assertNotNull(result);
     }
-}
\ No newline at end of file
+
+    @Test
+    void defaultColumnReaderReadsValueUsingGetObject() throws Exception {
+        final ResultSet sut = mock(ResultSet.class);
+        when(sut.getColumnReader(anyInt(), any())).thenCallRealMethod();
+        when(sut.getColumnCount()).thenReturn(2);
+        final URI value = URI.create("http://onto.fel.cvut.cz/ontologies/jopa/test");
+        when(sut.getObject(1, URI.class)).thenReturn(value);
+        final ColumnReader<URI> reader = sut.getColumnReader(1, URI.class);
+        assertEquals(value, reader.read());
+    }
+
+    @Test
+    void defaultColumnReaderThrowsIllegalArgumentExceptionForInvalidColumnIndex() {
+        final ResultSet sut = mock(ResultSet.class);
+        when(sut.getColumnReader(anyInt(), any())).thenCallRealMethod();
+        when(sut.getColumnCount()).thenReturn(2);
+        assertThrows(IllegalArgumentException.class, () -> sut.getColumnReader(2, URI.class));
+    }
+
+    @Test
+    void defaultColumnReaderByLabelThrowsIllegalArgumentExceptionForUnknownColumn() {
+        final ResultSet sut = mock(ResultSet.class);
+        when(sut.getColumnReader(anyString(), any())).thenCallRealMethod();
+        when(sut.findColumn("unknown")).thenReturn(-1);
+        assertThrows(IllegalArgumentException.class, () -> sut.getColumnReader("unknown", URI.class));
+    }
+}
@@ -0,0 +1,108 @@
+/**
+ * Copyright (C) 2023 Czech Technical University in Prague
+ *
+ * This program is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any
+ * later version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more
+ * details. You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package cz.cvut.kbss.ontodriver.identifier;
+
+import org.junit.jupiter.api.Test;
+
+import java.net.URI;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.hamcrest.CoreMatchers.startsWith;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.*;
+
+class IdentifierGeneratorTest {
+
+    private static final URI CLASS_URI = URI.create("http://onto.fel.cvut.cz/ontologies/jopa/ClassA");
+
+    @Test
+    void randomGeneratorRequiresUniquenessCheck() {
+        assertFalse(new RandomIdentifierGenerator().guaranteesUniqueness());
+    }
+
+    @Test
+    void timeOrderedUuidGeneratorGeneratesVersionSevenUuids() {
+        final UUID uuid = TimeOrderedUuidGenerator.nextUuid();
+        assertEquals(7, uuid.version());
+        assertEquals(2, uuid.variant());
+    }
+
+    @Test
+    void timeOrderedUuidGeneratorGeneratesIdentifiersBasedOnClassUri() {
+        final TimeOrderedUuidGenerator sut = new TimeOrderedUuidGenerator();
+        assertTrue(sut.guaranteesUniqueness());
+        assertThat(sut.generateIdentifier(CLASS_URI).toString(), startsWith(CLASS_URI + "/instance-"));
+    }
+
+    @Test
+    void snowflakeGeneratorGeneratesIncreasingNumbers() {
+        final SnowflakeIdentifierGenerator sut = new SnowflakeIdentifierGenerator(5);
+        long previous = sut.nextId();
+        for (int i = 0; i < 10000; i++) {
+            final long next = sut.nextId();
+            assertTrue(next > previous);
+            previous = next;
+        }
+    }
+
+    @Test
+    void snowflakeGeneratorEncodesNodeIdIntoGeneratedNumbers() {
+        final long id = new SnowflakeIdentifierGenerator(5).nextId();
+        assertEquals(5, (id >> 12) & 0x3FF);
+    }
+
+    @Test
+    void snowflakeGeneratorThrowsIllegalArgumentExceptionForInvalidNodeId() {
+        assertThrows(IllegalArgumentException.class, () -> new SnowflakeIdentifierGenerator(1024));
+        assertThrows(IllegalArgumentException.class, () -> new SnowflakeIdentifierGenerator(-1));
+    }
+
+    @Test
+    void blockSequenceGeneratorGeneratesUniqueIdentifiersAcrossThreads() throws Exception {
+        final BlockSequenceIdentifierGenerator sut = new BlockSequenceIdentifierGenerator(0, 10);
+        final Set<URI> generated = ConcurrentHashMap.newKeySet();
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            final List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                futures.add(executor.submit(() -> {
+                    for (int j = 0; j < 1000; j++) {
+                        assertTrue(generated.add(sut.generateIdentifier(CLASS_URI)));
+                    }
+                }));
+            }
+            for (Future<?> f : futures) {
+                f.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+        assertEquals(4000, generated.size());
+    }
+
+    @Test
+    void blockSequenceGeneratorTakesNewBlockWhenCurrentIsExhausted() {
+        final BlockSequenceIdentifierGenerator sut = new BlockSequenceIdentifierGenerator(0, 2);
+        final Set<Long> values = new HashSet<>();
+        for (int i = 0; i < 5; i++) {
+            values.add(sut.nextValue());
+        }
+        assertEquals(Set.of(0L, 1L, 2L, 3L, 4L), values);
+    }
+}
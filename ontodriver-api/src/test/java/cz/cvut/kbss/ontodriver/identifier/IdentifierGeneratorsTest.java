@@ -0,0 +1,77 @@
+/**
+ * Copyright (C) 2023 Czech Technical University in Prague
+ *
+ * This program is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any
+ * later version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more
+ * details. You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package cz.cvut.kbss.ontodriver.identifier;
+
+import cz.cvut.kbss.ontodriver.OntologyStorageProperties;
+import cz.cvut.kbss.ontodriver.config.DriverConfigParam;
+import cz.cvut.kbss.ontodriver.config.DriverConfiguration;
+import cz.cvut.kbss.ontodriver.config.OntoDriverProperties;
+import cz.cvut.kbss.ontodriver.exception.OntoDriverInitializationException;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IdentifierGeneratorsTest {
+
+    private final DriverConfiguration configuration = new DriverConfiguration(
+            OntologyStorageProperties.driver("cz.cvut.kbss.ontodriver.rdf4j.Rdf4jDataSource")
+                                     .physicalUri("memory-store").build());
+
+    @Test
+    void createReturnsRandomGeneratorByDefault() {
+        assertInstanceOf(RandomIdentifierGenerator.class, IdentifierGenerators.create(configuration));
+    }
+
+    @Test
+    void createReturnsGeneratorCorrespondingToConfiguredStrategy() {
+        configuration.setProperty(DriverConfigParam.IDENTIFIER_GENERATOR, OntoDriverProperties.UUID_IDENTIFIER_GENERATOR);
+        assertInstanceOf(TimeOrderedUuidGenerator.class, IdentifierGenerators.create(configuration));
+        configuration.setProperty(DriverConfigParam.IDENTIFIER_GENERATOR,
+                OntoDriverProperties.SNOWFLAKE_IDENTIFIER_GENERATOR);
+        configuration.setProperty(DriverConfigParam.IDENTIFIER_GENERATOR_NODE_ID, "12");
+        assertInstanceOf(SnowflakeIdentifierGenerator.class, IdentifierGenerators.create(configuration));
+        configuration.setProperty(DriverConfigParam.IDENTIFIER_GENERATOR,
+                OntoDriverProperties.SEQUENCE_IDENTIFIER_GENERATOR);
+        assertInstanceOf(BlockSequenceIdentifierGenerator.class, IdentifierGenerators.create(configuration));
+    }
+
+    @Test
+    void createThrowsInitializationExceptionWhenNodeBasedStrategyHasNoNodeIdConfigured() {
+        configuration.setProperty(DriverConfigParam.IDENTIFIER_GENERATOR,
+                OntoDriverProperties.SNOWFLAKE_IDENTIFIER_GENERATOR);
+        assertThrows(OntoDriverInitializationException.class, () -> IdentifierGenerators.create(configuration));
+        configuration.setProperty(DriverConfigParam.IDENTIFIER_GENERATOR,
+                OntoDriverProperties.SEQUENCE_IDENTIFIER_GENERATOR);
+        assertThrows(OntoDriverInitializationException.class, () -> IdentifierGenerators.create(configuration));
+    }
+
+    @Test
+    void createInstantiatesConfiguredGeneratorClass() {
+        configuration.setProperty(DriverConfigParam.IDENTIFIER_GENERATOR, TimeOrderedUuidGenerator.class.getName());
+        assertInstanceOf(TimeOrderedUuidGenerator.class, IdentifierGenerators.create(configuration));
+    }
+
+    @Test
+    void createThrowsInitializationExceptionWhenConfiguredClassIsNotGenerator() {
+        configuration.setProperty(DriverConfigParam.IDENTIFIER_GENERATOR, String.class.getName());
+        assertThrows(OntoDriverInitializationException.class, () -> IdentifierGenerators.create(configuration));
+    }
+
+    @Test
+    void createThrowsInitializationExceptionWhenConfiguredClassDoesNotExist() {
+        configuration.setProperty(DriverConfigParam.IDENTIFIER_GENERATOR, "cz.cvut.kbss.NonExistentGenerator");
+        assertThrows(OntoDriverInitializationException.class, () -> IdentifierGenerators.create(configuration));
+    }
+}
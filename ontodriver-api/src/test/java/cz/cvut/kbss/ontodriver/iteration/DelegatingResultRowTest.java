@@ -170,6 +170,18 @@ class DelegatingResultRowTest {
         verify(resultSet).getShort("test");
     }
 
+    @Test
+    void getColumnReaderByIndexDelegatesCallToResultSet() {
+        sut.getColumnReader(1, URI.class);
+        verify(resultSet).getColumnReader(1, URI.class);
+    }
+
+    @Test
+    void getColumnReaderByNameDelegatesCallToResultSet() {
+        sut.getColumnReader("test", URI.class);
+        verify(resultSet).getColumnReader("test", URI.class);
+    }
+
     @Test
     void getStringByIndexDelegatesCallToResultSet() throws OntoDriverException {
         sut.getString(1);
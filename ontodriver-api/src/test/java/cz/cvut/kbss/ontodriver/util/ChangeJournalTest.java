@@ -0,0 +1,101 @@
+/**
+ * Copyright (C) 2023 Czech Technical University in Prague
+ *
+ * This program is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any
+ * later version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more
+ * details. You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package cz.cvut.kbss.ontodriver.util;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ChangeJournalTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void replayReadsAppendedRecordsInOrder() throws Exception {
+        final Path data = directory.resolve("data.ttl");
+        try (final ChangeJournal sut = new ChangeJournal(data, ChangeJournal.DEFAULT_COMPACTION_THRESHOLD)) {
+            sut.append(bytes("r1"), bytes("a1"));
+            sut.append(new byte[0], bytes("a2"));
+        }
+
+        try (final ChangeJournal sut = new ChangeJournal(data, ChangeJournal.DEFAULT_COMPACTION_THRESHOLD)) {
+            final List<String> records = replay(sut);
+            assertEquals(List.of("r1|a1", "|a2"), records);
+        }
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static List<String> replay(ChangeJournal journal) throws IOException {
+        final List<String> records = new ArrayList<>();
+        journal.replay((removed, added) -> records.add(new String(removed, StandardCharsets.UTF_8) + "|" +
+                new String(added, StandardCharsets.UTF_8)));
+        return records;
+    }
+
+    @Test
+    void replayDiscardsIncompleteTrailingRecord() throws Exception {
+        final Path data = directory.resolve("data.ttl");
+        final long validSize;
+        try (final ChangeJournal sut = new ChangeJournal(data, ChangeJournal.DEFAULT_COMPACTION_THRESHOLD)) {
+            validSize = sut.append(bytes("r1"), bytes("a1"));
+        }
+        // Simulate a crash in the middle of writing a record
+        Files.write(data.resolveSibling("data.ttl" + ChangeJournal.JOURNAL_SUFFIX), new byte[]{0, 0, 0, 5, 0},
+                StandardOpenOption.APPEND);
+
+        try (final ChangeJournal sut = new ChangeJournal(data, ChangeJournal.DEFAULT_COMPACTION_THRESHOLD)) {
+            assertEquals(List.of("r1|a1"), replay(sut));
+            assertEquals(validSize, sut.size());
+        }
+    }
+
+    @Test
+    void compactReplacesDataFileAndKeepsRecordsAppendedAfterSnapshot() throws Exception {
+        final Path data = directory.resolve("data.ttl");
+        Files.write(data, bytes("old"));
+        try (final ChangeJournal sut = new ChangeJournal(data, ChangeJournal.DEFAULT_COMPACTION_THRESHOLD)) {
+            final long upTo = sut.append(bytes("r1"), bytes("a1"));
+            sut.append(bytes("r2"), bytes("a2"));
+
+            sut.compact(upTo, out -> out.write(bytes("snapshot")));
+            assertEquals("snapshot", Files.readString(data));
+            assertEquals(List.of("r2|a2"), replay(sut));
+        }
+    }
+
+    @Test
+    void isCompactionDueWhenJournalExceedsThreshold() throws Exception {
+        final Path data = directory.resolve("data.ttl");
+        try (final ChangeJournal sut = new ChangeJournal(data, 32)) {
+            sut.append(bytes("r"), bytes("a"));
+            assertFalse(sut.isCompactionDue());
+            sut.append(bytes("removed data"), bytes("added data"));
+            assertTrue(sut.isCompactionDue());
+        }
+    }
+}
@@ -0,0 +1,84 @@
+/**
+ * Copyright (C) 2023 Czech Technical University in Prague
+ *
+ * This program is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any
+ * later version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more
+ * details. You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package cz.cvut.kbss.ontodriver.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CommitPipelineTest {
+
+    @Test
+    void applySplitsSourceIntoChunksOfConfiguredSizeInOrder() {
+        final CommitPipeline sut = new CommitPipeline(3);
+        final List<Integer> source = IntStream.range(0, 8).boxed().collect(Collectors.toList());
+        final List<List<Integer>> chunks = new ArrayList<>();
+
+        sut.apply("add", source.iterator(), chunks::add);
+        assertEquals(Arrays.asList(source.subList(0, 3), source.subList(3, 6), source.subList(6, 8)), chunks);
+    }
+
+    @Test
+    void applyDoesNotInvokeConsumerForEmptySource() {
+        final CommitPipeline sut = new CommitPipeline(3);
+        final List<List<Object>> chunks = new ArrayList<>();
+
+        sut.apply("add", Collections.emptyIterator(), chunks::add);
+        assertTrue(chunks.isEmpty());
+    }
+
+    @Test
+    void applyReadsSourceInCallingThread() {
+        final CommitPipeline sut = new CommitPipeline(1);
+        final Thread caller = Thread.currentThread();
+        final Iterator<Integer> source = IntStream.range(0, 5).boxed()
+                                                  .peek(i -> assertSame(caller, Thread.currentThread())).iterator();
+        final List<List<Integer>> chunks = new ArrayList<>();
+
+        sut.apply("add", source, chunks::add);
+        assertEquals(5, chunks.size());
+    }
+
+    @Test
+    void applyRecordsPhaseDuration() {
+        final CommitPipeline sut = new CommitPipeline(3);
+        sut.apply("remove", Collections.singletonList(1).iterator(), chunk -> {});
+        sut.apply("remove", Collections.singletonList(2).iterator(), chunk -> {});
+        assertEquals(Collections.singleton("remove"), sut.getTimings().getPhases().keySet());
+    }
+
+    @Test
+    void applyPropagatesConsumerException() {
+        final CommitPipeline sut = new CommitPipeline(1);
+        final List<Integer> source = Arrays.asList(1, 2, 3);
+        final Exception ex = assertThrows(Exception.class, () -> sut.apply("add", source.iterator(), chunk -> {
+            throw new Exception("Write failed.");
+        }));
+        assertEquals("Write failed.", ex.getMessage());
+    }
+
+    @Test
+    void constructorThrowsIllegalArgumentExceptionForNonPositiveChunkSize() {
+        assertThrows(IllegalArgumentException.class, () -> new CommitPipeline(0));
+    }
+}
@@ -0,0 +1,37 @@
+/**
+ * Copyright (C) 2023 Czech Technical University in Prague
+ *
+ * This program is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any
+ * later version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more
+ * details. You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package cz.cvut.kbss.ontodriver.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class SparqlUtilsTest {
+
+    @Test
+    void escapeStringLiteralEscapesQuotesAndBackslash() {
+        assertEquals("say \\\"hi\\\" \\\\ \\'there\\'", SparqlUtils.escapeStringLiteral("say \"hi\" \\ 'there'"));
+    }
+
+    @Test
+    void escapeStringLiteralEscapesLineBreaksAndTabs() {
+        assertEquals("first\\r\\nsecond\\tthird\\b\\f", SparqlUtils.escapeStringLiteral("first\r\nsecond\tthird\b\f"));
+    }
+
+    @Test
+    void escapeStringLiteralReturnsValueWithoutSpecialCharactersUnchanged() {
+        assertEquals("plain value", SparqlUtils.escapeStringLiteral("plain value"));
+    }
+}
@@ -138,4 +138,74 @@ class StatementHolderTest {
         holder.analyzeStatement();
         assertThrows(IllegalArgumentException.class, () -> holder.setParameter("z", "someValue@en"));
     }
-}
\ No newline at end of file
+
+    @Test
+    void analyzeQueryHandlesParametersDelimitedByOperators() {
+        final String query = "SELECT ?x WHERE { ?x <http://property> ?a . FILTER(?a=?b) }";
+        final String expected = "SELECT ?x WHERE { ?x <http://property> ?a . FILTER(?a=117) }";
+        final StatementHolder holder = new StatementHolder(query);
+        holder.analyzeStatement();
+        holder.setParameter("b", "117");
+        assertEquals(expected, holder.assembleStatement());
+    }
+
+    @Test
+    void analyzeQueryHandlesParameterAtEndOfStatement() {
+        final String query = "SELECT ?x WHERE { ?x <http://property> ?y . } ORDER BY ?y";
+        final StatementHolder holder = new StatementHolder(query);
+        holder.analyzeStatement();
+        assertEquals(query, holder.assembleStatement());
+        holder.setParameter("y", "?z");
+        assertEquals(query.replace("?y", "?z"), holder.assembleStatement());
+    }
+
+    @Test
+    void bindValueLeavesParameterVariableInAssembledStatement() {
+        final String query = "SELECT ?x WHERE { ?x <http://property> ?y . }";
+        final StatementHolder holder = new StatementHolder(query);
+        holder.analyzeStatement();
+        holder.bindValue("y", "Bill");
+        assertEquals(query, holder.assembleStatement());
+        assertEquals(Map.of("y", "Bill"), holder.getBoundValues());
+    }
+
+    @Test
+    void assembleStatementWithFormatterUsesFormattedBoundValues() {
+        final String query = "SELECT ?x WHERE { ?x <http://property> ?y . }";
+        final String expected = "SELECT ?x WHERE { ?x <http://property> 'Bill' . }";
+        final StatementHolder holder = new StatementHolder(query);
+        holder.analyzeStatement();
+        holder.bindValue("y", "Bill");
+        assertEquals(expected, holder.assembleStatement(v -> "'" + v + "'"));
+    }
+
+    @Test
+    void setParameterReplacesPreviouslyBoundValue() {
+        final String query = "SELECT ?x WHERE { ?x <http://property> ?y . }";
+        final String expected = "SELECT ?x WHERE { ?x <http://property> 'Bill' . }";
+        final StatementHolder holder = new StatementHolder(query);
+        holder.analyzeStatement();
+        holder.bindValue("y", "John");
+        holder.setParameter("y", "'Bill'");
+        assertTrue(holder.getBoundValues().isEmpty());
+        assertEquals(expected, holder.assembleStatement());
+    }
+
+    @Test
+    void clearParametersRemovesBoundValues() {
+        final String query = "SELECT ?x WHERE { ?x <http://property> ?y . }";
+        final StatementHolder holder = new StatementHolder(query);
+        holder.analyzeStatement();
+        holder.bindValue("y", "Bill");
+        holder.clearParameters();
+        assertTrue(holder.getBoundValues().isEmpty());
+    }
+
+    @Test
+    void bindUnknownParameterValueThrowsException() {
+        final String query = "SELECT ?x ?y WHERE { ?x <http://property> ?y . }";
+        final StatementHolder holder = new StatementHolder(query);
+        holder.analyzeStatement();
+        assertThrows(IllegalArgumentException.class, () -> holder.bindValue("z", "someValue"));
+    }
+}
@@ -19,6 +19,7 @@ import cz.cvut.kbss.ontodriver.jena.connector.StorageConnector;
 import cz.cvut.kbss.ontodriver.model.Assertion;
 import cz.cvut.kbss.ontodriver.model.Axiom;
 import cz.cvut.kbss.ontodriver.model.AxiomImpl;
+import cz.cvut.kbss.ontodriver.model.NamedResource;
 import cz.cvut.kbss.ontodriver.model.Value;
 import cz.cvut.kbss.ontodriver.util.Vocabulary;
 import org.apache.jena.rdf.model.*;
@@ -48,15 +49,51 @@ class ExplicitAxiomLoader extends AbstractAxiomLoader {
 
     @Override
     Collection<Axiom<?>> find(AxiomDescriptor descriptor, Map<String, Assertion> assertions) {
+        final Resource subject = ResourceFactory.createResource(descriptor.getSubject().getIdentifier().toString());
+        return find(descriptor, assertions, findStatements(subject, null, descriptor.getSubjectContexts()));
+    }
+
+    /**
+     * Loads axioms corresponding to the specified descriptor and assertions, using the specified already loaded
+     * statements of the descriptor's subject.
+     *
+     * @param descriptor Loading descriptor, contains subject and context info
+     * @param assertions Assertions to load
+     * @param statements Statements of the subject from the subject contexts
+     * @return Matching axioms
+     */
+    List<Axiom<?>> find(AxiomDescriptor descriptor, Map<String, Assertion> assertions,
+                        Collection<Statement> statements) {
         this.assertedProperties = assertions;
         this.unspecifiedProperty = resolveUnspecifiedProperty();
         final Resource subject = ResourceFactory.createResource(descriptor.getSubject().getIdentifier().toString());
-        final Collection<Statement> statements = findStatements(subject, null, descriptor.getSubjectContexts());
         final List<Axiom<?>> result = transformStatementsToAxioms(descriptor, statements);
         result.addAll(loadAxiomsForPropertiesInContext(descriptor, subject));
         return result;
     }
 
+    /**
+     * Loads statements of subjects of the specified descriptors.
+     * <p>
+     * Statements of subjects whose descriptors share subject contexts are retrieved from the storage together.
+     *
+     * @param descriptors Loading descriptors
+     * @return Statements from the respective subject contexts, grouped by subject
+     */
+    Map<NamedResource, List<Statement>> findStatements(Collection<AxiomDescriptor> descriptors) {
+        final Map<Set<URI>, List<Resource>> subjectsByContexts = new HashMap<>();
+        for (AxiomDescriptor descriptor : descriptors) {
+            subjectsByContexts.computeIfAbsent(descriptor.getSubjectContexts(), k -> new ArrayList<>())
+                              .add(ResourceFactory.createResource(descriptor.getSubject().getIdentifier().toString()));
+        }
+        final Map<NamedResource, List<Statement>> result = new HashMap<>();
+        subjectsByContexts.forEach((contexts, subjects) -> connector
+                .find(subjects, contexts.stream().map(URI::toString).collect(Collectors.toSet()))
+                .forEach(s -> result.computeIfAbsent(NamedResource.create(s.getSubject().getURI()),
+                                                     k -> new ArrayList<>()).add(s)));
+        return result;
+    }
+
     private Assertion resolveUnspecifiedProperty() {
         final Optional<Assertion> unspecified =
                 assertedProperties.values().stream().filter(a -> a.equals(UNSPECIFIED_ASSERTION)).findAny();
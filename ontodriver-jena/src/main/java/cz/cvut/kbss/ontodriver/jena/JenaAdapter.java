@@ -17,19 +17,23 @@ package cz.cvut.kbss.ontodriver.jena;
 import cz.cvut.kbss.ontodriver.Wrapper;
 import cz.cvut.kbss.ontodriver.descriptor.*;
 import cz.cvut.kbss.ontodriver.exception.OntoDriverException;
+import cz.cvut.kbss.ontodriver.identifier.IdentifierGenerator;
+import cz.cvut.kbss.ontodriver.identifier.RandomIdentifierGenerator;
 import cz.cvut.kbss.ontodriver.jena.connector.InferredStorageConnector;
 import cz.cvut.kbss.ontodriver.jena.connector.StorageConnector;
 import cz.cvut.kbss.ontodriver.jena.exception.JenaDriverException;
 import cz.cvut.kbss.ontodriver.jena.list.ListHandler;
 import cz.cvut.kbss.ontodriver.jena.query.JenaPreparedStatement;
 import cz.cvut.kbss.ontodriver.jena.query.JenaStatement;
-import cz.cvut.kbss.ontodriver.jena.util.IdentifierGenerator;
+import cz.cvut.kbss.ontodriver.jena.util.UniqueIdentifierGenerator;
 import cz.cvut.kbss.ontodriver.model.Axiom;
+import cz.cvut.kbss.ontodriver.model.NamedResource;
 import cz.cvut.kbss.ontodriver.util.Transaction;
 
 import java.net.URI;
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -48,10 +52,17 @@ public class JenaAdapter implements Wrapper {
 
     private final StorageConnector connector;
     private final InferredStorageConnector inferenceConnector;
+    private final IdentifierGenerator identifierGenerator;
 
     JenaAdapter(StorageConnector connector, InferredStorageConnector inferenceConnector) {
+        this(connector, inferenceConnector, new RandomIdentifierGenerator());
+    }
+
+    JenaAdapter(StorageConnector connector, InferredStorageConnector inferenceConnector,
+                IdentifierGenerator identifierGenerator) {
         this.connector = connector;
         this.inferenceConnector = inferenceConnector;
+        this.identifierGenerator = identifierGenerator;
     }
 
     void commit() throws JenaDriverException {
@@ -87,6 +98,11 @@ public class JenaAdapter implements Wrapper {
         return new MainAxiomLoader(connector, inferenceConnector).find(descriptor);
     }
 
+    Map<NamedResource, Collection<Axiom<?>>> findAll(Collection<AxiomDescriptor> descriptors) {
+        beginTransactionIfNotActive();
+        return new MainAxiomLoader(connector, inferenceConnector).find(descriptors);
+    }
+
     boolean contains(Axiom<?> axiom, Set<URI> contexts) {
         beginTransactionIfNotActive();
         return new MainAxiomLoader(connector, inferenceConnector).contains(axiom, contexts);
@@ -104,7 +120,7 @@ public class JenaAdapter implements Wrapper {
 
     URI generateIdentifier(URI classUri) {
         beginTransactionIfNotActive();
-        return new IdentifierGenerator(connector).generateIdentifier(classUri);
+        return new UniqueIdentifierGenerator(connector, identifierGenerator).generateIdentifier(classUri);
     }
 
     boolean isConsistent(URI context) {
@@ -20,6 +20,8 @@ import cz.cvut.kbss.ontodriver.config.ConfigurationParameter;
 import cz.cvut.kbss.ontodriver.config.DriverConfigParam;
 import cz.cvut.kbss.ontodriver.config.DriverConfiguration;
 import cz.cvut.kbss.ontodriver.exception.OntoDriverException;
+import cz.cvut.kbss.ontodriver.identifier.IdentifierGenerator;
+import cz.cvut.kbss.ontodriver.identifier.IdentifierGenerators;
 import cz.cvut.kbss.ontodriver.jena.config.Constants;
 import cz.cvut.kbss.ontodriver.jena.config.JenaConfigParam;
 import cz.cvut.kbss.ontodriver.jena.config.JenaOntoDriverProperties;
@@ -35,12 +37,15 @@ class JenaDriver implements Closeable, ConnectionListener {
     private static final List<ConfigurationParameter> CONFIGS = Arrays
             .asList(DriverConfigParam.AUTO_COMMIT, DriverConfigParam.REASONER_FACTORY_CLASS,
                     JenaConfigParam.ISOLATION_STRATEGY, JenaConfigParam.STORAGE_TYPE,
-                    JenaConfigParam.TREAT_DEFAULT_GRAPH_AS_UNION);
+                    JenaConfigParam.TREAT_DEFAULT_GRAPH_AS_UNION, DriverConfigParam.IDENTIFIER_GENERATOR,
+                    DriverConfigParam.IDENTIFIER_GENERATOR_NODE_ID, DriverConfigParam.COMMIT_CHUNK_SIZE,
+                    DriverConfigParam.CHANGE_JOURNAL, DriverConfigParam.JOURNAL_COMPACTION_THRESHOLD);
 
     private volatile boolean open;
 
     private final DriverConfiguration configuration;
     private final ConnectorFactory connectorFactory;
+    private final IdentifierGenerator identifierGenerator;
 
     private final Set<JenaConnection> openConnections;
 
@@ -52,6 +57,7 @@ class JenaDriver implements Closeable, ConnectionListener {
         CONFIGS.stream().filter(c -> properties.containsKey(c.toString()))
                .forEach(c -> configuration.setProperty(c, properties.get(c.toString())));
         this.connectorFactory = buildConnectorFactory(properties);
+        this.identifierGenerator = IdentifierGenerators.create(configuration);
         this.openConnections = Collections.synchronizedSet(new HashSet<>());
         this.autoCommit =
                 configuration.isSet(DriverConfigParam.AUTO_COMMIT) ? configuration.is(DriverConfigParam.AUTO_COMMIT) :
@@ -72,6 +78,8 @@ class JenaDriver implements Closeable, ConnectionListener {
                 return new ReadCommittedConnectorFactory(configuration);
             case JenaOntoDriverProperties.SNAPSHOT:
                 return new SnapshotConnectorFactory(configuration);
+            case JenaOntoDriverProperties.DELTA_SNAPSHOT:
+                return new DeltaSnapshotConnectorFactory(configuration);
             default:
                 throw new IllegalArgumentException("Unsupported transaction isolation strategy " + isolationStrategy);
         }
@@ -80,7 +88,8 @@ class JenaDriver implements Closeable, ConnectionListener {
     JenaConnection acquireConnection() {
         ensureOpen();
         final StorageConnector connector = connectorFactory.createConnector();
-        final JenaAdapter adapter = new JenaAdapter(connector, connectorFactory.createInferredConnector(connector));
+        final JenaAdapter adapter = new JenaAdapter(connector, connectorFactory.createInferredConnector(connector),
+                identifierGenerator);
         final JenaConnection connection = new JenaConnection(adapter);
         connection.registerListener(this);
         connection.setAutoCommit(autoCommit);
@@ -20,16 +20,15 @@ import cz.cvut.kbss.ontodriver.jena.connector.StorageConnector;
 import cz.cvut.kbss.ontodriver.jena.util.JenaUtils;
 import cz.cvut.kbss.ontodriver.model.Assertion;
 import cz.cvut.kbss.ontodriver.model.Axiom;
+import cz.cvut.kbss.ontodriver.model.NamedResource;
 import org.apache.jena.rdf.model.Property;
 import org.apache.jena.rdf.model.RDFNode;
 import org.apache.jena.rdf.model.Resource;
 import org.apache.jena.rdf.model.ResourceFactory;
+import org.apache.jena.rdf.model.Statement;
 
 import java.net.URI;
-import java.util.Collection;
-import java.util.HashMap;
-import java.util.Map;
-import java.util.Set;
+import java.util.*;
 
 class MainAxiomLoader {
 
@@ -90,6 +89,29 @@ class MainAxiomLoader {
         return result;
     }
 
+    /**
+     * Loads axioms corresponding to the specified descriptors.
+     * <p>
+     * Explicit statements of all the subjects are retrieved from the storage in bulk.
+     *
+     * @param descriptors Descriptors of axioms to load, subjects are expected to be distinct
+     * @return Matching axioms grouped by subject, in order of the specified descriptors
+     */
+    Map<NamedResource, Collection<Axiom<?>>> find(Collection<AxiomDescriptor> descriptors) {
+        final Map<NamedResource, List<Statement>> statements = explicitLoader.findStatements(descriptors);
+        final Map<NamedResource, Collection<Axiom<?>>> result = new LinkedHashMap<>(descriptors.size());
+        for (AxiomDescriptor descriptor : descriptors) {
+            final Map<String, Assertion> asserted = new HashMap<>(descriptor.getAssertions().size());
+            final Map<String, Assertion> inferred = new HashMap<>(descriptor.getAssertions().size());
+            mapAssertions(descriptor, asserted, inferred);
+            final Collection<Axiom<?>> axioms = explicitLoader.find(descriptor, asserted, statements
+                    .getOrDefault(descriptor.getSubject(), Collections.emptyList()));
+            axioms.addAll(inferredLoader.find(descriptor, inferred));
+            result.put(descriptor.getSubject(), axioms);
+        }
+        return result;
+    }
+
     private static void mapAssertions(AxiomDescriptor descriptor, Map<String, Assertion> asserted,
                                       Map<String, Assertion> inferred) {
         for (Assertion a : descriptor.getAssertions()) {
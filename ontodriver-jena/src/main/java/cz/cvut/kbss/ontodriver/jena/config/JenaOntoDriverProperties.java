@@ -23,6 +23,7 @@ public class JenaOntoDriverProperties {
      * <ul>
      * <li>{@link #READ_COMMITTED}</li>
      * <li>{@link #SNAPSHOT}</li>
+     * <li>{@link #DELTA_SNAPSHOT}</li>
      * </ul>
      */
     public static final String JENA_ISOLATION_STRATEGY = "cz.cvut.kbss.ontodriver.jena.isolation";
@@ -46,6 +47,18 @@ public class JenaOntoDriverProperties {
      */
     public static final String SNAPSHOT = "snapshot";
 
+    /**
+     * Storage access isolation strategy.
+     * <p>
+     * Represents situations where each transaction keeps only a list of its changes and merges them over the data read
+     * from the repository. Starting a transaction thus does not copy the repository. Changes committed by other
+     * transactions in the meantime are reverted when reading, so the transaction sees the repository as it was when it
+     * began. SPARQL queries and updates are not isolated.
+     *
+     * @see #JENA_ISOLATION_STRATEGY
+     */
+    public static final String DELTA_SNAPSHOT = "delta-snapshot";
+
     /**
      * Represents parameter specifying type of storage to be used by this driver.
      * <p>
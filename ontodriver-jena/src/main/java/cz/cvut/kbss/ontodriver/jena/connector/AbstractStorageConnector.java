@@ -14,9 +14,16 @@
  */
 package cz.cvut.kbss.ontodriver.jena.connector;
 
+import cz.cvut.kbss.ontodriver.config.DriverConfigParam;
 import cz.cvut.kbss.ontodriver.config.DriverConfiguration;
+import cz.cvut.kbss.ontodriver.util.CommitPipeline;
+import cz.cvut.kbss.ontodriver.util.CommitTimings;
 import cz.cvut.kbss.ontodriver.util.Transaction;
 import org.apache.jena.query.Dataset;
+import org.apache.jena.rdf.model.Model;
+
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * Base implementation of the {@link StorageConnector} interface.
@@ -31,6 +38,8 @@ abstract class AbstractStorageConnector implements StorageConnector {
 
     Storage storage;
 
+    private volatile CommitTimings lastCommitTimings;
+
     /**
      * Constructs this connector without using any configuration.
      */
@@ -75,6 +84,66 @@ abstract class AbstractStorageConnector implements StorageConnector {
         // Do nothing
     }
 
+    /**
+     * Creates a pipeline for writing transactional changes into the central connector on commit.
+     *
+     * @return New commit pipeline
+     */
+    CommitPipeline createCommitPipeline() {
+        return new CommitPipeline(configuration != null ? configuration
+                .getProperty(DriverConfigParam.COMMIT_CHUNK_SIZE, CommitPipeline.DEFAULT_CHUNK_SIZE) :
+                                  CommitPipeline.DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * Writes the specified transactional changes into the specified connector.
+     * <p>
+     * Removals are applied first, followed by additions. The changes are written context by context, in chunks.
+     *
+     * @param changes  Changes to write
+     * @param target   Connector to write into, with an active transaction
+     * @param pipeline Pipeline to use
+     */
+    static void mergeChanges(LocalModel changes, AbstractStorageConnector target, CommitPipeline pipeline) {
+        final Dataset removed = changes.getRemoved();
+        pipeline.apply("remove", removed.getDefaultModel().listStatements(), chunk -> target.remove(chunk, null));
+        for (String context : listNames(removed)) {
+            pipeline.apply("remove", removed.getNamedModel(context).listStatements(),
+                    chunk -> target.remove(chunk, context));
+        }
+        final Dataset added = changes.getAdded();
+        pipeline.apply("add", added.getDefaultModel().listStatements(), chunk -> target.add(chunk, null));
+        for (String context : listNames(added)) {
+            final Model model = added.getNamedModel(context);
+            pipeline.apply("add", model.listStatements(), chunk -> target.add(chunk, context));
+        }
+    }
+
+    private static List<String> listNames(Dataset dataset) {
+        final List<String> names = new ArrayList<>();
+        dataset.listNames().forEachRemaining(names::add);
+        return names;
+    }
+
+    /**
+     * Records timings of a finished commit.
+     *
+     * @param timings Commit timings
+     */
+    void commitFinished(CommitTimings timings) {
+        timings.finish();
+        this.lastCommitTimings = timings;
+    }
+
+    /**
+     * Gets timings of the phases of the last commit executed by this connector.
+     *
+     * @return Commit timings, {@code null} if no commit has been executed, yet
+     */
+    public CommitTimings getLastCommitTimings() {
+        return lastCommitTimings;
+    }
+
     @Override
     public <T> T unwrap(Class<T> cls) {
         if (cls.isAssignableFrom(getClass())) {
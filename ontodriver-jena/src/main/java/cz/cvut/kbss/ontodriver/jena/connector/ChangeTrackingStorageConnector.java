@@ -18,7 +18,7 @@ import cz.cvut.kbss.ontodriver.Statement.StatementOntology;
 import cz.cvut.kbss.ontodriver.jena.config.JenaConfigParam;
 import cz.cvut.kbss.ontodriver.jena.exception.JenaDriverException;
 import cz.cvut.kbss.ontodriver.jena.query.AbstractResultSet;
-import org.apache.jena.query.Dataset;
+import cz.cvut.kbss.ontodriver.util.CommitPipeline;
 import org.apache.jena.query.Query;
 import org.apache.jena.rdf.model.*;
 
@@ -31,7 +31,7 @@ public class ChangeTrackingStorageConnector extends AbstractStorageConnector {
 
     private final AbstractStorageConnector centralConnector;
 
-    private final boolean useDefaultAsUnion;
+    final boolean useDefaultAsUnion;
 
     private LocalModel localModel;
 
@@ -51,11 +51,13 @@ public class ChangeTrackingStorageConnector extends AbstractStorageConnector {
     @Override
     public void commit() throws JenaDriverException {
         transaction.commit();
+        final CommitPipeline pipeline = createCommitPipeline();
         try {
             centralConnector.begin();
-            mergeRemovedStatements();
-            mergeAddedStatements();
+            mergeChanges(localModel, centralConnector, pipeline);
+            final long commitStart = System.nanoTime();
             centralConnector.commit();
+            pipeline.getTimings().record("commit", System.nanoTime() - commitStart);
             transaction.afterCommit();
         } catch (JenaDriverException e) {
             transaction.rollback();
@@ -64,27 +66,10 @@ public class ChangeTrackingStorageConnector extends AbstractStorageConnector {
             throw e;
         } finally {
             this.localModel = null;
+            commitFinished(pipeline.getTimings());
         }
     }
 
-    private void mergeRemovedStatements() {
-        final Dataset removed = localModel.getRemoved();
-        centralConnector.remove(removed.getDefaultModel().listStatements().toList(), null);
-        removed.listNames().forEachRemaining(context -> {
-            final Model model = removed.getNamedModel(context);
-            centralConnector.remove(model.listStatements().toList(), context);
-        });
-    }
-
-    private void mergeAddedStatements() {
-        final Dataset added = localModel.getAdded();
-        centralConnector.add(added.getDefaultModel().listStatements().toList(), null);
-        added.listNames().forEachRemaining(context -> {
-            final Model model = added.getNamedModel(context);
-            centralConnector.add(model.listStatements().toList(), context);
-        });
-    }
-
     @Override
     public void rollback() {
         transaction.rollback();
@@ -95,17 +80,63 @@ public class ChangeTrackingStorageConnector extends AbstractStorageConnector {
     @Override
     public Collection<Statement> find(Resource subject, Property property, RDFNode value, Collection<String> contexts) {
         transaction.verifyActive();
-        final Collection<Statement> existing = centralConnector.find(subject, property, value, contexts);
+        final Collection<Statement> existing = findCommitted(subject, property, value, contexts);
         return localModel.enhanceStatements(existing, subject, property, value, contexts);
     }
 
+    @Override
+    public Collection<Statement> find(Collection<? extends Resource> subjects, Collection<String> contexts) {
+        transaction.verifyActive();
+        final Map<Resource, List<Statement>> existing = new HashMap<>();
+        findCommitted(subjects, contexts)
+                .forEach(s -> existing.computeIfAbsent(s.getSubject(), k -> new ArrayList<>()).add(s));
+        final List<Statement> result = new ArrayList<>();
+        for (Resource subject : subjects) {
+            result.addAll(localModel.enhanceStatements(existing.getOrDefault(subject, Collections.emptyList()),
+                                                       subject, null, null, contexts));
+        }
+        return result;
+    }
+
     @Override
     public boolean contains(Resource subject, Property property, RDFNode value, Collection<String> contexts) {
         transaction.verifyActive();
         final LocalModel.Containment localStatus = localModel.contains(subject, property, value, contexts);
         return localStatus == LocalModel.Containment.ADDED ||
                 localStatus == LocalModel.Containment.UNKNOWN &&
-                        centralConnector.contains(subject, property, value, contexts);
+                        containsCommitted(subject, property, value, contexts);
+    }
+
+    /**
+     * Finds statements committed into the central connector.
+     * <p>
+     * Subclasses may override this method to read a different version of the central data.
+     */
+    Collection<Statement> findCommitted(Resource subject, Property property, RDFNode value,
+                                        Collection<String> contexts) {
+        return centralConnector.find(subject, property, value, contexts);
+    }
+
+    /**
+     * Finds statements with the specified subjects committed into the central connector.
+     *
+     * @see #findCommitted(Resource, Property, RDFNode, Collection)
+     */
+    Collection<Statement> findCommitted(Collection<? extends Resource> subjects, Collection<String> contexts) {
+        return centralConnector.find(subjects, contexts);
+    }
+
+    /**
+     * Checks whether a matching statement is committed in the central connector.
+     *
+     * @see #findCommitted(Resource, Property, RDFNode, Collection)
+     */
+    boolean containsCommitted(Resource subject, Property property, RDFNode value, Collection<String> contexts) {
+        return centralConnector.contains(subject, property, value, contexts);
+    }
+
+    LocalModel getLocalModel() {
+        return localModel;
     }
 
     @Override
@@ -0,0 +1,179 @@
+/**
+ * Copyright (C) 2023 Czech Technical University in Prague
+ *
+ * This program is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any
+ * later version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more
+ * details. You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package cz.cvut.kbss.ontodriver.jena.connector;
+
+import cz.cvut.kbss.ontodriver.jena.exception.JenaDriverException;
+
+import java.util.*;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Log of commits used by {@link DeltaSnapshotStorageConnector}s to read the version of the central storage which was
+ * current when their transaction began.
+ * <p>
+ * For each commit which happens while other transactions are active, the log keeps a record able to revert the
+ * changes made by the commit. A transaction then reads the current data and reverts all the commits which happened
+ * after it began. Records are discarded once no active transaction needs them.
+ * <p>
+ * No storage transaction is kept open between operations, reads and commits are only mutually excluded by a lock.
+ */
+class CommitLog {
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * Undo records ordered by commit sequence.
+     */
+    private final Deque<Record> records = new ArrayDeque<>();
+
+    /**
+     * Number of active transactions for each commit sequence at which they began.
+     */
+    private final NavigableMap<Long, Integer> active = new TreeMap<>();
+
+    private int activeCount;
+
+    private long lastCommit;
+
+    /**
+     * Registers the beginning of a transaction.
+     *
+     * @return Sequence of the last commit visible to the transaction
+     */
+    long begin() {
+        lock.writeLock().lock();
+        try {
+            active.merge(lastCommit, 1, Integer::sum);
+            activeCount++;
+            return lastCommit;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Registers the end of a transaction which began at the specified commit sequence.
+     *
+     * @param start Value returned by {@link #begin()} for the transaction
+     */
+    void end(long start) {
+        lock.writeLock().lock();
+        try {
+            unregister(start);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void unregister(long start) {
+        final Integer count = active.get(start);
+        if (count == null) {
+            return;
+        }
+        if (count > 1) {
+            active.put(start, count - 1);
+        } else {
+            active.remove(start);
+        }
+        activeCount--;
+        if (active.isEmpty()) {
+            records.clear();
+        } else {
+            final long oldestStart = active.firstKey();
+            while (!records.isEmpty() && records.getFirst().sequence <= oldestStart) {
+                records.removeFirst();
+            }
+        }
+    }
+
+    /**
+     * Reads data as they were at the specified commit sequence.
+     * <p>
+     * The reader receives undo records of commits which happened since {@code start}, newest first. It is expected to
+     * read the current data and apply the records to them in the specified order. No commit happens while the reader
+     * runs.
+     *
+     * @param start  Value returned by {@link #begin()} for the reading transaction
+     * @param reader Reads the data
+     * @param <T>    Result type
+     * @return Reader result
+     */
+    <T> T read(long start, Function<List<LocalModel>, T> reader) {
+        lock.readLock().lock();
+        try {
+            return reader.apply(undoSince(start));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private List<LocalModel> undoSince(long start) {
+        if (lastCommit == start) {
+            return Collections.emptyList();
+        }
+        final List<LocalModel> result = new ArrayList<>();
+        final Iterator<Record> it = records.descendingIterator();
+        while (it.hasNext()) {
+            final Record r = it.next();
+            if (r.sequence <= start) {
+                break;
+            }
+            result.add(r.undo);
+        }
+        return result;
+    }
+
+    /**
+     * Commits a transaction which began at the specified commit sequence and ends it.
+     * <p>
+     * The undo record is created only if there are other active transactions which may need it.
+     *
+     * @param start  Value returned by {@link #begin()} for the committing transaction
+     * @param undo   Creates a record reverting the changes to be committed. Invoked before {@code commit}
+     * @param commit Writes the changes into the central storage
+     * @throws JenaDriverException If {@code commit} fails
+     */
+    void commit(long start, Supplier<LocalModel> undo, Commit commit) throws JenaDriverException {
+        lock.writeLock().lock();
+        try {
+            final LocalModel record = activeCount > 1 ? undo.get() : null;
+            commit.execute();
+            lastCommit++;
+            if (record != null) {
+                records.addLast(new Record(lastCommit, record));
+            }
+        } finally {
+            unregister(start);
+            lock.writeLock().unlock();
+        }
+    }
+
+    @FunctionalInterface
+    interface Commit {
+        void execute() throws JenaDriverException;
+    }
+
+    private static final class Record {
+        private final long sequence;
+        private final LocalModel undo;
+
+        private Record(long sequence, LocalModel undo) {
+            this.sequence = sequence;
+            this.undo = undo;
+        }
+    }
+}
@@ -0,0 +1,36 @@
+/**
+ * Copyright (C) 2023 Czech Technical University in Prague
+ *
+ * This program is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any
+ * later version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more
+ * details. You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package cz.cvut.kbss.ontodriver.jena.connector;
+
+import cz.cvut.kbss.ontodriver.config.DriverConfiguration;
+
+/**
+ * Creates connectors implementing the {@link cz.cvut.kbss.ontodriver.jena.config.JenaOntoDriverProperties#DELTA_SNAPSHOT}
+ * transactional strategy.
+ */
+public class DeltaSnapshotConnectorFactory extends SharedConnectorBasedConnectorFactory {
+
+    private final CommitLog commitLog = new CommitLog();
+
+    public DeltaSnapshotConnectorFactory(DriverConfiguration configuration) {
+        super(configuration);
+    }
+
+    @Override
+    public StorageConnector createConnector() {
+        ensureOpen();
+        return new DeltaSnapshotStorageConnector(centralConnector, commitLog);
+    }
+}
@@ -0,0 +1,184 @@
+/**
+ * Copyright (C) 2023 Czech Technical University in Prague
+ *
+ * This program is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any
+ * later version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more
+ * details. You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package cz.cvut.kbss.ontodriver.jena.connector;
+
+import cz.cvut.kbss.ontodriver.jena.exception.JenaDriverException;
+import org.apache.jena.query.Dataset;
+import org.apache.jena.rdf.model.*;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * This connector implements the {@link cz.cvut.kbss.ontodriver.jena.config.JenaOntoDriverProperties#DELTA_SNAPSHOT}
+ * transactional strategy.
+ * <p>
+ * Unlike {@link SnapshotStorageConnector}, it does not copy the central dataset when a transaction begins. Instead, it
+ * records only the transactional changes and merges them over the data read from the central connector, so the cost
+ * of starting a transaction does not depend on the size of the dataset.
+ * <p>
+ * To read a stable snapshot of the data, the connector reverts changes committed by other transactions since its
+ * transaction began, using records kept by a {@link CommitLog} shared by connectors of the same factory. Each read uses
+ * a short read transaction on the central storage, no storage transaction is held between operations.
+ * <p>
+ * SPARQL queries and updates are executed directly against the central storage and are not isolated.
+ */
+public class DeltaSnapshotStorageConnector extends ChangeTrackingStorageConnector {
+
+    private final AbstractStorageConnector centralConnector;
+
+    private final CommitLog commitLog;
+
+    /**
+     * Commit sequence at which the current transaction began, negative if there is no transaction.
+     */
+    private long start = -1;
+
+    DeltaSnapshotStorageConnector(AbstractStorageConnector centralConnector, CommitLog commitLog) {
+        super(centralConnector);
+        this.centralConnector = centralConnector;
+        this.commitLog = commitLog;
+    }
+
+    @Override
+    public void begin() {
+        super.begin();
+        this.start = commitLog.begin();
+    }
+
+    @Override
+    public void commit() throws JenaDriverException {
+        transaction.verifyActive();
+        final LocalModel changes = getLocalModel();
+        try {
+            commitLog.commit(start, () -> createUndoRecord(changes), super::commit);
+        } finally {
+            this.start = -1;
+        }
+    }
+
+    /**
+     * Creates a record reverting the effect of the specified changes on the central connector.
+     * <p>
+     * Only statements actually added or removed by the changes are recorded. The current state of the central
+     * connector is read in bulk, using one query per changed context.
+     */
+    private LocalModel createUndoRecord(LocalModel changes) {
+        final LocalModel undo = new LocalModel(useDefaultAsUnion);
+        final Map<String, List<Statement>> removed = groupByContext(changes.getRemoved());
+        final Map<String, List<Statement>> added = groupByContext(changes.getAdded());
+        final Set<String> contexts = new HashSet<>(removed.keySet());
+        contexts.addAll(added.keySet());
+        for (String context : contexts) {
+            final List<Statement> contextRemoved = removed.getOrDefault(context, Collections.emptyList());
+            final List<Statement> contextAdded = added.getOrDefault(context, Collections.emptyList());
+            final Set<Resource> subjects = new HashSet<>();
+            contextRemoved.forEach(s -> subjects.add(s.getSubject()));
+            contextAdded.forEach(s -> subjects.add(s.getSubject()));
+            final Set<Statement> existing = new HashSet<>(centralConnector.find(subjects, contexts(context)));
+            final List<Statement> toRestore = contextRemoved.stream().filter(existing::contains)
+                                                            .collect(Collectors.toList());
+            final List<Statement> toRevoke = contextAdded.stream().filter(s -> !existing.contains(s))
+                                                         .collect(Collectors.toList());
+            if (!toRestore.isEmpty()) {
+                undo.addStatements(toRestore, context);
+            }
+            if (!toRevoke.isEmpty()) {
+                undo.removeStatements(toRevoke, context);
+            }
+        }
+        return undo;
+    }
+
+    /**
+     * Groups statements of the specified dataset by their context, {@code null} representing the default graph.
+     */
+    private static Map<String, List<Statement>> groupByContext(Dataset dataset) {
+        final Map<String, List<Statement>> result = new HashMap<>();
+        final List<Statement> inDefault = dataset.getDefaultModel().listStatements().toList();
+        if (!inDefault.isEmpty()) {
+            result.put(null, inDefault);
+        }
+        final List<String> names = new ArrayList<>();
+        dataset.listNames().forEachRemaining(names::add);
+        for (String name : names) {
+            final List<Statement> inNamed = dataset.getNamedModel(name).listStatements().toList();
+            if (!inNamed.isEmpty()) {
+                result.put(name, inNamed);
+            }
+        }
+        return result;
+    }
+
+    private static Collection<String> contexts(String context) {
+        return context != null ? Collections.singleton(context) : Collections.emptySet();
+    }
+
+    @Override
+    public void rollback() {
+        endTransaction();
+        super.rollback();
+    }
+
+    private void endTransaction() {
+        if (start >= 0) {
+            commitLog.end(start);
+            this.start = -1;
+        }
+    }
+
+    @Override
+    Collection<Statement> findCommitted(Resource subject, Property property, RDFNode value,
+                                        Collection<String> contexts) {
+        return commitLog.read(start, undo -> revert(super.findCommitted(subject, property, value, contexts), undo,
+                subject, property, value, contexts));
+    }
+
+    @Override
+    Collection<Statement> findCommitted(Collection<? extends Resource> subjects, Collection<String> contexts) {
+        return commitLog.read(start, undo -> {
+            final Collection<Statement> current = super.findCommitted(subjects, contexts);
+            if (undo.isEmpty()) {
+                return current;
+            }
+            final Map<Resource, List<Statement>> bySubject = new HashMap<>();
+            current.forEach(s -> bySubject.computeIfAbsent(s.getSubject(), k -> new ArrayList<>()).add(s));
+            final List<Statement> result = new ArrayList<>();
+            for (Resource subject : subjects) {
+                result.addAll(revert(bySubject.getOrDefault(subject, Collections.emptyList()), undo, subject, null,
+                        null, contexts));
+            }
+            return result;
+        });
+    }
+
+    @Override
+    boolean containsCommitted(Resource subject, Property property, RDFNode value, Collection<String> contexts) {
+        return commitLog.read(start, undo -> undo.isEmpty() ?
+                                             super.containsCommitted(subject, property, value, contexts) :
+                                             !revert(super.findCommitted(subject, property, value, contexts), undo,
+                                                     subject, property, value, contexts).isEmpty());
+    }
+
+    private static Collection<Statement> revert(Collection<Statement> statements, List<LocalModel> undo,
+                                                Resource subject, Property property, RDFNode value,
+                                                Collection<String> contexts) {
+        Collection<Statement> result = statements;
+        for (LocalModel record : undo) {
+            result = record.enhanceStatements(result, subject, property, value, contexts);
+        }
+        return result;
+    }
+}
@@ -14,11 +14,15 @@
  */
 package cz.cvut.kbss.ontodriver.jena.connector;
 
+import cz.cvut.kbss.ontodriver.config.DriverConfigParam;
 import cz.cvut.kbss.ontodriver.config.DriverConfiguration;
 import cz.cvut.kbss.ontodriver.exception.OntoDriverInitializationException;
 import cz.cvut.kbss.ontodriver.jena.exception.JenaDriverException;
+import cz.cvut.kbss.ontodriver.util.ChangeJournal;
 import org.apache.jena.query.DatasetFactory;
+import org.apache.jena.query.ReadWrite;
 import org.apache.jena.rdf.model.Model;
+import org.apache.jena.riot.Lang;
 import org.apache.jena.riot.RDFDataMgr;
 import org.apache.jena.riot.RDFLanguages;
 import org.apache.jena.riot.RiotNotFoundException;
@@ -28,23 +32,48 @@ import java.io.BufferedOutputStream;
 import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Paths;
 
 /**
  * File storage accessor.
  * <p>
  * Note that currently this accessor does not support working with datasets. Only single graph can be present in the
  * file.
+ * <p>
+ * If {@link DriverConfigParam#CHANGE_JOURNAL} is enabled, changes are not written by rewriting the whole file, but
+ * appended to a {@link ChangeJournal}, which is compacted into the file in the background.
  */
 class FileStorage extends LocalStorage {
 
     private final String location;
 
+    private final ChangeJournal journal;
+    private final JournaledChanges pendingChanges = new JournaledChanges();
+    /**
+     * Size of the journal containing only changes of committed transactions.
+     */
+    private volatile long committedJournalSize;
+    private long uncommittedJournalSize;
+
     FileStorage(DriverConfiguration configuration) {
         super(configuration);
         this.location = configuration.getStorageProperties().getPhysicalURI().getSchemeSpecificPart();
+        this.journal = configuration.is(DriverConfigParam.CHANGE_JOURNAL) ? openJournal(configuration) : null;
         initialize();
     }
 
+    private ChangeJournal openJournal(DriverConfiguration configuration) {
+        final int threshold = configuration.getProperty(DriverConfigParam.JOURNAL_COMPACTION_THRESHOLD,
+                ChangeJournal.DEFAULT_COMPACTION_THRESHOLD);
+        try {
+            return new ChangeJournal(Paths.get(location), threshold);
+        } catch (IOException e) {
+            throw new OntoDriverInitializationException("Unable to open change journal of file storage at " + location,
+                    e);
+        }
+    }
+
     public void initialize() {
         try {
             try {
@@ -59,9 +88,24 @@ class FileStorage extends LocalStorage {
 
     private void initDataset() {
         final Model model = RDFDataMgr.loadModel(location);
+        if (journal != null) {
+            replayJournal(model);
+            pendingChanges.clear();
+            model.register(pendingChanges);
+        }
         this.dataset = DatasetFactory.create(model);
     }
 
+    private void replayJournal(Model model) {
+        try {
+            journal.replay((removed, added) -> JournaledChanges.apply(model.getGraph(), removed, added));
+            this.committedJournalSize = journal.size();
+            this.uncommittedJournalSize = committedJournalSize;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
     private void tryCreatingFile() {
         final File file = new File(location);
         try {
@@ -76,14 +120,82 @@ class FileStorage extends LocalStorage {
 
     @Override
     public void writeChanges() throws JenaDriverException {
+        if (journal != null) {
+            appendToJournal();
+            return;
+        }
         try (final BufferedOutputStream out = new BufferedOutputStream(new FileOutputStream(location))) {
-            final String language = FileUtils.guessLang(location);
-            RDFDataMgr.write(out, dataset.getDefaultModel(), RDFLanguages.nameToLang(language));
+            RDFDataMgr.write(out, dataset.getDefaultModel(), fileLanguage());
         } catch (IOException e) {
             throw new JenaDriverException("Unable to write out dataset changes.", e);
         }
     }
 
+    private Lang fileLanguage() {
+        return RDFLanguages.nameToLang(FileUtils.guessLang(location));
+    }
+
+    private void appendToJournal() throws JenaDriverException {
+        if (pendingChanges.isEmpty()) {
+            return;
+        }
+        try {
+            this.uncommittedJournalSize =
+                    journal.append(pendingChanges.serializeRemoved(), pendingChanges.serializeAdded());
+            pendingChanges.clear();
+            if (!dataset.isInTransaction()) {
+                this.committedJournalSize = uncommittedJournalSize;
+            }
+            if (journal.isCompactionDue()) {
+                journal.scheduleCompaction(this::compactJournal);
+            }
+        } catch (IOException e) {
+            throw new JenaDriverException("Unable to write out dataset changes to journal.", e);
+        }
+    }
+
+    /**
+     * Folds the journal into the storage file.
+     * <p>
+     * The file is written from a read transaction, which sees at least the changes of all committed journal records.
+     */
+    private Void compactJournal() throws IOException {
+        final long upTo = committedJournalSize;
+        dataset.begin(ReadWrite.READ);
+        try {
+            journal.compact(upTo, out -> RDFDataMgr.write(out, dataset.getDefaultModel(), fileLanguage()));
+        } finally {
+            dataset.end();
+        }
+        return null;
+    }
+
+    @Override
+    public void commit() {
+        super.commit();
+        if (journal != null) {
+            this.committedJournalSize = uncommittedJournalSize;
+        }
+    }
+
+    @Override
+    public void rollback() {
+        pendingChanges.clear();
+        super.rollback();
+    }
+
+    @Override
+    public void close() {
+        if (journal != null) {
+            try {
+                journal.close();
+            } catch (IOException e) {
+                LOG.error("Unable to close change journal of file storage at {}.", location, e);
+            }
+        }
+        super.close();
+    }
+
     /**
      * Reloads data from the underlying file.
      */
@@ -15,23 +15,37 @@
 package cz.cvut.kbss.ontodriver.jena.connector;
 
 import cz.cvut.kbss.ontodriver.config.DriverConfiguration;
+import org.apache.jena.query.Dataset;
 
 import java.util.HashMap;
 import java.util.Map;
 
 public class InferenceConnectorFactory extends SharedConnectorBasedConnectorFactory {
 
-    private final Map<String, String> reasonerConfig;
+    private final SharedInferredGraphs sharedGraphs;
 
     public InferenceConnectorFactory(DriverConfiguration configuration, Map<String, String> reasonerConfig) {
         super(configuration);
-        this.reasonerConfig = new HashMap<>(reasonerConfig);
+        this.sharedGraphs = new SharedInferredGraphs(configuration, new HashMap<>(reasonerConfig),
+                () -> centralConnector.getStorage().getDataset());
     }
 
     @Override
     public StorageConnector createConnector() {
         ensureOpen();
-        return new SnapshotStorageConnectorWithInference(centralConnector, reasonerConfig);
+        return new SnapshotStorageConnectorWithInference(centralConnector, sharedGraphs);
+    }
+
+    @Override
+    public synchronized void reloadStorage() {
+        super.reloadStorage();
+        sharedGraphs.invalidate();
+    }
+
+    @Override
+    public void setDataset(Dataset dataset) {
+        super.setDataset(dataset);
+        sharedGraphs.invalidate();
     }
 
     @Override
@@ -0,0 +1,123 @@
+/**
+ * Copyright (C) 2023 Czech Technical University in Prague
+ *
+ * This program is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any
+ * later version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more
+ * details. You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package cz.cvut.kbss.ontodriver.jena.connector;
+
+import org.apache.jena.graph.Graph;
+import org.apache.jena.graph.GraphEvents;
+import org.apache.jena.graph.Triple;
+import org.apache.jena.rdf.listeners.StatementListener;
+import org.apache.jena.rdf.model.Model;
+import org.apache.jena.rdf.model.Statement;
+import org.apache.jena.riot.Lang;
+import org.apache.jena.riot.RDFParser;
+import org.apache.jena.riot.lang.LabelToNode;
+import org.apache.jena.riot.out.NodeFmtLib;
+import org.apache.jena.sparql.graph.GraphFactory;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * Tracks changes of a model between journal writes and (de)serializes them as change journal records.
+ * <p>
+ * Only the net changes are kept, i.e., a statement added and then removed again is recorded only as removed. Record
+ * payloads are N-Triples documents with blank node labels preserved. The removed payload may start with {@link
+ * #CLEAR_MARKER}, meaning the model was cleared before the removals were applied.
+ */
+class JournaledChanges extends StatementListener {
+
+    static final String CLEAR_MARKER = "# clear\n";
+
+    private final Set<Triple> added = new LinkedHashSet<>();
+    private final Set<Triple> removed = new LinkedHashSet<>();
+    private boolean cleared;
+
+    @Override
+    public synchronized void addedStatement(Statement s) {
+        final Triple t = s.asTriple();
+        removed.remove(t);
+        added.add(t);
+    }
+
+    @Override
+    public synchronized void removedStatement(Statement s) {
+        final Triple t = s.asTriple();
+        added.remove(t);
+        removed.add(t);
+    }
+
+    @Override
+    public synchronized void notifyEvent(Model m, Object event) {
+        // Clearing the model does not report the individual statements
+        if (event == GraphEvents.removeAll) {
+            clear();
+            this.cleared = true;
+        }
+    }
+
+    synchronized boolean isEmpty() {
+        return !cleared && added.isEmpty() && removed.isEmpty();
+    }
+
+    synchronized byte[] serializeRemoved() {
+        final StringBuilder sb = new StringBuilder(cleared ? CLEAR_MARKER : "");
+        return serialize(sb, removed);
+    }
+
+    synchronized byte[] serializeAdded() {
+        return serialize(new StringBuilder(), added);
+    }
+
+    private static byte[] serialize(StringBuilder sb, Set<Triple> triples) {
+        for (Triple t : triples) {
+            sb.append(NodeFmtLib.strNT(t.getSubject())).append(' ')
+              .append(NodeFmtLib.strNT(t.getPredicate())).append(' ')
+              .append(NodeFmtLib.strNT(t.getObject())).append(" .\n");
+        }
+        return sb.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    synchronized void clear() {
+        added.clear();
+        removed.clear();
+        this.cleared = false;
+    }
+
+    /**
+     * Applies a journal record to the specified graph.
+     *
+     * @param target  Graph to apply the record to
+     * @param removed Removed payload
+     * @param added   Added payload
+     */
+    static void apply(Graph target, byte[] removed, byte[] added) {
+        final byte[] marker = CLEAR_MARKER.getBytes(StandardCharsets.UTF_8);
+        if (removed.length >= marker.length && Arrays.equals(marker, Arrays.copyOf(removed, marker.length))) {
+            target.clear();
+        }
+        parse(removed).find().forEachRemaining(target::delete);
+        parse(added).find().forEachRemaining(target::add);
+    }
+
+    private static Graph parse(byte[] data) {
+        final Graph graph = GraphFactory.createDefaultGraph();
+        RDFParser.create().source(new ByteArrayInputStream(data)).lang(Lang.NTRIPLES)
+                 .labelToNode(LabelToNode.createUseLabelEncoded()).parse(graph);
+        return graph;
+    }
+}
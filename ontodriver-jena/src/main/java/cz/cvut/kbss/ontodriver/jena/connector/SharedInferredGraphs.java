@@ -0,0 +1,317 @@
+/**
+ * Copyright (C) 2023 Czech Technical University in Prague
+ *
+ * This program is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any
+ * later version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more
+ * details. You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package cz.cvut.kbss.ontodriver.jena.connector;
+
+import cz.cvut.kbss.ontodriver.config.DriverConfigParam;
+import cz.cvut.kbss.ontodriver.config.DriverConfiguration;
+import cz.cvut.kbss.ontodriver.jena.config.JenaConfigParam;
+import cz.cvut.kbss.ontodriver.jena.exception.JenaDriverException;
+import cz.cvut.kbss.ontodriver.jena.exception.ReasonerInitializationException;
+import org.apache.jena.query.Dataset;
+import org.apache.jena.rdf.model.InfModel;
+import org.apache.jena.rdf.model.Model;
+import org.apache.jena.rdf.model.ModelFactory;
+import org.apache.jena.rdf.model.Property;
+import org.apache.jena.reasoner.IllegalParameterException;
+import org.apache.jena.reasoner.Reasoner;
+import org.apache.jena.reasoner.ReasonerFactory;
+import org.apache.jena.system.Txn;
+import org.apache.jena.vocabulary.ReasonerVocabulary;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.*;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import static org.apache.jena.rdf.model.ResourceFactory.createProperty;
+
+/**
+ * Inference closure over the central data shared by all transactions of a connector factory.
+ * <p>
+ * Inferred models are created lazily for each context when first read and then kept up to date by applying the
+ * changes committed by transactions. The reasoner thus processes only the committed delta instead of the whole dataset
+ * (additions are propagated incrementally by the forward rule engine, removals make Jena re-prepare the closure on
+ * the next read).
+ * <p>
+ * Every change of the central data increments the version of the closure and records it as the last change of the
+ * affected contexts. A transaction may read the shared closure of a context only if the context has not changed since
+ * its snapshot was created, see {@link #read(long, String, Function)}. Commits to other contexts thus do not force
+ * older transactions to compute their own closure.
+ * <p>
+ * Reads share a read lock and may run concurrently, Jena inference graphs serialize their preparation and rule engine
+ * access internally. Updates take the write lock, so that they never modify a model being read.
+ */
+class SharedInferredGraphs {
+
+    private static final Logger LOG = LoggerFactory.getLogger(SharedInferredGraphs.class);
+
+    /**
+     * Configuration parameters supported by at least one of the Jena reasoners. Used to pre-filter reasoner config.
+     */
+    private static final Set<String> SUPPORTED_CONFIG = new HashSet<>(Arrays.asList(
+            ReasonerVocabulary.PROPderivationLogging.getURI(),
+            ReasonerVocabulary.PROPenableCMPScan.getURI(),
+            ReasonerVocabulary.PROPenableFunctorFiltering.getURI(),
+            ReasonerVocabulary.PROPenableOWLTranslation.getURI(),
+            ReasonerVocabulary.PROPenableTGCCaching.getURI(),
+            ReasonerVocabulary.PROPruleMode.getURI(),
+            ReasonerVocabulary.PROPruleSet.getURI(),
+            ReasonerVocabulary.PROPsetRDFSLevel.getURI(),
+            ReasonerVocabulary.PROPtraceOn.getURI()
+    ));
+
+    private final DriverConfiguration configuration;
+    private final Map<String, String> reasonerConfig;
+    private final Supplier<Dataset> centralData;
+    private final boolean defaultAsUnion;
+
+    private ReasonerFactory reasonerFactory;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // Key null represents the default graph. Guarded by itself, as readers create missing models
+    private final Map<String, InfModel> inferredGraphs = new HashMap<>();
+    // Version of the last change of each context, key null represents the default graph
+    private final Map<String, Long> contextVersions = new HashMap<>();
+    // Version of the last change affecting all contexts
+    private long invalidatedVersion;
+    private long version;
+
+    SharedInferredGraphs(DriverConfiguration configuration, Map<String, String> reasonerConfig,
+                         Supplier<Dataset> centralData) {
+        this.configuration = configuration;
+        this.reasonerConfig = reasonerConfig.entrySet().stream()
+                                            .filter(e -> SUPPORTED_CONFIG.contains(e.getKey()))
+                                            .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+        this.centralData = centralData;
+        this.defaultAsUnion = configuration.is(JenaConfigParam.TREAT_DEFAULT_GRAPH_AS_UNION);
+    }
+
+    /**
+     * Creates a new reasoner based on the configured reasoner factory.
+     * <p>
+     * The reasoner factory is resolved on first call.
+     *
+     * @return New reasoner instance
+     * @throws ReasonerInitializationException When the reasoner factory cannot be initialized
+     */
+    synchronized Reasoner createReasoner() {
+        if (reasonerFactory == null) {
+            this.reasonerFactory = initReasonerFactory(configuration);
+        }
+        final Reasoner reasoner = reasonerFactory.create(null);
+        reasonerConfig.forEach((key, value) -> {
+            final Property prop = createProperty(key);
+            try {
+                reasoner.setParameter(prop, value);
+            } catch (IllegalParameterException ex) {
+                LOG.error("Failed to set property " + prop + " on reasoner.", ex);
+            }
+        });
+        return reasoner;
+    }
+
+    private static ReasonerFactory initReasonerFactory(DriverConfiguration configuration) {
+        final String factoryClass = configuration.getProperty(DriverConfigParam.REASONER_FACTORY_CLASS, "");
+        LOG.trace("Creating reasoner using reasoner factory class {}.", factoryClass);
+        try {
+            final Class<? extends ReasonerFactory> rfClass =
+                    (Class<? extends ReasonerFactory>) Class.forName(factoryClass);
+            final Method instanceMethod = rfClass.getMethod("theInstance");
+            return (ReasonerFactory) instanceMethod.invoke(null);
+        } catch (ClassNotFoundException e) {
+            throw new ReasonerInitializationException("Reasoner factory class " + factoryClass + " not found.", e);
+        } catch (NoSuchMethodException e) {
+            throw new ReasonerInitializationException("Class " + factoryClass +
+                    " is not a ReasonerFactory implementation or does not contain static 'theInstance' method.");
+        } catch (IllegalAccessException | InvocationTargetException e) {
+            throw new ReasonerInitializationException(
+                    "Unable to instantiate Jena reasoner from factory " + factoryClass, e);
+        }
+    }
+
+    /**
+     * Gets the current version of the shared closure.
+     * <p>
+     * Transactions should retrieve the version before snapshotting the central data, so that a change committed in
+     * between is detected as a version mismatch.
+     *
+     * @return Current version
+     */
+    long getVersion() {
+        final Lock readLock = lock.readLock();
+        readLock.lock();
+        try {
+            return version;
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    /**
+     * Reads the inferred model of the specified context, provided the context has not changed since the specified
+     * version.
+     *
+     * @param expectedVersion Version of the central data the reader expects
+     * @param context         Context identifier, {@code null} represents the default graph
+     * @param reader          Function reading the inferred model. It must not leak the model or lazy iterators over
+     *                        it
+     * @param <T>             Read result type
+     * @return Result of the reader, empty if the context has changed since the expected version
+     */
+    <T> Optional<T> read(long expectedVersion, String context, Function<InfModel, T> reader) {
+        final Lock readLock = lock.readLock();
+        readLock.lock();
+        try {
+            if (expectedVersion < invalidatedVersion || expectedVersion < contextVersions.getOrDefault(context, 0L)) {
+                return Optional.empty();
+            }
+            final InfModel model;
+            synchronized (inferredGraphs) {
+                model = inferredGraphs.computeIfAbsent(context, this::createInferredGraph);
+            }
+            return Optional.of(reader.apply(model));
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    private InfModel createInferredGraph(String context) {
+        LOG.trace("Creating shared inferred graph for context {}.", context);
+        final Dataset central = centralData.get();
+        final Model data = ModelFactory.createDefaultModel();
+        Txn.executeRead(central, () -> data.add(context != null ? central.getNamedModel(context) :
+                                                central.getDefaultModel()));
+        return ModelFactory.createInfModel(createReasoner(), data);
+    }
+
+    /**
+     * Executes the specified update of the central data and applies the changes to the shared closure.
+     *
+     * @param centralUpdate Update of the central data
+     * @param added         Added statements
+     * @param removed       Removed statements
+     * @param invalidate    Whether the update contains changes not represented by {@code added} and {@code removed}
+     *                      (e.g., SPARQL updates), in which case the closure is discarded and recomputed on the next
+     *                      read
+     * @throws JenaDriverException When the update of central data fails
+     */
+    void update(CentralUpdate centralUpdate, Dataset added, Dataset removed, boolean invalidate)
+            throws JenaDriverException {
+        final Lock writeLock = lock.writeLock();
+        writeLock.lock();
+        try {
+            version++;
+            try {
+                centralUpdate.execute();
+            } catch (JenaDriverException | RuntimeException e) {
+                discardAll();
+                throw e;
+            }
+            // With default graph as union, removal from the default graph removes the statements also from named graphs
+            if (invalidate || (defaultAsUnion && !removed.getDefaultModel().isEmpty())) {
+                discardAll();
+                return;
+            }
+            markChanged(removed);
+            markChanged(added);
+            applyChanges(removed, (model, statements) -> model.remove(statements));
+            applyChanges(added, (model, statements) -> model.add(statements));
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private void discardAll() {
+        this.invalidatedVersion = version;
+        contextVersions.clear();
+        inferredGraphs.clear();
+    }
+
+    private void markChanged(Dataset changes) {
+        if (!changes.getDefaultModel().isEmpty()) {
+            contextVersions.put(null, version);
+        }
+        changes.listNames().forEachRemaining(n -> {
+            contextVersions.put(n, version);
+            // The default graph contains statements of the named graphs, its closure cannot be updated incrementally
+            if (defaultAsUnion) {
+                contextVersions.put(null, version);
+                inferredGraphs.remove(null);
+            }
+        });
+    }
+
+    private void applyChanges(Dataset changes, BiConsumer<InfModel, Model> applier) {
+        if (inferredGraphs.containsKey(null)) {
+            applier.accept(inferredGraphs.get(null), changes.getDefaultModel());
+        }
+        changes.listNames().forEachRemaining(n -> {
+            if (inferredGraphs.containsKey(n)) {
+                applier.accept(inferredGraphs.get(n), changes.getNamedModel(n));
+            }
+        });
+    }
+
+    /**
+     * Executes the specified update of the central data and discards the shared closure.
+     * <p>
+     * This is used for changes which cannot be applied to the closure incrementally (e.g., SPARQL updates).
+     *
+     * @param centralUpdate Update of the central data
+     * @throws JenaDriverException When the update of central data fails
+     */
+    void invalidate(CentralUpdate centralUpdate) throws JenaDriverException {
+        final Lock writeLock = lock.writeLock();
+        writeLock.lock();
+        try {
+            centralUpdate.execute();
+        } finally {
+            invalidate();
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Discards the shared closure, e.g., because the central data were reloaded.
+     */
+    void invalidate() {
+        final Lock writeLock = lock.writeLock();
+        writeLock.lock();
+        try {
+            version++;
+            discardAll();
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Update of the central data.
+     */
+    @FunctionalInterface
+    interface CentralUpdate {
+        void execute() throws JenaDriverException;
+    }
+
+}
@@ -24,6 +24,7 @@ import org.apache.jena.query.Dataset;
 import org.apache.jena.query.Query;
 import org.apache.jena.query.QueryExecution;
 import org.apache.jena.query.ReadWrite;
+import org.apache.jena.rdf.model.Model;
 import org.apache.jena.rdf.model.Property;
 import org.apache.jena.rdf.model.RDFNode;
 import org.apache.jena.rdf.model.Resource;
@@ -105,6 +106,35 @@ public class SharedStorageConnector extends AbstractStorageConnector {
         });
     }
 
+    @Override
+    public Collection<Statement> find(Collection<? extends Resource> subjects, Collection<String> contexts) {
+        ensureOpen();
+        return Txn.calculateRead(storage.getTransactional(), () -> find(storage, subjects, contexts));
+    }
+
+    /**
+     * Retrieves statements with the specified subjects from the specified graphs of the specified storage.
+     *
+     * @param storage  Storage to read
+     * @param subjects Statement subjects
+     * @param contexts Named graph IRIs, if empty, the default graph is used
+     * @return List of matching statements
+     */
+    static List<Statement> find(Storage storage, Collection<? extends Resource> subjects,
+                                Collection<String> contexts) {
+        final List<Statement> result = new ArrayList<>();
+        if (contexts.isEmpty()) {
+            final Model graph = storage.getDefaultGraph();
+            subjects.forEach(s -> graph.listStatements(s, null, (RDFNode) null).forEachRemaining(result::add));
+        } else {
+            for (String ctx : contexts) {
+                final Model graph = storage.getNamedGraph(ctx);
+                subjects.forEach(s -> graph.listStatements(s, null, (RDFNode) null).forEachRemaining(result::add));
+            }
+        }
+        return result;
+    }
+
     @Override
     public boolean contains(Resource subject, Property property, RDFNode value, Collection<String> contexts) {
         ensureOpen();
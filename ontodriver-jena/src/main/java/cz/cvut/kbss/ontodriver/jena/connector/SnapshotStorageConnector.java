@@ -18,13 +18,12 @@ import cz.cvut.kbss.ontodriver.Statement.StatementOntology;
 import cz.cvut.kbss.ontodriver.jena.config.JenaConfigParam;
 import cz.cvut.kbss.ontodriver.jena.exception.JenaDriverException;
 import cz.cvut.kbss.ontodriver.jena.query.AbstractResultSet;
-import org.apache.jena.query.Dataset;
+import cz.cvut.kbss.ontodriver.util.CommitPipeline;
 import org.apache.jena.query.Query;
 import org.apache.jena.rdf.model.Property;
 import org.apache.jena.rdf.model.RDFNode;
 import org.apache.jena.rdf.model.Resource;
 import org.apache.jena.rdf.model.Statement;
-import org.apache.jena.update.UpdateAction;
 
 import java.util.*;
 import java.util.stream.Collectors;
@@ -41,6 +40,7 @@ public class SnapshotStorageConnector extends SharedStorageConnector {
 
     private LocalModel transactionalChanges;
     private List<String> transactionalUpdates;
+    private CommitPipeline commitPipeline;
 
     SnapshotStorageConnector(AbstractStorageConnector centralConnector) {
         super(centralConnector.configuration);
@@ -69,31 +69,39 @@ public class SnapshotStorageConnector extends SharedStorageConnector {
     public void commit() throws JenaDriverException {
         ensureTransactionalState();
         transaction.commit();
+        this.commitPipeline = createCommitPipeline();
         try {
-            centralConnector.begin();
-            applyRemovals();
-            applyAdditions();
-            applyTransactionUpdateQueries();
-            centralConnector.commit();
+            commitToCentral();
         } finally {
+            commitFinished(commitPipeline.getTimings());
             cleanup();
             transaction.afterCommit();
         }
 
     }
 
-    private void applyRemovals() {
-        final Dataset removed = transactionalChanges.getRemoved();
-        centralConnector.remove(removed.getDefaultModel().listStatements().toList(), null);
-        removed.listNames()
-               .forEachRemaining(n -> centralConnector.remove(removed.getNamedModel(n).listStatements().toList(), n));
+    /**
+     * Applies the transactional changes to the central connector.
+     *
+     * @throws JenaDriverException When the changes cannot be committed
+     */
+    void commitToCentral() throws JenaDriverException {
+        centralConnector.begin();
+        mergeChanges(transactionalChanges, centralConnector, commitPipeline);
+        final long updateStart = System.nanoTime();
+        applyTransactionUpdateQueries();
+        final long commitStart = System.nanoTime();
+        commitPipeline.getTimings().record("update", commitStart - updateStart);
+        centralConnector.commit();
+        commitPipeline.getTimings().record("commit", System.nanoTime() - commitStart);
     }
 
-    private void applyAdditions() {
-        final Dataset added = transactionalChanges.getAdded();
-        centralConnector.add(added.getDefaultModel().listStatements().toList(), null);
-        added.listNames()
-             .forEachRemaining(n -> centralConnector.add(added.getNamedModel(n).listStatements().toList(), n));
+    LocalModel getTransactionalChanges() {
+        return transactionalChanges;
+    }
+
+    boolean hasTransactionalUpdates() {
+        return !transactionalUpdates.isEmpty();
     }
 
     private void applyTransactionUpdateQueries() throws JenaDriverException {
@@ -114,6 +122,7 @@ public class SnapshotStorageConnector extends SharedStorageConnector {
         this.storage = null;
         this.transactionalChanges = null;
         this.transactionalUpdates = null;
+        this.commitPipeline = null;
     }
 
     @Override
@@ -128,6 +137,12 @@ public class SnapshotStorageConnector extends SharedStorageConnector {
         }
     }
 
+    @Override
+    public List<Statement> find(Collection<? extends Resource> subjects, Collection<String> contexts) {
+        ensureTransactionalState();
+        return find(storage, subjects, contexts);
+    }
+
     @Override
     public boolean contains(Resource subject, Property property, RDFNode value, Collection<String> contexts) {
         ensureTransactionalState();
@@ -197,7 +212,7 @@ public class SnapshotStorageConnector extends SharedStorageConnector {
         if (target == StatementOntology.TRANSACTIONAL) {
             transaction.verifyActive();
             try {
-                UpdateAction.parseExecute(query, storage.getDataset());
+                storage.executeUpdate(query);
                 transactionalUpdates.add(query);
             } catch (RuntimeException e) {
                 throw new JenaDriverException("Execution of update " + query + " failed.", e);
@@ -14,6 +14,8 @@
  */
 package cz.cvut.kbss.ontodriver.jena.connector;
 
+import cz.cvut.kbss.ontodriver.Statement.StatementOntology;
+import cz.cvut.kbss.ontodriver.jena.exception.JenaDriverException;
 import org.apache.jena.rdf.model.Property;
 import org.apache.jena.rdf.model.RDFNode;
 import org.apache.jena.rdf.model.Resource;
@@ -21,29 +23,38 @@ import org.apache.jena.rdf.model.Statement;
 
 import java.util.Collection;
 import java.util.List;
-import java.util.Map;
 import java.util.stream.Collectors;
 
 /**
  * This connector implementation supports proper inference.
+ * <p>
+ * Inferred data are read from the closure shared by connectors of the same factory whenever the transaction snapshot
+ * allows it, see {@link SnapshotStorageWithInference}.
  */
 class SnapshotStorageConnectorWithInference extends SnapshotStorageConnector implements InferredStorageConnector {
 
-    private final Map<String, String> reasonerConfig;
+    private final SharedInferredGraphs sharedGraphs;
 
     SnapshotStorageConnectorWithInference(AbstractStorageConnector centralConnector,
-                                          Map<String, String> reasonerConfig) {
+                                          SharedInferredGraphs sharedGraphs) {
         super(centralConnector);
-        this.reasonerConfig = reasonerConfig;
+        this.sharedGraphs = sharedGraphs;
     }
 
     @Override
     void snapshotCentralDataset() {
-        final SnapshotStorageWithInference s = new SnapshotStorageWithInference(configuration, reasonerConfig);
+        final SnapshotStorageWithInference s = new SnapshotStorageWithInference(configuration, sharedGraphs);
         s.addCentralData(centralConnector.getStorage().getDataset());
         this.storage = s;
     }
 
+    @Override
+    void commitToCentral() throws JenaDriverException {
+        final LocalModel changes = getTransactionalChanges();
+        sharedGraphs.update(super::commitToCentral, changes.getAdded(), changes.getRemoved(),
+                hasTransactionalUpdates());
+    }
+
     @Override
     public List<Statement> find(Resource subject, Property property, RDFNode value, Collection<String> contexts) {
         ensureTransactionalState();
@@ -75,11 +86,12 @@ class SnapshotStorageConnectorWithInference extends SnapshotStorageConnector imp
     public List<Statement> findWithInference(Resource subject, Property property, RDFNode value,
                                              Collection<String> contexts) {
         ensureTransactionalState();
+        final SnapshotStorageWithInference s = (SnapshotStorageWithInference) storage;
         if (contexts.isEmpty()) {
-            return storage.getDefaultGraph().listStatements(subject, property, value).toList();
+            return s.readInferred(null, m -> m.listStatements(subject, property, value).toList());
         } else {
             return contexts.stream()
-                           .map(ctx -> storage.getNamedGraph(ctx).listStatements(subject, property, value).toList())
+                           .map(ctx -> s.readInferred(ctx, m -> m.listStatements(subject, property, value).toList()))
                            .flatMap(Collection::stream).collect(Collectors.toList());
         }
     }
@@ -88,10 +100,20 @@ class SnapshotStorageConnectorWithInference extends SnapshotStorageConnector imp
     public boolean containsWithInference(Resource subject, Property property, RDFNode value,
                                          Collection<String> contexts) {
         ensureTransactionalState();
+        final SnapshotStorageWithInference s = (SnapshotStorageWithInference) storage;
         if (contexts.isEmpty()) {
-            return storage.getDefaultGraph().contains(subject, property, value);
+            return s.readInferred(null, m -> m.contains(subject, property, value));
+        } else {
+            return contexts.stream().anyMatch(c -> s.readInferred(c, m -> m.contains(subject, property, value)));
+        }
+    }
+
+    @Override
+    public void executeUpdate(String query, StatementOntology target) throws JenaDriverException {
+        if (target == StatementOntology.TRANSACTIONAL) {
+            super.executeUpdate(query, target);
         } else {
-            return contexts.stream().anyMatch(c -> storage.getNamedGraph(c).contains(subject, property, value));
+            sharedGraphs.invalidate(() -> super.executeUpdate(query, target));
         }
     }
 
@@ -14,80 +14,48 @@
  */
 package cz.cvut.kbss.ontodriver.jena.connector;
 
-import cz.cvut.kbss.ontodriver.config.DriverConfigParam;
 import cz.cvut.kbss.ontodriver.config.DriverConfiguration;
-import cz.cvut.kbss.ontodriver.jena.exception.ReasonerInitializationException;
 import org.apache.jena.query.Dataset;
 import org.apache.jena.query.DatasetFactory;
 import org.apache.jena.rdf.model.InfModel;
 import org.apache.jena.rdf.model.Model;
 import org.apache.jena.rdf.model.ModelFactory;
-import org.apache.jena.rdf.model.Property;
-import org.apache.jena.reasoner.IllegalParameterException;
-import org.apache.jena.reasoner.Reasoner;
-import org.apache.jena.reasoner.ReasonerFactory;
+import org.apache.jena.rdf.model.Statement;
+import org.apache.jena.rdf.model.StmtIterator;
 import org.apache.jena.reasoner.ValidityReport;
 import org.apache.jena.system.Txn;
-import org.apache.jena.vocabulary.ReasonerVocabulary;
 
-import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
 import java.util.*;
-import java.util.stream.Collectors;
-
-import static org.apache.jena.rdf.model.ResourceFactory.createProperty;
+import java.util.function.Function;
 
+/**
+ * Snapshot of the central data supporting inference.
+ * <p>
+ * Inferred reads of contexts not modified by the transaction are served from the closure shared by all transactions
+ * (see {@link SharedInferredGraphs}), provided no other transaction has committed since this snapshot was created.
+ * Otherwise, they are served from inferred models bound to this snapshot. These are prepared by the reasoner lazily,
+ * on the first inferred read.
+ */
 class SnapshotStorageWithInference extends SnapshotStorage {
 
-    /**
-     * Configuration parameters supported by at least one of the Jena reasoners. Used to pre-filter reasoner config.
-     */
-    private static final Set<String> SUPPORTED_CONFIG = new HashSet<>(Arrays.asList(
-            ReasonerVocabulary.PROPderivationLogging.getURI(),
-            ReasonerVocabulary.PROPenableCMPScan.getURI(),
-            ReasonerVocabulary.PROPenableFunctorFiltering.getURI(),
-            ReasonerVocabulary.PROPenableOWLTranslation.getURI(),
-            ReasonerVocabulary.PROPenableTGCCaching.getURI(),
-            ReasonerVocabulary.PROPruleMode.getURI(),
-            ReasonerVocabulary.PROPruleSet.getURI(),
-            ReasonerVocabulary.PROPsetRDFSLevel.getURI(),
-            ReasonerVocabulary.PROPtraceOn.getURI()
-    ));
-
-    private final ReasonerFactory reasonerFactory;
-    private final Map<String, String> reasonerConfig;
+    private final SharedInferredGraphs sharedGraphs;
 
     private final Map<String, InfModel> inferredGraphs = new HashMap<>();
 
-    SnapshotStorageWithInference(DriverConfiguration configuration, Map<String, String> reasonerConfig) {
-        super(configuration);
-        this.reasonerFactory = initReasonerFactory(configuration);
-        this.reasonerConfig = reasonerConfig.entrySet().stream()
-                                            .filter(e -> SUPPORTED_CONFIG.contains(e.getKey()))
-                                            .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
-    }
+    private long sharedVersion;
+    // Contexts modified by the transaction, null represents the default graph
+    private final Set<String> changedContexts = new HashSet<>();
+    private boolean allChanged;
 
-    private static ReasonerFactory initReasonerFactory(DriverConfiguration configuration) {
-        final String factoryClass = configuration.getProperty(DriverConfigParam.REASONER_FACTORY_CLASS, "");
-        LOG.trace("Creating reasoner using reasoner factory class {}.", factoryClass);
-        try {
-            final Class<? extends ReasonerFactory> rfClass =
-                    (Class<? extends ReasonerFactory>) Class.forName(factoryClass);
-            final Method instanceMethod = rfClass.getMethod("theInstance");
-            return (ReasonerFactory) instanceMethod.invoke(null);
-        } catch (ClassNotFoundException e) {
-            throw new ReasonerInitializationException("Reasoner factory class " + factoryClass + " not found.", e);
-        } catch (NoSuchMethodException e) {
-            throw new ReasonerInitializationException("Class " + factoryClass +
-                    " is not a ReasonerFactory implementation or does not contain static 'theInstance' method.");
-        } catch (IllegalAccessException | InvocationTargetException e) {
-            throw new ReasonerInitializationException(
-                    "Unable to instantiate Jena reasoner from factory " + factoryClass, e);
-        }
+    SnapshotStorageWithInference(DriverConfiguration configuration, SharedInferredGraphs sharedGraphs) {
+        super(configuration);
+        this.sharedGraphs = sharedGraphs;
     }
 
     @Override
     void addCentralData(Dataset central) {
+        // Get version before copying the data so that concurrently committed changes are detected
+        this.sharedVersion = sharedGraphs.getVersion();
         Txn.executeRead(central, () -> {
             final Iterator<String> it = central.listNames();
             InfModel clonedModel = cloneModel(central.getDefaultModel());
@@ -107,7 +75,7 @@ class SnapshotStorageWithInference extends SnapshotStorage {
     }
 
     private InfModel cloneModel(Model model) {
-        return ModelFactory.createInfModel(createReasoner(), ModelFactory.createDefaultModel().add(model));
+        return ModelFactory.createInfModel(sharedGraphs.createReasoner(), ModelFactory.createDefaultModel().add(model));
     }
 
     @Override
@@ -115,19 +83,6 @@ class SnapshotStorageWithInference extends SnapshotStorage {
         return inferredGraphs.get(null);
     }
 
-    private Reasoner createReasoner() {
-        final Reasoner reasoner = reasonerFactory.create(null);
-        reasonerConfig.forEach((key, value) -> {
-            final Property prop = createProperty(key);
-            try {
-                reasoner.setParameter(prop, value);
-            } catch (IllegalParameterException ex) {
-                LOG.error("Failed to set property " + prop + " on reasoner.", ex);
-            }
-        });
-        return reasoner;
-    }
-
     Model getRawDefaultGraph() {
         return inferredGraphs.containsKey(null) ? inferredGraphs.get(null).getRawModel() : dataset.getDefaultModel();
     }
@@ -136,7 +91,8 @@ class SnapshotStorageWithInference extends SnapshotStorage {
     public InfModel getNamedGraph(String context) {
         return inferredGraphs.computeIfAbsent(context, c -> {
             // If the context does not exist, we need to create it, so that the default Dataset behavior is preserved
-            final InfModel model = ModelFactory.createInfModel(createReasoner(), ModelFactory.createDefaultModel());
+            final InfModel model =
+                    ModelFactory.createInfModel(sharedGraphs.createReasoner(), ModelFactory.createDefaultModel());
             dataset.addNamedModel(context, model);
             return model;
         });
@@ -147,7 +103,60 @@ class SnapshotStorageWithInference extends SnapshotStorage {
                dataset.getNamedModel(context);
     }
 
+    /**
+     * Reads inferred model of the specified context.
+     * <p>
+     * The shared closure is used if possible, otherwise the inferred model bound to this snapshot is read.
+     *
+     * @param context Context identifier, {@code null} represents the default graph
+     * @param reader  Function reading the model. It must not leak the model or lazy iterators over it
+     * @param <T>     Read result type
+     * @return Result of the reader
+     */
+    <T> T readInferred(String context, Function<InfModel, T> reader) {
+        if (!allChanged && !changedContexts.contains(context)) {
+            final Optional<T> result = sharedGraphs.read(sharedVersion, context, reader);
+            if (result.isPresent()) {
+                return result.get();
+            }
+        }
+        return reader.apply(context != null ? getNamedGraph(context) : getDefaultGraph());
+    }
+
     ValidityReport checkConsistency(String context) {
-        return context != null ? getNamedGraph(context).validate() : getDefaultGraph().validate();
+        return readInferred(context, InfModel::validate);
+    }
+
+    @Override
+    public void add(List<Statement> statements, String context) {
+        changedContexts.add(context);
+        super.add(statements, context);
+    }
+
+    @Override
+    public void remove(List<Statement> statements, String context) {
+        markRemoval(context);
+        super.remove(statements, context);
+    }
+
+    private void markRemoval(String context) {
+        // Removal from default graph may remove statements also from named graphs when default is treated as union
+        if (context == null && defaultAsUnion) {
+            this.allChanged = true;
+        } else {
+            changedContexts.add(context);
+        }
+    }
+
+    @Override
+    public void remove(StmtIterator iterator, String context) {
+        markRemoval(context);
+        super.remove(iterator, context);
+    }
+
+    @Override
+    public void executeUpdate(String update) {
+        this.allChanged = true;
+        super.executeUpdate(update);
     }
 }
@@ -59,6 +59,20 @@ public interface StorageConnector extends Closeable, Wrapper, StatementExecutor
      */
     Collection<Statement> find(Resource subject, Property property, RDFNode value, Collection<String> contexts);
 
+    /**
+     * Retrieves all statements with any of the specified subjects from the specified named graphs.
+     * <p>
+     * This is a bulk version of {@link #find(Resource, Property, RDFNode, Collection)} allowing to retrieve statements
+     * of multiple subjects in one storage access.
+     * <p>
+     * {@code contexts} are optional, their absence means that the default graph should be used.
+     *
+     * @param subjects Statement subjects
+     * @param contexts Named graph IRIs, optional. If empty, the default graph will be used
+     * @return Collection of matching statements
+     */
+    Collection<Statement> find(Collection<? extends Resource> subjects, Collection<String> contexts);
+
     /**
      * Checks whether the specified context (named graph) contains any statements matching the specified criteria.
      * <p>
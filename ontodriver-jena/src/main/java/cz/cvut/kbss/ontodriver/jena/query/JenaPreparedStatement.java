@@ -18,14 +18,30 @@ import cz.cvut.kbss.ontodriver.PreparedStatement;
 import cz.cvut.kbss.ontodriver.ResultSet;
 import cz.cvut.kbss.ontodriver.jena.connector.StatementExecutor;
 import cz.cvut.kbss.ontodriver.jena.exception.JenaDriverException;
+import cz.cvut.kbss.ontodriver.jena.util.JenaUtils;
 import cz.cvut.kbss.ontodriver.util.StatementHolder;
+import org.apache.jena.graph.Node;
+import org.apache.jena.query.Query;
+import org.apache.jena.sparql.core.Var;
+import org.apache.jena.sparql.syntax.syntaxtransform.QueryTransformOps;
+import org.apache.jena.sparql.util.FmtUtils;
 
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Objects;
 
 public class JenaPreparedStatement extends JenaStatement implements PreparedStatement {
 
     private final StatementHolder holder;
 
+    /**
+     * Parsed query, reused as long as the statement string does not change.
+     * <p>
+     * Bound values do not change the statement string, they are substituted into a copy of the parsed query.
+     */
+    private String parsedStatement;
+    private Query parsedQuery;
+
     public JenaPreparedStatement(StatementExecutor executor, String sparql) {
         super(executor);
         this.holder = new StatementHolder(sparql);
@@ -38,13 +54,38 @@ public class JenaPreparedStatement extends JenaStatement implements PreparedStat
     @Override
     public ResultSet executeQuery() throws JenaDriverException {
         ensureOpen();
-        return executeQuery(holder.assembleStatement());
+        final Query query = getParsedQuery();
+        final Map<String, Object> boundValues = holder.getBoundValues();
+        if (boundValues.isEmpty()) {
+            return executeParsedQuery(query);
+        }
+        final Map<Var, Node> substitutions = new HashMap<>(boundValues.size());
+        boundValues.forEach((name, value) -> substitutions.put(Var.alloc(name), toNode(value)));
+        return executeParsedQuery(QueryTransformOps.transform(query, substitutions));
+    }
+
+    private Query getParsedQuery() throws JenaDriverException {
+        final String statement = holder.assembleStatement();
+        if (!statement.equals(parsedStatement)) {
+            this.parsedQuery = parseQuery(statement);
+            this.parsedStatement = statement;
+        }
+        return parsedQuery;
+    }
+
+    private static Node toNode(Object value) {
+        return JenaUtils.valueToRdfNode(value).asNode();
     }
 
+    /**
+     * Executes the update.
+     * <p>
+     * Bound values are formatted into the update string, as updates are passed to the storage as strings.
+     */
     @Override
     public void executeUpdate() throws JenaDriverException {
         ensureOpen();
-        executeUpdate(holder.assembleStatement());
+        executeUpdate(holder.assembleStatement(value -> FmtUtils.stringForNode(toNode(value))));
     }
 
     @Override
@@ -55,6 +96,14 @@ public class JenaPreparedStatement extends JenaStatement implements PreparedStat
         holder.setParameter(binding, value.toString());
     }
 
+    @Override
+    public void bindValue(String binding, Object value) {
+        ensureOpen();
+        Objects.requireNonNull(binding);
+        Objects.requireNonNull(value);
+        holder.bindValue(binding, value);
+    }
+
     @Override
     public void clearParameters() {
         ensureOpen();
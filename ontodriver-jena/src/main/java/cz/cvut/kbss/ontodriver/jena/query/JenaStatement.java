@@ -40,7 +40,10 @@ public class JenaStatement implements Statement {
     @Override
     public ResultSet executeQuery(String sparql) throws JenaDriverException {
         ensureOpen();
-        final Query query = parseQuery(Objects.requireNonNull(sparql));
+        return executeParsedQuery(parseQuery(Objects.requireNonNull(sparql)));
+    }
+
+    ResultSet executeParsedQuery(Query query) throws JenaDriverException {
         closeCurrentResultSet();
         final AbstractResultSet resultSet;
         if (query.isAskType()) {
@@ -59,7 +62,7 @@ public class JenaStatement implements Statement {
         }
     }
 
-    private Query parseQuery(String sparql) throws JenaDriverException {
+    static Query parseQuery(String sparql) throws JenaDriverException {
         try {
             return QueryFactory.create(sparql);
         } catch (QueryParseException e) {
@@ -16,9 +16,12 @@ package cz.cvut.kbss.ontodriver.jena.query;
 
 
 import cz.cvut.kbss.jopa.datatype.DatatypeTransformer;
+import cz.cvut.kbss.jopa.datatype.xsd.XsdDatatypeMapper;
 import cz.cvut.kbss.ontodriver.exception.VariableNotBoundException;
+import cz.cvut.kbss.ontodriver.iteration.ColumnReader;
 import cz.cvut.kbss.ontodriver.jena.exception.JenaDriverException;
 import cz.cvut.kbss.ontodriver.jena.util.JenaUtils;
+import org.apache.jena.datatypes.RDFDatatype;
 import org.apache.jena.query.QueryExecution;
 import org.apache.jena.query.QuerySolution;
 import org.apache.jena.query.ResultSet;
@@ -27,12 +30,14 @@ import org.apache.jena.rdf.model.RDFNode;
 
 import java.net.URI;
 import java.util.Objects;
+import java.util.function.Function;
 
 public class SelectResultSet extends AbstractResultSet {
 
     private final QueryExecution execution;
     private final ResultSet jenaResult;
     private QuerySolution current;
+    private ValueConverter<?>[] converters;
 
     public SelectResultSet(QueryExecution execution, ResultSet jenaResult) {
         this.execution = execution;
@@ -193,7 +198,22 @@ public class SelectResultSet extends AbstractResultSet {
     public <T> T getObject(int variableIndex, Class<T> cls) throws JenaDriverException {
         ensureState();
         assert current != null;
-        return toObject(getCurrent(getVariableAt(variableIndex)), cls);
+        final RDFNode value = getCurrent(getVariableAt(variableIndex));
+        return converterFor(variableIndex, cls).convert(value);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> ValueConverter<T> converterFor(int variableIndex, Class<T> cls) {
+        if (converters == null) {
+            this.converters = new ValueConverter[jenaResult.getResultVars().size()];
+        }
+        final ValueConverter<?> converter = converters[variableIndex];
+        if (converter != null && converter.targetType == cls) {
+            return (ValueConverter<T>) converter;
+        }
+        final ValueConverter<T> newConverter = new ValueConverter<>(Objects.requireNonNull(cls));
+        converters[variableIndex] = newConverter;
+        return newConverter;
     }
 
     private static <T> T toObject(RDFNode value, Class<T> cls) {
@@ -223,6 +243,18 @@ public class SelectResultSet extends AbstractResultSet {
         return toObject(getCurrent(variableName), cls);
     }
 
+    @Override
+    public <T> ColumnReader<T> getColumnReader(int variableIndex, Class<T> cls) {
+        ensureOpen();
+        Objects.requireNonNull(cls);
+        final String variable = getVariableAt(variableIndex);
+        final ValueConverter<T> converter = new ValueConverter<>(cls);
+        return () -> {
+            ensureState();
+            return converter.convert(getCurrent(variable));
+        };
+    }
+
     @Override
     public short getShort(int variableIndex) throws JenaDriverException {
         ensureState();
@@ -290,4 +322,47 @@ public class SelectResultSet extends AbstractResultSet {
             throw new JenaDriverException("Unable to close result set.", e);
         }
     }
+
+    /**
+     * Converts values of one column to the target type.
+     * <p>
+     * The conversion is resolved for the first value and reused as long as the following values are of the same kind
+     * (node class and literal datatype).
+     */
+    private static final class ValueConverter<T> {
+
+        private final Class<T> targetType;
+
+        private Class<?> valueType;
+        private RDFDatatype datatype;
+        private boolean passThrough;
+        private Function<String, Object> lexicalMapper;
+
+        private ValueConverter(Class<T> targetType) {
+            this.targetType = targetType;
+        }
+
+        T convert(RDFNode value) {
+            final RDFDatatype valueDatatype = value.isLiteral() ? value.asLiteral().getDatatype() : null;
+            if (value.getClass() != valueType || valueDatatype != datatype) {
+                resolve(value.getClass(), valueDatatype);
+            }
+            if (passThrough) {
+                return targetType.cast(value);
+            }
+            if (lexicalMapper == null) {
+                return toObject(value, targetType);
+            }
+            return DatatypeTransformer.transform(lexicalMapper.apply(value.asLiteral().getLexicalForm()), targetType);
+        }
+
+        private void resolve(Class<?> valueType, RDFDatatype datatype) {
+            this.valueType = valueType;
+            this.datatype = datatype;
+            this.passThrough = targetType.isAssignableFrom(valueType);
+            this.lexicalMapper = datatype != null ?
+                                 XsdDatatypeMapper.getInstance().getLexicalMapper(datatype.getURI()).orElse(null) :
+                                 null;
+        }
+    }
 }
@@ -51,17 +51,29 @@ public class JenaUtils {
      */
     public static <T> RDFNode valueToRdfNode(Assertion assertion, Value<T> value) {
         final T val = value.getValue();
+        Objects.requireNonNull(val);
+        if (val instanceof String && assertion.hasLanguage()) {
+            return ResourceFactory.createLangLiteral((String) val, assertion.getLanguage());
+        }
+        return valueToRdfNode(val);
+    }
+
+    /**
+     * Transforms the specified value to an {@link RDFNode}, be it a resource or a literal.
+     * <p>
+     * Strings are transformed to simple literals.
+     *
+     * @param val Value to transform
+     * @return Jena RDFNode
+     */
+    public static RDFNode valueToRdfNode(Object val) {
         Objects.requireNonNull(val);
         if (IdentifierUtils.isResourceIdentifierType(val.getClass())) {
-            return ResourceFactory.createResource(value.stringValue());
+            return ResourceFactory.createResource(val.toString());
         } else if (val instanceof LangString) {
             final LangString langString = (LangString) val;
             return langString.getLanguage().map(lang -> ResourceFactory.createLangLiteral(langString.getValue(), lang))
                              .orElseGet(() -> ResourceFactory.createTypedLiteral(langString.getValue()));
-        } else if (val instanceof String) {
-            return assertion.hasLanguage() ? ResourceFactory.createLangLiteral((String) val,
-                                                                               assertion.getLanguage()) :
-                   ResourceFactory.createTypedLiteral(val);
         } else if (val instanceof cz.cvut.kbss.ontodriver.model.Literal) {
             final cz.cvut.kbss.ontodriver.model.Literal ontoLiteral = (cz.cvut.kbss.ontodriver.model.Literal) val;
             return createLiteral(ontoLiteral);
@@ -15,8 +15,9 @@
 package cz.cvut.kbss.ontodriver.jena.util;
 
 import cz.cvut.kbss.ontodriver.exception.IdentifierGenerationException;
+import cz.cvut.kbss.ontodriver.identifier.IdentifierGenerator;
+import cz.cvut.kbss.ontodriver.identifier.RandomIdentifierGenerator;
 import cz.cvut.kbss.ontodriver.jena.connector.StorageConnector;
-import cz.cvut.kbss.ontodriver.util.IdentifierUtils;
 import cz.cvut.kbss.ontodriver.util.Vocabulary;
 import org.apache.jena.rdf.model.Property;
 import org.apache.jena.rdf.model.RDFNode;
@@ -25,30 +26,41 @@ import org.apache.jena.rdf.model.ResourceFactory;
 import java.net.URI;
 import java.util.Collections;
 
-public class IdentifierGenerator {
+public class UniqueIdentifierGenerator {
 
     private static final int GENERATOR_THRESHOLD = 64;
 
     private final StorageConnector storageConnector;
+    private final IdentifierGenerator identifierGenerator;
 
-    public IdentifierGenerator(StorageConnector storageConnector) {
+    public UniqueIdentifierGenerator(StorageConnector storageConnector) {
+        this(storageConnector, new RandomIdentifierGenerator());
+    }
+
+    public UniqueIdentifierGenerator(StorageConnector storageConnector, IdentifierGenerator identifierGenerator) {
         this.storageConnector = storageConnector;
+        this.identifierGenerator = identifierGenerator;
     }
 
     /**
      * Generates a unique identifier based on the specified class URI.
+     * <p>
+     * If the underlying generator guarantees uniqueness, the generated identifier is not checked against the storage.
      *
      * @param classUri Type URI, used as the identifier base
      * @return Generated identifier
      */
     public URI generateIdentifier(URI classUri) {
+        if (identifierGenerator.guaranteesUniqueness()) {
+            return identifierGenerator.generateIdentifier(classUri);
+        }
         int i = 0;
         boolean exists;
         final Property property = ResourceFactory.createProperty(Vocabulary.RDF_TYPE);
         final RDFNode type = ResourceFactory.createResource(classUri.toString());
         URI result;
         do {
-            result = IdentifierUtils.generateIdentifier(classUri);
+            result = identifierGenerator.generateIdentifier(classUri);
             exists = storageConnector.contains(ResourceFactory.createResource(result.toString()), property, type,
                     Collections.emptySet());
             i++;
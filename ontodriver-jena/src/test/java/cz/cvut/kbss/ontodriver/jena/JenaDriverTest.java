@@ -99,6 +99,14 @@ public class JenaDriverTest {
         assertTrue(getConnectorFactory() instanceof SnapshotConnectorFactory);
     }
 
+    @Test
+    void initCreatesDeltaSnapshotConnectorFactoryWhenConfigured() throws Exception {
+        properties.put(JenaOntoDriverProperties.JENA_ISOLATION_STRATEGY, JenaOntoDriverProperties.DELTA_SNAPSHOT);
+        this.driver = new JenaDriver(storageProps, properties);
+        assertTrue(driver.isOpen());
+        assertTrue(getConnectorFactory() instanceof DeltaSnapshotConnectorFactory);
+    }
+
     @Test
     public void initCreatesInferenceConnectorFactoryWhenReasonerFactoryIsConfigured() throws Exception {
         properties.put(OntoDriverProperties.REASONER_FACTORY_CLASS, RDFSRuleReasonerFactory.class.getName());
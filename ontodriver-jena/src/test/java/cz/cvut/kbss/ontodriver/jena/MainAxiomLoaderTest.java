@@ -29,8 +29,11 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.net.URI;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Map;
 
 import static org.apache.jena.rdf.model.ResourceFactory.*;
 import static org.junit.jupiter.api.Assertions.*;
@@ -105,6 +108,30 @@ public class MainAxiomLoaderTest {
         assertTrue(result.contains(inferred));
     }
 
+    @Test
+    void findAllRetrievesStatementsOfAllSubjectsInBulkAndGroupsAxiomsBySubject() {
+        final NamedResource subjectTwo = NamedResource.create(Generator.generateUri());
+        final Resource subjectTwoRes = createResource(subjectTwo.getIdentifier().toString());
+        final Assertion assertion = Assertion.createObjectPropertyAssertion(URI.create(PROPERTY.getURI()), false);
+        when(connectorMock.find(anyCollection(), eq(Collections.emptySet()))).thenReturn(Arrays.asList(
+                createStatement(SUBJECT_RES, PROPERTY, OBJECT_RES),
+                createStatement(subjectTwoRes, PROPERTY, OBJECT_RES)
+        ));
+        final AxiomDescriptor descriptorOne = new AxiomDescriptor(SUBJECT);
+        descriptorOne.addAssertion(assertion);
+        final AxiomDescriptor descriptorTwo = new AxiomDescriptor(subjectTwo);
+        descriptorTwo.addAssertion(assertion);
+
+        final Map<NamedResource, Collection<Axiom<?>>> result = sut.find(Arrays.asList(descriptorOne, descriptorTwo));
+        assertEquals(2, result.size());
+        assertEquals(Collections.singletonList(new AxiomImpl<>(SUBJECT, assertion, new Value<>(OBJECT))),
+                new ArrayList<>(result.get(SUBJECT)));
+        assertEquals(Collections.singletonList(new AxiomImpl<>(subjectTwo, assertion, new Value<>(OBJECT))),
+                new ArrayList<>(result.get(subjectTwo)));
+        verify(connectorMock).find(anyCollection(), eq(Collections.emptySet()));
+        verify(connectorMock, never()).find(any(Resource.class), any(), any(), anySet());
+    }
+
     @Test
     void isInferredChecksWhetherInferredLoaderContainsAndAssertedDoesNotContainSpecifiedAxiom() {
         final URI ctx = Generator.generateUri();
@@ -15,6 +15,7 @@
 package cz.cvut.kbss.ontodriver.jena.connector;
 
 import cz.cvut.kbss.ontodriver.Statement.StatementOntology;
+import cz.cvut.kbss.ontodriver.config.DriverConfigParam;
 import cz.cvut.kbss.ontodriver.config.DriverConfiguration;
 import cz.cvut.kbss.ontodriver.jena.environment.Generator;
 import cz.cvut.kbss.ontodriver.jena.exception.JenaDriverException;
@@ -30,6 +31,7 @@ import org.junit.jupiter.api.Test;
 
 import java.lang.reflect.Field;
 import java.util.Collection;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 
@@ -297,6 +299,27 @@ public class ChangeTrackingStorageConnectorTest {
                 createResource(TYPE_TWO), Collections.singleton(NAMED_GRAPH)));
     }
 
+    @Test
+    public void commitWritesChangesToCentralConnectorInChunks() throws Exception {
+        centralConnector.configuration.setProperty(DriverConfigParam.COMMIT_CHUNK_SIZE, "2");
+        connector.begin();
+        final List<Statement> added = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            added.add(createStatement(createResource(Generator.generateUri().toString()),
+                    createProperty(Vocabulary.RDF_TYPE), createResource(TYPE_ONE)));
+        }
+        getLocalModel().addStatements(added, NAMED_GRAPH);
+        connector.commit();
+
+        verify(centralConnector, times(3)).add(anyList(), eq(NAMED_GRAPH));
+        for (Statement s : added) {
+            assertTrue(centralConnector.contains(s.getSubject(), s.getPredicate(), s.getObject(),
+                    Collections.singleton(NAMED_GRAPH)));
+        }
+        assertNotNull(connector.getLastCommitTimings());
+        assertTrue(connector.getLastCommitTimings().getPhases().containsKey("add"));
+    }
+
     @Test
     public void commitDiscardsLocalModelOnSuccessfulFinish() throws Exception {
         connector.begin();
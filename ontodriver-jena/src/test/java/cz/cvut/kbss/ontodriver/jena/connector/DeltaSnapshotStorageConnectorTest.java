@@ -0,0 +1,198 @@
+/**
+ * Copyright (C) 2023 Czech Technical University in Prague
+ *
+ * This program is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any
+ * later version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more
+ * details. You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package cz.cvut.kbss.ontodriver.jena.connector;
+
+import cz.cvut.kbss.ontodriver.config.DriverConfiguration;
+import cz.cvut.kbss.ontodriver.util.Vocabulary;
+import org.apache.jena.query.Dataset;
+import org.apache.jena.rdf.model.Statement;
+import org.apache.jena.vocabulary.RDF;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.concurrent.CompletableFuture;
+
+import static cz.cvut.kbss.ontodriver.jena.connector.StorageTestUtil.*;
+import static org.apache.jena.rdf.model.ResourceFactory.createResource;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
+
+public class DeltaSnapshotStorageConnectorTest {
+
+    private SharedStorageConnector centralConnector;
+    private CommitLog commitLog;
+    private DeltaSnapshotStorageConnector connector;
+
+    @BeforeEach
+    public void setUp() {
+        final DriverConfiguration configuration = StorageTestUtil.createConfiguration("test:uri");
+        this.centralConnector = spy(new SharedStorageConnector(configuration));
+        this.commitLog = new CommitLog();
+        this.connector = new DeltaSnapshotStorageConnector(centralConnector, commitLog);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        connector.close();
+        centralConnector.close();
+    }
+
+    @Test
+    void beginDoesNotCopyCentralStorageNorKeepTransactionOpenOnIt() {
+        generateTestData(centralConnector.getStorage().getDataset());
+        connector.begin();
+        assertFalse(centralConnector.getStorage().getDataset().isInTransaction());
+        assertTrue(connector.contains(createResource(SUBJECT), null, null, Collections.emptySet()));
+        assertFalse(centralConnector.getStorage().getDataset().isInTransaction());
+        verify(centralConnector, never()).begin();
+    }
+
+    @Test
+    void findDoesNotSeeChangesCommittedByOtherThreadsAfterTransactionStart() throws Exception {
+        connector.begin();
+        final Statement statement = statement(SUBJECT, Vocabulary.RDF_TYPE, TYPE_ONE);
+        final DeltaSnapshotStorageConnector other = new DeltaSnapshotStorageConnector(centralConnector, commitLog);
+        CompletableFuture.runAsync(() -> {
+            try {
+                other.begin();
+                other.add(Collections.singletonList(statement), null);
+                other.commit();
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        }).get();
+
+        assertTrue(connector.find(createResource(SUBJECT), null, null, Collections.emptySet()).isEmpty());
+        assertFalse(connector.contains(createResource(SUBJECT), null, null, Collections.emptySet()));
+        connector.rollback();
+        connector.begin();
+        assertEquals(Collections.singleton(statement),
+                new HashSet<>(connector.find(createResource(SUBJECT), null, null, Collections.emptySet())));
+    }
+
+    @Test
+    void connectorsCommittingInSameThreadReadSnapshotsTakenAtTheirTransactionStart() throws Exception {
+        final Dataset dataset = centralConnector.getStorage().getDataset();
+        generateTestData(dataset);
+        final Statement existing = statement(SUBJECT, Vocabulary.RDF_TYPE, TYPE_ONE);
+        final Statement added = statement(SUBJECT, Vocabulary.RDF_TYPE, TYPE_TWO);
+        final DeltaSnapshotStorageConnector other = new DeltaSnapshotStorageConnector(centralConnector, commitLog);
+        connector.begin();
+        other.begin();
+        other.remove(Collections.singletonList(existing), null);
+        other.add(Collections.singletonList(added), null);
+        other.commit();
+        assertFalse(dataset.isInTransaction());
+
+        final Collection<Statement> result =
+                connector.find(createResource(SUBJECT), null, null, Collections.emptySet());
+        assertTrue(result.contains(existing));
+        assertFalse(result.contains(added));
+        assertTrue(connector.contains(createResource(SUBJECT), RDF.type, createResource(TYPE_ONE),
+                Collections.emptySet()));
+        assertFalse(connector.contains(createResource(SUBJECT), RDF.type, createResource(TYPE_TWO),
+                Collections.emptySet()));
+        assertTrue(connector.find(Collections.singleton(createResource(SUBJECT)), Collections.emptySet())
+                            .contains(existing));
+
+        final String typeThree = "http://onto.fel.cvut.cz/ontologies/jena-driver/TypeThree";
+        final Statement third = statement(SUBJECT, Vocabulary.RDF_TYPE, typeThree);
+        connector.add(Collections.singletonList(third), null);
+        connector.commit();
+        assertFalse(dataset.isInTransaction());
+        assertTrue(centralConnector.contains(createResource(SUBJECT), RDF.type, createResource(TYPE_TWO),
+                Collections.emptySet()));
+        assertTrue(centralConnector.contains(createResource(SUBJECT), RDF.type,
+                createResource(typeThree), Collections.emptySet()));
+        assertFalse(centralConnector.contains(createResource(SUBJECT), RDF.type,
+                createResource(TYPE_ONE), Collections.emptySet()));
+    }
+
+    @Test
+    void findMergesTransactionalChangesOverSnapshot() {
+        generateTestData(centralConnector.getStorage().getDataset());
+        connector.begin();
+        final Statement added = statement(SUBJECT, Vocabulary.RDF_TYPE, TYPE_TWO);
+        final Statement removed = statement(SUBJECT, Vocabulary.RDF_TYPE, TYPE_ONE);
+        connector.add(Collections.singletonList(added), null);
+        connector.remove(Collections.singletonList(removed), null);
+
+        final Collection<Statement> result =
+                connector.find(createResource(SUBJECT), null, null, Collections.emptySet());
+        assertEquals(Collections.singleton(added), new HashSet<>(result));
+    }
+
+    @Test
+    void commitWritesChangesIntoCentralConnector() throws Exception {
+        connector.begin();
+        final Statement added = statement(SUBJECT, Vocabulary.RDF_TYPE, TYPE_ONE);
+        connector.add(Collections.singletonList(added), null);
+        connector.commit();
+
+        verify(centralConnector).begin();
+        verify(centralConnector).add(Collections.singletonList(added), null);
+        verify(centralConnector).commit();
+        assertTrue(centralConnector.contains(createResource(SUBJECT), null, null, Collections.emptySet()));
+    }
+
+    @Test
+    void commitReadsCentralStateForUndoRecordWithOneQueryPerContext() throws Exception {
+        generateTestData(centralConnector.getStorage().getDataset());
+        final DeltaSnapshotStorageConnector other = new DeltaSnapshotStorageConnector(centralConnector, commitLog);
+        connector.begin();
+        other.begin();
+        final Statement existing = statement(SUBJECT, Vocabulary.RDF_TYPE, TYPE_ONE);
+        final Statement added = statement(SUBJECT, Vocabulary.RDF_TYPE, TYPE_TWO);
+        other.remove(Collections.singletonList(existing), null);
+        other.add(Collections.singletonList(added), null);
+        other.add(Collections.singletonList(added), NAMED_GRAPH);
+        other.commit();
+
+        verify(centralConnector, never()).contains(any(), any(), any(), anyCollection());
+        verify(centralConnector).find(anyCollection(), eq(Collections.emptySet()));
+        verify(centralConnector).find(anyCollection(), eq(Collections.singleton(NAMED_GRAPH)));
+        final Collection<Statement> result =
+                connector.find(createResource(SUBJECT), null, null, Collections.emptySet());
+        assertTrue(result.contains(existing));
+        assertFalse(result.contains(added));
+        // The statement already existed in the named graph, so the commit did not add it there
+        assertTrue(connector.find(createResource(SUBJECT), null, null, Collections.singleton(NAMED_GRAPH))
+                            .contains(added));
+    }
+
+    @Test
+    void transactionStartedAfterCommitSeesCommittedChanges() throws Exception {
+        final DeltaSnapshotStorageConnector other = new DeltaSnapshotStorageConnector(centralConnector, commitLog);
+        connector.begin();
+        other.begin();
+        final Statement added = statement(SUBJECT, Vocabulary.RDF_TYPE, TYPE_ONE);
+        other.add(Collections.singletonList(added), null);
+        other.commit();
+        other.begin();
+
+        assertTrue(other.contains(createResource(SUBJECT), null, null, Collections.emptySet()));
+        assertFalse(connector.contains(createResource(SUBJECT), null, null, Collections.emptySet()));
+        other.rollback();
+    }
+}
@@ -14,6 +14,9 @@
  */
 package cz.cvut.kbss.ontodriver.jena.connector;
 
+import cz.cvut.kbss.ontodriver.config.DriverConfigParam;
+import cz.cvut.kbss.ontodriver.config.DriverConfiguration;
+import cz.cvut.kbss.ontodriver.util.ChangeJournal;
 import org.apache.jena.query.Dataset;
 import org.apache.jena.query.ReadWrite;
 import org.apache.jena.rdf.model.Model;
@@ -122,4 +125,77 @@ public class FileStorageTest extends StorageTestUtil {
         final IllegalStateException ex = assertThrows(IllegalStateException.class, storage::reload);
         assertThat(ex.getMessage(), containsString("Cannot reload storage which is in transaction"));
     }
+
+    @Test
+    public void writeChangesAppendsChangesToJournalWhenJournalIsEnabled() throws Exception {
+        final File file = Files.createTempFile("jena-onto", ".ttl").toFile();
+        file.deleteOnExit();
+        final File journalFile = new File(file.getAbsolutePath() + ChangeJournal.JOURNAL_SUFFIX);
+        journalFile.deleteOnExit();
+        final LocalStorage storage = new FileStorage(createJournaledConfiguration(file.getAbsolutePath()));
+        storage.begin(ReadWrite.WRITE);
+        storage.getDataset().getDefaultModel()
+               .add(createStatement(createResource(SUBJECT), RDF.type, createResource(TYPE_ONE)));
+        storage.writeChanges();
+        storage.commit();
+
+        assertEquals(0, file.length());
+        assertTrue(journalFile.length() > 0);
+        storage.close();
+    }
+
+    private static DriverConfiguration createJournaledConfiguration(String filePath) {
+        final DriverConfiguration configuration = createConfiguration(filePath);
+        configuration.setProperty(DriverConfigParam.CHANGE_JOURNAL, Boolean.TRUE.toString());
+        return configuration;
+    }
+
+    @Test
+    public void initializationReplaysJournaledChanges() throws Exception {
+        final File file = Files.createTempFile("jena-onto", ".ttl").toFile();
+        file.deleteOnExit();
+        new File(file.getAbsolutePath() + ChangeJournal.JOURNAL_SUFFIX).deleteOnExit();
+        final Resource subj = createResource(SUBJECT);
+        final LocalStorage storage = new FileStorage(createJournaledConfiguration(file.getAbsolutePath()));
+        storage.begin(ReadWrite.WRITE);
+        storage.getDataset().getDefaultModel().add(createStatement(subj, RDF.type, createResource(TYPE_ONE)));
+        storage.getDataset().getDefaultModel().add(createStatement(subj, RDF.type, createResource(TYPE_TWO)));
+        storage.writeChanges();
+        storage.commit();
+        storage.begin(ReadWrite.WRITE);
+        storage.getDataset().getDefaultModel().remove(createStatement(subj, RDF.type, createResource(TYPE_ONE)));
+        storage.writeChanges();
+        storage.commit();
+        storage.close();
+        // The storage file was not rewritten, the data are only in the journal
+        assertEquals(0, file.length());
+
+        final LocalStorage reopened = new FileStorage(createJournaledConfiguration(file.getAbsolutePath()));
+        assertFalse(reopened.getDefaultGraph().contains(subj, RDF.type, createResource(TYPE_ONE)));
+        assertTrue(reopened.getDefaultGraph().contains(subj, RDF.type, createResource(TYPE_TWO)));
+        reopened.close();
+    }
+
+    @Test
+    public void commitCompactsJournalIntoStorageFileWhenJournalExceedsThreshold() throws Exception {
+        final File file = Files.createTempFile("jena-onto", ".ttl").toFile();
+        file.deleteOnExit();
+        new File(file.getAbsolutePath() + ChangeJournal.JOURNAL_SUFFIX).deleteOnExit();
+        final DriverConfiguration configuration = createJournaledConfiguration(file.getAbsolutePath());
+        configuration.setProperty(DriverConfigParam.JOURNAL_COMPACTION_THRESHOLD, "1");
+        final Resource subj = createResource(SUBJECT);
+        final LocalStorage storage = new FileStorage(configuration);
+        storage.begin(ReadWrite.WRITE);
+        storage.getDataset().getDefaultModel().add(createStatement(subj, RDF.type, createResource(TYPE_ONE)));
+        storage.writeChanges();
+        storage.commit();
+        // Waits for the background compaction to finish
+        storage.close();
+
+        final Model model = RDFDataMgr.loadModel(file.getAbsolutePath());
+        assertTrue(model.contains(subj, RDF.type, createResource(TYPE_ONE)));
+        final LocalStorage reopened = new FileStorage(createJournaledConfiguration(file.getAbsolutePath()));
+        assertTrue(reopened.getDefaultGraph().contains(subj, RDF.type, createResource(TYPE_ONE)));
+        reopened.close();
+    }
 }
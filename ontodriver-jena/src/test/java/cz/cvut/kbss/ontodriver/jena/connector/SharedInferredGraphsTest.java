@@ -0,0 +1,196 @@
+/**
+ * Copyright (C) 2023 Czech Technical University in Prague
+ *
+ * This program is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any
+ * later version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more
+ * details. You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package cz.cvut.kbss.ontodriver.jena.connector;
+
+import cz.cvut.kbss.ontodriver.config.DriverConfigParam;
+import cz.cvut.kbss.ontodriver.config.DriverConfiguration;
+import cz.cvut.kbss.ontodriver.jena.environment.Generator;
+import cz.cvut.kbss.ontodriver.jena.exception.JenaDriverException;
+import cz.cvut.kbss.ontodriver.jena.exception.ReasonerInitializationException;
+import org.apache.jena.query.Dataset;
+import org.apache.jena.query.DatasetFactory;
+import org.apache.jena.rdf.model.InfModel;
+import org.apache.jena.rdf.model.Model;
+import org.apache.jena.rdf.model.ModelFactory;
+import org.apache.jena.reasoner.Reasoner;
+import org.apache.jena.reasoner.rulesys.OWLFBRuleReasoner;
+import org.apache.jena.reasoner.rulesys.OWLFBRuleReasonerFactory;
+import org.apache.jena.reasoner.rulesys.RDFSRuleReasoner;
+import org.apache.jena.reasoner.rulesys.RDFSRuleReasonerFactory;
+import org.apache.jena.vocabulary.RDF;
+import org.apache.jena.vocabulary.RDFS;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.Optional;
+import java.util.function.Function;
+
+import static cz.cvut.kbss.ontodriver.jena.connector.StorageTestUtil.*;
+import static org.apache.jena.rdf.model.ResourceFactory.createResource;
+import static org.hamcrest.CoreMatchers.containsString;
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SharedInferredGraphsTest {
+
+    private DriverConfiguration configuration;
+
+    private Dataset central;
+
+    private SharedInferredGraphs sut;
+
+    @BeforeEach
+    public void setUp() {
+        this.configuration = createConfiguration("urn:storage-test");
+        configuration.setProperty(DriverConfigParam.REASONER_FACTORY_CLASS, RDFSRuleReasonerFactory.class.getName());
+        this.central = DatasetFactory.createTxnMem();
+        central.setDefaultModel(getModelForInference());
+        this.sut = new SharedInferredGraphs(configuration, Collections.emptyMap(), () -> central);
+    }
+
+    private static Model getModelForInference() {
+        final Model model = ModelFactory.createDefaultModel();
+        model.add(statement(TYPE_ONE, RDFS.subClassOf.getURI(), TYPE_TWO));
+        model.add(statement(SUBJECT, RDF.type.getURI(), TYPE_ONE));
+        return model;
+    }
+
+    @Test
+    public void createReasonerCreatesRDFSReasonerBasedOnConfiguredReasonerFactoryClass() {
+        assertInstanceOf(RDFSRuleReasoner.class, sut.createReasoner());
+    }
+
+    @Test
+    public void createReasonerCreatesOWLReasonerBasedOnConfiguredReasonerFactoryClass() {
+        configuration.setProperty(DriverConfigParam.REASONER_FACTORY_CLASS, OWLFBRuleReasonerFactory.class.getName());
+        final Reasoner result = sut.createReasoner();
+        assertInstanceOf(OWLFBRuleReasoner.class, result);
+    }
+
+    @Test
+    public void createReasonerThrowsReasonerInitializationExceptionWhenUnknownReasonerFactoryClassIsSpecified() {
+        configuration.setProperty(DriverConfigParam.REASONER_FACTORY_CLASS,
+                "cz.cvut.kbss.ontodriver.jena.UnknownReasonerFactory");
+        final ReasonerInitializationException ex =
+                assertThrows(ReasonerInitializationException.class, () -> sut.createReasoner());
+        assertThat(ex.getCause(), instanceOf(ClassNotFoundException.class));
+        assertThat(ex.getMessage(), containsString("Reasoner factory class"));
+        assertThat(ex.getMessage(), containsString("not found"));
+    }
+
+    @Test
+    public void createReasonerThrowsReasonerInitializationExceptionWhenClassIsNotReasonerFactory() {
+        configuration.setProperty(DriverConfigParam.REASONER_FACTORY_CLASS, String.class.getName());
+        final ReasonerInitializationException ex =
+                assertThrows(ReasonerInitializationException.class, () -> sut.createReasoner());
+        assertThat(ex.getMessage(),
+                containsString("Class " + String.class.getName() + " is not a ReasonerFactory implementation"));
+    }
+
+    @Test
+    public void readReturnsResultOfReadingInferredModelOfCentralData() {
+        final Optional<Boolean> result = sut.read(sut.getVersion(), null,
+                m -> m.contains(createResource(SUBJECT), RDF.type, createResource(TYPE_TWO)));
+        assertTrue(result.isPresent());
+        assertTrue(result.get());
+    }
+
+    @Test
+    public void readReusesInferredModelAcrossReads() {
+        final InfModel first = sut.read(sut.getVersion(), null, Function.identity()).orElseThrow();
+        assertSame(first, sut.read(sut.getVersion(), null, Function.identity()).orElseThrow());
+    }
+
+    @Test
+    public void readReturnsEmptyOptionalWhenVersionDoesNotMatch() {
+        final long version = sut.getVersion();
+        sut.invalidate();
+        assertFalse(sut.read(version, null, Function.identity()).isPresent());
+    }
+
+    @Test
+    public void readReturnsEmptyOptionalWhenContextChangedSinceVersion() throws Exception {
+        final long version = sut.getVersion();
+        final Dataset added = DatasetFactory.create();
+        added.getDefaultModel().add(statement(Generator.generateUri().toString(), RDF.type.getURI(), TYPE_ONE));
+        sut.update(() -> central.getDefaultModel().add(added.getDefaultModel()), added, DatasetFactory.create(),
+                false);
+        assertFalse(sut.read(version, null, Function.identity()).isPresent());
+    }
+
+    @Test
+    public void readReturnsResultForOlderVersionWhenOnlyOtherContextsChangedSince() throws Exception {
+        final long version = sut.getVersion();
+        final String context = Generator.generateUri().toString();
+        final Dataset added = DatasetFactory.create();
+        added.getNamedModel(context).add(statement(Generator.generateUri().toString(), RDF.type.getURI(), TYPE_ONE));
+        sut.update(() -> central.addNamedModel(context, added.getNamedModel(context)), added,
+                DatasetFactory.create(), false);
+        final Optional<Boolean> result = sut.read(version, null,
+                m -> m.contains(createResource(SUBJECT), RDF.type, createResource(TYPE_TWO)));
+        assertTrue(result.isPresent());
+        assertTrue(result.get());
+        assertFalse(sut.read(version, context, Function.identity()).isPresent());
+    }
+
+    @Test
+    public void updateAppliesAddedStatementsToExistingInferredModel() throws Exception {
+        final InfModel model = sut.read(sut.getVersion(), null, Function.identity()).orElseThrow();
+        final String subject = Generator.generateUri().toString();
+        final Dataset added = DatasetFactory.create();
+        added.getDefaultModel().add(statement(subject, RDF.type.getURI(), TYPE_ONE));
+        sut.update(() -> central.getDefaultModel().add(added.getDefaultModel()), added, DatasetFactory.create(),
+                false);
+        final InfModel result = sut.read(sut.getVersion(), null, Function.identity()).orElseThrow();
+        assertSame(model, result);
+        assertTrue(result.contains(createResource(subject), RDF.type, createResource(TYPE_TWO)));
+    }
+
+    @Test
+    public void updateAppliesRemovedStatementsToExistingInferredModel() throws Exception {
+        sut.read(sut.getVersion(), null, Function.identity());
+        final Dataset removed = DatasetFactory.create();
+        removed.getDefaultModel().add(statement(SUBJECT, RDF.type.getURI(), TYPE_ONE));
+        sut.update(() -> central.getDefaultModel().remove(removed.getDefaultModel()), DatasetFactory.create(),
+                removed, false);
+        final InfModel result = sut.read(sut.getVersion(), null, Function.identity()).orElseThrow();
+        assertFalse(result.contains(createResource(SUBJECT), RDF.type, createResource(TYPE_TWO)));
+    }
+
+    @Test
+    public void updateIncrementsVersion() throws Exception {
+        final long version = sut.getVersion();
+        sut.update(() -> {}, DatasetFactory.create(), DatasetFactory.create(), false);
+        assertNotEquals(version, sut.getVersion());
+    }
+
+    @Test
+    public void updateDiscardsInferredModelsWhenInvalidationIsRequested() throws Exception {
+        final InfModel model = sut.read(sut.getVersion(), null, Function.identity()).orElseThrow();
+        sut.update(() -> {}, DatasetFactory.create(), DatasetFactory.create(), true);
+        assertNotSame(model, sut.read(sut.getVersion(), null, Function.identity()).orElseThrow());
+    }
+
+    @Test
+    public void updateDiscardsInferredModelsAndRethrowsExceptionWhenCentralUpdateFails() {
+        final InfModel model = sut.read(sut.getVersion(), null, Function.identity()).orElseThrow();
+        assertThrows(JenaDriverException.class, () -> sut.update(() -> {
+            throw new JenaDriverException("Failure");
+        }, DatasetFactory.create(), DatasetFactory.create(), false));
+        assertNotSame(model, sut.read(sut.getVersion(), null, Function.identity()).orElseThrow());
+    }
+}
@@ -29,6 +29,7 @@ import org.apache.jena.rdf.model.Statement;
 import org.apache.jena.vocabulary.RDF;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
@@ -89,6 +90,32 @@ public class SharedStorageConnectorTest {
         assertTrue(result.isEmpty());
     }
 
+    @Test
+    public void findBySubjectsReturnsStatementsOfAllSpecifiedSubjects() {
+        final SharedStorageConnector connector = initConnector();
+        final Dataset ds = connector.storage.getDataset();
+        generateTestData(ds);
+
+        final Collection<Statement> result = connector
+                .find(Arrays.asList(RESOURCE, createResource(TYPE_ONE)), Collections.emptySet());
+        assertTrue(result.contains(createStatement(RESOURCE, RDF.type, createResource(TYPE_ONE))));
+        assertTrue(result.stream().anyMatch(s -> s.getSubject().equals(createResource(TYPE_ONE))));
+        assertTrue(result.stream().noneMatch(s -> s.getObject().equals(createResource(TYPE_TWO)) &&
+                s.getSubject().equals(RESOURCE)));
+    }
+
+    @Test
+    public void findBySubjectsInContextSearchesTargetNamedGraph() {
+        final SharedStorageConnector connector = initConnector();
+        final Dataset ds = connector.storage.getDataset();
+        generateTestData(ds);
+
+        final Collection<Statement> result = connector
+                .find(Collections.singleton(RESOURCE), Collections.singleton(NAMED_GRAPH));
+        assertEquals(Collections.singletonList(createStatement(RESOURCE, RDF.type, createResource(TYPE_TWO))),
+                new ArrayList<>(result));
+    }
+
     @Test
     public void containsChecksForStatementExistenceInDefaultGraph() {
         final SharedStorageConnector connector = initConnector();
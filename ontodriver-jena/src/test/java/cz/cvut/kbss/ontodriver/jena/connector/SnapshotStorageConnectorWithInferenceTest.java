@@ -14,6 +14,7 @@
  */
 package cz.cvut.kbss.ontodriver.jena.connector;
 
+import cz.cvut.kbss.ontodriver.Statement.StatementOntology;
 import cz.cvut.kbss.ontodriver.config.DriverConfigParam;
 import cz.cvut.kbss.ontodriver.config.DriverConfiguration;
 import cz.cvut.kbss.ontodriver.jena.config.JenaConfigParam;
@@ -44,6 +45,8 @@ public class SnapshotStorageConnectorWithInferenceTest {
 
     private SharedStorageConnector centralConnector;
 
+    private SharedInferredGraphs sharedGraphs;
+
     private SnapshotStorageConnectorWithInference connector;
 
     @BeforeEach
@@ -51,7 +54,9 @@ public class SnapshotStorageConnectorWithInferenceTest {
         final DriverConfiguration configuration = StorageTestUtil.createConfiguration("test:uri");
         configuration.setProperty(DriverConfigParam.REASONER_FACTORY_CLASS, RDFSRuleReasonerFactory.class.getName());
         this.centralConnector = spy(new SharedStorageConnector(configuration));
-        this.connector = new SnapshotStorageConnectorWithInference(centralConnector, Collections.emptyMap());
+        this.sharedGraphs = new SharedInferredGraphs(configuration, Collections.emptyMap(),
+                () -> centralConnector.getStorage().getDataset());
+        this.connector = new SnapshotStorageConnectorWithInference(centralConnector, sharedGraphs);
     }
 
     @Test
@@ -164,6 +169,34 @@ public class SnapshotStorageConnectorWithInferenceTest {
                 Collections.emptySet()));
     }
 
+    @Test
+    public void commitAppliesChangesToInferenceSharedWithSubsequentTransactions() throws Exception {
+        generateTestData(null);
+        connector.begin();
+        // Initialize shared inferred graph
+        assertTrue(connector.containsWithInference(createResource(SUBJECT), RDF.type, createResource(TYPE_TWO),
+                Collections.emptySet()));
+        final Resource another = createResource(Generator.generateUri().toString());
+        connector.add(Collections.singletonList(statement(another.getURI(), RDF.type.getURI(), TYPE_ONE)), null);
+        connector.commit();
+
+        final SnapshotStorageConnectorWithInference other =
+                new SnapshotStorageConnectorWithInference(centralConnector, sharedGraphs);
+        other.begin();
+        assertTrue(other.containsWithInference(another, RDF.type, createResource(TYPE_TWO), Collections.emptySet()));
+        assertTrue(sharedGraphs.read(sharedGraphs.getVersion(), null,
+                m -> m.contains(another, RDF.type, createResource(TYPE_TWO))).orElse(false));
+    }
+
+    @Test
+    public void executeUpdateOnSharedOntologyDiscardsSharedInference() throws Exception {
+        generateTestData(null);
+        final long version = sharedGraphs.getVersion();
+        connector.executeUpdate("INSERT DATA { <" + SUBJECT + "> <" + RDFS.label.getURI() + "> \"Label\" . }",
+                StatementOntology.SHARED);
+        assertNotEquals(version, sharedGraphs.getVersion());
+    }
+
     @Test
     public void isConsistentVerifiesConsistencyOfDefaultGraph() throws Exception {
         generateTestData(null);
@@ -195,7 +228,9 @@ public class SnapshotStorageConnectorWithInferenceTest {
             config.setProperty(JenaConfigParam.STORAGE_TYPE, JenaOntoDriverProperties.TDB);
             config.setProperty(DriverConfigParam.REASONER_FACTORY_CLASS, RDFSRuleReasonerFactory.class.getName());
             this.centralConnector = new SharedStorageConnector(config);
-            this.connector = new SnapshotStorageConnectorWithInference(centralConnector, Collections.emptyMap());
+            this.connector = new SnapshotStorageConnectorWithInference(centralConnector,
+                    new SharedInferredGraphs(config, Collections.emptyMap(),
+                            () -> centralConnector.getStorage().getDataset()));
             connector.begin();
             assertFalse(connector.contains(createResource(SUBJECT), RDF.type, null, Collections.emptySet()));
         } finally {
@@ -18,14 +18,12 @@ import cz.cvut.kbss.ontodriver.config.DriverConfigParam;
 import cz.cvut.kbss.ontodriver.config.DriverConfiguration;
 import cz.cvut.kbss.ontodriver.jena.config.JenaOntoDriverProperties;
 import cz.cvut.kbss.ontodriver.jena.environment.Generator;
-import cz.cvut.kbss.ontodriver.jena.exception.ReasonerInitializationException;
 import org.apache.jena.query.Dataset;
 import org.apache.jena.query.DatasetFactory;
 import org.apache.jena.query.ReadWrite;
 import org.apache.jena.rdf.model.*;
 import org.apache.jena.reasoner.InfGraph;
 import org.apache.jena.reasoner.Reasoner;
-import org.apache.jena.reasoner.ReasonerFactory;
 import org.apache.jena.reasoner.ValidityReport;
 import org.apache.jena.reasoner.rulesys.*;
 import org.apache.jena.tdb.TDBFactory;
@@ -37,11 +35,11 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.io.File;
-import java.lang.reflect.Field;
 import java.nio.file.Files;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.function.Function;
 
 import static cz.cvut.kbss.ontodriver.jena.connector.StorageTestUtil.*;
 import static org.apache.jena.rdf.model.ResourceFactory.createResource;
@@ -55,65 +53,38 @@ public class SnapshotStorageWithInferenceTest {
 
     private SnapshotStorageWithInference storage;
 
+    private SharedInferredGraphs sharedGraphs;
+
+    private Dataset central;
+
     @BeforeEach
     public void setUp() {
         this.configuration = createConfiguration("urn:storage-test");
     }
 
-    @Test
-    public void initializationCreatesRDFSReasonerBasedOnConfiguredReasonerFactoryClass() throws Exception {
-        configuration.setProperty(DriverConfigParam.REASONER_FACTORY_CLASS, RDFSRuleReasonerFactory.class.getName());
-        this.storage = new SnapshotStorageWithInference(configuration, Collections.emptyMap());
-        assertInstanceOf(RDFSRuleReasonerFactory.class, getReasonerFactory());
+    private SnapshotStorageWithInference createStorage(Map<String, String> reasonerConfig) {
+        this.sharedGraphs = new SharedInferredGraphs(configuration, reasonerConfig, () -> central);
+        return new SnapshotStorageWithInference(configuration, sharedGraphs);
     }
 
-    private ReasonerFactory getReasonerFactory() throws Exception {
-        final Field rfField = SnapshotStorageWithInference.class.getDeclaredField("reasonerFactory");
-        rfField.setAccessible(true);
-        return (ReasonerFactory) rfField.get(storage);
-    }
-
-    @Test
-    public void initializationThrowsReasonerInitializationExceptionWhenUnknownReasonerFactoryClassIsSpecified() {
-        configuration
-                .setProperty(DriverConfigParam.REASONER_FACTORY_CLASS,
-                        "cz.cvut.kbss.ontodriver.jena.UnknownReasonerFactory");
-        final ReasonerInitializationException ex = assertThrows(ReasonerInitializationException.class,
-                () -> new SnapshotStorageWithInference(configuration, Collections.emptyMap()));
-        assertThat(ex.getCause(), instanceOf(ClassNotFoundException.class));
-        assertThat(ex.getMessage(), containsString("Reasoner factory class"));
-        assertThat(ex.getMessage(), containsString("not found"));
-    }
-
-    @Test
-    public void initializationThrowsReasonerInitializationExceptionWhenClassIsNotReasonerFactory() {
-        configuration.setProperty(DriverConfigParam.REASONER_FACTORY_CLASS, String.class.getName());
-        final ReasonerInitializationException ex = assertThrows(ReasonerInitializationException.class,
-                () -> new SnapshotStorageWithInference(configuration, Collections.emptyMap()));
-        assertThat(ex.getMessage(),
-                containsString("Class " + String.class.getName() + " is not a ReasonerFactory implementation"));
-    }
-
-    @Test
-    public void initializationCreatesOWLReasonerBasedOnConfiguredReasonerFactoryClass() throws Exception {
-        configuration.setProperty(DriverConfigParam.REASONER_FACTORY_CLASS, OWLFBRuleReasonerFactory.class.getName());
-        this.storage = new SnapshotStorageWithInference(configuration, Collections.emptyMap());
-        assertInstanceOf(OWLFBRuleReasonerFactory.class, getReasonerFactory());
+    private void addCentralData(Dataset dataset) {
+        this.central = dataset;
+        storage.addCentralData(dataset);
     }
 
     @Test
     public void initializationEagerlyCreatesInferredModelForDefaultGraph() {
         configuration.setProperty(DriverConfigParam.REASONER_FACTORY_CLASS, RDFSRuleReasonerFactory.class.getName());
-        this.storage = new SnapshotStorageWithInference(configuration, Collections.emptyMap());
-        storage.addCentralData(getDatasetWithDefaultModel());
+        this.storage = createStorage(Collections.emptyMap());
+        addCentralData(getDatasetWithDefaultModel());
         assertNotNull(storage.dataset.getDefaultModel());
     }
 
     @Test
     public void getDefaultGraphReturnsInferredDefaultGraph() {
         configuration.setProperty(DriverConfigParam.REASONER_FACTORY_CLASS, RDFSRuleReasonerFactory.class.getName());
-        this.storage = new SnapshotStorageWithInference(configuration, Collections.emptyMap());
-        storage.addCentralData(getDatasetWithDefaultModel());
+        this.storage = createStorage(Collections.emptyMap());
+        addCentralData(getDatasetWithDefaultModel());
         final Model result = storage.getDefaultGraph();
         assertNotNull(result);
         assertTrue(result.contains(createResource(SUBJECT), RDF.type, createResource(TYPE_TWO)));
@@ -135,8 +106,8 @@ public class SnapshotStorageWithInferenceTest {
     @Test
     public void getDefaultGraphReusesInfModelAfterFirstCall() {
         configuration.setProperty(DriverConfigParam.REASONER_FACTORY_CLASS, RDFSRuleReasonerFactory.class.getName());
-        this.storage = new SnapshotStorageWithInference(configuration, Collections.emptyMap());
-        storage.addCentralData(getDatasetWithDefaultModel());
+        this.storage = createStorage(Collections.emptyMap());
+        addCentralData(getDatasetWithDefaultModel());
         final Model result = storage.getDefaultGraph();
         assertEquals(result, storage.getDefaultGraph());
     }
@@ -144,8 +115,8 @@ public class SnapshotStorageWithInferenceTest {
     @Test
     public void getRawDefaultModelReturnsDefaultGraphWithoutInference() {
         configuration.setProperty(DriverConfigParam.REASONER_FACTORY_CLASS, RDFSRuleReasonerFactory.class.getName());
-        this.storage = new SnapshotStorageWithInference(configuration, Collections.emptyMap());
-        storage.addCentralData(getDatasetWithDefaultModel());
+        this.storage = createStorage(Collections.emptyMap());
+        addCentralData(getDatasetWithDefaultModel());
         final Model result = storage.getRawDefaultGraph();
         assertTrue(result.contains(createResource(SUBJECT), RDF.type, createResource(TYPE_ONE)));
         assertFalse(result.contains(createResource(SUBJECT), RDF.type, createResource(TYPE_TWO)));
@@ -154,8 +125,8 @@ public class SnapshotStorageWithInferenceTest {
     @Test
     public void getRawDefaultModelReturnsDefaultGraphWithoutInferenceWhenInferredModelExists() {
         configuration.setProperty(DriverConfigParam.REASONER_FACTORY_CLASS, RDFSRuleReasonerFactory.class.getName());
-        this.storage = new SnapshotStorageWithInference(configuration, Collections.emptyMap());
-        storage.addCentralData(getDatasetWithDefaultModel());
+        this.storage = createStorage(Collections.emptyMap());
+        addCentralData(getDatasetWithDefaultModel());
         assertTrue(storage.getDefaultGraph().contains(createResource(SUBJECT), RDF.type, createResource(TYPE_TWO)));
         final Model result = storage.getRawDefaultGraph();
         assertThat(result, not(instanceOf(InfModel.class)));
@@ -166,16 +137,16 @@ public class SnapshotStorageWithInferenceTest {
     @Test
     public void initializationEagerlyCreatesInfModelForNamedGraphsFromCentral() {
         configuration.setProperty(DriverConfigParam.REASONER_FACTORY_CLASS, RDFSRuleReasonerFactory.class.getName());
-        this.storage = new SnapshotStorageWithInference(configuration, Collections.emptyMap());
-        storage.addCentralData(getDatasetWithDataInNamedGraph());
+        this.storage = createStorage(Collections.emptyMap());
+        addCentralData(getDatasetWithDataInNamedGraph());
         assertInstanceOf(InfGraph.class, storage.getDataset().getNamedModel(NAMED_GRAPH).getGraph());
     }
 
     @Test
     public void getNamedGraphReturnsModelWithInferences() {
         configuration.setProperty(DriverConfigParam.REASONER_FACTORY_CLASS, RDFSRuleReasonerFactory.class.getName());
-        this.storage = new SnapshotStorageWithInference(configuration, Collections.emptyMap());
-        storage.addCentralData(getDatasetWithDataInNamedGraph());
+        this.storage = createStorage(Collections.emptyMap());
+        addCentralData(getDatasetWithDataInNamedGraph());
         final Model result = storage.getNamedGraph(NAMED_GRAPH);
         assertTrue(result.contains(createResource(SUBJECT), RDF.type, createResource(TYPE_TWO)));
     }
@@ -189,8 +160,8 @@ public class SnapshotStorageWithInferenceTest {
     @Test
     public void getNamedGraphReusesInfModelAfterFirstCall() {
         configuration.setProperty(DriverConfigParam.REASONER_FACTORY_CLASS, RDFSRuleReasonerFactory.class.getName());
-        this.storage = new SnapshotStorageWithInference(configuration, Collections.emptyMap());
-        storage.addCentralData(getDatasetWithDataInNamedGraph());
+        this.storage = createStorage(Collections.emptyMap());
+        addCentralData(getDatasetWithDataInNamedGraph());
         final Model first = storage.getNamedGraph(NAMED_GRAPH);
         assertEquals(first, storage.getNamedGraph(NAMED_GRAPH));
     }
@@ -198,8 +169,8 @@ public class SnapshotStorageWithInferenceTest {
     @Test
     public void getRawNamedGraphReturnsGraphWithoutInference() {
         configuration.setProperty(DriverConfigParam.REASONER_FACTORY_CLASS, RDFSRuleReasonerFactory.class.getName());
-        this.storage = new SnapshotStorageWithInference(configuration, Collections.emptyMap());
-        storage.addCentralData(getDatasetWithDataInNamedGraph());
+        this.storage = createStorage(Collections.emptyMap());
+        addCentralData(getDatasetWithDataInNamedGraph());
         final Model result = storage.getRawNamedGraph(NAMED_GRAPH);
         assertTrue(result.contains(createResource(SUBJECT), RDF.type, createResource(TYPE_ONE)));
         assertFalse(result.contains(createResource(SUBJECT), RDF.type, createResource(TYPE_TWO)));
@@ -208,8 +179,8 @@ public class SnapshotStorageWithInferenceTest {
     @Test
     public void getRawNamedGraphReturnsGraphWithoutInferenceWhenInferredAlreadyExists() {
         configuration.setProperty(DriverConfigParam.REASONER_FACTORY_CLASS, RDFSRuleReasonerFactory.class.getName());
-        this.storage = new SnapshotStorageWithInference(configuration, Collections.emptyMap());
-        storage.addCentralData(getDatasetWithDataInNamedGraph());
+        this.storage = createStorage(Collections.emptyMap());
+        addCentralData(getDatasetWithDataInNamedGraph());
         assertTrue(storage.getNamedGraph(NAMED_GRAPH)
                           .contains(createResource(SUBJECT), RDF.type, createResource(TYPE_TWO)));
         final Model result = storage.getRawNamedGraph(NAMED_GRAPH);
@@ -220,8 +191,8 @@ public class SnapshotStorageWithInferenceTest {
     @Test
     public void checkConsistencyReturnsValidityReportForDefaultGraph() {
         configuration.setProperty(DriverConfigParam.REASONER_FACTORY_CLASS, RDFSRuleReasonerFactory.class.getName());
-        this.storage = new SnapshotStorageWithInference(configuration, Collections.emptyMap());
-        storage.addCentralData(getDatasetWithDefaultModel());
+        this.storage = createStorage(Collections.emptyMap());
+        addCentralData(getDatasetWithDefaultModel());
         final ValidityReport result = storage.checkConsistency(null);
         assertNotNull(result);
         assertTrue(result.isValid());
@@ -230,8 +201,8 @@ public class SnapshotStorageWithInferenceTest {
     @Test
     public void checkConsistencyReturnsValidityReportForNamedGraph() {
         configuration.setProperty(DriverConfigParam.REASONER_FACTORY_CLASS, RDFSRuleReasonerFactory.class.getName());
-        this.storage = new SnapshotStorageWithInference(configuration, Collections.emptyMap());
-        storage.addCentralData(getDatasetWithDataInNamedGraph());
+        this.storage = createStorage(Collections.emptyMap());
+        addCentralData(getDatasetWithDataInNamedGraph());
         final ValidityReport result = storage.checkConsistency(NAMED_GRAPH);
         assertNotNull(result);
         assertTrue(result.isValid());
@@ -240,8 +211,8 @@ public class SnapshotStorageWithInferenceTest {
     @Test
     public void checkConsistencyReturnsValidityReportForInconsistentDefaultGraph() {
         configuration.setProperty(DriverConfigParam.REASONER_FACTORY_CLASS, OWLMiniReasonerFactory.class.getName());
-        this.storage = new SnapshotStorageWithInference(configuration, Collections.emptyMap());
-        storage.addCentralData(getInconsistentDataset());
+        this.storage = createStorage(Collections.emptyMap());
+        addCentralData(getInconsistentDataset());
         final ValidityReport result = storage.checkConsistency(null);
         assertNotNull(result);
         assertFalse(result.isValid());
@@ -264,8 +235,8 @@ public class SnapshotStorageWithInferenceTest {
         configuration.setProperty(DriverConfigParam.REASONER_FACTORY_CLASS, RDFSRuleReasonerFactory.class.getName());
         final Map<String, String> config =
                 Collections.singletonMap(ReasonerVocabulary.PROPtraceOn.getURI(), Boolean.TRUE.toString());
-        this.storage = new SnapshotStorageWithInference(configuration, config);
-        storage.addCentralData(getDatasetWithDefaultModel());
+        this.storage = createStorage(config);
+        addCentralData(getDatasetWithDefaultModel());
         final InfModel infModel = storage.getDefaultGraph();
         final Reasoner reasoner = infModel.getReasoner();
         assertTrue(((RDFSRuleReasoner) reasoner).isTraceOn());
@@ -277,8 +248,8 @@ public class SnapshotStorageWithInferenceTest {
         final Map<String, String> config = new HashMap<>(4);
         config.put(JenaOntoDriverProperties.JENA_ISOLATION_STRATEGY, JenaOntoDriverProperties.SNAPSHOT);
         config.put(JenaOntoDriverProperties.JENA_STORAGE_TYPE, JenaOntoDriverProperties.IN_MEMORY);
-        this.storage = new SnapshotStorageWithInference(configuration, config);
-        storage.addCentralData(getDatasetWithDefaultModel());
+        this.storage = createStorage(config);
+        addCentralData(getDatasetWithDefaultModel());
         final InfModel infModel = storage.getDefaultGraph();
         final Reasoner reasoner = infModel.getReasoner();
         assertFalse(((RDFSRuleReasoner) reasoner).isTraceOn());
@@ -291,8 +262,8 @@ public class SnapshotStorageWithInferenceTest {
         config.put(ReasonerVocabulary.PROPtraceOn.getURI(), Boolean.TRUE.toString());
         // This is not supported by the RDFSRuleReasoner
         config.put(ReasonerVocabulary.PROPruleMode.getURI(), "yadayada");
-        this.storage = new SnapshotStorageWithInference(configuration, config);
-        storage.addCentralData(getDatasetWithDefaultModel());
+        this.storage = createStorage(config);
+        addCentralData(getDatasetWithDefaultModel());
         final InfModel infModel = storage.getDefaultGraph();
         final Reasoner reasoner = infModel.getReasoner();
         assertTrue(((GenericRuleReasoner) reasoner).isTraceOn());
@@ -301,9 +272,9 @@ public class SnapshotStorageWithInferenceTest {
     @Test
     public void initializationFromCentralConnectorCreatesIndependentDefaultGraph() {
         configuration.setProperty(DriverConfigParam.REASONER_FACTORY_CLASS, RDFSRuleReasonerFactory.class.getName());
-        this.storage = new SnapshotStorageWithInference(configuration, Collections.emptyMap());
+        this.storage = createStorage(Collections.emptyMap());
         final Dataset central = getDatasetWithDefaultModel();
-        storage.addCentralData(central);
+        addCentralData(central);
         final Model result = storage.getRawDefaultGraph();
         result.add(createResource(SUBJECT), RDF.type, createResource(TYPE_TWO));
         assertFalse(central.getDefaultModel().contains(createResource(SUBJECT), RDF.type, createResource(TYPE_TWO)));
@@ -312,9 +283,9 @@ public class SnapshotStorageWithInferenceTest {
     @Test
     public void initializationFromCentralConnectorCreatesIndependentNamedGraphs() {
         configuration.setProperty(DriverConfigParam.REASONER_FACTORY_CLASS, RDFSRuleReasonerFactory.class.getName());
-        this.storage = new SnapshotStorageWithInference(configuration, Collections.emptyMap());
+        this.storage = createStorage(Collections.emptyMap());
         final Dataset central = getDatasetWithDataInNamedGraph();
-        storage.addCentralData(central);
+        addCentralData(central);
         final Model result = storage.getRawNamedGraph(NAMED_GRAPH);
         result.add(createResource(SUBJECT), RDF.type, createResource(TYPE_TWO));
         assertFalse(central.getNamedModel(NAMED_GRAPH)
@@ -331,8 +302,8 @@ public class SnapshotStorageWithInferenceTest {
             tdbDataset.commit();
             configuration
                     .setProperty(DriverConfigParam.REASONER_FACTORY_CLASS, RDFSRuleReasonerFactory.class.getName());
-            this.storage = new SnapshotStorageWithInference(configuration, Collections.emptyMap());
-            storage.addCentralData(tdbDataset);
+            this.storage = createStorage(Collections.emptyMap());
+            addCentralData(tdbDataset);
             final Model defaultGraph = storage.getDefaultGraph();
             assertTrue(defaultGraph.contains(createResource(SUBJECT), RDF.type, (RDFNode) null));
         } finally {
@@ -343,10 +314,42 @@ public class SnapshotStorageWithInferenceTest {
     @Test
     public void getNamedModelReturnsInfModelAlsoForUnknownContextName() {
         configuration.setProperty(DriverConfigParam.REASONER_FACTORY_CLASS, RDFSRuleReasonerFactory.class.getName());
-        this.storage = new SnapshotStorageWithInference(configuration, Collections.emptyMap());
-        storage.addCentralData(getDatasetWithDefaultModel());
+        this.storage = createStorage(Collections.emptyMap());
+        addCentralData(getDatasetWithDefaultModel());
         // Does not exist
         final InfModel result = storage.getNamedGraph(NAMED_GRAPH);
         assertNotNull(result);
     }
+
+    @Test
+    public void readInferredReadsSharedClosureWhenContextIsNotModifiedInTransaction() {
+        configuration.setProperty(DriverConfigParam.REASONER_FACTORY_CLASS, RDFSRuleReasonerFactory.class.getName());
+        this.storage = createStorage(Collections.emptyMap());
+        addCentralData(getDatasetWithDefaultModel());
+        final InfModel result = storage.readInferred(null, Function.identity());
+        assertNotSame(storage.getDefaultGraph(), result);
+        assertTrue(result.contains(createResource(SUBJECT), RDF.type, createResource(TYPE_TWO)));
+    }
+
+    @Test
+    public void readInferredReadsSnapshotModelWhenContextIsModifiedInTransaction() {
+        configuration.setProperty(DriverConfigParam.REASONER_FACTORY_CLASS, RDFSRuleReasonerFactory.class.getName());
+        this.storage = createStorage(Collections.emptyMap());
+        addCentralData(getDatasetWithDataInNamedGraph());
+        final String subject = Generator.generateUri().toString();
+        storage.add(Collections.singletonList(statement(subject, RDF.type.getURI(), TYPE_ONE)), NAMED_GRAPH);
+        final InfModel result = storage.readInferred(NAMED_GRAPH, Function.identity());
+        assertSame(storage.getNamedGraph(NAMED_GRAPH), result);
+        assertTrue(result.contains(createResource(subject), RDF.type, createResource(TYPE_TWO)));
+    }
+
+    @Test
+    public void readInferredReadsSnapshotModelWhenSharedClosureChangedAfterSnapshotCreation() {
+        configuration.setProperty(DriverConfigParam.REASONER_FACTORY_CLASS, RDFSRuleReasonerFactory.class.getName());
+        this.storage = createStorage(Collections.emptyMap());
+        addCentralData(getDatasetWithDefaultModel());
+        sharedGraphs.invalidate();
+        final InfModel result = storage.readInferred(null, Function.identity());
+        assertSame(storage.getDefaultGraph(), result);
+    }
 }
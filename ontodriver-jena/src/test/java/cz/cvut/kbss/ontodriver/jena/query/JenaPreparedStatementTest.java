@@ -19,19 +19,24 @@ import cz.cvut.kbss.ontodriver.jena.connector.StatementExecutor;
 import cz.cvut.kbss.ontodriver.jena.environment.Generator;
 import cz.cvut.kbss.ontodriver.util.StatementHolder;
 import cz.cvut.kbss.ontodriver.util.Vocabulary;
+import org.apache.jena.query.Query;
 import org.apache.jena.query.QueryFactory;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 
 import java.lang.reflect.Field;
+import java.net.URI;
 
 import static org.hamcrest.CoreMatchers.containsString;
+import static org.hamcrest.CoreMatchers.not;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -153,4 +158,50 @@ public class JenaPreparedStatementTest {
         final IllegalStateException ex = assertThrows(IllegalStateException.class, () -> statement.clearParameters());
         assertThat(ex.getMessage(), containsString("Statement is closed"));
     }
+
+    @Test
+    public void bindValueDoesNotModifyStatementString() throws Exception {
+        this.statement = new JenaPreparedStatement(executor, QUERY);
+        statement.bindValue("y", URI.create(Vocabulary.RDF_TYPE));
+        assertEquals(QUERY, getStatementHolder().assembleStatement());
+    }
+
+    @Test
+    public void executeQuerySubstitutesBoundValuesIntoParsedQuery() throws Exception {
+        this.statement = new JenaPreparedStatement(executor, "SELECT ?x ?z WHERE { ?x ?y ?z . }");
+        final URI property = Generator.generateUri();
+        statement.bindValue("y", property);
+        statement.executeQuery();
+        final ArgumentCaptor<Query> captor = ArgumentCaptor.forClass(Query.class);
+        verify(executor).executeSelectQuery(captor.capture(), eq(Statement.StatementOntology.SHARED));
+        final String executed = captor.getValue().toString();
+        assertThat(executed, containsString("<" + property + ">"));
+        assertThat(executed, not(containsString("?y")));
+    }
+
+    @Test
+    public void executeQueryWithDifferentBoundValuesUsesCurrentlyBoundValues() throws Exception {
+        this.statement = new JenaPreparedStatement(executor, "SELECT ?x ?z WHERE { ?x ?y ?z . }");
+        final URI first = Generator.generateUri();
+        final URI second = Generator.generateUri();
+        statement.bindValue("y", first);
+        statement.executeQuery();
+        statement.bindValue("y", second);
+        statement.executeQuery();
+        final ArgumentCaptor<Query> captor = ArgumentCaptor.forClass(Query.class);
+        verify(executor, times(2)).executeSelectQuery(captor.capture(), eq(Statement.StatementOntology.SHARED));
+        assertThat(captor.getAllValues().get(0).toString(), containsString("<" + first + ">"));
+        assertThat(captor.getAllValues().get(1).toString(), containsString("<" + second + ">"));
+    }
+
+    @Test
+    public void executeUpdateFormatsBoundValuesIntoUpdateString() throws Exception {
+        final String update = "INSERT DATA { _:a1 a ?type . }";
+        this.statement = new JenaPreparedStatement(executor, update);
+        final URI value = Generator.generateUri();
+        statement.bindValue("type", value);
+        final String expected = update.replace("?type", "<" + value + ">");
+        statement.executeUpdate();
+        verify(executor).executeUpdate(eq(expected), eq(Statement.StatementOntology.SHARED));
+    }
 }
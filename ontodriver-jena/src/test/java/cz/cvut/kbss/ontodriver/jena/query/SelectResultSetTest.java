@@ -16,6 +16,7 @@ package cz.cvut.kbss.ontodriver.jena.query;
 
 import cz.cvut.kbss.jopa.datatype.exception.UnsupportedTypeTransformationException;
 import cz.cvut.kbss.ontodriver.exception.VariableNotBoundException;
+import cz.cvut.kbss.ontodriver.iteration.ColumnReader;
 import cz.cvut.kbss.ontodriver.jena.environment.Generator;
 import cz.cvut.kbss.ontodriver.jena.exception.JenaDriverException;
 import org.apache.jena.query.QueryExecution;
@@ -592,4 +593,44 @@ class SelectResultSetTest {
         selectResult.next();
         assertNotNull(selectResult.getString("z"));
     }
+
+    @Test
+    void getObjectWithClassReturnsConvertedValueForConsecutiveRows() throws JenaDriverException {
+        model.add(SUBJECT, PROPERTY, createTypedLiteral(117));
+        model.add(SUBJECT, PROPERTY, createTypedLiteral(118));
+        this.selectResult = resultFor("SELECT ?z WHERE { ?x <" + PROPERTY.getURI() + "> ?z . } ORDER BY ?z");
+        selectResult.next();
+        assertEquals(117L, selectResult.getObject(0, Long.class));
+        selectResult.next();
+        assertEquals(118L, selectResult.getObject(0, Long.class));
+    }
+
+    @Test
+    void columnReaderReadsValuesOfColumnInConsecutiveRows() throws Exception {
+        model.add(SUBJECT, PROPERTY, createTypedLiteral(117));
+        model.add(SUBJECT, PROPERTY, createTypedLiteral(118));
+        this.selectResult = resultFor("SELECT ?z WHERE { ?x <" + PROPERTY.getURI() + "> ?z . } ORDER BY ?z");
+        final ColumnReader<Integer> reader = selectResult.getColumnReader("z", Integer.class);
+        selectResult.next();
+        assertEquals(117, reader.read());
+        selectResult.next();
+        assertEquals(118, reader.read());
+    }
+
+    @Test
+    void columnReaderReturnsUriForResourceValue() throws Exception {
+        model.add(SUBJECT, RDF.type, TYPE_ONE);
+        this.selectResult = resultFor(QUERY);
+        final ColumnReader<URI> reader = selectResult.getColumnReader(2, URI.class);
+        selectResult.next();
+        assertEquals(URI.create(TYPE_ONE.getURI()), reader.read());
+    }
+
+    @Test
+    void columnReaderThrowsIllegalStateExceptionWhenReadBeforeNext() {
+        model.add(SUBJECT, RDF.type, TYPE_ONE);
+        this.selectResult = resultFor(QUERY);
+        final ColumnReader<URI> reader = selectResult.getColumnReader(2, URI.class);
+        assertThrows(IllegalStateException.class, reader::read);
+    }
 }
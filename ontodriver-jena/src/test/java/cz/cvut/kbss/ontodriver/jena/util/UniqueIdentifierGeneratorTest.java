@@ -15,6 +15,7 @@
 package cz.cvut.kbss.ontodriver.jena.util;
 
 import cz.cvut.kbss.ontodriver.exception.IdentifierGenerationException;
+import cz.cvut.kbss.ontodriver.identifier.TimeOrderedUuidGenerator;
 import cz.cvut.kbss.ontodriver.jena.connector.StorageConnector;
 import cz.cvut.kbss.ontodriver.jena.environment.Generator;
 import cz.cvut.kbss.ontodriver.util.Vocabulary;
@@ -30,22 +31,23 @@ import java.util.Collections;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anySet;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
-public class IdentifierGeneratorTest {
+public class UniqueIdentifierGeneratorTest {
 
     private static final URI TYPE_URI = Generator.generateUri();
 
     @Mock
     private StorageConnector connectorMock;
 
-    private IdentifierGenerator generator;
+    private UniqueIdentifierGenerator generator;
 
     @BeforeEach
     public void setUp() {
         MockitoAnnotations.openMocks(this);
-        this.generator = new IdentifierGenerator(connectorMock);
+        this.generator = new UniqueIdentifierGenerator(connectorMock);
     }
 
     @Test
@@ -71,4 +73,12 @@ public class IdentifierGeneratorTest {
         when(connectorMock.contains(any(), any(), any(), any())).thenReturn(true);
         assertThrows(IdentifierGenerationException.class, () -> generator.generateIdentifier(TYPE_URI));
     }
+
+    @Test
+    public void generateIdentifierDoesNotCheckExistenceWhenGeneratorGuaranteesUniqueness() {
+        this.generator = new UniqueIdentifierGenerator(connectorMock, new TimeOrderedUuidGenerator());
+        final URI result = generator.generateIdentifier(TYPE_URI);
+        assertTrue(result.toString().contains(TYPE_URI.toString()));
+        verify(connectorMock, never()).contains(any(), any(), any(), anySet());
+    }
 }
@@ -32,6 +32,7 @@ class ExplicitAxiomLoader implements AxiomLoader {
 
     private final OWLOntology ontology;
     private final OWLDataFactory dataFactory;
+    private final List<OWLOntology> importsClosure;
 
     private final OwlapiAdapter adapter;
     private final AxiomAdapter axiomAdapter;
@@ -42,6 +43,8 @@ class ExplicitAxiomLoader implements AxiomLoader {
         this.adapter = adapter;
         this.ontology = snapshot.getOntology();
         this.dataFactory = snapshot.getDataFactory();
+        // Resolve the imports closure once, so that it can be reused when loading values of multiple individuals
+        this.importsClosure = ontology.importsClosure().collect(Collectors.toList());
         this.axiomAdapter = new AxiomAdapter(dataFactory);
     }
 
@@ -63,7 +66,7 @@ class ExplicitAxiomLoader implements AxiomLoader {
     private Collection<Axiom<?>> loadDataPropertyAxioms(OWLNamedIndividual individual, NamedResource subject,
                                                         boolean loadAll) {
         final Collection<Axiom<?>> axioms = new ArrayList<>();
-        EntitySearcher.getDataPropertyValues(individual, ontology.importsClosure()).forEach((dp, value) -> {
+        EntitySearcher.getDataPropertyValues(individual, importsClosure.stream()).forEach((dp, value) -> {
             if (loadAll || shouldLoadDataPropertyValue(dp, value)) {
                 axioms.add(axiomAdapter.toAxiom(subject, dp, value));
             }
@@ -94,7 +97,7 @@ class ExplicitAxiomLoader implements AxiomLoader {
 
     private Collection<Axiom<?>> loadObjectPropertyAxioms(OWLNamedIndividual individual, NamedResource subject, boolean loadAll) {
         final Collection<Axiom<?>> axioms = new ArrayList<>();
-        EntitySearcher.getObjectPropertyValues(individual, ontology.importsClosure())
+        EntitySearcher.getObjectPropertyValues(individual, importsClosure.stream())
                       .forEach((op, value) -> {
                           if (loadAll || doesPropertyExist(op.getNamedProperty().getIRI())) {
                               axioms.add(axiomAdapter.toAxiom(subject, op, value));
@@ -105,7 +108,7 @@ class ExplicitAxiomLoader implements AxiomLoader {
 
     private Collection<Axiom<?>> loadAnnotationPropertyAxioms(OWLNamedIndividual individual, NamedResource subject,
                                                               boolean loadAll) {
-        return ontology.importsClosure().flatMap(
+        return importsClosure.stream().flatMap(
                 onto -> EntitySearcher.getAnnotationAssertionAxioms(individual.getIRI(), onto)
                                       .filter(a -> loadAll || shouldLoadAnnotationPropertyValue(a)))
                        .map(axiom -> axiomAdapter.toAxiom(subject, axiom)).collect(
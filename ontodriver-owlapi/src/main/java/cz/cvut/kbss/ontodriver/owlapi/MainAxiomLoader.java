@@ -33,9 +33,8 @@ class MainAxiomLoader {
 
     private final OWLOntology ontology;
 
-    private final Set<URI> inferredAssertionUris = new HashSet<>();
-    private final Set<Assertion> inferredAssertions = new HashSet<>();
-    private final Set<Assertion> explicitAssertions = new HashSet<>();
+    private ExplicitAxiomLoader explicitLoader;
+    private InferredAxiomLoader inferredLoader;
 
     MainAxiomLoader(OwlapiAdapter adapter, OntologySnapshot snapshot) {
         this.adapter = adapter;
@@ -48,14 +47,36 @@ class MainAxiomLoader {
         if (!ontology.containsIndividualInSignature(IRI.create(subject.getIdentifier()))) {
             return Collections.emptySet();
         }
-        resolveInferredAssertions(descriptor);
+        final Set<URI> inferredAssertionUris = new HashSet<>();
+        final Set<Assertion> inferredAssertions = new HashSet<>();
+        final Set<Assertion> explicitAssertions = new HashSet<>();
+        resolveInferredAssertions(descriptor, inferredAssertionUris, inferredAssertions, explicitAssertions);
 
-        final Collection<Axiom<?>> result = new ArrayList<>(loadInferredValues(subject));
-        result.addAll(loadExplicitValues(subject));
+        final Collection<Axiom<?>> result = new ArrayList<>(loadInferredValues(subject, inferredAssertions));
+        result.addAll(loadExplicitValues(subject, explicitAssertions, inferredAssertionUris));
         return result;
     }
 
-    private void resolveInferredAssertions(AxiomDescriptor descriptor) {
+    /**
+     * Loads axioms corresponding to the specified descriptors.
+     * <p>
+     * The loaders (and the ontology imports closure they search) are shared by all the descriptors, values of each
+     * subject are then retrieved using indexed ontology lookups.
+     *
+     * @param descriptors Descriptors of axioms to load, subjects are expected to be distinct
+     * @return Matching axioms grouped by subject, in order of the specified descriptors
+     */
+    Map<NamedResource, Collection<Axiom<?>>> findAxioms(Collection<AxiomDescriptor> descriptors) {
+        final Map<NamedResource, Collection<Axiom<?>>> result = new LinkedHashMap<>(descriptors.size());
+        for (AxiomDescriptor descriptor : descriptors) {
+            result.put(descriptor.getSubject(), findAxioms(descriptor));
+        }
+        return result;
+    }
+
+    private static void resolveInferredAssertions(AxiomDescriptor descriptor, Set<URI> inferredAssertionUris,
+                                                  Set<Assertion> inferredAssertions,
+                                                  Set<Assertion> explicitAssertions) {
         descriptor.getAssertions().forEach(assertion -> {
             if (assertion.isInferred()) {
                 inferredAssertionUris.add(assertion.getIdentifier());
@@ -66,19 +87,25 @@ class MainAxiomLoader {
         });
     }
 
-    private Collection<Axiom<?>> loadInferredValues(NamedResource subject) {
+    private Collection<Axiom<?>> loadInferredValues(NamedResource subject, Set<Assertion> inferredAssertions) {
         if (inferredAssertions.isEmpty()) {
             return Collections.emptySet();
         }
-        return new InferredAxiomLoader(adapter, snapshot).loadAxioms(subject, inferredAssertions);
+        if (inferredLoader == null) {
+            this.inferredLoader = new InferredAxiomLoader(adapter, snapshot);
+        }
+        return inferredLoader.loadAxioms(subject, inferredAssertions);
     }
 
-    private Collection<Axiom<?>> loadExplicitValues(NamedResource subject) {
+    private Collection<Axiom<?>> loadExplicitValues(NamedResource subject, Set<Assertion> explicitAssertions,
+                                                    Set<URI> inferredAssertionUris) {
         if (explicitAssertions.isEmpty()) {
             return Collections.emptySet();
         }
-        final Collection<Axiom<?>> values = new ExplicitAxiomLoader(adapter, snapshot)
-                .loadAxioms(subject, explicitAssertions);
+        if (explicitLoader == null) {
+            this.explicitLoader = new ExplicitAxiomLoader(adapter, snapshot);
+        }
+        final Collection<Axiom<?>> values = explicitLoader.loadAxioms(subject, explicitAssertions);
         return values.stream().filter(axiom -> !inferredAssertionUris.contains(axiom.getAssertion().getIdentifier()))
                      .collect(Collectors.toList());
     }
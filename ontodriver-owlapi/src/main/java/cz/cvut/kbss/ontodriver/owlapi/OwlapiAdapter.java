@@ -15,7 +15,10 @@
 package cz.cvut.kbss.ontodriver.owlapi;
 
 import cz.cvut.kbss.ontodriver.descriptor.*;
+import cz.cvut.kbss.ontodriver.identifier.IdentifierGenerator;
+import cz.cvut.kbss.ontodriver.identifier.RandomIdentifierGenerator;
 import cz.cvut.kbss.ontodriver.model.Axiom;
+import cz.cvut.kbss.ontodriver.model.NamedResource;
 import cz.cvut.kbss.ontodriver.owlapi.connector.Connector;
 import cz.cvut.kbss.ontodriver.owlapi.connector.OntologySnapshot;
 import cz.cvut.kbss.ontodriver.owlapi.exception.OwlapiDriverException;
@@ -23,7 +26,7 @@ import cz.cvut.kbss.ontodriver.owlapi.list.ListHandler;
 import cz.cvut.kbss.ontodriver.owlapi.query.OwlapiPreparedStatement;
 import cz.cvut.kbss.ontodriver.owlapi.query.OwlapiStatement;
 import cz.cvut.kbss.ontodriver.owlapi.query.StatementExecutorFactory;
-import cz.cvut.kbss.ontodriver.owlapi.util.IdentifierGenerator;
+import cz.cvut.kbss.ontodriver.owlapi.util.UniqueIdentifierGenerator;
 import org.semanticweb.owlapi.model.OWLAxiom;
 import org.semanticweb.owlapi.model.OWLDataFactory;
 import org.semanticweb.owlapi.model.OWLOntology;
@@ -39,6 +42,7 @@ import java.util.*;
 public class OwlapiAdapter {
 
     private final Connector connector;
+    private final IdentifierGenerator identifierGenerator;
     private OntologySnapshot ontologySnapshot;
 
     private StatementExecutorFactory statementExecutorFactory;
@@ -51,7 +55,12 @@ public class OwlapiAdapter {
     }
 
     public OwlapiAdapter(Connector connector) {
+        this(connector, new RandomIdentifierGenerator());
+    }
+
+    public OwlapiAdapter(Connector connector, IdentifierGenerator identifierGenerator) {
         this.connector = connector;
+        this.identifierGenerator = identifierGenerator;
     }
 
     private void startTransactionIfNotActive() {
@@ -167,6 +176,11 @@ public class OwlapiAdapter {
         return new MainAxiomLoader(this, ontologySnapshot).findAxioms(descriptor);
     }
 
+    Map<NamedResource, Collection<Axiom<?>>> findAll(Collection<AxiomDescriptor> descriptors) {
+        startTransactionIfNotActive();
+        return new MainAxiomLoader(this, ontologySnapshot).findAxioms(descriptors);
+    }
+
     void persist(AxiomValueDescriptor descriptor) {
         startTransactionIfNotActive();
         new AxiomSaver(this, ontologySnapshot).persist(descriptor);
@@ -174,7 +188,7 @@ public class OwlapiAdapter {
 
     URI generateIdentifier(URI classUri) {
         startTransactionIfNotActive();
-        return new IdentifierGenerator(ontology()).generateIdentifier(classUri);
+        return new UniqueIdentifierGenerator(ontology(), identifierGenerator).generateIdentifier(classUri);
     }
 
     void update(AxiomValueDescriptor descriptor) {
@@ -23,7 +23,9 @@ public enum OwlapiConfigParam implements ConfigurationParameter {
 
     MAPPING_FILE_LOCATION(OwlapiOntoDriverProperties.MAPPING_FILE_LOCATION),
     IRI_MAPPING_DELIMITER(OwlapiOntoDriverProperties.IRI_MAPPING_DELIMITER),
-    WRITE_ON_COMMIT(OwlapiOntoDriverProperties.WRITE_ON_COMMIT);
+    WRITE_ON_COMMIT(OwlapiOntoDriverProperties.WRITE_ON_COMMIT),
+    COPY_ON_WRITE_SNAPSHOTS(OwlapiOntoDriverProperties.COPY_ON_WRITE_SNAPSHOTS),
+    SHARED_REASONER(OwlapiOntoDriverProperties.SHARED_REASONER);
 
     private final String name;
 
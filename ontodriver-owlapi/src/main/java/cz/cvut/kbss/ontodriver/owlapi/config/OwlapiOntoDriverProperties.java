@@ -36,6 +36,42 @@ public abstract class OwlapiOntoDriverProperties {
      */
     public static final String WRITE_ON_COMMIT = "cz.cvut.kbss.ontodriver.owlapi.writeOnCommit";
 
+    /**
+     * When set to true, transactions do not copy the whole ontology when they start.
+     * <p>
+     * Instead, transactions which start while the shared ontology does not change share one copy of it (and a reasoner
+     * over it, instantiated lazily on first use). A transaction gets a private copy only when it makes its first
+     * change. The shared copy is taken over instead of being copied again if no other transaction uses it. Read-only
+     * transactions thus copy the ontology at most once per committed change.
+     * <p>
+     * Note that a writing transaction still works with a full copy of the ontology (unless it takes over the shared
+     * copy), so its memory footprint is proportional to the size of the ontology, not to the size of its changes.
+     * <p>
+     * Each transaction reads the state of the storage as of its start, regardless of changes committed by other
+     * transactions in the meantime.
+     * <p>
+     * Defaults to {@code false}.
+     */
+    public static final String COPY_ON_WRITE_SNAPSHOTS = "cz.cvut.kbss.ontodriver.owlapi.copyOnWriteSnapshots";
+
+    /**
+     * When set to true, a single reasoner over the shared ontology is used by all transactions.
+     * <p>
+     * The reasoner is created once and kept up to date by flushing the changes committed to the shared ontology, so
+     * the ontology is not classified anew for every transaction. Implies {@link #COPY_ON_WRITE_SNAPSHOTS}. Reasoner
+     * calls are executed under the read lock of the shared ontology.
+     * <p>
+     * Until a transaction makes its first change, it reads the shared ontology directly instead of a copy of it, so
+     * asserted and inferred data come from the same state of the storage. Such transactions see changes committed by
+     * other transactions. On its first change, a transaction copies the shared ontology as of that moment.
+     * <p>
+     * Note that inference in a transaction which has modified the ontology does not take the transaction's own
+     * (uncommitted) changes into account.
+     * <p>
+     * Defaults to {@code false}.
+     */
+    public static final String SHARED_REASONER = "cz.cvut.kbss.ontodriver.owlapi.sharedReasoner";
+
     /**
      * Default IRI mapping delimiter.
      *
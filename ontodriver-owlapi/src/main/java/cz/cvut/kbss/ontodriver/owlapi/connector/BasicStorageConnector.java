@@ -23,18 +23,28 @@ import cz.cvut.kbss.ontodriver.owlapi.exception.*;
 import cz.cvut.kbss.ontodriver.owlapi.util.DefaultOntologyIriMapper;
 import cz.cvut.kbss.ontodriver.owlapi.util.MappingFileParser;
 import cz.cvut.kbss.ontodriver.owlapi.util.MutableAxiomChange;
+import cz.cvut.kbss.ontodriver.util.ChangeJournal;
 import org.semanticweb.owlapi.apibinding.OWLManager;
+import org.semanticweb.owlapi.formats.FunctionalSyntaxDocumentFormat;
 import org.semanticweb.owlapi.model.*;
 import org.semanticweb.owlapi.reasoner.OWLReasoner;
 import org.semanticweb.owlapi.reasoner.OWLReasonerFactory;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.FileNotFoundException;
+import java.io.IOException;
 import java.lang.reflect.InvocationTargetException;
 import java.net.URI;
+import java.nio.file.Paths;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 import java.util.function.Consumer;
@@ -47,6 +57,18 @@ import java.util.stream.Collectors;
  * Each call to {@link #getOntologySnapshot()} returns a new snapshot of the current state of the ontology. The changes
  * are the applied to a shared ontology, which represents the current state of the underlying storage.
  * <p>
+ * If {@link OwlapiConfigParam#COPY_ON_WRITE_SNAPSHOTS} is enabled, snapshots created while the shared ontology does not
+ * change share one copy of it (an {@link OntologyVersion}), and a transaction gets a private copy only when it first
+ * modifies its snapshot. Read-only transactions thus do not pay for copying the ontology and creating a new reasoner,
+ * while still reading a consistent state of the storage as of their beginning.
+ * <p>
+ * If {@link OwlapiConfigParam#SHARED_REASONER} is enabled, all snapshots use the reasoner over the shared ontology,
+ * which is fed the changes applied to the shared ontology. To keep asserted and inferred data consistent, snapshots then
+ * read the shared ontology itself until they are first modified, at which point they copy it under the read lock.
+ * <p>
+ * If {@link DriverConfigParam#CHANGE_JOURNAL} is enabled and the ontology is stored in a local file, committed axiom
+ * changes are appended to a {@link ChangeJournal} instead of saving the whole ontology on every commit.
+ * <p>
  * Note: This connector currently does not handle concurrent updates.
  */
 public class BasicStorageConnector extends AbstractConnector {
@@ -56,6 +78,10 @@ public class BasicStorageConnector extends AbstractConnector {
     private static final ReentrantReadWriteLock LOCK = new ReentrantReadWriteLock();
     private static final Lock READ = LOCK.readLock();
     private static final Lock WRITE = LOCK.writeLock();
+    /**
+     * Read lock for reasoners over ontology versions, which never change, so the lock is never write-locked.
+     */
+    private static final Lock VERSION_READ = new ReentrantReadWriteLock().readLock();
 
     private OWLOntologyManager ontologyManager;
     private OWLOntology ontology;
@@ -64,6 +90,26 @@ public class BasicStorageConnector extends AbstractConnector {
 
     private OWLOntologyIRIMapper iriMapper;
 
+    private boolean copyOnWrite;
+    private boolean sharedReasoner;
+
+    /**
+     * Copy of the current state of the shared ontology, {@code null} if it has not been made since the last change.
+     */
+    private OntologyVersion currentVersion;
+    private final Object versionMonitor = new Object();
+    /**
+     * The shared ontology, read by snapshots when the shared reasoner is used.
+     */
+    private OntologyVersion liveVersion;
+
+    private ChangeJournal journal;
+    private OWLOntologyManager journalManager;
+    /**
+     * Whether the shared ontology was modified without the changes being journaled.
+     */
+    private boolean unjournaledChanges;
+
     BasicStorageConnector(DriverConfiguration configuration) throws OwlapiDriverException {
         super(configuration);
     }
@@ -77,11 +123,18 @@ public class BasicStorageConnector extends AbstractConnector {
         LOG.debug("Loading ontology {} from {}.", storageProperties.getOntologyURI(),
                 storageProperties.getPhysicalURI());
         resolveIriMapper();
-        this.ontologyManager = OWLManager.createOWLOntologyManager();
+        this.sharedReasoner = configuration.is(OwlapiConfigParam.SHARED_REASONER);
+        this.copyOnWrite = sharedReasoner || configuration.is(OwlapiConfigParam.COPY_ON_WRITE_SNAPSHOTS);
+        // Copy-on-write snapshots read shared ontology versions concurrently with commits of other transactions
+        this.ontologyManager = copyOnWrite ? OWLManager.createConcurrentOWLOntologyManager() :
+                               OWLManager.createOWLOntologyManager();
         setIriMapper(ontologyManager);
+        openJournal(storageProperties);
         loadOntology(storageProperties);
+        replayJournal();
         initializeReasonerFactory();
-        this.reasoner = getReasoner(ontology);
+        this.reasoner = createLiveReasoner();
+        this.liveVersion = OntologyVersion.live(ontology);
     }
 
     private void resolveIriMapper() {
@@ -116,6 +169,70 @@ public class BasicStorageConnector extends AbstractConnector {
         }
     }
 
+    private void openJournal(OntologyStorageProperties storageProperties) throws OwlapiDriverException {
+        if (!configuration.is(DriverConfigParam.CHANGE_JOURNAL)) {
+            return;
+        }
+        final URI physicalUri = storageProperties.getPhysicalURI();
+        if (!"file".equals(physicalUri.getScheme())) {
+            LOG.warn("Change journal is supported only for ontologies stored in local files, {} is not one.",
+                    physicalUri);
+            return;
+        }
+        try {
+            this.journal = new ChangeJournal(Paths.get(physicalUri), configuration.getProperty(
+                    DriverConfigParam.JOURNAL_COMPACTION_THRESHOLD, ChangeJournal.DEFAULT_COMPACTION_THRESHOLD));
+            this.journalManager = OWLManager.createOWLOntologyManager();
+        } catch (IOException e) {
+            throw new OntologyStorageException("Unable to open change journal of " + physicalUri, e);
+        }
+    }
+
+    private void replayJournal() throws OwlapiDriverException {
+        if (journal == null) {
+            return;
+        }
+        try {
+            journal.replay((removed, added) -> {
+                ontologyManager.removeAxioms(ontology, deserializeAxioms(removed));
+                ontologyManager.addAxioms(ontology, deserializeAxioms(added));
+            });
+        } catch (IOException e) {
+            throw new OntologyStorageException("Unable to replay change journal " + journal.getJournalFile(), e);
+        }
+        this.unjournaledChanges = false;
+    }
+
+    private Set<OWLAxiom> deserializeAxioms(byte[] data) throws IOException {
+        if (data.length == 0) {
+            return Collections.emptySet();
+        }
+        try {
+            final OWLOntology record =
+                    journalManager.loadOntologyFromOntologyDocument(new ByteArrayInputStream(data));
+            final Set<OWLAxiom> axioms = record.axioms().collect(Collectors.toSet());
+            journalManager.removeOntology(record);
+            return axioms;
+        } catch (OWLOntologyCreationException e) {
+            throw new IOException("Unable to read axioms from change journal.", e);
+        }
+    }
+
+    private byte[] serializeAxioms(Collection<OWLAxiom> axioms) throws IOException {
+        if (axioms.isEmpty()) {
+            return new byte[0];
+        }
+        try {
+            final OWLOntology record = journalManager.createOntology(axioms.stream());
+            final ByteArrayOutputStream out = new ByteArrayOutputStream();
+            journalManager.saveOntology(record, new FunctionalSyntaxDocumentFormat(), out);
+            journalManager.removeOntology(record);
+            return out.toByteArray();
+        } catch (OWLOntologyCreationException | OWLOntologyStorageException e) {
+            throw new IOException("Unable to serialize axioms into change journal.", e);
+        }
+    }
+
     private void tryCreatingOntology(IRI ontologyIri) throws OwlapiDriverException {
         LOG.trace("Creating new ontology in {}.", configuration.getStorageProperties().getPhysicalURI());
         try {
@@ -160,24 +277,136 @@ public class BasicStorageConnector extends AbstractConnector {
 
     @Override
     public OntologySnapshot getOntologySnapshot() {
+        ensureOpen();
+        if (sharedReasoner) {
+            // The shared reasoner reflects the live ontology, so reads do not use a stale copy of the asserted data
+            return new CopyOnWriteOntologySnapshot(liveVersion, ontologyManager, ontologyManager.getOWLDataFactory(),
+                    () -> reasoner, version -> copyOntology(), copy -> reasoner);
+        }
+        if (copyOnWrite) {
+            final OntologyVersion base = acquireVersion();
+            return new CopyOnWriteOntologySnapshot(base, ontologyManager, ontologyManager.getOWLDataFactory(),
+                    () -> getVersionReasoner(base), this::privatize, this::getReasoner);
+        }
+        final OWLOntology snapshot = copyOntology();
+        return new OntologySnapshot(snapshot, ontologyManager, ontologyManager.getOWLDataFactory(),
+                getReasoner(snapshot));
+    }
+
+    private OWLOntology copyOntology() {
         ensureOpen();
         READ.lock();
         try {
-            final OWLOntology snapshot = ontologyManager.createOntology();
-            cloneOntologyContent(snapshot);
-            return new OntologySnapshot(snapshot, ontologyManager, ontologyManager.getOWLDataFactory(),
-                    getReasoner(snapshot));
+            return copyOf(ontology);
+        } finally {
+            READ.unlock();
+        }
+    }
+
+    private OWLOntology copyOf(OWLOntology source) {
+        try {
+            final OWLOntology copy = ontologyManager.createOntology();
+            ontologyManager.addAxioms(copy, source.axioms());
+            ontologyManager.applyChanges(
+                    source.importsDeclarations().map(i -> new AddImport(copy, i)).collect(Collectors.toList()));
+            return copy;
         } catch (OWLOntologyCreationException e) {
             throw new OntologySnapshotException("Unable to create ontology snapshot.", e);
+        }
+    }
+
+    /**
+     * Gets the copy of the shared ontology at its current version, creating it if the shared ontology has changed
+     * since the last copy was made.
+     * <p>
+     * The copy is made under the read lock, so it reflects a consistent state of the storage.
+     */
+    private OntologyVersion acquireVersion() {
+        READ.lock();
+        try {
+            synchronized (versionMonitor) {
+                if (currentVersion == null) {
+                    this.currentVersion = new OntologyVersion(copyOf(ontology));
+                }
+                currentVersion.acquire();
+                return currentVersion;
+            }
         } finally {
             READ.unlock();
         }
     }
 
-    private void cloneOntologyContent(OWLOntology target) {
-        ontologyManager.addAxioms(target, ontology.axioms());
-        ontologyManager.applyChanges(
-                ontology.importsDeclarations().map(i -> new AddImport(target, i)).collect(Collectors.toList()));
+    private OWLReasoner getVersionReasoner(OntologyVersion version) {
+        synchronized (versionMonitor) {
+            if (version.getReasoner() == null && !version.isOwned()) {
+                final OWLReasoner versionReasoner = getReasoner(version.getOntology());
+                // The version ontology does not change, the shared reasoner only serializes calls to the reasoner
+                version.setReasoner(versionReasoner != null ? new SharedReasoner(versionReasoner, VERSION_READ) :
+                                    null);
+            }
+            return version.getReasoner();
+        }
+    }
+
+    /**
+     * Provides a private ontology with the content of the specified version.
+     * <p>
+     * If the version is not used by any other transaction, it is taken over instead of being copied.
+     */
+    private OWLOntology privatize(OntologyVersion version) {
+        synchronized (versionMonitor) {
+            if (!version.isSharedByOthers() && !version.isOwned()) {
+                version.markOwned();
+                if (currentVersion == version) {
+                    this.currentVersion = null;
+                }
+                disposeVersionReasoner(version);
+                return version.getOntology();
+            }
+        }
+        // The version is not disposed while the snapshot uses it and it is never modified while shared
+        return copyOf(version.getOntology());
+    }
+
+    /**
+     * Marks the current version as outdated after the shared ontology has been modified.
+     * <p>
+     * Must be called under the write lock.
+     */
+    private void supersedeCurrentVersion() {
+        synchronized (versionMonitor) {
+            if (currentVersion != null && currentVersion.isUnused()) {
+                disposeVersion(currentVersion);
+            }
+            this.currentVersion = null;
+        }
+    }
+
+    private void releaseVersion(OntologyVersion version) {
+        if (version.isLive()) {
+            return;
+        }
+        synchronized (versionMonitor) {
+            version.release();
+            if (version != currentVersion && version.isUnused()) {
+                disposeVersion(version);
+            }
+        }
+    }
+
+    private void disposeVersion(OntologyVersion version) {
+        disposeVersionReasoner(version);
+        // Ontology of an owned version is removed as the private ontology of the snapshot which took it over
+        if (!version.isOwned() && ontologyManager.contains(version.getOntology())) {
+            ontologyManager.removeOntology(version.getOntology());
+        }
+    }
+
+    private static void disposeVersionReasoner(OntologyVersion version) {
+        if (version.getReasoner() instanceof SharedReasoner) {
+            ((SharedReasoner) version.getReasoner()).getDelegate().dispose();
+            version.setReasoner(null);
+        }
     }
 
     private OntologySnapshot getLiveOntology() {
@@ -202,11 +431,18 @@ public class BasicStorageConnector extends AbstractConnector {
         WRITE.lock();
         try {
             function.accept(getLiveOntology());
+            supersedeCurrentVersion();
+            this.unjournaledChanges = true;
         } finally {
             WRITE.unlock();
         }
     }
 
+    private OWLReasoner createLiveReasoner() {
+        final OWLReasoner liveReasoner = getReasoner(ontology);
+        return sharedReasoner && liveReasoner != null ? new SharedReasoner(liveReasoner, READ) : liveReasoner;
+    }
+
     private OWLReasoner getReasoner(OWLOntology ontology) {
         if (reasonerFactory == null) {
             LOG.warn("Creating ontology snapshot without reasoner, because reasoner factory class was not specified.");
@@ -224,6 +460,15 @@ public class BasicStorageConnector extends AbstractConnector {
             changes.stream().filter(ch -> ch instanceof MutableAxiomChange)
                    .forEach(ch -> ((MutableAxiomChange) ch).setOntology(ontology));
             ontologyManager.applyChanges(changes);
+            supersedeCurrentVersion();
+            if (reasoner instanceof SharedReasoner) {
+                // Feed all the changes to the buffering reasoner at once
+                ((SharedReasoner) reasoner).getDelegate().flush();
+            }
+            if (journal != null) {
+                journalChanges(changes);
+                return;
+            }
             try {
                 writeToFile();
             } catch (OntologyStorageException e) {
@@ -234,11 +479,72 @@ public class BasicStorageConnector extends AbstractConnector {
         }
     }
 
+    private void journalChanges(List<OWLOntologyChange> changes) {
+        try {
+            if (unjournaledChanges || !changes.stream().allMatch(OWLOntologyChange::isAxiomChange)) {
+                // Changes other than axiom changes are not journaled, save the whole ontology instead
+                compactJournal();
+                return;
+            }
+            // Only the net effect of the changes is journaled, removals are replayed first
+            final Set<OWLAxiom> added = new LinkedHashSet<>();
+            final Set<OWLAxiom> removed = new LinkedHashSet<>();
+            for (OWLOntologyChange change : changes) {
+                final OWLAxiom axiom = change.getAxiom();
+                if (change.isAddAxiom()) {
+                    removed.remove(axiom);
+                    added.add(axiom);
+                } else {
+                    added.remove(axiom);
+                    removed.add(axiom);
+                }
+            }
+            journal.append(serializeAxioms(removed), serializeAxioms(added));
+            if (journal.isCompactionDue()) {
+                journal.scheduleCompaction(this::compactJournal);
+            }
+        } catch (IOException e) {
+            LOG.error("Unable to journal ontology changes.", e);
+        }
+    }
+
+    /**
+     * Saves the whole ontology and clears the journal.
+     * <p>
+     * The read lock prevents concurrent modifications of the ontology, so the saved ontology contains all the
+     * journaled changes.
+     */
+    private Void compactJournal() throws IOException {
+        READ.lock();
+        try {
+            journal.compact(journal.size(), out -> {
+                try {
+                    ontologyManager.saveOntology(ontology, ontologyManager.getOntologyFormat(ontology), out);
+                } catch (OWLOntologyStorageException e) {
+                    throw new IOException("Unable to save ontology.", e);
+                }
+            });
+            this.unjournaledChanges = false;
+        } finally {
+            READ.unlock();
+        }
+        return null;
+    }
+
     @Override
     public void closeSnapshot(OntologySnapshot snapshot) {
         ensureOpen();
         assert snapshot != null;
-        ontologyManager.removeOntology(snapshot.getOntology());
+        if (snapshot instanceof CopyOnWriteOntologySnapshot) {
+            final CopyOnWriteOntologySnapshot cowSnapshot = (CopyOnWriteOntologySnapshot) snapshot;
+            // Unmodified copy-on-write snapshot reads the shared version
+            if (cowSnapshot.isCopied()) {
+                ontologyManager.removeOntology(cowSnapshot.getOntology());
+            }
+            releaseVersion(cowSnapshot.getBase());
+        } else {
+            ontologyManager.removeOntology(snapshot.getOntology());
+        }
     }
 
     @Override
@@ -246,27 +552,62 @@ public class BasicStorageConnector extends AbstractConnector {
         WRITE.lock();
         try {
             ontologyManager.clearOntologies();
+            supersedeCurrentVersion();
             loadOntology(configuration.getStorageProperties());
-            this.reasoner = getReasoner(ontology);
+            replayJournal();
+            disposeLiveReasoner();
+            this.reasoner = createLiveReasoner();
+            this.liveVersion = OntologyVersion.live(ontology);
         } finally {
             WRITE.unlock();
         }
     }
 
+    private void disposeLiveReasoner() {
+        if (reasoner instanceof SharedReasoner) {
+            ((SharedReasoner) reasoner).getDelegate().dispose();
+        }
+    }
+
     @Override
     public void close() throws OntoDriverException {
         if (!isOpen()) {
             return;
         }
+        if (journal != null) {
+            closeJournal();
+        }
         WRITE.lock();
         try {
-            writeToFile();
+            if (journal == null) {
+                writeToFile();
+            }
             super.close();
         } finally {
             WRITE.unlock();
         }
     }
 
+    private void closeJournal() throws OntologyStorageException {
+        WRITE.lock();
+        try {
+            if (unjournaledChanges) {
+                compactJournal();
+            }
+        } catch (IOException e) {
+            throw new OntologyStorageException("Unable to save ontology to " +
+                    configuration.getStorageProperties().getPhysicalURI(), e);
+        } finally {
+            WRITE.unlock();
+        }
+        try {
+            // Waits for background compaction, which requires the read lock
+            journal.close();
+        } catch (IOException e) {
+            LOG.error("Unable to close change journal {}.", journal.getJournalFile(), e);
+        }
+    }
+
     private void writeToFile() throws OntologyStorageException {
         try {
             ontologyManager.saveOntology(ontology, IRI.create(configuration.getStorageProperties().getPhysicalURI()));
@@ -0,0 +1,127 @@
+/**
+ * Copyright (C) 2023 Czech Technical University in Prague
+ *
+ * This program is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any
+ * later version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more
+ * details. You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package cz.cvut.kbss.ontodriver.owlapi.connector;
+
+import cz.cvut.kbss.ontodriver.owlapi.exception.OntologyChangeApplicationException;
+import cz.cvut.kbss.ontodriver.owlapi.util.MutableAxiomChange;
+import org.semanticweb.owlapi.model.OWLDataFactory;
+import org.semanticweb.owlapi.model.OWLOntology;
+import org.semanticweb.owlapi.model.OWLOntologyChange;
+import org.semanticweb.owlapi.model.OWLOntologyManager;
+import org.semanticweb.owlapi.reasoner.OWLReasoner;
+
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Ontology snapshot which shares the state of the storage at its creation with other transactions and copies it only
+ * when the transaction attempts to modify it.
+ * <p>
+ * Until the first change is applied, this snapshot reads the {@link OntologyVersion} which was current when it was
+ * created. The version is not modified while it is shared, so reads are repeatable and require no locking. On the first
+ * change, the snapshot obtains a private ontology with the same content, either by taking over the version (if no other
+ * transaction uses it) or by copying it. The reasoner over the private ontology is created only when it is first
+ * requested.
+ * <p>
+ * When the shared reasoner is used, the snapshot reads the live version, i.e., the shared ontology itself, so that the
+ * asserted data correspond to the inferences. Such reads are not repeatable, and the private ontology is a copy of the
+ * shared ontology as of the first change.
+ */
+class CopyOnWriteOntologySnapshot extends OntologySnapshot {
+
+    private final OntologyVersion base;
+    private final Supplier<OWLReasoner> baseReasoner;
+    private final Function<OntologyVersion, OWLOntology> privatizer;
+    private final Function<OWLOntology, OWLReasoner> reasonerProvider;
+
+    private OWLOntology copy;
+    private OWLReasoner copyReasoner;
+    private boolean copyReasonerInitialized;
+
+    /**
+     * @param base             Version of the shared ontology read by this snapshot
+     * @param ontologyManager  Ontology manager
+     * @param dataFactory      Data factory
+     * @param baseReasoner     Provides reasoner over the base version
+     * @param privatizer       Provides a private ontology with the content of the base version
+     * @param reasonerProvider Creates reasoner over the private ontology
+     */
+    CopyOnWriteOntologySnapshot(OntologyVersion base, OWLOntologyManager ontologyManager,
+                                OWLDataFactory dataFactory, Supplier<OWLReasoner> baseReasoner,
+                                Function<OntologyVersion, OWLOntology> privatizer,
+                                Function<OWLOntology, OWLReasoner> reasonerProvider) {
+        super(base.getOntology(), ontologyManager, dataFactory, null);
+        this.base = base;
+        this.baseReasoner = baseReasoner;
+        this.privatizer = privatizer;
+        this.reasonerProvider = reasonerProvider;
+    }
+
+    OntologyVersion getBase() {
+        return base;
+    }
+
+    /**
+     * Checks whether this snapshot has already obtained its private ontology.
+     *
+     * @return {@code true} if the ontology is private, {@code false} if this snapshot still reads the shared version
+     */
+    boolean isCopied() {
+        return copy != null;
+    }
+
+    @Override
+    public OWLOntology getOntology() {
+        return isCopied() ? copy : super.getOntology();
+    }
+
+    @Override
+    public OWLReasoner getReasoner() {
+        if (!isCopied()) {
+            return baseReasoner.get();
+        }
+        if (!copyReasonerInitialized) {
+            this.copyReasoner = reasonerProvider.apply(copy);
+            this.copyReasonerInitialized = true;
+        }
+        return copyReasoner;
+    }
+
+    /**
+     * Applies the specified changes to the private ontology, obtaining it if necessary.
+     * <p>
+     * Changes created against the shared version are retargeted to the private ontology, so the shared version is never
+     * modified by this method.
+     *
+     * @param changes The changes to apply
+     * @return The applied changes
+     */
+    @Override
+    public List<OWLOntologyChange> applyChanges(List<OWLOntologyChange> changes) {
+        if (!isCopied()) {
+            this.copy = privatizer.apply(base);
+        }
+        for (OWLOntologyChange change : changes) {
+            if (change instanceof MutableAxiomChange) {
+                ((MutableAxiomChange) change).setOntology(copy);
+            } else if (change.getOntology() != copy) {
+                throw new OntologyChangeApplicationException(
+                        "Change " + change + " cannot be applied to a copy-on-write ontology snapshot.");
+            }
+        }
+        return super.applyChanges(changes);
+    }
+}
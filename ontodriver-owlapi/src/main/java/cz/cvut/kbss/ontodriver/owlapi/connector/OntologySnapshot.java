@@ -31,6 +31,8 @@ public class OntologySnapshot {
     private final OWLDataFactory dataFactory;
     private final OWLReasoner reasoner;
 
+    private long modificationCount;
+
     public OntologySnapshot(OWLOntology ontology, OWLOntologyManager ontologyManager, OWLDataFactory dataFactory,
                             OWLReasoner reasoner) {
         this.ontology = ontology;
@@ -55,6 +57,25 @@ public class OntologySnapshot {
         return reasoner;
     }
 
+    /**
+     * Gets the number of times changes have been applied to this snapshot.
+     * <p>
+     * This allows to detect that objects derived from this snapshot need to be refreshed.
+     *
+     * @return Modification count
+     */
+    public long getModificationCount() {
+        return modificationCount;
+    }
+
+    /**
+     * Marks this snapshot as modified, e.g., because changes were applied to its ontology directly via the ontology
+     * manager.
+     */
+    public void markModified() {
+        modificationCount++;
+    }
+
     /**
      * Applies the specified changes to this ontology snapshot.
      *
@@ -62,6 +83,7 @@ public class OntologySnapshot {
      * @return The applied changes
      */
     public List<OWLOntologyChange> applyChanges(List<OWLOntologyChange> changes) {
+        markModified();
         final ChangeApplied result = ontologyManager.applyChanges(changes);
         if (result == ChangeApplied.UNSUCCESSFULLY) {
             throw new OntologyChangeApplicationException(
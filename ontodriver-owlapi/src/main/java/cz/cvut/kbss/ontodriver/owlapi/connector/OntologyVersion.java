@@ -0,0 +1,101 @@
+/**
+ * Copyright (C) 2023 Czech Technical University in Prague
+ *
+ * This program is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any
+ * later version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more
+ * details. You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package cz.cvut.kbss.ontodriver.owlapi.connector;
+
+import org.semanticweb.owlapi.model.OWLOntology;
+import org.semanticweb.owlapi.reasoner.OWLReasoner;
+
+/**
+ * Copy of the shared ontology representing a particular version of the storage.
+ * <p>
+ * The copy is shared by all transactions which began while the storage was at this version. It is never modified
+ * while shared, so the transactions can read it without locking and their reads are repeatable.
+ * <p>
+ * Instances are guarded by the connector which manages them.
+ */
+final class OntologyVersion {
+
+    private final OWLOntology ontology;
+    private final boolean live;
+
+    private OWLReasoner reasoner;
+    private int users;
+    private boolean owned;
+
+    OntologyVersion(OWLOntology ontology) {
+        this(ontology, false);
+    }
+
+    private OntologyVersion(OWLOntology ontology, boolean live) {
+        this.ontology = ontology;
+        this.live = live;
+    }
+
+    /**
+     * Creates a version representing the shared ontology itself, not a copy of it.
+     * <p>
+     * The live version changes with each commit, it is neither acquired by snapshots nor disposed.
+     *
+     * @param ontology The shared ontology
+     * @return Live version
+     */
+    static OntologyVersion live(OWLOntology ontology) {
+        return new OntologyVersion(ontology, true);
+    }
+
+    boolean isLive() {
+        return live;
+    }
+
+    OWLOntology getOntology() {
+        return ontology;
+    }
+
+    OWLReasoner getReasoner() {
+        return reasoner;
+    }
+
+    void setReasoner(OWLReasoner reasoner) {
+        this.reasoner = reasoner;
+    }
+
+    void acquire() {
+        users++;
+    }
+
+    void release() {
+        assert users > 0;
+        users--;
+    }
+
+    boolean isUnused() {
+        return users == 0;
+    }
+
+    boolean isSharedByOthers() {
+        return users > 1;
+    }
+
+    /**
+     * Marks the ontology as taken over by its only user, who may now modify it.
+     */
+    void markOwned() {
+        this.owned = true;
+    }
+
+    boolean isOwned() {
+        return owned;
+    }
+}
@@ -0,0 +1,333 @@
+/**
+ * Copyright (C) 2023 Czech Technical University in Prague
+ *
+ * This program is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any
+ * later version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more
+ * details. You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package cz.cvut.kbss.ontodriver.owlapi.connector;
+
+import org.semanticweb.owlapi.model.*;
+import org.semanticweb.owlapi.reasoner.*;
+import org.semanticweb.owlapi.util.Version;
+
+import javax.annotation.Nonnull;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.locks.Lock;
+import java.util.function.Supplier;
+
+/**
+ * Reasoner over the live ontology shared by transactions.
+ * <p>
+ * Every call is executed under the read lock of the connector, so that it does not interleave with application of
+ * changes to the live ontology. In addition, calls are serialized, because reasoner implementations are generally not
+ * thread-safe.
+ * <p>
+ * The changes are flushed to the wrapped reasoner by the connector after it applies them to the live ontology, so
+ * {@link #flush()} and {@link #dispose()} do nothing.
+ */
+class SharedReasoner implements OWLReasoner {
+
+    private final OWLReasoner delegate;
+    private final Lock readLock;
+
+    SharedReasoner(OWLReasoner delegate, Lock readLock) {
+        this.delegate = delegate;
+        this.readLock = readLock;
+    }
+
+    /**
+     * Gets the wrapped reasoner.
+     *
+     * @return Wrapped reasoner
+     */
+    OWLReasoner getDelegate() {
+        return delegate;
+    }
+
+    private <T> T read(Supplier<T> call) {
+        readLock.lock();
+        try {
+            synchronized (delegate) {
+                return call.get();
+            }
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    @Nonnull
+    public OWLOntology getRootOntology() {
+        return read(() -> delegate.getRootOntology());
+    }
+
+    @Nonnull
+    public Set<OWLAxiom> getPendingAxiomAdditions() {
+        return read(() -> delegate.getPendingAxiomAdditions());
+    }
+
+    @Nonnull
+    public Set<OWLAxiom> getPendingAxiomRemovals() {
+        return read(() -> delegate.getPendingAxiomRemovals());
+    }
+
+    @Nonnull
+    public List<OWLOntologyChange> getPendingChanges() {
+        return read(() -> delegate.getPendingChanges());
+    }
+
+    @Nonnull
+    public BufferingMode getBufferingMode() {
+        return read(() -> delegate.getBufferingMode());
+    }
+
+    public long getTimeOut() {
+        return read(() -> delegate.getTimeOut());
+    }
+
+    @Nonnull
+    public Set<InferenceType> getPrecomputableInferenceTypes() {
+        return read(() -> delegate.getPrecomputableInferenceTypes());
+    }
+
+    public boolean isPrecomputed(@Nonnull InferenceType inferenceType) {
+        return read(() -> delegate.isPrecomputed(inferenceType));
+    }
+
+    public void precomputeInferences(
+            @Nonnull InferenceType... inferenceTypes) throws ReasonerInterruptedException, TimeOutException, InconsistentOntologyException {
+        read(() -> {
+            delegate.precomputeInferences(inferenceTypes);
+            return null;
+        });
+    }
+
+    public void interrupt() {
+        delegate.interrupt();
+    }
+
+    public void dispose() {
+        // The shared reasoner is disposed of by the connector
+    }
+
+    public void flush() {
+        // Changes are flushed by the connector once they are applied to the shared ontology
+    }
+
+    public boolean isConsistent() throws ReasonerInterruptedException, TimeOutException {
+        return read(() -> delegate.isConsistent());
+    }
+
+    @Nonnull
+    public NodeSet<OWLClass> getDataPropertyDomains(@Nonnull OWLDataProperty pe,
+                                                    boolean direct) throws InconsistentOntologyException, ReasonerInterruptedException, TimeOutException {
+        return read(() -> delegate.getDataPropertyDomains(pe, direct));
+    }
+
+    @Nonnull
+    public Set<OWLLiteral> getDataPropertyValues(@Nonnull OWLNamedIndividual ind,
+                                                 @Nonnull OWLDataProperty pe) throws InconsistentOntologyException, ReasonerInterruptedException, TimeOutException {
+        return read(() -> delegate.getDataPropertyValues(ind, pe));
+    }
+
+    @Nonnull
+    public Node<OWLClass> getEquivalentClasses(
+            @Nonnull OWLClassExpression ce) throws InconsistentOntologyException, ClassExpressionNotInProfileException, ReasonerInterruptedException, TimeOutException {
+        return read(() -> delegate.getEquivalentClasses(ce));
+    }
+
+    @Nonnull
+    public Node<OWLDataProperty> getEquivalentDataProperties(
+            @Nonnull OWLDataProperty pe) throws InconsistentOntologyException, ReasonerInterruptedException, TimeOutException {
+        return read(() -> delegate.getEquivalentDataProperties(pe));
+    }
+
+    @Nonnull
+    public Node<OWLObjectPropertyExpression> getEquivalentObjectProperties(
+            @Nonnull OWLObjectPropertyExpression pe) throws InconsistentOntologyException, ReasonerInterruptedException, TimeOutException {
+        return read(() -> delegate.getEquivalentObjectProperties(pe));
+    }
+
+    @Nonnull
+    public NodeSet<OWLNamedIndividual> getInstances(@Nonnull OWLClassExpression ce,
+                                                    boolean direct) throws InconsistentOntologyException, ClassExpressionNotInProfileException, ReasonerInterruptedException, TimeOutException {
+        return read(() -> delegate.getInstances(ce, direct));
+    }
+
+    @Nonnull
+    public Node<OWLObjectPropertyExpression> getInverseObjectProperties(
+            @Nonnull OWLObjectPropertyExpression pe) throws InconsistentOntologyException, ReasonerInterruptedException, TimeOutException {
+        return read(() -> delegate.getInverseObjectProperties(pe));
+    }
+
+    @Nonnull
+    public NodeSet<OWLClass> getObjectPropertyDomains(@Nonnull OWLObjectPropertyExpression pe,
+                                                      boolean direct) throws InconsistentOntologyException, ReasonerInterruptedException, TimeOutException {
+        return read(() -> delegate.getObjectPropertyDomains(pe, direct));
+    }
+
+    @Nonnull
+    public NodeSet<OWLClass> getObjectPropertyRanges(@Nonnull OWLObjectPropertyExpression pe,
+                                                     boolean direct) throws InconsistentOntologyException, ReasonerInterruptedException, TimeOutException {
+        return read(() -> delegate.getObjectPropertyRanges(pe, direct));
+    }
+
+    @Nonnull
+    public NodeSet<OWLNamedIndividual> getObjectPropertyValues(@Nonnull OWLNamedIndividual ind,
+                                                               @Nonnull OWLObjectPropertyExpression pe) throws InconsistentOntologyException, ReasonerInterruptedException, TimeOutException {
+        return read(() -> delegate.getObjectPropertyValues(ind, pe));
+    }
+
+    @Nonnull
+    public Node<OWLNamedIndividual> getSameIndividuals(
+            @Nonnull OWLNamedIndividual ind) throws InconsistentOntologyException, ReasonerInterruptedException, TimeOutException {
+        return read(() -> delegate.getSameIndividuals(ind));
+    }
+
+    @Nonnull
+    public NodeSet<OWLClass> getSubClasses(@Nonnull OWLClassExpression ce,
+                                           boolean direct) throws InconsistentOntologyException, ClassExpressionNotInProfileException, ReasonerInterruptedException, TimeOutException {
+        return read(() -> delegate.getSubClasses(ce, direct));
+    }
+
+    @Nonnull
+    public NodeSet<OWLDataProperty> getSubDataProperties(@Nonnull OWLDataProperty pe,
+                                                         boolean direct) throws InconsistentOntologyException, ReasonerInterruptedException, TimeOutException {
+        return read(() -> delegate.getSubDataProperties(pe, direct));
+    }
+
+    @Nonnull
+    public NodeSet<OWLObjectPropertyExpression> getSubObjectProperties(@Nonnull OWLObjectPropertyExpression pe,
+                                                                       boolean direct) throws InconsistentOntologyException, ReasonerInterruptedException, TimeOutException {
+        return read(() -> delegate.getSubObjectProperties(pe, direct));
+    }
+
+    @Nonnull
+    public NodeSet<OWLClass> getSuperClasses(@Nonnull OWLClassExpression ce,
+                                             boolean direct) throws InconsistentOntologyException, ClassExpressionNotInProfileException, ReasonerInterruptedException, TimeOutException {
+        return read(() -> delegate.getSuperClasses(ce, direct));
+    }
+
+    @Nonnull
+    public NodeSet<OWLDataProperty> getSuperDataProperties(@Nonnull OWLDataProperty pe,
+                                                           boolean direct) throws InconsistentOntologyException, ReasonerInterruptedException, TimeOutException {
+        return read(() -> delegate.getSuperDataProperties(pe, direct));
+    }
+
+    @Nonnull
+    public NodeSet<OWLObjectPropertyExpression> getSuperObjectProperties(@Nonnull OWLObjectPropertyExpression pe,
+                                                                         boolean direct) throws InconsistentOntologyException, ReasonerInterruptedException, TimeOutException {
+        return read(() -> delegate.getSuperObjectProperties(pe, direct));
+    }
+
+    @Nonnull
+    public NodeSet<OWLClass> getTypes(@Nonnull OWLNamedIndividual ind,
+                                      boolean direct) throws InconsistentOntologyException, ReasonerInterruptedException, TimeOutException {
+        return read(() -> delegate.getTypes(ind, direct));
+    }
+
+    @Nonnull
+    public Node<OWLClass> getUnsatisfiableClasses() throws ReasonerInterruptedException, TimeOutException {
+        return read(() -> delegate.getUnsatisfiableClasses());
+    }
+
+    public boolean isEntailed(
+            @Nonnull OWLAxiom axiom) throws ReasonerInterruptedException, UnsupportedEntailmentTypeException, TimeOutException, AxiomNotInProfileException, InconsistentOntologyException {
+        return read(() -> delegate.isEntailed(axiom));
+    }
+
+    public boolean isEntailed(
+            @Nonnull Set<? extends OWLAxiom> axioms) throws ReasonerInterruptedException, UnsupportedEntailmentTypeException, TimeOutException, AxiomNotInProfileException, InconsistentOntologyException {
+        return read(() -> delegate.isEntailed(axioms));
+    }
+
+    public boolean isEntailmentCheckingSupported(@Nonnull AxiomType<?> axiomType) {
+        return read(() -> delegate.isEntailmentCheckingSupported(axiomType));
+    }
+
+    public boolean isSatisfiable(
+            @Nonnull OWLClassExpression ce) throws ReasonerInterruptedException, TimeOutException, ClassExpressionNotInProfileException, InconsistentOntologyException {
+        return read(() -> delegate.isSatisfiable(ce));
+    }
+
+    @Nonnull
+    public Node<OWLClass> getBottomClassNode() {
+        return read(() -> delegate.getBottomClassNode());
+    }
+
+    @Nonnull
+    public Node<OWLDataProperty> getBottomDataPropertyNode() {
+        return read(() -> delegate.getBottomDataPropertyNode());
+    }
+
+    @Nonnull
+    public Node<OWLObjectPropertyExpression> getBottomObjectPropertyNode() {
+        return read(() -> delegate.getBottomObjectPropertyNode());
+    }
+
+    @Nonnull
+    public NodeSet<OWLNamedIndividual> getDifferentIndividuals(
+            @Nonnull OWLNamedIndividual ind) throws InconsistentOntologyException, ReasonerInterruptedException, TimeOutException {
+        return read(() -> delegate.getDifferentIndividuals(ind));
+    }
+
+    @Nonnull
+    public NodeSet<OWLClass> getDisjointClasses(@Nonnull OWLClassExpression ce) {
+        return read(() -> delegate.getDisjointClasses(ce));
+    }
+
+    @Nonnull
+    public NodeSet<OWLDataProperty> getDisjointDataProperties(
+            @Nonnull OWLDataPropertyExpression pe) throws InconsistentOntologyException, ReasonerInterruptedException, TimeOutException {
+        return read(() -> delegate.getDisjointDataProperties(pe));
+    }
+
+    @Nonnull
+    public NodeSet<OWLObjectPropertyExpression> getDisjointObjectProperties(
+            @Nonnull OWLObjectPropertyExpression pe) throws InconsistentOntologyException, ReasonerInterruptedException, TimeOutException {
+        return read(() -> delegate.getDisjointObjectProperties(pe));
+    }
+
+    @Nonnull
+    public IndividualNodeSetPolicy getIndividualNodeSetPolicy() {
+        return read(() -> delegate.getIndividualNodeSetPolicy());
+    }
+
+    @Nonnull
+    public String getReasonerName() {
+        return read(() -> delegate.getReasonerName());
+    }
+
+    @Nonnull
+    public Version getReasonerVersion() {
+        return read(() -> delegate.getReasonerVersion());
+    }
+
+    @Nonnull
+    public Node<OWLClass> getTopClassNode() {
+        return read(() -> delegate.getTopClassNode());
+    }
+
+    @Nonnull
+    public Node<OWLDataProperty> getTopDataPropertyNode() {
+        return read(() -> delegate.getTopDataPropertyNode());
+    }
+
+    @Nonnull
+    public Node<OWLObjectPropertyExpression> getTopObjectPropertyNode() {
+        return read(() -> delegate.getTopObjectPropertyNode());
+    }
+
+    @Nonnull
+    public FreshEntityPolicy getFreshEntityPolicy() {
+        return read(() -> delegate.getFreshEntityPolicy());
+    }
+}
@@ -18,7 +18,11 @@ import cz.cvut.kbss.ontodriver.PreparedStatement;
 import cz.cvut.kbss.ontodriver.ResultSet;
 import cz.cvut.kbss.ontodriver.exception.OntoDriverException;
 import cz.cvut.kbss.ontodriver.owlapi.OwlapiConnection;
+import cz.cvut.kbss.ontodriver.owlapi.util.OwlapiUtils;
+import cz.cvut.kbss.ontodriver.util.IdentifierUtils;
+import cz.cvut.kbss.ontodriver.util.SparqlUtils;
 import cz.cvut.kbss.ontodriver.util.StatementHolder;
+import org.semanticweb.owlapi.model.OWLLiteral;
 
 import java.util.Objects;
 
@@ -42,17 +46,37 @@ public class OwlapiPreparedStatement extends OwlapiStatement implements Prepared
     public ResultSet executeQuery() throws OntoDriverException {
         ensureOpen();
         closeExistingResultSet();
-        this.resultSet = getExecutor().executeQuery(querySpec(statementHolder.assembleStatement()));
+        this.resultSet = getExecutor().executeQuery(querySpec(assembleStatement()));
         return resultSet;
     }
 
     @Override
     public void executeUpdate() throws OntoDriverException {
         ensureOpen();
-        getExecutor().executeUpdate(querySpec(statementHolder.assembleStatement()));
+        getExecutor().executeUpdate(querySpec(assembleStatement()));
         connection.commitIfAuto();
     }
 
+    /**
+     * Assembles the statement, including the bound values.
+     * <p>
+     * The underlying query engine does not support passing bindings separately from the query string, so the bound
+     * values are formatted into it.
+     */
+    private String assembleStatement() {
+        return statementHolder.assembleStatement(OwlapiPreparedStatement::formatBoundValue);
+    }
+
+    private static String formatBoundValue(Object value) {
+        if (IdentifierUtils.isResourceIdentifierType(value.getClass())) {
+            return "<" + value + ">";
+        }
+        final OWLLiteral literal = OwlapiUtils.createOWLLiteralFromValue(value, null);
+        final String lexicalForm = "\"" + SparqlUtils.escapeStringLiteral(literal.getLiteral()) + "\"";
+        return literal.hasLang() ? lexicalForm + "@" + literal.getLang() :
+               lexicalForm + "^^<" + literal.getDatatype().getIRI() + ">";
+    }
+
     @Override
     public void setObject(String binding, Object value) {
         ensureOpen();
@@ -61,6 +85,14 @@ public class OwlapiPreparedStatement extends OwlapiStatement implements Prepared
         statementHolder.setParameter(binding, value.toString());
     }
 
+    @Override
+    public void bindValue(String binding, Object value) {
+        ensureOpen();
+        Objects.requireNonNull(binding, getNPXMessageSupplier("binding"));
+        Objects.requireNonNull(value, getNPXMessageSupplier("value"));
+        statementHolder.bindValue(binding, value);
+    }
+
     @Override
     public void clearParameters() {
         ensureOpen();
@@ -15,9 +15,11 @@
 package cz.cvut.kbss.ontodriver.owlapi.query;
 
 import cz.cvut.kbss.jopa.datatype.DatatypeTransformer;
+import cz.cvut.kbss.jopa.datatype.xsd.XsdDatatypeMapper;
 import cz.cvut.kbss.ontodriver.Statement;
 import cz.cvut.kbss.ontodriver.exception.OntoDriverException;
 import cz.cvut.kbss.ontodriver.exception.VariableNotBoundException;
+import cz.cvut.kbss.ontodriver.iteration.ColumnReader;
 import cz.cvut.kbss.ontodriver.owlapi.exception.BindingValueMismatchException;
 import cz.cvut.kbss.ontodriver.owlapi.exception.OwlapiDriverException;
 import cz.cvut.kbss.ontodriver.owlapi.util.OwlapiUtils;
@@ -25,12 +27,15 @@ import cz.cvut.kbss.owl2query.model.GroundTerm;
 import cz.cvut.kbss.owl2query.model.QueryResult;
 import cz.cvut.kbss.owl2query.model.ResultBinding;
 import cz.cvut.kbss.owl2query.model.Variable;
+import org.semanticweb.owlapi.model.OWLDatatype;
 import org.semanticweb.owlapi.model.OWLEntity;
 import org.semanticweb.owlapi.model.OWLLiteral;
 import org.semanticweb.owlapi.model.OWLObject;
+import org.semanticweb.owlapi.vocab.OWL2Datatype;
 
 import java.net.URI;
 import java.util.*;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import static cz.cvut.kbss.ontodriver.util.ErrorUtils.getNPXMessageSupplier;
@@ -46,6 +51,8 @@ class SelectResultSet extends AbstractResultSet {
     private int currentIndex;
     private ResultBinding<OWLObject> currentRow;
 
+    private final Map<Integer, ValueConverter<?>> converters = new HashMap<>();
+
     public SelectResultSet(QueryResult<OWLObject> queryResult, Statement statement) {
         super(statement);
         this.queryResult = queryResult;
@@ -203,14 +210,12 @@ class SelectResultSet extends AbstractResultSet {
 
     @Override
     public double getDouble(int columnIndex) throws OntoDriverException {
-        final Number num = getPrimitiveValue(Number.class, columnIndex);
-        return num.doubleValue();
+        return doubleValue(getLiteral(columnIndex));
     }
 
     @Override
     public double getDouble(String columnLabel) throws OntoDriverException {
-        final Number num = getPrimitiveValue(Number.class, columnLabel);
-        return num.doubleValue();
+        return doubleValue(getLiteral(columnLabel));
     }
 
     @Override
@@ -227,26 +232,81 @@ class SelectResultSet extends AbstractResultSet {
 
     @Override
     public int getInt(int columnIndex) throws OntoDriverException {
-        final Number num = getPrimitiveValue(Number.class, columnIndex);
-        return num.intValue();
+        return intValue(getLiteral(columnIndex));
     }
 
     @Override
     public int getInt(String columnLabel) throws OntoDriverException {
-        final Number num = getPrimitiveValue(Number.class, columnLabel);
-        return num.intValue();
+        return intValue(getLiteral(columnLabel));
     }
 
     @Override
     public long getLong(int columnIndex) throws OntoDriverException {
-        final Number num = getPrimitiveValue(Number.class, columnIndex);
-        return num.longValue();
+        return longValue(getLiteral(columnIndex));
     }
 
     @Override
     public long getLong(String columnLabel) throws OntoDriverException {
-        final Number num = getPrimitiveValue(Number.class, columnLabel);
-        return num.longValue();
+        return longValue(getLiteral(columnLabel));
+    }
+
+    private static double doubleValue(OWLLiteral literal) throws OntoDriverException {
+        final OWL2Datatype datatype = builtInDatatype(literal);
+        try {
+            if (datatype == OWL2Datatype.XSD_DOUBLE) {
+                return XsdDatatypeMapper.parseDouble(literal.getLiteral());
+            } else if (isIntDatatype(datatype) || isLongDatatype(datatype)) {
+                return Long.parseLong(literal.getLiteral());
+            }
+        } catch (NumberFormatException e) {
+            throw new OwlapiDriverException(e);
+        }
+        return numberValue(literal).doubleValue();
+    }
+
+    /**
+     * Parses values of datatypes mapped to {@code int} directly, avoiding the generic (boxing) literal mapping.
+     */
+    private static int intValue(OWLLiteral literal) throws OntoDriverException {
+        if (isIntDatatype(builtInDatatype(literal))) {
+            try {
+                return Integer.parseInt(literal.getLiteral());
+            } catch (NumberFormatException e) {
+                throw new OwlapiDriverException(e);
+            }
+        }
+        return numberValue(literal).intValue();
+    }
+
+    private static long longValue(OWLLiteral literal) throws OntoDriverException {
+        final OWL2Datatype datatype = builtInDatatype(literal);
+        if (isIntDatatype(datatype) || isLongDatatype(datatype)) {
+            try {
+                return Long.parseLong(literal.getLiteral());
+            } catch (NumberFormatException e) {
+                throw new OwlapiDriverException(e);
+            }
+        }
+        return numberValue(literal).longValue();
+    }
+
+    private static Number numberValue(OWLLiteral literal) {
+        final Object val = OwlapiUtils.owlLiteralToValue(literal);
+        ensureValueIsAssignableToClass(val, Number.class);
+        return (Number) val;
+    }
+
+    private static OWL2Datatype builtInDatatype(OWLLiteral literal) {
+        final OWLDatatype datatype = literal.getDatatype();
+        return datatype.isBuiltIn() ? datatype.getBuiltInDatatype() : null;
+    }
+
+    private static boolean isIntDatatype(OWL2Datatype datatype) {
+        return datatype == OWL2Datatype.XSD_INT || datatype == OWL2Datatype.XSD_UNSIGNED_SHORT;
+    }
+
+    private static boolean isLongDatatype(OWL2Datatype datatype) {
+        return datatype == OWL2Datatype.XSD_LONG || datatype == OWL2Datatype.XSD_UNSIGNED_INT;
     }
 
     @Override
@@ -277,7 +337,19 @@ class SelectResultSet extends AbstractResultSet {
     @Override
     public <T> T getObject(int columnIndex, Class<T> cls) throws OntoDriverException {
         Objects.requireNonNull(cls);
-        return owlObjectToType(getCurrentValue(columnIndex), cls);
+        final OWLObject value = getCurrentValue(columnIndex);
+        return converterFor(columnIndex, cls).convert(value);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> ValueConverter<T> converterFor(int columnIndex, Class<T> cls) {
+        final ValueConverter<?> converter = converters.get(columnIndex);
+        if (converter != null && converter.targetType == cls) {
+            return (ValueConverter<T>) converter;
+        }
+        final ValueConverter<T> newConverter = new ValueConverter<>(cls);
+        converters.put(columnIndex, newConverter);
+        return newConverter;
     }
 
     private static <T> T owlObjectToType(OWLObject owlValue, Class<T> cls) throws OntoDriverException {
@@ -303,6 +375,17 @@ class SelectResultSet extends AbstractResultSet {
         return owlObjectToType(getCurrentValue(columnLabel), cls);
     }
 
+    @Override
+    public <T> ColumnReader<T> getColumnReader(int columnIndex, Class<T> cls) {
+        ensureOpen();
+        Objects.requireNonNull(cls);
+        if (!indexesToVariables.containsKey(columnIndex)) {
+            throw new IllegalArgumentException("No result binding found for index " + columnIndex);
+        }
+        final ValueConverter<T> converter = new ValueConverter<>(cls);
+        return () -> converter.convert(getCurrentValue(columnIndex));
+    }
+
     @Override
     public int getRowIndex() {
         return currentIndex;
@@ -400,4 +483,48 @@ class SelectResultSet extends AbstractResultSet {
             next();
         }
     }
+
+    /**
+     * Converts values of one column to the target type.
+     * <p>
+     * The conversion is resolved for the first value and reused as long as the following values are of the same kind
+     * (value class and literal datatype).
+     */
+    private static final class ValueConverter<T> {
+
+        private final Class<T> targetType;
+
+        private Class<?> valueType;
+        private OWLDatatype datatype;
+        private boolean passThrough;
+        private Function<String, Object> lexicalMapper;
+
+        private ValueConverter(Class<T> targetType) {
+            this.targetType = targetType;
+        }
+
+        T convert(OWLObject value) throws OntoDriverException {
+            final OWLDatatype valueDatatype = value instanceof OWLLiteral ? ((OWLLiteral) value).getDatatype() : null;
+            if (value.getClass() != valueType || !Objects.equals(valueDatatype, datatype)) {
+                resolve(value.getClass(), valueDatatype);
+            }
+            if (passThrough) {
+                return targetType.cast(value);
+            }
+            if (lexicalMapper == null) {
+                return owlObjectToType(value, targetType);
+            }
+            final Object ob = lexicalMapper.apply(((OWLLiteral) value).getLiteral());
+            return targetType.cast(DatatypeTransformer.transform(ob, targetType));
+        }
+
+        private void resolve(Class<?> valueType, OWLDatatype datatype) {
+            this.valueType = valueType;
+            this.datatype = datatype;
+            this.passThrough = targetType.isAssignableFrom(valueType);
+            this.lexicalMapper = datatype != null ?
+                                 XsdDatatypeMapper.getInstance().getLexicalMapper(datatype.toStringID())
+                                                  .orElse(null) : null;
+        }
+    }
 }
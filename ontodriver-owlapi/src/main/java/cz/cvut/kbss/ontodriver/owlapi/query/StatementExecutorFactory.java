@@ -23,6 +23,8 @@ public class StatementExecutorFactory {
     private final OntologySnapshot transactionalSnapshot;
     private final Connector connector;
 
+    private TransactionalStatementExecutor transactionalExecutor;
+
     public StatementExecutorFactory(OntologySnapshot transactionalSnapshot, Connector connector) {
         this.transactionalSnapshot = transactionalSnapshot;
         this.connector = connector;
@@ -33,7 +35,11 @@ public class StatementExecutorFactory {
 
         switch (ontology) {
             case TRANSACTIONAL:
-                return new TransactionalStatementExecutor(transactionalSnapshot);
+                // Reuse the executor so that it can cache the query engine's view of the snapshot
+                if (transactionalExecutor == null) {
+                    this.transactionalExecutor = new TransactionalStatementExecutor(transactionalSnapshot);
+                }
+                return transactionalExecutor;
             case SHARED:
                 return new LiveOntologyStatementExecutor(connector);
             default:
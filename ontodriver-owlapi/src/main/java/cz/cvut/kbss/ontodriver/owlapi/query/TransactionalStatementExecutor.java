@@ -22,20 +22,22 @@ import cz.cvut.kbss.owl2query.engine.OWL2QueryEngine;
 import cz.cvut.kbss.owl2query.model.QueryResult;
 import cz.cvut.kbss.owl2query.model.owlapi.OWLAPIv3OWL2Ontology;
 import org.semanticweb.owlapi.model.OWLObject;
-import org.semanticweb.owlapi.model.OWLOntology;
-import org.semanticweb.owlapi.model.OWLOntologyManager;
 import org.semanticweb.owlapi.reasoner.OWLReasoner;
 
+/**
+ * Executes statements against a transactional ontology snapshot.
+ * <p>
+ * The query engine's view of the snapshot is reused by subsequent queries until the snapshot is modified.
+ */
 public class TransactionalStatementExecutor implements StatementExecutor {
 
-    private final OWLOntology ontology;
-    private final OWLOntologyManager ontologyManager;
-    private final OWLReasoner reasoner;
+    private final OntologySnapshot snapshot;
+
+    private OWLAPIv3OWL2Ontology queryOntology;
+    private long queryOntologyModificationCount;
 
     public TransactionalStatementExecutor(OntologySnapshot snapshot) {
-        this.ontology = snapshot.getOntology();
-        this.ontologyManager = snapshot.getOntologyManager();
-        this.reasoner = snapshot.getReasoner();
+        this.snapshot = snapshot;
     }
 
     @Override
@@ -45,11 +47,13 @@ public class TransactionalStatementExecutor implements StatementExecutor {
     }
 
     private QueryResult<OWLObject> execute(QuerySpecification query) throws OwlapiDriverException {
-        if (reasoner == null) {
+        if (snapshot.getReasoner() == null) {
             throw new ReasonerNotAvailableException("Cannot execute query without a reasoner.");
         }
-        final OWLReasoner reasonerToUse = query.isDisableInference() ? getNoInferenceReasoner() : reasoner;
-        final OWLAPIv3OWL2Ontology ont = new OWLAPIv3OWL2Ontology(ontologyManager, ontology, reasonerToUse);
+        final OWLAPIv3OWL2Ontology ont = query.isDisableInference() ?
+                                         new OWLAPIv3OWL2Ontology(snapshot.getOntologyManager(),
+                                                 snapshot.getOntology(), getNoInferenceReasoner()) :
+                                         getQueryOntology();
 
         final QueryResult<OWLObject> res = OWL2QueryEngine.exec(query.getQuery(), ont);
         if (res == null) {
@@ -58,12 +62,22 @@ public class TransactionalStatementExecutor implements StatementExecutor {
         return res;
     }
 
+    private OWLAPIv3OWL2Ontology getQueryOntology() {
+        if (queryOntology == null || queryOntologyModificationCount != snapshot.getModificationCount()) {
+            this.queryOntology = new OWLAPIv3OWL2Ontology(snapshot.getOntologyManager(), snapshot.getOntology(),
+                    snapshot.getReasoner());
+            this.queryOntologyModificationCount = snapshot.getModificationCount();
+        }
+        return queryOntology;
+    }
+
     private OWLReasoner getNoInferenceReasoner() {
-        return new NoOpReasoner(ontology);
+        return new NoOpReasoner(snapshot.getOntology());
     }
 
     @Override
     public void executeUpdate(QuerySpecification query) throws OwlapiDriverException {
         execute(query);
+        snapshot.markModified();
     }
 }
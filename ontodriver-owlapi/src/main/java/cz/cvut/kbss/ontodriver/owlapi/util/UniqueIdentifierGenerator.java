@@ -15,36 +15,49 @@
 package cz.cvut.kbss.ontodriver.owlapi.util;
 
 import cz.cvut.kbss.ontodriver.exception.IdentifierGenerationException;
-import cz.cvut.kbss.ontodriver.util.IdentifierUtils;
+import cz.cvut.kbss.ontodriver.identifier.IdentifierGenerator;
+import cz.cvut.kbss.ontodriver.identifier.RandomIdentifierGenerator;
 import org.semanticweb.owlapi.model.IRI;
 import org.semanticweb.owlapi.model.OWLOntology;
 
 import java.net.URI;
 
-public class IdentifierGenerator {
+public class UniqueIdentifierGenerator {
 
     private static final int GENERATION_THRESHOLD = 100;
 
     private final OWLOntology ontology;
+    private final IdentifierGenerator identifierGenerator;
 
-    public IdentifierGenerator(OWLOntology ontology) {
+    public UniqueIdentifierGenerator(OWLOntology ontology) {
+        this(ontology, new RandomIdentifierGenerator());
+    }
+
+    public UniqueIdentifierGenerator(OWLOntology ontology, IdentifierGenerator identifierGenerator) {
         assert ontology != null;
+        assert identifierGenerator != null;
         this.ontology = ontology;
+        this.identifierGenerator = identifierGenerator;
     }
 
     /**
      * Generates an identifier which is unique w.r.t. individuals in the known ontology.
+     * <p>
+     * If the underlying generator guarantees uniqueness, the generated identifier is not checked against the ontology.
      *
      * @param classUri URI of individual's class, used as base for the identifier
      * @return Unique identifier
      * @throws IdentifierGenerationException If unable to generate unique identifier
      */
     public URI generateIdentifier(URI classUri) {
+        if (identifierGenerator.guaranteesUniqueness()) {
+            return identifierGenerator.generateIdentifier(classUri);
+        }
         boolean unique = false;
         URI id = null;
         int counter = 0;
         while (!unique && counter++ < GENERATION_THRESHOLD) {
-            id = IdentifierUtils.generateIdentifier(classUri);
+            id = identifierGenerator.generateIdentifier(classUri);
             unique = isIdentifierUnique(id);
         }
         if (!unique) {
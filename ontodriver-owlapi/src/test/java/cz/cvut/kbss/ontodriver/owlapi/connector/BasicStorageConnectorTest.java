@@ -15,22 +15,33 @@
 package cz.cvut.kbss.ontodriver.owlapi.connector;
 
 import cz.cvut.kbss.ontodriver.OntologyStorageProperties;
+import cz.cvut.kbss.ontodriver.config.DriverConfigParam;
 import cz.cvut.kbss.ontodriver.config.DriverConfiguration;
 import cz.cvut.kbss.ontodriver.owlapi.OwlapiDataSource;
+import cz.cvut.kbss.ontodriver.owlapi.config.OwlapiConfigParam;
 import cz.cvut.kbss.ontodriver.owlapi.environment.Generator;
 import cz.cvut.kbss.ontodriver.owlapi.exception.InvalidOntologyIriException;
 import cz.cvut.kbss.ontodriver.owlapi.util.MutableAddAxiom;
+import cz.cvut.kbss.ontodriver.util.ChangeJournal;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 import org.semanticweb.owlapi.apibinding.OWLManager;
 import org.semanticweb.owlapi.model.*;
+import org.semanticweb.owlapi.reasoner.OWLReasoner;
+import org.semanticweb.owlapi.reasoner.structural.StructuralReasonerFactory;
 
 import java.io.File;
+import java.io.RandomAccessFile;
 import java.net.URI;
 import java.nio.file.Files;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -255,4 +266,338 @@ public class BasicStorageConnectorTest {
         assertNotNull(snapshot.getOntologyManager());
         assertNotNull(snapshot.getDataFactory());
     }
+
+    @Test
+    void copyOnWriteSnapshotsShareCopyOfSharedOntologyUntilChangesAreApplied() throws Exception {
+        final Set<OWLAxiom> axioms = Generator.generateAxioms();
+        final URI physicalUri = initOntology(axioms, false);
+        this.connector = new BasicStorageConnector(copyOnWriteConfiguration(physicalUri));
+        final OntologySnapshot snapshotOne = connector.getOntologySnapshot();
+        final OntologySnapshot snapshotTwo = connector.getOntologySnapshot();
+
+        assertSame(snapshotOne.getOntology(), snapshotTwo.getOntology());
+        assertNotSame(connector.executeRead(OntologySnapshot::getOntology), snapshotOne.getOntology());
+        assertTrue(snapshotOne.getOntology().axioms().collect(Collectors.toSet()).containsAll(axioms));
+    }
+
+    private DriverConfiguration copyOnWriteConfiguration(URI physicalUri) {
+        final DriverConfiguration configuration =
+                new DriverConfiguration(initStorageProperties(physicalUri, ONTOLOGY_URI));
+        configuration.setProperty(OwlapiConfigParam.COPY_ON_WRITE_SNAPSHOTS, Boolean.TRUE.toString());
+        return configuration;
+    }
+
+    @Test
+    void copyOnWriteSnapshotCopiesOntologyOnFirstChangeAndLeavesSharedOntologyIntact() throws Exception {
+        final Set<OWLAxiom> axioms = Generator.generateAxioms();
+        final URI physicalUri = initOntology(axioms, false);
+        this.connector = new BasicStorageConnector(copyOnWriteConfiguration(physicalUri));
+        final OntologySnapshot snapshot = connector.getOntologySnapshot();
+        final OntologySnapshot other = connector.getOntologySnapshot();
+        final OWLOntology shared = snapshot.getOntology();
+        final OWLClass cls = snapshot.getDataFactory().getOWLClass(IRI.create(Generator.generateUri()));
+        final OWLAxiom declaration = snapshot.getDataFactory().getOWLDeclarationAxiom(cls);
+
+        snapshot.applyChanges(Collections.singletonList(new MutableAddAxiom(shared, declaration)));
+        assertNotSame(shared, snapshot.getOntology());
+        assertTrue(snapshot.getOntology().containsAxiom(declaration));
+        assertTrue(snapshot.getOntology().axioms().collect(Collectors.toSet()).containsAll(axioms));
+        assertFalse(shared.containsAxiom(declaration));
+        assertFalse(other.getOntology().containsAxiom(declaration));
+        assertFalse(connector.<Boolean>executeRead(s -> s.getOntology().containsAxiom(declaration)));
+        assertFalse(connector.getOntologySnapshot().getOntology().containsAxiom(declaration));
+    }
+
+    @Test
+    void copyOnWriteSnapshotTakesOverUnsharedCopyOnFirstChangeInsteadOfCopyingIt() throws Exception {
+        final URI physicalUri = initOntology(Generator.generateAxioms(), false);
+        this.connector = new BasicStorageConnector(copyOnWriteConfiguration(physicalUri));
+        final OntologySnapshot snapshot = connector.getOntologySnapshot();
+        final OWLOntology base = snapshot.getOntology();
+        final OWLClass cls = snapshot.getDataFactory().getOWLClass(IRI.create(Generator.generateUri()));
+        final OWLAxiom declaration = snapshot.getDataFactory().getOWLDeclarationAxiom(cls);
+
+        snapshot.applyChanges(Collections.singletonList(new MutableAddAxiom(base, declaration)));
+        assertSame(base, snapshot.getOntology());
+        assertTrue(snapshot.getOntology().containsAxiom(declaration));
+        assertFalse(connector.<Boolean>executeRead(s -> s.getOntology().containsAxiom(declaration)));
+        final OntologySnapshot next = connector.getOntologySnapshot();
+        assertNotSame(base, next.getOntology());
+        assertFalse(next.getOntology().containsAxiom(declaration));
+    }
+
+    @Test
+    void copyOnWriteSnapshotReadsAreRepeatableWhenAnotherTransactionCommits() throws Exception {
+        final URI physicalUri = initOntology(Generator.generateAxioms(), false);
+        this.connector = new BasicStorageConnector(copyOnWriteConfiguration(physicalUri));
+        final OntologySnapshot reader = connector.getOntologySnapshot();
+        final OWLDataFactory df = reader.getDataFactory();
+        final OWLAxiom declaration = df.getOWLDeclarationAxiom(df.getOWLClass(IRI.create(Generator.generateUri())));
+        assertFalse(reader.getOntology().containsAxiom(declaration));
+
+        commitChange(declaration);
+        assertFalse(reader.getOntology().containsAxiom(declaration));
+        assertTrue(connector.getOntologySnapshot().getOntology().containsAxiom(declaration));
+    }
+
+    private void commitChange(OWLAxiom axiom) {
+        final OntologySnapshot writer = connector.getOntologySnapshot();
+        final List<OWLOntologyChange> changes =
+                writer.applyChanges(Collections.singletonList(new MutableAddAxiom(writer.getOntology(), axiom)));
+        connector.applyChanges(changes);
+        connector.closeSnapshot(writer);
+    }
+
+    @Test
+    void copyOnWriteSnapshotReadsAreConsistentWhileOtherTransactionsCommit() throws Exception {
+        final URI physicalUri = initOntology(Generator.generateAxioms(), false);
+        this.connector = new BasicStorageConnector(copyOnWriteConfiguration(physicalUri));
+        final OntologySnapshot reader = connector.getOntologySnapshot();
+        final OWLDataFactory df = reader.getDataFactory();
+        final int axiomCount = reader.getOntology().getAxiomCount();
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            final Future<Boolean> reads = executor.submit(() -> {
+                for (int i = 0; i < 200; i++) {
+                    if (reader.getOntology().axioms().count() != axiomCount) {
+                        return false;
+                    }
+                }
+                return true;
+            });
+            for (int i = 0; i < 20; i++) {
+                commitChange(df.getOWLDeclarationAxiom(df.getOWLClass(IRI.create(Generator.generateUri()))));
+            }
+            assertTrue(reads.get());
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(axiomCount, reader.getOntology().getAxiomCount());
+        assertEquals(axiomCount + 20, (int) connector.<Integer>executeRead(s -> s.getOntology().getAxiomCount()));
+    }
+
+    @Test
+    void closeSnapshotRemovesSupersededCopyOnceItIsNoLongerUsed() throws Exception {
+        final URI physicalUri = initOntology(Collections.emptySet(), false);
+        this.connector = new BasicStorageConnector(copyOnWriteConfiguration(physicalUri));
+        final OntologySnapshot reader = connector.getOntologySnapshot();
+        final OWLOntology base = reader.getOntology();
+        final OWLDataFactory df = reader.getDataFactory();
+        commitChange(df.getOWLDeclarationAxiom(df.getOWLClass(IRI.create(Generator.generateUri()))));
+        assertTrue(reader.getOntologyManager().contains(base));
+
+        connector.closeSnapshot(reader);
+        assertFalse(reader.getOntologyManager().contains(base));
+    }
+
+    @Test
+    void closeSnapshotDoesNotRemoveSharedOntologyForUnmodifiedCopyOnWriteSnapshot() throws Exception {
+        final URI physicalUri = initOntology(Collections.emptySet(), false);
+        this.connector = new BasicStorageConnector(copyOnWriteConfiguration(physicalUri));
+        final OntologySnapshot snapshot = connector.getOntologySnapshot();
+        final OWLOntology shared = snapshot.getOntology();
+        connector.closeSnapshot(snapshot);
+
+        assertTrue(snapshot.getOntologyManager().contains(shared));
+    }
+
+    @Test
+    void closeSnapshotRemovesCopiedOntologyOfModifiedCopyOnWriteSnapshot() throws Exception {
+        final URI physicalUri = initOntology(Collections.emptySet(), false);
+        this.connector = new BasicStorageConnector(copyOnWriteConfiguration(physicalUri));
+        final OntologySnapshot snapshot = connector.getOntologySnapshot();
+        final OWLClass cls = snapshot.getDataFactory().getOWLClass(IRI.create(Generator.generateUri()));
+        snapshot.applyChanges(Collections.singletonList(new MutableAddAxiom(snapshot.getOntology(),
+                snapshot.getDataFactory().getOWLDeclarationAxiom(cls))));
+        final OWLOntology copy = snapshot.getOntology();
+        connector.closeSnapshot(snapshot);
+
+        assertFalse(snapshot.getOntologyManager().contains(copy));
+    }
+
+    @Test
+    void sharedReasonerIsUsedByAllSnapshotsIncludingModifiedOnes() throws Exception {
+        final URI physicalUri = initOntology(Collections.emptySet(), false);
+        this.connector = new BasicStorageConnector(sharedReasonerConfiguration(physicalUri));
+        final OntologySnapshot snapshotOne = connector.getOntologySnapshot();
+        final OntologySnapshot snapshotTwo = connector.getOntologySnapshot();
+        assertNotNull(snapshotOne.getReasoner());
+        assertSame(snapshotOne.getReasoner(), snapshotTwo.getReasoner());
+
+        final OWLClass cls = snapshotOne.getDataFactory().getOWLClass(IRI.create(Generator.generateUri()));
+        snapshotOne.applyChanges(Collections.singletonList(new MutableAddAxiom(snapshotOne.getOntology(),
+                snapshotOne.getDataFactory().getOWLDeclarationAxiom(cls))));
+        assertNotSame(snapshotOne.getOntology(), snapshotTwo.getOntology());
+        assertSame(snapshotOne.getReasoner(), snapshotTwo.getReasoner());
+    }
+
+    private DriverConfiguration sharedReasonerConfiguration(URI physicalUri) {
+        final DriverConfiguration configuration =
+                new DriverConfiguration(initStorageProperties(physicalUri, ONTOLOGY_URI));
+        configuration.setProperty(OwlapiConfigParam.SHARED_REASONER, Boolean.TRUE.toString());
+        configuration.setProperty(DriverConfigParam.REASONER_FACTORY_CLASS, StructuralReasonerFactory.class.getName());
+        return configuration;
+    }
+
+    @Test
+    void applyChangesFlushesChangesToSharedReasoner() throws Exception {
+        final URI physicalUri = initOntology(Collections.emptySet(), false);
+        this.connector = new BasicStorageConnector(sharedReasonerConfiguration(physicalUri));
+        final OntologySnapshot snapshot = connector.getOntologySnapshot();
+        final OWLDataFactory df = snapshot.getDataFactory();
+        final OWLClass cls = df.getOWLClass(IRI.create(Generator.generateUri()));
+        final OWLNamedIndividual individual = df.getOWLNamedIndividual(IRI.create(Generator.generateUri()));
+        final OWLOntology ontology = snapshot.getOntology();
+        connector.applyChanges(Arrays.asList(new MutableAddAxiom(ontology, df.getOWLDeclarationAxiom(cls)),
+                new MutableAddAxiom(ontology, df.getOWLClassAssertionAxiom(cls, individual))));
+
+        final OWLReasoner reasoner = connector.getOntologySnapshot().getReasoner();
+        assertTrue(reasoner.getPendingChanges().isEmpty());
+        assertTrue(reasoner.getInstances(cls, true).containsEntity(individual));
+    }
+
+    @Test
+    void sharedReasonerSnapshotReadsSharedOntologyUntilFirstChange() throws Exception {
+        final Set<OWLAxiom> axioms = Generator.generateAxioms();
+        final URI physicalUri = initOntology(axioms, false);
+        this.connector = new BasicStorageConnector(sharedReasonerConfiguration(physicalUri));
+        final OntologySnapshot snapshot = connector.getOntologySnapshot();
+        final OWLOntology live = connector.executeRead(OntologySnapshot::getOntology);
+        assertSame(live, snapshot.getOntology());
+
+        final OWLDataFactory df = snapshot.getDataFactory();
+        final OWLAxiom declaration = df.getOWLDeclarationAxiom(df.getOWLClass(IRI.create(Generator.generateUri())));
+        snapshot.applyChanges(Collections.singletonList(new MutableAddAxiom(live, declaration)));
+        assertNotSame(live, snapshot.getOntology());
+        assertTrue(snapshot.getOntology().containsAxiom(declaration));
+        assertTrue(snapshot.getOntology().axioms().collect(Collectors.toSet()).containsAll(axioms));
+        assertFalse(live.containsAxiom(declaration));
+        connector.closeSnapshot(snapshot);
+        assertTrue(connector.getOntologySnapshot().getOntology().axioms().collect(Collectors.toSet())
+                            .containsAll(axioms));
+    }
+
+    @Test
+    public void applyChangesAppendsChangesToJournalInsteadOfSavingOntologyWhenJournalIsEnabled() throws Exception {
+        final URI physicalUri = initOntology(Collections.emptySet(), false);
+        final File journalFile = journalFile(physicalUri);
+        this.connector = new BasicStorageConnector(journaledConfiguration(physicalUri));
+        final OWLClass cls = addClassToOntology(connector.getOntologySnapshot());
+
+        assertTrue(journalFile.length() > 0);
+        assertFalse(ontologyFileContainsClass(physicalUri, cls.getIRI()));
+    }
+
+    private File journalFile(URI physicalUri) {
+        final File journalFile = new File(new File(physicalUri).getAbsolutePath() + ChangeJournal.JOURNAL_SUFFIX);
+        journalFile.deleteOnExit();
+        return journalFile;
+    }
+
+    private DriverConfiguration journaledConfiguration(URI physicalUri) {
+        final DriverConfiguration configuration =
+                new DriverConfiguration(initStorageProperties(physicalUri, ONTOLOGY_URI));
+        configuration.setProperty(DriverConfigParam.CHANGE_JOURNAL, Boolean.TRUE.toString());
+        return configuration;
+    }
+
+    private static boolean ontologyFileContainsClass(URI physicalUri, IRI cls) throws Exception {
+        final OWLOntologyManager om = OWLManager.createOWLOntologyManager();
+        final OWLOntology o = om.loadOntologyFromOntologyDocument(new File(physicalUri));
+        return o.containsClassInSignature(cls);
+    }
+
+    private OWLClass declareClass(IRI iri) {
+        final OntologySnapshot snapshot = connector.getOntologySnapshot();
+        final OWLClass cls = snapshot.getDataFactory().getOWLClass(iri);
+        final OWLAxiom classDeclaration = snapshot.getDataFactory().getOWLDeclarationAxiom(cls);
+        connector.applyChanges(Collections.singletonList(new MutableAddAxiom(snapshot.getOntology(), classDeclaration)));
+        connector.closeSnapshot(snapshot);
+        return cls;
+    }
+
+    @Test
+    public void initializationReplaysJournalWhenOntologyFileIsStaleAfterCrash() throws Exception {
+        final URI physicalUri = initOntology(Collections.emptySet(), false);
+        final File journalFile = journalFile(physicalUri);
+        final BasicStorageConnector crashed = new BasicStorageConnector(journaledConfiguration(physicalUri));
+        this.connector = crashed;
+        final OWLClass cls = declareClass(IRI.create(Generator.generateUri()));
+        assertFalse(ontologyFileContainsClass(physicalUri, cls.getIRI()));
+        assertTrue(journalFile.length() > 0);
+
+        // The crashed connector is not closed, the ontology file remains stale
+        this.connector = new BasicStorageConnector(journaledConfiguration(physicalUri));
+        connector.executeRead(snapshot -> {
+            assertTrue(snapshot.getOntology().containsClassInSignature(cls.getIRI()));
+            return null;
+        });
+        crashed.close();
+    }
+
+    @Test
+    public void applyChangesCompactsJournalIntoOntologyFileWhenJournalExceedsThreshold() throws Exception {
+        final URI physicalUri = initOntology(Collections.emptySet(), false);
+        final File journalFile = journalFile(physicalUri);
+        final DriverConfiguration configuration = journaledConfiguration(physicalUri);
+        configuration.setProperty(DriverConfigParam.JOURNAL_COMPACTION_THRESHOLD, "1");
+        this.connector = new BasicStorageConnector(configuration);
+        final OWLClass cls = declareClass(IRI.create(Generator.generateUri()));
+        // Waits for the background compaction to finish
+        connector.close();
+
+        assertTrue(ontologyFileContainsClass(physicalUri, cls.getIRI()));
+        assertEquals(0, journalFile.length());
+    }
+
+    @Test
+    public void initializationDiscardsTruncatedTrailingJournalRecord() throws Exception {
+        final URI physicalUri = initOntology(Collections.emptySet(), false);
+        final File journalFile = journalFile(physicalUri);
+        final BasicStorageConnector crashed = new BasicStorageConnector(journaledConfiguration(physicalUri));
+        this.connector = crashed;
+        final OWLClass clsOne = declareClass(IRI.create(Generator.generateUri()));
+        final long firstRecordEnd = journalFile.length();
+        final OWLClass clsTwo = declareClass(IRI.create(Generator.generateUri()));
+        try (final RandomAccessFile raf = new RandomAccessFile(journalFile, "rw")) {
+            // Simulates crash in the middle of appending the second record
+            raf.setLength(raf.length() - 3);
+        }
+
+        this.connector = new BasicStorageConnector(journaledConfiguration(physicalUri));
+        connector.executeRead(snapshot -> {
+            assertTrue(snapshot.getOntology().containsClassInSignature(clsOne.getIRI()));
+            assertFalse(snapshot.getOntology().containsClassInSignature(clsTwo.getIRI()));
+            return null;
+        });
+        assertEquals(firstRecordEnd, journalFile.length());
+        crashed.close();
+    }
+
+    @Test
+    public void initializationDiscardsCorruptedTrailingJournalRecord() throws Exception {
+        final URI physicalUri = initOntology(Collections.emptySet(), false);
+        final File journalFile = journalFile(physicalUri);
+        final BasicStorageConnector crashed = new BasicStorageConnector(journaledConfiguration(physicalUri));
+        this.connector = crashed;
+        final OWLClass clsOne = declareClass(IRI.create(Generator.generateUri()));
+        final long firstRecordEnd = journalFile.length();
+        final OWLClass clsTwo = declareClass(IRI.create(Generator.generateUri()));
+        try (final RandomAccessFile raf = new RandomAccessFile(journalFile, "rw")) {
+            // Flip the last byte of the second record, so that its checksum does not match
+            raf.seek(raf.length() - 1);
+            final int last = raf.read();
+            raf.seek(raf.length() - 1);
+            raf.write(~last);
+        }
+
+        this.connector = new BasicStorageConnector(journaledConfiguration(physicalUri));
+        connector.executeRead(snapshot -> {
+            assertTrue(snapshot.getOntology().containsClassInSignature(clsOne.getIRI()));
+            assertFalse(snapshot.getOntology().containsClassInSignature(clsTwo.getIRI()));
+            return null;
+        });
+        assertEquals(firstRecordEnd, journalFile.length());
+        crashed.close();
+    }
 }
@@ -15,12 +15,17 @@
 package cz.cvut.kbss.ontodriver.owlapi.query;
 
 import cz.cvut.kbss.ontodriver.ResultSet;
+import cz.cvut.kbss.ontodriver.model.LangString;
 import cz.cvut.kbss.ontodriver.owlapi.OwlapiConnection;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.net.URI;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -50,4 +55,45 @@ public class OwlapiPreparedStatementTest {
         statement.executeQuery();
         verify(resultSetMock).close();
     }
+
+    @Test
+    public void executeQueryFormatsBoundValuesIntoQuery() throws Exception {
+        when(executorFactoryMock.getStatementExecutor(any())).thenReturn(executorMock);
+        final OwlapiPreparedStatement statement = new OwlapiPreparedStatement(executorFactoryMock, connectionMock,
+                QUERY);
+        statement.bindValue("y", URI.create("http://property"));
+        statement.bindValue("z", "say \"hi\"");
+        statement.executeQuery();
+        final ArgumentCaptor<QuerySpecification> captor = ArgumentCaptor.forClass(QuerySpecification.class);
+        verify(executorMock).executeQuery(captor.capture());
+        assertEquals("SELECT ?x WHERE { ?x <http://property> " +
+                        "\"say \\\"hi\\\"\"^^<http://www.w3.org/2001/XMLSchema#string> . }",
+                captor.getValue().getQuery());
+    }
+
+    @Test
+    public void executeQueryFormatsBoundLanguageTaggedStringWithLanguage() throws Exception {
+        when(executorFactoryMock.getStatementExecutor(any())).thenReturn(executorMock);
+        final OwlapiPreparedStatement statement = new OwlapiPreparedStatement(executorFactoryMock, connectionMock,
+                QUERY);
+        statement.bindValue("z", new LangString("hello", "en"));
+        statement.executeQuery();
+        final ArgumentCaptor<QuerySpecification> captor = ArgumentCaptor.forClass(QuerySpecification.class);
+        verify(executorMock).executeQuery(captor.capture());
+        assertEquals("SELECT ?x WHERE { ?x ?y \"hello\"@en . }", captor.getValue().getQuery());
+    }
+
+    @Test
+    public void executeQueryEscapesLineBreaksAndTabsInBoundStringValues() throws Exception {
+        when(executorFactoryMock.getStatementExecutor(any())).thenReturn(executorMock);
+        final OwlapiPreparedStatement statement = new OwlapiPreparedStatement(executorFactoryMock, connectionMock,
+                QUERY);
+        statement.bindValue("z", "first line\r\nsecond\tline");
+        statement.executeQuery();
+        final ArgumentCaptor<QuerySpecification> captor = ArgumentCaptor.forClass(QuerySpecification.class);
+        verify(executorMock).executeQuery(captor.capture());
+        assertEquals("SELECT ?x WHERE { ?x ?y " +
+                        "\"first line\\r\\nsecond\\tline\"^^<http://www.w3.org/2001/XMLSchema#string> . }",
+                captor.getValue().getQuery());
+    }
 }
@@ -17,6 +17,7 @@ package cz.cvut.kbss.ontodriver.owlapi.query;
 import cz.cvut.kbss.jopa.datatype.exception.UnsupportedTypeTransformationException;
 import cz.cvut.kbss.ontodriver.Statement;
 import cz.cvut.kbss.ontodriver.exception.VariableNotBoundException;
+import cz.cvut.kbss.ontodriver.iteration.ColumnReader;
 import cz.cvut.kbss.ontodriver.model.LangString;
 import cz.cvut.kbss.ontodriver.owlapi.environment.Generator;
 import cz.cvut.kbss.ontodriver.owlapi.exception.BindingValueMismatchException;
@@ -473,6 +474,48 @@ public class SelectResultSetTest {
         assertThrows(BindingValueMismatchException.class, () -> resultSet.getInt(0));
     }
 
+    @Test
+    public void getLongAndDoubleReturnValuesOfIntLiterals() throws Exception {
+        final SelectResultSet resultSet = resultSet(
+                generator.generate(Arrays.asList("a", "b"), Collections.singletonList(
+                        Arrays.asList(100, 117))));
+        resultSet.next();
+        assertEquals(100L, resultSet.getLong(0));
+        assertEquals(117.0D, resultSet.getDouble("b"), 0.0);
+    }
+
+    @Test
+    public void columnReaderReadsValuesOfColumnInConsecutiveRows() throws Exception {
+        final SelectResultSet resultSet = resultSet(
+                generator.generate(Collections.singletonList("a"), Arrays.asList(
+                        Collections.singletonList(100), Collections.singletonList(117))));
+        final ColumnReader<Long> reader = resultSet.getColumnReader("a", Long.class);
+        resultSet.next();
+        assertEquals(100L, reader.read());
+        resultSet.next();
+        assertEquals(117L, reader.read());
+    }
+
+    @Test
+    public void columnReaderReturnsUriForNamedIndividual() throws Exception {
+        final URI uri = Generator.generateUri();
+        final SelectResultSet resultSet = resultSet(
+                generator.generate(Collections.singletonList("a"), Collections.singletonList(
+                        Collections.singletonList(uri))));
+        final ColumnReader<URI> reader = resultSet.getColumnReader(0, URI.class);
+        resultSet.next();
+        assertEquals(uri, reader.read());
+    }
+
+    @Test
+    public void getColumnReaderThrowsIllegalArgumentExceptionForUnknownColumn() {
+        final SelectResultSet resultSet = resultSet(
+                generator.generate(Collections.singletonList("a"), Collections.singletonList(
+                        Collections.singletonList(100))));
+        assertThrows(IllegalArgumentException.class, () -> resultSet.getColumnReader(1, Integer.class));
+        assertThrows(IllegalArgumentException.class, () -> resultSet.getColumnReader("b", Integer.class));
+    }
+
     public static class TestType {
         private final URI uri;
 
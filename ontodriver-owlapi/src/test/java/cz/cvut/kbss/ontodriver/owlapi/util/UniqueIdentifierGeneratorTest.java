@@ -15,6 +15,7 @@
 package cz.cvut.kbss.ontodriver.owlapi.util;
 
 import cz.cvut.kbss.ontodriver.exception.IdentifierGenerationException;
+import cz.cvut.kbss.ontodriver.identifier.SnowflakeIdentifierGenerator;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mock;
@@ -30,17 +31,17 @@ import java.util.Set;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
-class IdentifierGeneratorTest {
+class UniqueIdentifierGeneratorTest {
 
     @Mock
     private OWLOntology ontologyMock;
 
-    private IdentifierGenerator generator;
+    private UniqueIdentifierGenerator generator;
 
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
-        this.generator = new IdentifierGenerator(ontologyMock);
+        this.generator = new UniqueIdentifierGenerator(ontologyMock);
     }
 
     @Test
@@ -68,8 +69,17 @@ class IdentifierGeneratorTest {
         }
     }
 
+    @Test
+    void doesNotCheckSignatureWhenGeneratorGuaranteesUniqueness() {
+        final URI baseUri = URI.create("http://baseUri/");
+        this.generator = new UniqueIdentifierGenerator(ontologyMock, new SnowflakeIdentifierGenerator(0));
+        final URI result = generator.generateIdentifier(baseUri);
+        assertTrue(result.toString().startsWith(baseUri + "instance"));
+        verify(ontologyMock, never()).containsIndividualInSignature(any(IRI.class));
+    }
+
     private int extractThreshold() throws Exception {
-        final Field thresholdField = IdentifierGenerator.class.getDeclaredField("GENERATION_THRESHOLD");
+        final Field thresholdField = UniqueIdentifierGenerator.class.getDeclaredField("GENERATION_THRESHOLD");
         thresholdField.setAccessible(true);
         return (int) thresholdField.get(null);
     }
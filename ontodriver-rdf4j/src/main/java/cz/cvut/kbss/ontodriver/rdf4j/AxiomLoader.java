@@ -25,6 +25,8 @@ import cz.cvut.kbss.ontodriver.rdf4j.loader.StatementLoader;
 import cz.cvut.kbss.ontodriver.rdf4j.util.AxiomBuilder;
 import cz.cvut.kbss.ontodriver.rdf4j.util.Rdf4jUtils;
 import org.eclipse.rdf4j.model.IRI;
+import org.eclipse.rdf4j.model.Resource;
+import org.eclipse.rdf4j.model.Statement;
 
 import java.util.*;
 
@@ -32,7 +34,7 @@ class AxiomLoader {
 
     private final Connector connector;
 
-    private final Map<IRI, Assertion> propertyToAssertion;
+    private Map<IRI, Assertion> propertyToAssertion;
     private Map<IRI, Assertion> explicitAssertions;
     private Map<IRI, Assertion> inferredAssertions;
 
@@ -40,7 +42,6 @@ class AxiomLoader {
 
     AxiomLoader(Connector connector, RuntimeConfiguration config) {
         this.connector = connector;
-        this.propertyToAssertion = new HashMap<>();
         this.config = config;
     }
 
@@ -48,19 +49,82 @@ class AxiomLoader {
         return findStatements(axiomDescriptor);
     }
 
+    /**
+     * Loads axioms corresponding to the specified descriptors.
+     * <p>
+     * Statements of all the subjects are retrieved from the repository at once (at most one query for explicit and one
+     * for inferred statements) and then filtered according to each descriptor.
+     *
+     * @param descriptors Descriptors of axioms to load, subjects are expected to be distinct
+     * @return Loaded axioms grouped by subject, in order of the specified descriptors
+     * @throws Rdf4jDriverException When storage access error occurs
+     */
+    Map<NamedResource, Collection<Axiom<?>>> loadAxioms(Collection<AxiomDescriptor> descriptors)
+            throws Rdf4jDriverException {
+        final List<IRI> explicitSubjects = new ArrayList<>(descriptors.size());
+        final List<IRI> inferredSubjects = new ArrayList<>(descriptors.size());
+        for (AxiomDescriptor descriptor : descriptors) {
+            final IRI subject = Rdf4jUtils.toRdf4jIri(descriptor.getSubject().getIdentifier(),
+                                                      connector.getValueFactory());
+            final Assertion unspecified = processAssertions(descriptor);
+            if (unspecified == null || !unspecified.isInferred()) {
+                explicitSubjects.add(subject);
+            }
+            if (!inferredAssertions.isEmpty()) {
+                inferredSubjects.add(subject);
+            }
+        }
+        final Map<Resource, List<Statement>> explicit = groupBySubject(connector.findStatements(explicitSubjects, false));
+        final Map<Resource, List<Statement>> inferred = groupBySubject(connector.findStatements(inferredSubjects, true));
+
+        final Map<NamedResource, Collection<Axiom<?>>> result = new LinkedHashMap<>(descriptors.size());
+        for (AxiomDescriptor descriptor : descriptors) {
+            final Collection<Axiom<?>> axioms = new HashSet<>();
+            final Assertion unspecified = processAssertions(descriptor);
+            final AxiomBuilder axiomBuilder = new AxiomBuilder(descriptor.getSubject(), propertyToAssertion,
+                                                               unspecified);
+            final StatementLoader statementLoader = createLoader(descriptor.getSubject(), axiomBuilder);
+            final IRI subject = Rdf4jUtils.toRdf4jIri(descriptor.getSubject().getIdentifier(),
+                                                      connector.getValueFactory());
+            if (unspecified == null || !unspecified.isInferred()) {
+                statementLoader.setIncludeInferred(false);
+                axioms.addAll(statementLoader.loadAxioms(descriptor, explicitAssertions,
+                                                         explicit.getOrDefault(subject, Collections.emptyList())));
+            }
+            if (!inferredAssertions.isEmpty()) {
+                statementLoader.setIncludeInferred(true);
+                axioms.addAll(statementLoader.loadAxioms(descriptor, inferredAssertions,
+                                                         inferred.getOrDefault(subject, Collections.emptyList())));
+            }
+            result.put(descriptor.getSubject(), axioms);
+        }
+        return result;
+    }
+
+    private static Map<Resource, List<Statement>> groupBySubject(Collection<Statement> statements) {
+        final Map<Resource, List<Statement>> result = new HashMap<>();
+        statements.forEach(s -> result.computeIfAbsent(s.getSubject(), k -> new ArrayList<>()).add(s));
+        return result;
+    }
+
     private Collection<Axiom<?>> findStatements(AxiomDescriptor descriptor) throws Rdf4jDriverException {
-        final Collection<Axiom<?>> result = new HashSet<>();
         final Assertion unspecified = processAssertions(descriptor);
         final AxiomBuilder axiomBuilder = new AxiomBuilder(descriptor.getSubject(), propertyToAssertion, unspecified);
         final StatementLoader statementLoader = createLoader(descriptor.getSubject(), axiomBuilder);
         statementLoader.setLoadAllThreshold(config.getLoadAllThreshold());
+        Collection<Axiom<?>> explicit = Collections.emptySet();
         if (unspecified == null || !unspecified.isInferred()) {
             statementLoader.setIncludeInferred(false);
-            result.addAll(statementLoader.loadAxioms(descriptor, explicitAssertions));
+            explicit = statementLoader.loadAxioms(descriptor, explicitAssertions);
         }
         statementLoader.setIncludeInferred(true);
-        result.addAll(statementLoader.loadAxioms(descriptor, inferredAssertions));
-        return result;
+        final Collection<Axiom<?>> inferred = statementLoader.loadAxioms(descriptor, inferredAssertions);
+        // Loader results are fresh sets, so reuse them instead of copying both into another one
+        if (explicit.isEmpty()) {
+            return inferred;
+        }
+        explicit.addAll(inferred);
+        return explicit;
     }
 
     private StatementLoader createLoader(NamedResource individual, AxiomBuilder axiomBuilder) {
@@ -78,6 +142,7 @@ class AxiomLoader {
      */
     private Assertion processAssertions(AxiomDescriptor descriptor) {
         final Set<Assertion> assertions = descriptor.getAssertions();
+        this.propertyToAssertion = new HashMap<>(assertions.size());
         this.explicitAssertions = new HashMap<>(assertions.size());
         this.inferredAssertions = new HashMap<>(assertions.size());
         Assertion unspecified = null;
@@ -18,6 +18,7 @@ import cz.cvut.kbss.ontodriver.descriptor.*;
 import cz.cvut.kbss.ontodriver.exception.IntegrityConstraintViolatedException;
 import cz.cvut.kbss.ontodriver.model.Axiom;
 import cz.cvut.kbss.ontodriver.model.NamedResource;
+import cz.cvut.kbss.ontodriver.rdf4j.config.RuntimeConfiguration;
 import cz.cvut.kbss.ontodriver.rdf4j.connector.Connector;
 import cz.cvut.kbss.ontodriver.rdf4j.exception.Rdf4jDriverException;
 import cz.cvut.kbss.ontodriver.rdf4j.util.Rdf4jUtils;
@@ -38,18 +39,32 @@ abstract class ListHandler<T extends ListDescriptor, V extends ListValueDescript
     protected final Connector connector;
     protected final ValueFactory vf;
 
+    private final boolean singleQueryLoading;
+
     ListHandler(Connector connector, ValueFactory vf) {
+        this(connector, vf, false);
+    }
+
+    ListHandler(Connector connector, ValueFactory vf, boolean singleQueryLoading) {
         this.connector = connector;
         this.vf = vf;
+        this.singleQueryLoading = singleQueryLoading;
     }
 
     /**
      * Loads axioms representing list described by the specified list descriptor.
+     * <p>
+     * If single query loading is enabled and there are no uncommitted changes in the current transaction (which would
+     * not be visible to the query), the whole list is loaded using one query. Otherwise, the list is loaded node by
+     * node.
      *
      * @return Collection of axioms representing sequence values
      * @throws Rdf4jDriverException When storage access error occurs
      */
     List<Axiom<NamedResource>> loadList(T listDescriptor) throws Rdf4jDriverException {
+        if (singleQueryLoading && !connector.hasPendingChanges()) {
+            return createSingleQueryLoader(listDescriptor).load();
+        }
         final List<Axiom<NamedResource>> axioms = new ArrayList<>();
         final ListIterator it = createIterator(listDescriptor);
         while (it.hasNext()) {
@@ -60,6 +75,8 @@ abstract class ListHandler<T extends ListDescriptor, V extends ListValueDescript
 
     abstract ListIterator createIterator(T listDescriptor) throws Rdf4jDriverException;
 
+    abstract SingleQueryListLoader createSingleQueryLoader(T listDescriptor);
+
     /**
      * Persists list values specified by the descriptor.
      * <p>
@@ -187,6 +204,22 @@ abstract class ListHandler<T extends ListDescriptor, V extends ListValueDescript
         return new SimpleListHandler(connector, vf);
     }
 
+    /**
+     * Creates handler for simple lists, taking into account the specified runtime configuration.
+     *
+     * @param connector Storage connector
+     * @param vf        RDF4J value factory
+     * @param config    Runtime configuration of the driver
+     * @return List handler
+     */
+    static ListHandler<SimpleListDescriptor, SimpleListValueDescriptor> createForSimpleList(
+            Connector connector, ValueFactory vf, RuntimeConfiguration config) {
+        assert connector != null;
+        assert vf != null;
+
+        return new SimpleListHandler(connector, vf, config.isSingleQueryListLoading());
+    }
+
     /**
      * Creates handler for referenced lists.
      *
@@ -202,6 +235,22 @@ abstract class ListHandler<T extends ListDescriptor, V extends ListValueDescript
         return new ReferencedListHandler(connector, vf);
     }
 
+    /**
+     * Creates handler for referenced lists, taking into account the specified runtime configuration.
+     *
+     * @param connector Storage connector
+     * @param vf        RDF4J value factory
+     * @param config    Runtime configuration of the driver
+     * @return List handler
+     */
+    static ListHandler<ReferencedListDescriptor, ReferencedListValueDescriptor> createForReferencedList(
+            Connector connector, ValueFactory vf, RuntimeConfiguration config) {
+        assert connector != null;
+        assert vf != null;
+
+        return new ReferencedListHandler(connector, vf, config.isSingleQueryListLoading());
+    }
+
     static final class MergeResult {
         final int i;
         final Resource previous;
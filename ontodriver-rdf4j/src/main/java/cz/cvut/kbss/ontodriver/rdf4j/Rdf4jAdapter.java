@@ -19,14 +19,15 @@ import cz.cvut.kbss.ontodriver.Wrapper;
 import cz.cvut.kbss.ontodriver.descriptor.*;
 import cz.cvut.kbss.ontodriver.exception.IdentifierGenerationException;
 import cz.cvut.kbss.ontodriver.exception.OntoDriverException;
+import cz.cvut.kbss.ontodriver.identifier.IdentifierGenerator;
 import cz.cvut.kbss.ontodriver.model.Axiom;
+import cz.cvut.kbss.ontodriver.model.NamedResource;
 import cz.cvut.kbss.ontodriver.rdf4j.config.Constants;
 import cz.cvut.kbss.ontodriver.rdf4j.config.RuntimeConfiguration;
 import cz.cvut.kbss.ontodriver.rdf4j.connector.Connector;
 import cz.cvut.kbss.ontodriver.rdf4j.connector.StatementExecutor;
 import cz.cvut.kbss.ontodriver.rdf4j.exception.Rdf4jDriverException;
 import cz.cvut.kbss.ontodriver.rdf4j.util.Rdf4jUtils;
-import cz.cvut.kbss.ontodriver.util.IdentifierUtils;
 import cz.cvut.kbss.ontodriver.util.Transaction;
 import org.eclipse.rdf4j.model.Resource;
 import org.eclipse.rdf4j.model.Statement;
@@ -121,12 +122,16 @@ class Rdf4jAdapter implements Closeable, Wrapper {
     }
 
     URI generateIdentifier(URI classUri) throws Rdf4jDriverException {
+        final IdentifierGenerator generator = config.getIdentifierGenerator();
+        if (generator.guaranteesUniqueness()) {
+            return generator.generateIdentifier(classUri);
+        }
         startTransactionIfNotActive();
         boolean unique = false;
         URI id = null;
         int counter = 0;
         while (!unique && counter++ < ID_GENERATION_THRESHOLD) {
-            id = IdentifierUtils.generateIdentifier(classUri);
+            id = generator.generateIdentifier(classUri);
             unique = isIdentifierUnique(id, classUri);
         }
         if (!unique) {
@@ -186,6 +191,12 @@ class Rdf4jAdapter implements Closeable, Wrapper {
         return new AxiomLoader(connector, config).loadAxioms(axiomDescriptor);
     }
 
+    Map<NamedResource, Collection<Axiom<?>>> findAll(Collection<AxiomDescriptor> axiomDescriptors)
+            throws Rdf4jDriverException {
+        startTransactionIfNotActive();
+        return new AxiomLoader(connector, config).loadAxioms(axiomDescriptors);
+    }
+
     void persist(AxiomValueDescriptor axiomDescriptor) throws Rdf4jDriverException {
         startTransactionIfNotActive();
         new AxiomSaver(connector).persistAxioms(axiomDescriptor);
@@ -208,13 +219,13 @@ class Rdf4jAdapter implements Closeable, Wrapper {
 
     ListHandler<SimpleListDescriptor, SimpleListValueDescriptor> getSimpleListHandler() throws Rdf4jDriverException {
         startTransactionIfNotActive();
-        return ListHandler.createForSimpleList(connector, valueFactory);
+        return ListHandler.createForSimpleList(connector, valueFactory, config);
     }
 
     ListHandler<ReferencedListDescriptor, ReferencedListValueDescriptor> getReferencedListHandler() throws
             Rdf4jDriverException {
         startTransactionIfNotActive();
-        return ListHandler.createForReferencedList(connector, valueFactory);
+        return ListHandler.createForReferencedList(connector, valueFactory, config);
     }
 
     TypesHandler getTypesHandler() throws Rdf4jDriverException {
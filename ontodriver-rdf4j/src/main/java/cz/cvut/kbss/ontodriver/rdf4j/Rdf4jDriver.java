@@ -21,6 +21,8 @@ import cz.cvut.kbss.ontodriver.config.ConfigurationParameter;
 import cz.cvut.kbss.ontodriver.config.DriverConfigParam;
 import cz.cvut.kbss.ontodriver.config.DriverConfiguration;
 import cz.cvut.kbss.ontodriver.exception.OntoDriverException;
+import cz.cvut.kbss.ontodriver.identifier.IdentifierGenerator;
+import cz.cvut.kbss.ontodriver.identifier.IdentifierGenerators;
 import cz.cvut.kbss.ontodriver.rdf4j.config.Rdf4jConfigParam;
 import cz.cvut.kbss.ontodriver.rdf4j.config.RuntimeConfiguration;
 import cz.cvut.kbss.ontodriver.rdf4j.connector.ConnectorFactory;
@@ -37,12 +39,15 @@ class Rdf4jDriver implements Closeable, ConnectionListener<Rdf4jConnection> {
             .asList(DriverConfigParam.AUTO_COMMIT, Rdf4jConfigParam.USE_INFERENCE,
                     Rdf4jConfigParam.USE_VOLATILE_STORAGE, Rdf4jConfigParam.LOAD_ALL_THRESHOLD,
                     Rdf4jConfigParam.RECONNECT_ATTEMPTS, Rdf4jConfigParam.REPOSITORY_CONFIG,
-                    Rdf4jConfigParam.INFERENCE_IN_DEFAULT_CONTEXT);
+                    Rdf4jConfigParam.INFERENCE_IN_DEFAULT_CONTEXT, Rdf4jConfigParam.SINGLE_QUERY_LIST_LOADING,
+                    DriverConfigParam.IDENTIFIER_GENERATOR,
+                    DriverConfigParam.IDENTIFIER_GENERATOR_NODE_ID, DriverConfigParam.COMMIT_CHUNK_SIZE);
 
     private final DriverConfiguration configuration;
     private boolean open;
     private final ConnectorFactory connectorFactory;
     private final StatementLoaderFactory statementLoaderFactory;
+    private final IdentifierGenerator identifierGenerator;
 
     private final Set<Rdf4jConnection> openedConnections;
 
@@ -57,6 +62,7 @@ class Rdf4jDriver implements Closeable, ConnectionListener<Rdf4jConnection> {
         final FactoryOfFactories factory = new FactoryOfFactories(configuration);
         this.connectorFactory = factory.createConnectorFactory();
         this.statementLoaderFactory = factory.createStatementLoaderFactory();
+        this.identifierGenerator = IdentifierGenerators.create(configuration);
         this.open = true;
     }
 
@@ -89,6 +95,7 @@ class Rdf4jDriver implements Closeable, ConnectionListener<Rdf4jConnection> {
         assert open;
         final RuntimeConfiguration config = new RuntimeConfiguration(configuration);
         config.setStatementLoaderFactory(statementLoaderFactory);
+        config.setIdentifierGenerator(identifierGenerator);
         final Rdf4jAdapter adapter = new Rdf4jAdapter(connectorFactory.createStorageConnector(), config);
         final Rdf4jConnection c = new Rdf4jConnection(adapter);
         c.setLists(new Rdf4jLists(adapter, c::ensureOpen, c::commitIfAuto));
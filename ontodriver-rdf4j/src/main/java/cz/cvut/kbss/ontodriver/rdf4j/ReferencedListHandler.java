@@ -35,11 +35,20 @@ public class ReferencedListHandler extends
         super(connector, vf);
     }
 
+    ReferencedListHandler(Connector connector, ValueFactory vf, boolean singleQueryLoading) {
+        super(connector, vf, singleQueryLoading);
+    }
+
     @Override
     ListIterator createIterator(ReferencedListDescriptor listDescriptor) throws Rdf4jDriverException {
         return new ReferencedListIterator(listDescriptor, connector, vf);
     }
 
+    @Override
+    SingleQueryListLoader createSingleQueryLoader(ReferencedListDescriptor listDescriptor) {
+        return SingleQueryListLoader.forReferencedList(listDescriptor, connector, vf);
+    }
+
     @Override
     IRI createListHead(ReferencedListValueDescriptor listValueDescriptor,
                        Collection<Statement> statements) throws Rdf4jDriverException {
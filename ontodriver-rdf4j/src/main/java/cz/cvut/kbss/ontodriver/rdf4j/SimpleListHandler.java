@@ -32,11 +32,20 @@ class SimpleListHandler extends ListHandler<SimpleListDescriptor, SimpleListValu
         super(connector, vf);
     }
 
+    SimpleListHandler(Connector connector, ValueFactory vf, boolean singleQueryLoading) {
+        super(connector, vf, singleQueryLoading);
+    }
+
     @Override
     ListIterator createIterator(SimpleListDescriptor listDescriptor) throws Rdf4jDriverException {
         return new SimpleListIterator(listDescriptor, connector, vf);
     }
 
+    @Override
+    SingleQueryListLoader createSingleQueryLoader(SimpleListDescriptor listDescriptor) {
+        return SingleQueryListLoader.forSimpleList(listDescriptor, connector, vf);
+    }
+
     @Override
     IRI createListHead(SimpleListValueDescriptor listValueDescriptor, Collection<Statement> listStatements) {
         final IRI firstNode = toRdf4jIri(listValueDescriptor.getValues().get(0).getIdentifier());
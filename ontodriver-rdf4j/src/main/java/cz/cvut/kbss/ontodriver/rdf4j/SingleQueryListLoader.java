@@ -0,0 +1,203 @@
+/**
+ * Copyright (C) 2023 Czech Technical University in Prague
+ *
+ * This program is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any
+ * later version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more
+ * details. You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package cz.cvut.kbss.ontodriver.rdf4j;
+
+import cz.cvut.kbss.ontodriver.descriptor.ListDescriptor;
+import cz.cvut.kbss.ontodriver.descriptor.ReferencedListDescriptor;
+import cz.cvut.kbss.ontodriver.descriptor.SimpleListDescriptor;
+import cz.cvut.kbss.ontodriver.exception.IntegrityConstraintViolatedException;
+import cz.cvut.kbss.ontodriver.model.*;
+import cz.cvut.kbss.ontodriver.rdf4j.connector.Connector;
+import cz.cvut.kbss.ontodriver.rdf4j.exception.Rdf4jDriverException;
+import cz.cvut.kbss.ontodriver.rdf4j.query.QuerySpecification;
+import cz.cvut.kbss.ontodriver.rdf4j.util.Rdf4jUtils;
+import org.eclipse.rdf4j.model.IRI;
+import org.eclipse.rdf4j.model.Resource;
+import org.eclipse.rdf4j.model.ValueFactory;
+import org.eclipse.rdf4j.query.BindingSet;
+import org.eclipse.rdf4j.query.QueryEvaluationException;
+import org.eclipse.rdf4j.query.TupleQueryResult;
+
+import java.util.*;
+
+/**
+ * Loads a simple or referenced list using a single SPARQL query.
+ * <p>
+ * The query retrieves the list head and the successor (and content, for referenced lists) of every node reachable
+ * from the list owner. The list order is then reconstructed by following the successors from the head. The same
+ * integrity constraints as in node-by-node loading apply, i.e., each node may have at most one successor and each
+ * referenced list node must have exactly one content.
+ */
+class SingleQueryListLoader {
+
+    private static final String SUBJECT = "s";
+    private static final String PROPERTY = "p";
+    private static final String OBJECT = "o";
+
+    private final ListDescriptor listDescriptor;
+    private final Assertion nodeContent;
+
+    private final IRI listOwner;
+    private final IRI hasListProperty;
+    private final IRI hasNextProperty;
+    private final IRI hasContentProperty;
+    private final IRI context;
+
+    private final Connector connector;
+
+    private final Map<Resource, Set<org.eclipse.rdf4j.model.Value>> successors = new HashMap<>();
+    private final Map<Resource, Set<org.eclipse.rdf4j.model.Value>> contents = new HashMap<>();
+    private final Set<org.eclipse.rdf4j.model.Value> heads = new LinkedHashSet<>();
+
+    private SingleQueryListLoader(ListDescriptor listDescriptor, Assertion nodeContent, Connector connector,
+                                  ValueFactory vf) {
+        this.listDescriptor = listDescriptor;
+        this.nodeContent = nodeContent;
+        this.listOwner = Rdf4jUtils.toRdf4jIri(listDescriptor.getListOwner().getIdentifier(), vf);
+        this.hasListProperty = Rdf4jUtils.toRdf4jIri(listDescriptor.getListProperty().getIdentifier(), vf);
+        this.hasNextProperty = Rdf4jUtils.toRdf4jIri(listDescriptor.getNextNode().getIdentifier(), vf);
+        this.hasContentProperty = nodeContent != null ? Rdf4jUtils.toRdf4jIri(nodeContent.getIdentifier(), vf) : null;
+        this.context = Rdf4jUtils.toRdf4jIri(listDescriptor.getContext(), vf);
+        this.connector = connector;
+    }
+
+    static SingleQueryListLoader forSimpleList(SimpleListDescriptor listDescriptor, Connector connector,
+                                               ValueFactory vf) {
+        return new SingleQueryListLoader(listDescriptor, null, connector, vf);
+    }
+
+    static SingleQueryListLoader forReferencedList(ReferencedListDescriptor listDescriptor, Connector connector,
+                                                   ValueFactory vf) {
+        return new SingleQueryListLoader(listDescriptor, listDescriptor.getNodeContent(), connector, vf);
+    }
+
+    /**
+     * Loads axioms representing the list, in the list order.
+     *
+     * @return List of axioms
+     * @throws Rdf4jDriverException When storage access error occurs
+     */
+    List<Axiom<NamedResource>> load() throws Rdf4jDriverException {
+        fetchListStatements();
+        final List<Axiom<NamedResource>> axioms = new ArrayList<>();
+        final Set<Resource> visited = new HashSet<>();
+        Resource subject = listOwner;
+        IRI property = hasListProperty;
+        Set<org.eclipse.rdf4j.model.Value> next = heads;
+        while (!next.isEmpty()) {
+            checkSuccessorMax(next, property);
+            final Resource node = toResource(next.iterator().next());
+            if (!visited.add(node)) {
+                throw new IntegrityConstraintViolatedException("Node " + node + " occurs in the list more than once.");
+            }
+            if (hasContentProperty != null) {
+                axioms.add(createAxiom(node, nodeContent, getNodeContent(node)));
+            } else {
+                axioms.add(createAxiom(subject, property == hasListProperty ? listDescriptor.getListProperty() :
+                                                listDescriptor.getNextNode(), node));
+            }
+            subject = node;
+            property = hasNextProperty;
+            next = successors.getOrDefault(node, Collections.emptySet());
+        }
+        return axioms;
+    }
+
+    private void fetchListStatements() throws Rdf4jDriverException {
+        final QuerySpecification query = QuerySpecification.query(buildQuery())
+                                                           .includeInference(listDescriptor.getListProperty()
+                                                                                           .isInferred());
+        try (final TupleQueryResult result = connector.executeSelectQuery(query)) {
+            while (result.hasNext()) {
+                final BindingSet bs = result.next();
+                final IRI property = (IRI) bs.getValue(PROPERTY);
+                final org.eclipse.rdf4j.model.Value object = bs.getValue(OBJECT);
+                if (hasListProperty.equals(property) && listOwner.equals(bs.getValue(SUBJECT))) {
+                    heads.add(object);
+                }
+                // The same property may be used both as hasList and hasNext/hasContent
+                if (hasNextProperty.equals(property)) {
+                    successors.computeIfAbsent((Resource) bs.getValue(SUBJECT), k -> new LinkedHashSet<>())
+                              .add(object);
+                }
+                if (property.equals(hasContentProperty)) {
+                    contents.computeIfAbsent((Resource) bs.getValue(SUBJECT), k -> new LinkedHashSet<>())
+                            .add(object);
+                }
+            }
+        } catch (QueryEvaluationException e) {
+            throw new Rdf4jDriverException(e);
+        }
+    }
+
+    private String buildQuery() {
+        final String owner = iri(listOwner);
+        final String hasList = iri(hasListProperty);
+        final String hasNext = iri(hasNextProperty);
+        final StringBuilder sb = new StringBuilder("SELECT DISTINCT ?s ?p ?o WHERE { ");
+        if (context != null) {
+            sb.append("GRAPH ").append(iri(context)).append(" { ");
+        }
+        sb.append("{ ").append(owner).append(' ').append(hasList).append(" ?o . BIND (").append(owner)
+          .append(" AS ?s) BIND (").append(hasList).append(" AS ?p) }");
+        sb.append(" UNION { ").append(owner).append(' ').append(hasList).append('/').append(hasNext)
+          .append("* ?s . ?s ").append(hasNext).append(" ?o . BIND (").append(hasNext).append(" AS ?p) }");
+        if (hasContentProperty != null) {
+            final String hasContent = iri(hasContentProperty);
+            sb.append(" UNION { ").append(owner).append(' ').append(hasList).append('/').append(hasNext)
+              .append("* ?s . ?s ").append(hasContent).append(" ?o . BIND (").append(hasContent)
+              .append(" AS ?p) }");
+        }
+        if (context != null) {
+            sb.append(" }");
+        }
+        sb.append(" }");
+        return sb.toString();
+    }
+
+    private static String iri(IRI iri) {
+        return "<" + iri.stringValue() + ">";
+    }
+
+    private Resource getNodeContent(Resource node) {
+        final Set<org.eclipse.rdf4j.model.Value> nodeContents = contents.getOrDefault(node, Collections.emptySet());
+        checkSuccessorMax(nodeContents, hasContentProperty);
+        if (nodeContents.isEmpty()) {
+            throw new IntegrityConstraintViolatedException("Node " + node + " has no content.");
+        }
+        return toResource(nodeContents.iterator().next());
+    }
+
+    private static void checkSuccessorMax(Set<org.eclipse.rdf4j.model.Value> values, IRI property) {
+        if (values.size() > 1) {
+            throw new IntegrityConstraintViolatedException(
+                    "Invalid number of values found for assertion " + property + ". Expected 1, got " +
+                            values.size());
+        }
+    }
+
+    private static Resource toResource(org.eclipse.rdf4j.model.Value value) {
+        if (!(value instanceof Resource)) {
+            throw new IntegrityConstraintViolatedException(
+                    "Invalid property value. Expected object property value, got literal.");
+        }
+        return (Resource) value;
+    }
+
+    private static Axiom<NamedResource> createAxiom(Resource subject, Assertion assertion, Resource value) {
+        return new AxiomImpl<>(NamedResource.create(subject.stringValue()), assertion,
+                new Value<>(NamedResource.create(value.stringValue())));
+    }
+}
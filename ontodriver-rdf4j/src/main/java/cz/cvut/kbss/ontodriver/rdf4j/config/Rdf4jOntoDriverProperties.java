@@ -124,6 +124,20 @@ public abstract class Rdf4jOntoDriverProperties {
      */
     public static final String MAX_CONNECTION_POOL_SIZE = "cz.cvut.kbss.ontodriver.rdf4j.max-connections";
 
+    /**
+     * Whether simple and referenced lists should be loaded using a single SPARQL query.
+     * <p>
+     * By default, lists are loaded node by node, which requires one (simple list) or two (referenced list) repository
+     * accesses for each list node. When this is enabled, the whole list is retrieved by one query with a property path
+     * and the list order is reconstructed by the driver. This is beneficial especially for remote repositories.
+     * <p>
+     * Lists are still loaded node by node in transactions with uncommitted changes, as these are not visible to
+     * queries.
+     * <p>
+     * {@code Boolean} value expected, default is false.
+     */
+    public static final String SINGLE_QUERY_LIST_LOADING = "cz.cvut.kbss.ontodriver.rdf4j.single-query-list-loading";
+
     private Rdf4jOntoDriverProperties() {
         throw new AssertionError();
     }
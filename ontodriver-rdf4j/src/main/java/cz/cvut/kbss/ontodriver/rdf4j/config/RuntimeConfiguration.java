@@ -15,6 +15,8 @@
 package cz.cvut.kbss.ontodriver.rdf4j.config;
 
 import cz.cvut.kbss.ontodriver.config.DriverConfiguration;
+import cz.cvut.kbss.ontodriver.identifier.IdentifierGenerator;
+import cz.cvut.kbss.ontodriver.identifier.RandomIdentifierGenerator;
 import cz.cvut.kbss.ontodriver.rdf4j.loader.DefaultStatementLoaderFactory;
 import cz.cvut.kbss.ontodriver.rdf4j.loader.StatementLoaderFactory;
 
@@ -25,8 +27,12 @@ public class RuntimeConfiguration {
 
     private final int loadAllThreshold;
 
+    private final boolean singleQueryListLoading;
+
     private StatementLoaderFactory statementLoaderFactory = new DefaultStatementLoaderFactory();
 
+    private IdentifierGenerator identifierGenerator = new RandomIdentifierGenerator();
+
     public RuntimeConfiguration(DriverConfiguration config) {
         if (config.isSet(Rdf4jConfigParam.LOAD_ALL_THRESHOLD)) {
             try {
@@ -39,12 +45,17 @@ public class RuntimeConfiguration {
         } else {
             this.loadAllThreshold = Constants.DEFAULT_LOAD_ALL_THRESHOLD;
         }
+        this.singleQueryListLoading = config.is(Rdf4jConfigParam.SINGLE_QUERY_LIST_LOADING);
     }
 
     public int getLoadAllThreshold() {
         return loadAllThreshold;
     }
 
+    public boolean isSingleQueryListLoading() {
+        return singleQueryListLoading;
+    }
+
     public StatementLoaderFactory getStatementLoaderFactory() {
         return statementLoaderFactory;
     }
@@ -53,4 +64,13 @@ public class RuntimeConfiguration {
         assert statementLoaderFactory != null;
         this.statementLoaderFactory = statementLoaderFactory;
     }
+
+    public IdentifierGenerator getIdentifierGenerator() {
+        return identifierGenerator;
+    }
+
+    public void setIdentifierGenerator(IdentifierGenerator identifierGenerator) {
+        assert identifierGenerator != null;
+        this.identifierGenerator = identifierGenerator;
+    }
 }
@@ -16,10 +16,19 @@ package cz.cvut.kbss.ontodriver.rdf4j.connector;
 
 import cz.cvut.kbss.ontodriver.rdf4j.exception.Rdf4jDriverException;
 import cz.cvut.kbss.ontodriver.rdf4j.query.QuerySpecification;
+import org.eclipse.rdf4j.model.IRI;
+import org.eclipse.rdf4j.model.Resource;
+import org.eclipse.rdf4j.model.Statement;
+import org.eclipse.rdf4j.model.Value;
+import org.eclipse.rdf4j.model.ValueFactory;
 import org.eclipse.rdf4j.query.*;
 import org.eclipse.rdf4j.repository.RepositoryConnection;
 import org.eclipse.rdf4j.repository.RepositoryException;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
 /**
  * Actual implementation of statement processing.
  */
@@ -36,6 +45,7 @@ class ConnectionStatementExecutor implements StatementExecutor {
         try {
             final TupleQuery tq = connection.prepareTupleQuery(QueryLanguage.SPARQL, query.getQuery());
             tq.setIncludeInferred(query.isIncludeInference());
+            bindValues(tq, query);
             return new QueryResult(tq.evaluate(), connection);
         } catch (MalformedQueryException | QueryEvaluationException | RepositoryException e) {
             throw new Rdf4jDriverException(e);
@@ -47,20 +57,72 @@ class ConnectionStatementExecutor implements StatementExecutor {
         try {
             final BooleanQuery bq = connection.prepareBooleanQuery(QueryLanguage.SPARQL, query.getQuery());
             bq.setIncludeInferred(query.isIncludeInference());
+            bindValues(bq, query);
             return bq.evaluate();
         } catch (MalformedQueryException | QueryEvaluationException | RepositoryException e) {
             throw new Rdf4jDriverException(e);
         }
     }
 
+    private static void bindValues(Operation operation, QuerySpecification query) {
+        query.getBindings().forEach(operation::setBinding);
+    }
+
     @Override
     public void executeUpdate(QuerySpecification query) throws Rdf4jDriverException {
         try {
             final Update u = connection.prepareUpdate(QueryLanguage.SPARQL, query.getQuery());
             u.setIncludeInferred(query.isIncludeInference());
+            bindValues(u, query);
             u.execute();
         } catch (MalformedQueryException | UpdateExecutionException | RepositoryException e) {
             throw new Rdf4jDriverException(e);
         }
     }
+
+    /**
+     * Finds all statements with any of the specified subjects using a single SPARQL query.
+     * <p>
+     * The subjects are passed to the query in a {@code VALUES} clause. Statements from named graphs are returned with
+     * the corresponding context, statements which exist only in the default graph are returned without context.
+     *
+     * @param subjects        Statement subjects
+     * @param includeInferred Whether to include inferred statements
+     * @return List of matching statements
+     * @throws Rdf4jDriverException When the query cannot be evaluated
+     */
+    List<Statement> findStatements(Collection<IRI> subjects, boolean includeInferred) throws Rdf4jDriverException {
+        if (subjects.isEmpty()) {
+            return new ArrayList<>();
+        }
+        try {
+            final TupleQuery tq = connection.prepareTupleQuery(QueryLanguage.SPARQL, subjectStatementsQuery(subjects));
+            tq.setIncludeInferred(includeInferred);
+            final ValueFactory vf = connection.getValueFactory();
+            final List<Statement> result = new ArrayList<>();
+            try (final TupleQueryResult tqr = tq.evaluate()) {
+                while (tqr.hasNext()) {
+                    final BindingSet bs = tqr.next();
+                    final Resource subject = (Resource) bs.getValue("s");
+                    final IRI property = (IRI) bs.getValue("p");
+                    final Value object = bs.getValue("o");
+                    final Resource context = (Resource) bs.getValue("g");
+                    result.add(context != null ? vf.createStatement(subject, property, object, context) :
+                               vf.createStatement(subject, property, object));
+                }
+            }
+            return result;
+        } catch (MalformedQueryException | QueryEvaluationException | RepositoryException e) {
+            throw new Rdf4jDriverException(e);
+        }
+    }
+
+    private static String subjectStatementsQuery(Collection<IRI> subjects) {
+        final StringBuilder sb = new StringBuilder("SELECT ?s ?p ?o ?g WHERE { VALUES ?s {");
+        subjects.forEach(s -> sb.append(" <").append(s.stringValue()).append('>'));
+        // Statements in the default graph are matched only if they are not in any named graph, so that each statement
+        // is returned just once and with its actual context
+        sb.append(" } { GRAPH ?g { ?s ?p ?o } } UNION { ?s ?p ?o . FILTER NOT EXISTS { GRAPH ?ctx { ?s ?p ?o } } } }");
+        return sb.toString();
+    }
 }
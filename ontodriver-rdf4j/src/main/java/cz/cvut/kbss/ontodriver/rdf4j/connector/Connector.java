@@ -21,6 +21,7 @@ import org.eclipse.rdf4j.model.*;
 
 import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
 public interface Connector extends Closeable, StatementExecutor, Wrapper {
 
@@ -98,6 +99,44 @@ public interface Connector extends Closeable, StatementExecutor, Wrapper {
                                          boolean includeInferred, Collection<IRI> contexts)
             throws Rdf4jDriverException;
 
+    /**
+     * Finds statements corresponding to the specified criteria and returns them as a stream.
+     * <p>
+     * As opposed to {@link #findStatements(Resource, IRI, Value, boolean, Collection)}, the statements are not
+     * collected, they are read from the repository as the stream is consumed. The returned stream holds repository
+     * resources and must be closed after use.
+     *
+     * @param subject         Statement subject, optional
+     * @param property        Statement property, optional
+     * @param value           Statement value, optional
+     * @param includeInferred Whether to include inferred statements as well
+     * @param contexts        Contexts in which the search should be performed. Empty collection indicates the default
+     *                        context will be searched
+     * @return Stream of matching statements
+     * @throws Rdf4jDriverException If a repository access error occurs
+     */
+    default Stream<Statement> streamStatements(Resource subject, IRI property, Value value, boolean includeInferred,
+                                               Collection<IRI> contexts) throws Rdf4jDriverException {
+        return findStatements(subject, property, value, includeInferred, contexts).stream();
+    }
+
+    /**
+     * Finds all statements with any of the specified subjects.
+     * <p>
+     * As opposed to {@link #findStatements(Resource, IRI, Value, boolean, Collection)}, this method allows to load
+     * statements of multiple subjects using a single repository access.
+     * <p>
+     * Statements from all contexts are returned, each statement carries the context it is stored in (statements in the
+     * default context have no context).
+     *
+     * @param subjects        Statement subjects
+     * @param includeInferred Whether to include inferred statements as well
+     * @return Collection of matching statements
+     * @throws Rdf4jDriverException If a repository access error occurs
+     */
+    Collection<Statement> findStatements(Collection<IRI> subjects, boolean includeInferred)
+            throws Rdf4jDriverException;
+
     /**
      * Checks whether the repository contains any statements matching the specified criteria.
      *
@@ -154,4 +193,16 @@ public interface Connector extends Closeable, StatementExecutor, Wrapper {
      * @throws Rdf4jDriverException  If a repository access error occurs
      */
     void removeStatements(Collection<Statement> statements) throws Rdf4jDriverException;
+
+    /**
+     * Checks whether this connector holds transactional changes which have not been written into the repository yet.
+     * <p>
+     * Pending changes are reflected by the statement retrieval methods of this connector, but not by SPARQL queries
+     * executed by it.
+     *
+     * @return {@code true} if there are pending changes, {@code false} otherwise
+     */
+    default boolean hasPendingChanges() {
+        return false;
+    }
 }
@@ -15,6 +15,7 @@
 package cz.cvut.kbss.ontodriver.rdf4j.connector;
 
 import cz.cvut.kbss.ontodriver.exception.OntoDriverException;
+import cz.cvut.kbss.ontodriver.util.CommitPipeline;
 import org.eclipse.rdf4j.repository.Repository;
 
 public final class ConnectorFactoryImpl implements ConnectorFactory {
@@ -23,15 +24,22 @@ public final class ConnectorFactoryImpl implements ConnectorFactory {
 
     private StorageConnector centralConnector;
 
+    private final int commitChunkSize;
+
     public ConnectorFactoryImpl(StorageConnector connector) {
+        this(connector, CommitPipeline.DEFAULT_CHUNK_SIZE);
+    }
+
+    public ConnectorFactoryImpl(StorageConnector connector, int commitChunkSize) {
         this.open = true;
         this.centralConnector = connector;
+        this.commitChunkSize = commitChunkSize;
     }
 
     @Override
     public Connector createStorageConnector() {
         ensureOpen();
-        return new PoolingStorageConnector(centralConnector);
+        return new PoolingStorageConnector(centralConnector, commitChunkSize);
     }
 
     private void ensureOpen() {
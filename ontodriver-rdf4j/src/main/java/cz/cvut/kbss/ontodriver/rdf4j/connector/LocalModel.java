@@ -21,7 +21,9 @@ import org.eclipse.rdf4j.model.Statement;
 import org.eclipse.rdf4j.model.Value;
 import org.eclipse.rdf4j.model.impl.LinkedHashModel;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -45,9 +47,32 @@ class LocalModel {
 
     List<Statement> enhanceStatements(Stream<Statement> statements, Resource subject, IRI property,
                                       Value object, Collection<IRI> context) {
+        return enhanceStatementStream(statements, subject, property, object, context).collect(Collectors.toList());
+    }
+
+    /**
+     * Lazily enhances the specified statements with local changes.
+     * <p>
+     * Statements removed locally are filtered out, statements added locally are appended after the specified ones.
+     */
+    Stream<Statement> enhanceStatementStream(Stream<Statement> statements, Resource subject, IRI property,
+                                             Value object, Collection<IRI> context) {
         final IRI[] ctxArray = context.toArray(new IRI[0]);
-        final Collection<Statement> added = addedStatements.filter(subject, property, object, ctxArray);
-        final Collection<Statement> removed = removedStatements.filter(subject, property, object, ctxArray);
+        final List<Statement> added = new ArrayList<>(addedStatements.filter(subject, property, object, ctxArray));
+        final Collection<Statement> removed = new HashSet<>(removedStatements.filter(subject, property, object,
+                ctxArray));
+        final Stream<Statement> result = removed.isEmpty() ? statements :
+                                         statements.filter(s -> !removed.contains(s));
+        return added.isEmpty() ? result : Stream.concat(result, added.stream());
+    }
+
+    List<Statement> enhanceStatements(Stream<Statement> statements, Collection<? extends Resource> subjects) {
+        final Collection<Statement> added = new ArrayList<>();
+        final Collection<Statement> removed = new HashSet<>();
+        for (Resource subject : subjects) {
+            added.addAll(addedStatements.filter(subject, null, null));
+            removed.addAll(removedStatements.filter(subject, null, null));
+        }
         final List<Statement> result = statements.filter(s -> !removed.contains(s)).collect(Collectors.toList());
         result.addAll(added);
         return result;
@@ -71,11 +96,15 @@ class LocalModel {
         removedStatements.addAll(statements);
     }
 
-    Collection<Statement> getAddedStatements() {
+    boolean isEmpty() {
+        return addedStatements.isEmpty() && removedStatements.isEmpty();
+    }
+
+    Model getAddedStatements() {
         return addedStatements;
     }
 
-    Collection<Statement> getRemovedStatements() {
+    Model getRemovedStatements() {
         return removedStatements;
     }
 }
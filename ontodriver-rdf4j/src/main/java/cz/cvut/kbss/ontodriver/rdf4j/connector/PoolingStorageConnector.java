@@ -17,7 +17,10 @@ package cz.cvut.kbss.ontodriver.rdf4j.connector;
 import cz.cvut.kbss.ontodriver.exception.OntoDriverException;
 import cz.cvut.kbss.ontodriver.rdf4j.exception.Rdf4jDriverException;
 import cz.cvut.kbss.ontodriver.rdf4j.query.QuerySpecification;
+import cz.cvut.kbss.ontodriver.util.CommitPipeline;
+import cz.cvut.kbss.ontodriver.util.CommitTimings;
 import org.eclipse.rdf4j.model.IRI;
+import org.eclipse.rdf4j.model.Model;
 import org.eclipse.rdf4j.model.Resource;
 import org.eclipse.rdf4j.model.Statement;
 import org.eclipse.rdf4j.model.Value;
@@ -25,27 +28,35 @@ import org.eclipse.rdf4j.model.ValueFactory;
 import org.eclipse.rdf4j.query.TupleQueryResult;
 import org.eclipse.rdf4j.repository.RepositoryConnection;
 import org.eclipse.rdf4j.repository.RepositoryException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
-import java.util.concurrent.locks.Lock;
-import java.util.concurrent.locks.ReentrantReadWriteLock;
 import java.util.stream.Stream;
 
 public class PoolingStorageConnector extends AbstractConnector {
 
-    private static final ReentrantReadWriteLock LOCK = new ReentrantReadWriteLock();
-    private static final Lock READ = LOCK.readLock();
-    private static final Lock WRITE = LOCK.writeLock();
+    private static final Logger LOG = LoggerFactory.getLogger(PoolingStorageConnector.class);
 
     private final StorageConnector centralConnector;
+    private final RepositoryLock lock;
+    private final int commitChunkSize;
 
     private RepositoryConnection connection;
     private LocalModel localModel;
 
+    private CommitTimings lastCommitTimings;
+
     PoolingStorageConnector(StorageConnector centralConnector) {
+        this(centralConnector, CommitPipeline.DEFAULT_CHUNK_SIZE);
+    }
+
+    PoolingStorageConnector(StorageConnector centralConnector, int commitChunkSize) {
         this.centralConnector = centralConnector;
+        this.lock = centralConnector.getRepositoryLock();
+        this.commitChunkSize = commitChunkSize;
         this.open = true;
     }
 
@@ -54,11 +65,11 @@ public class PoolingStorageConnector extends AbstractConnector {
         if (transaction.isActive()) {
             return new ConnectionStatementExecutor(wrapConnection()).executeSelectQuery(query);
         }
-        READ.lock();
+        lock.lockRead();
         try {
             return centralConnector.executeSelectQuery(query);
         } finally {
-            READ.unlock();
+            lock.unlockRead();
         }
     }
 
@@ -71,31 +82,31 @@ public class PoolingStorageConnector extends AbstractConnector {
         if (transaction.isActive()) {
             return new ConnectionStatementExecutor(wrapConnection()).executeBooleanQuery(query);
         }
-        READ.lock();
+        lock.lockRead();
         try {
             return centralConnector.executeBooleanQuery(query);
         } finally {
-            READ.unlock();
+            lock.unlockRead();
         }
     }
 
     @Override
     public void executeUpdate(QuerySpecification query) throws Rdf4jDriverException {
-        WRITE.lock();
+        lock.lockRead();
         try {
             centralConnector.executeUpdate(query);
         } finally {
-            WRITE.unlock();
+            lock.unlockRead();
         }
     }
 
     @Override
     public List<Resource> getContexts() throws Rdf4jDriverException {
-        READ.lock();
+        lock.lockRead();
         try {
             return centralConnector.getContexts();
         } finally {
-            READ.unlock();
+            lock.unlockRead();
         }
     }
 
@@ -113,25 +124,65 @@ public class PoolingStorageConnector extends AbstractConnector {
         this.connection = centralConnector.acquireConnection();
     }
 
+    /**
+     * Commits the local changes using the repository connection acquired for this transaction.
+     * <p>
+     * Isolation from other concurrently committing connectors is provided by the repository's native transaction
+     * support, so only the shared repository lock is held.
+     * <p>
+     * The changes are sent to the repository context by context, in chunks of bounded size.
+     */
     @Override
     public void commit() throws Rdf4jDriverException {
         transaction.commit();
-        WRITE.lock();
+        final CommitPipeline pipeline = new CommitPipeline(commitChunkSize);
+        lock.lockRead();
         try {
-            centralConnector.begin();
-            centralConnector.removeStatements(localModel.getRemovedStatements());
-            centralConnector.addStatements(localModel.getAddedStatements());
-            centralConnector.commit();
+            connection.begin();
+            final Model removed = localModel.getRemovedStatements();
+            for (Resource ctx : removed.contexts()) {
+                pipeline.apply("remove", removed.filter(null, null, null, ctx).iterator(),
+                        chunk -> connection.remove(chunk));
+            }
+            final Model added = localModel.getAddedStatements();
+            for (Resource ctx : added.contexts()) {
+                pipeline.apply("add", added.filter(null, null, null, ctx).iterator(), chunk -> connection.add(chunk));
+            }
+            final long commitStart = System.nanoTime();
+            connection.commit();
+            pipeline.getTimings().record("commit", System.nanoTime() - commitStart);
             transaction.afterCommit();
-        } catch (Rdf4jDriverException e) {
+        } catch (RepositoryException e) {
             transaction.rollback();
-            centralConnector.rollback();
+            rollbackRepositoryTransaction();
             transaction.afterRollback();
-            throw e;
+            throw new Rdf4jDriverException(e);
         } finally {
-            WRITE.unlock();
+            lock.unlockRead();
             centralConnector.releaseConnection(connection);
             this.localModel = null;
+            pipeline.getTimings().finish();
+            this.lastCommitTimings = pipeline.getTimings();
+            LOG.debug("Commit finished. {}", lastCommitTimings);
+        }
+    }
+
+    /**
+     * Gets timings of the phases of the last commit executed by this connector.
+     *
+     * @return Commit timings, {@code null} if no commit has been executed, yet
+     */
+    public CommitTimings getLastCommitTimings() {
+        return lastCommitTimings;
+    }
+
+    private void rollbackRepositoryTransaction() {
+        try {
+            if (connection.isActive()) {
+                connection.rollback();
+            }
+        } catch (RepositoryException e) {
+            LOG.error("Unable to rollback repository transaction.", e);
         }
     }
 
@@ -188,6 +239,34 @@ public class PoolingStorageConnector extends AbstractConnector {
         }
     }
 
+    @Override
+    public Stream<Statement> streamStatements(Resource subject, IRI property, Value value, boolean includeInferred,
+                                              Collection<IRI> contexts) throws Rdf4jDriverException {
+        verifyTransactionActive();
+        try {
+            final Stream<Statement> statements = connection
+                    .getStatements(subject, property, value, includeInferred, contexts.toArray(new IRI[0])).stream();
+            return localModel.enhanceStatementStream(statements, subject, property, value, contexts);
+        } catch (RepositoryException e) {
+            rollback();
+            throw new Rdf4jDriverException(e);
+        }
+    }
+
+    @Override
+    public Collection<Statement> findStatements(Collection<IRI> subjects, boolean includeInferred)
+            throws Rdf4jDriverException {
+        verifyTransactionActive();
+        try {
+            final List<Statement> statements =
+                    new ConnectionStatementExecutor(wrapConnection()).findStatements(subjects, includeInferred);
+            return localModel.enhanceStatements(statements.stream(), subjects);
+        } catch (RepositoryException e) {
+            rollback();
+            throw new Rdf4jDriverException(e);
+        }
+    }
+
     @Override
     public boolean containsStatement(Resource subject, IRI property, Value value, boolean includeInferred,
                                      Collection<IRI> contexts)
@@ -210,6 +289,11 @@ public class PoolingStorageConnector extends AbstractConnector {
         }
     }
 
+    @Override
+    public boolean hasPendingChanges() {
+        return localModel != null && !localModel.isEmpty();
+    }
+
     @Override
     public boolean isInferred(Statement statement, Collection<IRI> contexts) throws Rdf4jDriverException {
         verifyTransactionActive();
@@ -0,0 +1,94 @@
+/**
+ * Copyright (C) 2023 Czech Technical University in Prague
+ *
+ * This program is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any
+ * later version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more
+ * details. You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package cz.cvut.kbss.ontodriver.rdf4j.connector;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Read/write lock guarding access to a single repository.
+ * <p>
+ * Regular operations (including transaction commits, which rely on the repository's transaction isolation) share the
+ * read lock, so they may run concurrently. The write lock is reserved for operations changing the repository itself,
+ * e.g., its replacement.
+ * <p>
+ * The lock keeps track of the time threads spent waiting for the read and the write lock separately. Note that it does
+ * not measure contention on the repository itself. Reads within a transaction use the repository connection acquired
+ * when the transaction began and do not take this lock. The read lock thus only waits while the repository is being
+ * closed or replaced, and the write lock waits for running non-transactional operations and commits to finish.
+ */
+public class RepositoryLock {
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final LongAdder readWaitTime = new LongAdder();
+    private final LongAdder writeWaitTime = new LongAdder();
+    private final LongAdder acquisitionCount = new LongAdder();
+
+    void lockRead() {
+        acquire(lock.readLock(), readWaitTime);
+    }
+
+    void unlockRead() {
+        lock.readLock().unlock();
+    }
+
+    void lockWrite() {
+        acquire(lock.writeLock(), writeWaitTime);
+    }
+
+    void unlockWrite() {
+        lock.writeLock().unlock();
+    }
+
+    private void acquire(Lock target, LongAdder waitTime) {
+        final long start = System.nanoTime();
+        target.lock();
+        waitTime.add(System.nanoTime() - start);
+        acquisitionCount.increment();
+    }
+
+    /**
+     * Gets the total time threads spent waiting for the read lock, i.e., for the repository to be closed or replaced.
+     *
+     * @param unit Time unit to return the wait time in
+     * @return Total read lock wait time
+     */
+    public long getReadWaitTime(TimeUnit unit) {
+        return unit.convert(readWaitTime.sum(), TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Gets the total time threads spent waiting for the write lock, i.e., for running operations to finish before the
+     * repository could be closed or replaced.
+     *
+     * @param unit Time unit to return the wait time in
+     * @return Total write lock wait time
+     */
+    public long getWriteWaitTime(TimeUnit unit) {
+        return unit.convert(writeWaitTime.sum(), TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Gets the number of times this lock (either read or write) has been acquired.
+     *
+     * @return Number of acquisitions
+     */
+    public long getAcquisitionCount() {
+        return acquisitionCount.sum();
+    }
+}
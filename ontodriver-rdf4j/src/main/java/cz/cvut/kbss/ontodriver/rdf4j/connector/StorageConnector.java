@@ -41,6 +41,7 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 public class StorageConnector extends AbstractConnector {
 
@@ -52,6 +53,8 @@ public class StorageConnector extends AbstractConnector {
     private final RepositoryManager manager;
     private RepositoryConnection connection;
 
+    private final RepositoryLock repositoryLock = new RepositoryLock();
+
     public StorageConnector(RepositoryConnectorInitializer repoInitializer) {
         this.repository = repoInitializer.getRepository();
         this.manager = repoInitializer.getManager();
@@ -65,6 +68,7 @@ public class StorageConnector extends AbstractConnector {
             return;
         }
         LOG.debug("Closing repository connector.");
+        repositoryLock.lockWrite();
         try {
             repository.shutDown();
             if (manager != null) {
@@ -74,9 +78,19 @@ public class StorageConnector extends AbstractConnector {
             throw new Rdf4jDriverException("Exception caught when closing RDF4J repository connection.", e);
         } finally {
             this.open = false;
+            repositoryLock.unlockWrite();
         }
     }
 
+    /**
+     * Gets the lock guarding access to the underlying repository.
+     *
+     * @return Repository lock
+     */
+    public RepositoryLock getRepositoryLock() {
+        return repositoryLock;
+    }
+
     @Override
     public TupleQueryResult executeSelectQuery(QuerySpecification query) throws Rdf4jDriverException {
         final RepositoryConnection conn = acquireConnection();
@@ -230,6 +244,30 @@ public class StorageConnector extends AbstractConnector {
         }
     }
 
+    @Override
+    public Stream<Statement> streamStatements(Resource subject, IRI property, Value value, boolean includeInferred,
+                                              Collection<IRI> contexts) throws Rdf4jDriverException {
+        final RepositoryConnection conn = acquireConnection();
+        try {
+            // The connection is released once the stream is closed
+            return conn.getStatements(subject, property, value, includeInferred, contexts.toArray(new IRI[0]))
+                       .stream().onClose(conn::close);
+        } catch (RepositoryException e) {
+            conn.close();
+            throw new Rdf4jDriverException(e);
+        }
+    }
+
+    @Override
+    public Collection<Statement> findStatements(Collection<IRI> subjects, boolean includeInferred)
+            throws Rdf4jDriverException {
+        try (final RepositoryConnection conn = acquireConnection()) {
+            return new ConnectionStatementExecutor(conn).findStatements(subjects, includeInferred);
+        } catch (RepositoryException e) {
+            throw new Rdf4jDriverException(e);
+        }
+    }
+
     @Override
     public boolean containsStatement(Resource subject, IRI property, Value value, boolean includeInferred,
                                      Collection<IRI> contexts) throws Rdf4jDriverException {
@@ -281,9 +319,14 @@ public class StorageConnector extends AbstractConnector {
         if (transaction.isActive()) {
             throw new IllegalStateException("Cannot replace repository in transaction.");
         }
-        repository.shutDown();
-        assert newRepository.isInitialized();
-        this.repository = newRepository;
+        repositoryLock.lockWrite();
+        try {
+            repository.shutDown();
+            assert newRepository.isInitialized();
+            this.repository = newRepository;
+        } finally {
+            repositoryLock.unlockWrite();
+        }
         // Since in-memory repositories are not registered in RepositoryManager, we shouldn't need to deal with it
     }
 
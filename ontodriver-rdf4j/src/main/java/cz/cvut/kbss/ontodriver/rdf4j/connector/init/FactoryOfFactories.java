@@ -14,6 +14,7 @@
  */
 package cz.cvut.kbss.ontodriver.rdf4j.connector.init;
 
+import cz.cvut.kbss.ontodriver.config.DriverConfigParam;
 import cz.cvut.kbss.ontodriver.config.DriverConfiguration;
 import cz.cvut.kbss.ontodriver.rdf4j.config.Rdf4jConfigParam;
 import cz.cvut.kbss.ontodriver.rdf4j.connector.ConnectorFactory;
@@ -25,6 +26,7 @@ import cz.cvut.kbss.ontodriver.rdf4j.loader.DefaultContextInferenceStatementLoad
 import cz.cvut.kbss.ontodriver.rdf4j.loader.DefaultStatementLoaderFactory;
 import cz.cvut.kbss.ontodriver.rdf4j.loader.GraphDBStatementLoaderFactory;
 import cz.cvut.kbss.ontodriver.rdf4j.loader.StatementLoaderFactory;
+import cz.cvut.kbss.ontodriver.util.CommitPipeline;
 import org.eclipse.rdf4j.model.ValueFactory;
 import org.eclipse.rdf4j.query.BooleanQuery;
 import org.eclipse.rdf4j.repository.Repository;
@@ -56,7 +58,15 @@ public class FactoryOfFactories {
         } else {
             connector = new StorageConnector(connectorInitializer);
         }
-        return new ConnectorFactoryImpl(connector);
+        return new ConnectorFactoryImpl(connector, resolveCommitChunkSize());
+    }
+
+    private int resolveCommitChunkSize() throws Rdf4jDriverException {
+        final int chunkSize = config.getProperty(DriverConfigParam.COMMIT_CHUNK_SIZE, CommitPipeline.DEFAULT_CHUNK_SIZE);
+        if (chunkSize <= 0) {
+            throw new Rdf4jDriverException("Invalid commit chunk size " + chunkSize + ". Must be a positive number.");
+        }
+        return chunkSize;
     }
 
     public StatementLoaderFactory createStatementLoaderFactory() throws Rdf4jDriverException {
@@ -26,13 +26,16 @@ import org.eclipse.rdf4j.model.IRI;
 import org.eclipse.rdf4j.model.Resource;
 import org.eclipse.rdf4j.model.Statement;
 import org.eclipse.rdf4j.model.ValueFactory;
+import org.eclipse.rdf4j.repository.RepositoryException;
 
 import java.net.URI;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 public class StatementLoader {
 
@@ -97,23 +100,52 @@ public class StatementLoader {
 
     private Collection<Axiom<?>> loadAll(AxiomDescriptor descriptor,
                                          Map<IRI, Assertion> properties) throws Rdf4jDriverException {
-        final Collection<Statement> statements = connector.findStatements(subject, null, null, includeInferred);
-        final Collection<Axiom<?>> result = new HashSet<>(statements.size());
+        try (final Stream<Statement> statements = connector.streamStatements(subject, null, null, includeInferred,
+                                                                             Collections.emptySet())) {
+            return statementsToAxioms(descriptor, properties, statements);
+        } catch (RepositoryException e) {
+            throw new Rdf4jDriverException(e);
+        }
+    }
+
+    /**
+     * Extracts axioms matching the specified descriptor and properties from the specified statements.
+     * <p>
+     * This allows to process statements of the subject which have already been loaded, e.g., together with statements
+     * of other subjects.
+     *
+     * @param descriptor Descriptor of axioms to load
+     * @param properties Properties whose values to load
+     * @param statements All statements of the subject of this loader (in any context)
+     * @return Matching axioms
+     */
+    public Collection<Axiom<?>> loadAxioms(AxiomDescriptor descriptor, Map<IRI, Assertion> properties,
+                                           Collection<Statement> statements) {
+        this.loadAll = properties.containsValue(Assertion.createUnspecifiedPropertyAssertion(includeInferred));
+        return statementsToAxioms(descriptor, properties, statements.stream());
+    }
+
+    /**
+     * Statements are consumed as they are read from the stream, without being collected first.
+     */
+    private Collection<Axiom<?>> statementsToAxioms(AxiomDescriptor descriptor, Map<IRI, Assertion> properties,
+                                                    Stream<Statement> statements) {
+        final Collection<Axiom<?>> result = new HashSet<>();
         final Assertion unspecified = Assertion.createUnspecifiedPropertyAssertion(includeInferred);
-        for (Statement s : statements) {
+        statements.forEach(s -> {
             if (!properties.containsKey(s.getPredicate()) && !loadAll) {
-                continue;
+                return;
             }
             final Assertion a = getAssertion(properties, s);
             if (!contextMatches(descriptor.getAssertionContexts(a), s, a) &&
                     !(loadAll && contextMatches(descriptor.getAssertionContexts(unspecified), s, a))) {
-                continue;
+                return;
             }
             final Axiom<?> axiom = axiomBuilder.statementToAxiom(s);
             if (axiom != null) {
                 result.add(axiom);
             }
-        }
+        });
         return result;
     }
 
@@ -135,11 +167,13 @@ public class StatementLoader {
     }
 
     public Collection<Axiom<?>> loadAxioms(Set<URI> contexts) throws Rdf4jDriverException {
-        final Collection<Statement> statements =
-                connector.findStatements(subject, null, null, includeInferred, contexts.stream()
-                                                                                       .map(uri -> Rdf4jUtils.toRdf4jIri(
-                                                                                               uri, vf))
-                                                                                       .collect(Collectors.toSet()));
-        return statements.stream().map(axiomBuilder::statementToAxiom).collect(Collectors.toSet());
+        final Set<IRI> ctxIris = contexts.stream().map(uri -> Rdf4jUtils.toRdf4jIri(uri, vf))
+                                         .collect(Collectors.toSet());
+        try (final Stream<Statement> statements = connector.streamStatements(subject, null, null, includeInferred,
+                                                                             ctxIris)) {
+            return statements.map(axiomBuilder::statementToAxiom).collect(Collectors.toSet());
+        } catch (RepositoryException e) {
+            throw new Rdf4jDriverException(e);
+        }
     }
 }
@@ -14,6 +14,10 @@
  */
 package cz.cvut.kbss.ontodriver.rdf4j.query;
 
+import org.eclipse.rdf4j.model.Value;
+
+import java.util.Collections;
+import java.util.Map;
 import java.util.Objects;
 
 /**
@@ -25,6 +29,8 @@ public class QuerySpecification {
 
     private boolean includeInference = true;
 
+    private Map<String, Value> bindings = Collections.emptyMap();
+
     private QuerySpecification(String query) {
         this.query = Objects.requireNonNull(query);
     }
@@ -42,6 +48,21 @@ public class QuerySpecification {
         return includeInference;
     }
 
+    /**
+     * Sets values to bind to variables of the query when it is evaluated.
+     *
+     * @param bindings Map of variable names to values
+     * @return This specification
+     */
+    public QuerySpecification bindings(Map<String, Value> bindings) {
+        this.bindings = Objects.requireNonNull(bindings);
+        return this;
+    }
+
+    public Map<String, Value> getBindings() {
+        return bindings;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) {
@@ -51,12 +72,13 @@ public class QuerySpecification {
             return false;
         }
         QuerySpecification that = (QuerySpecification) o;
-        return includeInference == that.includeInference && query.equals(that.query);
+        return includeInference == that.includeInference && query.equals(that.query) &&
+                bindings.equals(that.bindings);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(query, includeInference);
+        return Objects.hash(query, includeInference, bindings);
     }
 
     public static QuerySpecification query(String query) {
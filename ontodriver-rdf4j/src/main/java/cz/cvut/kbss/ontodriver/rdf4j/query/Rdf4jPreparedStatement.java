@@ -18,8 +18,14 @@ import cz.cvut.kbss.ontodriver.PreparedStatement;
 import cz.cvut.kbss.ontodriver.ResultSet;
 import cz.cvut.kbss.ontodriver.exception.OntoDriverException;
 import cz.cvut.kbss.ontodriver.rdf4j.connector.StatementExecutor;
+import cz.cvut.kbss.ontodriver.rdf4j.util.Rdf4jUtils;
 import cz.cvut.kbss.ontodriver.util.StatementHolder;
+import org.eclipse.rdf4j.model.Value;
+import org.eclipse.rdf4j.model.ValueFactory;
+import org.eclipse.rdf4j.model.impl.SimpleValueFactory;
 
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Objects;
 
 import static cz.cvut.kbss.ontodriver.util.ErrorUtils.getNPXMessageSupplier;
@@ -27,6 +33,15 @@ import static cz.cvut.kbss.ontodriver.util.ErrorUtils.getNPXMessageSupplier;
 public class Rdf4jPreparedStatement extends Rdf4jStatement implements PreparedStatement {
 
     private final StatementHolder statementHolder;
+    private final Map<String, Value> bindings = new HashMap<>();
+
+    /**
+     * Whether the statement is an ASK query, resolved lazily when the query is first executed.
+     * <p>
+     * Since bound values do not change the statement string, the statement need not be parsed again on subsequent
+     * executions.
+     */
+    private Boolean askQuery;
 
     public Rdf4jPreparedStatement(StatementExecutor executor, String statement) {
         super(executor);
@@ -42,22 +57,46 @@ public class Rdf4jPreparedStatement extends Rdf4jStatement implements PreparedSt
         ensureOpen();
         Objects.requireNonNull(value, getNPXMessageSupplier("value"));
         statementHolder.setParameter(binding, value.toString());
+        bindings.remove(binding);
+        this.askQuery = null;
+    }
+
+    @Override
+    public void bindValue(String binding, Object value) {
+        ensureOpen();
+        Objects.requireNonNull(value, getNPXMessageSupplier("value"));
+        statementHolder.bindValue(binding, value);
+        bindings.put(binding, toRdf4jValue(value));
+    }
+
+    private static Value toRdf4jValue(Object value) {
+        final ValueFactory vf = SimpleValueFactory.getInstance();
+        if (Rdf4jUtils.isResourceIdentifier(value)) {
+            return vf.createIRI(value.toString());
+        }
+        return Rdf4jUtils.createLiteral(value, null, vf);
     }
 
     @Override
     public ResultSet executeQuery() throws OntoDriverException {
         ensureOpen();
-        return executeQuery(statementHolder.assembleStatement());
+        final String statement = statementHolder.assembleStatement();
+        if (askQuery == null) {
+            this.askQuery = isAskQuery(statement);
+        }
+        return executeQuery(querySpec(statement).bindings(new HashMap<>(bindings)), askQuery);
     }
 
     @Override
     public void executeUpdate() throws OntoDriverException {
         ensureOpen();
-        executeUpdate(statementHolder.assembleStatement());
+        executeUpdate(querySpec(statementHolder.assembleStatement()).bindings(new HashMap<>(bindings)));
     }
 
     @Override
     public void clearParameters() {
         statementHolder.clearParameters();
+        bindings.clear();
+        this.askQuery = null;
     }
 }
@@ -46,16 +46,20 @@ public class Rdf4jStatement implements Statement {
     public ResultSet executeQuery(String sparql) throws OntoDriverException {
         ensureOpen();
         validateQueryParams(sparql);
+        return executeQuery(querySpec(sparql), isAskQuery(sparql));
+    }
+
+    ResultSet executeQuery(QuerySpecification querySpec, boolean ask) throws OntoDriverException {
         closeCurrentResultSet();
-        this.resultSet = determineResult(sparql);
+        this.resultSet = determineResult(querySpec, ask);
         return resultSet;
     }
 
-    private ResultSet determineResult(String sparql) throws Rdf4jDriverException {
-        if (isAskQuery(sparql)) {
-            return new AskResultSet(queryExecutor.executeBooleanQuery(querySpec(sparql)), this);
+    private ResultSet determineResult(QuerySpecification querySpec, boolean ask) throws Rdf4jDriverException {
+        if (ask) {
+            return new AskResultSet(queryExecutor.executeBooleanQuery(querySpec), this);
         } else {
-            final TupleQueryResult tqr = queryExecutor.executeSelectQuery(querySpec(sparql));
+            final TupleQueryResult tqr = queryExecutor.executeSelectQuery(querySpec);
             try {
                 return new SelectResultSet(tqr, this);
             } catch (QueryEvaluationException e) {
@@ -68,7 +72,7 @@ public class Rdf4jStatement implements Statement {
         return QuerySpecification.query(sparql).includeInference(!inferenceDisabled);
     }
 
-    private static boolean isAskQuery(String query) throws Rdf4jDriverException {
+    static boolean isAskQuery(String query) throws Rdf4jDriverException {
         try {
             return QueryParserUtil.parseOperation(QueryLanguage.SPARQL, query, null) instanceof ParsedBooleanQuery;
         } catch (MalformedQueryException e) {
@@ -80,8 +84,12 @@ public class Rdf4jStatement implements Statement {
     public void executeUpdate(String sparql) throws OntoDriverException {
         ensureOpen();
         validateQueryParams(sparql);
+        executeUpdate(querySpec(sparql));
+    }
+
+    void executeUpdate(QuerySpecification querySpec) throws OntoDriverException {
         closeCurrentResultSet();
-        queryExecutor.executeUpdate(querySpec(sparql));
+        queryExecutor.executeUpdate(querySpec);
     }
 
     @Override
@@ -16,26 +16,31 @@ package cz.cvut.kbss.ontodriver.rdf4j.query;
 
 import cz.cvut.kbss.jopa.datatype.DatatypeTransformer;
 import cz.cvut.kbss.jopa.datatype.exception.UnsupportedTypeTransformationException;
+import cz.cvut.kbss.jopa.datatype.xsd.XsdDatatypeMapper;
 import cz.cvut.kbss.ontodriver.Statement;
 import cz.cvut.kbss.ontodriver.exception.OntoDriverException;
 import cz.cvut.kbss.ontodriver.exception.VariableNotBoundException;
+import cz.cvut.kbss.ontodriver.iteration.ColumnReader;
 import cz.cvut.kbss.ontodriver.rdf4j.exception.Rdf4jDriverException;
 import cz.cvut.kbss.ontodriver.rdf4j.util.Rdf4jUtils;
 import org.eclipse.rdf4j.model.IRI;
 import org.eclipse.rdf4j.model.Literal;
 import org.eclipse.rdf4j.model.Value;
+import org.eclipse.rdf4j.model.base.CoreDatatype;
 import org.eclipse.rdf4j.query.BindingSet;
 import org.eclipse.rdf4j.query.QueryEvaluationException;
 import org.eclipse.rdf4j.query.TupleQueryResult;
 
 import java.util.List;
 import java.util.Objects;
+import java.util.function.Function;
 
 // TODO Resolve mapping of data values with language tag
 public class SelectResultSet extends AbstractResultSet {
 
     private final TupleQueryResult result;
     private List<String> bindings;
+    private ValueConverter<?>[] converters;
     private BindingSet current;
 
     public SelectResultSet(TupleQueryResult result, Statement statement) {
@@ -48,6 +53,7 @@ public class SelectResultSet extends AbstractResultSet {
 
     private void init() {
         this.bindings = result.getBindingNames();
+        this.converters = new ValueConverter[bindings.size()];
     }
 
     @Override
@@ -120,13 +126,27 @@ public class SelectResultSet extends AbstractResultSet {
     @Override
     public double getDouble(int columnIndex) throws OntoDriverException {
         ensureOpen();
-        return toDouble(getLiteralValue(columnIndex));
+        return doubleValue(getCurrent(columnIndex));
     }
 
     @Override
     public double getDouble(String columnLabel) throws OntoDriverException {
         ensureOpen();
-        return toDouble(getLiteralValue(columnLabel));
+        return doubleValue(getCurrent(columnLabel));
+    }
+
+    private static double doubleValue(Value value) throws OntoDriverException {
+        final CoreDatatype datatype = coreDatatype(value);
+        try {
+            if (datatype == CoreDatatype.XSD.DOUBLE) {
+                return XsdDatatypeMapper.parseDouble(value.stringValue());
+            } else if (isIntDatatype(datatype) || isLongDatatype(datatype)) {
+                return Long.parseLong(value.stringValue());
+            }
+        } catch (NumberFormatException e) {
+            throw new OntoDriverException(e);
+        }
+        return toDouble(literalValue(value));
     }
 
     private static double toDouble(Object ob) throws OntoDriverException {
@@ -168,13 +188,27 @@ public class SelectResultSet extends AbstractResultSet {
     @Override
     public int getInt(int columnIndex) throws OntoDriverException {
         ensureOpen();
-        return toInt(getLiteralValue(columnIndex));
+        return intValue(getCurrent(columnIndex));
     }
 
     @Override
     public int getInt(String columnLabel) throws OntoDriverException {
         ensureOpen();
-        return toInt(getLiteralValue(columnLabel));
+        return intValue(getCurrent(columnLabel));
+    }
+
+    /**
+     * Parses values of datatypes mapped to {@code int} directly, avoiding the generic (boxing) literal mapping.
+     */
+    private static int intValue(Value value) throws OntoDriverException {
+        if (isIntDatatype(coreDatatype(value))) {
+            try {
+                return Integer.parseInt(value.stringValue());
+            } catch (NumberFormatException e) {
+                throw new OntoDriverException(e);
+            }
+        }
+        return toInt(literalValue(value));
     }
 
     private static int toInt(Object ob) throws OntoDriverException {
@@ -192,13 +226,37 @@ public class SelectResultSet extends AbstractResultSet {
     @Override
     public long getLong(int columnIndex) throws OntoDriverException {
         ensureOpen();
-        return toLong(getLiteralValue(columnIndex));
+        return longValue(getCurrent(columnIndex));
     }
 
     @Override
     public long getLong(String columnLabel) throws OntoDriverException {
         ensureOpen();
-        return toLong(getLiteralValue(columnLabel));
+        return longValue(getCurrent(columnLabel));
+    }
+
+    private static long longValue(Value value) throws OntoDriverException {
+        final CoreDatatype datatype = coreDatatype(value);
+        if (isIntDatatype(datatype) || isLongDatatype(datatype)) {
+            try {
+                return Long.parseLong(value.stringValue());
+            } catch (NumberFormatException e) {
+                throw new OntoDriverException(e);
+            }
+        }
+        return toLong(literalValue(value));
+    }
+
+    private static CoreDatatype coreDatatype(Value value) {
+        return value instanceof Literal ? ((Literal) value).getCoreDatatype() : CoreDatatype.NONE;
+    }
+
+    private static boolean isIntDatatype(CoreDatatype datatype) {
+        return datatype == CoreDatatype.XSD.INT || datatype == CoreDatatype.XSD.UNSIGNED_SHORT;
+    }
+
+    private static boolean isLongDatatype(CoreDatatype datatype) {
+        return datatype == CoreDatatype.XSD.LONG || datatype == CoreDatatype.XSD.UNSIGNED_INT;
     }
 
     private static long toLong(Object ob) throws OntoDriverException {
@@ -239,7 +297,19 @@ public class SelectResultSet extends AbstractResultSet {
     @Override
     public <T> T getObject(int columnIndex, Class<T> cls) throws OntoDriverException {
         ensureOpen();
-        return toObject(getCurrent(columnIndex), cls);
+        final Value value = getCurrent(columnIndex);
+        return converterFor(columnIndex, cls).convert(value);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> ValueConverter<T> converterFor(int columnIndex, Class<T> cls) {
+        final ValueConverter<?> converter = converters[columnIndex];
+        if (converter != null && converter.targetType == cls) {
+            return (ValueConverter<T>) converter;
+        }
+        final ValueConverter<T> newConverter = new ValueConverter<>(Objects.requireNonNull(cls));
+        converters[columnIndex] = newConverter;
+        return newConverter;
     }
 
     @Override
@@ -266,6 +336,20 @@ public class SelectResultSet extends AbstractResultSet {
         }
     }
 
+    @Override
+    public <T> ColumnReader<T> getColumnReader(int columnIndex, Class<T> cls) {
+        ensureOpen();
+        Objects.requireNonNull(cls);
+        if (columnIndex < 0 || columnIndex >= bindings.size()) {
+            throw new IllegalArgumentException("The column index is out of bounds of the column count.");
+        }
+        final ValueConverter<T> converter = new ValueConverter<>(cls);
+        return () -> {
+            ensureOpen();
+            return converter.convert(getCurrent(columnIndex));
+        };
+    }
+
     @Override
     public short getShort(int columnIndex) throws OntoDriverException {
         ensureOpen();
@@ -319,15 +403,14 @@ public class SelectResultSet extends AbstractResultSet {
     }
 
     private Object getLiteralValue(int columnIndex) throws OntoDriverException {
-        final Value val = getCurrent(columnIndex);
-        if (!(val instanceof Literal)) {
-            throw new OntoDriverException("Expected value " + val + " to be a literal.");
-        }
-        return Rdf4jUtils.getLiteralValue((Literal) val);
+        return literalValue(getCurrent(columnIndex));
     }
 
     private Object getLiteralValue(String columnName) throws OntoDriverException {
-        final Value val = getCurrent(columnName);
+        return literalValue(getCurrent(columnName));
+    }
+
+    private static Object literalValue(Value val) throws OntoDriverException {
         if (!(val instanceof Literal)) {
             throw new OntoDriverException("Expected value " + val + " to be a literal.");
         }
@@ -366,4 +449,52 @@ public class SelectResultSet extends AbstractResultSet {
         }
         return v;
     }
+
+    /**
+     * Converts values of one column to the target type.
+     * <p>
+     * The conversion is resolved for the first value and reused as long as the following values are of the same kind
+     * (value class and literal datatype), which is typically the case for all values in a column.
+     */
+    private static final class ValueConverter<T> {
+
+        private final Class<T> targetType;
+
+        private Class<?> valueType;
+        private IRI datatype;
+        private boolean passThrough;
+        private Function<String, Object> lexicalMapper;
+
+        private ValueConverter(Class<T> targetType) {
+            this.targetType = targetType;
+        }
+
+        T convert(Value value) throws OntoDriverException {
+            final IRI valueDatatype = value instanceof Literal ? ((Literal) value).getDatatype() : null;
+            if (value.getClass() != valueType || !Objects.equals(valueDatatype, datatype)) {
+                resolve(value.getClass(), valueDatatype);
+            }
+            if (passThrough) {
+                return targetType.cast(value);
+            }
+            if (lexicalMapper == null) {
+                return toObject(value, targetType);
+            }
+            try {
+                return targetType.cast(DatatypeTransformer.transform(lexicalMapper.apply(value.stringValue()),
+                                                                     targetType));
+            } catch (UnsupportedTypeTransformationException e) {
+                throw new Rdf4jDriverException("Unable to transform value to target object.", e);
+            }
+        }
+
+        private void resolve(Class<?> valueType, IRI datatype) {
+            this.valueType = valueType;
+            this.datatype = datatype;
+            this.passThrough = targetType.isAssignableFrom(valueType);
+            this.lexicalMapper = datatype != null ?
+                                 XsdDatatypeMapper.getInstance().getLexicalMapper(datatype.stringValue())
+                                                  .orElse(null) : null;
+        }
+    }
 }
@@ -172,6 +172,58 @@ class AxiomLoaderTest {
         assertEquals(value.toString(), a.getValue().getValue().toString());
     }
 
+    @Test
+    void loadAxiomsForMultipleDescriptorsLoadsValuesOfAllSubjects() throws Exception {
+        connector.begin();
+        final List<AxiomDescriptor> descriptors = new ArrayList<>();
+        for (String individual : generatedData.individuals.subList(0, Math.min(3, generatedData.individuals.size()))) {
+            final AxiomDescriptor desc = new AxiomDescriptor(NamedResource.create(individual));
+            generatedData.values.get(individual).keySet().forEach(desc::addAssertion);
+            descriptors.add(desc);
+        }
+
+        final Map<NamedResource, Collection<Axiom<?>>> res = axiomLoader.loadAxioms(descriptors);
+        assertEquals(descriptors.stream().map(AxiomDescriptor::getSubject).collect(Collectors.toList()),
+                new ArrayList<>(res.keySet()));
+        for (AxiomDescriptor desc : descriptors) {
+            final Collection<Axiom<?>> axioms = res.get(desc.getSubject());
+            assertEquals(generatedData.getTotalValueCount(desc.getSubject().toString()), axioms.size());
+            axioms.forEach(a -> assertEquals(desc.getSubject(), a.getSubject()));
+        }
+    }
+
+    @Test
+    void loadAxiomsForMultipleDescriptorsReturnsEmptyCollectionForUnknownIndividual() throws Exception {
+        connector.begin();
+        final String individual = generatedData.individuals.get(Generator.randomIndex(generatedData.individuals));
+        final AxiomDescriptor known = new AxiomDescriptor(NamedResource.create(individual));
+        generatedData.values.get(individual).keySet().forEach(known::addAssertion);
+        final AxiomDescriptor unknown = new AxiomDescriptor(NamedResource.create(Generator.generateUri()));
+        unknown.addAssertion(Assertion.createClassAssertion(false));
+
+        final Map<NamedResource, Collection<Axiom<?>>> res = axiomLoader.loadAxioms(Arrays.asList(known, unknown));
+        assertEquals(generatedData.getTotalValueCount(individual), res.get(known.getSubject()).size());
+        assertTrue(res.get(unknown.getSubject()).isEmpty());
+    }
+
+    @Test
+    void loadAxiomsForMultipleDescriptorsLoadsValuesFromContextSpecifiedForAssertion() throws Exception {
+        final String individual = generatedData.individuals.get(Generator.randomIndex(generatedData.individuals));
+        final Assertion property = generatedData.values.get(individual).keySet().iterator().next();
+        final String context = Generator.generateUri().toString();
+        final Object value = saveValueIntoContext(individual, property, context);
+        final AxiomDescriptor desc = new AxiomDescriptor(NamedResource.create(individual));
+        desc.addAssertion(property);
+        desc.addAssertionContext(property, URI.create(context));
+        connector.begin();
+
+        final Map<NamedResource, Collection<Axiom<?>>> res =
+                axiomLoader.loadAxioms(Collections.singletonList(desc));
+        final Collection<Axiom<?>> axioms = res.get(desc.getSubject());
+        assertEquals(1, axioms.size());
+        assertEquals(value.toString(), axioms.iterator().next().getValue().getValue().toString());
+    }
+
     private Object saveValueIntoContext(String individual, Assertion property, String context) throws Exception {
         final RepositoryConnection conn = connector.unwrap(Repository.class).getConnection();
         conn.begin();
@@ -419,7 +471,7 @@ class AxiomLoaderTest {
             descriptor.addAssertion(it.next());
             descriptor.addAssertion(it.next());
             axiomLoader.loadAxioms(descriptor);
-            verify(spiedConnector).findStatements(vf.createIRI(individual), null, null, false);
+            verify(spiedConnector).streamStatements(vf.createIRI(individual), null, null, false, Collections.emptySet());
         } finally {
             spiedConnector.close();
         }
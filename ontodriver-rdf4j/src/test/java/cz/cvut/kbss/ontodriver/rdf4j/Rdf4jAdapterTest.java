@@ -19,6 +19,7 @@ import cz.cvut.kbss.ontodriver.config.DriverConfiguration;
 import cz.cvut.kbss.ontodriver.descriptor.AxiomDescriptor;
 import cz.cvut.kbss.ontodriver.descriptor.AxiomValueDescriptor;
 import cz.cvut.kbss.ontodriver.exception.IdentifierGenerationException;
+import cz.cvut.kbss.ontodriver.identifier.TimeOrderedUuidGenerator;
 import cz.cvut.kbss.ontodriver.model.*;
 import cz.cvut.kbss.ontodriver.rdf4j.config.Rdf4jConfigParam;
 import cz.cvut.kbss.ontodriver.rdf4j.config.RuntimeConfiguration;
@@ -396,10 +397,11 @@ class Rdf4jAdapterTest {
         for (Assertion a : statements.keySet()) {
             stmts.addAll(statements.get(a));
         }
-        when(connectorMock.findStatements(subjectIri, null, null, false)).thenReturn(stmts);
+        when(connectorMock.streamStatements(subjectIri, null, null, false, Collections.emptySet()))
+                .thenReturn(stmts.stream());
 
         final Collection<Axiom<?>> res = adapter.find(desc);
-        verify(connectorMock).findStatements(subjectIri, null, null, false);
+        verify(connectorMock).streamStatements(subjectIri, null, null, false, Collections.emptySet());
         verify(connectorMock, never()).findStatements(eq(subjectIri), eq(VF.createIRI(propertyOne)),
                 any(org.eclipse.rdf4j.model.Value.class), anyBoolean());
         verifyReturnedAxioms(stmts, res);
@@ -456,13 +458,14 @@ class Rdf4jAdapterTest {
         final Collection<Statement> inferred = new ArrayList<>();
         inferred.add(VF.createStatement(subjectIri, VF.createIRI(propertyTwo), VF.createLiteral(true)));
         statements.get(asTwo).addAll(inferred);
-        when(connectorMock.findStatements(subjectIri, null, null, false)).thenReturn(stmts);
+        when(connectorMock.streamStatements(subjectIri, null, null, false, Collections.emptySet()))
+                .thenReturn(stmts.stream());
         when(connectorMock.findStatements(subjectIri, VF.createIRI(propertyTwo), null, true, Collections.emptySet()))
                 .thenReturn(statements.get(asTwo));
 
         final Collection<Axiom<?>> res = adapter.find(desc);
         verify(connectorMock).findStatements(subjectIri, VF.createIRI(propertyTwo), null, true, Collections.emptySet());
-        verify(connectorMock).findStatements(subjectIri, null, null, false);
+        verify(connectorMock).streamStatements(subjectIri, null, null, false, Collections.emptySet());
         verify(connectorMock, never()).findStatements(eq(subjectIri), eq(VF.createIRI(propertyOne)),
                 any(org.eclipse.rdf4j.model.Value.class), anyBoolean(), eq(null));
         final Collection<Statement> allStatements = new ArrayList<>(stmts);
@@ -514,7 +517,8 @@ class Rdf4jAdapterTest {
         assertions.add(Assertion.createUnspecifiedPropertyAssertion(false));
         assertions.add(asOne);
         assertions.forEach(desc::addAssertion);
-        when(connectorMock.findStatements(subjectIri, null, null, false)).thenReturn(statements);
+        when(connectorMock.streamStatements(subjectIri, null, null, false, Collections.emptySet()))
+                .thenReturn(statements.stream());
         final Collection<Axiom<?>> axioms = adapter.find(desc);
         assertEquals(1, axioms.size());
         final Assertion a = axioms.iterator().next().getAssertion();
@@ -584,6 +588,19 @@ class Rdf4jAdapterTest {
         assertThrows(IdentifierGenerationException.class, () -> adapter.generateIdentifier(clsUri));
     }
 
+    @Test
+    void generateIdentifierSkipsUniquenessCheckWhenGeneratorGuaranteesUniqueness() throws Exception {
+        final OntologyStorageProperties sp = OntologyStorageProperties.driver(Rdf4jDataSource.class.getName())
+                .physicalUri("memory-store").build();
+        final RuntimeConfiguration config = new RuntimeConfiguration(new DriverConfiguration(sp));
+        config.setIdentifierGenerator(new TimeOrderedUuidGenerator());
+        this.adapter = new Rdf4jAdapter(connectorMock, config);
+        final URI clsUri = URI.create("http://someClass.cz/class");
+        final URI res = adapter.generateIdentifier(clsUri);
+        assertTrue(res.toString().startsWith(clsUri + "/instance"));
+        verify(connectorMock, never()).containsStatement(any(), any(), any(), anyBoolean(), anySet());
+    }
+
     @Test
     void testRemove() throws Exception {
         final AxiomDescriptor desc = new AxiomDescriptor(SUBJECT);
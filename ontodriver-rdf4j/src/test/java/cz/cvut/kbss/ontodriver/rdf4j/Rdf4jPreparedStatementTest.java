@@ -19,12 +19,17 @@ import cz.cvut.kbss.ontodriver.ResultSet;
 import cz.cvut.kbss.ontodriver.rdf4j.connector.StatementExecutor;
 import cz.cvut.kbss.ontodriver.rdf4j.query.QuerySpecification;
 import cz.cvut.kbss.ontodriver.rdf4j.query.Rdf4jPreparedStatement;
+import org.eclipse.rdf4j.model.ValueFactory;
+import org.eclipse.rdf4j.model.impl.SimpleValueFactory;
 import org.eclipse.rdf4j.query.TupleQueryResult;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.net.URI;
+import java.util.Map;
+
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.verify;
@@ -88,4 +93,43 @@ public class Rdf4jPreparedStatementTest {
         assertFalse(rsOne.isOpen());
         assertNotSame(rsOne, rsTwo);
     }
+
+    @Test
+    public void executeQueryPassesBoundValuesAsBindingsWithoutModifyingQueryString() throws Exception {
+        when(executorMock.executeSelectQuery(any(QuerySpecification.class))).thenReturn(resultMock);
+        final String query = "SELECT ?y WHERE { ?x <http://property> ?y . ?y <http://label> ?label . }";
+        initStatement(query);
+        statement.bindValue("x", URI.create("http://subject"));
+        statement.bindValue("label", "Bill");
+        statement.executeQuery();
+        final ValueFactory vf = SimpleValueFactory.getInstance();
+        verify(executorMock).executeSelectQuery(QuerySpecification.query(query).bindings(
+                Map.of("x", vf.createIRI("http://subject"), "label", vf.createLiteral("Bill"))));
+    }
+
+    @Test
+    public void executeQueryWithDifferentBoundValuesKeepsQueryString() throws Exception {
+        when(executorMock.executeSelectQuery(any(QuerySpecification.class))).thenReturn(resultMock);
+        final String query = "SELECT ?y WHERE { ?x <http://property> ?y . }";
+        initStatement(query);
+        statement.bindValue("x", URI.create("http://subjectOne"));
+        statement.executeQuery();
+        statement.bindValue("x", URI.create("http://subjectTwo"));
+        statement.executeQuery();
+        final ValueFactory vf = SimpleValueFactory.getInstance();
+        verify(executorMock).executeSelectQuery(
+                QuerySpecification.query(query).bindings(Map.of("x", vf.createIRI("http://subjectOne"))));
+        verify(executorMock).executeSelectQuery(
+                QuerySpecification.query(query).bindings(Map.of("x", vf.createIRI("http://subjectTwo"))));
+    }
+
+    @Test
+    public void executeUpdatePassesBoundValuesAsBindings() throws Exception {
+        final String query = "DELETE WHERE { ?x <http://property> ?y . }";
+        initStatement(query);
+        statement.bindValue("y", 117);
+        statement.executeUpdate();
+        verify(executorMock).executeUpdate(QuerySpecification.query(query).bindings(
+                Map.of("y", SimpleValueFactory.getInstance().createLiteral(117))));
+    }
 }
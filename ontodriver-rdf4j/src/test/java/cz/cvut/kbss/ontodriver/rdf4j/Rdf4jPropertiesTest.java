@@ -84,7 +84,8 @@ class Rdf4jPropertiesTest {
         final StatementLoader loader = new StatementLoader(connectorMock, subject, axiomBuilder);
         when(factory.create(any(), any(), any())).thenReturn(loader);
         final Collection<Statement> statements = statementsForProperties(initProperties());
-        when(connectorMock.findStatements(subject, null, null, false, Collections.emptySet())).thenReturn(statements);
+        when(connectorMock.streamStatements(subject, null, null, false, Collections.emptySet()))
+                .thenReturn(statements.stream());
 
         final Collection<Axiom<?>> result = properties.getProperties(SUBJECT, null, false);
         assertEquals(statements.size(), result.size());
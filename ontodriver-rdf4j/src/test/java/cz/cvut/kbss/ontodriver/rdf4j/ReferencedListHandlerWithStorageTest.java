@@ -205,4 +205,26 @@ public class ReferencedListHandlerWithStorageTest
         updateAndCheck(updated);
     }
 
+
+    @Test
+    public void loadsListUsingSingleQuery() throws Exception {
+        final ReferencedListValueDescriptor descriptor = initValues(8);
+        final Collection<Axiom<NamedResource>> axioms = generateAxiomsForList(descriptor);
+        handler.persistList(descriptor);
+        connector.commit();
+        connector.begin();
+
+        this.handler = new ReferencedListHandler(connector, connector.getValueFactory(), true);
+        verifyListContent(axioms, handler.loadList(descriptor));
+    }
+
+    @Test
+    public void loadListUsingSingleQueryIncludesUncommittedChanges() throws Exception {
+        final ReferencedListValueDescriptor descriptor = initValues(5);
+        final Collection<Axiom<NamedResource>> axioms = generateAxiomsForList(descriptor);
+        this.handler = new ReferencedListHandler(connector, connector.getValueFactory(), true);
+        handler.persistList(descriptor);
+
+        verifyListContent(axioms, handler.loadList(descriptor));
+    }
 }
@@ -16,15 +16,20 @@ package cz.cvut.kbss.ontodriver.rdf4j;
 
 import cz.cvut.kbss.ontodriver.descriptor.SimpleListDescriptor;
 import cz.cvut.kbss.ontodriver.descriptor.SimpleListValueDescriptor;
+import cz.cvut.kbss.ontodriver.exception.IntegrityConstraintViolatedException;
 import cz.cvut.kbss.ontodriver.model.*;
+import cz.cvut.kbss.ontodriver.rdf4j.environment.Generator;
+import org.eclipse.rdf4j.model.ValueFactory;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.net.URI;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class SimpleListHandlerWithStorageTest
@@ -231,4 +236,42 @@ public class SimpleListHandlerWithStorageTest
         handler.updateList(updatedSecond);
         verifyListContent(axioms, handler.loadList(updatedSecond));
     }
+
+    @Test
+    public void loadsListUsingSingleQuery() throws Exception {
+        final SimpleListValueDescriptor descriptor = initValues(8);
+        final Collection<Axiom<NamedResource>> axioms = generateAxiomsForList(descriptor);
+        handler.persistList(descriptor);
+        connector.commit();
+        connector.begin();
+
+        this.handler = new SimpleListHandler(connector, connector.getValueFactory(), true);
+        verifyListContent(axioms, handler.loadList(descriptor));
+    }
+
+    @Test
+    public void loadListUsingSingleQueryIncludesUncommittedChanges() throws Exception {
+        final SimpleListValueDescriptor descriptor = initValues(5);
+        final Collection<Axiom<NamedResource>> axioms = generateAxiomsForList(descriptor);
+        this.handler = new SimpleListHandler(connector, connector.getValueFactory(), true);
+        handler.persistList(descriptor);
+
+        verifyListContent(axioms, handler.loadList(descriptor));
+    }
+
+    @Test
+    public void loadListUsingSingleQueryThrowsIntegrityConstraintViolationWhenNodeHasMultipleSuccessors()
+            throws Exception {
+        final SimpleListValueDescriptor descriptor = initValues(3);
+        handler.persistList(descriptor);
+        final ValueFactory vf = connector.getValueFactory();
+        connector.addStatements(Collections.singleton(
+                vf.createStatement(vf.createIRI(descriptor.getValues().get(0).getIdentifier().toString()),
+                        vf.createIRI(NEXT_NODE_PROPERTY), vf.createIRI(Generator.generateUri().toString()))));
+        connector.commit();
+        connector.begin();
+
+        this.handler = new SimpleListHandler(connector, vf, true);
+        assertThrows(IntegrityConstraintViolatedException.class, () -> handler.loadList(descriptor));
+    }
 }
@@ -16,13 +16,18 @@ package cz.cvut.kbss.ontodriver.rdf4j.connector;
 
 import cz.cvut.kbss.ontodriver.rdf4j.environment.Generator;
 import org.eclipse.rdf4j.model.IRI;
+import org.eclipse.rdf4j.model.Statement;
 import org.eclipse.rdf4j.model.ValueFactory;
 import org.eclipse.rdf4j.model.impl.SimpleValueFactory;
 import org.junit.jupiter.api.Test;
 
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class LocalModelTest {
 
@@ -85,4 +90,24 @@ public class LocalModelTest {
         assertEquals(LocalModel.Contains.UNKNOWN,
                 localModel.contains(subject, property, null, Collections.singleton(context)));
     }
+
+    @Test
+    public void enhanceStatementsForSubjectsAddsAddedAndSkipsRemovedStatementsOfSpecifiedSubjects() {
+        final IRI subjectOne = valueFactory.createIRI(Generator.generateUri().toString());
+        final IRI subjectTwo = valueFactory.createIRI(Generator.generateUri().toString());
+        final IRI property = valueFactory.createIRI(Generator.generateUri().toString());
+        final Statement existing = valueFactory.createStatement(subjectOne, property, valueFactory.createLiteral(1));
+        final Statement removed = valueFactory.createStatement(subjectOne, property, valueFactory.createLiteral(2));
+        final Statement added = valueFactory.createStatement(subjectTwo, property, valueFactory.createLiteral(3));
+        final Statement unrelated = valueFactory.createStatement(valueFactory.createIRI(Generator.generateUri()
+                                                                                                 .toString()),
+                property, valueFactory.createLiteral(4));
+        localModel.removeStatements(Collections.singletonList(removed));
+        localModel.addStatements(Arrays.asList(added, unrelated));
+
+        final List<Statement> result =
+                localModel.enhanceStatements(Stream.of(existing, removed), Arrays.asList(subjectOne, subjectTwo));
+        assertEquals(2, result.size());
+        assertTrue(result.containsAll(Arrays.asList(existing, added)));
+    }
 }
@@ -20,6 +20,7 @@ import cz.cvut.kbss.ontodriver.rdf4j.query.QuerySpecification;
 import cz.cvut.kbss.ontodriver.util.Transaction;
 import cz.cvut.kbss.ontodriver.util.TransactionState;
 import org.eclipse.rdf4j.common.iteration.CloseableIteration;
+import org.eclipse.rdf4j.common.iteration.CloseableIteratorIteration;
 import org.eclipse.rdf4j.model.IRI;
 import org.eclipse.rdf4j.model.Resource;
 import org.eclipse.rdf4j.model.Statement;
@@ -37,27 +38,24 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.powermock.core.classloader.annotations.PrepareForTest;
-import org.powermock.reflect.Whitebox;
 
 import java.lang.reflect.Field;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
-import java.util.concurrent.locks.Lock;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
-@PrepareForTest(PoolingStorageConnector.class)
 public class PoolingStorageConnectorTest {
 
     @Mock
     private StorageConnector centralMock;
     @Mock
-    private Lock readLock;
-    @Mock
-    private Lock writeLock;
+    private RepositoryLock lock;
 
     private ValueFactory vf;
 
@@ -68,12 +66,11 @@ public class PoolingStorageConnectorTest {
     @BeforeEach
     public void setUp() throws Exception {
         this.vf = SimpleValueFactory.getInstance();
+        when(centralMock.getRepositoryLock()).thenReturn(lock);
         this.connector = new PoolingStorageConnector(centralMock);
         final Field transactionField = AbstractConnector.class.getDeclaredField("transaction");
         transactionField.setAccessible(true);
         this.transaction = (Transaction) transactionField.get(connector);
-        Whitebox.setInternalState(PoolingStorageConnector.class, "READ", readLock);
-        Whitebox.setInternalState(PoolingStorageConnector.class, "WRITE", writeLock);
     }
 
     @Test
@@ -88,10 +85,10 @@ public class PoolingStorageConnectorTest {
         final String query = "Some query";
         connector.executeSelectQuery(QuerySpecification.query(query));
 
-        InOrder inOrder = inOrder(readLock, centralMock);
-        inOrder.verify(readLock).lock();
+        InOrder inOrder = inOrder(lock, centralMock);
+        inOrder.verify(lock).lockRead();
         inOrder.verify(centralMock).executeSelectQuery(QuerySpecification.query(query));
-        inOrder.verify(readLock).unlock();
+        inOrder.verify(lock).unlockRead();
     }
 
     @Test
@@ -115,8 +112,8 @@ public class PoolingStorageConnectorTest {
         try {
             assertThrows(Rdf4jDriverException.class, () -> connector.executeSelectQuery(QuerySpecification.query(query)));
         } finally {
-            verify(readLock).lock();
-            verify(readLock).unlock();
+            verify(lock).lockRead();
+            verify(lock).unlockRead();
         }
     }
 
@@ -125,10 +122,10 @@ public class PoolingStorageConnectorTest {
         final String query = "ASK some query";
         connector.executeBooleanQuery(QuerySpecification.query(query));
 
-        InOrder inOrder = inOrder(readLock, centralMock);
-        inOrder.verify(readLock).lock();
+        InOrder inOrder = inOrder(lock, centralMock);
+        inOrder.verify(lock).lockRead();
         inOrder.verify(centralMock).executeBooleanQuery(QuerySpecification.query(query));
-        inOrder.verify(readLock).unlock();
+        inOrder.verify(lock).unlockRead();
     }
 
     @Test
@@ -153,7 +150,7 @@ public class PoolingStorageConnectorTest {
         try {
             assertThrows(Rdf4jDriverException.class, () -> connector.executeBooleanQuery(QuerySpecification.query(query)));
         } finally {
-            verify(readLock).unlock();
+            verify(lock).unlockRead();
         }
     }
 
@@ -163,10 +160,10 @@ public class PoolingStorageConnectorTest {
         final String query = "Some query";
         connector.executeUpdate(QuerySpecification.query(query));
 
-        InOrder inOrder = inOrder(writeLock, centralMock);
-        inOrder.verify(writeLock).lock();
+        InOrder inOrder = inOrder(lock, centralMock);
+        inOrder.verify(lock).lockRead();
         inOrder.verify(centralMock).executeUpdate(QuerySpecification.query(query));
-        inOrder.verify(writeLock).unlock();
+        inOrder.verify(lock).unlockRead();
     }
 
     @Test
@@ -177,43 +174,97 @@ public class PoolingStorageConnectorTest {
         try {
             assertThrows(Rdf4jDriverException.class, () -> connector.executeUpdate(QuerySpecification.query(query)));
         } finally {
-            verify(writeLock).unlock();
+            verify(lock).unlockRead();
         }
     }
 
     @Test
     public void testGetContexts() throws Exception {
         connector.getContexts();
-        verify(readLock).lock();
+        verify(lock).lockRead();
         verify(centralMock).getContexts();
-        verify(readLock).unlock();
+        verify(lock).unlockRead();
     }
 
     @Test
     public void testCommit() throws Exception {
+        final RepositoryConnection conn = mock(RepositoryConnection.class);
+        when(centralMock.acquireConnection()).thenReturn(conn);
         connector.begin();
+        connector.addStatements(Collections.singletonList(generateStatement(null)));
+        connector.removeStatements(Collections.singletonList(generateStatement(null)));
         connector.commit();
-        verify(writeLock).lock();
-        verify(centralMock).begin();
-        verify(centralMock).addStatements(anyCollection());
-        verify(centralMock).removeStatements(anyCollection());
-        verify(centralMock).commit();
-        verify(writeLock).unlock();
+        final InOrder inOrder = inOrder(lock, conn);
+        inOrder.verify(lock).lockRead();
+        inOrder.verify(conn).begin();
+        inOrder.verify(conn).remove(anyList());
+        inOrder.verify(conn).add(anyList());
+        inOrder.verify(conn).commit();
+        inOrder.verify(lock).unlockRead();
+        verify(centralMock, never()).begin();
+        verify(centralMock, never()).commit();
         assertFalse(transaction.isActive());
     }
 
+    @Test
+    public void commitAddsAndRemovesLocalChangesUsingTransactionConnection() throws Exception {
+        final RepositoryConnection conn = mock(RepositoryConnection.class);
+        when(centralMock.acquireConnection()).thenReturn(conn);
+        final List<Statement> added = Collections.singletonList(
+                vf.createStatement(vf.createIRI(Generator.generateUri().toString()), vf.createIRI(
+                        Generator.generateUri().toString()), vf.createLiteral(117)));
+        final List<Statement> removed = Collections.singletonList(
+                vf.createStatement(vf.createIRI(Generator.generateUri().toString()), vf.createIRI(
+                        Generator.generateUri().toString()), vf.createLiteral("test")));
+        connector.begin();
+        connector.addStatements(added);
+        connector.removeStatements(removed);
+        connector.commit();
+        verify(conn).add(added);
+        verify(conn).remove(removed);
+    }
+
+    @Test
+    public void commitSendsChangesToRepositoryInChunksPerContext() throws Exception {
+        this.connector = new PoolingStorageConnector(centralMock, 2);
+        final RepositoryConnection conn = mock(RepositoryConnection.class);
+        when(centralMock.acquireConnection()).thenReturn(conn);
+        final IRI ctxOne = vf.createIRI(Generator.generateUri().toString());
+        final IRI ctxTwo = vf.createIRI(Generator.generateUri().toString());
+        final List<Statement> added = Arrays.asList(generateStatement(ctxOne), generateStatement(ctxOne),
+                generateStatement(ctxOne), generateStatement(ctxTwo), generateStatement(ctxTwo));
+        connector.begin();
+        connector.addStatements(added);
+        connector.commit();
+
+        verify(conn).add(added.subList(0, 2));
+        verify(conn).add(added.subList(2, 3));
+        verify(conn).add(added.subList(3, 5));
+        verify(conn, never()).remove(anyList());
+        assertNotNull(connector.getLastCommitTimings());
+        assertTrue(connector.getLastCommitTimings().getPhases().containsKey("add"));
+        assertTrue(connector.getLastCommitTimings().getPhases().containsKey("commit"));
+    }
+
+    private Statement generateStatement(Resource context) {
+        return vf.createStatement(vf.createIRI(Generator.generateUri().toString()),
+                vf.createIRI(Generator.generateUri().toString()), vf.createLiteral(Generator.randomInt()), context);
+    }
+
     @Test
     public void testUnlockWhenCommitThrowsException() throws Exception {
-        doThrow(new Rdf4jDriverException()).when(centralMock).commit();
+        final RepositoryConnection conn = mock(RepositoryConnection.class);
+        when(centralMock.acquireConnection()).thenReturn(conn);
+        doThrow(new RepositoryException()).when(conn).commit();
+        when(conn.isActive()).thenReturn(true);
         connector.begin();
         try {
             assertThrows(Rdf4jDriverException.class, () -> connector.commit());
         } finally {
-            verify(centralMock).begin();
-            verify(centralMock).addStatements(anyCollection());
-            verify(centralMock).removeStatements(anyCollection());
-            verify(centralMock).commit();
-            verify(writeLock).unlock();
+            verify(conn).begin();
+            verify(conn).rollback();
+            verify(lock).unlockRead();
+            verify(centralMock).releaseConnection(conn);
             assertEquals(TransactionState.ABORTED, transaction.getState());
         }
     }
@@ -315,6 +366,27 @@ public class PoolingStorageConnectorTest {
         }
     }
 
+    @Test
+    public void streamStatementsMergesRepositoryStatementsWithLocalChanges() throws Exception {
+        final Resource subject = vf.createIRI(Generator.generateUri().toString());
+        final IRI property = vf.createIRI(Generator.generateUri().toString());
+        final Statement existing = vf.createStatement(subject, property, vf.createLiteral(1));
+        final Statement removed = vf.createStatement(subject, property, vf.createLiteral(2));
+        final Statement added = vf.createStatement(subject, property, vf.createLiteral(3));
+        final RepositoryConnection conn = mock(RepositoryConnection.class);
+        when(conn.getStatements(subject, null, null, false)).thenReturn(new RepositoryResult<>(
+                new CloseableIteratorIteration<>(Arrays.asList(existing, removed).iterator())));
+        when(centralMock.acquireConnection()).thenReturn(conn);
+        connector.begin();
+        connector.removeStatements(Collections.singletonList(removed));
+        connector.addStatements(Collections.singletonList(added));
+
+        try (final Stream<Statement> result = connector.streamStatements(subject, null, null, false,
+                                                                          Collections.emptySet())) {
+            assertEquals(Arrays.asList(existing, added), result.collect(Collectors.toList()));
+        }
+    }
+
     @Test
     public void closeReleasesActiveConnection() throws Exception {
         final RepositoryConnection conn = mock(RepositoryConnection.class);
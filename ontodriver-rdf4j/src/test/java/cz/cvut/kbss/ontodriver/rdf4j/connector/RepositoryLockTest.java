@@ -0,0 +1,91 @@
+/**
+ * Copyright (C) 2023 Czech Technical University in Prague
+ *
+ * This program is free software: you can redistribute it and/or modify it under
+ * the terms of the GNU General Public License as published by the Free Software
+ * Foundation, either version 3 of the License, or (at your option) any
+ * later version.
+ *
+ * This program is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more
+ * details. You should have received a copy of the GNU General Public License
+ * along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+package cz.cvut.kbss.ontodriver.rdf4j.connector;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RepositoryLockTest {
+
+    private final RepositoryLock sut = new RepositoryLock();
+
+    @Test
+    void readLockCanBeHeldByMultipleThreadsConcurrently() throws Exception {
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            sut.lockRead();
+            final Future<?> other = executor.submit(() -> {
+                sut.lockRead();
+                sut.unlockRead();
+            });
+            other.get(5, TimeUnit.SECONDS);
+            sut.unlockRead();
+            assertEquals(2, sut.getAcquisitionCount());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void lockRecordsTimeSpentWaitingForWriteLock() throws Exception {
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        final CountDownLatch waiting = new CountDownLatch(1);
+        try {
+            sut.lockRead();
+            final Future<?> writer = executor.submit(() -> {
+                waiting.countDown();
+                sut.lockWrite();
+                sut.unlockWrite();
+            });
+            waiting.await();
+            Thread.sleep(50);
+            sut.unlockRead();
+            writer.get(5, TimeUnit.SECONDS);
+            assertTrue(sut.getWriteWaitTime(TimeUnit.MILLISECONDS) >= 40);
+            assertTrue(sut.getReadWaitTime(TimeUnit.MILLISECONDS) < 40);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void lockRecordsTimeSpentWaitingForReadLock() throws Exception {
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        final CountDownLatch waiting = new CountDownLatch(1);
+        try {
+            sut.lockWrite();
+            final Future<?> reader = executor.submit(() -> {
+                waiting.countDown();
+                sut.lockRead();
+                sut.unlockRead();
+            });
+            waiting.await();
+            Thread.sleep(50);
+            sut.unlockWrite();
+            reader.get(5, TimeUnit.SECONDS);
+            assertTrue(sut.getReadWaitTime(TimeUnit.MILLISECONDS) >= 40);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
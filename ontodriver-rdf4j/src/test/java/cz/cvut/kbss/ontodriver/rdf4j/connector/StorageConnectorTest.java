@@ -188,6 +188,16 @@ class StorageConnectorTest {
         }
     }
 
+    @Test
+    void setRepositoryAcquiresRepositoryLock() throws Exception {
+        createInMemoryConnector();
+        final Repository newRepository = new SailRepository(new MemoryStore());
+        newRepository.init();
+        final long acquisitions = connector.getRepositoryLock().getAcquisitionCount();
+        connector.setRepository(newRepository);
+        assertEquals(acquisitions + 1, connector.getRepositoryLock().getAcquisitionCount());
+    }
+
     @Test
     void setRepositoryThrowsUnsupportedOperationWhenOriginalRepositoryIsNotInMemory() throws Exception {
         this.repositoryFolder = Files.createTempDirectory("rdf4j-storage-connector-test").toFile();
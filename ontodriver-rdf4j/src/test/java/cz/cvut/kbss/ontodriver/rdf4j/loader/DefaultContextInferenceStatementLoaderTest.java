@@ -118,12 +118,12 @@ class DefaultContextInferenceStatementLoaderTest {
                                    VF.createIRI(Generator.generateUri().toString()),
                                    VF.createIRI(Generator.generateUri().toString()))
         );
-        when(connector.findStatements(eq(VF.createIRI(SUBJECT)), any(), any(), eq(true), anyCollection())).thenReturn(
-                statements);
+        when(connector.streamStatements(eq(VF.createIRI(SUBJECT)), any(), any(), eq(true), anyCollection()))
+                .thenReturn(statements.stream());
 
         sut.setIncludeInferred(true);
         sut.loadAxioms(Collections.singleton(Generator.generateUri()));
         statements.forEach(s -> verify(axiomBuilder).statementToAxiom(s));
-        verify(connector).findStatements(VF.createIRI(SUBJECT), null, null, true, Collections.emptySet());
+        verify(connector).streamStatements(VF.createIRI(SUBJECT), null, null, true, Collections.emptySet());
     }
 }
@@ -36,6 +36,7 @@ import java.net.URI;
 import java.util.Collections;
 import java.util.Map;
 import java.util.Set;
+import java.util.stream.Stream;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.hasItem;
@@ -116,12 +117,12 @@ class GraphDBStatementLoaderTest {
         final Statement rdfStatement =
                 VF.createStatement(subjectIri, VF.createIRI(a.getIdentifier().toString()),
                         VF.createLiteral(Generator.randomInt()), null);
-        when(connector.findStatements(eq(subjectIri), isNull(), isNull(), eq(true), anyCollection())).thenReturn(
-                Collections.singleton(rdfStatement));
+        when(connector.streamStatements(eq(subjectIri), isNull(), isNull(), eq(true), anyCollection()))
+                .thenReturn(Stream.of(rdfStatement));
 
         sut.setIncludeInferred(true);
         sut.loadAxioms(Collections.singleton(context));
-        verify(connector).findStatements(eq(VF.createIRI(SUBJECT)), isNull(), isNull(), eq(true), captor.capture());
+        verify(connector).streamStatements(eq(VF.createIRI(SUBJECT)), isNull(), isNull(), eq(true), captor.capture());
         assertThat(captor.getValue(), hasItem(VF.createIRI(context.toString())));
         assertThat(captor.getValue(),
                 hasItem(VF.createIRI(GraphDBStatementLoader.GRAPHDB_IMPLICIT_CONTEXT.toString())));
@@ -137,12 +138,12 @@ class GraphDBStatementLoaderTest {
         final Statement rdfStatement =
                 VF.createStatement(subjectIri, VF.createIRI(a.getIdentifier().toString()),
                         VF.createLiteral(Generator.randomInt()), null);
-        when(connector.findStatements(eq(subjectIri), isNull(), isNull(), eq(false), anyCollection())).thenReturn(
-                Collections.singleton(rdfStatement));
+        when(connector.streamStatements(eq(subjectIri), isNull(), isNull(), eq(false), anyCollection()))
+                .thenReturn(Stream.of(rdfStatement));
 
         sut.setIncludeInferred(false);
         sut.loadAxioms(Collections.singleton(context));
-        verify(connector).findStatements(eq(VF.createIRI(SUBJECT)), isNull(), isNull(), eq(false), captor.capture());
+        verify(connector).streamStatements(eq(VF.createIRI(SUBJECT)), isNull(), isNull(), eq(false), captor.capture());
         assertThat(captor.getValue(), hasItem(VF.createIRI(context.toString())));
         assertThat(captor.getValue(),
                 not(hasItem(VF.createIRI(GraphDBStatementLoader.GRAPHDB_IMPLICIT_CONTEXT.toString()))));
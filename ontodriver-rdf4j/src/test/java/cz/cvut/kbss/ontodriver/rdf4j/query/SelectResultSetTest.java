@@ -17,9 +17,11 @@ package cz.cvut.kbss.ontodriver.rdf4j.query;
 import cz.cvut.kbss.ontodriver.ResultSet;
 import cz.cvut.kbss.ontodriver.Statement;
 import cz.cvut.kbss.ontodriver.exception.VariableNotBoundException;
+import cz.cvut.kbss.ontodriver.iteration.ColumnReader;
 import cz.cvut.kbss.ontodriver.rdf4j.environment.Generator;
 import org.eclipse.rdf4j.model.ValueFactory;
 import org.eclipse.rdf4j.model.impl.SimpleValueFactory;
+import org.eclipse.rdf4j.model.vocabulary.XSD;
 import org.eclipse.rdf4j.query.BindingSet;
 import org.eclipse.rdf4j.query.TupleQueryResult;
 import org.junit.jupiter.api.BeforeEach;
@@ -30,6 +32,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
 
+import java.math.BigInteger;
 import java.net.URI;
 import java.util.Arrays;
 import java.util.Collections;
@@ -37,6 +40,7 @@ import java.util.HashSet;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -152,4 +156,77 @@ public class SelectResultSetTest {
         resultSet.next();
         assertThrows(VariableNotBoundException.class, () -> resultSet.getInt(1));
     }
+
+    @Test
+    public void getIntReturnsValueOfIntLiteral() throws Exception {
+        when(bindingSetMock.getValue("x")).thenReturn(valueFactory.createLiteral(117));
+
+        resultSet.next();
+        assertEquals(117, resultSet.getInt(0));
+        assertEquals(117L, resultSet.getLong("x"));
+        assertEquals(117.0, resultSet.getDouble(0));
+    }
+
+    @Test
+    public void getDoubleReturnsValueOfDoubleLiteralIncludingInfinity() throws Exception {
+        when(bindingSetMock.getValue("x")).thenReturn(valueFactory.createLiteral(3.14));
+        when(bindingSetMock.getValue("y")).thenReturn(valueFactory.createLiteral("INF", XSD.DOUBLE));
+
+        resultSet.next();
+        assertEquals(3.14, resultSet.getDouble(0));
+        assertEquals(Double.POSITIVE_INFINITY, resultSet.getDouble("y"));
+    }
+
+    @Test
+    public void getIntReturnsValueOfIntegerLiteralUsingGenericConversion() throws Exception {
+        when(bindingSetMock.getValue("x")).thenReturn(valueFactory.createLiteral(BigInteger.valueOf(117)));
+
+        resultSet.next();
+        assertEquals(117, resultSet.getInt(0));
+    }
+
+    @Test
+    public void columnReaderReadsValuesOfColumnInConsecutiveRows() throws Exception {
+        final BindingSet secondRow = mock(BindingSet.class);
+        when(resultMock.next()).thenReturn(bindingSetMock, secondRow);
+        when(bindingSetMock.getValue("x")).thenReturn(valueFactory.createLiteral(117));
+        when(secondRow.getValue("x")).thenReturn(valueFactory.createLiteral(118));
+
+        final ColumnReader<Long> reader = resultSet.getColumnReader("x", Long.class);
+        resultSet.next();
+        assertEquals(117L, reader.read());
+        resultSet.next();
+        assertEquals(118L, reader.read());
+    }
+
+    @Test
+    public void columnReaderHandlesChangeOfValueDatatypeBetweenRows() throws Exception {
+        final BindingSet secondRow = mock(BindingSet.class);
+        when(resultMock.next()).thenReturn(bindingSetMock, secondRow);
+        when(bindingSetMock.getValue("x")).thenReturn(valueFactory.createLiteral(117));
+        final URI uri = Generator.generateUri();
+        when(secondRow.getValue("x")).thenReturn(valueFactory.createIRI(uri.toString()));
+
+        final ColumnReader<Object> reader = resultSet.getColumnReader(0, Object.class);
+        resultSet.next();
+        assertEquals(valueFactory.createLiteral(117), reader.read());
+        resultSet.next();
+        assertEquals(valueFactory.createIRI(uri.toString()), reader.read());
+    }
+
+    @Test
+    public void getObjectWithTypeReturnsSameValuesAsColumnReader() throws Exception {
+        when(bindingSetMock.getValue("x")).thenReturn(valueFactory.createLiteral(117));
+        when(bindingSetMock.getValue("y")).thenReturn(valueFactory.createLiteral("test"));
+
+        resultSet.next();
+        assertEquals(117L, resultSet.getObject(0, Long.class));
+        assertEquals("test", resultSet.getObject(1, String.class));
+        assertEquals(resultSet.getObject(0, Long.class), resultSet.getColumnReader(0, Long.class).read());
+    }
+
+    @Test
+    public void getColumnReaderThrowsIllegalArgumentExceptionForInvalidColumnIndex() {
+        assertThrows(IllegalArgumentException.class, () -> resultSet.getColumnReader(BINDINGS.size(), Long.class));
+    }
 }